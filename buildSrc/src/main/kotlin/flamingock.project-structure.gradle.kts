@@ -17,7 +17,8 @@ val coreProjects = setOf(
 
 val cloudProjects = setOf(
     "flamingock-cloud",
-    "flamingock-cloud-api"
+    "flamingock-cloud-api",
+    "flamingock-cloud-transport-jdk"
 )
 
 val communityProjects = setOf(
@@ -33,7 +34,10 @@ val communityProjects = setOf(
 
 val pluginProjects = setOf(
     "flamingock-springboot-integration",
-    "flamingock-springboot-test-support"
+    "flamingock-springboot-test-support",
+    "flamingock-reactive",
+    "flamingock-micrometer",
+    "flamingock-opentelemetry"
 )
 
 val targetSystemProjects = setOf(
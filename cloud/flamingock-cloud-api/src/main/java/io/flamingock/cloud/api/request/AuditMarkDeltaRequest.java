@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.api.request;
+
+import io.flamingock.cloud.api.vo.CloudTargetSystemAuditMarkType;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The audit marks of a conditional {@link ExecutionPlanRequest}, as the changes since the marks
+ * the server acknowledged for request {@code baseSequence} of the same runner. A mark cleared
+ * since then is sent as {@link CloudTargetSystemAuditMarkType#NONE}; marks not listed are
+ * unchanged.
+ */
+public class AuditMarkDeltaRequest {
+
+    private long baseSequence;
+
+    private Map<String, CloudTargetSystemAuditMarkType> changes;
+
+    public AuditMarkDeltaRequest() {
+    }
+
+    public AuditMarkDeltaRequest(long baseSequence, Map<String, CloudTargetSystemAuditMarkType> changes) {
+        this.baseSequence = baseSequence;
+        this.changes = changes;
+    }
+
+    public long getBaseSequence() {
+        return baseSequence;
+    }
+
+    public void setBaseSequence(long baseSequence) {
+        this.baseSequence = baseSequence;
+    }
+
+    public Map<String, CloudTargetSystemAuditMarkType> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(Map<String, CloudTargetSystemAuditMarkType> changes) {
+        this.changes = changes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AuditMarkDeltaRequest that = (AuditMarkDeltaRequest) o;
+        return baseSequence == that.baseSequence && Objects.equals(changes, that.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(baseSequence, changes);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.api.request;
+
+import io.flamingock.cloud.api.vo.CloudChangeStatus;
+
+import java.util.Objects;
+
+/**
+ * The client-reported status of one change, see {@link StageStateRequest}.
+ */
+public class ChangeStateRequest {
+
+    private String id;
+
+    private CloudChangeStatus currentStatus;
+
+    public ChangeStateRequest() {
+    }
+
+    public ChangeStateRequest(String id, CloudChangeStatus currentStatus) {
+        this.id = id;
+        this.currentStatus = currentStatus;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public CloudChangeStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(CloudChangeStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChangeStateRequest that = (ChangeStateRequest) o;
+        return Objects.equals(id, that.id) && currentStatus == that.currentStatus;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, currentStatus);
+    }
+}
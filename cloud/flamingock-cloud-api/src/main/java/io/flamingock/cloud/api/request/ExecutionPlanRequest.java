@@ -15,13 +15,48 @@
  */
 package io.flamingock.cloud.api.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+/**
+ * Sent in one of two forms. The full form carries the whole pipeline in
+ * {@code clientSubmission}, with the audit marks inline. Once the server has acknowledged a
+ * {@code pipelineHash} (echoing it in {@code ExecutionPlanResponse}), the client may send the
+ * conditional form instead, with an {@code If-None-Match} header carrying the hash: no
+ * {@code clientSubmission}, only {@code stageStates} and the {@code auditMarkDelta} relative to
+ * the last acknowledged request. A server that no longer knows the pipeline or the delta base
+ * answers {@code 412} with {@link #DESCRIPTOR_REQUIRED}, and the client repeats the request in
+ * full.
+ */
 public class ExecutionPlanRequest {
 
+    public static final String DESCRIPTOR_REQUIRED = "PIPELINE_DESCRIPTOR_REQUIRED";
+
     private ClientSubmissionRequest clientSubmission;
     private long lockAcquiredForMillis;
 
+    /**
+     * Content hash of the pipeline structure: blocks, stages and their changes, without any
+     * runtime status. Equal hashes mean the server can reuse the descriptor it already has.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String pipelineHash;
+
+    /**
+     * Increases with every request of the runner; identifies the mark set a later
+     * {@link AuditMarkDeltaRequest} is relative to.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long marksSequence;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<StageStateRequest> stageStates;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AuditMarkDeltaRequest auditMarkDelta;
+
     public ExecutionPlanRequest() {
     }
 
@@ -46,5 +81,45 @@ public class ExecutionPlanRequest {
         return clientSubmission;
     }
 
+    public String getPipelineHash() {
+        return pipelineHash;
+    }
+
+    public void setPipelineHash(String pipelineHash) {
+        this.pipelineHash = pipelineHash;
+    }
+
+    public Long getMarksSequence() {
+        return marksSequence;
+    }
+
+    public void setMarksSequence(Long marksSequence) {
+        this.marksSequence = marksSequence;
+    }
+
+    public List<StageStateRequest> getStageStates() {
+        return stageStates;
+    }
+
+    public void setStageStates(List<StageStateRequest> stageStates) {
+        this.stageStates = stageStates;
+    }
+
+    public AuditMarkDeltaRequest getAuditMarkDelta() {
+        return auditMarkDelta;
+    }
+
+    public void setAuditMarkDelta(AuditMarkDeltaRequest auditMarkDelta) {
+        this.auditMarkDelta = auditMarkDelta;
+    }
+
+    /**
+     * @return whether this is the conditional form, relying on a descriptor the server already has
+     */
+    @JsonIgnore
+    public boolean isConditional() {
+        return clientSubmission == null && pipelineHash != null;
+    }
+
 }
 
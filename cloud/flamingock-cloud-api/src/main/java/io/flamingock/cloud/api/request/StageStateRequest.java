@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.api.request;
+
+import io.flamingock.cloud.api.vo.CloudStageStatus;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The runtime state of a stage in a conditional {@link ExecutionPlanRequest}, where the stage
+ * structure is already known to the server. Only changes whose status is not
+ * {@code NOT_REACHED} are listed; any other change of the stage is {@code NOT_REACHED}.
+ */
+public class StageStateRequest {
+
+    private String name;
+
+    private CloudStageStatus status;
+
+    private List<ChangeStateRequest> changes;
+
+    public StageStateRequest() {
+    }
+
+    public StageStateRequest(String name, CloudStageStatus status, List<ChangeStateRequest> changes) {
+        this.name = name;
+        this.status = status;
+        this.changes = changes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public CloudStageStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CloudStageStatus status) {
+        this.status = status;
+    }
+
+    public List<ChangeStateRequest> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ChangeStateRequest> changes) {
+        this.changes = changes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StageStateRequest that = (StageStateRequest) o;
+        return Objects.equals(name, that.name)
+                && status == that.status
+                && Objects.equals(changes, that.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, status, changes);
+    }
+}
@@ -45,6 +45,20 @@ public class ExecutionPlanResponse {
 
     private boolean synchronizedMarks;
 
+    /**
+     * Long-poll acknowledgement. Only servers that support long polling set it, and only when the
+     * request carried {@code waitMillis}: how long the server held the request before answering.
+     * {@code null} means the server answered straight away and the client has to poll.
+     */
+    private Long heldMillis;
+
+    /**
+     * Set by servers that support conditional planner requests: the pipeline hash they now hold
+     * the descriptor for, with the request's audit marks as the base for the next delta.
+     * {@code null} means the next request must be sent in full.
+     */
+    private String pipelineHash;
+
 
     public ExecutionPlanResponse() {
     }
@@ -148,6 +162,22 @@ public class ExecutionPlanResponse {
         this.synchronizedMarks = synchronizedMarks;
     }
 
+    public Long getHeldMillis() {
+        return heldMillis;
+    }
+
+    public void setHeldMillis(Long heldMillis) {
+        this.heldMillis = heldMillis;
+    }
+
+    public String getPipelineHash() {
+        return pipelineHash;
+    }
+
+    public void setPipelineHash(String pipelineHash) {
+        this.pipelineHash = pipelineHash;
+    }
+
     public void validate() {
         if (isExecute() && executionId == null) {
             throw new RuntimeException("ExecutionPlan must contain a valid executionId");
@@ -0,0 +1,36 @@
+val jmhVersion = "1.37"
+
+// JMH benchmarks live in src/jmh/java; run them with ./gradlew :cloud:flamingock-cloud-transport-jdk:jmh [-PjmhIncludes=<regex>]
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets["main"].output + sourceSets["main"].compileClasspath
+        runtimeClasspath += sourceSets["main"].output + sourceSets["main"].runtimeClasspath
+    }
+}
+
+dependencies {
+    api(project(":cloud:flamingock-cloud"))
+    implementation(project(":core:flamingock-core"))
+
+    testImplementation(project(":utils:test-util"))
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhImplementation"(project(":utils:test-util"))
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+description = "HTTP/2 cloud transport on the JDK 11+ java.net.http client"
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks of this module"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(project.findProperty("jmhIncludes")?.toString() ?: ".*")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(11))
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport.jdk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.flamingock.cloud.api.request.ExecutionPlanRequest;
+import io.flamingock.cloud.auth.AuthManager;
+import io.flamingock.cloud.auth.HttpAuthClient;
+import io.flamingock.cloud.planner.client.HttpExecutionPlannerClient;
+import io.flamingock.cloud.transport.ApacheCloudTransport;
+import io.flamingock.cloud.transport.CloudEndpoint;
+import io.flamingock.cloud.transport.CloudRequest;
+import io.flamingock.cloud.transport.CloudTransport;
+import io.flamingock.cloud.transport.CloudTransportSettings;
+import io.flamingock.common.test.cloud.AuditRequestExpectation;
+import io.flamingock.common.test.cloud.MockRunnerServer;
+import io.flamingock.common.test.cloud.execution.ExecutionContinueRequestResponseMock;
+import io.flamingock.common.test.cloud.mock.MockExecutionPlanBuilder;
+import io.flamingock.common.test.cloud.prototype.PrototypeChange;
+import io.flamingock.common.test.cloud.prototype.PrototypeClientSubmission;
+import io.flamingock.common.test.cloud.prototype.PrototypeStage;
+import io.flamingock.common.test.cloud.utils.JsonMapper;
+import io.flamingock.internal.util.id.EnvironmentId;
+import io.flamingock.internal.util.id.RunnerId;
+import io.flamingock.internal.util.id.ServiceId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+import static io.flamingock.cloud.api.vo.CloudAuditStatus.APPLIED;
+
+/**
+ * Planner rounds and audit writes through each transport against {@link MockRunnerServer}, with
+ * {@code rttMillis} of simulated round-trip added to every response. The concurrent variant shows
+ * how the transports cope with several writers sharing the pool (or the HTTP/2 connection).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CloudTransportBenchmark {
+
+    private static final long EXECUTION_ID = 1L;
+    private static final String CHANGE_ID = "change-1";
+    private static final String RUNNER_ID = "default-runner-name";
+    private static final long SERVICE_ID = 3L;
+    private static final long ENVIRONMENT_ID = 4L;
+
+    @Param({"apache", "jdk"})
+    String transportType;
+
+    @Param({"0", "20"})
+    int rttMillis;
+
+    private MockRunnerServer server;
+    private CloudTransport transport;
+    private HttpExecutionPlannerClient plannerClient;
+    private ExecutionPlanRequest planRequest;
+    private String auditPath;
+    private JsonNode auditBody;
+    private String jwt;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        PrototypeClientSubmission submission = new PrototypeClientSubmission(
+                new PrototypeStage("stage-1", 0).addChange(CHANGE_ID, "io.flamingock.Change1", "apply", false));
+        ExecutionContinueRequestResponseMock continueRound = new ExecutionContinueRequestResponseMock();
+        server = new MockRunnerServer()
+                .setServerPort(port)
+                .setServiceId(SERVICE_ID)
+                .setEnvironmentId(ENVIRONMENT_ID)
+                .setRunnerId(RUNNER_ID)
+                .setSimulatedRttMillis(rttMillis)
+                .withClientSubmissionBase(submission)
+                .withExecutionPlanRequestsExpectation(continueRound)
+                .withAuditRequestsExpectation(new AuditRequestExpectation(EXECUTION_ID, CHANGE_ID, APPLIED));
+        server.start();
+
+        String host = "http://localhost:" + port;
+        transport = "jdk".equals(transportType)
+                ? new JdkHttpCloudTransport(host, new CloudTransportSettings())
+                : new ApacheCloudTransport(host, new CloudTransportSettings());
+
+        AuthManager authManager = new AuthManager(
+                "default-api-token", "default-service-name", "default-environment-name",
+                new HttpAuthClient("v1", transport));
+        authManager.authenticate();
+        jwt = authManager.getJwtToken();
+
+        plannerClient = new HttpExecutionPlannerClient(
+                EnvironmentId.fromLong(ENVIRONMENT_ID),
+                ServiceId.fromLong(SERVICE_ID),
+                RunnerId.fromString(RUNNER_ID),
+                "v1",
+                transport,
+                authManager);
+        planRequest = new MockExecutionPlanBuilder(RUNNER_ID, String.valueOf(SERVICE_ID), submission)
+                .getRequest(continueRound);
+
+        auditPath = String.format("/api/v1/environment/%d/service/%d/execution/%d/change/%s/audit",
+                ENVIRONMENT_ID, SERVICE_ID, EXECUTION_ID, CHANGE_ID);
+        PrototypeChange change = submission.getStages().get(0).getChanges().get(0);
+        // the very JSON the stub matches on, whatever the production mapper would add
+        auditBody = JsonMapper.INSTANCE.readTree(JsonMapper.toJson(change.toAuditExpectation(APPLIED)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        transport.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public Object plannerRound() {
+        return plannerClient.createExecution(planRequest, null, 0L);
+    }
+
+    @Benchmark
+    public void auditWrite() {
+        writeAudit();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void auditWriteConcurrent() {
+        writeAudit();
+    }
+
+    private void writeAudit() {
+        transport.execute(CloudRequest.post(CloudEndpoint.AUDIT_WRITE, auditPath)
+                .runnerId(RunnerId.fromString(RUNNER_ID))
+                .bearerToken(jwt)
+                .body(auditBody));
+    }
+}
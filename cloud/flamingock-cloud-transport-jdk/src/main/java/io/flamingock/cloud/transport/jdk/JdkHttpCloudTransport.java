@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport.jdk;
+
+import io.flamingock.cloud.transport.AbstractCloudTransport;
+import io.flamingock.cloud.transport.CloudTransportSettings;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * {@link io.flamingock.cloud.transport.CloudTransport} on the JDK 11+ {@link HttpClient}.
+ * <p>
+ * HTTP/2 is negotiated with the server (ALPN over TLS, h2c upgrade otherwise) and falls back to
+ * HTTP/1.1, so planner rounds, lock extensions and audit writes are multiplexed on one pooled
+ * connection instead of opening one per request. The per-endpoint timeout bounds the whole
+ * exchange, until the response headers are received.
+ */
+public class JdkHttpCloudTransport extends AbstractCloudTransport {
+
+    private final HttpClient httpClient;
+
+    public JdkHttpCloudTransport(String host, CloudTransportSettings settings) {
+        this(host, settings, HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(settings.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build());
+    }
+
+    JdkHttpCloudTransport(String host, CloudTransportSettings settings, HttpClient httpClient) {
+        super(host, settings);
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    protected Response send(Exchange exchange) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(exchange.uri))
+                .timeout(exchange.timeout)
+                .method(exchange.method, exchange.body != null
+                        ? HttpRequest.BodyPublishers.ofByteArray(exchange.body)
+                        : HttpRequest.BodyPublishers.noBody());
+        exchange.headers.forEach(builder::header);
+        try {
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            return new Response(
+                    response.statusCode(),
+                    response.headers().firstValue(CONTENT_ENCODING).orElse(null),
+                    response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted waiting for " + exchange.uri);
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+    }
+
+    @Override
+    public void close() {
+        // the JDK 11 client has no close(): its connections are released once it is unreachable
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport.jdk;
+
+import io.flamingock.cloud.transport.CloudTransport;
+import io.flamingock.cloud.transport.CloudTransportProvider;
+import io.flamingock.cloud.transport.CloudTransportSettings;
+
+/**
+ * Registers {@link JdkHttpCloudTransport} ahead of the built-in Apache transport as soon as this
+ * module is on the classpath.
+ */
+public class JdkHttpCloudTransportProvider implements CloudTransportProvider {
+
+    static final int PRIORITY = 100;
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
+
+    @Override
+    public CloudTransport create(String host, CloudTransportSettings settings) {
+        return new JdkHttpCloudTransport(host, settings);
+    }
+}
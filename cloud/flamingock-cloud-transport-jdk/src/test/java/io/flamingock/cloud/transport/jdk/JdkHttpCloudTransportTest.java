@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport.jdk;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.flamingock.cloud.transport.CloudEndpoint;
+import io.flamingock.cloud.transport.CloudRequest;
+import io.flamingock.cloud.transport.CloudTransport;
+import io.flamingock.cloud.transport.CloudTransportSettings;
+import io.flamingock.cloud.transport.CloudTransports;
+import io.flamingock.internal.util.ServerException;
+import io.flamingock.internal.util.id.RunnerId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JdkHttpCloudTransportTest {
+
+    private static final String BIG_VALUE = String.join("", Collections.nCopies(200, "flamingock "));
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private String host;
+
+    private final AtomicReference<String> requestEncoding = new AtomicReference<>();
+    private final AtomicReference<String> requestBody = new AtomicReference<>();
+    private final AtomicReference<String> runnerHeader = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/echo", this::echo);
+        server.createContext("/error", exchange ->
+                respond(exchange, 409, "{\"code\":\"R_LOCK_01\",\"message\":\"Lock is acquired by other process\","
+                        + "\"recoverable\":true,\"details\":[]}", false));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}", false);
+        });
+        server.createContext("/empty", exchange -> {
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+        });
+        server.start();
+        host = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should gzip large request bodies and decode gzipped responses")
+    @SuppressWarnings("unchecked")
+    void shouldGzipLargeBodiesBothWays() {
+        CloudTransport transport = new JdkHttpCloudTransport(host, new CloudTransportSettings()
+                .setCompressRequests(true)
+                .setCompressionThresholdBytes(512));
+
+        Map<String, Object> response = transport.execute(CloudRequest
+                .post(CloudEndpoint.AUDIT_WRITE, "/echo")
+                .runnerId(RunnerId.fromString("runner-A"))
+                .body(Collections.singletonMap("value", BIG_VALUE)), Map.class);
+
+        assertEquals("gzip", requestEncoding.get());
+        assertEquals("{\"value\":\"" + BIG_VALUE + "\"}", requestBody.get());
+        assertEquals("runner-A", runnerHeader.get());
+        assertEquals(BIG_VALUE, response.get("value"));
+    }
+
+    @Test
+    @DisplayName("Should send bodies under the threshold, or with compression off, as they are")
+    void shouldNotGzipSmallBodies() {
+        CloudTransport transport = new JdkHttpCloudTransport(host, new CloudTransportSettings()
+                .setCompressRequests(true)
+                .setCompressionThresholdBytes(512));
+
+        transport.execute(CloudRequest.post(CloudEndpoint.AUDIT_WRITE, "/echo")
+                .body(Collections.singletonMap("value", "small")));
+        assertNull(requestEncoding.get());
+
+        new JdkHttpCloudTransport(host, new CloudTransportSettings())
+                .execute(CloudRequest.post(CloudEndpoint.AUDIT_WRITE, "/echo")
+                        .body(Collections.singletonMap("value", BIG_VALUE)));
+        assertNull(requestEncoding.get());
+    }
+
+    @Test
+    @DisplayName("Should map error responses to ServerException with the server error")
+    void shouldMapErrorResponses() {
+        CloudTransport transport = new JdkHttpCloudTransport(host, new CloudTransportSettings());
+
+        ServerException ex = assertThrows(ServerException.class, () -> transport.execute(
+                CloudRequest.post(CloudEndpoint.LOCK_EXTEND, "/error").body(Collections.emptyMap()), Map.class));
+
+        assertEquals("R_LOCK_01", ex.getError().getCode());
+        assertEquals("POST " + host + "/error", ex.getRequestString());
+    }
+
+    @Test
+    @DisplayName("Should return null when the response has no body")
+    void shouldReturnNullOnEmptyResponse() {
+        CloudTransport transport = new JdkHttpCloudTransport(host, new CloudTransportSettings());
+
+        assertNull(transport.execute(CloudRequest.post(CloudEndpoint.AUDIT_WRITE, "/empty")
+                .body(Collections.emptyMap()), Map.class));
+    }
+
+    @Test
+    @DisplayName("Should apply the endpoint timeout and record the latency of every request")
+    void shouldApplyEndpointTimeoutAndRecordLatency() {
+        CloudTransport transport = new JdkHttpCloudTransport(host, new CloudTransportSettings()
+                .setEndpointTimeout(CloudEndpoint.LOCK_INFO, Duration.ofMillis(200)));
+
+        UncheckedIOException ex = assertThrows(UncheckedIOException.class,
+                () -> transport.execute(CloudRequest.get(CloudEndpoint.LOCK_INFO, "/slow"), Map.class));
+        assertInstanceOf(HttpTimeoutException.class, ex.getCause());
+
+        transport.execute(CloudRequest.post(CloudEndpoint.AUDIT_WRITE, "/echo").body(Collections.emptyMap()));
+        transport.execute(CloudRequest.post(CloudEndpoint.AUDIT_WRITE, "/echo").body(Collections.emptyMap()));
+
+        assertEquals(1, transport.getMetrics().getLatency(CloudEndpoint.LOCK_INFO).getCount());
+        assertEquals(2, transport.getMetrics().getLatency(CloudEndpoint.AUDIT_WRITE).getCount());
+        assertEquals(0, transport.getMetrics().getLatency(CloudEndpoint.AUTH).getCount());
+    }
+
+    @Test
+    @DisplayName("Should be picked over the default transport when on the classpath")
+    void shouldBeDiscoveredThroughServiceLoader() {
+        assertInstanceOf(JdkHttpCloudTransport.class, CloudTransports.create(host, new CloudTransportSettings()));
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        requestEncoding.set(encoding);
+        runnerHeader.set(exchange.getRequestHeaders().getFirst("flamingock-runner-id"));
+        InputStream in = "gzip".equals(encoding)
+                ? new GZIPInputStream(exchange.getRequestBody())
+                : exchange.getRequestBody();
+        String body = new String(readAll(in), StandardCharsets.UTF_8);
+        requestBody.set(body);
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        respond(exchange, 200, body, acceptEncoding != null && acceptEncoding.contains("gzip"));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body, boolean gzip) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (gzip) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                gzipOut.write(bytes);
+            }
+            bytes = out.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
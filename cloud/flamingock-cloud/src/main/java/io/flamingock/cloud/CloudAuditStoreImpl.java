@@ -17,10 +17,8 @@ package io.flamingock.cloud;
 
 import io.flamingock.internal.common.core.audit.AuditWriter;
 import io.flamingock.internal.util.Constants;
-import io.flamingock.internal.util.JsonObjectMapper;
 import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.internal.util.TimeService;
-import io.flamingock.internal.util.http.Http;
 import io.flamingock.internal.util.id.EnvironmentId;
 import io.flamingock.internal.util.id.ServiceId;
 import io.flamingock.internal.core.configuration.cloud.CloudConfigurable;
@@ -29,29 +27,45 @@ import io.flamingock.internal.core.external.store.CloudAuditStore;
 import io.flamingock.cloud.api.response.TokenExchangeResponse;
 import io.flamingock.cloud.audit.HtttpAuditWriter;
 import io.flamingock.cloud.auth.AuthManager;
+import io.flamingock.cloud.auth.EncryptedFileTokenCache;
 import io.flamingock.cloud.auth.HttpAuthClient;
+import io.flamingock.cloud.auth.TokenCache;
 import io.flamingock.cloud.lock.CloudLockService;
 import io.flamingock.cloud.lock.client.HttpLockServiceClient;
 import io.flamingock.cloud.lock.client.LockServiceClient;
 import io.flamingock.cloud.planner.CloudExecutionPlanner;
 import io.flamingock.cloud.planner.client.ExecutionPlannerClient;
 import io.flamingock.cloud.planner.client.HttpExecutionPlannerClient;
+import io.flamingock.cloud.transport.CloudTransport;
+import io.flamingock.cloud.transport.CloudTransportSettings;
+import io.flamingock.cloud.transport.CloudTransports;
+import io.flamingock.cloud.transport.TracingCloudTransport;
 import io.flamingock.internal.core.external.targets.TransactionalTargetSystem;
 import io.flamingock.internal.core.external.targets.TargetSystemManager;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
 import io.flamingock.internal.core.plan.ExecutionPlanner;
+import io.flamingock.internal.core.tracing.Tracing;
 import io.flamingock.internal.common.core.context.ContextResolver;
-import org.apache.http.impl.client.HttpClients;
 import org.jetbrains.annotations.NotNull;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
 import org.slf4j.Logger;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class CloudAuditStoreImpl implements CloudAuditStore {
     private static final Logger logger = FlamingockLoggerFactory.getLogger("CloudAuditStore");
+
+    static final String TOKEN_CACHE_ENABLED_PROPERTY = "flamingock.cloud.auth.token-cache.enabled";
+    static final String TOKEN_CACHE_DIR_PROPERTY = "flamingock.cloud.auth.token-cache.dir";
+    static final String PLANNER_LONG_POLL_PROPERTY = "flamingock.cloud.planner.long-poll-millis";
+    /**
+     * Below the default execution-plan request timeout, which is extended by the hold anyway
+     */
+    static final long DEFAULT_PLANNER_LONG_POLL_MILLIS = 20_000L;
+
     private CloudAuditPersistenceImpl persistence;
 
     @Override
@@ -72,15 +86,29 @@ public class CloudAuditStoreImpl implements CloudAuditStore {
                 .map(TransactionalTargetSystem::getAuditMarker)
                 .collect(Collectors.toList());
 
-        Http.RequestBuilderFactory requestBuilderFactory =
-                Http.builderFactory(HttpClients.createDefault(), JsonObjectMapper.DEFAULT_INSTANCE);
+        // a transport registered as dependency wins; otherwise the best one on the classpath
+        CloudTransport transport = baseContext.getDependencyValue(CloudTransport.class)
+                .orElseGet(() -> CloudTransports.create(
+                        cloudConfiguration.getHost(),
+                        CloudTransportSettings.fromProperties(baseContext)));
+        Tracing tracing = baseContext.getDependencyValue(Tracing.class).orElse(Tracing.NO_OP);
+        if (tracing.isEnabled()) {
+            transport = new TracingCloudTransport(transport, tracing);
+        }
+
+        TokenCache tokenCache = getTokenCache(baseContext, cloudConfiguration);
+        long plannerLongPollMillis = baseContext.getProperty(PLANNER_LONG_POLL_PROPERTY)
+                .map(value -> Long.parseLong(value.trim()))
+                .orElse(DEFAULT_PLANNER_LONG_POLL_MILLIS);
 
         synchronized (this) {
             this.persistence = buildPersistence(
                     runnerId,
                     coreConfiguration,
                     cloudConfiguration,
-                    requestBuilderFactory,
+                    transport,
+                    tokenCache,
+                    plannerLongPollMillis,
                     auditMarkers
             );
         }
@@ -95,25 +123,27 @@ public class CloudAuditStoreImpl implements CloudAuditStore {
     private CloudAuditPersistenceImpl buildPersistence(RunnerId runnerId,
                                                        CoreConfigurable coreConfiguration,
                                                        CloudConfigurable cloudConfiguration,
-                                                       Http.RequestBuilderFactory requestBuilderFactory,
+                                                       CloudTransport transport,
+                                                       TokenCache tokenCache,
+                                                       long plannerLongPollMillis,
                                                        List<TargetSystemAuditMarker> auditMarkers) {
         AuthManager authManager = new AuthManager(
                 cloudConfiguration.getApiToken(),
                 cloudConfiguration.getServiceName(),
                 cloudConfiguration.getEnvironmentName(),
-                getAuthClient(cloudConfiguration, requestBuilderFactory));
+                getAuthClient(cloudConfiguration, transport),
+                tokenCache);
         TokenExchangeResponse authResponse = authManager.authenticate();
 
         EnvironmentId environmentId = EnvironmentId.fromLong(authResponse.getEnvironmentId());
         ServiceId serviceId = ServiceId.fromLong(authResponse.getServiceId());
 
         AuditWriter auditWriter = new HtttpAuditWriter(
-                cloudConfiguration.getHost(),
                 environmentId,
                 serviceId,
                 runnerId,
                 cloudConfiguration.getApiVersion(),
-                requestBuilderFactory,
+                transport,
                 authManager
         );
 
@@ -121,10 +151,11 @@ public class CloudAuditStoreImpl implements CloudAuditStore {
                 runnerId,
                 coreConfiguration,
                 cloudConfiguration,
-                requestBuilderFactory,
+                transport,
                 authManager,
                 environmentId,
                 serviceId,
+                plannerLongPollMillis,
                 auditMarkers);
 
         return new CloudAuditPersistenceImpl(
@@ -133,42 +164,60 @@ public class CloudAuditStoreImpl implements CloudAuditStore {
                 authResponse.getJwt(),
                 auditWriter,
                 executionPlanner,
-                getCloser(requestBuilderFactory)
+                getCloser(transport, authManager)
         );
     }
 
+    /**
+     * A {@link TokenCache} registered as dependency wins; otherwise the encrypted file cache is
+     * used when {@value #TOKEN_CACHE_ENABLED_PROPERTY} is set.
+     */
+    private static TokenCache getTokenCache(ContextResolver baseContext, CloudConfigurable cloudConfiguration) {
+        return baseContext.getDependencyValue(TokenCache.class).orElseGet(() -> {
+            boolean enabled = baseContext.getProperty(TOKEN_CACHE_ENABLED_PROPERTY)
+                    .map(value -> Boolean.parseBoolean(value.trim()))
+                    .orElse(false);
+            if (!enabled) {
+                return null;
+            }
+            return new EncryptedFileTokenCache(
+                    baseContext.getProperty(TOKEN_CACHE_DIR_PROPERTY)
+                            .map(dir -> Paths.get(dir.trim()))
+                            .orElse(EncryptedFileTokenCache.DEFAULT_DIRECTORY),
+                    cloudConfiguration.getApiToken());
+        });
+    }
+
     @NotNull
     private HttpAuthClient getAuthClient(CloudConfigurable cloudConfiguration,
-                                         Http.RequestBuilderFactory requestBuilderFactory) {
+                                         CloudTransport transport) {
         return new HttpAuthClient(
-                cloudConfiguration.getHost(),
                 cloudConfiguration.getApiVersion(),
-                requestBuilderFactory);
+                transport);
     }
 
     @NotNull
     private ExecutionPlanner getExecutionPlanner(RunnerId runnerId,
                                                  CoreConfigurable coreConfiguration,
                                                  CloudConfigurable cloudConfiguration,
-                                                 Http.RequestBuilderFactory requestBuilderFactory,
+                                                 CloudTransport transport,
                                                  AuthManager authManager,
                                                  EnvironmentId environmentId,
                                                  ServiceId serviceId,
+                                                 long plannerLongPollMillis,
                                                  List<TargetSystemAuditMarker> auditMarkers) {
         LockServiceClient lockClient = new HttpLockServiceClient(
-                cloudConfiguration.getHost(),
                 cloudConfiguration.getApiVersion(),
-                requestBuilderFactory,
+                transport,
                 authManager
         );
 
         ExecutionPlannerClient executionPlannerClient = new HttpExecutionPlannerClient(
-                cloudConfiguration.getHost(),
                 environmentId,
                 serviceId,
                 runnerId,
                 cloudConfiguration.getApiVersion(),
-                requestBuilderFactory,
+                transport,
                 authManager
         );
 
@@ -178,18 +227,21 @@ public class CloudAuditStoreImpl implements CloudAuditStore {
                 coreConfiguration,
                 new CloudLockService(lockClient, runnerId),
                 auditMarkers,
-                TimeService.getDefault()
+                TimeService.getDefault(),
+                plannerLongPollMillis
         );
     }
 
     @NotNull
-    private Runnable getCloser(Http.RequestBuilderFactory requestBuilderFactory) {
+    private Runnable getCloser(CloudTransport transport, AuthManager authManager) {
         return () -> {
-            if (requestBuilderFactory != null) {
+            authManager.close();
+            if (transport != null) {
+                logger.debug("Cloud request latencies: {}", transport.getMetrics().getLatencies());
                 try {
-                    requestBuilderFactory.close();
+                    transport.close();
                 } catch (IOException ex) {
-                    logger.warn("Error closing request builder factory", ex);
+                    logger.warn("Error closing cloud transport", ex);
                 }
             }
         };
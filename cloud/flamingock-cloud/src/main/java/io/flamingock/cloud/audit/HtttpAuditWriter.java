@@ -20,12 +20,14 @@ import io.flamingock.cloud.api.request.AuditEntryRequest;
 import io.flamingock.cloud.auth.AuthManager;
 import io.flamingock.cloud.api.vo.CloudRecoveryStrategy;
 import io.flamingock.cloud.api.vo.CloudTxStrategy;
+import io.flamingock.cloud.transport.CloudEndpoint;
+import io.flamingock.cloud.transport.CloudRequest;
+import io.flamingock.cloud.transport.CloudTransport;
 import io.flamingock.internal.util.id.EnvironmentId;
 import io.flamingock.internal.util.id.ServiceId;
 import io.flamingock.internal.common.core.audit.AuditEntry;
 import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.internal.util.Result;
-import io.flamingock.internal.util.http.Http;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
 import org.slf4j.Logger;
 
@@ -37,7 +39,7 @@ public class HtttpAuditWriter implements CloudAuditWriter {
     private static final Logger logger = FlamingockLoggerFactory.getLogger("CloudAudit");
 
 
-    private final Http.RequestBuilder requestBuilder;
+    private final CloudTransport transport;
 
     private final String pathTemplate;
 
@@ -46,12 +48,11 @@ public class HtttpAuditWriter implements CloudAuditWriter {
 
     private final AuthManager authManager;
 
-    public HtttpAuditWriter(String host,
-                            EnvironmentId environmentId,
+    public HtttpAuditWriter(EnvironmentId environmentId,
                             ServiceId serviceId,
                             RunnerId runnerId,
                             String apiVersion,
-                            Http.RequestBuilderFactory requestBuilderFactory,
+                            CloudTransport transport,
                             AuthManager authManager) {
         this.runnerId = runnerId;
 
@@ -60,7 +61,7 @@ public class HtttpAuditWriter implements CloudAuditWriter {
                 apiVersion,
                 environmentId.toString(),
                 serviceId.toString());
-        this.requestBuilder = requestBuilderFactory.getRequestBuilder(host);
+        this.transport = transport;
         this.authManager = authManager;
     }
 
@@ -69,14 +70,13 @@ public class HtttpAuditWriter implements CloudAuditWriter {
         AuditEntryRequest auditEntryRequest = buildRequest(auditEntry);
         try {
 
-            requestBuilder
-                    .POST(pathTemplate)
-                    .withRunnerId(runnerId)
-                    .withBearerToken(authManager.getJwtToken())
-                    .addPathParameter("executionId", auditEntry.getExecutionId())
-                    .addPathParameter("changeId", auditEntry.getChangeId())
-                    .setBody(auditEntryRequest)
-                    .execute();
+            transport.execute(CloudRequest
+                    .post(CloudEndpoint.AUDIT_WRITE, pathTemplate)
+                    .runnerId(runnerId)
+                    .bearerToken(authManager)
+                    .pathParameter("executionId", auditEntry.getExecutionId())
+                    .pathParameter("changeId", auditEntry.getChangeId())
+                    .body(auditEntryRequest));
             return Result.OK();
         } catch (Throwable throwable) {
             logger.debug("Error writing audit [{}]  :\n{}", auditEntry.getChangeId(), throwable.toString());
@@ -17,33 +17,235 @@ package io.flamingock.cloud.auth;
 
 import io.flamingock.cloud.api.request.TokenExchangeRequest;
 import io.flamingock.cloud.api.response.TokenExchangeResponse;
+import io.flamingock.cloud.transport.BearerTokenProvider;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
 
-public class AuthManager {
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the JWT the runner presents to the server.
+ * <p>
+ * When the token carries an {@code exp} claim, a replacement is exchanged in the background once
+ * {@value #REFRESH_RATIO_PERCENT}% of its lifetime has passed, so requests never wait for a token
+ * exchange. A token the server rejects anyway is replaced on demand through
+ * {@link #refreshJwtToken(String)}. With a {@link TokenCache}, a token still inside its refresh
+ * window is reused across processes.
+ */
+public class AuthManager implements BearerTokenProvider, Closeable {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("Auth");
+
+    static final int REFRESH_RATIO_PERCENT = 80;
+
+    private static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(1);
 
     private final AuthClient authClient;
 
     private final TokenExchangeRequest tokenRequest;
 
-    private String jwtToken;
+    private final TokenCache tokenCache;
+
+    private final Clock clock;
+
+    private volatile Token token;
+
+    private ScheduledExecutorService scheduler;
+
+    private ScheduledFuture<?> scheduledRefresh;
+
+    private boolean closed;
 
     public AuthManager(String apiToken,
                        String serviceName,
                        String environmentName,
                        AuthClient authClient) {
+        this(apiToken, serviceName, environmentName, authClient, null);
+    }
+
+    public AuthManager(String apiToken,
+                       String serviceName,
+                       String environmentName,
+                       AuthClient authClient,
+                       TokenCache tokenCache) {
+        this(apiToken, serviceName, environmentName, authClient, tokenCache, Clock.systemUTC());
+    }
+
+    AuthManager(String apiToken,
+                String serviceName,
+                String environmentName,
+                AuthClient authClient,
+                TokenCache tokenCache,
+                Clock clock) {
         this.authClient = authClient;
         this.tokenRequest = new TokenExchangeRequest(
                 apiToken,
                 serviceName,
                 environmentName);
+        this.tokenCache = tokenCache;
+        this.clock = clock;
     }
 
-    public TokenExchangeResponse authenticate() {
-        TokenExchangeResponse token = authClient.getToken(tokenRequest);
-        jwtToken = token.getJwt();
-        return token;
+    public synchronized TokenExchangeResponse authenticate() {
+        Optional<Token> cached = loadFromCache();
+        Token current = cached.isPresent() ? cached.get() : exchange();
+        if (cached.isPresent()) {
+            logger.debug("Reusing cached token, valid until {}", current.expiresAt);
+        }
+        install(current);
+        return current.response;
     }
 
+    @Override
     public String getJwtToken() {
-        return jwtToken;
+        Token current = token;
+        return current != null ? current.jwt : null;
+    }
+
+    /**
+     * Called when the server rejects {@code rejectedToken}. If it has already been replaced the
+     * current token is returned, so concurrent requests failing with the same token trigger a
+     * single exchange.
+     */
+    @Override
+    public synchronized String refreshJwtToken(String rejectedToken) {
+        Token current = token;
+        if (current != null && !current.jwt.equals(rejectedToken)) {
+            return current.jwt;
+        }
+        logger.debug("Token rejected by server, exchanging a new one");
+        install(exchange());
+        return token.jwt;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private Optional<Token> loadFromCache() {
+        if (tokenCache == null) {
+            return Optional.empty();
+        }
+        return tokenCache.load(tokenRequest.getServiceName(), tokenRequest.getEnvironmentName())
+                .flatMap(entry -> Token.of(entry.getResponse(), entry.getObtainedAt()))
+                // obtainedAt was recorded with the local clock, so refreshAt compares with it regardless of skew
+                .filter(cached -> cached.expiresAt != null && clock.instant().isBefore(cached.refreshAt));
+    }
+
+    private Token exchange() {
+        Instant obtainedAt = clock.instant();
+        TokenExchangeResponse response = authClient.getToken(tokenRequest);
+        Token exchanged = Token.of(response, obtainedAt)
+                .orElseThrow(() -> new IllegalStateException("Token exchange returned no token"));
+        if (tokenCache != null && exchanged.expiresAt != null) {
+            tokenCache.store(tokenRequest.getServiceName(), tokenRequest.getEnvironmentName(),
+                    new TokenCache.Entry(response, obtainedAt));
+        }
+        return exchanged;
+    }
+
+    private void install(Token newToken) {
+        token = newToken;
+        if (newToken.refreshAt != null) {
+            scheduleRefresh(Duration.between(clock.instant(), newToken.refreshAt));
+        }
+    }
+
+    private synchronized void scheduleRefresh(Duration delay) {
+        if (closed) {
+            return;
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "flamingock-auth-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        scheduledRefresh = scheduler.schedule(this::refreshInBackground, Math.max(0L, delay.toMillis()), TimeUnit.MILLISECONDS);
+    }
+
+    private void refreshInBackground() {
+        Token expiring = token;
+        try {
+            synchronized (this) {
+                if (closed || token != expiring) {
+                    return;
+                }
+                install(exchange());
+            }
+            logger.debug("Token refreshed, valid until {}", token.expiresAt);
+        } catch (RuntimeException e) {
+            Duration remaining = Duration.between(clock.instant(), expiring.expiresAt);
+            if (remaining.isNegative() || remaining.isZero()) {
+                logger.warn("Token refresh failed and the current token has expired; the next request will retry: {}", e.getMessage());
+                return;
+            }
+            Duration retryIn = remaining.dividedBy(4);
+            if (retryIn.compareTo(MIN_RETRY_DELAY) < 0) {
+                retryIn = MIN_RETRY_DELAY;
+            }
+            logger.warn("Token refresh failed, retrying in {} ms: {}", retryIn.toMillis(), e.getMessage());
+            scheduleRefresh(retryIn);
+        }
+    }
+
+    private static final class Token {
+        private final TokenExchangeResponse response;
+        private final String jwt;
+        private final Instant expiresAt;
+        private final Instant refreshAt;
+
+        private Token(TokenExchangeResponse response, Instant expiresAt, Instant refreshAt) {
+            this.response = response;
+            this.jwt = response.getJwt();
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        /**
+         * The lifetime is {@code exp - iat} when the token carries {@code iat}, otherwise measured
+         * from the moment it was obtained. Expiry and refresh are then placed on the local clock,
+         * counting from {@code obtainedAt}, so a skewed server clock doesn't shift them. Tokens
+         * without {@code exp} are never refreshed proactively.
+         */
+        static Optional<Token> of(TokenExchangeResponse response, Instant obtainedAt) {
+            if (response == null || response.getJwt() == null) {
+                return Optional.empty();
+            }
+            Optional<JwtClaims> claims = JwtClaims.parse(response.getJwt());
+            if (!claims.isPresent()) {
+                return Optional.of(new Token(response, null, null));
+            }
+            Instant serverExpiresAt = claims.get().getExpiresAt();
+            Instant issuedAt = claims.get().getIssuedAt().orElse(obtainedAt);
+            Duration lifetime = Duration.between(issuedAt, serverExpiresAt);
+            if (lifetime.isNegative()) {
+                lifetime = Duration.ZERO;
+            }
+            Instant expiresAt = obtainedAt.plus(lifetime);
+            Instant refreshAt = obtainedAt.plus(lifetime.multipliedBy(REFRESH_RATIO_PERCENT).dividedBy(100));
+            // a very short lifetime must not turn into back-to-back exchanges
+            Instant earliest = obtainedAt.plus(MIN_RETRY_DELAY);
+            if (refreshAt.isBefore(earliest) && expiresAt.isAfter(earliest)) {
+                refreshAt = earliest;
+            }
+            return Optional.of(new Token(response, expiresAt, refreshAt));
+        }
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.flamingock.cloud.api.response.TokenExchangeResponse;
+import io.flamingock.internal.util.JsonObjectMapper;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@link TokenCache} writing one AES-GCM encrypted file per service and environment.
+ * <p>
+ * The key is derived from the API token, so a cached token can only be read back by a process
+ * holding the same credentials, and rotating the API token invalidates the cache. The service and
+ * environment are bound to each file as associated data, so a file renamed or copied onto another
+ * entry fails to decrypt. Files and directory are owner-only where the file system supports POSIX
+ * permissions.
+ */
+public class EncryptedFileTokenCache implements TokenCache {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("TokenCache");
+
+    public static final Path DEFAULT_DIRECTORY = Paths.get(System.getProperty("user.home"), ".flamingock", "tokens");
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final Path directory;
+    private final SecretKeySpec key;
+    private final SecureRandom random = new SecureRandom();
+    private final ObjectMapper objectMapper = JsonObjectMapper.DEFAULT_INSTANCE;
+
+    public EncryptedFileTokenCache(Path directory, String apiToken) {
+        this.directory = directory;
+        this.key = new SecretKeySpec(sha256(("flamingock-token-cache:" + apiToken).getBytes(StandardCharsets.UTF_8)), "AES");
+    }
+
+    @Override
+    public Optional<Entry> load(String serviceName, String environmentName) {
+        String cacheKey = cacheKey(serviceName, environmentName);
+        Path file = fileFor(cacheKey);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (content.remaining() <= 1 + IV_LENGTH || content.get() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            byte[] iv = new byte[IV_LENGTH];
+            content.get(iv);
+            byte[] encrypted = new byte[content.remaining()];
+            content.get(encrypted);
+
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(cacheKey.getBytes(StandardCharsets.UTF_8));
+            JsonNode node = objectMapper.readTree(cipher.doFinal(encrypted));
+            return Optional.of(new Entry(
+                    objectMapper.treeToValue(node.get("response"), TokenExchangeResponse.class),
+                    Instant.ofEpochMilli(node.get("obtainedAt").asLong())));
+        } catch (Exception e) {
+            // written with another API token, corrupted or unreadable: same as not cached
+            logger.debug("Ignoring cached token [{}]: {}", file, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void store(String serviceName, String environmentName, Entry entry) {
+        String cacheKey = cacheKey(serviceName, environmentName);
+        Path file = fileFor(cacheKey);
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("obtainedAt", entry.getObtainedAt().toEpochMilli());
+            node.set("response", objectMapper.valueToTree(entry.getResponse()));
+
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(cacheKey.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = cipher.doFinal(objectMapper.writeValueAsBytes(node));
+
+            createOwnerOnlyDirectory();
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                restrictToOwner(tmp, "rw-------");
+                Files.write(tmp, ByteBuffer.allocate(1 + IV_LENGTH + encrypted.length)
+                        .put(FORMAT_VERSION).put(iv).put(encrypted).array());
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (Exception e) {
+            logger.debug("Could not cache token in [{}]: {}", file, e.toString());
+        }
+    }
+
+    private void createOwnerOnlyDirectory() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            Files.createDirectories(directory);
+            restrictToOwner(directory, "rwx------");
+        }
+    }
+
+    private static void restrictToOwner(Path path, String permissions) throws IOException {
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString(permissions));
+        }
+    }
+
+    private Path fileFor(String cacheKey) {
+        StringBuilder name = new StringBuilder();
+        for (byte b : sha256(cacheKey.getBytes(StandardCharsets.UTF_8))) {
+            name.append(String.format("%02x", b));
+        }
+        return directory.resolve(name.append(".token").toString());
+    }
+
+    private static String cacheKey(String serviceName, String environmentName) {
+        return serviceName + "/" + environmentName;
+    }
+
+    private static byte[] sha256(byte[] input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
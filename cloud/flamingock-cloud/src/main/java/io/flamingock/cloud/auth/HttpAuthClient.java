@@ -15,29 +15,29 @@
  */
 package io.flamingock.cloud.auth;
 
-import io.flamingock.internal.util.http.Http;
 import io.flamingock.cloud.api.request.TokenExchangeRequest;
 import io.flamingock.cloud.api.response.TokenExchangeResponse;
+import io.flamingock.cloud.transport.CloudEndpoint;
+import io.flamingock.cloud.transport.CloudRequest;
+import io.flamingock.cloud.transport.CloudTransport;
 
 public class HttpAuthClient implements AuthClient {
 
 
-    private final Http.RequestBuilder requestBuilder;
+    private final CloudTransport transport;
 
     private final String pathTemplate;
 
-    public HttpAuthClient(String host,
-                          String apiVersion,
-                          Http.RequestBuilderFactory httpFactoryBuilder) {
+    public HttpAuthClient(String apiVersion,
+                          CloudTransport transport) {
         this.pathTemplate = String.format("/api/%s/auth/exchange-token", apiVersion);
-        this.requestBuilder = httpFactoryBuilder.getRequestBuilder(host);
+        this.transport = transport;
     }
 
     @Override
     public TokenExchangeResponse getToken(TokenExchangeRequest request) {
-        return requestBuilder
-                .POST(pathTemplate)
-                .setBody(request)
-                .execute(TokenExchangeResponse.class);
+        return transport.execute(CloudRequest
+                .post(CloudEndpoint.AUTH, pathTemplate)
+                .body(request), TokenExchangeResponse.class);
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.flamingock.internal.util.JsonObjectMapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * The registered claims the runner needs from the JWT the server issues. The signature is not
+ * verified: the token is opaque to the runner, which only reads it to know when to renew it.
+ */
+final class JwtClaims {
+
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    private JwtClaims(Instant issuedAt, Instant expiresAt) {
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * @return the claims, or empty when the token is not a JWT or has no {@code exp} claim
+     */
+    static Optional<JwtClaims> parse(String jwt) {
+        if (jwt == null) {
+            return Optional.empty();
+        }
+        String[] parts = jwt.split("\\.");
+        if (parts.length < 2) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode payload = JsonObjectMapper.DEFAULT_INSTANCE.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            if (payload == null || !payload.path("exp").canConvertToLong()) {
+                return Optional.empty();
+            }
+            Instant issuedAt = payload.path("iat").canConvertToLong()
+                    ? Instant.ofEpochSecond(payload.get("iat").asLong())
+                    : null;
+            return Optional.of(new JwtClaims(issuedAt, Instant.ofEpochSecond(payload.get("exp").asLong())));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the {@code iat} claim, if present
+     */
+    Optional<Instant> getIssuedAt() {
+        return Optional.ofNullable(issuedAt);
+    }
+
+    Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
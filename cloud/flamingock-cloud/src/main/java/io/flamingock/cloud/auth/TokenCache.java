@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.auth;
+
+import io.flamingock.cloud.api.response.TokenExchangeResponse;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Keeps exchanged tokens across processes, so a short-lived runner can reuse a token that is
+ * still valid instead of starting with a token exchange. Entries are keyed by service and
+ * environment. Implementations are best-effort: a cache that cannot be read or written behaves
+ * as an empty one.
+ */
+public interface TokenCache {
+
+    Optional<Entry> load(String serviceName, String environmentName);
+
+    void store(String serviceName, String environmentName, Entry entry);
+
+    final class Entry {
+        private final TokenExchangeResponse response;
+        private final Instant obtainedAt;
+
+        public Entry(TokenExchangeResponse response, Instant obtainedAt) {
+            this.response = response;
+            this.obtainedAt = obtainedAt;
+        }
+
+        public TokenExchangeResponse getResponse() {
+            return response;
+        }
+
+        public Instant getObtainedAt() {
+            return obtainedAt;
+        }
+    }
+}
@@ -19,9 +19,11 @@ import io.flamingock.cloud.auth.AuthManager;
 import io.flamingock.cloud.api.response.LockInfoResponse;
 import io.flamingock.cloud.api.response.LockResponse;
 import io.flamingock.cloud.api.vo.CloudLockStatus;
+import io.flamingock.cloud.transport.CloudEndpoint;
+import io.flamingock.cloud.transport.CloudRequest;
+import io.flamingock.cloud.transport.CloudTransport;
 import io.flamingock.internal.core.external.store.lock.LockKey;
 import io.flamingock.internal.util.id.RunnerId;
-import io.flamingock.internal.util.http.Http;
 
 import java.util.Collections;
 
@@ -29,30 +31,27 @@ public class HttpLockServiceClient implements LockServiceClient {
 
     private final String SERVICE_PARAM = "service";
 
-    private final Http.RequestBuilder httpFactory;
+    private final CloudTransport transport;
 
     private final String pathTemplate;
     private final AuthManager authManager;
 
-    public HttpLockServiceClient(String host,
-                                 String apiVersion,
-                                 Http.RequestBuilderFactory httpFactoryBuilder,
+    public HttpLockServiceClient(String apiVersion,
+                                 CloudTransport transport,
                                  AuthManager authManager) {
         this.pathTemplate = String.format("/api/%s/{%s}/lock", apiVersion, SERVICE_PARAM);
-        this.httpFactory = httpFactoryBuilder
-                .getRequestBuilder(host);
+        this.transport = transport;
         this.authManager = authManager;
     }
 
     @Override
     public LockInfoResponse extendLock(LockKey lockKey, RunnerId runnerId) {
-        LockResponse response = httpFactory
-                .POST(pathTemplate + "/extension")
-                .withBearerToken(authManager.getJwtToken())
-                .addPathParameter(SERVICE_PARAM, lockKey.toString())
-                .withRunnerId(runnerId)
-                .setBody(Collections.emptyMap())
-                .execute(LockResponse.class);
+        LockResponse response = transport.execute(CloudRequest
+                .post(CloudEndpoint.LOCK_EXTEND, pathTemplate + "/extension")
+                .bearerToken(authManager)
+                .pathParameter(SERVICE_PARAM, lockKey.toString())
+                .runnerId(runnerId)
+                .body(Collections.emptyMap()), LockResponse.class);
 
         if (response == null || response.getStatus() != CloudLockStatus.EXTENDED || response.getLock() == null) {
             throw new IllegalStateException(String.format(
@@ -73,12 +72,11 @@ public class HttpLockServiceClient implements LockServiceClient {
     @Override
     public LockInfoResponse getLockInfo(LockKey lockKey, RunnerId runnerId) {
         try {
-            return httpFactory
-                    .GET(pathTemplate)
-                    .withBearerToken(authManager.getJwtToken())
-                    .addPathParameter(SERVICE_PARAM, lockKey.toString())
-                    .withRunnerId(runnerId)
-                    .execute(LockInfoResponse.class);
+            return transport.execute(CloudRequest
+                    .get(CloudEndpoint.LOCK_INFO, pathTemplate)
+                    .bearerToken(authManager)
+                    .pathParameter(SERVICE_PARAM, lockKey.toString())
+                    .runnerId(runnerId), LockInfoResponse.class);
         } catch (io.flamingock.internal.util.ServerException ex) {
             // Per the doc, R_LOCK_03 is "no lock for this key in this environment" — that's a
             // legitimate "absent" state, not an error. Surface as null to honour the
@@ -92,11 +90,10 @@ public class HttpLockServiceClient implements LockServiceClient {
 
     @Override
     public void releaseLock(LockKey lockKey, RunnerId runnerId) {
-        httpFactory
-                .DELETE(pathTemplate)
-                .withBearerToken(authManager.getJwtToken())
-                .addPathParameter(SERVICE_PARAM, lockKey.toString())
-                .withRunnerId(runnerId)
-                .execute();
+        transport.execute(CloudRequest
+                .delete(CloudEndpoint.LOCK_RELEASE, pathTemplate)
+                .bearerToken(authManager)
+                .pathParameter(SERVICE_PARAM, lockKey.toString())
+                .runnerId(runnerId));
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.planner;
+
+import java.util.Random;
+
+/**
+ * Exponential backoff with jitter, for AWAIT answers that came back without the server having
+ * waited. Each delay is drawn from the upper half of the current step, so runners that started
+ * together spread out instead of hitting the server in lockstep, while none retries sooner than
+ * half a step.
+ */
+final class AwaitBackoff {
+
+    private final long baseMillis;
+    private final long maxMillis;
+    private final Random random;
+    private int attempt;
+
+    AwaitBackoff(long baseMillis, long maxMillis, Random random) {
+        this.baseMillis = Math.max(1L, baseMillis);
+        this.maxMillis = Math.max(this.baseMillis, maxMillis);
+        this.random = random;
+    }
+
+    long nextDelayMillis() {
+        long step = baseMillis << Math.min(attempt, 30);
+        if (step <= 0 || step > maxMillis) {
+            step = maxMillis;
+        } else {
+            attempt++;
+        }
+        long half = step / 2;
+        return half + (long) (random.nextDouble() * (step - half + 1));
+    }
+
+    void reset() {
+        attempt = 0;
+    }
+}
@@ -22,6 +22,8 @@ import io.flamingock.cloud.api.response.ExecutionPlanResponse;
 import io.flamingock.cloud.api.request.StageBlockRequest;
 import io.flamingock.cloud.api.request.StageRequest;
 import io.flamingock.cloud.api.request.ChangeRequest;
+import io.flamingock.cloud.api.request.ChangeStateRequest;
+import io.flamingock.cloud.api.request.StageStateRequest;
 import io.flamingock.cloud.api.response.StageResponse;
 import io.flamingock.cloud.api.response.ChangeResponse;
 import io.flamingock.cloud.api.vo.CloudChangeAction;
@@ -47,6 +49,9 @@ import io.flamingock.internal.common.core.change.ChangeDescriptor;
 import io.flamingock.internal.core.change.loaded.AbstractLoadedChange;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -95,6 +100,76 @@ public final class CloudExecutionPlanMapper {
         return new ExecutionPlanRequest(lockAcquiredForMillis, requestBlocks);
     }
 
+    /**
+     * Hashes what identifies the pipeline to the server: block types, stage names and order,
+     * change ids and whether they are transactional. Runtime status and audit marks are left
+     * out, so the hash only changes when the pipeline itself does.
+     */
+    static String pipelineHash(ExecutionPlanRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder sb = new StringBuilder(256);
+        for (StageBlockRequest block : request.getClientSubmission().getBlocks()) {
+            sb.setLength(0);
+            sb.append("B\u001f").append(block.getType()).append('\n');
+            digest.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+            for (StageRequest stage : block.getStages()) {
+                sb.setLength(0);
+                sb.append("S\u001f").append(stage.getName()).append('\u001f').append(stage.getOrder()).append('\n');
+                for (ChangeRequest change : stage.getChanges()) {
+                    sb.append("C\u001f").append(change.getId()).append('\u001f').append(change.isTransactional()).append('\n');
+                }
+                digest.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The runtime part of a full request, for the conditional form: every stage's status and the
+     * changes that have a status other than {@code NOT_REACHED}.
+     */
+    static List<StageStateRequest> toStageStates(ExecutionPlanRequest request) {
+        List<StageStateRequest> states = new ArrayList<>();
+        for (StageBlockRequest block : request.getClientSubmission().getBlocks()) {
+            for (StageRequest stage : block.getStages()) {
+                List<ChangeStateRequest> changes = new ArrayList<>();
+                for (ChangeRequest change : stage.getChanges()) {
+                    if (change.getCurrentStatus() != null && change.getCurrentStatus() != CloudChangeStatus.NOT_REACHED) {
+                        changes.add(new ChangeStateRequest(change.getId(), change.getCurrentStatus()));
+                    }
+                }
+                states.add(new StageStateRequest(stage.getName(), stage.getStatus(), changes));
+            }
+        }
+        return states;
+    }
+
+    /**
+     * @return the audit marks carried inline by a full request, by change id
+     */
+    static Map<String, CloudTargetSystemAuditMarkType> auditMarks(ExecutionPlanRequest request) {
+        Map<String, CloudTargetSystemAuditMarkType> marks = new HashMap<>();
+        for (StageBlockRequest block : request.getClientSubmission().getBlocks()) {
+            for (StageRequest stage : block.getStages()) {
+                for (ChangeRequest change : stage.getChanges()) {
+                    if (change.getOngoingStatus() != null && change.getOngoingStatus() != CloudTargetSystemAuditMarkType.NONE) {
+                        marks.put(change.getId(), change.getOngoingStatus());
+                    }
+                }
+            }
+        }
+        return marks;
+    }
+
     private static Map<String, ChangeStatus> currentStatusMap(StageRun stageRun) {
         List<ChangeResult> changes = stageRun.getResult().getChanges();
         if (changes == null || changes.isEmpty()) return Collections.emptyMap();
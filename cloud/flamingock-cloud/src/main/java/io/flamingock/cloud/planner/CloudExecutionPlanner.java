@@ -19,6 +19,7 @@ import io.flamingock.cloud.CloudApiMapper;
 import io.flamingock.cloud.lock.CloudLock;
 import io.flamingock.internal.core.external.store.lock.Lock;
 import io.flamingock.internal.util.id.RunnerId;
+import io.flamingock.internal.util.ServerException;
 import io.flamingock.internal.util.StopWatch;
 import io.flamingock.internal.util.ThreadSleeper;
 import io.flamingock.internal.util.TimeService;
@@ -43,19 +44,30 @@ import io.flamingock.internal.core.pipeline.run.PipelineRun;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 public class CloudExecutionPlanner extends ExecutionPlanner {
 
     private static final Logger logger = FlamingockLoggerFactory.getLogger("CloudExecution");
 
+    /**
+     * Below this, a long-poll AWAIT is treated as answered without waiting and the next request
+     * is delayed by {@link AwaitBackoff}.
+     */
+    private static final long MIN_USEFUL_HOLD_MILLIS = 100L;
+
+    private static final long BACKOFF_BASE_MILLIS = 100L;
+
     private final CoreConfigurable coreConfiguration;
 
     private final CloudLockService lockService;
@@ -68,18 +80,38 @@ public class CloudExecutionPlanner extends ExecutionPlanner {
 
     private final List<TargetSystemAuditMarker> auditMarkers;
 
+    private final long longPollMillis;
+
+    private final ConditionalPlanRequests conditionalRequests = new ConditionalPlanRequests();
+
     public CloudExecutionPlanner(RunnerId runnerId,
                                  ExecutionPlannerClient client,
                                  CoreConfigurable coreConfiguration,
                                  CloudLockService lockService,
                                  List<TargetSystemAuditMarker> auditMarkers,
                                  TimeService timeService) {
+        this(runnerId, client, coreConfiguration, lockService, auditMarkers, timeService, 0L);
+    }
+
+    /**
+     * @param longPollMillis how long the server may hold a planner request while another runner
+     *                       holds the lock; {@code 0} polls every
+     *                       {@link CoreConfigurable#getLockTryFrequencyMillis()} instead
+     */
+    public CloudExecutionPlanner(RunnerId runnerId,
+                                 ExecutionPlannerClient client,
+                                 CoreConfigurable coreConfiguration,
+                                 CloudLockService lockService,
+                                 List<TargetSystemAuditMarker> auditMarkers,
+                                 TimeService timeService,
+                                 long longPollMillis) {
         this.client = client;
         this.runnerId = runnerId;
         this.coreConfiguration = coreConfiguration;
         this.lockService = lockService;
         this.auditMarkers = auditMarkers;
         this.timeService = timeService;
+        this.longPollMillis = Math.max(0L, longPollMillis);
     }
 
     @Override
@@ -95,10 +127,16 @@ public class CloudExecutionPlanner extends ExecutionPlanner {
         );
         String lastOwnerGuid = null;
         StopWatch counterPerGuid = StopWatch.getNoStarted();
+        long startedAt = System.currentTimeMillis();
+        AwaitBackoff backoff = new AwaitBackoff(
+                BACKOFF_BASE_MILLIS, coreConfiguration.getLockTryFrequencyMillis(), ThreadLocalRandom.current());
+        // probed again on every wait, so a server upgraded while this runner lives is picked up
+        boolean longPollSupported = true;
         do {
             try {
+                long waitMillis = nextLongPollWait(startedAt, longPollSupported);
                 logger.info("Requesting cloud execution plan - elapsed[{}ms]", counterPerGuid.getElapsed());
-                ExecutionPlanResponse response = createExecution(pipelineRun, snapshot.getMarks(), lastOwnerGuid, counterPerGuid.getElapsed());
+                ExecutionPlanResponse response = createExecution(pipelineRun, snapshot.getMarks(), lastOwnerGuid, counterPerGuid.getElapsed(), waitMillis);
                 logger.info("Obtained cloud execution plan: {}", response.getAction());
 
                 //TODO should check if it has the lock?
@@ -118,7 +156,8 @@ public class CloudExecutionPlanner extends ExecutionPlanner {
                     return buildNextExecutionPlan(loadedStages, response, lock);
 
                 } else if (response.isAwait()) {
-                    if (lastOwnerGuid == null || !lastOwnerGuid.equals(response.getLock().getAcquisitionId())) {
+                    boolean ownerChanged = lastOwnerGuid == null || !lastOwnerGuid.equals(response.getLock().getAcquisitionId());
+                    if (ownerChanged) {
                         //if the lock's guid has been changed, the stopwatch needs to be reset
                         logger.info(
                                 "counter per lock GUID {}: lastOwnerGuid[{}] and response guid[{}] - elapsed[{}ms]",
@@ -134,9 +173,26 @@ public class CloudExecutionPlanner extends ExecutionPlanner {
                             response.getLock().getAcquiredForMillis(),
                             counterPerGuid.getElapsed()
                     );
-                    lockThreadSleeper.checkThresholdAndWait(
-                            Math.min(remainingTimeForSameGuid, coreConfiguration.getLockTryFrequencyMillis())
-                    );
+                    if (waitMillis > 0 && response.getHeldMillis() != null) {
+                        // the server already waited on our behalf: ask again straight away, unless it
+                        // answered without waiting while nothing changed
+                        long pause = 0L;
+                        if (ownerChanged || response.getHeldMillis() >= MIN_USEFUL_HOLD_MILLIS) {
+                            backoff.reset();
+                        } else {
+                            pause = Math.min(remainingTimeForSameGuid, backoff.nextDelayMillis());
+                        }
+                        lockThreadSleeper.checkThresholdAndWait(Math.max(0L, pause));
+                    } else {
+                        if (waitMillis > 0) {
+                            logger.info("Server does not support long-polling the execution plan, polling every {}ms",
+                                    coreConfiguration.getLockTryFrequencyMillis());
+                            longPollSupported = false;
+                        }
+                        lockThreadSleeper.checkThresholdAndWait(
+                                Math.min(remainingTimeForSameGuid, coreConfiguration.getLockTryFrequencyMillis())
+                        );
+                    }
 
                 } else if (response.isAbort()) {
                     return ExecutionPlan.ABORT();
@@ -154,25 +210,64 @@ public class CloudExecutionPlanner extends ExecutionPlanner {
         } while (true);
     }
 
+    /**
+     * @return how long the server may hold the next request, never beyond the time left before
+     * giving up on the lock; {@code 0} to poll
+     */
+    private long nextLongPollWait(long startedAt, boolean longPollSupported) {
+        if (longPollMillis == 0 || !longPollSupported) {
+            return 0L;
+        }
+        long remaining = coreConfiguration.getLockQuitTryingAfterMillis() - (System.currentTimeMillis() - startedAt);
+        return Math.max(0L, Math.min(longPollMillis, remaining));
+    }
+
     private ExecutionPlanResponse createExecution(PipelineRun pipelineRun,
                                                   Collection<TargetSystemAuditMark> auditMarks,
                                                   String lastAcquisitionId,
-                                                  long elapsedMillis) {
+                                                  long elapsedMillis,
+                                                  long waitMillis) {
 
         Map<String, TargetSystemAuditMarkType> auditMarksMap = auditMarks
                 .stream()
                 .collect(Collectors.toMap(TargetSystemAuditMark::getChangeId, TargetSystemAuditMark::getOperation));
 
-        ExecutionPlanRequest requestBody = CloudExecutionPlanMapper.toRequest(
+        ExecutionPlanRequest fullRequest = CloudExecutionPlanMapper.toRequest(
                 pipelineRun,
                 coreConfiguration.getLockAcquiredForMillis(),
                 auditMarksMap);
+        ExecutionPlanRequest requestBody = conditionalRequests.prepare(fullRequest);
 
-        ExecutionPlanResponse responsePlan = client.createExecution(requestBody, lastAcquisitionId, elapsedMillis);
+        ExecutionPlanResponse responsePlan;
+        try {
+            responsePlan = sendExecutionRequest(requestBody, lastAcquisitionId, elapsedMillis, waitMillis);
+        } catch (ServerException ex) {
+            if (!requestBody.isConditional() || !isDescriptorRequired(ex)) {
+                throw ex;
+            }
+            logger.debug("Server no longer holds pipeline[{}], sending it in full", fullRequest.getPipelineHash());
+            conditionalRequests.reset();
+            responsePlan = sendExecutionRequest(fullRequest, lastAcquisitionId, elapsedMillis, waitMillis);
+        }
+        conditionalRequests.acknowledge(fullRequest, responsePlan);
         responsePlan.validate();
         return responsePlan;
     }
 
+    private ExecutionPlanResponse sendExecutionRequest(ExecutionPlanRequest requestBody,
+                                                       String lastAcquisitionId,
+                                                       long elapsedMillis,
+                                                       long waitMillis) {
+        return waitMillis > 0
+                ? client.createExecution(requestBody, lastAcquisitionId, elapsedMillis, waitMillis)
+                : client.createExecution(requestBody, lastAcquisitionId, elapsedMillis);
+    }
+
+    private static boolean isDescriptorRequired(ServerException ex) {
+        String code = ex.getError() != null ? ex.getError().getCode() : null;
+        return ExecutionPlanRequest.DESCRIPTOR_REQUIRED.equals(code) || "HTTP_412".equals(code);
+    }
+
     private AuditMarkSnapshot buildAuditMarkSnapshot() {
         if (auditMarkers == null || auditMarkers.isEmpty()) {
             return AuditMarkSnapshot.empty();
@@ -190,9 +285,12 @@ public class CloudExecutionPlanner extends ExecutionPlanner {
 
     private AuditMarkSnapshot clearSynchronizedMarks(AuditMarkSnapshot snapshot) {
         Map<String, TargetSystemAuditMarker> markerByChangeId = snapshot.getMarkerByChangeId();
+        // one batch per marker instead of a round trip per mark
+        Map<TargetSystemAuditMarker, List<String>> changeIdsByMarker = new LinkedHashMap<>();
         for (Map.Entry<String, TargetSystemAuditMarker> entry : markerByChangeId.entrySet()) {
-            entry.getValue().clearMark(entry.getKey());
+            changeIdsByMarker.computeIfAbsent(entry.getValue(), marker -> new ArrayList<>()).add(entry.getKey());
         }
+        changeIdsByMarker.forEach(TargetSystemAuditMarker::clearMarks);
         if (!markerByChangeId.isEmpty()) {
             logger.info("Cleared {} synchronized audit marks", markerByChangeId.size());
         }
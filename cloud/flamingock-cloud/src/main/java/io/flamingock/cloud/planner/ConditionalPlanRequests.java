@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.planner;
+
+import io.flamingock.cloud.api.request.AuditMarkDeltaRequest;
+import io.flamingock.cloud.api.request.ExecutionPlanRequest;
+import io.flamingock.cloud.api.response.ExecutionPlanResponse;
+import io.flamingock.cloud.api.vo.CloudTargetSystemAuditMarkType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client side of conditional planner requests (see {@link ExecutionPlanRequest}): remembers the
+ * pipeline hash and audit marks the server acknowledged, and turns full requests into the
+ * conditional form while they hold. Until a server acknowledges a hash, every request goes out
+ * in full, so servers that predate the protocol see no difference.
+ */
+final class ConditionalPlanRequests {
+
+    private long sequence;
+
+    private String acknowledgedHash;
+
+    private long acknowledgedSequence;
+
+    private Map<String, CloudTargetSystemAuditMarkType> acknowledgedMarks = Collections.emptyMap();
+
+    /**
+     * Stamps the full request with its pipeline hash and sequence.
+     *
+     * @return the conditional form when the server already holds this pipeline, otherwise
+     * {@code full} itself
+     */
+    ExecutionPlanRequest prepare(ExecutionPlanRequest full) {
+        String hash = CloudExecutionPlanMapper.pipelineHash(full);
+        full.setPipelineHash(hash);
+        full.setMarksSequence(++sequence);
+        if (!hash.equals(acknowledgedHash)) {
+            return full;
+        }
+        ExecutionPlanRequest conditional = new ExecutionPlanRequest();
+        conditional.setLockAcquiredForMillis(full.getLockAcquiredForMillis());
+        conditional.setPipelineHash(hash);
+        conditional.setMarksSequence(full.getMarksSequence());
+        conditional.setStageStates(CloudExecutionPlanMapper.toStageStates(full));
+        conditional.setAuditMarkDelta(new AuditMarkDeltaRequest(
+                acknowledgedSequence,
+                delta(acknowledgedMarks, CloudExecutionPlanMapper.auditMarks(full))));
+        return conditional;
+    }
+
+    /**
+     * Records the server's answer to {@code full}, or to the conditional form derived from it.
+     */
+    void acknowledge(ExecutionPlanRequest full, ExecutionPlanResponse response) {
+        if (full.getPipelineHash() != null && full.getPipelineHash().equals(response.getPipelineHash())) {
+            acknowledgedHash = full.getPipelineHash();
+            acknowledgedSequence = full.getMarksSequence();
+            acknowledgedMarks = CloudExecutionPlanMapper.auditMarks(full);
+        } else {
+            reset();
+        }
+    }
+
+    /**
+     * Forgets what the server acknowledged, so the next request goes out in full.
+     */
+    void reset() {
+        acknowledgedHash = null;
+        acknowledgedSequence = 0L;
+        acknowledgedMarks = Collections.emptyMap();
+    }
+
+    private static Map<String, CloudTargetSystemAuditMarkType> delta(Map<String, CloudTargetSystemAuditMarkType> base,
+                                                                     Map<String, CloudTargetSystemAuditMarkType> current) {
+        Map<String, CloudTargetSystemAuditMarkType> delta = new HashMap<>();
+        for (Map.Entry<String, CloudTargetSystemAuditMarkType> mark : current.entrySet()) {
+            if (mark.getValue() != base.get(mark.getKey())) {
+                delta.put(mark.getKey(), mark.getValue());
+            }
+        }
+        for (String changeId : base.keySet()) {
+            if (!current.containsKey(changeId)) {
+                delta.put(changeId, CloudTargetSystemAuditMarkType.NONE);
+            }
+        }
+        return delta;
+    }
+}
@@ -22,4 +22,17 @@ public interface ExecutionPlannerClient {
 
 
     ExecutionPlanResponse createExecution(ExecutionPlanRequest request, String lastAcquisitionId, long elapsedMillis);
+
+    /**
+     * Long-poll variant: while another runner holds the lock, the server may keep the request open
+     * for up to {@code waitMillis} and answer as soon as the lock is released. Servers without
+     * long-poll support answer immediately and leave {@link ExecutionPlanResponse#getHeldMillis()}
+     * unset, which tells the caller to fall back to polling.
+     */
+    default ExecutionPlanResponse createExecution(ExecutionPlanRequest request,
+                                                  String lastAcquisitionId,
+                                                  long elapsedMillis,
+                                                  long waitMillis) {
+        return createExecution(request, lastAcquisitionId, elapsedMillis);
+    }
 }
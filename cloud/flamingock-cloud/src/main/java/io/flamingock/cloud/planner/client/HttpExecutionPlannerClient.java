@@ -18,15 +18,20 @@ package io.flamingock.cloud.planner.client;
 import io.flamingock.cloud.auth.AuthManager;
 import io.flamingock.cloud.api.request.ExecutionPlanRequest;
 import io.flamingock.cloud.api.response.ExecutionPlanResponse;
+import io.flamingock.cloud.transport.CloudEndpoint;
+import io.flamingock.cloud.transport.CloudRequest;
+import io.flamingock.cloud.transport.CloudTransport;
 import io.flamingock.internal.util.id.EnvironmentId;
 import io.flamingock.internal.util.id.ServiceId;
 import io.flamingock.internal.util.id.RunnerId;
-import io.flamingock.internal.util.http.Http;
+
+import java.time.Duration;
 
 public class HttpExecutionPlannerClient implements ExecutionPlannerClient {
 
+    private static final String IF_NONE_MATCH = "If-None-Match";
 
-    private final Http.RequestBuilder requestBuilder;
+    private final CloudTransport transport;
 
     private final String pathTemplate;
 
@@ -35,12 +40,11 @@ public class HttpExecutionPlannerClient implements ExecutionPlannerClient {
     private final RunnerId runnerId;
 
 
-    public HttpExecutionPlannerClient(String host,
-                                      EnvironmentId environmentId,
+    public HttpExecutionPlannerClient(EnvironmentId environmentId,
                                       ServiceId serviceId,
                                       RunnerId runnerId,
                                       String apiVersion,
-                                      Http.RequestBuilderFactory httpFactoryBuilder,
+                                      CloudTransport transport,
                                       AuthManager authManager) {
         this.runnerId = runnerId;
         this.pathTemplate = String.format("/api/%s/environment/%s/service/%s/execution",
@@ -48,21 +52,40 @@ public class HttpExecutionPlannerClient implements ExecutionPlannerClient {
                 environmentId.toString(),
                 serviceId.toString());
 
-        this.requestBuilder = httpFactoryBuilder
-                .getRequestBuilder(host);
+        this.transport = transport;
         this.authManager = authManager;
     }
 
     //TODO add environment
     @Override
     public ExecutionPlanResponse createExecution(ExecutionPlanRequest request, String lastAcquisitionId, long elapsedMillis) {
-        return requestBuilder
-                .POST(pathTemplate)
-                .withRunnerId(runnerId)
-                .withBearerToken(authManager.getJwtToken())
-                .addQueryParameter("lastAcquisitionId", lastAcquisitionId)
-                .addQueryParameter("elapsedMillis", elapsedMillis)
-                .setBody(request)
-                .execute(ExecutionPlanResponse.class);
+        return transport.execute(executionRequest(request, lastAcquisitionId, elapsedMillis), ExecutionPlanResponse.class);
+    }
+
+    @Override
+    public ExecutionPlanResponse createExecution(ExecutionPlanRequest request,
+                                                 String lastAcquisitionId,
+                                                 long elapsedMillis,
+                                                 long waitMillis) {
+        if (waitMillis <= 0) {
+            return createExecution(request, lastAcquisitionId, elapsedMillis);
+        }
+        return transport.execute(executionRequest(request, lastAcquisitionId, elapsedMillis)
+                .queryParameter("waitMillis", waitMillis)
+                .serverHold(Duration.ofMillis(waitMillis)), ExecutionPlanResponse.class);
+    }
+
+    private CloudRequest executionRequest(ExecutionPlanRequest request, String lastAcquisitionId, long elapsedMillis) {
+        CloudRequest cloudRequest = CloudRequest
+                .post(CloudEndpoint.EXECUTION_PLAN, pathTemplate)
+                .runnerId(runnerId)
+                .bearerToken(authManager)
+                .queryParameter("lastAcquisitionId", lastAcquisitionId)
+                .queryParameter("elapsedMillis", elapsedMillis)
+                .body(request);
+        if (request.isConditional()) {
+            cloudRequest.header(IF_NONE_MATCH, "\"" + request.getPipelineHash() + "\"");
+        }
+        return cloudRequest;
     }
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flamingock.internal.util.FlamingockError;
+import io.flamingock.internal.util.JsonObjectMapper;
+import io.flamingock.internal.util.ServerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Everything a {@link CloudTransport} does apart from moving bytes: JSON mapping, gzip in both
+ * directions, mapping error responses to {@link ServerException} and recording latencies.
+ * Subclasses only implement {@link #send(Exchange)} on top of their HTTP library.
+ */
+public abstract class AbstractCloudTransport implements CloudTransport {
+
+    protected static final String CONTENT_TYPE = "Content-Type";
+    protected static final String CONTENT_ENCODING = "Content-Encoding";
+    protected static final String ACCEPT_ENCODING = "Accept-Encoding";
+    protected static final String APPLICATION_JSON = "application/json";
+    protected static final String GZIP = "gzip";
+    static final int UNAUTHORIZED = 401;
+
+    protected final String host;
+    protected final CloudTransportSettings settings;
+    private final ObjectMapper objectMapper;
+    private final CloudTransportMetrics metrics = new CloudTransportMetrics();
+
+    protected AbstractCloudTransport(String host, CloudTransportSettings settings) {
+        this(host, settings, JsonObjectMapper.DEFAULT_INSTANCE);
+    }
+
+    protected AbstractCloudTransport(String host, CloudTransportSettings settings, ObjectMapper objectMapper) {
+        this.host = host.endsWith("/") ? host.substring(0, host.length() - 1) : host;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Sends the exchange and returns the raw response. Bodies come in and go out exactly as
+     * they travel on the wire, so the response body may still be gzipped.
+     *
+     * @throws IOException on any transport failure, including timeouts
+     */
+    protected abstract Response send(Exchange exchange) throws IOException;
+
+    @Override
+    public <T> T execute(CloudRequest request, Class<T> responseType) {
+        BearerTokenProvider tokenProvider = request.getTokenProvider();
+        String token = tokenProvider != null ? tokenProvider.getJwtToken() : null;
+        Exchange exchange = toExchange(request, token);
+        Response response = sendAndRecord(exchange);
+        if (response.status == UNAUTHORIZED && tokenProvider != null) {
+            String refreshed = tokenProvider.refreshJwtToken(token);
+            if (refreshed != null && !refreshed.equals(token)) {
+                exchange = toExchange(request, refreshed);
+                response = sendAndRecord(exchange);
+            }
+        }
+
+        byte[] body = decode(response);
+        if (response.status < 200 || response.status >= 300) {
+            throw new ServerException(
+                    exchange.method + " " + exchange.uri,
+                    request.getBody() != null ? writeJson(request.getBody()) : null,
+                    toError(response.status, body));
+        }
+        if (responseType == null || responseType == Void.class || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format(
+                    "Error reading %s response from %s %s", responseType.getSimpleName(), exchange.method, exchange.uri), e);
+        }
+    }
+
+    @Override
+    public CloudTransportMetrics getMetrics() {
+        return metrics;
+    }
+
+    private Response sendAndRecord(Exchange exchange) {
+        long start = System.nanoTime();
+        try {
+            return send(exchange);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Error sending %s %s", exchange.method, exchange.uri), e);
+        } finally {
+            metrics.record(exchange.endpoint, System.nanoTime() - start);
+        }
+    }
+
+    private Exchange toExchange(CloudRequest request, String token) {
+        Map<String, String> headers = new LinkedHashMap<>(request.getHeaders());
+        if (token != null) {
+            headers.put(CloudRequest.AUTHORIZATION_HEADER, "Bearer " + token);
+        }
+        headers.put(ACCEPT_ENCODING, GZIP);
+        byte[] body = null;
+        if (request.getBody() != null) {
+            body = writeJson(request.getBody()).getBytes(StandardCharsets.UTF_8);
+            headers.put(CONTENT_TYPE, APPLICATION_JSON);
+            if (settings.isCompressRequests() && body.length >= settings.getCompressionThresholdBytes()) {
+                body = gzip(body);
+                headers.put(CONTENT_ENCODING, GZIP);
+            }
+        }
+        return new Exchange(
+                request.getMethod().name(),
+                host + request.resolvePath(),
+                Collections.unmodifiableMap(headers),
+                body,
+                request.getEndpoint(),
+                settings.getRequestTimeout(request.getEndpoint()).plus(request.getServerHold()));
+    }
+
+    private String writeJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error serializing request body " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    private FlamingockError toError(int status, byte[] body) {
+        String text = new String(body, StandardCharsets.UTF_8);
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            if (node != null && node.hasNonNull("code")) {
+                return new FlamingockError(
+                        node.get("code").asText(),
+                        node.path("recoverable").asBoolean(false),
+                        node.path("message").asText(text));
+            }
+        } catch (IOException ignored) {
+            // not a Flamingock error body: reported verbatim below
+        }
+        return new FlamingockError("HTTP_" + status, status >= 500, text);
+    }
+
+    private static byte[] decode(Response response) {
+        byte[] body = response.body != null ? response.body : new byte[0];
+        if (body.length == 0 || !GZIP.equalsIgnoreCase(response.contentEncoding)) {
+            return body;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 4);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decompressing gzip response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error compressing request body", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * A request ready to go on the wire.
+     */
+    protected static final class Exchange {
+        public final String method;
+        public final String uri;
+        public final Map<String, String> headers;
+        /**
+         * {@code null} when the request has no body
+         */
+        public final byte[] body;
+        public final CloudEndpoint endpoint;
+        /**
+         * The endpoint timeout, extended by the time the server was allowed to hold the request
+         */
+        public final Duration timeout;
+
+        Exchange(String method, String uri, Map<String, String> headers, byte[] body, CloudEndpoint endpoint, Duration timeout) {
+            this.method = method;
+            this.uri = uri;
+            this.headers = headers;
+            this.body = body;
+            this.endpoint = endpoint;
+            this.timeout = timeout;
+        }
+    }
+
+    /**
+     * A response as read from the wire.
+     */
+    protected static final class Response {
+        final int status;
+        final String contentEncoding;
+        final byte[] body;
+
+        public Response(int status, String contentEncoding, byte[] body) {
+            this.status = status;
+            this.contentEncoding = contentEncoding;
+            this.body = body;
+        }
+    }
+}
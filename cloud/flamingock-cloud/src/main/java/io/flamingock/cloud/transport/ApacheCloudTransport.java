@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Default {@link CloudTransport}, on Apache HttpClient 4 so it runs on Java 8. Connections are
+ * pooled and kept alive between requests. HTTP/1.1 only: add
+ * {@code flamingock-cloud-transport-jdk} to the classpath on Java 11+ for HTTP/2.
+ * <p>
+ * The per-endpoint timeout is applied as the socket read timeout, i.e. the longest silence
+ * tolerated while waiting for the response, not a bound on the whole exchange.
+ */
+public class ApacheCloudTransport extends AbstractCloudTransport {
+
+    private final CloseableHttpClient httpClient;
+    private final Map<CloudEndpoint, RequestConfig> requestConfigs = new EnumMap<>(CloudEndpoint.class);
+
+    public ApacheCloudTransport(String host, CloudTransportSettings settings) {
+        super(host, settings);
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(settings.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(settings.getMaxConnections());
+        int connectTimeout = (int) settings.getConnectTimeout().toMillis();
+        for (CloudEndpoint endpoint : CloudEndpoint.values()) {
+            requestConfigs.put(endpoint, RequestConfig.custom()
+                    .setConnectTimeout(connectTimeout)
+                    .setConnectionRequestTimeout(connectTimeout)
+                    .setSocketTimeout((int) settings.getRequestTimeout(endpoint).toMillis())
+                    .build());
+        }
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                // gzip is negotiated and decoded by AbstractCloudTransport, the same way for every transport
+                .disableContentCompression()
+                .build();
+    }
+
+    @Override
+    protected Response send(Exchange exchange) throws IOException {
+        RequestConfig config = requestConfigs.get(exchange.endpoint);
+        if (exchange.timeout.toMillis() != config.getSocketTimeout()) {
+            config = RequestConfig.copy(config).setSocketTimeout((int) exchange.timeout.toMillis()).build();
+        }
+        RequestBuilder builder = RequestBuilder.create(exchange.method)
+                .setUri(exchange.uri)
+                .setConfig(config);
+        exchange.headers.forEach(builder::setHeader);
+        if (exchange.body != null) {
+            builder.setEntity(new ByteArrayEntity(exchange.body));
+        }
+        try (CloseableHttpResponse response = httpClient.execute(builder.build())) {
+            HttpEntity entity = response.getEntity();
+            Header contentEncoding = response.getFirstHeader(CONTENT_ENCODING);
+            return new Response(
+                    response.getStatusLine().getStatusCode(),
+                    contentEncoding != null ? contentEncoding.getValue() : null,
+                    entity != null ? EntityUtils.toByteArray(entity) : null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+/**
+ * Source of the bearer token of a {@link CloudRequest}. The token is read when the request is
+ * sent, and when the server answers {@code 401 Unauthorized} the transport asks for a new one
+ * and retries the request once.
+ */
+public interface BearerTokenProvider {
+
+    String getJwtToken();
+
+    /**
+     * Called after the server rejected {@code rejectedToken}.
+     *
+     * @return a token to retry with, or {@code null} to give up and surface the 401
+     */
+    String refreshJwtToken(String rejectedToken);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+/**
+ * The cloud endpoints the runner talks to. Transports key their per-endpoint timeouts and
+ * latency histograms by it.
+ */
+public enum CloudEndpoint {
+    AUTH("auth"),
+    EXECUTION_PLAN("execution-plan"),
+    AUDIT_WRITE("audit-write"),
+    LOCK_EXTEND("lock-extend"),
+    LOCK_INFO("lock-info"),
+    LOCK_RELEASE("lock-release");
+
+    private final String key;
+
+    CloudEndpoint(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the name used for this endpoint in configuration properties and metrics
+     */
+    public String getKey() {
+        return key;
+    }
+}
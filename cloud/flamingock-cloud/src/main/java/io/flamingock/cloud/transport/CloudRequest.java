@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import io.flamingock.internal.util.id.RunnerId;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A request to one of the {@link CloudEndpoint}s, independent of the HTTP library that ends up
+ * sending it. Path parameters are written as {@code {name}} in the template and are URL-encoded
+ * when the path is resolved; query parameters with a {@code null} value are left out.
+ */
+public final class CloudRequest {
+
+    public enum Method {
+        GET, POST, DELETE
+    }
+
+    static final String RUNNER_ID_HEADER = "flamingock-runner-id";
+    static final String AUTHORIZATION_HEADER = "Authorization";
+
+    private final Method method;
+    private final CloudEndpoint endpoint;
+    private final String pathTemplate;
+    private final Map<String, String> pathParameters = new LinkedHashMap<>();
+    private final Map<String, String> queryParameters = new LinkedHashMap<>();
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private Object body;
+    private BearerTokenProvider tokenProvider;
+    private Duration serverHold = Duration.ZERO;
+
+    private CloudRequest(Method method, CloudEndpoint endpoint, String pathTemplate) {
+        this.method = method;
+        this.endpoint = endpoint;
+        this.pathTemplate = pathTemplate;
+    }
+
+    public static CloudRequest get(CloudEndpoint endpoint, String pathTemplate) {
+        return new CloudRequest(Method.GET, endpoint, pathTemplate);
+    }
+
+    public static CloudRequest post(CloudEndpoint endpoint, String pathTemplate) {
+        return new CloudRequest(Method.POST, endpoint, pathTemplate);
+    }
+
+    public static CloudRequest delete(CloudEndpoint endpoint, String pathTemplate) {
+        return new CloudRequest(Method.DELETE, endpoint, pathTemplate);
+    }
+
+    public CloudRequest pathParameter(String name, Object value) {
+        pathParameters.put(name, String.valueOf(value));
+        return this;
+    }
+
+    public CloudRequest queryParameter(String name, Object value) {
+        if (value != null) {
+            queryParameters.put(name, String.valueOf(value));
+        }
+        return this;
+    }
+
+    public CloudRequest header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public CloudRequest bearerToken(String token) {
+        return header(AUTHORIZATION_HEADER, "Bearer " + token);
+    }
+
+    /**
+     * Authenticates the request with the provider's current token, refreshing it and retrying
+     * once if the server rejects it.
+     */
+    public CloudRequest bearerToken(BearerTokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+        return this;
+    }
+
+    /**
+     * Declares that the server may hold the request open for up to {@code hold} before answering,
+     * as in a long poll. The endpoint timeout is extended by that much for this request only.
+     */
+    public CloudRequest serverHold(Duration hold) {
+        this.serverHold = hold != null && !hold.isNegative() ? hold : Duration.ZERO;
+        return this;
+    }
+
+    public CloudRequest runnerId(RunnerId runnerId) {
+        return header(RUNNER_ID_HEADER, runnerId.toString());
+    }
+
+    public CloudRequest body(Object body) {
+        this.body = body;
+        return this;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public CloudEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public Map<String, String> getHeaders() {
+        return Collections.unmodifiableMap(headers);
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    public BearerTokenProvider getTokenProvider() {
+        return tokenProvider;
+    }
+
+    public Duration getServerHold() {
+        return serverHold;
+    }
+
+    /**
+     * @return the path with its parameters replaced, followed by the query string if any
+     */
+    public String resolvePath() {
+        String path = pathTemplate;
+        for (Map.Entry<String, String> parameter : pathParameters.entrySet()) {
+            path = path.replace("{" + parameter.getKey() + "}", encode(parameter.getValue()));
+        }
+        if (queryParameters.isEmpty()) {
+            return path;
+        }
+        StringBuilder sb = new StringBuilder(path);
+        char separator = '?';
+        for (Map.Entry<String, String> parameter : queryParameters.entrySet()) {
+            sb.append(separator).append(encode(parameter.getKey())).append('=').append(encode(parameter.getValue()));
+            separator = '&';
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + resolvePath();
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name()).replace("+", "%20");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import java.io.Closeable;
+
+/**
+ * Sends {@link CloudRequest}s to the Flamingock cloud and maps the JSON responses back.
+ * <p>
+ * Implementations are shared by every cloud client of a runner, so they must be thread-safe,
+ * and they are expected to keep connections alive between calls. A non-2xx response is
+ * surfaced as {@link io.flamingock.internal.util.ServerException} carrying the error the
+ * server returned, exactly like the clients did before the transport was pluggable.
+ *
+ * @see CloudTransportProvider
+ */
+public interface CloudTransport extends Closeable {
+
+    /**
+     * Sends the request and maps the response body to the given type.
+     *
+     * @return the mapped body, or {@code null} when the response has no body or
+     * {@code responseType} is {@code Void}
+     */
+    <T> T execute(CloudRequest request, Class<T> responseType);
+
+    /**
+     * Sends the request, ignoring the response body.
+     */
+    default void execute(CloudRequest request) {
+        execute(request, Void.class);
+    }
+
+    /**
+     * @return the request latencies observed so far, per endpoint
+     */
+    CloudTransportMetrics getMetrics();
+}
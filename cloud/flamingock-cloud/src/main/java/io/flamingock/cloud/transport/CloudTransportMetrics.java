@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Request-latency histograms of a {@link CloudTransport}, one per {@link CloudEndpoint}. Failed
+ * requests are recorded too: a timeout is exactly the latency worth seeing.
+ */
+public final class CloudTransportMetrics {
+
+    private final Map<CloudEndpoint, LatencyHistogram> histograms;
+
+    public CloudTransportMetrics() {
+        Map<CloudEndpoint, LatencyHistogram> map = new EnumMap<>(CloudEndpoint.class);
+        for (CloudEndpoint endpoint : CloudEndpoint.values()) {
+            map.put(endpoint, new LatencyHistogram());
+        }
+        this.histograms = Collections.unmodifiableMap(map);
+    }
+
+    public void record(CloudEndpoint endpoint, long nanos) {
+        histograms.get(endpoint).record(nanos);
+    }
+
+    public LatencyHistogram getLatency(CloudEndpoint endpoint) {
+        return histograms.get(endpoint);
+    }
+
+    public Map<CloudEndpoint, LatencyHistogram> getLatencies() {
+        return histograms;
+    }
+}
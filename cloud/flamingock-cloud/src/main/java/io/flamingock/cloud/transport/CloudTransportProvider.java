@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+/**
+ * Service-provider interface for alternative {@link CloudTransport} implementations,
+ * discovered through {@link java.util.ServiceLoader}. When several providers are on the
+ * classpath the one with the highest priority is used; when there is none the runner falls
+ * back to the built-in {@link ApacheCloudTransport}.
+ */
+public interface CloudTransportProvider {
+
+    /**
+     * @return the precedence of this provider over the others found on the classpath
+     */
+    int getPriority();
+
+    /**
+     * @return whether this provider can run in the current JVM
+     */
+    default boolean isAvailable() {
+        return true;
+    }
+
+    CloudTransport create(String host, CloudTransportSettings settings);
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import io.flamingock.internal.common.core.context.PropertyResolver;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Connection, timeout and compression settings shared by the {@link CloudTransport}
+ * implementations. Every value can be set through a property:
+ * <ul>
+ *   <li>{@code flamingock.cloud.transport.connect-timeout-millis} (default 5000)</li>
+ *   <li>{@code flamingock.cloud.transport.timeout-millis}: request timeout (default 30000)</li>
+ *   <li>{@code flamingock.cloud.transport.<endpoint>.timeout-millis}: request timeout for one
+ *   {@link CloudEndpoint}, by its {@linkplain CloudEndpoint#getKey() key}</li>
+ *   <li>{@code flamingock.cloud.transport.max-connections}: pooled connections (default 10)</li>
+ *   <li>{@code flamingock.cloud.transport.compress-requests}: gzip request bodies (default false,
+ *   as it needs a server that accepts {@code Content-Encoding: gzip})</li>
+ *   <li>{@code flamingock.cloud.transport.compression-threshold-bytes}: smaller bodies are sent
+ *   as they are (default 1024)</li>
+ * </ul>
+ * Responses are always requested with {@code Accept-Encoding: gzip}.
+ */
+public class CloudTransportSettings {
+
+    static final String PREFIX = "flamingock.cloud.transport.";
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration requestTimeout = Duration.ofSeconds(30);
+    private final Map<CloudEndpoint, Duration> endpointTimeouts = new EnumMap<>(CloudEndpoint.class);
+    private int maxConnections = 10;
+    private boolean compressRequests = false;
+    private int compressionThresholdBytes = 1024;
+
+    public static CloudTransportSettings fromProperties(PropertyResolver properties) {
+        CloudTransportSettings settings = new CloudTransportSettings();
+        getLong(properties, "connect-timeout-millis")
+                .ifPresent(millis -> settings.setConnectTimeout(Duration.ofMillis(millis)));
+        getLong(properties, "timeout-millis")
+                .ifPresent(millis -> settings.setRequestTimeout(Duration.ofMillis(millis)));
+        for (CloudEndpoint endpoint : CloudEndpoint.values()) {
+            getLong(properties, endpoint.getKey() + ".timeout-millis")
+                    .ifPresent(millis -> settings.setEndpointTimeout(endpoint, Duration.ofMillis(millis)));
+        }
+        getLong(properties, "max-connections")
+                .ifPresent(max -> settings.setMaxConnections(max.intValue()));
+        properties.getProperty(PREFIX + "compress-requests")
+                .ifPresent(value -> settings.setCompressRequests(Boolean.parseBoolean(value.trim())));
+        getLong(properties, "compression-threshold-bytes")
+                .ifPresent(bytes -> settings.setCompressionThresholdBytes(bytes.intValue()));
+        return settings;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public CloudTransportSettings setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = requirePositive(connectTimeout, "connectTimeout");
+        return this;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public CloudTransportSettings setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requirePositive(requestTimeout, "requestTimeout");
+        return this;
+    }
+
+    /**
+     * @return the timeout configured for the endpoint, or the general request timeout
+     */
+    public Duration getRequestTimeout(CloudEndpoint endpoint) {
+        Duration timeout = endpointTimeouts.get(endpoint);
+        return timeout != null ? timeout : requestTimeout;
+    }
+
+    public CloudTransportSettings setEndpointTimeout(CloudEndpoint endpoint, Duration timeout) {
+        endpointTimeouts.put(endpoint, requirePositive(timeout, endpoint.getKey() + " timeout"));
+        return this;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public CloudTransportSettings setMaxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be at least 1");
+        }
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    public CloudTransportSettings setCompressRequests(boolean compressRequests) {
+        this.compressRequests = compressRequests;
+        return this;
+    }
+
+    public int getCompressionThresholdBytes() {
+        return compressionThresholdBytes;
+    }
+
+    public CloudTransportSettings setCompressionThresholdBytes(int compressionThresholdBytes) {
+        if (compressionThresholdBytes < 0) {
+            throw new IllegalArgumentException("compressionThresholdBytes must not be negative");
+        }
+        this.compressionThresholdBytes = compressionThresholdBytes;
+        return this;
+    }
+
+    private static Optional<Long> getLong(PropertyResolver properties, String key) {
+        return properties.getProperty(PREFIX + key).map(value -> {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(String.format(
+                        "Property %s%s must be a number, but was [%s]", PREFIX, key, value), e);
+            }
+        });
+    }
+
+    private static Duration requirePositive(Duration duration, String name) {
+        if (duration == null || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return duration;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+import java.util.ServiceLoader;
+
+/**
+ * Picks the {@link CloudTransport} for a runner: the available {@link CloudTransportProvider}
+ * with the highest priority, or {@link ApacheCloudTransport} when there is none.
+ */
+public final class CloudTransports {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("CloudTransport");
+
+    private CloudTransports() {
+    }
+
+    public static CloudTransport create(String host, CloudTransportSettings settings) {
+        CloudTransportProvider selected = null;
+        for (CloudTransportProvider provider : ServiceLoader.load(CloudTransportProvider.class)) {
+            if (provider.isAvailable() && (selected == null || provider.getPriority() > selected.getPriority())) {
+                selected = provider;
+            }
+        }
+        if (selected == null) {
+            logger.debug("Using default cloud transport [{}]", ApacheCloudTransport.class.getSimpleName());
+            return new ApacheCloudTransport(host, settings);
+        }
+        logger.debug("Using cloud transport provided by [{}]", selected.getClass().getName());
+        return selected.create(host, settings);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of request latencies with fixed, roughly logarithmic buckets from 1 ms to
+ * 30 s plus an overflow bucket. Percentiles are reported as the upper bound of the bucket they
+ * fall in, which is precise enough to tell a slow endpoint from a fast one and costs two
+ * {@link LongAdder} increments per request.
+ */
+public final class LatencyHistogram {
+
+    private static final long[] BOUNDS_MILLIS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 30_000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < BOUNDS_MILLIS.length && millis >= BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMeanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0d : totalNanos.sum() / (double) n / 1_000_000d;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000d;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. {@code 0.99}
+     * @return the upper bound, in milliseconds, of the bucket holding that quantile;
+     * {@link Long#MAX_VALUE} when it is in the overflow bucket and 0 when nothing was recorded
+     */
+    public long getPercentileMillis(double quantile) {
+        if (quantile < 0d || quantile > 1d) {
+            throw new IllegalArgumentException("quantile must be between 0 and 1");
+        }
+        long[] snapshot = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            snapshot[i] = buckets[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return i < BOUNDS_MILLIS.length ? BOUNDS_MILLIS[i] : Long.MAX_VALUE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1fms p50<=%dms p99<=%dms max=%.1fms",
+                getCount(), getMeanMillis(), getPercentileMillis(0.5), getPercentileMillis(0.99), getMaxMillis());
+    }
+}
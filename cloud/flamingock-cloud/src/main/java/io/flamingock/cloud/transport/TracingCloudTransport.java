@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import io.flamingock.internal.core.tracing.TraceSpan;
+import io.flamingock.internal.core.tracing.Tracing;
+
+import java.io.IOException;
+
+/**
+ * Wraps each cloud request in a client span and propagates its trace context in the request
+ * headers, so the server side can join the trace.
+ */
+public final class TracingCloudTransport implements CloudTransport {
+
+    private final CloudTransport delegate;
+    private final Tracing tracing;
+
+    public TracingCloudTransport(CloudTransport delegate, Tracing tracing) {
+        this.delegate = delegate;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public <T> T execute(CloudRequest request, Class<T> responseType) {
+        try (TraceSpan span = tracing.startClientSpan(Tracing.CLOUD_REQUEST)) {
+            span.setAttribute(Tracing.CLOUD_ENDPOINT_ATTRIBUTE, request.getEndpoint().getKey());
+            span.setAttribute(Tracing.HTTP_METHOD_ATTRIBUTE, request.getMethod().name());
+            span.setAttribute(Tracing.URL_PATH_ATTRIBUTE, request.resolvePath());
+            tracing.injectContext(request::header);
+            try {
+                return delegate.execute(request, responseType);
+            } catch (RuntimeException e) {
+                span.recordFailure(e);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public CloudTransportMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
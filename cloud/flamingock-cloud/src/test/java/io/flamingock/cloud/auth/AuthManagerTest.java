@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.auth;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.flamingock.cloud.api.response.TokenExchangeResponse;
+import io.flamingock.cloud.transport.ApacheCloudTransport;
+import io.flamingock.cloud.transport.CloudEndpoint;
+import io.flamingock.cloud.transport.CloudRequest;
+import io.flamingock.cloud.transport.CloudTransport;
+import io.flamingock.cloud.transport.CloudTransportSettings;
+import io.flamingock.common.test.cloud.MockRunnerServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthManagerTest {
+
+    private static final String API_TOKEN = "default-api-token";
+    private static final String SERVICE = "default-service-name";
+    private static final String ENVIRONMENT = "default-environment-name";
+
+    private MockRunnerServer mockRunnerServer;
+    private WireMockServer wireMockServer;
+    private CloudTransport transport;
+    private AuthManager authManager;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (authManager != null) {
+            authManager.close();
+        }
+        if (transport != null) {
+            transport.close();
+        }
+        if (mockRunnerServer != null) {
+            mockRunnerServer.stop();
+        }
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should exchange a new token in the background before the current one expires")
+    void shouldRefreshProactively() throws Exception {
+        int port = freePort();
+        Instant now = Instant.now();
+        mockRunnerServer = new MockRunnerServer()
+                .setServerPort(port)
+                .setJwt(jwt(now, now.plusSeconds(3)));
+        mockRunnerServer.start();
+        transport = new ApacheCloudTransport("http://localhost:" + port, new CloudTransportSettings());
+        authManager = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, new HttpAuthClient("v1", transport));
+
+        authManager.authenticate();
+        assertEquals(1, mockRunnerServer.countAuthRequests());
+
+        // refresh is due at 80% of a 3s lifetime; allow generous slack for slow machines
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (mockRunnerServer.countAuthRequests() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(mockRunnerServer.countAuthRequests() >= 2, "token was not refreshed before expiring");
+    }
+
+    @Test
+    @DisplayName("Should not schedule refreshes for tokens without an exp claim")
+    void shouldNotRefreshOpaqueTokens() throws Exception {
+        AuthClient authClient = mock(AuthClient.class);
+        when(authClient.getToken(any())).thenReturn(response("opaque-token"));
+        authManager = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, authClient);
+
+        authManager.authenticate();
+        Thread.sleep(200);
+
+        assertEquals("opaque-token", authManager.getJwtToken());
+        verify(authClient, times(1)).getToken(any());
+    }
+
+    @Test
+    @DisplayName("Should exchange a new token and retry once when the server answers 401")
+    void shouldRetryOnceOnUnauthorized() throws Exception {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathEqualTo("/resource"))
+                .withHeader("Authorization", equalTo("Bearer token-1"))
+                .willReturn(aResponse().withStatus(401)));
+        wireMockServer.stubFor(get(urlPathEqualTo("/resource"))
+                .withHeader("Authorization", equalTo("Bearer token-2"))
+                .willReturn(aResponse().withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"jwt\":\"ok\"}")));
+
+        AuthClient authClient = mock(AuthClient.class);
+        when(authClient.getToken(any())).thenReturn(response("token-1"), response("token-2"));
+        authManager = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, authClient);
+        authManager.authenticate();
+        transport = new ApacheCloudTransport("http://localhost:" + wireMockServer.port(), new CloudTransportSettings());
+
+        TokenExchangeResponse result = transport.execute(
+                CloudRequest.get(CloudEndpoint.EXECUTION_PLAN, "/resource").bearerToken(authManager),
+                TokenExchangeResponse.class);
+
+        assertEquals("ok", result.getJwt());
+        assertEquals("token-2", authManager.getJwtToken());
+        verify(authClient, times(2)).getToken(any());
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/resource")));
+    }
+
+    @Test
+    @DisplayName("Should return the current token without exchanging when a stale one is rejected")
+    void shouldNotExchangeForStaleRejection() {
+        AuthClient authClient = mock(AuthClient.class);
+        when(authClient.getToken(any())).thenReturn(response("token-1"), response("token-2"));
+        authManager = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, authClient);
+        authManager.authenticate();
+
+        assertEquals("token-2", authManager.refreshJwtToken("token-1"));
+        assertEquals("token-2", authManager.refreshJwtToken("token-1"));
+        verify(authClient, times(2)).getToken(any());
+    }
+
+    @Test
+    @DisplayName("Should reuse a cached token inside its refresh window")
+    void shouldReuseCachedToken(@TempDir Path dir) {
+        Instant now = Instant.parse("2026-03-04T05:06:07Z");
+        String token = jwt(now, now.plusSeconds(3600));
+        Clock clock = Clock.fixed(now.plusSeconds(60), ZoneOffset.UTC);
+
+        AuthClient firstClient = mock(AuthClient.class);
+        when(firstClient.getToken(any())).thenReturn(response(token));
+        try (AuthManager first = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, firstClient, new EncryptedFileTokenCache(dir, API_TOKEN), clock)) {
+            first.authenticate();
+        }
+
+        AuthClient secondClient = mock(AuthClient.class);
+        authManager = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, secondClient, new EncryptedFileTokenCache(dir, API_TOKEN), clock);
+        TokenExchangeResponse response = authManager.authenticate();
+
+        assertEquals(token, response.getJwt());
+        verify(secondClient, times(0)).getToken(any());
+    }
+
+    @Test
+    @DisplayName("Should exchange when the cached token is past its refresh window")
+    void shouldIgnoreCachedTokenDueForRefresh(@TempDir Path dir) {
+        Instant now = Instant.parse("2026-03-04T05:06:07Z");
+        TokenCache cache = new EncryptedFileTokenCache(dir, API_TOKEN);
+        cache.store(SERVICE, ENVIRONMENT, new TokenCache.Entry(response(jwt(now, now.plusSeconds(100))), now));
+
+        AuthClient authClient = mock(AuthClient.class);
+        when(authClient.getToken(any())).thenReturn(response("fresh"));
+        authManager = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, authClient, cache,
+                Clock.fixed(now.plusSeconds(90), ZoneOffset.UTC));
+
+        assertEquals("fresh", authManager.authenticate().getJwt());
+    }
+
+    @Test
+    @DisplayName("Should time refresh and cache reuse on the local clock when the server clock is skewed")
+    void shouldTolerateSkewedServerClock(@TempDir Path dir) throws Exception {
+        Instant now = Instant.parse("2026-03-04T05:06:07Z");
+        // the server clock runs two hours behind: by the local clock the token expired an hour ago
+        Instant serverNow = now.minus(Duration.ofHours(2));
+        String token = jwt(serverNow, serverNow.plus(Duration.ofHours(1)));
+
+        AuthClient firstClient = mock(AuthClient.class);
+        when(firstClient.getToken(any())).thenReturn(response(token));
+        try (AuthManager first = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, firstClient,
+                new EncryptedFileTokenCache(dir, API_TOKEN), Clock.fixed(now, ZoneOffset.UTC))) {
+            first.authenticate();
+            Thread.sleep(200);
+            verify(firstClient, times(1)).getToken(any());
+        }
+
+        AuthClient secondClient = mock(AuthClient.class);
+        authManager = new AuthManager(API_TOKEN, SERVICE, ENVIRONMENT, secondClient,
+                new EncryptedFileTokenCache(dir, API_TOKEN), Clock.fixed(now.plus(Duration.ofMinutes(30)), ZoneOffset.UTC));
+
+        assertEquals(token, authManager.authenticate().getJwt());
+        verify(secondClient, times(0)).getToken(any());
+    }
+
+    @Test
+    @DisplayName("Should keep cached tokens encrypted and unreadable with another API token")
+    void shouldEncryptCache(@TempDir Path dir) throws IOException {
+        Instant now = Instant.parse("2026-03-04T05:06:07Z");
+        String token = jwt(now, now.plusSeconds(3600));
+        new EncryptedFileTokenCache(dir, API_TOKEN)
+                .store(SERVICE, ENVIRONMENT, new TokenCache.Entry(response(token), now));
+
+        try (Stream<Path> files = Files.list(dir)) {
+            Path file = files.findFirst().orElseThrow(IllegalStateException::new);
+            String content = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+            assertFalse(content.contains(token));
+            assertFalse(content.contains(SERVICE));
+        }
+
+        assertEquals(token, new EncryptedFileTokenCache(dir, API_TOKEN).load(SERVICE, ENVIRONMENT)
+                .map(entry -> entry.getResponse().getJwt()).orElse(null));
+        assertEquals(now, new EncryptedFileTokenCache(dir, API_TOKEN).load(SERVICE, ENVIRONMENT)
+                .map(TokenCache.Entry::getObtainedAt).orElse(null));
+        assertFalse(new EncryptedFileTokenCache(dir, "rotated-api-token").load(SERVICE, ENVIRONMENT).isPresent());
+        assertFalse(new EncryptedFileTokenCache(dir, API_TOKEN).load(SERVICE, "other-environment").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should read iat and exp from the token payload")
+    void shouldParseClaims() {
+        Instant issuedAt = Instant.parse("2026-03-04T05:06:07Z");
+        JwtClaims claims = JwtClaims.parse(jwt(issuedAt, issuedAt.plusSeconds(300))).orElseThrow(IllegalStateException::new);
+
+        assertEquals(issuedAt, claims.getIssuedAt().orElse(null));
+        assertEquals(issuedAt.plusSeconds(300), claims.getExpiresAt());
+        assertFalse(JwtClaims.parse("not-a-jwt").isPresent());
+        assertFalse(JwtClaims.parse("a.%%%.c").isPresent());
+    }
+
+    private static String jwt(Instant issuedAt, Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(String.format("{\"iat\":%d,\"exp\":%d}",
+                issuedAt.getEpochSecond(), expiresAt.getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".";
+    }
+
+    private static TokenExchangeResponse response(String jwt) {
+        TokenExchangeResponse response = new TokenExchangeResponse();
+        response.setJwt(jwt);
+        response.setServiceId(3L);
+        response.setEnvironmentId(4L);
+        return response;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
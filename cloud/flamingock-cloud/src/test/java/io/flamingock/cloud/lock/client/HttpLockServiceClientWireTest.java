@@ -19,15 +19,19 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import io.flamingock.cloud.api.response.LockInfoResponse;
 import io.flamingock.cloud.auth.AuthManager;
+import io.flamingock.cloud.transport.ApacheCloudTransport;
+import io.flamingock.cloud.transport.CloudTransport;
+import io.flamingock.cloud.transport.CloudTransportSettings;
 import io.flamingock.internal.core.external.store.lock.LockKey;
 import io.flamingock.internal.util.ServerException;
-import io.flamingock.internal.util.http.Http;
 import io.flamingock.internal.util.id.RunnerId;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+
 import static com.github.tomakehurst.wiremock.client.WireMock.absent;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.delete;
@@ -63,6 +67,7 @@ class HttpLockServiceClientWireTest {
     private static final String LOCK_PATH = "/api/v1/" + LOCK_KEY + "/lock";
 
     private WireMockServer server;
+    private CloudTransport transport;
     private HttpLockServiceClient client;
     private final LockKey lockKey = LockKey.fromString(LOCK_KEY);
     private final RunnerId runnerId = RunnerId.fromString(OWNER);
@@ -75,16 +80,17 @@ class HttpLockServiceClientWireTest {
         AuthManager authManager = mock(AuthManager.class);
         when(authManager.getJwtToken()).thenReturn(JWT);
 
+        transport = new ApacheCloudTransport("http://localhost:" + server.port(), new CloudTransportSettings());
         client = new HttpLockServiceClient(
-                "http://localhost:" + server.port(),
                 API_VERSION,
-                Http.DEFAULT_INSTANCE,
+                transport,
                 authManager
         );
     }
 
     @AfterEach
-    void tearDown() {
+    void tearDown() throws IOException {
+        transport.close();
         server.stop();
     }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.planner;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AwaitBackoffTest {
+
+    @Test
+    @DisplayName("Should double the step on each delay, drawing from its upper half, and cap it")
+    void shouldGrowWithJitterUpToMax() {
+        AwaitBackoff backoff = new AwaitBackoff(100, 1000, new Random(42));
+        long[] steps = {100, 200, 400, 800, 1000, 1000};
+        for (long step : steps) {
+            long delay = backoff.nextDelayMillis();
+            assertTrue(delay >= step / 2 && delay <= step, "delay " + delay + " outside [" + step / 2 + ", " + step + "]");
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread runners that back off at the same moment")
+    void shouldSpreadConcurrentRunners() {
+        Random random = new Random(7);
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < 20; i++) {
+            long delay = new AwaitBackoff(1000, 1000, random).nextDelayMillis();
+            min = Math.min(min, delay);
+            max = Math.max(max, delay);
+        }
+        assertTrue(max - min >= 100, "20 runners should not retry in lockstep");
+    }
+
+    @Test
+    @DisplayName("Should start over from the base step after reset")
+    void shouldRestartAfterReset() {
+        AwaitBackoff backoff = new AwaitBackoff(100, 10_000, new Random(1));
+        for (int i = 0; i < 5; i++) {
+            backoff.nextDelayMillis();
+        }
+        backoff.reset();
+        long delay = backoff.nextDelayMillis();
+        assertTrue(delay >= 50 && delay <= 100);
+    }
+
+    @Test
+    @DisplayName("Should never exceed the cap, however many attempts")
+    void shouldNotOverflow() {
+        AwaitBackoff backoff = new AwaitBackoff(100, 2000, new Random(3));
+        long max = 0;
+        for (int i = 0; i < 100; i++) {
+            max = Math.max(max, backoff.nextDelayMillis());
+        }
+        assertTrue(max <= 2000);
+    }
+}
@@ -38,6 +38,8 @@ import org.junit.jupiter.api.Test;
 import io.flamingock.cloud.api.request.ExecutionPlanRequest;
 import io.flamingock.cloud.api.request.ChangeRequest;
 import io.flamingock.cloud.api.request.StageRequest;
+import io.flamingock.cloud.api.request.StageStateRequest;
+import io.flamingock.cloud.api.request.ChangeStateRequest;
 import io.flamingock.cloud.api.vo.CloudChangeStatus;
 import io.flamingock.cloud.api.vo.CloudStageStatus;
 import io.flamingock.cloud.api.vo.CloudTargetSystemAuditMarkType;
@@ -367,6 +369,43 @@ class CloudExecutionPlanMapperTest {
         assertTrue(request.getClientSubmission().getBlocks().isEmpty());
     }
 
+    @Test
+    @DisplayName("pipelineHash() depends on the pipeline structure only, not on status or marks")
+    void pipelineHashIgnoresRuntimeState() {
+        PipelineRun fresh = PipelineRun.of(Collections.singletonList(buildStage("stage-1", change1, change2)));
+        PipelineRun progressed = PipelineRun.of(Collections.singletonList(buildStage("stage-1", change1, change2)));
+        progressed.markStageAlreadyAppliedFromAudit("stage-1", Collections.singletonList(change1.getId()));
+        Map<String, TargetSystemAuditMarkType> marks = new HashMap<>();
+        marks.put(change2.getId(), TargetSystemAuditMarkType.APPLIED);
+
+        String freshHash = CloudExecutionPlanMapper.pipelineHash(
+                CloudExecutionPlanMapper.toRequest(fresh, 60000L, Collections.emptyMap()));
+        String progressedHash = CloudExecutionPlanMapper.pipelineHash(
+                CloudExecutionPlanMapper.toRequest(progressed, 30000L, marks));
+        String reorderedHash = CloudExecutionPlanMapper.pipelineHash(CloudExecutionPlanMapper.toRequest(
+                PipelineRun.of(Collections.singletonList(buildStage("stage-1", change2, change1))), 60000L, Collections.emptyMap()));
+
+        assertEquals(64, freshHash.length());
+        assertEquals(freshHash, progressedHash);
+        assertNotEquals(freshHash, reorderedHash);
+    }
+
+    @Test
+    @DisplayName("toStageStates() keeps every stage but only the changes past NOT_REACHED")
+    void toStageStatesIsSparse() {
+        PipelineRun pipelineRun = PipelineRun.of(Collections.singletonList(buildStage("stage-1", change1, change2)));
+        pipelineRun.markStageAlreadyAppliedFromAudit("stage-1", Collections.singletonList(change1.getId()));
+        ExecutionPlanRequest request = CloudExecutionPlanMapper.toRequest(pipelineRun, 60000L, Collections.emptyMap());
+
+        List<StageStateRequest> states = CloudExecutionPlanMapper.toStageStates(request);
+
+        assertEquals(1, states.size());
+        assertEquals("stage-1", states.get(0).getName());
+        assertEquals(Collections.singletonList(
+                        new ChangeStateRequest(change1.getId(), CloudChangeStatus.ALREADY_APPLIED)),
+                states.get(0).getChanges());
+    }
+
     private static DefaultLoadedStage buildStage(String name, AbstractLoadedChange... changes) {
         return new DefaultLoadedStage(name, StageType.DEFAULT, Arrays.asList(changes));
     }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.planner;
+
+import io.flamingock.api.StageType;
+import io.flamingock.cloud.api.vo.CloudExecutionAction;
+import io.flamingock.cloud.api.vo.CloudTargetSystemAuditMarkType;
+import io.flamingock.cloud.auth.AuthManager;
+import io.flamingock.cloud.lock.CloudLockService;
+import io.flamingock.cloud.planner.client.HttpExecutionPlannerClient;
+import io.flamingock.cloud.transport.ApacheCloudTransport;
+import io.flamingock.cloud.transport.CloudTransport;
+import io.flamingock.cloud.transport.CloudTransportSettings;
+import io.flamingock.common.test.cloud.MockRunnerServer;
+import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
+import io.flamingock.internal.core.change.loaded.AbstractLoadedChange;
+import io.flamingock.internal.core.configuration.core.CoreConfigurable;
+import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
+import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
+import io.flamingock.internal.core.pipeline.loaded.stage.AbstractLoadedStage;
+import io.flamingock.internal.core.pipeline.loaded.stage.DefaultLoadedStage;
+import io.flamingock.internal.core.pipeline.run.PipelineRun;
+import io.flamingock.internal.util.TimeService;
+import io.flamingock.internal.util.id.EnvironmentId;
+import io.flamingock.internal.util.id.RunnerId;
+import io.flamingock.internal.util.id.ServiceId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.flamingock.cloud.api.vo.CloudExecutionAction.AWAIT;
+import static io.flamingock.cloud.api.vo.CloudExecutionAction.CONTINUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Drives three planner rounds over a 1000-change pipeline against {@link MockRunnerServer}, with
+ * the audit marks changing between rounds, and compares the request bytes of full and
+ * conditional requests. Either way the server must resolve the same marks for every request.
+ */
+class CloudExecutionPlannerConditionalRequestTest {
+
+    private static final int STAGES = 10;
+    private static final int CHANGES_PER_STAGE = 100;
+
+    private static final CloudExecutionAction[] SCRIPT = {
+            AWAIT, AWAIT, AWAIT, CONTINUE,
+            AWAIT, AWAIT, CONTINUE,
+            AWAIT, CONTINUE
+    };
+
+    private static final List<Set<TargetSystemAuditMark>> MARKS_PER_ROUND = Arrays.asList(
+            marks(mark("stage-00-change-000", TargetSystemAuditMarkType.APPLIED),
+                    mark("stage-00-change-001", TargetSystemAuditMarkType.APPLIED)),
+            marks(mark("stage-00-change-001", TargetSystemAuditMarkType.APPLIED),
+                    mark("stage-05-change-050", TargetSystemAuditMarkType.ROLLED_BACK)),
+            marks());
+
+    private static List<AbstractLoadedStage> stages;
+
+    private MockRunnerServer server;
+    private CloudTransport transport;
+
+    @BeforeAll
+    static void setupPipeline() {
+        stages = new ArrayList<>();
+        for (int s = 0; s < STAGES; s++) {
+            List<AbstractLoadedChange> changes = new ArrayList<>();
+            for (int c = 0; c < CHANGES_PER_STAGE; c++) {
+                AbstractLoadedChange change = mock(AbstractLoadedChange.class, withSettings().stubOnly());
+                when(change.getId()).thenReturn(String.format("stage-%02d-change-%03d", s, c));
+                when(change.isTransactional()).thenReturn(c % 2 == 0);
+                changes.add(change);
+            }
+            stages.add(new DefaultLoadedStage("stage-" + s, StageType.DEFAULT, changes));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (transport != null) {
+            transport.close();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send the pipeline once and only state and mark deltas afterwards, resolving the same marks")
+    void conditionalRequestsShouldShrinkRequestBytes() throws IOException {
+        long fullBytes = runRounds(false, false);
+        List<Map<String, CloudTargetSystemAuditMarkType>> fullMarks = server.getResolvedAuditMarks();
+        int fullRequests = server.countExecutionRequests();
+        tearDown();
+
+        long conditionalBytes = runRounds(true, false);
+        List<Map<String, CloudTargetSystemAuditMarkType>> conditionalMarks = server.getResolvedAuditMarks();
+
+        assertEquals(fullRequests, server.countExecutionRequests());
+        assertEquals(expectedMarksPerRequest(), fullMarks);
+        assertEquals(fullMarks, conditionalMarks);
+        assertTrue(conditionalBytes * 4 < fullBytes,
+                "request bytes per run: conditional " + conditionalBytes + " vs full " + fullBytes);
+    }
+
+    @Test
+    @DisplayName("Should resend the pipeline in full when the server no longer knows it")
+    void shouldResendInFullWhenServerLostDescriptor() throws IOException {
+        runRounds(true, true);
+
+        // one conditional request is rejected with 412 and repeated in full
+        assertEquals(SCRIPT.length + 1, server.countExecutionRequests());
+        assertEquals(expectedMarksPerRequest(), server.getResolvedAuditMarks());
+    }
+
+    private long runRounds(boolean conditionalRequests, boolean forgetAfterFirstRound) throws IOException {
+        int port = freePort();
+        server = new MockRunnerServer()
+                .setServerPort(port)
+                .withScriptedExecutionPlans(conditionalRequests, SCRIPT);
+        server.start();
+        transport = new ApacheCloudTransport("http://localhost:" + port, new CloudTransportSettings());
+
+        CoreConfigurable config = mock(CoreConfigurable.class);
+        when(config.getLockAcquiredForMillis()).thenReturn(60_000L);
+        when(config.getLockQuitTryingAfterMillis()).thenReturn(30_000L);
+        when(config.getLockTryFrequencyMillis()).thenReturn(5L);
+        TargetSystemAuditMarker marker = mock(TargetSystemAuditMarker.class);
+
+        RunnerId runnerId = RunnerId.fromString("runner-1");
+        CloudExecutionPlanner planner = new CloudExecutionPlanner(
+                runnerId,
+                new HttpExecutionPlannerClient(EnvironmentId.fromLong(4L), ServiceId.fromLong(3L), runnerId,
+                        "v1", transport, mock(AuthManager.class)),
+                config,
+                mock(CloudLockService.class),
+                Collections.singletonList(marker),
+                TimeService.getDefault());
+
+        PipelineRun run = PipelineRun.of(stages);
+        for (int round = 0; round < MARKS_PER_ROUND.size(); round++) {
+            when(marker.listAll()).thenReturn(MARKS_PER_ROUND.get(round));
+            planner.getNextExecution(run);
+            if (round == 0 && forgetAfterFirstRound) {
+                server.forgetPipelineDescriptors();
+            }
+        }
+        return server.countExecutionRequestBytes();
+    }
+
+    /**
+     * Each round's marks stay the same for every request of that round.
+     */
+    private static List<Map<String, CloudTargetSystemAuditMarkType>> expectedMarksPerRequest() {
+        int[] requestsPerRound = {4, 3, 2};
+        List<Map<String, CloudTargetSystemAuditMarkType>> expected = new ArrayList<>();
+        for (int round = 0; round < requestsPerRound.length; round++) {
+            Map<String, CloudTargetSystemAuditMarkType> marks = new HashMap<>();
+            for (TargetSystemAuditMark mark : MARKS_PER_ROUND.get(round)) {
+                marks.put(mark.getChangeId(), CloudTargetSystemAuditMarkType.valueOf(mark.getOperation().name()));
+            }
+            for (int i = 0; i < requestsPerRound[round]; i++) {
+                expected.add(marks);
+            }
+        }
+        return expected;
+    }
+
+    private static Set<TargetSystemAuditMark> marks(TargetSystemAuditMark... marks) {
+        return new HashSet<>(Arrays.asList(marks));
+    }
+
+    private static TargetSystemAuditMark mark(String changeId, TargetSystemAuditMarkType type) {
+        return new TargetSystemAuditMark(changeId, type);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.planner;
+
+import io.flamingock.api.StageType;
+import io.flamingock.cloud.auth.AuthManager;
+import io.flamingock.cloud.lock.CloudLockService;
+import io.flamingock.cloud.planner.client.HttpExecutionPlannerClient;
+import io.flamingock.cloud.transport.ApacheCloudTransport;
+import io.flamingock.cloud.transport.CloudTransport;
+import io.flamingock.cloud.transport.CloudTransportSettings;
+import io.flamingock.common.test.cloud.MockRunnerServer;
+import io.flamingock.core.cloud.changes._001__CloudChange1;
+import io.flamingock.internal.core.change.loaded.AbstractLoadedChange;
+import io.flamingock.internal.core.change.loaded.LoadedChangeBuilder;
+import io.flamingock.internal.core.configuration.core.CoreConfigurable;
+import io.flamingock.internal.core.pipeline.loaded.stage.AbstractLoadedStage;
+import io.flamingock.internal.core.pipeline.loaded.stage.DefaultLoadedStage;
+import io.flamingock.internal.core.pipeline.run.PipelineRun;
+import io.flamingock.internal.core.plan.ExecutionPlan;
+import io.flamingock.internal.util.TimeService;
+import io.flamingock.internal.util.id.EnvironmentId;
+import io.flamingock.internal.util.id.RunnerId;
+import io.flamingock.internal.util.id.ServiceId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs {@value #RUNNERS} planners against {@link MockRunnerServer} while the lock is held by
+ * another runner, and compares how late they learn it was released and how many requests they
+ * send, with and without long polling.
+ */
+class CloudExecutionPlannerLongPollTest {
+
+    private static final int RUNNERS = 20;
+    private static final long RELEASE_AFTER_MILLIS = 1500L;
+    private static final long TRY_FREQUENCY_MILLIS = 1000L;
+
+    private static AbstractLoadedChange change;
+
+    private MockRunnerServer server;
+    private CloudTransport transport;
+
+    @BeforeAll
+    static void setupChanges() {
+        change = LoadedChangeBuilder.getCodeBuilderInstance(_001__CloudChange1.class).build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (transport != null) {
+            transport.close();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should learn about the release sooner and with fewer requests when the server long-polls")
+    void longPollShouldReduceWaitLatencyAndRequests() throws Exception {
+        Outcome polling = contend(false, 0L);
+        tearDown();
+        Outcome longPolling = contend(true, 20_000L);
+
+        assertEquals(0, polling.longPollRequests);
+        assertTrue(longPolling.requests < polling.requests,
+                "long-poll requests " + longPolling.requests + " vs polling " + polling.requests);
+        assertTrue(longPolling.requests <= 2 * RUNNERS, "long-poll requests " + longPolling.requests);
+        assertTrue(longPolling.meanLatencyMillis * 2 < polling.meanLatencyMillis,
+                "long-poll mean latency " + longPolling.meanLatencyMillis + "ms vs polling " + polling.meanLatencyMillis + "ms");
+        assertTrue(longPolling.maxLatencyMillis < polling.meanLatencyMillis,
+                "long-poll max latency " + longPolling.maxLatencyMillis + "ms vs polling mean " + polling.meanLatencyMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("Should fall back to polling, asking to long-poll once per runner, when the server does not support it")
+    void shouldFallBackToPollingOnServerWithoutLongPoll() throws Exception {
+        Outcome outcome = contend(false, 20_000L);
+
+        assertEquals(RUNNERS, outcome.longPollRequests);
+        // one request before the release, one per poll afterwards until it is observed
+        assertTrue(outcome.requests >= 2 * RUNNERS, "requests " + outcome.requests);
+    }
+
+    private Outcome contend(boolean serverLongPoll, long clientLongPollMillis) throws Exception {
+        int port = freePort();
+        server = new MockRunnerServer()
+                .setServerPort(port)
+                .withContendedLock(RELEASE_AFTER_MILLIS, serverLongPoll);
+        transport = new ApacheCloudTransport("http://localhost:" + port,
+                new CloudTransportSettings().setMaxConnections(RUNNERS * 2));
+
+        CoreConfigurable config = mock(CoreConfigurable.class);
+        when(config.getLockAcquiredForMillis()).thenReturn(60_000L);
+        when(config.getLockQuitTryingAfterMillis()).thenReturn(30_000L);
+        when(config.getLockTryFrequencyMillis()).thenReturn(TRY_FREQUENCY_MILLIS);
+        AuthManager authManager = mock(AuthManager.class);
+
+        server.start();
+        ExecutorService executor = Executors.newFixedThreadPool(RUNNERS);
+        try {
+            CountDownLatch ready = new CountDownLatch(RUNNERS);
+            List<Future<Long>> observedAt = new ArrayList<>();
+            for (int i = 0; i < RUNNERS; i++) {
+                RunnerId runnerId = RunnerId.fromString("runner-" + i);
+                CloudExecutionPlanner planner = new CloudExecutionPlanner(
+                        runnerId,
+                        new HttpExecutionPlannerClient(EnvironmentId.fromLong(4L), ServiceId.fromLong(3L), runnerId,
+                                "v1", transport, authManager),
+                        config,
+                        mock(CloudLockService.class),
+                        Collections.emptyList(),
+                        TimeService.getDefault(),
+                        clientLongPollMillis);
+                observedAt.add(executor.submit(() -> {
+                    List<AbstractLoadedStage> stages = Collections.singletonList(
+                            new DefaultLoadedStage("stage-1", StageType.DEFAULT, Collections.singletonList(change)));
+                    ready.countDown();
+                    ready.await();
+                    ExecutionPlan plan = planner.getNextExecution(PipelineRun.of(stages));
+                    assertFalse(plan.isExecutionRequired());
+                    return System.currentTimeMillis();
+                }));
+            }
+
+            long releaseAt = server.getContendedLockReleaseAtMillis();
+            long totalLatency = 0;
+            long maxLatency = 0;
+            for (Future<Long> future : observedAt) {
+                long latency = Math.max(0L, future.get(30, TimeUnit.SECONDS) - releaseAt);
+                totalLatency += latency;
+                maxLatency = Math.max(maxLatency, latency);
+            }
+            return new Outcome(totalLatency / RUNNERS, maxLatency,
+                    server.countExecutionRequests(), server.countLongPollRequests());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static final class Outcome {
+        private final long meanLatencyMillis;
+        private final long maxLatencyMillis;
+        private final int requests;
+        private final int longPollRequests;
+
+        private Outcome(long meanLatencyMillis, long maxLatencyMillis, int requests, int longPollRequests) {
+            this.meanLatencyMillis = meanLatencyMillis;
+            this.maxLatencyMillis = maxLatencyMillis;
+            this.requests = requests;
+            this.longPollRequests = longPollRequests;
+        }
+    }
+}
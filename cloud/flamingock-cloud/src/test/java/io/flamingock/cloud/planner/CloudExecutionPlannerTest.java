@@ -21,6 +21,7 @@ import io.flamingock.cloud.api.request.ChangeRequest;
 import io.flamingock.cloud.api.response.ChangeResponse;
 import io.flamingock.cloud.api.response.ChangeResultResponse;
 import io.flamingock.cloud.api.response.ExecutionPlanResponse;
+import io.flamingock.cloud.api.response.LockInfoResponse;
 import io.flamingock.cloud.api.response.PipelineResultResponse;
 import io.flamingock.cloud.api.response.StageResponse;
 import io.flamingock.cloud.api.response.StageResultResponse;
@@ -54,6 +55,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -63,8 +65,10 @@ import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -149,6 +153,115 @@ class CloudExecutionPlannerTest {
         assertEquals("user-b", blocks.get(2).getStages().get(1).getName());
     }
 
+    @Test
+    @DisplayName("Should fall back to polling when the server does not acknowledge the long-poll request")
+    void shouldFallBackToPollingWhenServerIgnoresLongPoll() {
+        CloudExecutionPlanner planner = new CloudExecutionPlanner(
+                RunnerId.fromString("test-runner"),
+                client,
+                config,
+                mock(CloudLockService.class),
+                Collections.emptyList(),
+                TimeService.getDefault(),
+                20000L);
+        when(config.getLockTryFrequencyMillis()).thenReturn(50L);
+
+        LockInfoResponse lockInfo = new LockInfoResponse();
+        lockInfo.setKey("test-key");
+        lockInfo.setOwner("other-runner");
+        lockInfo.setAcquisitionId("acq-1");
+        lockInfo.setAcquiredForMillis(60000L);
+        // no heldMillis: the server predates long polling
+        ExecutionPlanResponse await = new ExecutionPlanResponse(CloudExecutionAction.AWAIT, null, lockInfo);
+        when(client.createExecution(any(), any(), anyLong(), anyLong())).thenReturn(await);
+
+        ExecutionPlanResponse continueResponse = new ExecutionPlanResponse();
+        continueResponse.setAction(CloudExecutionAction.CONTINUE);
+        continueResponse.setPipelineResult(pipelineResultUpToDate("stage-1"));
+        when(client.createExecution(any(), any(), anyLong())).thenReturn(continueResponse);
+
+        List<AbstractLoadedStage> stages = Collections.singletonList(
+                new DefaultLoadedStage("stage-1", StageType.DEFAULT, Collections.singletonList(change1)));
+        ExecutionPlan plan = planner.getNextExecution(PipelineRun.of(stages));
+
+        assertFalse(plan.isExecutionRequired());
+        verify(client).createExecution(any(), any(), anyLong(), eq(20000L));
+        verify(client).createExecution(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should ask to long-poll again on the next wait after falling back to polling")
+    void shouldProbeLongPollAgainOnNextWait() {
+        CloudExecutionPlanner planner = new CloudExecutionPlanner(
+                RunnerId.fromString("test-runner"),
+                client,
+                config,
+                mock(CloudLockService.class),
+                Collections.emptyList(),
+                TimeService.getDefault(),
+                20000L);
+        when(config.getLockTryFrequencyMillis()).thenReturn(50L);
+
+        LockInfoResponse lockInfo = new LockInfoResponse();
+        lockInfo.setKey("test-key");
+        lockInfo.setOwner("other-runner");
+        lockInfo.setAcquisitionId("acq-1");
+        lockInfo.setAcquiredForMillis(60000L);
+        ExecutionPlanResponse await = new ExecutionPlanResponse(CloudExecutionAction.AWAIT, null, lockInfo);
+        ExecutionPlanResponse continueResponse = new ExecutionPlanResponse();
+        continueResponse.setAction(CloudExecutionAction.CONTINUE);
+        continueResponse.setPipelineResult(pipelineResultUpToDate("stage-1"));
+        // the first wait meets a server without long polling, the second one an upgraded server
+        when(client.createExecution(any(), any(), anyLong(), anyLong())).thenReturn(await, continueResponse);
+        when(client.createExecution(any(), any(), anyLong())).thenReturn(continueResponse);
+
+        List<AbstractLoadedStage> stages = Collections.singletonList(
+                new DefaultLoadedStage("stage-1", StageType.DEFAULT, Collections.singletonList(change1)));
+        assertFalse(planner.getNextExecution(PipelineRun.of(stages)).isExecutionRequired());
+        assertFalse(planner.getNextExecution(PipelineRun.of(stages)).isExecutionRequired());
+
+        verify(client, times(2)).createExecution(any(), any(), anyLong(), eq(20000L));
+        verify(client, times(1)).createExecution(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should ask again straight away after the server held an AWAIT")
+    void shouldRequestAgainWithoutSleepingAfterHeldAwait() {
+        CloudExecutionPlanner planner = new CloudExecutionPlanner(
+                RunnerId.fromString("test-runner"),
+                client,
+                config,
+                mock(CloudLockService.class),
+                Collections.emptyList(),
+                TimeService.getDefault(),
+                20000L);
+        // would be noticeable if the planner slept between requests
+        when(config.getLockTryFrequencyMillis()).thenReturn(5000L);
+
+        LockInfoResponse lockInfo = new LockInfoResponse();
+        lockInfo.setKey("test-key");
+        lockInfo.setOwner("other-runner");
+        lockInfo.setAcquisitionId("acq-1");
+        lockInfo.setAcquiredForMillis(60000L);
+        ExecutionPlanResponse heldAwait = new ExecutionPlanResponse(CloudExecutionAction.AWAIT, null, lockInfo);
+        heldAwait.setHeldMillis(20000L);
+        ExecutionPlanResponse continueResponse = new ExecutionPlanResponse();
+        continueResponse.setAction(CloudExecutionAction.CONTINUE);
+        continueResponse.setPipelineResult(pipelineResultUpToDate("stage-1"));
+        continueResponse.setHeldMillis(0L);
+        when(client.createExecution(any(), any(), anyLong(), anyLong())).thenReturn(heldAwait, heldAwait, continueResponse);
+
+        List<AbstractLoadedStage> stages = Collections.singletonList(
+                new DefaultLoadedStage("stage-1", StageType.DEFAULT, Collections.singletonList(change1)));
+        long start = System.currentTimeMillis();
+        ExecutionPlan plan = planner.getNextExecution(PipelineRun.of(stages));
+
+        assertFalse(plan.isExecutionRequired());
+        assertTrue(System.currentTimeMillis() - start < 5000L);
+        verify(client, times(3)).createExecution(any(), any(), anyLong(), anyLong());
+        verify(client, never()).createExecution(any(), any(), anyLong());
+    }
+
     @Test
     @DisplayName("Should return ABORT plan when server returns ABORT (regardless of change actions)")
     void shouldReturnAbortPlanWhenServerReturnsAbort() {
@@ -280,8 +393,34 @@ class CloudExecutionPlannerTest {
 
         planner.getNextExecution(PipelineRun.of(stages));
 
-        verify(marker1).clearMark(change1.getId());
-        verify(marker2).clearMark(change2.getId());
+        verify(marker1).clearMarks(Collections.singletonList(change1.getId()));
+        verify(marker2).clearMarks(Collections.singletonList(change2.getId()));
+    }
+
+    @Test
+    @DisplayName("Should clear all synchronized marks of a marker in a single batch")
+    @SuppressWarnings("unchecked")
+    void shouldClearMarksOfSameMarkerInSingleBatch() {
+        TargetSystemAuditMarker marker1 = mock(TargetSystemAuditMarker.class);
+        when(marker1.listAll()).thenReturn(new HashSet<>(Arrays.asList(
+                new TargetSystemAuditMark(change1.getId(), TargetSystemAuditMarkType.APPLIED),
+                new TargetSystemAuditMark(change2.getId(), TargetSystemAuditMarkType.ROLLED_BACK)
+        )));
+
+        CloudExecutionPlanner planner = buildPlanner(Collections.singletonList(marker1));
+
+        ExecutionPlanResponse response = buildSyncResponse(CloudExecutionAction.CONTINUE, true);
+        when(client.createExecution(any(), any(), anyLong())).thenReturn(response);
+
+        List<AbstractLoadedStage> stages = Collections.singletonList(
+                new DefaultLoadedStage("stage-1", StageType.DEFAULT, Arrays.asList(change1, change2)));
+
+        planner.getNextExecution(PipelineRun.of(stages));
+
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(marker1, times(1)).clearMarks(captor.capture());
+        verify(marker1, never()).clearMark(any());
+        assertEquals(new HashSet<>(Arrays.asList(change1.getId(), change2.getId())), new HashSet<>(captor.getValue()));
     }
 
     @Test
@@ -302,6 +441,7 @@ class CloudExecutionPlannerTest {
 
         planner.getNextExecution(PipelineRun.of(stages));
 
+        verify(marker1, never()).clearMarks(any());
         verify(marker1, never()).clearMark(any());
     }
 
@@ -323,7 +463,7 @@ class CloudExecutionPlannerTest {
 
         planner.getNextExecution(PipelineRun.of(stages));
 
-        verify(marker1).clearMark(change1.getId());
+        verify(marker1).clearMarks(Collections.singletonList(change1.getId()));
     }
 
     @Test
@@ -346,7 +486,7 @@ class CloudExecutionPlannerTest {
         planner.getNextExecution(PipelineRun.of(stages));
 
         // Only change1 should be cleared (was in snapshot), not change2
-        verify(marker1).clearMark(change1.getId());
+        verify(marker1).clearMarks(Collections.singletonList(change1.getId()));
         verify(marker1, never()).clearMark(change2.getId());
     }
 
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CloudRequestTest {
+
+    @Test
+    @DisplayName("Should resolve path and query parameters, encoded")
+    void shouldResolvePathAndQuery() {
+        CloudRequest request = CloudRequest.post(CloudEndpoint.EXECUTION_PLAN, "/api/v1/{service}/execution")
+                .pathParameter("service", "my service")
+                .queryParameter("lastAcquisitionId", null)
+                .queryParameter("elapsedMillis", 12L);
+
+        assertEquals("/api/v1/my%20service/execution?elapsedMillis=12", request.resolvePath());
+    }
+}
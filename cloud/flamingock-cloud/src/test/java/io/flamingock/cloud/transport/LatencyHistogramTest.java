@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should report percentiles as the upper bound of their bucket")
+    void shouldReportPercentilesAsBucketUpperBound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(150));
+        histogram.record(TimeUnit.SECONDS.toNanos(40));
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5, histogram.getPercentileMillis(0.5));
+        assertEquals(200, histogram.getPercentileMillis(0.99));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileMillis(1.0));
+        assertEquals(40_000d, histogram.getMaxMillis(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should report zero when nothing was recorded")
+    void shouldReportZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMillis(0.99));
+        assertEquals(0d, histogram.getMeanMillis(), 0d);
+    }
+}
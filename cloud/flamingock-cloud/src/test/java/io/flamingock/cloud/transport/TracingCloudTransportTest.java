@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cloud.transport;
+
+import io.flamingock.internal.core.tracing.FlamingockTracer;
+import io.flamingock.internal.core.tracing.TraceSpan;
+import io.flamingock.internal.core.tracing.Tracing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TracingCloudTransportTest {
+
+    private static final String TRACE_PARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+    @Test
+    @DisplayName("Should send the request in a client span carrying the trace context")
+    void shouldPropagateTraceContext() {
+        RecordingTracer tracer = new RecordingTracer();
+        AtomicReference<CloudRequest> sent = new AtomicReference<>();
+        TracingCloudTransport transport = new TracingCloudTransport(new StubTransport(sent, null), new Tracing(tracer, "cloud"));
+
+        transport.execute(CloudRequest.post(CloudEndpoint.AUDIT_WRITE, "/api/v1/{service}/audit")
+                .pathParameter("service", "orders"));
+
+        assertEquals(FlamingockTracer.SpanKind.CLIENT, tracer.kind);
+        assertEquals(Tracing.CLOUD_REQUEST, tracer.name);
+        assertEquals("audit-write", tracer.span.attributes.get(Tracing.CLOUD_ENDPOINT_ATTRIBUTE));
+        assertEquals("POST", tracer.span.attributes.get(Tracing.HTTP_METHOD_ATTRIBUTE));
+        assertEquals("/api/v1/orders/audit", tracer.span.attributes.get(Tracing.URL_PATH_ATTRIBUTE));
+        assertEquals("cloud", tracer.span.attributes.get(Tracing.AUDIT_STORE_TYPE_ATTRIBUTE));
+        assertEquals(TRACE_PARENT, sent.get().getHeaders().get("traceparent"));
+        assertTrue(tracer.span.closed);
+    }
+
+    @Test
+    @DisplayName("Should fail the span when the request fails")
+    void shouldRecordFailure() {
+        RecordingTracer tracer = new RecordingTracer();
+        IllegalStateException error = new IllegalStateException("unreachable");
+        TracingCloudTransport transport = new TracingCloudTransport(new StubTransport(new AtomicReference<>(), error), new Tracing(tracer, "cloud"));
+
+        assertThrows(IllegalStateException.class,
+                () -> transport.execute(CloudRequest.get(CloudEndpoint.LOCK_INFO, "/api/v1/lock")));
+
+        assertSame(error, tracer.span.failure);
+        assertTrue(tracer.span.closed);
+    }
+
+    private static class StubTransport implements CloudTransport {
+
+        private final AtomicReference<CloudRequest> sent;
+        private final RuntimeException error;
+
+        StubTransport(AtomicReference<CloudRequest> sent, RuntimeException error) {
+            this.sent = sent;
+            this.error = error;
+        }
+
+        @Override
+        public <T> T execute(CloudRequest request, Class<T> responseType) {
+            sent.set(request);
+            if (error != null) {
+                throw error;
+            }
+            return null;
+        }
+
+        @Override
+        public CloudTransportMetrics getMetrics() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class RecordingTracer implements FlamingockTracer {
+
+        private String name;
+        private SpanKind kind;
+        private RecordingSpan span;
+
+        @Override
+        public TraceSpan startSpan(String name, SpanKind kind) {
+            this.name = name;
+            this.kind = kind;
+            this.span = new RecordingSpan();
+            return span;
+        }
+
+        @Override
+        public void injectContext(BiConsumer<String, String> headerSetter) {
+            headerSetter.accept("traceparent", TRACE_PARENT);
+        }
+    }
+
+    private static class RecordingSpan implements TraceSpan {
+
+        private final Map<String, String> attributes = new HashMap<>();
+        private Throwable failure;
+        private boolean closed;
+
+        @Override
+        public TraceSpan setAttribute(String key, String value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void recordFailure(Throwable error) {
+            this.failure = error;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -22,6 +22,9 @@ dependencies {
         //springboot
         api("io.flamingock:flamingock-springboot-integration:${version}")
         api("io.flamingock:flamingock-springboot-test-support:${version}")
+        api("io.flamingock:flamingock-reactive:${version}")
+        api("io.flamingock:flamingock-micrometer:${version}")
+        api("io.flamingock:flamingock-opentelemetry:${version}")
         api("io.flamingock:flamingock-graalvm:${version}")
 
         //mongock
@@ -23,6 +23,7 @@ import io.flamingock.internal.common.core.error.FlamingockException;
 import io.flamingock.internal.core.configuration.community.CommunityConfigurable;
 import io.flamingock.internal.core.external.store.CommunityAuditStore;
 import io.flamingock.internal.core.external.store.audit.community.CommunityAuditPersistence;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
 import io.flamingock.internal.util.Constants;
 import io.flamingock.internal.util.TimeService;
@@ -32,6 +33,8 @@ import io.flamingock.store.couchbase.internal.CouchbaseAuditPersistence;
 import io.flamingock.store.couchbase.internal.CouchbaseLockService;
 import io.flamingock.externalsystem.couchbase.api.CouchbaseExternalSystem;
 
+import java.util.Optional;
+
 public class CouchbaseAuditStore implements CommunityAuditStore {
 
     private final Cluster cluster;
@@ -113,6 +116,12 @@ public class CouchbaseAuditStore implements CommunityAuditStore {
         return persistence;
     }
 
+    @Override
+    public synchronized Optional<CompactableAuditHistory> getCompactableAuditHistory() {
+        getPersistence();
+        return Optional.of(persistence);
+    }
+
     @Override
     public synchronized CommunityLockService getLockService() {
         if (lockService == null) {
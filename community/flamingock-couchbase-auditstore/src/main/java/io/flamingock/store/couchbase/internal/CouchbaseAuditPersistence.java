@@ -20,12 +20,14 @@ import com.couchbase.client.java.Cluster;
 import io.flamingock.internal.common.core.audit.AuditEntry;
 import io.flamingock.internal.core.configuration.community.CommunityConfigurable;
 import io.flamingock.internal.core.external.store.audit.community.AbstractCommunityAuditPersistence;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
 import io.flamingock.internal.util.Result;
 import io.flamingock.internal.util.id.RunnerId;
 
+import java.util.Collection;
 import java.util.List;
 
-public class CouchbaseAuditPersistence extends AbstractCommunityAuditPersistence {
+public class CouchbaseAuditPersistence extends AbstractCommunityAuditPersistence implements CompactableAuditHistory {
 
     private final Cluster cluster;
     private final Bucket bucket;
@@ -61,6 +63,11 @@ public class CouchbaseAuditPersistence extends AbstractCommunityAuditPersistence
         return auditor.getAuditHistory();
     }
 
+    @Override
+    public long deleteAuditEntries(Collection<AuditEntry> entries) {
+        return auditor.deleteAuditEntries(entries);
+    }
+
     @Override
     public Result writeEntry(AuditEntry auditEntry) {
         return auditor.writeEntry(auditEntry);
@@ -16,6 +16,7 @@
 package io.flamingock.store.couchbase.internal;
 
 import com.couchbase.client.core.error.CouchbaseException;
+import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.Collection;
@@ -29,6 +30,7 @@ import io.flamingock.internal.common.core.audit.AuditWriter;
 import io.flamingock.internal.common.couchbase.CouchbaseAuditMapper;
 import io.flamingock.internal.common.couchbase.CouchbaseCollectionHelper;
 import io.flamingock.internal.common.couchbase.CouchbaseCollectionInitializator;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
 import io.flamingock.internal.util.Result;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
 import org.slf4j.Logger;
@@ -37,7 +39,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 
-public class CouchbaseAuditor implements AuditWriter, AuditReader {
+public class CouchbaseAuditor implements AuditWriter, AuditReader, CompactableAuditHistory {
 
     private static final Logger logger = FlamingockLoggerFactory.getLogger("CouchbaseAuditor");
 
@@ -89,6 +91,28 @@ public class CouchbaseAuditor implements AuditWriter, AuditReader {
 
     }
 
+    /**
+     * Removes the given records, each addressed by its {@code executionId#changeId#state}
+     * document key. Records already gone are not counted.
+     */
+    @Override
+    public long deleteAuditEntries(java.util.Collection<AuditEntry> entries) {
+        long removed = 0L;
+        for (AuditEntry entry : entries) {
+            String key = toKey(entry);
+            try {
+                collection.remove(key);
+                removed++;
+            } catch (DocumentNotFoundException e) {
+                logger.debug("Audit entry with key {} already removed", key);
+            } catch (CouchbaseException couchbaseException) {
+                logger.warn("Error removing audit entry with key {}", key, couchbaseException);
+                throw new RuntimeException(couchbaseException);
+            }
+        }
+        return removed;
+    }
+
     private String toKey(AuditEntry auditEntry) {
         return auditEntry.getExecutionId() +
                 '#' +
@@ -15,6 +15,7 @@
  */
 package io.flamingock.store.dynamodb;
 
+import io.flamingock.core.journal.JournalRetentionPolicy;
 import io.flamingock.internal.common.core.audit.AuditPersistenceFactory;
 import io.flamingock.internal.common.core.audit.AuditReader;
 import io.flamingock.internal.common.core.context.ContextResolver;
@@ -24,6 +25,7 @@ import io.flamingock.internal.core.configuration.community.CommunityConfigurable
 import io.flamingock.internal.core.external.store.CommunityAuditStore;
 import io.flamingock.internal.core.external.store.audit.community.CommunityAuditPersistence;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
+import io.flamingock.internal.core.journal.JournalCompactor;
 import io.flamingock.internal.core.journal.JournalEventSequencer;
 import io.flamingock.internal.core.journal.JournalEventSequencerFactory;
 import io.flamingock.internal.util.Constants;
@@ -35,12 +37,15 @@ import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.store.dynamodb.internal.DynamoDBAuditPersistence;
 import io.flamingock.store.dynamodb.internal.DynamoDBAuditRepository;
 import io.flamingock.store.dynamodb.internal.DynamoDBJournalEventStore;
+import io.flamingock.store.dynamodb.internal.DynamoDBJournalSequenceAllocator;
 import io.flamingock.store.dynamodb.internal.DynamoDBLockService;
 import io.flamingock.externalsystem.dynamodb.api.DynamoDBExternalSystem;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 public class DynamoDBAuditStore implements CommunityAuditStore {
 
+    private static final String JOURNAL_SEQUENCES_SUFFIX = "Sequences";
+
     private final DynamoDBExternalSystem targetSystem;
 
     private RunnerId runnerId;
@@ -57,6 +62,9 @@ public class DynamoDBAuditStore implements CommunityAuditStore {
     private DynamoDBAuditRepository auditRepository;
     private DynamoDBJournalEventStore journalEventStore;
     private JournalEventSequencerFactory journalEventSequencerFactory;
+    private JournalRetentionPolicy journalRetentionPolicy;
+    private JournalCompactor journalCompactor;
+    private int journalSequenceBlockSize = 0;
 
     private DynamoDBAuditStore(DynamoDBExternalSystem targetSystem) {
         this.targetSystem = targetSystem;
@@ -96,6 +104,27 @@ public class DynamoDBAuditStore implements CommunityAuditStore {
         return this;
     }
 
+    /**
+     * Enables the background compaction of acknowledged journal events. Only takes effect while journal
+     * events are enabled.
+     */
+    public DynamoDBAuditStore withJournalRetentionPolicy(JournalRetentionPolicy journalRetentionPolicy) {
+        this.journalRetentionPolicy = journalRetentionPolicy;
+        return this;
+    }
+
+    /**
+     * Lets several writers append to the same journal stream without contending on its key: each writer reserves
+     * {@code blockSize} positions at a time from a counter table ({@code <journalRepositoryName>Sequences}) and
+     * hands them out in memory. Stream positions then stay unique but may have gaps and are only ordered per
+     * writer. {@code 0}, the default, keeps the contiguous single-writer sequence. Only takes effect while
+     * journal events are enabled.
+     */
+    public DynamoDBAuditStore withJournalSequenceBlockSize(int journalSequenceBlockSize) {
+        this.journalSequenceBlockSize = journalSequenceBlockSize;
+        return this;
+    }
+
     public DynamoDBAuditStore withReadCapacityUnits(long readCapacityUnits) {
         this.readCapacityUnits = readCapacityUnits;
         return this;
@@ -122,7 +151,15 @@ public class DynamoDBAuditStore implements CommunityAuditStore {
                 readCapacityUnits,
                 writeCapacityUnits
         );
-        journalEventSequencerFactory = new JournalEventSequencerFactory(journalEventStore);
+        if (journalSequenceBlockSize > 0 && FeatureFlag.isEnabled(Features.JOURNAL_EVENTS, false)) {
+            DynamoDBJournalSequenceAllocator sequenceAllocator = new DynamoDBJournalSequenceAllocator(
+                    client, journalRepositoryName + JOURNAL_SEQUENCES_SUFFIX, readCapacityUnits, writeCapacityUnits);
+            sequenceAllocator.initialize(autoCreate);
+            journalEventSequencerFactory = new JournalEventSequencerFactory(
+                    journalEventStore, sequenceAllocator, journalSequenceBlockSize);
+        } else {
+            journalEventSequencerFactory = new JournalEventSequencerFactory(journalEventStore);
+        }
 
         lockService = new DynamoDBLockService(
             client,
@@ -133,6 +170,13 @@ public class DynamoDBAuditStore implements CommunityAuditStore {
         );
         lockService.initialize(autoCreate);
         this.validate();
+        if (journalRetentionPolicy != null && FeatureFlag.isEnabled(Features.JOURNAL_EVENTS, false)) {
+            // Compaction reads through the table handle, which only exists once the store is initialized
+            journalEventStore.initialize(autoCreate);
+            // Block-reserved sequences have gaps and are not ordered across writers
+            journalCompactor = new JournalCompactor(journalEventStore, journalRetentionPolicy, journalSequenceBlockSize <= 0);
+            journalCompactor.start();
+        }
     }
 
     @Override
@@ -162,6 +206,15 @@ public class DynamoDBAuditStore implements CommunityAuditStore {
         return () -> auditRepository.getAuditHistory();
     }
 
+    @Override
+    public Runnable getCloser() {
+        return () -> {
+            if (journalCompactor != null) {
+                journalCompactor.close();
+            }
+        };
+    }
+
     @Override
     public synchronized CommunityLockService getLockService() {
         return lockService;
@@ -193,6 +246,10 @@ public class DynamoDBAuditStore implements CommunityAuditStore {
             throw new FlamingockException("The 'writeCapacityUnits' property must be greater than zero.");
         }
 
+        if (journalSequenceBlockSize < 0) {
+            throw new FlamingockException("The 'journalSequenceBlockSize' property must not be negative.");
+        }
+
         if (auditRepositoryName.trim().equalsIgnoreCase(lockRepositoryName.trim())) {
             throw new FlamingockException("The 'auditRepositoryName' and 'lockRepositoryName' properties must not be the same.");
         }
@@ -18,6 +18,7 @@ package io.flamingock.store.dynamodb.internal;
 import io.flamingock.internal.common.core.audit.AuditEntry;
 import io.flamingock.internal.common.core.feature.Features;
 import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.core.journal.CompactableJournalEventStore;
 import io.flamingock.internal.core.journal.JournalEventStore;
 import io.flamingock.internal.util.FeatureFlag;
 import io.flamingock.internal.util.Result;
@@ -41,7 +42,10 @@ import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhanced
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
 import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
@@ -51,8 +55,11 @@ import software.amazon.awssdk.services.dynamodb.model.Projection;
 import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -64,6 +71,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * DynamoDB implementation of the local journal ({@code flamingockJournalEvents}).
@@ -83,11 +91,17 @@ import java.util.Optional;
  * conditional put on the shared transaction builder so the event lands in the same transaction as the audit
  * entry it mirrors, and a transaction-request builder has no place in a core interface. Only
  * {@link DynamoDBAuditPersistence} — which owns that transaction boundary — calls it.
+ * <p>
+ * Compaction reads a stream with ranged queries on the base key and deletes through {@code BatchWriteItem}, at
+ * most {@value #BATCH_WRITE_LIMIT} items per request.
  */
-public class DynamoDBJournalEventStore implements JournalEventStore {
+public class DynamoDBJournalEventStore implements CompactableJournalEventStore {
 
     private static final Logger logger = FlamingockLoggerFactory.getLogger("DynamoDBJournal");
 
+    static final int BATCH_WRITE_LIMIT = 25;
+    private static final int MAX_UNPROCESSED_RETRIES = 5;
+
     private final DynamoDBUtil dynamoDBUtil;
     private final String tableName;
     private final long readCapacityUnits;
@@ -252,6 +266,119 @@ public class DynamoDBJournalEventStore implements JournalEventStore {
         }
     }
 
+    @Override
+    public Set<String> getStreamIds() {
+        Set<String> streamIds = new LinkedHashSet<>();
+        if (table == null) {
+            return streamIds;
+        }
+        Map<String, String> names = Collections.singletonMap("#s", JournalEventFieldConstants.KEY_STREAM_ID);
+        Map<String, AttributeValue> startKey = null;
+        do {
+            ScanResponse response = dynamoDBUtil.getDynamoDBClient().scan(ScanRequest.builder()
+                    .tableName(tableName)
+                    .projectionExpression("#s")
+                    .expressionAttributeNames(names)
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                streamIds.add(item.get(JournalEventFieldConstants.KEY_STREAM_ID).s());
+            }
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (startKey != null);
+        return streamIds;
+    }
+
+    @Override
+    public List<JournalEvent<AuditEntry>> getEvents(String streamId, long fromSequence, int limit) {
+        List<JournalEvent<AuditEntry>> events = new ArrayList<>();
+        if (table == null || limit <= 0) {
+            return events;
+        }
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.sortGreaterThanOrEqualTo(
+                        Key.builder().partitionValue(streamId).sortValue(fromSequence).build()))
+                .scanIndexForward(true)
+                .limit(limit)
+                .consistentRead(true)
+                .build();
+        for (Page<JournalEventEntity> page : table.query(request)) {
+            for (JournalEventEntity entity : page.items()) {
+                events.add(DynamoDBJournalEventMapper.fromEntity(entity));
+                if (events.size() >= limit) {
+                    return events;
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Queries the range and deletes the items already acknowledged. An event never goes back to pending, so
+     * an item seen acknowledged here is safe to delete even though {@code BatchWriteItem} takes no condition.
+     */
+    @Override
+    public long deleteAcknowledgedEvents(String streamId, long fromSequence, long toSequence) {
+        if (table == null || fromSequence > toSequence) {
+            return 0L;
+        }
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.sortBetween(
+                        Key.builder().partitionValue(streamId).sortValue(fromSequence).build(),
+                        Key.builder().partitionValue(streamId).sortValue(toSequence).build()))
+                .consistentRead(true)
+                .build();
+        List<WriteRequest> deletes = new ArrayList<>();
+        for (Page<JournalEventEntity> page : table.query(request)) {
+            for (JournalEventEntity entity : page.items()) {
+                if (entity.getPendingPartitionKey() == null) {
+                    deletes.add(WriteRequest.builder()
+                            .deleteRequest(DeleteRequest.builder().key(baseKey(entity)).build())
+                            .build());
+                }
+            }
+        }
+        for (int from = 0; from < deletes.size(); from += BATCH_WRITE_LIMIT) {
+            batchDelete(deletes.subList(from, Math.min(from + BATCH_WRITE_LIMIT, deletes.size())));
+        }
+        return deletes.size();
+    }
+
+    private void batchDelete(List<WriteRequest> deletes) {
+        Map<String, List<WriteRequest>> requestItems = Collections.singletonMap(tableName, new ArrayList<>(deletes));
+        for (int attempt = 0; !requestItems.isEmpty(); attempt++) {
+            if (attempt > MAX_UNPROCESSED_RETRIES) {
+                throw new IllegalStateException("DynamoDB journal compaction could not delete "
+                        + requestItems.get(tableName).size() + " items from '" + tableName + "'");
+            }
+            BatchWriteItemResponse response = dynamoDBUtil.getDynamoDBClient().batchWriteItem(
+                    BatchWriteItemRequest.builder().requestItems(requestItems).build());
+            requestItems = response.hasUnprocessedItems() ? response.unprocessedItems() : Collections.emptyMap();
+            if (!requestItems.isEmpty()) {
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private static void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(50L << attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying unprocessed journal deletes", e);
+        }
+    }
+
+    private static Map<String, AttributeValue> baseKey(JournalEventEntity entity) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put(JournalEventFieldConstants.KEY_STREAM_ID, AttributeValue.builder().s(entity.getStreamId()).build());
+        key.put(JournalEventFieldConstants.KEY_STREAM_SEQUENCE,
+                AttributeValue.builder().n(String.valueOf(entity.getStreamSequence())).build());
+        return key;
+    }
+
     private void createTable() {
         List<AttributeDefinition> attributeDefinitions = new ArrayList<>();
         attributeDefinitions.add(AttributeDefinition.builder()
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.dynamodb.internal;
+
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.core.journal.JournalSequenceAllocator;
+import io.flamingock.internal.util.dynamodb.DynamoDBUtil;
+import io.flamingock.internal.util.dynamodb.entities.journal.JournalEventFieldConstants;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DynamoDB {@link JournalSequenceAllocator}: one counter item per stream, keyed by {@code streamId}, in its own
+ * table.
+ * <p>
+ * A reservation is a single {@code UpdateItem} with {@code ADD lastReserved :blockSize} returning the updated
+ * value. {@code ADD} creates the item and the attribute when missing and is applied atomically by the service,
+ * so concurrent writers receive disjoint blocks. Seeding is a conditional {@code SET} that only applies when it
+ * raises the counter; a failed condition means the counter is already high enough.
+ */
+public class DynamoDBJournalSequenceAllocator implements JournalSequenceAllocator {
+
+    static final String KEY_LAST_RESERVED = "lastReserved";
+
+    private final DynamoDBUtil dynamoDBUtil;
+    private final String tableName;
+    private final long readCapacityUnits;
+    private final long writeCapacityUnits;
+
+    public DynamoDBJournalSequenceAllocator(DynamoDbClient client,
+                                            String tableName,
+                                            long readCapacityUnits,
+                                            long writeCapacityUnits) {
+        this.dynamoDBUtil = new DynamoDBUtil(client);
+        this.tableName = tableName;
+        this.readCapacityUnits = readCapacityUnits;
+        this.writeCapacityUnits = writeCapacityUnits;
+    }
+
+    public void initialize(boolean autoCreate) {
+        if (autoCreate) {
+            dynamoDBUtil.createTable(
+                    dynamoDBUtil.getAttributeDefinitions(JournalEventFieldConstants.KEY_STREAM_ID, null),
+                    dynamoDBUtil.getKeySchemas(JournalEventFieldConstants.KEY_STREAM_ID, null),
+                    dynamoDBUtil.getProvisionedThroughput(readCapacityUnits, writeCapacityUnits),
+                    tableName,
+                    Collections.emptyList(),
+                    Collections.emptyList()
+            );
+        }
+    }
+
+    @Override
+    public void seed(String streamId, long lastSequence) {
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":last", number(lastSequence));
+        try {
+            dynamoDBUtil.getDynamoDBClient().updateItem(UpdateItemRequest.builder()
+                    .tableName(tableName)
+                    .key(key(streamId))
+                    .updateExpression("SET " + KEY_LAST_RESERVED + " = :last")
+                    .conditionExpression("attribute_not_exists(" + KEY_LAST_RESERVED + ") OR "
+                            + KEY_LAST_RESERVED + " < :last")
+                    .expressionAttributeValues(values)
+                    .build());
+        } catch (ConditionalCheckFailedException alreadyHigher) {
+            // the counter is already at or past lastSequence
+        }
+    }
+
+    @Override
+    public long reserve(String streamId, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be at least 1");
+        }
+        UpdateItemResponse response = dynamoDBUtil.getDynamoDBClient().updateItem(UpdateItemRequest.builder()
+                .tableName(tableName)
+                .key(key(streamId))
+                .updateExpression("ADD " + KEY_LAST_RESERVED + " :blockSize")
+                .expressionAttributeValues(Collections.singletonMap(":blockSize", number(blockSize)))
+                .returnValues(ReturnValue.UPDATED_NEW)
+                .build());
+        AttributeValue lastReserved = response.attributes().get(KEY_LAST_RESERVED);
+        if (lastReserved == null) {
+            throw new FlamingockException("Journal sequence counter not returned for stream: " + streamId);
+        }
+        return Long.parseLong(lastReserved.n()) - blockSize + 1;
+    }
+
+    private static Map<String, AttributeValue> key(String streamId) {
+        return Collections.singletonMap(JournalEventFieldConstants.KEY_STREAM_ID,
+                AttributeValue.builder().s(streamId).build());
+    }
+
+    private static AttributeValue number(long value) {
+        return AttributeValue.builder().n(String.valueOf(value)).build();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.dynamodb.internal;
+
+import io.flamingock.core.journal.JournalRetentionPolicy;
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.feature.Features;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.common.core.journal.JournalEventType;
+import io.flamingock.internal.core.journal.JournalCompactor;
+import io.flamingock.internal.util.FeatureFlag;
+import io.flamingock.internal.util.dynamodb.DynamoDBUtil;
+import io.flamingock.internal.util.dynamodb.entities.journal.DynamoDBJournalEventMapper;
+import io.flamingock.internal.util.dynamodb.entities.journal.JournalEventEntity;
+import io.flamingock.store.dynamodb.DynamoDBTestContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers
+class DynamoDBJournalCompactionTest {
+
+    private static final String TABLE_NAME = "flamingockJournalEvents";
+
+    @Container
+    static final GenericContainer<?> dynamoDBContainer = DynamoDBTestContainer.createContainer();
+
+    private DynamoDbClient client;
+    private DynamoDBJournalEventStore store;
+    private DynamoDbTable<JournalEventEntity> table;
+
+    @BeforeEach
+    void setUp() {
+        FeatureFlag.enable(Features.JOURNAL_EVENTS);
+        client = DynamoDBTestContainer.createClient(dynamoDBContainer);
+        deleteTableIfExists();
+        store = new DynamoDBJournalEventStore(client, TABLE_NAME, 5L, 5L);
+        store.initialize(true);
+        table = new DynamoDBUtil(client).getEnhancedClient()
+                .table(TABLE_NAME, TableSchema.fromBean(JournalEventEntity.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        FeatureFlag.remove(Features.JOURNAL_EVENTS);
+        deleteTableIfExists();
+    }
+
+    @Test
+    @DisplayName("ranged reads and batch deletes only touch acknowledged events of the given stream")
+    void rangedDeleteKeepsUnacknowledgedEvents() {
+        seedStream("stageA", 60, Instant.now(), 41L);
+        seedStream("stageB", 2, Instant.now(), Long.MAX_VALUE);
+
+        assertEquals(new HashSet<>(Arrays.asList("stageA", "stageB")), store.getStreamIds());
+        assertEquals(Arrays.asList(3L, 4L), sequences(store.getEvents("stageA", 3L, 2)));
+
+        long deleted = store.deleteAcknowledgedEvents("stageA", 1L, 50L);
+
+        assertEquals(40L, deleted, "40 acknowledged events span two BatchWriteItem requests");
+        assertEquals(41L, store.getEvents("stageA", 1L, 100).get(0).getStreamSequence());
+        assertEquals(20, store.getEvents("stageA", 1L, 100).size());
+        assertEquals(2, store.getEvents("stageB", 1L, 100).size());
+    }
+
+    @Test
+    @DisplayName("compaction applies max age and max count and keeps the last event of each stream")
+    void compactionAppliesPolicy() {
+        Instant old = Instant.now().minus(Duration.ofDays(90));
+        seedStream("stageA", 30, old, Long.MAX_VALUE);
+        seedStream("stageB", 12, Instant.now(), Long.MAX_VALUE);
+        seedStream("stageC", 10, old, 6L);
+
+        JournalCompactor.Report report = new JournalCompactor(store, JournalRetentionPolicy.builder()
+                .setMaxAge(Duration.ofDays(30))
+                .setMaxEventsPerStream(4)
+                .setBatchSize(7)
+                .setMaxBatchesPerRun(100)
+                .build()).compact();
+
+        assertEquals(29 + 8 + 5, report.getDeleted());
+        assertEquals(Arrays.asList(30L), sequences(store.getEvents("stageA", 1L, 100)));
+        assertEquals(Arrays.asList(9L, 10L, 11L, 12L), sequences(store.getEvents("stageB", 1L, 100)));
+        assertEquals(Arrays.asList(6L, 7L, 8L, 9L, 10L), sequences(store.getEvents("stageC", 1L, 100)),
+                "events from the first unacknowledged one on must survive");
+        assertEquals(5, store.getUnacknowledgedEvents(100).size());
+    }
+
+    /**
+     * Seeds {@code count} events; those with a sequence lower than {@code firstUnacknowledged} are acknowledged.
+     */
+    private void seedStream(String streamId, int count, Instant occurredAt, long firstUnacknowledged) {
+        for (long sequence = 1; sequence <= count; sequence++) {
+            String eventId = streamId + "-" + sequence;
+            table.putItem(DynamoDBJournalEventMapper.toEntity(new JournalEvent<>(
+                    eventId,
+                    JournalEventType.CHANGE_STATE,
+                    JournalEvent.DEFAULT_VERSION,
+                    streamId,
+                    sequence,
+                    occurredAt,
+                    AuditEntryTestFactory.createTestAuditEntry(
+                            eventId, AuditEntry.Status.APPLIED, AuditTxType.NON_TX, (Class<?>) null),
+                    sequence < firstUnacknowledged)));
+        }
+    }
+
+    private static List<Long> sequences(List<JournalEvent<AuditEntry>> events) {
+        return events.stream().map(JournalEvent::getStreamSequence).collect(Collectors.toList());
+    }
+
+    private void deleteTableIfExists() {
+        if (client.listTables().tableNames().contains(TABLE_NAME)) {
+            client.deleteTable(DeleteTableRequest.builder().tableName(TABLE_NAME).build());
+        }
+    }
+}
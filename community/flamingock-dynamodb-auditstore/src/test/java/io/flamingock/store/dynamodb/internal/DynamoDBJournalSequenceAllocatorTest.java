@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.dynamodb.internal;
+
+import io.flamingock.store.dynamodb.DynamoDBTestContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+class DynamoDBJournalSequenceAllocatorTest {
+
+    private static final String TABLE_NAME = "flamingockJournalEventsSequences";
+    private static final int WRITERS = 32;
+
+    @Container
+    static final GenericContainer<?> dynamoDBContainer = DynamoDBTestContainer.createContainer();
+
+    private DynamoDbClient client;
+    private DynamoDBJournalSequenceAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        client = DynamoDBTestContainer.createClient(dynamoDBContainer);
+        deleteTableIfExists();
+        allocator = new DynamoDBJournalSequenceAllocator(client, TABLE_NAME, 5L, 5L);
+        allocator.initialize(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTableIfExists();
+    }
+
+    @Test
+    @DisplayName("reservations are consecutive blocks and seeding never lowers the counter")
+    void reservesConsecutiveBlocks() {
+        assertEquals(1L, allocator.reserve("stageA", 10));
+        assertEquals(11L, allocator.reserve("stageA", 5));
+        assertEquals(1L, allocator.reserve("stageB", 3));
+
+        allocator.seed("stageA", 100L);
+        assertEquals(101L, allocator.reserve("stageA", 10));
+        allocator.seed("stageA", 50L);
+        assertEquals(111L, allocator.reserve("stageA", 10));
+    }
+
+    @Test
+    @DisplayName("32 concurrent writers reserve disjoint blocks of the same stream")
+    void concurrentReservationsAreDisjoint() throws Exception {
+        int blocksPerWriter = 10;
+        int blockSize = 16;
+        allocator.seed("stageA", 7L);
+        Set<Long> positions = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int b = 0; b < blocksPerWriter; b++) {
+                        long first = allocator.reserve("stageA", blockSize);
+                        for (long position = first; position < first + blockSize; position++) {
+                            assertTrue(positions.add(position), "position reserved twice: " + position);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // a single shared counter and no lost updates: the blocks tile 8..N exactly
+        assertEquals(WRITERS * blocksPerWriter * blockSize, positions.size());
+        assertTrue(positions.stream().allMatch(position -> position > 7L));
+        assertEquals(8L + WRITERS * blocksPerWriter * blockSize, allocator.reserve("stageA", 1));
+    }
+
+    private void deleteTableIfExists() {
+        if (client.listTables().tableNames().contains(TABLE_NAME)) {
+            client.deleteTable(DeleteTableRequest.builder().tableName(TABLE_NAME).build());
+        }
+    }
+}
@@ -28,7 +28,6 @@ import io.flamingock.internal.core.external.store.CommunityAuditStore;
 import io.flamingock.internal.core.external.store.audit.community.CommunityAuditPersistence;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
 import io.flamingock.internal.util.Constants;
-import io.flamingock.internal.util.TimeService;
 import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.store.mongodb.reactive.internal.MongoDBReactiveAuditPersistence;
 import io.flamingock.store.mongodb.reactive.internal.MongoDBReactiveLockService;
@@ -142,9 +141,7 @@ public class MongoDBReactiveAuditStore implements CommunityAuditStore {
                     lockRepositoryName,
                     readConcern,
                     readPreference,
-                    writeConcern,
-                    TimeService.getDefault()
-            );
+                    writeConcern);
             lockService.initialize(autoCreate);
 
         }
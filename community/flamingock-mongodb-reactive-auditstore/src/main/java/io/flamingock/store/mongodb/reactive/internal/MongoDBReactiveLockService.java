@@ -15,39 +15,34 @@
  */
 package io.flamingock.store.mongodb.reactive.internal;
 
-import com.mongodb.DuplicateKeyException;
 import com.mongodb.ErrorCategory;
-import com.mongodb.MongoWriteException;
+import com.mongodb.MongoServerException;
 import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.UpdateOptions;
-import com.mongodb.client.result.UpdateResult;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import io.flamingock.internal.common.mongodb.CollectionInitializator;
 import io.flamingock.internal.common.mongodb.MongoDBLockMapper;
+import io.flamingock.internal.common.mongodb.MongoDBLockUpdates;
 import io.flamingock.internal.common.mongodb.MongoDBReactiveCollectionHelper;
 import io.flamingock.internal.common.mongodb.MongoDBDocumentHelper;
 import io.flamingock.internal.core.external.store.lock.LockAcquisition;
 import io.flamingock.internal.core.external.store.lock.LockKey;
 import io.flamingock.internal.core.external.store.lock.LockServiceException;
-import io.flamingock.internal.core.external.store.lock.community.CommunityLockEntry;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
-import io.flamingock.internal.util.TimeService;
 import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.reactive.util.PublisherSync;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 
-import java.util.Date;
+import java.util.List;
 
-import static io.flamingock.internal.core.external.store.lock.LockStatus.LOCK_HELD;
-import static io.flamingock.internal.core.external.store.lock.community.CommunityLockEntryConstants.EXPIRES_AT_FIELD;
 import static io.flamingock.internal.core.external.store.lock.community.CommunityLockEntryConstants.KEY_FIELD;
 import static io.flamingock.internal.core.external.store.lock.community.CommunityLockEntryConstants.OWNER_FIELD;
-import static io.flamingock.internal.core.external.store.lock.community.CommunityLockEntryConstants.STATUS_FIELD;
 
 public class MongoDBReactiveLockService implements CommunityLockService {
 
@@ -55,31 +50,26 @@ public class MongoDBReactiveLockService implements CommunityLockService {
 
 
     private final MongoCollection<Document> collection;
-    private final TimeService timeService;
 
     public MongoDBReactiveLockService(MongoDatabase database,
                                     String collectionName,
                                     ReadConcern readConcern,
                                     ReadPreference readPreference,
-                                    WriteConcern writeConcern,
-                                    TimeService timeService) {
+                                    WriteConcern writeConcern) {
         this(database.getCollection(collectionName),
                             readConcern,
                             readPreference,
-                            writeConcern,
-                            timeService);
+                            writeConcern);
     }
 
     protected MongoDBReactiveLockService(MongoCollection<Document> collection,
                                        ReadConcern readConcern,
                                        ReadPreference readPreference,
-                                       WriteConcern writeConcern,
-                                       TimeService timeService) {
+                                       WriteConcern writeConcern) {
         this.collection = collection
                 .withReadConcern(readConcern)
                 .withReadPreference(readPreference)
                 .withWriteConcern(writeConcern);
-        this.timeService = timeService;
     }
 
     public void initialize(boolean autoCreate) {
@@ -98,16 +88,12 @@ public class MongoDBReactiveLockService implements CommunityLockService {
 
     @Override
     public LockAcquisition upsert(LockKey key, RunnerId owner, long leaseMillis) {
-        CommunityLockEntry newLock = new CommunityLockEntry(key.toString(), LOCK_HELD, owner.toString(), timeService.currentDatePlusMillis(leaseMillis));
-        insertUpdate(newLock, false);
-        return new LockAcquisition(owner, leaseMillis);
+        return findAndUpdate(key, owner, leaseMillis, false);
     }
 
     @Override
     public LockAcquisition extendLock(LockKey key, RunnerId owner, long leaseMillis) throws LockServiceException {
-        CommunityLockEntry newLock = new CommunityLockEntry(key.toString(), LOCK_HELD, owner.toString(), timeService.currentDatePlusMillis(leaseMillis));
-        insertUpdate(newLock, true);
-        return new LockAcquisition(owner, leaseMillis);
+        return findAndUpdate(key, owner, leaseMillis, true);
     }
 
     @Override
@@ -126,55 +112,25 @@ public class MongoDBReactiveLockService implements CommunityLockService {
                 Filters.and(Filters.eq(KEY_FIELD, lockKey.toString()), Filters.eq(OWNER_FIELD, owner.toString()))));
     }
 
-    protected void insertUpdate(CommunityLockEntry newLock, boolean onlyIfSameOwner) {
-        boolean lockHeld;
-        String debErrorDetail = "not db error";
-        Bson acquireLockQuery = getAcquireLockQuery(newLock.getKey(), newLock.getOwner(), onlyIfSameOwner);
-        Document lockDocument = mapper.toDocument(newLock).getDocument();
-        Document newLockDocumentSet = new Document().append("$set", lockDocument);
+    /**
+     * Acquires or extends the lock in a single round trip. See {@link MongoDBLockUpdates}.
+     */
+    protected LockAcquisition findAndUpdate(LockKey key, RunnerId owner, long leaseMillis, boolean onlyIfSameOwner) {
+        Document filter = MongoDBLockUpdates.filter(key.toString(), onlyIfSameOwner);
+        List<Bson> update = MongoDBLockUpdates.update(owner.toString(), leaseMillis, onlyIfSameOwner);
+        FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
+                .upsert(!onlyIfSameOwner)
+                .returnDocument(ReturnDocument.AFTER);
+        Document result;
         try {
-            UpdateResult result = PublisherSync.first(collection.updateMany(
-                    acquireLockQuery,
-                    newLockDocumentSet,
-                    new UpdateOptions().upsert(!onlyIfSameOwner)));
-            if (result == null) {
-                throw new LockServiceException(
-                        acquireLockQuery.toString(),
-                        newLockDocumentSet.toString(),
-                        "MongoDB updateMany operation completed without returning an UpdateResult"
-                );
-            }
-            lockHeld = result.getModifiedCount() <= 0 && result.getUpsertedId() == null;
-
-        } catch (MongoWriteException ex) {
-            lockHeld = ex.getError().getCategory() == ErrorCategory.DUPLICATE_KEY;
-
-            if (!lockHeld) {
+            result = PublisherSync.first(collection.findOneAndUpdate(filter, update, options));
+        } catch (MongoServerException ex) {
+            if (ErrorCategory.fromErrorCode(ex.getCode()) != ErrorCategory.DUPLICATE_KEY) {
                 throw ex;
             }
-            debErrorDetail = ex.getError().toString();
-
-        } catch (DuplicateKeyException ex) {
-            lockHeld = true;
-            debErrorDetail = ex.getMessage();
+            // two runners upserted the missing lock at once; now the document exists, so the retry just evaluates it
+            result = PublisherSync.first(collection.findOneAndUpdate(filter, update, options));
         }
-
-        if (lockHeld) {
-            throw new LockServiceException(
-                    acquireLockQuery.toString(),
-                    newLockDocumentSet.toString(),
-                    debErrorDetail
-            );
-        }
-    }
-
-    protected Bson getAcquireLockQuery(String lockKey, String owner, boolean onlyIfSameOwner) {
-        Bson expirationCond = Filters.lt(EXPIRES_AT_FIELD, new Date());
-        Bson ownerCond = Filters.eq(OWNER_FIELD, owner);
-        Bson keyCond = Filters.eq(KEY_FIELD, lockKey);
-        Bson statusCond = Filters.eq(STATUS_FIELD, LOCK_HELD.name());
-        return onlyIfSameOwner
-                ? Filters.and(keyCond, statusCond, ownerCond)
-                : Filters.and(keyCond, Filters.or(expirationCond, ownerCond));
+        return MongoDBLockUpdates.toAcquisition(result, owner, filter, update);
     }
 }
@@ -24,7 +24,6 @@ import com.mongodb.reactivestreams.client.MongoDatabase;
 import io.flamingock.internal.core.external.store.lock.LockAcquisition;
 import io.flamingock.internal.core.external.store.lock.LockKey;
 import io.flamingock.internal.core.external.store.lock.LockServiceException;
-import io.flamingock.internal.util.TimeService;
 import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.reactive.util.PublisherSync;
 import org.junit.jupiter.api.AfterEach;
@@ -36,7 +35,16 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -46,6 +54,7 @@ class MongoDBReactiveLockServiceTest {
     private static final String DB_NAME = "test";
     private static final String LOCK_COLLECTION = "testFlamingockLock";
     private static final LockKey LOCK_KEY = LockKey.fromString("lockKey1");
+    private static final int CONTENDERS = 8;
 
     @Container
     static MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:6"));
@@ -63,8 +72,7 @@ class MongoDBReactiveLockServiceTest {
                 LOCK_COLLECTION,
                 ReadConcern.MAJORITY,
                 ReadPreference.primary(),
-                WriteConcern.MAJORITY.withJournal(true),
-                TimeService.getDefault());
+                WriteConcern.MAJORITY.withJournal(true));
         lockService.initialize(true);
     }
 
@@ -92,8 +100,58 @@ class MongoDBReactiveLockServiceTest {
     void shouldNotAcquireHeldLockWithDifferentOwner() {
         lockService.upsert(LOCK_KEY, RunnerId.fromString("runner-1"), 10000);
 
-        assertThrows(LockServiceException.class, () ->
+        LockServiceException ex = assertThrows(LockServiceException.class, () ->
                 lockService.upsert(LOCK_KEY, RunnerId.fromString("runner-2"), 10000));
+
+        assertNotNull(ex.getCurrentLock());
+        assertEquals(RunnerId.fromString("runner-1"), ex.getCurrentLock().getOwner());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent runners acquire the lock")
+    void shouldLetExactlyOneConcurrentRunnerAcquire() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<LockAcquisition>> attempts = new ArrayList<>();
+            for (int i = 0; i < CONTENDERS; i++) {
+                RunnerId runnerId = RunnerId.fromString("runner-" + i);
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return lockService.upsert(LOCK_KEY, runnerId, 10000);
+                    } catch (LockServiceException ex) {
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<LockAcquisition> winners = new ArrayList<>();
+            for (Future<LockAcquisition> attempt : attempts) {
+                LockAcquisition acquisition = attempt.get(30, TimeUnit.SECONDS);
+                if (acquisition != null) {
+                    winners.add(acquisition);
+                }
+            }
+
+            assertEquals(1, winners.size());
+            assertEquals(winners.get(0).getOwner(), lockService.getLockInfo(LOCK_KEY).getOwner());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not extend a lock held by another runner")
+    void shouldNotExtendLockHeldByAnotherRunner() {
+        RunnerId holder = RunnerId.fromString("runner-1");
+        lockService.upsert(LOCK_KEY, holder, 10000);
+
+        LockServiceException ex = assertThrows(LockServiceException.class, () ->
+                lockService.extendLock(LOCK_KEY, RunnerId.fromString("runner-2"), 10000));
+
+        assertEquals(holder, ex.getCurrentLock().getOwner());
     }
 
     @Test
@@ -20,29 +20,35 @@ import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoDatabase;
+import io.flamingock.core.journal.JournalRetentionPolicy;
 import io.flamingock.internal.common.core.audit.AuditEntry;
 import io.flamingock.internal.common.core.audit.AuditPersistenceFactory;
 import io.flamingock.internal.common.core.audit.AuditReader;
 import io.flamingock.internal.common.core.context.ContextResolver;
 import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.common.core.feature.Features;
 import io.flamingock.internal.core.configuration.community.CommunityConfigurable;
 import io.flamingock.internal.core.external.store.CommunityAuditStore;
 import io.flamingock.internal.core.external.store.audit.community.CommunityAuditPersistence;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
+import io.flamingock.internal.core.journal.JournalCompactor;
 import io.flamingock.internal.core.journal.JournalEventSequencer;
 import io.flamingock.internal.core.journal.JournalEventSequencerFactory;
 import io.flamingock.internal.util.Constants;
-import io.flamingock.internal.util.TimeService;
+import io.flamingock.internal.util.FeatureFlag;
 import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.store.mongodb.sync.internal.MongoDBSyncAuditPersistence;
 import io.flamingock.store.mongodb.sync.internal.MongoDBSyncAuditRepository;
 import io.flamingock.store.mongodb.sync.internal.MongoDBSyncJournalEventStore;
+import io.flamingock.store.mongodb.sync.internal.MongoDBSyncJournalSequenceAllocator;
 import io.flamingock.store.mongodb.sync.internal.MongoDBSyncLockService;
 import io.flamingock.externalsystem.mongodb.api.MongoDBExternalSystem;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.flamingock.internal.common.mongodb.journal.JournalEventPersistenceConstants.DEFAULT_JOURNAL_STORE_NAME;
@@ -51,6 +57,8 @@ import static io.flamingock.internal.util.constants.CommunityPersistenceConstant
 
 public class MongoDBSyncAuditStore implements CommunityAuditStore {
 
+    private static final String JOURNAL_SEQUENCES_SUFFIX = "Sequences";
+
     private final MongoDBExternalSystem mongoDBTargetSystem;
 
     protected RunnerId runnerId;
@@ -68,6 +76,9 @@ public class MongoDBSyncAuditStore implements CommunityAuditStore {
     private MongoDBSyncAuditRepository auditRepository;
     private MongoDBSyncJournalEventStore journalEventStore;
     private JournalEventSequencerFactory journalEventSequencerFactory;
+    private JournalRetentionPolicy journalRetentionPolicy;
+    private JournalCompactor journalCompactor;
+    private int journalSequenceBlockSize = 0;
 
 
     private MongoDBSyncAuditStore(MongoDBExternalSystem mongoDBTargetSystem) {
@@ -108,6 +119,27 @@ public class MongoDBSyncAuditStore implements CommunityAuditStore {
         return this;
     }
 
+    /**
+     * Enables the background compaction of acknowledged journal events. Only takes effect while journal
+     * events are enabled.
+     */
+    public MongoDBSyncAuditStore withJournalRetentionPolicy(JournalRetentionPolicy journalRetentionPolicy) {
+        this.journalRetentionPolicy = journalRetentionPolicy;
+        return this;
+    }
+
+    /**
+     * Lets several writers append to the same journal stream without contending on its unique index: each
+     * writer reserves {@code blockSize} positions at a time from a counter collection
+     * ({@code <journalRepositoryName>Sequences}) and hands them out in memory. Stream positions then stay unique
+     * but may have gaps and are only ordered per writer. {@code 0}, the default, keeps the contiguous
+     * single-writer sequence. Only takes effect while journal events are enabled.
+     */
+    public MongoDBSyncAuditStore withJournalSequenceBlockSize(int journalSequenceBlockSize) {
+        this.journalSequenceBlockSize = journalSequenceBlockSize;
+        return this;
+    }
+
     public MongoDBSyncAuditStore withReadConcern(ReadConcern readConcern) {
         this.readConcern = readConcern;
         return this;
@@ -135,18 +167,28 @@ public class MongoDBSyncAuditStore implements CommunityAuditStore {
         database = mongoDBTargetSystem.getMongoDatabase();
         auditRepository = new MongoDBSyncAuditRepository(database, auditRepositoryName, readConcern, readPreference, writeConcern);
         journalEventStore = new MongoDBSyncJournalEventStore(database, journalRepositoryName, readConcern, readPreference, writeConcern);
-        journalEventSequencerFactory = new JournalEventSequencerFactory(journalEventStore);
+        if (journalSequenceBlockSize > 0 && FeatureFlag.isEnabled(Features.JOURNAL_EVENTS, false)) {
+            MongoDBSyncJournalSequenceAllocator sequenceAllocator = new MongoDBSyncJournalSequenceAllocator(
+                    database, journalRepositoryName + JOURNAL_SEQUENCES_SUFFIX, readConcern, readPreference, writeConcern);
+            journalEventSequencerFactory = new JournalEventSequencerFactory(
+                    journalEventStore, sequenceAllocator, journalSequenceBlockSize);
+        } else {
+            journalEventSequencerFactory = new JournalEventSequencerFactory(journalEventStore);
+        }
 
         lockService = new MongoDBSyncLockService(
                 database,
                 lockRepositoryName,
                 readConcern,
                 readPreference,
-                writeConcern,
-                TimeService.getDefault()
-        );
+                writeConcern);
         lockService.initialize(autoCreate);
         this.validate();
+        if (journalRetentionPolicy != null && FeatureFlag.isEnabled(Features.JOURNAL_EVENTS, false)) {
+            // Block-reserved sequences have gaps and are not ordered across writers
+            journalCompactor = new JournalCompactor(journalEventStore, journalRetentionPolicy, journalSequenceBlockSize <= 0);
+            journalCompactor.start();
+        }
     }
 
     @Override
@@ -171,6 +213,20 @@ public class MongoDBSyncAuditStore implements CommunityAuditStore {
         return () -> auditRepository.getAuditHistory();
     }
 
+    @Override
+    public Optional<CompactableAuditHistory> getCompactableAuditHistory() {
+        return Optional.of(auditRepository);
+    }
+
+    @Override
+    public Runnable getCloser() {
+        return () -> {
+            if (journalCompactor != null) {
+                journalCompactor.close();
+            }
+        };
+    }
+
     @Override
     public synchronized CommunityLockService getLockService() {
         return lockService;
@@ -206,6 +262,10 @@ public class MongoDBSyncAuditStore implements CommunityAuditStore {
             throw new FlamingockException("The 'journalRepositoryName' and 'lockRepositoryName' properties must not be the same.");
         }
 
+        if (journalSequenceBlockSize < 0) {
+            throw new FlamingockException("The 'journalSequenceBlockSize' property must not be negative.");
+        }
+
         if (readConcern == null) {
             throw new FlamingockException("The 'readConcern' property is required.");
         }
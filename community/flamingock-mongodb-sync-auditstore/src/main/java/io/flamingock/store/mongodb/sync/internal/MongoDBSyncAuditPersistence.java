@@ -90,7 +90,8 @@ public class MongoDBSyncAuditPersistence extends AbstractCommunityAuditPersisten
             // Result, which can never be a FailedStep, so the commit branch is the only graceful path; a
             // failing commit is caught and rethrown as DatabaseTransactionException. Keep that true: an
             // operation that could return a failed step would silently burn a position and gap the stream,
-            // and a contiguous sequence is what lets a consumer tell "in flight" from "lost".
+            // and a contiguous sequence is what lets a consumer tell "in flight" from "lost". (A block-reserving
+            // sequencer, used for multi-writer streams, spends positions on hand-out and makes this a no-op.)
             journalEventSequencer.confirm();
             return result;
         } else {
@@ -21,20 +21,26 @@ import com.mongodb.WriteConcern;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.UpdateResult;
 import io.flamingock.internal.common.core.audit.AuditEntry;
 import io.flamingock.internal.common.mongodb.CollectionInitializator;
 import io.flamingock.internal.common.mongodb.MongoDBAuditMapper;
 import io.flamingock.internal.common.mongodb.MongoDBSyncCollectionHelper;
 import io.flamingock.internal.common.mongodb.MongoDBDocumentHelper;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
 import io.flamingock.internal.util.Result;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -43,7 +49,7 @@ import static io.flamingock.internal.util.constants.AuditEntryFieldConstants.KEY
 import static io.flamingock.internal.util.constants.AuditEntryFieldConstants.KEY_EXECUTION_ID;
 import static io.flamingock.internal.util.constants.AuditEntryFieldConstants.KEY_STATE;
 
-public class MongoDBSyncAuditRepository {
+public class MongoDBSyncAuditRepository implements CompactableAuditHistory {
 
     private static final Logger logger = FlamingockLoggerFactory.getLogger("MongoDBSyncAuditor");
 
@@ -122,6 +128,26 @@ public class MongoDBSyncAuditRepository {
         return Result.OK();
     }
 
+    /**
+     * Deletes the given records of the append-oriented ledger, each matched by its unique
+     * {@code (executionId, changeId, state)} key, in one unordered bulk write.
+     */
+    @Override
+    public long deleteAuditEntries(Collection<AuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0L;
+        }
+        List<WriteModel<Document>> deletes = new ArrayList<>(entries.size());
+        for (AuditEntry entry : entries) {
+            deletes.add(new DeleteOneModel<>(Filters.and(
+                    Filters.eq(KEY_EXECUTION_ID, entry.getExecutionId()),
+                    Filters.eq(KEY_CHANGE_ID, entry.getChangeId()),
+                    Filters.eq(KEY_STATE, entry.getState().name()))));
+        }
+        return collection.bulkWrite(deletes, new BulkWriteOptions().ordered(false)).getDeletedCount();
+    }
+
+    @Override
     public List<AuditEntry> getAuditHistory() {
         return collection.find()
                 .into(new LinkedList<>())
@@ -31,6 +31,7 @@ import io.flamingock.internal.common.mongodb.IndexDefinition;
 import io.flamingock.internal.common.mongodb.MongoDBDocumentHelper;
 import io.flamingock.internal.common.mongodb.MongoDBJournalEventMapper;
 import io.flamingock.internal.common.mongodb.MongoDBSyncCollectionHelper;
+import io.flamingock.internal.core.journal.CompactableJournalEventStore;
 import io.flamingock.internal.core.journal.JournalEventStore;
 import io.flamingock.internal.util.Result;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
@@ -41,9 +42,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.flamingock.internal.common.mongodb.journal.JournalEventFieldConstants.KEY_ACKNOWLEDGED;
 import static io.flamingock.internal.common.mongodb.journal.JournalEventFieldConstants.KEY_EVENT_ID;
@@ -61,8 +64,11 @@ import static io.flamingock.internal.common.mongodb.journal.JournalEventFieldCon
  * the event lands in the same transaction as the audit entry it mirrors, and a driver-specific transaction
  * handle has no place in a core interface. Only {@link MongoDBSyncAuditPersistence} — which owns that
  * transaction boundary — calls it.
+ * <p>
+ * Compaction reads and deletes go through the unique {@code (streamId, streamSequence)} index, one sequence
+ * range at a time.
  */
-public class MongoDBSyncJournalEventStore implements JournalEventStore {
+public class MongoDBSyncJournalEventStore implements CompactableJournalEventStore {
 
     private static final Logger logger = FlamingockLoggerFactory.getLogger("MongoDBSyncJournal");
 
@@ -181,4 +187,36 @@ public class MongoDBSyncJournalEventStore implements JournalEventStore {
         return collection.updateMany(Filters.in(KEY_EVENT_ID, eventIds), Updates.set(KEY_ACKNOWLEDGED, true))
                 .getModifiedCount();
     }
+
+    @Override
+    public Set<String> getStreamIds() {
+        return collection.distinct(KEY_STREAM_ID, String.class).into(new LinkedHashSet<>());
+    }
+
+    @Override
+    public List<JournalEvent<AuditEntry>> getEvents(String streamId, long fromSequence, int limit) {
+        List<JournalEvent<AuditEntry>> events = new ArrayList<>();
+        collection.find(Filters.and(
+                        Filters.eq(KEY_STREAM_ID, streamId),
+                        Filters.gte(KEY_STREAM_SEQUENCE, fromSequence)))
+                .sort(Sorts.ascending(KEY_STREAM_SEQUENCE))
+                .limit(limit)
+                .forEach(document -> events.add(mapper.fromDocument(document)));
+        return events;
+    }
+
+    @Override
+    public long countEvents(String streamId) {
+        return collection.countDocuments(Filters.eq(KEY_STREAM_ID, streamId));
+    }
+
+    @Override
+    public long deleteAcknowledgedEvents(String streamId, long fromSequence, long toSequence) {
+        return collection.deleteMany(Filters.and(
+                        Filters.eq(KEY_STREAM_ID, streamId),
+                        Filters.gte(KEY_STREAM_SEQUENCE, fromSequence),
+                        Filters.lte(KEY_STREAM_SEQUENCE, toSequence),
+                        Filters.eq(KEY_ACKNOWLEDGED, true)))
+                .getDeletedCount();
+    }
 }
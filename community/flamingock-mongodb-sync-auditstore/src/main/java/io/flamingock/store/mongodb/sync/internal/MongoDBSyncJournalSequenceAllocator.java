@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.mongodb.sync.internal;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoServerException;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.core.journal.JournalSequenceAllocator;
+import org.bson.Document;
+
+/**
+ * MongoDB-sync {@link JournalSequenceAllocator}: one counter document per stream, {@code {_id: streamId,
+ * lastReserved: n}}, in its own collection.
+ * <p>
+ * A reservation is a single {@code findOneAndUpdate} with {@code $inc} and upsert, returning the document after
+ * the update — atomic on the server, so concurrent writers receive disjoint blocks without any read-modify-write
+ * on the client. Seeding uses {@code $max}, which only ever raises the counter. Two first-time upserts of the
+ * same stream may race on the {@code _id} index; the loser simply retries, and then finds the document.
+ */
+public class MongoDBSyncJournalSequenceAllocator implements JournalSequenceAllocator {
+
+    static final String KEY_LAST_RESERVED = "lastReserved";
+    private static final String KEY_ID = "_id";
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
+
+    private final MongoCollection<Document> collection;
+
+    public MongoDBSyncJournalSequenceAllocator(MongoDatabase database,
+                                               String collectionName,
+                                               ReadConcern readConcern,
+                                               ReadPreference readPreference,
+                                               WriteConcern writeConcern) {
+        this.collection = database.getCollection(collectionName)
+                .withReadConcern(readConcern)
+                .withReadPreference(readPreference)
+                .withWriteConcern(writeConcern);
+    }
+
+    @Override
+    public void seed(String streamId, long lastSequence) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                collection.updateOne(
+                        Filters.eq(KEY_ID, streamId),
+                        Updates.max(KEY_LAST_RESERVED, lastSequence),
+                        new UpdateOptions().upsert(true));
+                return;
+            } catch (MongoServerException e) {
+                if (!isDuplicateKey(e) || attempt == MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public long reserve(String streamId, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be at least 1");
+        }
+        FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
+                .upsert(true)
+                .returnDocument(ReturnDocument.AFTER);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Document counter = collection.findOneAndUpdate(
+                        Filters.eq(KEY_ID, streamId),
+                        Updates.inc(KEY_LAST_RESERVED, (long) blockSize),
+                        options);
+                if (counter == null) {
+                    throw new FlamingockException("Journal sequence counter not returned for stream: " + streamId);
+                }
+                long lastReserved = ((Number) counter.get(KEY_LAST_RESERVED)).longValue();
+                return lastReserved - blockSize + 1;
+            } catch (MongoServerException e) {
+                if (!isDuplicateKey(e) || attempt == MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static boolean isDuplicateKey(MongoServerException e) {
+        // a write error for updateOne, a command error for findOneAndUpdate
+        return ErrorCategory.fromErrorCode(e.getCode()) == ErrorCategory.DUPLICATE_KEY;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.mongodb.sync.internal;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import io.flamingock.core.journal.JournalRetentionPolicy;
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.common.core.journal.JournalEventType;
+import io.flamingock.internal.common.mongodb.MongoDBJournalEventMapper;
+import io.flamingock.internal.core.journal.JournalCompactor;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers
+class MongoDBSyncJournalCompactionE2ETest {
+
+    private static final String DB_NAME = "test";
+    private static final String JOURNAL_COLLECTION = "flamingockJournalEvents";
+
+    @Container
+    public static final MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:6")).withReuse(true);
+
+    private final MongoDBJournalEventMapper mapper = new MongoDBJournalEventMapper();
+
+    private MongoClient mongoClient;
+    private MongoDatabase database;
+    private MongoDBSyncJournalEventStore journalEventStore;
+
+    @BeforeEach
+    void setUp() {
+        mongoClient = MongoClients.create(mongoDBContainer.getConnectionString());
+        database = mongoClient.getDatabase(DB_NAME);
+        journalEventStore = new MongoDBSyncJournalEventStore(
+                database, JOURNAL_COLLECTION,
+                ReadConcern.MAJORITY, ReadPreference.primary(), WriteConcern.MAJORITY.withJournal(true));
+        journalEventStore.initialize(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("ranged reads and deletes only touch acknowledged events of the given stream")
+    void rangedDeleteKeepsUnacknowledgedEvents() {
+        seedStream("stageA", 6, Instant.now(), 3L);
+        seedStream("stageB", 2, Instant.now(), Long.MAX_VALUE);
+
+        assertEquals(new HashSet<>(Arrays.asList("stageA", "stageB")), journalEventStore.getStreamIds());
+        assertEquals(Arrays.asList(3L, 4L), sequences(journalEventStore.getEvents("stageA", 3L, 2)));
+
+        long deleted = journalEventStore.deleteAcknowledgedEvents("stageA", 1L, 5L);
+
+        assertEquals(2L, deleted, "only the acknowledged events 1 and 2 are in range");
+        assertEquals(Arrays.asList(3L, 4L, 5L, 6L), sequences(journalEventStore.getEvents("stageA", 1L, 100)));
+        assertEquals(2, journalEventStore.getEvents("stageB", 1L, 100).size());
+    }
+
+    @Test
+    @DisplayName("compaction applies max age and max count and keeps the last event of each stream")
+    void compactionAppliesPolicy() {
+        Instant old = Instant.now().minus(Duration.ofDays(90));
+        seedStream("stageA", 50, old, Long.MAX_VALUE);
+        seedStream("stageB", 20, Instant.now(), Long.MAX_VALUE);
+        seedStream("stageC", 10, old, 6L);
+
+        JournalCompactor.Report report = new JournalCompactor(journalEventStore, JournalRetentionPolicy.builder()
+                .setMaxAge(Duration.ofDays(30))
+                .setMaxEventsPerStream(5)
+                .setBatchSize(7)
+                .setMaxBatchesPerRun(100)
+                .build()).compact();
+
+        assertEquals(49 + 15 + 5, report.getDeleted());
+        assertEquals(Arrays.asList(50L), sequences(journalEventStore.getEvents("stageA", 1L, 100)));
+        assertEquals(Arrays.asList(16L, 17L, 18L, 19L, 20L), sequences(journalEventStore.getEvents("stageB", 1L, 100)));
+        assertEquals(Arrays.asList(6L, 7L, 8L, 9L, 10L), sequences(journalEventStore.getEvents("stageC", 1L, 100)),
+                "events from the first unacknowledged one on must survive");
+        assertEquals(5, journalEventStore.getUnacknowledgedEvents(100).size());
+    }
+
+    /**
+     * Seeds {@code count} events; those with a sequence lower than {@code firstUnacknowledged} are acknowledged.
+     */
+    private void seedStream(String streamId, int count, Instant occurredAt, long firstUnacknowledged) {
+        List<Document> documents = new ArrayList<>();
+        for (long sequence = 1; sequence <= count; sequence++) {
+            String eventId = streamId + "-" + sequence;
+            documents.add(mapper.toDocument(new JournalEvent<>(
+                    eventId,
+                    JournalEventType.CHANGE_STATE,
+                    JournalEvent.DEFAULT_VERSION,
+                    streamId,
+                    sequence,
+                    occurredAt,
+                    AuditEntryTestFactory.createTestAuditEntry(
+                            eventId, AuditEntry.Status.APPLIED, AuditTxType.NON_TX, (Class<?>) null),
+                    sequence < firstUnacknowledged)));
+        }
+        database.getCollection(JOURNAL_COLLECTION).insertMany(documents);
+    }
+
+    private static List<Long> sequences(List<JournalEvent<AuditEntry>> events) {
+        return events.stream().map(JournalEvent::getStreamSequence).collect(Collectors.toList());
+    }
+}
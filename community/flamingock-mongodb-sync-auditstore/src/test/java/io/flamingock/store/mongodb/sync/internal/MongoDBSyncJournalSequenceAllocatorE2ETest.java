@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.mongodb.sync.internal;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.core.journal.JournalEventSequencer;
+import io.flamingock.internal.core.journal.JournalEventSequencerFactory;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.flamingock.internal.common.mongodb.journal.JournalEventFieldConstants.KEY_STREAM_ID;
+import static io.flamingock.internal.common.mongodb.journal.JournalEventFieldConstants.KEY_STREAM_SEQUENCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+class MongoDBSyncJournalSequenceAllocatorE2ETest {
+
+    private static final String DB_NAME = "test";
+    private static final String JOURNAL_COLLECTION = "flamingockJournalEvents";
+    private static final String SEQUENCES_COLLECTION = "flamingockJournalEventsSequences";
+    private static final int WRITERS = 32;
+
+    @Container
+    public static final MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:6")).withReuse(true);
+
+    private MongoClient mongoClient;
+    private MongoDatabase database;
+    private MongoDBSyncJournalEventStore journalEventStore;
+    private MongoDBSyncJournalSequenceAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        mongoClient = MongoClients.create(mongoDBContainer.getConnectionString());
+        database = mongoClient.getDatabase(DB_NAME);
+        journalEventStore = new MongoDBSyncJournalEventStore(database, JOURNAL_COLLECTION,
+                ReadConcern.MAJORITY, ReadPreference.primary(), WriteConcern.MAJORITY.withJournal(true));
+        journalEventStore.initialize(true);
+        allocator = new MongoDBSyncJournalSequenceAllocator(database, SEQUENCES_COLLECTION,
+                ReadConcern.MAJORITY, ReadPreference.primary(), WriteConcern.MAJORITY.withJournal(true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.drop();
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("reservations are consecutive blocks and seeding never lowers the counter")
+    void reservesConsecutiveBlocks() {
+        assertEquals(1L, allocator.reserve("stageA", 10));
+        assertEquals(11L, allocator.reserve("stageA", 5));
+        assertEquals(1L, allocator.reserve("stageB", 3));
+
+        allocator.seed("stageA", 100L);
+        assertEquals(101L, allocator.reserve("stageA", 10));
+        allocator.seed("stageA", 50L);
+        assertEquals(111L, allocator.reserve("stageA", 10));
+    }
+
+    @Test
+    @DisplayName("32 concurrent writers append to one stream without colliding on the unique index")
+    void concurrentWritersNeverCollide() throws Exception {
+        int eventsPerWriter = 50;
+        JournalEventSequencerFactory factory = new JournalEventSequencerFactory(journalEventStore, allocator, 8);
+        AuditEntry entry = AuditEntryTestFactory.createTestAuditEntry(
+                "change-1", AuditEntry.Status.APPLIED, AuditTxType.NON_TX);
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                futures.add(executor.submit(() -> {
+                    JournalEventSequencer sequencer = factory.forStream("stageA");
+                    start.await();
+                    try (ClientSession session = mongoClient.startSession()) {
+                        for (int i = 0; i < eventsPerWriter; i++) {
+                            journalEventStore.write(session, sequencer.newEvent(entry));
+                            sequencer.confirm();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<Long> sequences = new HashSet<>();
+        for (Document document : database.getCollection(JOURNAL_COLLECTION).find(Filters.eq(KEY_STREAM_ID, "stageA"))) {
+            assertTrue(sequences.add(((Number) document.get(KEY_STREAM_SEQUENCE)).longValue()));
+        }
+        assertEquals(WRITERS * eventsPerWriter, sequences.size());
+
+        // the next writer starts past everything already reserved, gaps included
+        long next = factory.forStream("stageA").newEvent(entry).getStreamSequence();
+        assertTrue(sequences.stream().allMatch(sequence -> sequence < next));
+    }
+}
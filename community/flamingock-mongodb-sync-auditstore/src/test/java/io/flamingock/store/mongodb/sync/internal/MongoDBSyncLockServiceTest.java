@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.mongodb.sync.internal;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import io.flamingock.internal.core.external.store.lock.LockAcquisition;
+import io.flamingock.internal.core.external.store.lock.LockKey;
+import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.util.id.RunnerId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+class MongoDBSyncLockServiceTest {
+
+    private static final String DB_NAME = "test";
+    private static final String LOCK_COLLECTION = "testFlamingockLock";
+    private static final LockKey LOCK_KEY = LockKey.fromString("lockKey1");
+    private static final int CONTENDERS = 8;
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:6"));
+
+    private MongoClient mongoClient;
+    private MongoDatabase database;
+    private MongoDBSyncLockService lockService;
+
+    @BeforeEach
+    void beforeEach() {
+        mongoClient = MongoClients.create(mongoDBContainer.getConnectionString());
+        database = mongoClient.getDatabase(DB_NAME);
+        lockService = new MongoDBSyncLockService(
+                database,
+                LOCK_COLLECTION,
+                ReadConcern.MAJORITY,
+                ReadPreference.primary(),
+                WriteConcern.MAJORITY.withJournal(true));
+        lockService.initialize(true);
+    }
+
+    @AfterEach
+    void afterEach() {
+        database.drop();
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("Should acquire and read lock")
+    void shouldAcquireAndReadLock() {
+        RunnerId runnerId = RunnerId.fromString("runner-1");
+
+        LockAcquisition lockAcquisition = lockService.upsert(LOCK_KEY, runnerId, 10000);
+        LockAcquisition lockInfo = lockService.getLockInfo(LOCK_KEY);
+
+        assertEquals(runnerId, lockAcquisition.getOwner());
+        assertEquals(10000, lockAcquisition.getAcquiredForMillis());
+        assertEquals(runnerId, lockInfo.getOwner());
+    }
+
+    @Test
+    @DisplayName("Should report the current owner when the lock is held by another runner")
+    void shouldReportCurrentOwnerWhenHeldByAnotherRunner() {
+        RunnerId holder = RunnerId.fromString("runner-1");
+        lockService.upsert(LOCK_KEY, holder, 10000);
+
+        LockServiceException ex = assertThrows(LockServiceException.class, () ->
+                lockService.upsert(LOCK_KEY, RunnerId.fromString("runner-2"), 10000));
+
+        assertNotNull(ex.getCurrentLock());
+        assertEquals(holder, ex.getCurrentLock().getOwner());
+        assertTrue(ex.getCurrentLock().getAcquiredForMillis() > 0);
+        assertTrue(ex.getCurrentLock().getAcquiredForMillis() <= 10000);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent runners acquire the lock")
+    void shouldLetExactlyOneConcurrentRunnerAcquire() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<LockAcquisition>> attempts = new ArrayList<>();
+            for (int i = 0; i < CONTENDERS; i++) {
+                RunnerId runnerId = RunnerId.fromString("runner-" + i);
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return lockService.upsert(LOCK_KEY, runnerId, 10000);
+                    } catch (LockServiceException ex) {
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<LockAcquisition> winners = new ArrayList<>();
+            for (Future<LockAcquisition> attempt : attempts) {
+                LockAcquisition acquisition = attempt.get(30, TimeUnit.SECONDS);
+                if (acquisition != null) {
+                    winners.add(acquisition);
+                }
+            }
+
+            assertEquals(1, winners.size());
+            assertEquals(winners.get(0).getOwner(), lockService.getLockInfo(LOCK_KEY).getOwner());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should take over an expired lock")
+    void shouldTakeOverExpiredLock() throws InterruptedException {
+        lockService.upsert(LOCK_KEY, RunnerId.fromString("runner-1"), 1);
+        Thread.sleep(50);
+
+        RunnerId newOwner = RunnerId.fromString("runner-2");
+        LockAcquisition acquisition = lockService.upsert(LOCK_KEY, newOwner, 10000);
+
+        assertEquals(newOwner, acquisition.getOwner());
+        assertEquals(newOwner, lockService.getLockInfo(LOCK_KEY).getOwner());
+    }
+
+    @Test
+    @DisplayName("Should not extend a lock held by another runner")
+    void shouldNotExtendLockHeldByAnotherRunner() {
+        RunnerId holder = RunnerId.fromString("runner-1");
+        lockService.upsert(LOCK_KEY, holder, 10000);
+
+        LockServiceException ex = assertThrows(LockServiceException.class, () ->
+                lockService.extendLock(LOCK_KEY, RunnerId.fromString("runner-2"), 10000));
+
+        assertEquals(holder, ex.getCurrentLock().getOwner());
+        assertEquals(holder, lockService.getLockInfo(LOCK_KEY).getOwner());
+    }
+
+    @Test
+    @DisplayName("Should not extend a lock that doesn't exist")
+    void shouldNotExtendMissingLock() {
+        LockServiceException ex = assertThrows(LockServiceException.class, () ->
+                lockService.extendLock(LOCK_KEY, RunnerId.fromString("runner-1"), 10000));
+
+        assertNull(ex.getCurrentLock());
+        assertNull(lockService.getLockInfo(LOCK_KEY));
+    }
+
+    @Test
+    @DisplayName("Should extend and release lock")
+    void shouldExtendAndReleaseLock() {
+        RunnerId runnerId = RunnerId.fromString("runner-1");
+        lockService.upsert(LOCK_KEY, runnerId, 10000);
+
+        LockAcquisition extension = lockService.extendLock(LOCK_KEY, runnerId, 20000);
+        lockService.releaseLock(LOCK_KEY, runnerId);
+
+        assertEquals(runnerId, extension.getOwner());
+        assertEquals(20000, extension.getAcquiredForMillis());
+        assertNull(lockService.getLockInfo(LOCK_KEY));
+    }
+}
@@ -15,30 +15,54 @@
  */
 package io.flamingock.store.sql;
 
+import io.flamingock.core.journal.JournalRetentionPolicy;
+import io.flamingock.internal.common.core.audit.AuditPersistenceFactory;
 import io.flamingock.internal.common.core.context.ContextResolver;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.common.core.feature.Features;
+import io.flamingock.internal.common.sql.SqlDialect;
 import io.flamingock.internal.core.configuration.community.CommunityConfigurable;
+import io.flamingock.internal.core.configuration.core.CoreConfigurable;
 import io.flamingock.internal.core.external.store.CommunityAuditStore;
 import io.flamingock.internal.core.external.store.audit.community.CommunityAuditPersistence;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
+import io.flamingock.internal.core.journal.JournalCompactor;
+import io.flamingock.internal.core.journal.JournalEventSequencer;
+import io.flamingock.internal.core.journal.JournalEventSequencerFactory;
 import io.flamingock.internal.util.Constants;
+import io.flamingock.internal.util.FeatureFlag;
 import io.flamingock.internal.util.constants.CommunityPersistenceConstants;
 import io.flamingock.internal.util.id.RunnerId;
+import io.flamingock.store.sql.internal.SqlAdvisoryLockService;
 import io.flamingock.store.sql.internal.SqlAuditPersistence;
+import io.flamingock.store.sql.internal.SqlAuditor;
+import io.flamingock.store.sql.internal.SqlJournalEventStore;
 import io.flamingock.store.sql.internal.SqlLockService;
 import io.flamingock.externalsystem.sql.api.SqlExternalSystem;
 
 import javax.sql.DataSource;
+import java.util.Optional;
 
 public class SqlAuditStore implements CommunityAuditStore {
 
+    private static final long DEFAULT_ADVISORY_LOCK_WAIT_MILLIS = 1000L;
+
     private final DataSource dataSource;
     private CommunityConfigurable communityConfiguration;
     private RunnerId runnerId;
     private SqlAuditPersistence persistence;
-    private SqlLockService lockService;
+    private CommunityLockService lockService;
     private String auditRepositoryName = CommunityPersistenceConstants.DEFAULT_AUDIT_STORE_NAME;
     private String lockRepositoryName = CommunityPersistenceConstants.DEFAULT_LOCK_STORE_NAME;
+    private String journalRepositoryName = SqlJournalEventStore.DEFAULT_JOURNAL_REPOSITORY_NAME;
     private boolean autoCreate = true;
+    private boolean advisoryLock = false;
+    private long advisoryLockWaitMillis = DEFAULT_ADVISORY_LOCK_WAIT_MILLIS;
+    private SqlJournalEventStore journalEventStore;
+    private JournalEventSequencerFactory journalEventSequencerFactory;
+    private JournalRetentionPolicy journalRetentionPolicy;
+    private JournalCompactor journalCompactor;
 
     private SqlAuditStore(DataSource dataSource) {
         this.dataSource = dataSource;
@@ -73,6 +97,30 @@ public class SqlAuditStore implements CommunityAuditStore {
         return this;
     }
 
+    public SqlAuditStore withJournalRepositoryName(String journalRepositoryName) {
+        this.journalRepositoryName = journalRepositoryName;
+        return this;
+    }
+
+    /**
+     * Enables the background compaction of acknowledged journal events. Only takes effect while journal
+     * events are enabled.
+     */
+    public SqlAuditStore withJournalRetentionPolicy(JournalRetentionPolicy journalRetentionPolicy) {
+        this.journalRetentionPolicy = journalRetentionPolicy;
+        return this;
+    }
+
+    /**
+     * Uses the database's native advisory locks (PostgreSQL, MySQL/MariaDB, SQL Server and Oracle) instead of
+     * emulating the lock with a table row. The row is still written, for observability. Other dialects keep
+     * the table lock.
+     */
+    public SqlAuditStore withAdvisoryLock(boolean advisoryLock) {
+        this.advisoryLock = advisoryLock;
+        return this;
+    }
+
     public SqlAuditStore withAutoCreate(boolean autoCreate) {
         this.autoCreate = autoCreate;
         return this;
@@ -82,6 +130,19 @@ public class SqlAuditStore implements CommunityAuditStore {
     public void initialize(ContextResolver baseContext) {
         runnerId = baseContext.getRequiredDependencyValue(RunnerId.class);
         communityConfiguration = baseContext.getRequiredDependencyValue(CommunityConfigurable.class);
+        // each advisory acquisition waits in the database for as long as the lock would otherwise poll
+        advisoryLockWaitMillis = baseContext.getDependencyValue(CoreConfigurable.class)
+                .map(CoreConfigurable::getLockTryFrequencyMillis)
+                .orElse(DEFAULT_ADVISORY_LOCK_WAIT_MILLIS);
+        journalEventStore = new SqlJournalEventStore(dataSource, journalRepositoryName);
+        journalEventSequencerFactory = new JournalEventSequencerFactory(journalEventStore);
+        this.validate();
+        if (journalRetentionPolicy != null && FeatureFlag.isEnabled(Features.JOURNAL_EVENTS, false)) {
+            // The store reads nothing until it is initialized
+            journalEventStore.initialize(autoCreate);
+            journalCompactor = new JournalCompactor(journalEventStore, journalRetentionPolicy);
+            journalCompactor.start();
+        }
     }
 
     @Override
@@ -93,13 +154,77 @@ public class SqlAuditStore implements CommunityAuditStore {
         return persistence;
     }
 
+    @Override
+    public Optional<CompactableAuditHistory> getCompactableAuditHistory() {
+        SqlAuditor auditor = new SqlAuditor(dataSource, auditRepositoryName, autoCreate);
+        auditor.initialize();
+        return Optional.of(auditor);
+    }
+
+    @Override
+    public AuditPersistenceFactory<CommunityAuditPersistence> getPersistenceFactory() {
+        return stageId -> {
+            if (!FeatureFlag.isEnabled(Features.JOURNAL_EVENTS, false)) {
+                return getPersistence();
+            }
+            // The journal must exist before the sequencer reads the stream's last position from it
+            journalEventStore.initialize(autoCreate);
+            JournalEventSequencer journalEventSequencer = journalEventSequencerFactory.forStream(stageId);
+            SqlAuditPersistence stagePersistence = new SqlAuditPersistence(
+                    communityConfiguration,
+                    dataSource,
+                    auditRepositoryName,
+                    journalEventStore,
+                    journalEventSequencer,
+                    autoCreate
+            );
+            stagePersistence.initialize(runnerId);
+            return stagePersistence;
+        };
+    }
+
+    @Override
+    public Runnable getCloser() {
+        return () -> {
+            if (journalCompactor != null) {
+                journalCompactor.close();
+            }
+        };
+    }
 
     @Override
     public synchronized CommunityLockService getLockService() {
         if (lockService == null) {
-            lockService = new SqlLockService(dataSource, lockRepositoryName);
-            lockService.initialize(autoCreate);
+            // the advisory lock keeps its lease row in the same table
+            SqlLockService tableLockService = new SqlLockService(dataSource, lockRepositoryName);
+            tableLockService.initialize(autoCreate);
+            SqlDialect sqlDialect = tableLockService.getSqlDialect();
+            lockService = advisoryLock && SqlAdvisoryLockService.isSupported(sqlDialect)
+                    ? new SqlAdvisoryLockService(dataSource, lockRepositoryName, sqlDialect, advisoryLockWaitMillis)
+                    : tableLockService;
         }
         return lockService;
     }
+
+    private void validate() {
+        if (auditRepositoryName == null || auditRepositoryName.trim().isEmpty()) {
+            throw new FlamingockException("The 'auditRepositoryName' property is required.");
+        }
+
+        if (lockRepositoryName == null || lockRepositoryName.trim().isEmpty()) {
+            throw new FlamingockException("The 'lockRepositoryName' property is required.");
+        }
+
+        if (journalRepositoryName == null || journalRepositoryName.trim().isEmpty()) {
+            throw new FlamingockException("The 'journalRepositoryName' property is required.");
+        }
+
+        if (journalRepositoryName.trim().equalsIgnoreCase(auditRepositoryName.trim())) {
+            throw new FlamingockException("The 'journalRepositoryName' and 'auditRepositoryName' properties must not be the same.");
+        }
+
+        if (journalRepositoryName.trim().equalsIgnoreCase(lockRepositoryName.trim())) {
+            throw new FlamingockException("The 'journalRepositoryName' and 'lockRepositoryName' properties must not be the same.");
+        }
+    }
 }
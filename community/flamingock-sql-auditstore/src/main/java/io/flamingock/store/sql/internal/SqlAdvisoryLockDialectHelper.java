@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.sql.internal;
+
+import io.flamingock.internal.common.sql.SqlDialect;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Per-dialect calls for the database's native, session-scoped advisory locks.
+ * <ul>
+ *     <li>PostgreSQL: {@code pg_try_advisory_lock}, or {@code pg_advisory_lock} bounded by {@code lock_timeout}
+ *     when waiting</li>
+ *     <li>MySQL/MariaDB: {@code GET_LOCK}</li>
+ *     <li>SQL Server: {@code sp_getapplock} with a session owner</li>
+ *     <li>Oracle: {@code DBMS_LOCK} (needs EXECUTE on {@code DBMS_LOCK})</li>
+ * </ul>
+ * The lock is held by the connection that takes it, until it's released or the session ends.
+ */
+public final class SqlAdvisoryLockDialectHelper {
+
+    /**
+     * GET_LOCK limit, the smallest among the supported dialects
+     */
+    static final int MAX_LOCK_NAME_LENGTH = 64;
+
+    private static final String LOCK_NAME_PREFIX = "flamingock:";
+
+    private static final String POSTGRESQL_LOCK_NOT_AVAILABLE = "55P03";
+
+    private final SqlDialect sqlDialect;
+
+    public SqlAdvisoryLockDialectHelper(SqlDialect sqlDialect) {
+        if (!isSupported(sqlDialect)) {
+            throw new IllegalArgumentException("Advisory locks are not supported for dialect " + sqlDialect);
+        }
+        this.sqlDialect = sqlDialect;
+    }
+
+    public static boolean isSupported(SqlDialect sqlDialect) {
+        if (sqlDialect == null) {
+            return false;
+        }
+        switch (sqlDialect) {
+            case POSTGRESQL:
+            case MYSQL:
+            case MARIADB:
+            case SQLSERVER:
+            case ORACLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public SqlDialect getSqlDialect() {
+        return sqlDialect;
+    }
+
+    /**
+     * Name of the advisory lock for the given lock key. Scoped by the lock table, so stores using different
+     * tables don't share locks, and hashed when it exceeds {@link #MAX_LOCK_NAME_LENGTH}.
+     */
+    public String getLockName(String lockRepositoryName, String lockKey) {
+        String name = LOCK_NAME_PREFIX + lockRepositoryName + ":" + lockKey;
+        if (name.length() <= MAX_LOCK_NAME_LENGTH) {
+            return name;
+        }
+        return LOCK_NAME_PREFIX + toHex(sha256(name)).substring(0, MAX_LOCK_NAME_LENGTH - LOCK_NAME_PREFIX.length());
+    }
+
+    public String getLockSqlString(long waitMillis) {
+        switch (sqlDialect) {
+            case POSTGRESQL:
+                // pg_advisory_lock returns void: the lock is granted when the statement completes, and
+                // lock_timeout makes it fail with 55P03 otherwise
+                return waitMillis > 0 ? "SELECT pg_advisory_lock(?)" : "SELECT pg_try_advisory_lock(?)";
+            case MYSQL:
+            case MARIADB:
+                return "SELECT GET_LOCK(?, ?)";
+            case SQLSERVER:
+                return "{? = call sp_getapplock(?, 'Exclusive', 'Session', ?)}";
+            case ORACLE:
+                return "DECLARE h VARCHAR2(128); BEGIN DBMS_LOCK.ALLOCATE_UNIQUE(?, h); " +
+                        "? := DBMS_LOCK.REQUEST(h, DBMS_LOCK.X_MODE, ?, FALSE); END;";
+            default:
+                throw new UnsupportedOperationException("Dialect not supported for advisory locks: " + sqlDialect.name());
+        }
+    }
+
+    public String getUnlockSqlString() {
+        switch (sqlDialect) {
+            case POSTGRESQL:
+                return "SELECT pg_advisory_unlock(?)";
+            case MYSQL:
+            case MARIADB:
+                return "SELECT RELEASE_LOCK(?)";
+            case SQLSERVER:
+                return "{? = call sp_releaseapplock(?, 'Session')}";
+            case ORACLE:
+                return "DECLARE h VARCHAR2(128); BEGIN DBMS_LOCK.ALLOCATE_UNIQUE(?, h); " +
+                        "? := DBMS_LOCK.RELEASE(h); END;";
+            default:
+                throw new UnsupportedOperationException("Dialect not supported for advisory locks: " + sqlDialect.name());
+        }
+    }
+
+    /**
+     * Takes the advisory lock on the given connection, waiting up to {@code waitMillis} in the database.
+     *
+     * @return true if the lock was granted, false if it's held by another session
+     */
+    public boolean tryLock(Connection connection, String lockName, long waitMillis) throws SQLException {
+        String sql = getLockSqlString(waitMillis);
+        switch (sqlDialect) {
+            case POSTGRESQL:
+                return waitMillis > 0
+                        ? postgresLockWithTimeout(connection, sql, lockName, waitMillis)
+                        : queryBoolean(connection, sql, toLockId(lockName));
+            case MYSQL:
+            case MARIADB:
+                try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                    ps.setString(1, lockName);
+                    ps.setLong(2, toSeconds(waitMillis));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        // 1 granted, 0 timed out, NULL on error (e.g. the thread was killed)
+                        return rs.next() && rs.getInt(1) == 1;
+                    }
+                }
+            case SQLSERVER:
+                try (CallableStatement cs = connection.prepareCall(sql)) {
+                    cs.registerOutParameter(1, Types.INTEGER);
+                    cs.setString(2, lockName);
+                    cs.setLong(3, waitMillis);
+                    cs.execute();
+                    // 0 granted, 1 granted after waiting, negative on timeout, cancel or deadlock
+                    return cs.getInt(1) >= 0;
+                }
+            case ORACLE:
+                try (CallableStatement cs = connection.prepareCall(sql)) {
+                    cs.setString(1, lockName);
+                    cs.registerOutParameter(2, Types.INTEGER);
+                    cs.setLong(3, toSeconds(waitMillis));
+                    cs.execute();
+                    // 0 granted, 4 already owned by this session
+                    int result = cs.getInt(2);
+                    return result == 0 || result == 4;
+                }
+            default:
+                throw new UnsupportedOperationException("Dialect not supported for advisory locks: " + sqlDialect.name());
+        }
+    }
+
+    public void unlock(Connection connection, String lockName) throws SQLException {
+        String sql = getUnlockSqlString();
+        switch (sqlDialect) {
+            case POSTGRESQL:
+                queryBoolean(connection, sql, toLockId(lockName));
+                break;
+            case MYSQL:
+            case MARIADB:
+                try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                    ps.setString(1, lockName);
+                    ps.executeQuery().close();
+                }
+                break;
+            case SQLSERVER:
+                try (CallableStatement cs = connection.prepareCall(sql)) {
+                    cs.registerOutParameter(1, Types.INTEGER);
+                    cs.setString(2, lockName);
+                    cs.execute();
+                }
+                break;
+            case ORACLE:
+                try (CallableStatement cs = connection.prepareCall(sql)) {
+                    cs.setString(1, lockName);
+                    cs.registerOutParameter(2, Types.INTEGER);
+                    cs.execute();
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException("Dialect not supported for advisory locks: " + sqlDialect.name());
+        }
+    }
+
+    /**
+     * PostgreSQL advisory locks are keyed by a bigint
+     */
+    static long toLockId(String lockName) {
+        byte[] hash = sha256(lockName);
+        long id = 0;
+        for (int i = 0; i < 8; i++) {
+            id = (id << 8) | (hash[i] & 0xFF);
+        }
+        return id;
+    }
+
+    private boolean postgresLockWithTimeout(Connection connection, String sql, String lockName, long waitMillis) throws SQLException {
+        setLockTimeout(connection, waitMillis + "ms");
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(1, toLockId(lockName));
+            ps.executeQuery().close();
+            return true;
+        } catch (SQLException e) {
+            if (POSTGRESQL_LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                return false;
+            }
+            throw e;
+        } finally {
+            // the connection goes back to the pool when the lock is released. If this fails after the lock
+            // was granted, the caller discards the session
+            setLockTimeout(connection, "0");
+        }
+    }
+
+    private static void setLockTimeout(Connection connection, String value) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT set_config('lock_timeout', ?, false)")) {
+            ps.setString(1, value);
+            ps.executeQuery().close();
+        }
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql, long lockId) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(1, lockId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static long toSeconds(long millis) {
+        return millis <= 0 ? 0 : (millis + 999) / 1000;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.sql.internal;
+
+import io.flamingock.internal.common.sql.SqlDialect;
+import io.flamingock.internal.core.external.store.lock.LockAcquisition;
+import io.flamingock.internal.core.external.store.lock.LockKey;
+import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.core.external.store.lock.LockStatus;
+import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
+import io.flamingock.internal.util.id.RunnerId;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lock service backed by the database's native advisory locks (see {@link SqlAdvisoryLockDialectHelper}).
+ * <p>
+ * The lock is taken on a dedicated connection and held for as long as that session lives, so a crashed runner
+ * frees it as soon as the database drops its session, and a contended acquisition is a single call that waits
+ * in the database instead of a select and upsert per attempt. The row in the lock table is only kept for
+ * observability: it tells other runners, and operators, who holds the lock and until when it's leased.
+ */
+public class SqlAdvisoryLockService implements CommunityLockService {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("SqlLock");
+
+    private final DataSource dataSource;
+    private final String lockRepositoryName;
+    private final SqlAdvisoryLockDialectHelper dialectHelper;
+    private final long acquireWaitMillis;
+    private final Map<String, HeldLock> heldLocks = new HashMap<>();
+
+    /**
+     * @param acquireWaitMillis how long a single acquisition waits in the database for the lock to be free
+     */
+    public SqlAdvisoryLockService(DataSource dataSource,
+                                  String lockRepositoryName,
+                                  SqlDialect sqlDialect,
+                                  long acquireWaitMillis) {
+        this.dataSource = dataSource;
+        this.lockRepositoryName = lockRepositoryName;
+        this.dialectHelper = new SqlAdvisoryLockDialectHelper(sqlDialect);
+        this.acquireWaitMillis = Math.max(0L, acquireWaitMillis);
+    }
+
+    public static boolean isSupported(SqlDialect sqlDialect) {
+        return SqlAdvisoryLockDialectHelper.isSupported(sqlDialect);
+    }
+
+    @Override
+    public synchronized LockAcquisition upsert(LockKey key, RunnerId owner, long leaseMillis) {
+        String keyStr = key.toString();
+        HeldLock held = heldLocks.get(keyStr);
+        if (held != null) {
+            if (!held.owner.equals(owner)) {
+                throw new LockServiceException("upsert", keyStr, "Still locked by " + held.owner);
+            }
+            writeLeaseRow(held.connection, keyStr, owner, leaseMillis);
+            return new LockAcquisition(owner, leaseMillis);
+        }
+
+        String lockName = dialectHelper.getLockName(lockRepositoryName, keyStr);
+        Connection conn = null;
+        try {
+            conn = dataSource.getConnection();
+            conn.setAutoCommit(true);
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            throw new LockServiceException(dialectHelper.getLockSqlString(acquireWaitMillis), lockName, e.getMessage());
+        }
+
+        boolean granted;
+        try {
+            granted = dialectHelper.tryLock(conn, lockName, acquireWaitMillis);
+        } catch (SQLException e) {
+            // the lock may have been granted before the failure, so the session can't go back to the pool
+            discardSession(conn, lockName);
+            throw new LockServiceException(dialectHelper.getLockSqlString(acquireWaitMillis), lockName, e.getMessage());
+        } catch (RuntimeException e) {
+            discardSession(conn, lockName);
+            throw e;
+        }
+        if (!granted) {
+            closeQuietly(conn);
+            throw new LockServiceException(
+                    dialectHelper.getLockSqlString(acquireWaitMillis),
+                    lockName,
+                    "Advisory lock held by another session");
+        }
+
+        heldLocks.put(keyStr, new HeldLock(conn, owner, lockName));
+        writeLeaseRow(conn, keyStr, owner, leaseMillis);
+        return new LockAcquisition(owner, leaseMillis);
+    }
+
+    @Override
+    public synchronized LockAcquisition extendLock(LockKey key, RunnerId owner, long leaseMillis) throws LockServiceException {
+        String keyStr = key.toString();
+        HeldLock held = heldLocks.get(keyStr);
+        if (held == null || !held.owner.equals(owner)) {
+            throw new LockServiceException("extendLock", keyStr,
+                    "Lock belongs to " + (held != null ? held.owner : "none"));
+        }
+        if (!isAlive(held.connection)) {
+            // the database released the lock together with the session
+            heldLocks.remove(keyStr);
+            closeQuietly(held.connection);
+            throw new LockServiceException("extendLock", keyStr, "Lock session lost");
+        }
+        writeLeaseRow(held.connection, keyStr, owner, leaseMillis);
+        return new LockAcquisition(owner, leaseMillis);
+    }
+
+    @Override
+    public LockAcquisition getLockInfo(LockKey lockKey) {
+        String keyStr = lockKey.toString();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "SELECT owner, expires_at FROM " + lockRepositoryName + " WHERE lock_key = ?")) {
+            ps.setString(1, keyStr);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return new LockAcquisition(RunnerId.fromString(rs.getString("owner")),
+                            rs.getTimestamp("expires_at").getTime() - System.currentTimeMillis());
+                }
+            }
+            return null;
+        } catch (SQLException e) {
+            throw new LockServiceException("getLockInfo", keyStr, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void releaseLock(LockKey lockKey, RunnerId owner) {
+        String keyStr = lockKey.toString();
+        HeldLock held = heldLocks.get(keyStr);
+        if (held == null || !held.owner.equals(owner)) {
+            return;
+        }
+        heldLocks.remove(keyStr);
+        try {
+            deleteLeaseRow(held.connection, keyStr, owner);
+        } catch (SQLException e) {
+            // informational only, it mustn't keep the advisory lock from being released
+            logger.warn("Could not delete the lease row for lock [{}]: {}", keyStr, e.getMessage());
+        }
+
+        try {
+            dialectHelper.unlock(held.connection, held.lockName);
+        } catch (SQLException | RuntimeException e) {
+            // the session may still hold the lock: end it rather than handing it back to the pool
+            abortQuietly(held.connection);
+            throw new LockServiceException(dialectHelper.getUnlockSqlString(), held.lockName, e.getMessage());
+        } finally {
+            closeQuietly(held.connection);
+        }
+    }
+
+    private void writeLeaseRow(Connection conn, String key, RunnerId owner, long leaseMillis) {
+        try {
+            deleteLeaseRow(conn, key, null);
+            try (PreparedStatement insert = conn.prepareStatement(
+                    "INSERT INTO " + lockRepositoryName + " (lock_key, status, owner, expires_at) VALUES (?, ?, ?, ?)")) {
+                insert.setString(1, key);
+                insert.setString(2, LockStatus.LOCK_HELD.name());
+                insert.setString(3, owner.toString());
+                insert.setTimestamp(4, new Timestamp(System.currentTimeMillis() + leaseMillis));
+                insert.executeUpdate();
+            }
+        } catch (SQLException e) {
+            // informational only; the advisory lock is what guards the execution
+            logger.warn("Could not write the lease row for lock [{}]: {}", key, e.getMessage());
+        }
+    }
+
+    private void deleteLeaseRow(Connection conn, String key, RunnerId owner) throws SQLException {
+        String sql = "DELETE FROM " + lockRepositoryName + " WHERE lock_key = ?" + (owner != null ? " AND owner = ?" : "");
+        try (PreparedStatement delete = conn.prepareStatement(sql)) {
+            delete.setString(1, key);
+            if (owner != null) {
+                delete.setString(2, owner.toString());
+            }
+            delete.executeUpdate();
+        }
+    }
+
+    private static boolean isAlive(Connection conn) {
+        try {
+            return !conn.isClosed() && conn.isValid(5);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Ends a session that may hold the advisory lock, which releases it in the database. The connection is
+     * aborted, not just closed, so a pooled connection is discarded instead of going back to the pool with
+     * the lock.
+     */
+    private void discardSession(Connection conn, String lockName) {
+        try {
+            dialectHelper.unlock(conn, lockName);
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("Error releasing advisory lock [{}] before discarding its session", lockName, e);
+        }
+        abortQuietly(conn);
+        closeQuietly(conn);
+    }
+
+    private static void abortQuietly(Connection conn) {
+        try {
+            conn.abort(Runnable::run);
+        } catch (SQLException | RuntimeException e) {
+            logger.warn("Could not abort the lock connection, it may still hold the advisory lock: {}", e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                // Log but don't throw
+                logger.debug("Error closing lock connection", e);
+            }
+        }
+    }
+
+    private static final class HeldLock {
+        private final Connection connection;
+        private final RunnerId owner;
+        private final String lockName;
+
+        private HeldLock(Connection connection, RunnerId owner, String lockName) {
+            this.connection = connection;
+            this.owner = owner;
+            this.lockName = lockName;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.sql.internal;
+
+import io.flamingock.api.RecoveryStrategy;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Column mapping of an {@link AuditEntry}, shared by the audit table and the journal table so both lay the
+ * entry out identically.
+ */
+final class SqlAuditEntryMapper {
+
+    private SqlAuditEntryMapper() {
+    }
+
+    /**
+     * Binds the 20 entry columns, in {@code SqlJournalDialectHelper.ENTRY_COLUMNS} order, starting at
+     * {@code firstIndex}.
+     */
+    static void bind(PreparedStatement ps, int firstIndex, AuditEntry auditEntry) throws SQLException {
+        int i = firstIndex;
+        ps.setString(i++, auditEntry.getExecutionId());
+        ps.setString(i++, auditEntry.getStageId());
+        ps.setString(i++, auditEntry.getChangeId());
+        ps.setString(i++, auditEntry.getAuthor());
+        ps.setTimestamp(i++, Timestamp.valueOf(auditEntry.getCreatedAt()));
+        ps.setString(i++, auditEntry.getState() != null ? auditEntry.getState().name() : null);
+        ps.setString(i++, auditEntry.getClassName());
+        ps.setString(i++, auditEntry.getMethodName());
+        ps.setString(i++, auditEntry.getSourceFile());
+        ps.setString(i++, auditEntry.getMetadata() != null ? auditEntry.getMetadata().toString() : null);
+        ps.setLong(i++, auditEntry.getExecutionMillis());
+        ps.setString(i++, auditEntry.getExecutionHostname());
+        ps.setString(i++, auditEntry.getErrorTrace());
+        ps.setString(i++, auditEntry.getType() != null ? auditEntry.getType().name() : null);
+        ps.setString(i++, auditEntry.getTxType() != null ? auditEntry.getTxType().name() : null);
+        ps.setString(i++, auditEntry.getTargetSystemId());
+        ps.setString(i++, auditEntry.getOrder());
+        ps.setString(i++, auditEntry.getRecoveryStrategy() != null ? auditEntry.getRecoveryStrategy().name() : null);
+        ps.setObject(i++, auditEntry.getTransactionFlag());
+        ps.setObject(i, auditEntry.getSystemChange());
+    }
+
+    static AuditEntry read(ResultSet rs) throws SQLException {
+        return new AuditEntry(
+                rs.getString("execution_id"),
+                rs.getString("stage_id"),
+                rs.getString("change_id"),
+                rs.getString("author"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getString("state") != null ? AuditEntry.Status.valueOf(rs.getString("state")) : null,
+                rs.getString("type") != null ? AuditEntry.ChangeType.valueOf(rs.getString("type")) : null,
+                rs.getString("invoked_class"),
+                rs.getString("invoked_method"),
+                rs.getString("source_file"),
+                rs.getLong("execution_millis"),
+                rs.getString("execution_hostname"),
+                rs.getString("metadata"),
+                rs.getBoolean("system_change"),
+                rs.getString("error_trace"),
+                AuditTxType.fromString(rs.getString("tx_strategy")),
+                rs.getString("target_system_id"),
+                rs.getString("change_order"),
+                rs.getString("recovery_strategy") != null ? RecoveryStrategy.valueOf(rs.getString("recovery_strategy")) : null,
+                rs.getObject("transaction_flag") != null ? rs.getBoolean("transaction_flag") : null
+        );
+    }
+}
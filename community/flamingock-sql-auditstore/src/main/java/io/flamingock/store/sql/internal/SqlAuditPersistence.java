@@ -15,19 +15,27 @@
  */
 package io.flamingock.store.sql.internal;
 
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.feature.Features;
+import io.flamingock.internal.common.core.journal.JournalEvent;
 import io.flamingock.internal.core.configuration.community.CommunityConfigurable;
 import io.flamingock.internal.core.external.store.audit.community.AbstractCommunityAuditPersistence;
-import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.core.journal.JournalEventSequencer;
+import io.flamingock.internal.util.FeatureFlag;
 import io.flamingock.internal.util.Result;
 import io.flamingock.internal.util.id.RunnerId;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.List;
 
 public class SqlAuditPersistence extends AbstractCommunityAuditPersistence {
 
     private final DataSource dataSource;
     private final String auditRepositoryName;
+    private final SqlJournalEventStore journalEventStore;
+    private final JournalEventSequencer journalEventSequencer;
     private final boolean autoCreate;
     private SqlAuditor auditor;
 
@@ -35,9 +43,20 @@ public class SqlAuditPersistence extends AbstractCommunityAuditPersistence {
                                DataSource dataSource,
                                String auditRepositoryName,
                                boolean autoCreate) {
+        this(localConfiguration, dataSource, auditRepositoryName, null, null, autoCreate);
+    }
+
+    public SqlAuditPersistence(CommunityConfigurable localConfiguration,
+                               DataSource dataSource,
+                               String auditRepositoryName,
+                               SqlJournalEventStore journalEventStore,
+                               JournalEventSequencer journalEventSequencer,
+                               boolean autoCreate) {
         super(localConfiguration);
         this.dataSource = dataSource;
         this.auditRepositoryName = auditRepositoryName;
+        this.journalEventStore = journalEventStore;
+        this.journalEventSequencer = journalEventSequencer;
         this.autoCreate = autoCreate;
     }
 
@@ -45,6 +64,14 @@ public class SqlAuditPersistence extends AbstractCommunityAuditPersistence {
     protected void doInitialize(RunnerId runnerId) {
         auditor = new SqlAuditor(dataSource, auditRepositoryName, autoCreate);
         auditor.initialize();
+        if (journalEventStore != null) {
+            FeatureFlag.ifEnabled(Features.JOURNAL_EVENTS, () -> {
+                journalEventStore.initialize(autoCreate);
+                if (autoCreate) {
+                    auditor.createChangeIdIndexIfMissing();
+                }
+            });
+        }
     }
 
     @Override
@@ -54,6 +81,48 @@ public class SqlAuditPersistence extends AbstractCommunityAuditPersistence {
 
     @Override
     public Result writeEntry(AuditEntry auditEntry) {
-        return auditor.writeEntry(auditEntry);
+        // Same model as the other journal-enabled stores: with events, the audit table holds each change's
+        // current state and the journal is the history; without them, the audit rows are themselves the history.
+        if (journalEventStore != null && FeatureFlag.isEnabled(Features.JOURNAL_EVENTS, false)) {
+            Result result = writeEntryWithEvent(auditEntry);
+            if (result instanceof Result.Error) {
+                return result;
+            }
+            // Only a committed transaction reaches this line: writeEntryWithEvent returns an error after any
+            // rollback, so the stream position is never spent on an event that did not land.
+            journalEventSequencer.confirm();
+            return result;
+        } else {
+            return auditor.writeEntry(auditEntry);
+        }
+    }
+
+    private Result writeEntryWithEvent(AuditEntry auditEntry) {
+        try (Connection conn = dataSource.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                JournalEvent<AuditEntry> journalEvent = journalEventSequencer.newEvent(auditEntry);
+                journalEventStore.write(conn, journalEvent);
+                auditor.save(conn, auditEntry);
+                conn.commit();
+                return Result.OK();
+            } catch (SQLException | RuntimeException e) {
+                rollbackQuietly(conn, e);
+                return new Result.Error(e);
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            return new Result.Error(e);
+        }
+    }
+
+    private static void rollbackQuietly(Connection conn, Exception cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException rollbackException) {
+            cause.addSuppressed(rollbackException);
+        }
     }
 }
@@ -17,18 +17,19 @@ package io.flamingock.store.sql.internal;
 
 import io.flamingock.internal.common.core.audit.AuditEntry;
 import io.flamingock.internal.common.core.audit.AuditReader;
-import io.flamingock.internal.common.core.audit.AuditTxType;
 import io.flamingock.internal.common.core.audit.AuditWriter;
 import io.flamingock.internal.common.sql.SqlDialect;
 import io.flamingock.internal.common.sql.dialectHelpers.SqlAuditorDialectHelper;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
 import io.flamingock.internal.util.Result;
 
 import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
-public class SqlAuditor implements AuditWriter, AuditReader {
+public class SqlAuditor implements AuditWriter, AuditReader, CompactableAuditHistory {
 
     private final DataSource dataSource;
     private final String auditTableName;
@@ -76,26 +77,7 @@ public class SqlAuditor implements AuditWriter, AuditReader {
 
             try (PreparedStatement ps = conn.prepareStatement(
                     dialectHelper.getInsertSqlString(auditTableName))) {
-                ps.setString(1, auditEntry.getExecutionId());
-                ps.setString(2, auditEntry.getStageId());
-                ps.setString(3, auditEntry.getChangeId());
-                ps.setString(4, auditEntry.getAuthor());
-                ps.setTimestamp(5, Timestamp.valueOf(auditEntry.getCreatedAt()));
-                ps.setString(6, auditEntry.getState() != null ? auditEntry.getState().name() : null);
-                ps.setString(7, auditEntry.getClassName());
-                ps.setString(8, auditEntry.getMethodName());
-                ps.setString(9, auditEntry.getSourceFile());
-                ps.setString(10, auditEntry.getMetadata() != null ? auditEntry.getMetadata().toString() : null);
-                ps.setLong(11, auditEntry.getExecutionMillis());
-                ps.setString(12, auditEntry.getExecutionHostname());
-                ps.setString(13, auditEntry.getErrorTrace());
-                ps.setString(14, auditEntry.getType() != null ? auditEntry.getType().name() : null);
-                ps.setString(15, auditEntry.getTxType() != null ? auditEntry.getTxType().name() : null);
-                ps.setString(16, auditEntry.getTargetSystemId());
-                ps.setString(17, auditEntry.getOrder());
-                ps.setString(18, auditEntry.getRecoveryStrategy() != null ? auditEntry.getRecoveryStrategy().name() : null);
-                ps.setObject(19, auditEntry.getTransactionFlag());
-                ps.setObject(20, auditEntry.getSystemChange());
+                SqlAuditEntryMapper.bind(ps, 1, auditEntry);
                 ps.executeUpdate();
             }
             return Result.OK();
@@ -113,6 +95,109 @@ public class SqlAuditor implements AuditWriter, AuditReader {
     }
 
 
+    /**
+     * Creates the {@code change_id} index that {@link #save} deletes by, unless the audit table already has an
+     * index led by that column. Only the current-state layout needs it, so it is not part of {@link #initialize}.
+     */
+    void createChangeIdIndexIfMissing() {
+        try (Connection conn = dataSource.getConnection()) {
+            if (hasChangeIdIndex(conn.getMetaData())) {
+                return;
+            }
+            SqlJournalDialectHelper journalDialectHelper = new SqlJournalDialectHelper(dialectHelper.getSqlDialect());
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(journalDialectHelper.getCreateChangeIdIndexSqlString(auditTableName));
+            }
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to create change_id index on audit table", e);
+        }
+    }
+
+    private boolean hasChangeIdIndex(DatabaseMetaData metaData) throws SQLException {
+        String schema = null;
+        String table = auditTableName;
+        int dot = auditTableName.lastIndexOf('.');
+        if (dot >= 0) {
+            schema = auditTableName.substring(0, dot);
+            table = auditTableName.substring(dot + 1);
+        }
+        // Unquoted identifiers are folded to upper case by some databases and to lower case by others
+        for (String candidate : new String[]{table, table.toUpperCase(), table.toLowerCase()}) {
+            String schemaPattern = schema == null ? null
+                    : candidate.equals(table) ? schema
+                    : candidate.equals(table.toUpperCase()) ? schema.toUpperCase() : schema.toLowerCase();
+            try (ResultSet rs = metaData.getIndexInfo(null, schemaPattern, candidate, false, true)) {
+                while (rs.next()) {
+                    if (rs.getShort("ORDINAL_POSITION") == 1 && "change_id".equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replaces the change's row with the given entry, on the caller's connection so it joins the caller's
+     * transaction. This is the current-state layout used with journal events: one row per change, while the
+     * journal keeps every transition. Delete-then-insert rather than a dialect upsert, because the audit table
+     * carries no unique key on {@code change_id}; inside the transaction the two statements are atomic.
+     */
+    void save(Connection conn, AuditEntry auditEntry) throws SQLException {
+        try (PreparedStatement delete = conn.prepareStatement(
+                String.format("DELETE FROM %s WHERE change_id = ?", auditTableName))) {
+            delete.setString(1, auditEntry.getChangeId());
+            delete.executeUpdate();
+        }
+        try (PreparedStatement insert = conn.prepareStatement(dialectHelper.getInsertSqlString(auditTableName))) {
+            SqlAuditEntryMapper.bind(insert, 1, auditEntry);
+            insert.executeUpdate();
+        }
+    }
+
+    /**
+     * Deletes the given rows in one transaction, matching each by change, execution, state and creation time.
+     */
+    @Override
+    public long deleteAuditEntries(Collection<AuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0L;
+        }
+        String sql = String.format(
+                "DELETE FROM %s WHERE change_id = ? AND execution_id = ? AND state = ? AND created_at = ?",
+                auditTableName);
+        try (Connection conn = dataSource.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement delete = conn.prepareStatement(sql)) {
+                for (AuditEntry entry : entries) {
+                    delete.setString(1, entry.getChangeId());
+                    delete.setString(2, entry.getExecutionId());
+                    delete.setString(3, entry.getState() != null ? entry.getState().name() : null);
+                    delete.setTimestamp(4, Timestamp.valueOf(entry.getCreatedAt()));
+                    delete.addBatch();
+                }
+                long deleted = 0L;
+                for (int count : delete.executeBatch()) {
+                    // some drivers only report that a batched statement succeeded, not how many rows it hit
+                    deleted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+                }
+                conn.commit();
+                return deleted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete audit entries", e);
+        }
+    }
+
     @Override
     public List<AuditEntry> getAuditHistory() {
         List<AuditEntry> entries = new ArrayList<>();
@@ -120,29 +205,7 @@ public class SqlAuditor implements AuditWriter, AuditReader {
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(dialectHelper.getSelectHistorySqlString(auditTableName))) {
             while (rs.next()) {
-                AuditEntry entry = new AuditEntry(
-                        rs.getString("execution_id"),
-                        rs.getString("stage_id"),
-                        rs.getString("change_id"),
-                        rs.getString("author"),
-                        rs.getTimestamp("created_at").toLocalDateTime(),
-                        rs.getString("state") != null ? AuditEntry.Status.valueOf(rs.getString("state")) : null,
-                        rs.getString("type") != null ? AuditEntry.ChangeType.valueOf(rs.getString("type")) : null,
-                        rs.getString("invoked_class"),
-                        rs.getString("invoked_method"),
-                        rs.getString("source_file"),
-                        rs.getLong("execution_millis"),
-                        rs.getString("execution_hostname"),
-                        rs.getString("metadata"),
-                        rs.getBoolean("system_change"),
-                        rs.getString("error_trace"),
-                        AuditTxType.fromString(rs.getString("tx_strategy")),
-                        rs.getString("target_system_id"),
-                        rs.getString("change_order"),
-                        rs.getString("recovery_strategy") != null ? io.flamingock.api.RecoveryStrategy.valueOf(rs.getString("recovery_strategy")) : null,
-                        rs.getObject("transaction_flag") != null ? rs.getBoolean("transaction_flag") : null
-                );
-                entries.add(entry);
+                entries.add(SqlAuditEntryMapper.read(rs));
             }
         } catch (SQLException e) {
             throw new RuntimeException("Failed to read audit history", e);
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.sql.internal;
+
+import io.flamingock.internal.common.sql.SqlDialect;
+import io.flamingock.internal.common.sql.SqlDialectFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Per-dialect SQL for the journal event table.
+ * <p>
+ * Every event carries its stream position in {@code stream_sequence}; the primary key on
+ * {@code (stream_id, stream_sequence)} is the per-stream sequence guard, and {@code event_id} has its own
+ * unique constraint. Pending events are flagged by {@code pending = 1}, and the column is set to NULL on
+ * acknowledgement. Where the database supports it the pending index is a real partial (filtered) index, so
+ * it only ever holds the events still to be synchronized; elsewhere it is a composite index led by
+ * {@code pending}, which confines the scan to the same rows.
+ */
+public final class SqlJournalDialectHelper {
+
+    static final String EVENT_COLUMNS =
+            "event_id, event_type, event_version, stream_id, stream_sequence, occurred_at, pending";
+
+    static final String ENTRY_COLUMNS =
+            "execution_id, stage_id, change_id, author, created_at, state, invoked_class, invoked_method, " +
+                    "source_file, metadata, execution_millis, execution_hostname, error_trace, type, tx_strategy, " +
+                    "target_system_id, change_order, recovery_strategy, transaction_flag, system_change";
+
+    private final SqlDialect sqlDialect;
+
+    public SqlJournalDialectHelper(Connection connection) throws SQLException {
+        this.sqlDialect = SqlDialectFactory.getSqlDialect(connection);
+    }
+
+    public SqlJournalDialectHelper(SqlDialect sqlDialect) {
+        this.sqlDialect = sqlDialect;
+    }
+
+    public SqlDialect getSqlDialect() {
+        return sqlDialect;
+    }
+
+    public String getCreateTableSqlString(String tableName) {
+        String varchar;
+        String integer;
+        String bigint;
+        String timestamp;
+        String bool;
+        String text;
+        switch (sqlDialect) {
+            case MYSQL:
+            case MARIADB:
+                varchar = "VARCHAR";
+                integer = "INT";
+                bigint = "BIGINT";
+                timestamp = "TIMESTAMP(6)";
+                bool = "BOOLEAN";
+                text = "TEXT";
+                break;
+            case POSTGRESQL:
+            case SQLITE:
+                varchar = "VARCHAR";
+                integer = "INTEGER";
+                bigint = "BIGINT";
+                timestamp = "TIMESTAMP";
+                bool = "BOOLEAN";
+                text = "TEXT";
+                break;
+            case H2:
+            case DB2:
+                varchar = "VARCHAR";
+                integer = "INTEGER";
+                bigint = "BIGINT";
+                timestamp = "TIMESTAMP";
+                bool = "BOOLEAN";
+                text = "CLOB";
+                break;
+            case SQLSERVER:
+                varchar = "NVARCHAR";
+                integer = "INT";
+                bigint = "BIGINT";
+                timestamp = "DATETIME2";
+                bool = "BIT";
+                text = "NVARCHAR(MAX)";
+                break;
+            case SYBASE:
+                varchar = "VARCHAR";
+                integer = "INT";
+                bigint = "BIGINT";
+                timestamp = "DATETIME";
+                bool = "BIT";
+                text = "TEXT";
+                break;
+            case ORACLE:
+                varchar = "VARCHAR2";
+                integer = "NUMBER(10)";
+                bigint = "NUMBER(19)";
+                timestamp = "TIMESTAMP";
+                bool = "NUMBER(1)";
+                text = "CLOB";
+                break;
+            case FIREBIRD:
+                varchar = "VARCHAR";
+                integer = "INTEGER";
+                bigint = "BIGINT";
+                timestamp = "TIMESTAMP";
+                bool = "BOOLEAN";
+                text = "BLOB SUB_TYPE TEXT";
+                break;
+            case INFORMIX:
+                varchar = "VARCHAR";
+                integer = "INTEGER";
+                bigint = "BIGINT";
+                timestamp = "DATETIME YEAR TO FRACTION(5)";
+                bool = "BOOLEAN";
+                text = "LVARCHAR(32739)";
+                break;
+            default:
+                throw new UnsupportedOperationException("Dialect not supported for CREATE TABLE: " + sqlDialect.name());
+        }
+        return String.format(
+                "CREATE TABLE %1$s (" +
+                        "event_id %2$s(64) NOT NULL, " +
+                        "event_type %2$s(50) NOT NULL, " +
+                        "event_version %3$s NOT NULL, " +
+                        "stream_id %2$s(255) NOT NULL, " +
+                        "stream_sequence %4$s NOT NULL, " +
+                        "occurred_at %5$s NOT NULL, " +
+                        "pending SMALLINT, " +
+                        "execution_id %2$s(255), " +
+                        "stage_id %2$s(255), " +
+                        "change_id %2$s(255) NOT NULL, " +
+                        "author %2$s(255), " +
+                        "created_at %5$s, " +
+                        "state %2$s(50), " +
+                        "invoked_class %2$s(255), " +
+                        "invoked_method %2$s(255), " +
+                        "source_file %2$s(255), " +
+                        "metadata %7$s, " +
+                        "execution_millis %4$s, " +
+                        "execution_hostname %2$s(255), " +
+                        "error_trace %7$s, " +
+                        "type %2$s(50), " +
+                        "tx_strategy %2$s(50), " +
+                        "target_system_id %2$s(255), " +
+                        "change_order %2$s(50), " +
+                        "recovery_strategy %2$s(50), " +
+                        "transaction_flag %6$s, " +
+                        "system_change %6$s, " +
+                        "CONSTRAINT %8$s_pk PRIMARY KEY (stream_id, stream_sequence), " +
+                        "CONSTRAINT %8$s_event_uq UNIQUE (event_id))",
+                tableName, varchar, integer, bigint, timestamp, bool, text, constraintPrefix(tableName));
+    }
+
+    public String getCreatePendingIndexSqlString(String tableName) {
+        String indexName = constraintPrefix(tableName) + "_pending_idx";
+        switch (sqlDialect) {
+            case POSTGRESQL:
+            case SQLITE:
+            case SQLSERVER:
+                // Partial/filtered index: acknowledged events leave the index altogether
+                return String.format(
+                        "CREATE INDEX %s ON %s (stream_id, stream_sequence) WHERE pending = 1",
+                        indexName, tableName);
+            case MYSQL:
+            case MARIADB:
+            case H2:
+            case DB2:
+            case SYBASE:
+            case ORACLE:
+            case FIREBIRD:
+            case INFORMIX:
+                return String.format(
+                        "CREATE INDEX %s ON %s (pending, stream_id, stream_sequence)",
+                        indexName, tableName);
+            default:
+                throw new UnsupportedOperationException("Dialect not supported for CREATE INDEX: " + sqlDialect.name());
+        }
+    }
+
+    /**
+     * Index on the audit table's {@code change_id}, which the current-state write deletes by. The audit table's
+     * own DDL has no index on that column, so without this each write would scan the whole table.
+     */
+    public String getCreateChangeIdIndexSqlString(String auditTableName) {
+        String indexName = constraintPrefix(auditTableName) + "_change_idx";
+        switch (sqlDialect) {
+            case MYSQL:
+            case MARIADB:
+            case POSTGRESQL:
+            case SQLITE:
+            case H2:
+            case DB2:
+            case SQLSERVER:
+            case SYBASE:
+            case ORACLE:
+            case FIREBIRD:
+            case INFORMIX:
+                return String.format("CREATE INDEX %s ON %s (change_id)", indexName, auditTableName);
+            default:
+                throw new UnsupportedOperationException("Dialect not supported for CREATE INDEX: " + sqlDialect.name());
+        }
+    }
+
+    public String getInsertSqlString(String tableName) {
+        return String.format("INSERT INTO %s (%s, %s) VALUES (?, ?, ?, ?, ?, ?, 1, %s)",
+                tableName, EVENT_COLUMNS, ENTRY_COLUMNS, placeholders(20));
+    }
+
+    /**
+     * The stream's last event. Callers cap the result with {@code Statement.setMaxRows(1)}, which every
+     * driver honours and which avoids the per-dialect LIMIT / TOP / FETCH FIRST syntax.
+     */
+    public String getSelectLastByStreamSqlString(String tableName) {
+        return String.format("SELECT %s, %s FROM %s WHERE stream_id = ? ORDER BY stream_sequence DESC",
+                EVENT_COLUMNS, ENTRY_COLUMNS, tableName);
+    }
+
+    public String getSelectPendingSqlString(String tableName) {
+        return String.format("SELECT %s, %s FROM %s WHERE pending = 1 ORDER BY stream_id, stream_sequence",
+                EVENT_COLUMNS, ENTRY_COLUMNS, tableName);
+    }
+
+    public String getAcknowledgeSqlString(String tableName, int eventCount) {
+        return String.format("UPDATE %s SET pending = NULL WHERE pending = 1 AND event_id IN (%s)",
+                tableName, placeholders(eventCount));
+    }
+
+    public String getSelectStreamIdsSqlString(String tableName) {
+        return String.format("SELECT DISTINCT stream_id FROM %s", tableName);
+    }
+
+    /**
+     * A stream's events from a given sequence on; capped with {@code Statement.setMaxRows}.
+     */
+    public String getSelectStreamFromSequenceSqlString(String tableName) {
+        return String.format("SELECT %s, %s FROM %s WHERE stream_id = ? AND stream_sequence >= ? ORDER BY stream_sequence",
+                EVENT_COLUMNS, ENTRY_COLUMNS, tableName);
+    }
+
+    public String getDeleteAcknowledgedRangeSqlString(String tableName) {
+        return String.format(
+                "DELETE FROM %s WHERE stream_id = ? AND stream_sequence >= ? AND stream_sequence <= ? AND pending IS NULL",
+                tableName);
+    }
+
+    private static String constraintPrefix(String tableName) {
+        // Qualified names (schema.table) cannot be used as constraint or index names
+        int dot = tableName.lastIndexOf('.');
+        return dot >= 0 ? tableName.substring(dot + 1) : tableName;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.sql.internal;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.common.core.feature.Features;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.common.core.journal.JournalEventType;
+import io.flamingock.internal.core.journal.CompactableJournalEventStore;
+import io.flamingock.internal.core.journal.JournalEventStore;
+import io.flamingock.internal.util.FeatureFlag;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * SQL implementation of the local journal ({@code flamingockJournalEvents}).
+ * <p>
+ * Sibling of {@link SqlAuditor}/{@link SqlLockService}: it owns its own table and index setup, with the per-dialect
+ * SQL in {@link SqlJournalDialectHelper}. The table is keyed by {@code (stream_id, stream_sequence)}, which is the
+ * per-stream position guard, carries a unique constraint on {@code event_id}, and has a pending index serving the
+ * ordered unacknowledged batch query. The audit entry is stored in the same columns the audit table uses.
+ * <p>
+ * Reads and acknowledgements are exposed through {@link JournalEventStore}. The append
+ * ({@link #write(Connection, JournalEvent)}) deliberately is not: it runs on the caller's JDBC connection so the
+ * event lands in the same transaction as the audit entry it mirrors. Only {@link SqlAuditPersistence} — which owns
+ * that transaction boundary — calls it.
+ * <p>
+ * Compaction reads and deletes by {@code stream_sequence} range within a stream, which the primary key serves.
+ */
+public class SqlJournalEventStore implements CompactableJournalEventStore {
+
+    public static final String DEFAULT_JOURNAL_REPOSITORY_NAME = "flamingockJournalEvents";
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("SqlJournal");
+
+    /**
+     * Kept below Oracle's 1000-expression IN-list limit and the parameter limits of the other drivers.
+     */
+    static final int ACKNOWLEDGE_BATCH_SIZE = 500;
+
+    private final DataSource dataSource;
+    private final String tableName;
+    private SqlJournalDialectHelper dialectHelper;
+
+    public SqlJournalEventStore(DataSource dataSource, String tableName) {
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Initializes the store, gated by the {@link Features#JOURNAL_EVENTS} feature flag: when the flag is off
+     * nothing happens (no table, no index). When it is on, {@code autoCreate} creates the table and its pending
+     * index when missing; otherwise the table must already exist.
+     *
+     * @param autoCreate whether to create the table when missing
+     */
+    public synchronized void initialize(boolean autoCreate) {
+        if (!isJournalEventsEnabled() || dialectHelper != null) {
+            return;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            SqlJournalDialectHelper helper = new SqlJournalDialectHelper(conn);
+            if (!tableExists(conn)) {
+                if (!autoCreate) {
+                    throw new FlamingockException(String.format(
+                            "SQL journal table '%s' does not exist and autoCreate is disabled", tableName));
+                }
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.executeUpdate(helper.getCreateTableSqlString(tableName));
+                    stmt.executeUpdate(helper.getCreatePendingIndexSqlString(tableName));
+                }
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+            dialectHelper = helper;
+        } catch (SQLException e) {
+            throw new FlamingockException("Failed to initialize journal table " + tableName, e);
+        }
+    }
+
+    /**
+     * Inserts the event on the caller's connection, without committing. If the {@code (stream_id, stream_sequence)}
+     * position or the event id is already taken, the insert fails with the driver's integrity-constraint error and
+     * the caller rolls the whole transaction back.
+     */
+    void write(Connection conn, JournalEvent<AuditEntry> event) throws SQLException {
+        if (dialectHelper == null) {
+            throw new IllegalStateException("SQL journal store is not initialized");
+        }
+        try (PreparedStatement ps = conn.prepareStatement(dialectHelper.getInsertSqlString(tableName))) {
+            ps.setString(1, event.getEventId());
+            ps.setString(2, event.getEventType().name());
+            ps.setInt(3, event.getEventVersion());
+            ps.setString(4, event.getStreamId());
+            ps.setLong(5, event.getStreamSequence());
+            ps.setTimestamp(6, Timestamp.from(event.getOccurredAt()), utcCalendar());
+            SqlAuditEntryMapper.bind(ps, 7, event.getData());
+            ps.executeUpdate();
+        }
+        logger.debug("Journal event staged for commit [eventId={} type={} stream={} sequence={}]",
+                event.getEventId(), event.getEventType(), event.getStreamId(), event.getStreamSequence());
+    }
+
+    @Override
+    public Optional<JournalEvent<AuditEntry>> getLastEventByStream(String streamId) {
+        if (dialectHelper == null) {
+            return Optional.empty();
+        }
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(dialectHelper.getSelectLastByStreamSqlString(tableName))) {
+            ps.setMaxRows(1);
+            ps.setString(1, streamId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? Optional.of(readEvent(rs)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new FlamingockException("Failed to read last journal event for stream " + streamId, e);
+        }
+    }
+
+    @Override
+    public List<JournalEvent<AuditEntry>> getUnacknowledgedEvents(int limit) {
+        if (dialectHelper == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<JournalEvent<AuditEntry>> events = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(dialectHelper.getSelectPendingSqlString(tableName))) {
+            ps.setMaxRows(limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next() && events.size() < limit) {
+                    events.add(readEvent(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new FlamingockException("Failed to read unacknowledged journal events", e);
+        }
+        return events;
+    }
+
+    @Override
+    public long acknowledgeEvents(Collection<String> eventIds) {
+        if (dialectHelper == null || eventIds == null || eventIds.isEmpty()) {
+            return 0L;
+        }
+        List<String> ids = new ArrayList<>();
+        for (String eventId : new LinkedHashSet<>(eventIds)) {
+            if (eventId != null && !eventId.trim().isEmpty()) {
+                ids.add(eventId);
+            }
+        }
+        long acknowledged = 0L;
+        try (Connection conn = dataSource.getConnection()) {
+            for (int from = 0; from < ids.size(); from += ACKNOWLEDGE_BATCH_SIZE) {
+                List<String> batch = ids.subList(from, Math.min(from + ACKNOWLEDGE_BATCH_SIZE, ids.size()));
+                try (PreparedStatement ps = conn.prepareStatement(
+                        dialectHelper.getAcknowledgeSqlString(tableName, batch.size()))) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        ps.setString(i + 1, batch.get(i));
+                    }
+                    // "pending = 1" in the WHERE clause makes re-acknowledging a no-op that is not counted
+                    acknowledged += ps.executeUpdate();
+                }
+            }
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        } catch (SQLException e) {
+            throw new FlamingockException("Failed to acknowledge journal events", e);
+        }
+        return acknowledged;
+    }
+
+    @Override
+    public Set<String> getStreamIds() {
+        Set<String> streamIds = new LinkedHashSet<>();
+        if (dialectHelper == null) {
+            return streamIds;
+        }
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(dialectHelper.getSelectStreamIdsSqlString(tableName))) {
+            while (rs.next()) {
+                streamIds.add(rs.getString(1));
+            }
+        } catch (SQLException e) {
+            throw new FlamingockException("Failed to read journal stream ids", e);
+        }
+        return streamIds;
+    }
+
+    @Override
+    public List<JournalEvent<AuditEntry>> getEvents(String streamId, long fromSequence, int limit) {
+        if (dialectHelper == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<JournalEvent<AuditEntry>> events = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(dialectHelper.getSelectStreamFromSequenceSqlString(tableName))) {
+            ps.setMaxRows(limit);
+            ps.setString(1, streamId);
+            ps.setLong(2, fromSequence);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next() && events.size() < limit) {
+                    events.add(readEvent(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new FlamingockException("Failed to read journal events for stream " + streamId, e);
+        }
+        return events;
+    }
+
+    @Override
+    public long deleteAcknowledgedEvents(String streamId, long fromSequence, long toSequence) {
+        if (dialectHelper == null || fromSequence > toSequence) {
+            return 0L;
+        }
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(dialectHelper.getDeleteAcknowledgedRangeSqlString(tableName))) {
+            ps.setString(1, streamId);
+            ps.setLong(2, fromSequence);
+            ps.setLong(3, toSequence);
+            long deleted = ps.executeUpdate();
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+            return deleted;
+        } catch (SQLException e) {
+            throw new FlamingockException("Failed to delete journal events for stream " + streamId, e);
+        }
+    }
+
+    private JournalEvent<AuditEntry> readEvent(ResultSet rs) throws SQLException {
+        return new JournalEvent<>(
+                rs.getString("event_id"),
+                JournalEventType.valueOf(rs.getString("event_type")),
+                rs.getInt("event_version"),
+                rs.getString("stream_id"),
+                rs.getLong("stream_sequence"),
+                rs.getTimestamp("occurred_at", utcCalendar()).toInstant(),
+                SqlAuditEntryMapper.read(rs),
+                rs.getObject("pending") == null
+        );
+    }
+
+    private boolean tableExists(Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        String schema = null;
+        String table = tableName;
+        int dot = tableName.lastIndexOf('.');
+        if (dot >= 0) {
+            schema = tableName.substring(0, dot);
+            table = tableName.substring(dot + 1);
+        }
+        // Unquoted identifiers are folded to upper case by some databases and to lower case by others
+        for (String candidate : new String[]{table, table.toUpperCase(), table.toLowerCase()}) {
+            String schemaPattern = schema == null ? null
+                    : candidate.equals(table) ? schema
+                    : candidate.equals(table.toUpperCase()) ? schema.toUpperCase() : schema.toLowerCase();
+            try (ResultSet rs = metaData.getTables(null, schemaPattern, candidate, new String[]{"TABLE"})) {
+                if (rs.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Calendar utcCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+
+    private static boolean isJournalEventsEnabled() {
+        try {
+            return FeatureFlag.isEnabled(Features.JOURNAL_EVENTS, false);
+        } catch (RuntimeException exception) {
+            return false;
+        }
+    }
+}
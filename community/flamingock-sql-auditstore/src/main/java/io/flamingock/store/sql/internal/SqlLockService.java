@@ -67,6 +67,10 @@ public class SqlLockService implements CommunityLockService {
         }
     }
 
+    public SqlDialect getSqlDialect() {
+        return dialectHelper != null ? dialectHelper.getSqlDialect() : null;
+    }
+
 
     @Override
     public LockAcquisition upsert(LockKey key, RunnerId owner, long leaseMillis) {
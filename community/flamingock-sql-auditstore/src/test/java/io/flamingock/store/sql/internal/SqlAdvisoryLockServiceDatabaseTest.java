@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.sql.internal;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.flamingock.internal.common.sql.SqlDialect;
+import io.flamingock.internal.core.external.store.lock.LockKey;
+import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.util.id.RunnerId;
+import io.flamingock.store.sql.SqlAuditTestHelper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the advisory lock service against real PostgreSQL and MySQL through a Hikari pool, on the waiting path
+ * the store uses by default. The dialects run are picked with {@code -Dsql.test.dialects}, as in
+ * {@code SqlAuditStoreTest}.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Testcontainers
+class SqlAdvisoryLockServiceDatabaseTest {
+
+    private static final String LOCK_TABLE = "flamingockAdvisoryLock";
+    private static final LockKey LOCK_KEY = LockKey.fromString("DEFAULT_KEY");
+    private static final RunnerId RUNNER_A = RunnerId.fromString("runner-a");
+    private static final RunnerId RUNNER_B = RunnerId.fromString("runner-b");
+    private static final long WAIT_MILLIS = 1000L;
+    private static final long LEASE_MILLIS = 60_000L;
+
+    private final Map<String, JdbcDatabaseContainer<?>> containers = new HashMap<>();
+    private HikariDataSource dataSource;
+
+    static Stream<Arguments> dialectProvider() {
+        Set<String> enabled = Arrays.stream(System.getProperty("sql.test.dialects", "mysql").split(","))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+        return Stream.of(
+                        Arguments.of(SqlDialect.POSTGRESQL, "postgresql"),
+                        Arguments.of(SqlDialect.MYSQL, "mysql"))
+                .filter(args -> enabled.contains((String) args.get()[1]));
+    }
+
+    @BeforeAll
+    void startContainers() {
+        dialectProvider().forEach(args -> {
+            String dialectName = (String) args.get()[1];
+            JdbcDatabaseContainer<?> container = SqlAuditTestHelper.createContainer(dialectName);
+            container.start();
+            containers.put(dialectName, container);
+        });
+    }
+
+    @AfterEach
+    void closePool() {
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+
+    @AfterAll
+    void stopContainers() {
+        containers.values().forEach(JdbcDatabaseContainer::stop);
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("dialectProvider")
+    @DisplayName("Should grant a free lock on the waiting path and hold it in the database")
+    void shouldGrantFreeLock(SqlDialect dialect, String dialectName) throws SQLException {
+        SqlAdvisoryLockService lockService = newLockService(dialect, dialectName);
+
+        lockService.upsert(LOCK_KEY, RUNNER_A, LEASE_MILLIS);
+
+        assertTrue(isHeldInDatabase(dialect));
+        lockService.releaseLock(LOCK_KEY, RUNNER_A);
+        assertFalse(isHeldInDatabase(dialect));
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("dialectProvider")
+    @DisplayName("Should wait for a contended lock and give up after the acquire wait")
+    void shouldTimeOutOnContendedLock(SqlDialect dialect, String dialectName) throws SQLException {
+        SqlAdvisoryLockService holder = newLockService(dialect, dialectName);
+        SqlAdvisoryLockService contender = new SqlAdvisoryLockService(dataSource, LOCK_TABLE, dialect, WAIT_MILLIS);
+        holder.upsert(LOCK_KEY, RUNNER_A, LEASE_MILLIS);
+
+        long startedAt = System.currentTimeMillis();
+        assertThrows(LockServiceException.class, () -> contender.upsert(LOCK_KEY, RUNNER_B, LEASE_MILLIS));
+        long waited = System.currentTimeMillis() - startedAt;
+
+        assertTrue(waited >= WAIT_MILLIS - 100, "gave up after " + waited + "ms");
+        assertTrue(isHeldInDatabase(dialect), "the holder must keep the lock");
+        holder.releaseLock(LOCK_KEY, RUNNER_A);
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("dialectProvider")
+    @DisplayName("Should let another runner acquire the lock once released, without pooled sessions keeping it")
+    void shouldReacquireAfterReleaseOnPooledDataSource(SqlDialect dialect, String dialectName) throws SQLException {
+        SqlAdvisoryLockService runnerA = newLockService(dialect, dialectName);
+        SqlAdvisoryLockService runnerB = new SqlAdvisoryLockService(dataSource, LOCK_TABLE, dialect, WAIT_MILLIS);
+
+        for (int round = 0; round < 3; round++) {
+            runnerA.upsert(LOCK_KEY, RUNNER_A, LEASE_MILLIS);
+            runnerA.releaseLock(LOCK_KEY, RUNNER_A);
+            assertFalse(isHeldInDatabase(dialect), "round " + round + ": released lock still held by a pooled session");
+
+            runnerB.upsert(LOCK_KEY, RUNNER_B, LEASE_MILLIS);
+            runnerB.releaseLock(LOCK_KEY, RUNNER_B);
+            assertFalse(isHeldInDatabase(dialect), "round " + round + ": released lock still held by a pooled session");
+        }
+        assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    private SqlAdvisoryLockService newLockService(SqlDialect dialect, String dialectName) {
+        JdbcDatabaseContainer<?> container = containers.get(dialectName);
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(container.getJdbcUrl());
+        config.setUsername(container.getUsername());
+        config.setPassword(container.getPassword());
+        config.setDriverClassName(container.getDriverClassName());
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+        new SqlLockService(dataSource, LOCK_TABLE).initialize(true);
+        return new SqlAdvisoryLockService(dataSource, LOCK_TABLE, dialect, WAIT_MILLIS);
+    }
+
+    /**
+     * Checked from a connection that never takes the lock, so only other sessions can hold it
+     */
+    private boolean isHeldInDatabase(SqlDialect dialect) throws SQLException {
+        SqlAdvisoryLockDialectHelper helper = new SqlAdvisoryLockDialectHelper(dialect);
+        String lockName = helper.getLockName(LOCK_TABLE, LOCK_KEY.toString());
+        try (Connection conn = dataSource.getConnection()) {
+            if (dialect == SqlDialect.POSTGRESQL) {
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "SELECT count(*) FROM pg_locks WHERE locktype = 'advisory' AND granted AND objsubid = 1 " +
+                                "AND ((classid::bigint << 32) | objid::bigint) = ?")) {
+                    ps.setLong(1, SqlAdvisoryLockDialectHelper.toLockId(lockName));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        return rs.next() && rs.getLong(1) > 0;
+                    }
+                }
+            }
+            try (PreparedStatement ps = conn.prepareStatement("SELECT IS_USED_LOCK(?)")) {
+                ps.setString(1, lockName);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() && rs.getObject(1) != null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.sql.internal;
+
+import io.flamingock.internal.common.sql.SqlDialect;
+import io.flamingock.internal.core.external.store.lock.LockAcquisition;
+import io.flamingock.internal.core.external.store.lock.LockKey;
+import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.util.id.RunnerId;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the advisory lock service against a fake JDBC driver that records every statement, so the per-dialect
+ * calls can be checked without the databases. The table fallback runs on H2.
+ */
+class SqlAdvisoryLockServiceTest {
+
+    private static final String LOCK_TABLE = "flamingockLock";
+    private static final LockKey LOCK_KEY = LockKey.fromString("DEFAULT_KEY");
+    private static final RunnerId OWNER = RunnerId.fromString("runner-1");
+
+    @Test
+    @DisplayName("PostgreSQL: acquires with pg_try_advisory_lock on a dedicated connection kept until release")
+    void shouldHoldPostgresAdvisoryLockUntilRelease() {
+        RecordingDriver driver = new RecordingDriver(true, 0);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.POSTGRESQL, 0);
+
+        LockAcquisition acquisition = lockService.upsert(LOCK_KEY, OWNER, 10000);
+
+        assertEquals(OWNER, acquisition.getOwner());
+        assertEquals(10000, acquisition.getAcquiredForMillis());
+        assertEquals(1, driver.connections.size());
+        assertFalse(driver.connections.get(0).closed);
+        assertEquals("SELECT pg_try_advisory_lock(?)", driver.statements.get(0));
+        assertTrue(driver.statements.get(1).startsWith("DELETE FROM " + LOCK_TABLE));
+        assertTrue(driver.statements.get(2).startsWith("INSERT INTO " + LOCK_TABLE));
+
+        driver.statements.clear();
+        lockService.extendLock(LOCK_KEY, OWNER, 20000);
+        assertTrue(driver.statements.stream().noneMatch(sql -> sql.contains("advisory")), "extension only refreshes the lease row");
+
+        driver.statements.clear();
+        lockService.releaseLock(LOCK_KEY, OWNER);
+
+        assertEquals("DELETE FROM " + LOCK_TABLE + " WHERE lock_key = ? AND owner = ?", driver.statements.get(0));
+        assertEquals("SELECT pg_advisory_unlock(?)", driver.statements.get(1));
+        assertTrue(driver.connections.get(0).closed);
+        assertEquals(1, driver.connections.size());
+    }
+
+    @Test
+    @DisplayName("PostgreSQL: waits in the database bounded by lock_timeout, and resets it afterwards")
+    void shouldWaitForPostgresLockWithLockTimeout() {
+        // pg_advisory_lock returns void, so the row carries no value: completing the statement is the grant
+        RecordingDriver driver = new RecordingDriver(null, 0);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.POSTGRESQL, 1500);
+
+        lockService.upsert(LOCK_KEY, OWNER, 10000);
+
+        assertEquals("SELECT set_config('lock_timeout', ?, false)", driver.statements.get(0));
+        assertEquals("1500ms", driver.parameters.get(0).get(0));
+        assertEquals("SELECT pg_advisory_lock(?)", driver.statements.get(1));
+        assertEquals("0", driver.parameters.get(2).get(0));
+        assertFalse(driver.connections.get(0).closed, "the granted lock's session must be kept until release");
+    }
+
+    @Test
+    @DisplayName("Should not write the lease row and should give the connection back when the lock is held elsewhere")
+    void shouldReleaseConnectionWhenLockIsHeldElsewhere() {
+        RecordingDriver driver = new RecordingDriver(false, 0);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.POSTGRESQL, 0);
+
+        assertThrows(LockServiceException.class, () -> lockService.upsert(LOCK_KEY, OWNER, 10000));
+
+        assertEquals(1, driver.statements.size());
+        assertTrue(driver.connections.get(0).closed);
+    }
+
+    @Test
+    @DisplayName("Pooled: releases the advisory lock even when the lease row can't be deleted")
+    void shouldReleaseLockWhenLeaseRowDeleteFails() {
+        RecordingDriver driver = new RecordingDriver(true, 0).pooled();
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.POSTGRESQL, 0);
+        lockService.upsert(LOCK_KEY, OWNER, 10000);
+        driver.failing = (sql, params) -> sql.startsWith("DELETE FROM " + LOCK_TABLE);
+
+        lockService.releaseLock(LOCK_KEY, OWNER);
+
+        assertTrue(driver.statements.contains("SELECT pg_advisory_unlock(?)"));
+        RecordingDriver.FakeConnection connection = driver.connections.get(0);
+        assertFalse(connection.holdsLock);
+        assertEquals(Collections.singletonList(connection), driver.idle, "the clean session goes back to the pool");
+    }
+
+    @Test
+    @DisplayName("Pooled: discards the session instead of pooling it when the advisory unlock fails")
+    void shouldDiscardSessionWhenUnlockFails() {
+        RecordingDriver driver = new RecordingDriver(true, 0).pooled();
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.POSTGRESQL, 0);
+        lockService.upsert(LOCK_KEY, OWNER, 10000);
+        driver.failing = (sql, params) -> sql.contains("pg_advisory_unlock");
+
+        assertThrows(LockServiceException.class, () -> lockService.releaseLock(LOCK_KEY, OWNER));
+
+        RecordingDriver.FakeConnection connection = driver.connections.get(0);
+        assertTrue(connection.aborted);
+        assertFalse(connection.holdsLock);
+        assertTrue(driver.idle.isEmpty());
+
+        driver.failing = (sql, params) -> false;
+        lockService.upsert(LOCK_KEY, RunnerId.fromString("runner-2"), 10000);
+        assertEquals(2, driver.connections.size(), "a fresh session is opened for the next acquisition");
+    }
+
+    @Test
+    @DisplayName("Pooled: discards the session when resetting lock_timeout fails after the lock was granted")
+    void shouldDiscardSessionWhenLockTimeoutResetFails() {
+        RecordingDriver driver = new RecordingDriver(true, 0).pooled();
+        driver.failing = (sql, params) -> sql.contains("lock_timeout") && "0".equals(params.get(0));
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.POSTGRESQL, 1500);
+
+        assertThrows(LockServiceException.class, () -> lockService.upsert(LOCK_KEY, OWNER, 10000));
+
+        RecordingDriver.FakeConnection connection = driver.connections.get(0);
+        assertTrue(driver.statements.contains("SELECT pg_advisory_unlock(?)"));
+        assertTrue(connection.aborted);
+        assertFalse(connection.holdsLock);
+        assertTrue(driver.idle.isEmpty());
+    }
+
+    @Test
+    @DisplayName("MySQL: acquires with GET_LOCK waiting whole seconds in the database")
+    void shouldUseGetLockOnMySql() {
+        RecordingDriver driver = new RecordingDriver(1, 0);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.MYSQL, 1500);
+
+        lockService.upsert(LOCK_KEY, OWNER, 10000);
+        lockService.releaseLock(LOCK_KEY, OWNER);
+
+        assertEquals("SELECT GET_LOCK(?, ?)", driver.statements.get(0));
+        assertEquals("flamingock:" + LOCK_TABLE + ":DEFAULT_KEY", driver.parameters.get(0).get(0));
+        assertEquals(2L, driver.parameters.get(0).get(1));
+        assertTrue(driver.statements.contains("SELECT RELEASE_LOCK(?)"));
+    }
+
+    @Test
+    @DisplayName("MySQL: GET_LOCK timing out means the lock is held elsewhere")
+    void shouldNotAcquireWhenGetLockTimesOut() {
+        RecordingDriver driver = new RecordingDriver(0, 0);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.MARIADB, 1000);
+
+        assertThrows(LockServiceException.class, () -> lockService.upsert(LOCK_KEY, OWNER, 10000));
+    }
+
+    @Test
+    @DisplayName("SQL Server: acquires with a session-owned sp_getapplock and treats a negative result as held")
+    void shouldUseGetAppLockOnSqlServer() {
+        RecordingDriver granted = new RecordingDriver(null, 1);
+        new SqlAdvisoryLockService(granted.dataSource(), LOCK_TABLE, SqlDialect.SQLSERVER, 1000)
+                .upsert(LOCK_KEY, OWNER, 10000);
+        assertEquals("{? = call sp_getapplock(?, 'Exclusive', 'Session', ?)}", granted.statements.get(0));
+        assertEquals(1000L, granted.parameters.get(0).get(1));
+
+        RecordingDriver timedOut = new RecordingDriver(null, -1);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(timedOut.dataSource(), LOCK_TABLE, SqlDialect.SQLSERVER, 1000);
+        assertThrows(LockServiceException.class, () -> lockService.upsert(LOCK_KEY, OWNER, 10000));
+    }
+
+    @Test
+    @DisplayName("Oracle: acquires with DBMS_LOCK.REQUEST, accepting a lock already owned by the session")
+    void shouldUseDbmsLockOnOracle() {
+        RecordingDriver driver = new RecordingDriver(null, 4);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.ORACLE, 1000);
+
+        lockService.upsert(LOCK_KEY, OWNER, 10000);
+        lockService.releaseLock(LOCK_KEY, OWNER);
+
+        assertTrue(driver.statements.get(0).contains("DBMS_LOCK.REQUEST"));
+        assertTrue(driver.statements.stream().anyMatch(sql -> sql.contains("DBMS_LOCK.RELEASE")));
+    }
+
+    @Test
+    @DisplayName("Should reuse the held lock when the same owner acquires it again")
+    void shouldReuseHeldLockForSameOwner() {
+        RecordingDriver driver = new RecordingDriver(true, 0);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.POSTGRESQL, 0);
+
+        lockService.upsert(LOCK_KEY, OWNER, 10000);
+        lockService.upsert(LOCK_KEY, OWNER, 10000);
+
+        assertEquals(1, driver.connections.size());
+        assertEquals(1, driver.statements.stream().filter(sql -> sql.contains("pg_try_advisory_lock")).count());
+        assertThrows(LockServiceException.class, () -> lockService.upsert(LOCK_KEY, RunnerId.fromString("runner-2"), 10000));
+    }
+
+    @Test
+    @DisplayName("Should fail the extension when the lock session has been lost")
+    void shouldFailExtensionWhenSessionIsLost() {
+        RecordingDriver driver = new RecordingDriver(true, 0);
+        SqlAdvisoryLockService lockService = new SqlAdvisoryLockService(driver.dataSource(), LOCK_TABLE, SqlDialect.POSTGRESQL, 0);
+        lockService.upsert(LOCK_KEY, OWNER, 10000);
+
+        driver.connections.get(0).valid = false;
+
+        assertThrows(LockServiceException.class, () -> lockService.extendLock(LOCK_KEY, OWNER, 10000));
+        assertTrue(driver.connections.get(0).closed);
+        assertThrows(LockServiceException.class, () -> lockService.extendLock(LOCK_KEY, OWNER, 10000));
+    }
+
+    @Test
+    @DisplayName("Should bound lock names to 64 characters and derive stable PostgreSQL lock ids")
+    void shouldBoundLockNames() {
+        SqlAdvisoryLockDialectHelper helper = new SqlAdvisoryLockDialectHelper(SqlDialect.MYSQL);
+        String longKey = String.join("", Collections.nCopies(100, "k"));
+
+        String lockName = helper.getLockName(LOCK_TABLE, longKey);
+
+        assertEquals(SqlAdvisoryLockDialectHelper.MAX_LOCK_NAME_LENGTH, lockName.length());
+        assertEquals(lockName, helper.getLockName(LOCK_TABLE, longKey));
+        assertNotEquals(lockName, helper.getLockName("otherLockTable", longKey));
+        assertEquals(SqlAdvisoryLockDialectHelper.toLockId(lockName), SqlAdvisoryLockDialectHelper.toLockId(lockName));
+    }
+
+    @Test
+    @DisplayName("H2: advisory locks aren't supported, so the table lock is used and still excludes other runners")
+    void shouldFallBackToTableLockOnH2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        SqlLockService tableLockService = new SqlLockService(dataSource, LOCK_TABLE);
+        tableLockService.initialize(true);
+
+        assertEquals(SqlDialect.H2, tableLockService.getSqlDialect());
+        assertFalse(SqlAdvisoryLockService.isSupported(tableLockService.getSqlDialect()));
+
+        tableLockService.upsert(LOCK_KEY, OWNER, 10000);
+        assertThrows(LockServiceException.class, () ->
+                tableLockService.upsert(LOCK_KEY, RunnerId.fromString("runner-2"), 10000));
+        assertEquals(OWNER, tableLockService.getLockInfo(LOCK_KEY).getOwner());
+
+        tableLockService.releaseLock(LOCK_KEY, OWNER);
+        assertEquals(RunnerId.fromString("runner-2"),
+                tableLockService.upsert(LOCK_KEY, RunnerId.fromString("runner-2"), 10000).getOwner());
+    }
+
+    /**
+     * Minimal JDBC driver: every query returns one row holding {@code queryResult}, every call returns
+     * {@code callResult} as its integer out parameter, and all statements and parameters are recorded.
+     * Each connection tracks whether its session holds the advisory lock. When pooled, closed connections
+     * are handed out again unless they were aborted.
+     */
+    private static final class RecordingDriver {
+        private final Object queryResult;
+        private final int callResult;
+        private final List<String> statements = new ArrayList<>();
+        private final List<List<Object>> parameters = new ArrayList<>();
+        private final List<FakeConnection> connections = new ArrayList<>();
+        private final List<FakeConnection> idle = new ArrayList<>();
+        private boolean pooled;
+        private BiPredicate<String, List<Object>> failing = (sql, params) -> false;
+
+        private RecordingDriver(Object queryResult, int callResult) {
+            this.queryResult = queryResult;
+            this.callResult = callResult;
+        }
+
+        private RecordingDriver pooled() {
+            this.pooled = true;
+            return this;
+        }
+
+        private DataSource dataSource() {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                if ("getConnection".equals(method.getName())) {
+                    if (!idle.isEmpty()) {
+                        FakeConnection connection = idle.remove(0);
+                        connection.closed = false;
+                        return connection.proxy;
+                    }
+                    FakeConnection connection = new FakeConnection();
+                    connections.add(connection);
+                    return connection.proxy;
+                }
+                return defaultValue(method.getReturnType());
+            });
+        }
+
+        private final class FakeConnection {
+            private boolean closed;
+            private boolean aborted;
+            private boolean holdsLock;
+            private boolean valid = true;
+            private final Connection proxy = proxy(Connection.class, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "prepareStatement":
+                        return statement(this, PreparedStatement.class, (String) args[0]);
+                    case "prepareCall":
+                        return statement(this, CallableStatement.class, (String) args[0]);
+                    case "close":
+                        if (!closed && pooled && !aborted) {
+                            idle.add(this);
+                        } else {
+                            // the session ends, and the database releases its locks
+                            holdsLock = false;
+                        }
+                        closed = true;
+                        return null;
+                    case "abort":
+                        aborted = true;
+                        closed = true;
+                        holdsLock = false;
+                        return null;
+                    case "isClosed":
+                        return closed;
+                    case "isValid":
+                        return valid;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+        }
+
+        private <T> T statement(FakeConnection connection, Class<T> type, String sql) {
+            List<Object> params = new ArrayList<>();
+            return proxy(type, (p, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length == 2 && args[0] instanceof Integer) {
+                    params.add(args[1]);
+                    return null;
+                }
+                switch (name) {
+                    case "execute":
+                    case "executeQuery":
+                    case "executeUpdate":
+                        statements.add(sql);
+                        parameters.add(params);
+                        if (failing.test(sql, params)) {
+                            throw new SQLException("Injected failure: " + sql);
+                        }
+                        if (sql.contains("advisory_unlock")) {
+                            connection.holdsLock = false;
+                        } else if (sql.equals("SELECT pg_advisory_lock(?)")
+                                || sql.contains("advisory_lock") && Boolean.TRUE.equals(queryResult)) {
+                            connection.holdsLock = true;
+                        }
+                        if ("executeQuery".equals(name)) {
+                            return resultSet();
+                        }
+                        return "executeUpdate".equals(name) ? (Object) 1 : (Object) true;
+                    case "getInt":
+                        return callResult;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+        }
+
+        private ResultSet resultSet() {
+            boolean[] consumed = {false};
+            return proxy(ResultSet.class, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "next":
+                        boolean hasRow = !consumed[0];
+                        consumed[0] = true;
+                        return hasRow;
+                    case "getObject":
+                        return queryResult;
+                    case "getBoolean":
+                        return Boolean.TRUE.equals(queryResult)
+                                || queryResult instanceof Number && ((Number) queryResult).intValue() != 0;
+                    case "getInt":
+                        return queryResult instanceof Number ? ((Number) queryResult).intValue() : 0;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, java.lang.reflect.InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(RecordingDriver.class.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type == int.class) {
+                return 0;
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+}
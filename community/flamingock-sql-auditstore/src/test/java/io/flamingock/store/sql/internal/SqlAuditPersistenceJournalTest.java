@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.store.sql.internal;
+
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.feature.Features;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.common.core.journal.JournalEventType;
+import io.flamingock.internal.common.sql.SqlDialect;
+import io.flamingock.internal.core.configuration.community.CommunityConfiguration;
+import io.flamingock.internal.core.journal.JournalEventSequencer;
+import io.flamingock.internal.core.journal.JournalEventSequencerFactory;
+import io.flamingock.internal.util.FeatureFlag;
+import io.flamingock.internal.util.Result;
+import io.flamingock.internal.util.id.RunnerId;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the SQL persistence directly so the current-state audit write and the journal insert can be verified at
+ * one JDBC transaction boundary, on the dialects that run in-process.
+ */
+class SqlAuditPersistenceJournalTest {
+
+    private static final String STREAM_ID = "stage-under-test";
+    private static final String AUDIT_TABLE = "flamingockAuditLog";
+    private static final String JOURNAL_TABLE = "flamingockJournalEvents";
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        FeatureFlag.remove(Features.JOURNAL_EVENTS);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"h2", "sqlite"})
+    @DisplayName("journal disabled keeps append audit rows and does not create the journal table")
+    void journalDisabledKeepsAppendAuditPath(String dialect) throws SQLException {
+        DataSource dataSource = dataSource(dialect);
+        SqlJournalEventStore journalEventStore = new SqlJournalEventStore(dataSource, JOURNAL_TABLE);
+        SqlAuditPersistence persistence = persistenceFor(dataSource, journalEventStore, newSequencer(journalEventStore));
+
+        persistence.writeEntry(auditEntry("change-1", AuditEntry.Status.STARTED));
+        persistence.writeEntry(auditEntry("change-1", AuditEntry.Status.APPLIED));
+
+        assertEquals(2, persistence.getAuditHistory().size(), "flag OFF must keep one row per state transition");
+        assertFalse(tableExists(dataSource, JOURNAL_TABLE), "flag OFF must not initialize the journal table");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"h2", "sqlite"})
+    @DisplayName("journal enabled indexes the audit table by change_id once")
+    void journalEnabledIndexesAuditTableByChangeId(String dialect) throws SQLException {
+        FeatureFlag.enable(Features.JOURNAL_EVENTS);
+        DataSource dataSource = dataSource(dialect);
+        SqlJournalEventStore journalEventStore = initializedStore(dataSource);
+
+        persistenceFor(dataSource, journalEventStore, newSequencer(journalEventStore));
+        persistenceFor(dataSource, journalEventStore, newSequencer(journalEventStore));
+
+        assertEquals(1, changeIdIndexCount(dataSource), "restarts must reuse the existing change_id index");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"h2", "sqlite"})
+    @DisplayName("journal enabled keeps one current-state audit row while retaining every event")
+    void journalEnabledKeepsCurrentStateAndJournalHistory(String dialect) throws SQLException {
+        FeatureFlag.enable(Features.JOURNAL_EVENTS);
+        DataSource dataSource = dataSource(dialect);
+        SqlJournalEventStore journalEventStore = initializedStore(dataSource);
+        SqlAuditPersistence persistence = persistenceFor(dataSource, journalEventStore, newSequencer(journalEventStore));
+        AuditEntry applied = auditEntry("change-1", AuditEntry.Status.APPLIED);
+
+        assertOk(persistence.writeEntry(auditEntry("change-1", AuditEntry.Status.STARTED)));
+        assertOk(persistence.writeEntry(applied));
+        assertOk(persistence.writeEntry(auditEntry("change-2", AuditEntry.Status.APPLIED)));
+
+        List<AuditEntry> auditRows = persistence.getAuditHistory();
+        assertEquals(2, auditRows.size(), "flag ON must keep one row per change");
+        AuditEntry current = auditRows.stream()
+                .filter(entry -> "change-1".equals(entry.getChangeId()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertEquals(AuditEntry.Status.APPLIED, current.getState());
+
+        List<JournalEvent<AuditEntry>> events = journalEventStore.getUnacknowledgedEvents(100);
+        assertEquals(3, events.size(), "every state transition must remain in the journal");
+        assertEquals(Arrays.asList(1L, 2L, 3L),
+                events.stream().map(JournalEvent::getStreamSequence).collect(Collectors.toList()));
+        JournalEvent<AuditEntry> appliedEvent = events.get(1);
+        assertEquals(STREAM_ID, appliedEvent.getStreamId());
+        assertEquals(JournalEventType.CHANGE_STATE, appliedEvent.getEventType());
+        assertEquals(JournalEvent.DEFAULT_VERSION, appliedEvent.getEventVersion());
+        assertFalse(appliedEvent.isAcknowledged());
+        assertEquals(applied.getExecutionId(), appliedEvent.getData().getExecutionId());
+        assertEquals(AuditEntry.Status.APPLIED, appliedEvent.getData().getState());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"h2", "sqlite"})
+    @DisplayName("sequencer factory resumes the stream after the last stored position")
+    void sequencerFactoryResumesAfterLastStoredPosition(String dialect) throws SQLException {
+        FeatureFlag.enable(Features.JOURNAL_EVENTS);
+        DataSource dataSource = dataSource(dialect);
+        SqlJournalEventStore journalEventStore = initializedStore(dataSource);
+        SqlAuditPersistence persistence = persistenceFor(dataSource, journalEventStore, newSequencer(journalEventStore));
+        persistence.writeEntry(auditEntry("change-1", AuditEntry.Status.STARTED));
+        persistence.writeEntry(auditEntry("change-1", AuditEntry.Status.APPLIED));
+
+        JournalEvent<AuditEntry> last = journalEventStore.getLastEventByStream(STREAM_ID).orElseThrow(IllegalStateException::new);
+        assertEquals(2L, last.getStreamSequence());
+        assertFalse(journalEventStore.getLastEventByStream("other-stream").isPresent());
+
+        SqlAuditPersistence restarted = persistenceFor(dataSource, journalEventStore, newSequencer(journalEventStore));
+        restarted.writeEntry(auditEntry("change-2", AuditEntry.Status.APPLIED));
+        assertEquals(3L, journalEventStore.getLastEventByStream(STREAM_ID)
+                .map(JournalEvent::getStreamSequence)
+                .orElse(0L));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"h2", "sqlite"})
+    @DisplayName("unacknowledged events are served in stream order and leave the pending set once acknowledged")
+    void acknowledgedEventsLeavePendingSet(String dialect) throws SQLException {
+        FeatureFlag.enable(Features.JOURNAL_EVENTS);
+        DataSource dataSource = dataSource(dialect);
+        SqlJournalEventStore journalEventStore = initializedStore(dataSource);
+        SqlAuditPersistence persistence = persistenceFor(dataSource, journalEventStore, newSequencer(journalEventStore));
+        for (int i = 1; i <= 5; i++) {
+            persistence.writeEntry(auditEntry("change-" + i, AuditEntry.Status.APPLIED));
+        }
+
+        List<JournalEvent<AuditEntry>> firstBatch = journalEventStore.getUnacknowledgedEvents(2);
+        assertEquals(Arrays.asList(1L, 2L),
+                firstBatch.stream().map(JournalEvent::getStreamSequence).collect(Collectors.toList()));
+
+        List<String> ids = firstBatch.stream().map(JournalEvent::getEventId).collect(Collectors.toList());
+        assertEquals(2L, journalEventStore.acknowledgeEvents(ids));
+        assertEquals(0L, journalEventStore.acknowledgeEvents(ids), "re-acknowledging must be a no-op");
+        assertEquals(0L, journalEventStore.acknowledgeEvents(Collections.singletonList("unknown-event")));
+
+        List<JournalEvent<AuditEntry>> remaining = journalEventStore.getUnacknowledgedEvents(100);
+        assertEquals(Arrays.asList(3L, 4L, 5L),
+                remaining.stream().map(JournalEvent::getStreamSequence).collect(Collectors.toList()));
+        assertTrue(journalEventStore.getLastEventByStream(STREAM_ID)
+                .map(event -> !event.isAcknowledged())
+                .orElse(false));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"h2", "sqlite"})
+    @DisplayName("an occupied stream position rolls the audit row back and leaves the position unspent")
+    void occupiedPositionRollsBackAndLeavesNoGap(String dialect) throws SQLException {
+        FeatureFlag.enable(Features.JOURNAL_EVENTS);
+        DataSource dataSource = dataSource(dialect);
+        SqlJournalEventStore journalEventStore = initializedStore(dataSource);
+        JournalEventSequencer sequencer = newSequencer(journalEventStore);
+        SqlAuditPersistence persistence = persistenceFor(dataSource, journalEventStore, sequencer);
+        occupyStreamPosition(dataSource, journalEventStore, 1L);
+
+        Result result = persistence.writeEntry(auditEntry("failed-change", AuditEntry.Status.APPLIED));
+
+        assertTrue(result instanceof Result.Error, "a unique-key violation must surface as an error result");
+        assertTrue(persistence.getAuditHistory().isEmpty(), "the audit row must roll back with the journal insert");
+        assertEquals(1, journalEventStore.getUnacknowledgedEvents(100).size());
+
+        deleteStreamPosition(dataSource, 1L);
+        assertOk(persistence.writeEntry(auditEntry("successful-change", AuditEntry.Status.APPLIED)));
+
+        List<JournalEvent<AuditEntry>> events = journalEventStore.getUnacknowledgedEvents(100);
+        assertEquals(1, events.size());
+        assertEquals(1L, events.get(0).getStreamSequence(),
+                "confirm must be skipped after a rollback so the retry uses the unspent position");
+        assertEquals("successful-change", events.get(0).getData().getChangeId());
+    }
+
+    @Test
+    @DisplayName("every dialect has journal DDL and statements")
+    void everyDialectHasJournalStatements() {
+        for (SqlDialect sqlDialect : SqlDialect.values()) {
+            SqlJournalDialectHelper helper = new SqlJournalDialectHelper(sqlDialect);
+            assertNotNull(helper.getCreateTableSqlString(JOURNAL_TABLE), sqlDialect.name());
+            assertNotNull(helper.getCreatePendingIndexSqlString(JOURNAL_TABLE), sqlDialect.name());
+            assertEquals(27, helper.getInsertSqlString(JOURNAL_TABLE).chars().filter(c -> c == '?').count(),
+                    sqlDialect.name());
+        }
+    }
+
+    private SqlAuditPersistence persistenceFor(DataSource dataSource,
+                                               SqlJournalEventStore journalEventStore,
+                                               JournalEventSequencer sequencer) {
+        SqlAuditPersistence persistence = new SqlAuditPersistence(
+                new CommunityConfiguration(),
+                dataSource,
+                AUDIT_TABLE,
+                journalEventStore,
+                sequencer,
+                true);
+        persistence.initialize(RunnerId.generate());
+        return persistence;
+    }
+
+    private static SqlJournalEventStore initializedStore(DataSource dataSource) {
+        SqlJournalEventStore journalEventStore = new SqlJournalEventStore(dataSource, JOURNAL_TABLE);
+        journalEventStore.initialize(true);
+        return journalEventStore;
+    }
+
+    private static JournalEventSequencer newSequencer(SqlJournalEventStore journalEventStore) {
+        return new JournalEventSequencerFactory(journalEventStore).forStream(STREAM_ID);
+    }
+
+    private static void occupyStreamPosition(DataSource dataSource,
+                                             SqlJournalEventStore journalEventStore,
+                                             long sequence) throws SQLException {
+        JournalEvent<AuditEntry> squatter = new JournalEvent<>(
+                "pre-existing-event",
+                JournalEventType.CHANGE_STATE,
+                JournalEvent.DEFAULT_VERSION,
+                STREAM_ID,
+                sequence,
+                Instant.now(),
+                auditEntry("pre-existing-change", AuditEntry.Status.APPLIED),
+                false);
+        try (Connection conn = dataSource.getConnection()) {
+            journalEventStore.write(conn, squatter);
+        }
+    }
+
+    private static void deleteStreamPosition(DataSource dataSource, long sequence) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(String.format("DELETE FROM %s WHERE stream_id = '%s' AND stream_sequence = %d",
+                    JOURNAL_TABLE, STREAM_ID, sequence));
+        }
+    }
+
+    private static boolean tableExists(DataSource dataSource, String tableName) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            for (String candidate : new String[]{tableName, tableName.toUpperCase()}) {
+                try (ResultSet rs = conn.getMetaData().getTables(null, null, candidate, null)) {
+                    if (rs.next()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int changeIdIndexCount(DataSource dataSource) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            // SQLite matches table names case-insensitively, so stop at the first spelling that resolves
+            for (String candidate : new String[]{AUDIT_TABLE, AUDIT_TABLE.toUpperCase()}) {
+                int count = 0;
+                try (ResultSet rs = conn.getMetaData().getIndexInfo(null, null, candidate, false, true)) {
+                    while (rs.next()) {
+                        if ("change_id".equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                            count++;
+                        }
+                    }
+                }
+                if (count > 0) {
+                    return count;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private DataSource dataSource(String dialect) {
+        if ("h2".equals(dialect)) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            dataSource.setUser("sa");
+            dataSource.setPassword("");
+            return dataSource;
+        }
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("journal_" + UUID.randomUUID() + ".db"));
+        return dataSource;
+    }
+
+    private static void assertOk(Result result) {
+        assertFalse(result instanceof Result.Error, () -> "unexpected write error: " + result);
+    }
+
+    private static AuditEntry auditEntry(String changeId, AuditEntry.Status status) {
+        return AuditEntryTestFactory.createTestAuditEntry(changeId, status, AuditTxType.NON_TX, (Class<?>) null);
+    }
+}
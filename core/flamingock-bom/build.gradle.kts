@@ -21,6 +21,7 @@ dependencies {
         //Flamingock Cloud
         api("io.flamingock:flamingock-cloud:${version}")
         api("io.flamingock:flamingock-cloud-api:${version}")
+        api("io.flamingock:flamingock-cloud-transport-jdk:${version}")
 
         // Flamingock Community
         api("io.flamingock:flamingock-community:${version}")
@@ -34,6 +35,9 @@ dependencies {
         // Springboot
         api("io.flamingock:flamingock-springboot-integration:${version}")
         api("io.flamingock:flamingock-springboot-test-support:${version}")
+        api("io.flamingock:flamingock-reactive:${version}")
+        api("io.flamingock:flamingock-micrometer:${version}")
+        api("io.flamingock:flamingock-opentelemetry:${version}")
         api("io.flamingock:flamingock-graalvm:${version}")
 
         // Mongock
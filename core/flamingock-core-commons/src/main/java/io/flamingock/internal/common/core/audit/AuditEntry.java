@@ -230,6 +230,15 @@ public class AuditEntry implements Comparable<AuditEntry> {
 
     private boolean shouldBeReplacedBy(AuditEntry newEntry) {
         if(this.getState().equals(newEntry.getState())) {
+            if(newEntry.getCreatedAt().equals(this.createdAt)) {
+                // Checkpoints of a fast multi-step or batch change can share a timestamp: furthest one wins
+                int newStep = StepCursor.read(newEntry.getMetadata()).orElse(StepCursor.NONE);
+                int currentStep = StepCursor.read(this.metadata).orElse(StepCursor.NONE);
+                if (newStep != currentStep) {
+                    return newStep > currentStep;
+                }
+                return BatchCursor.readCommittedChunks(newEntry.getMetadata()) > BatchCursor.readCommittedChunks(this.metadata);
+            }
             return newEntry.getCreatedAt().isAfter(this.createdAt);
         }
 
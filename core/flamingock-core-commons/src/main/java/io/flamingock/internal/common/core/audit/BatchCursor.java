@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.audit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cursor of a batch change: the reader position after the last committed chunk, together with
+ * the number of chunks committed so far. It is carried in the {@link AuditEntry} metadata under
+ * {@link #METADATA_KEY} and {@link #CHUNKS_METADATA_KEY}.
+ *
+ * <p>Like the {@link StepCursor}, it is written with every {@code STARTED} checkpoint and with
+ * the {@code FAILED} entry, so a retried batch change resumes reading after the last committed
+ * chunk instead of starting over.
+ *
+ * <p>The position is an opaque value chosen by the change's reader (an offset, the last key read,
+ * a continuation token...). It is stored Base64url-encoded, so it survives audit stores that
+ * persist metadata as the {@code toString()} of the map.
+ */
+public final class BatchCursor {
+
+    public static final String METADATA_KEY = "flamingockBatchCursor";
+
+    public static final String CHUNKS_METADATA_KEY = "flamingockBatchChunks";
+
+    private static final Pattern SERIALIZED_POSITION_PATTERN = Pattern.compile("\\b" + METADATA_KEY + "\"?\\s*[=:]\\s*\"?([A-Za-z0-9_-]*)");
+
+    private static final Pattern SERIALIZED_CHUNKS_PATTERN = Pattern.compile("\\b" + CHUNKS_METADATA_KEY + "\"?\\s*[=:]\\s*\"?(\\d+)");
+
+    private final String position;
+
+    private final long committedChunks;
+
+    public BatchCursor(String position, long committedChunks) {
+        this.position = Objects.requireNonNull(position, "position");
+        this.committedChunks = committedChunks;
+    }
+
+    /**
+     * @return the reader position to continue from
+     */
+    public String getPosition() {
+        return position;
+    }
+
+    /**
+     * @return how many chunks have been committed up to this position
+     */
+    public long getCommittedChunks() {
+        return committedChunks;
+    }
+
+    /**
+     * Returns the cursor persisted in the given entry, if it is a resumable one
+     * ({@code STARTED}, {@code FAILED} or {@code ROLLBACK_FAILED}) and carries a cursor.
+     */
+    public static Optional<BatchCursor> read(AuditEntry auditEntry) {
+        if (auditEntry == null || auditEntry.getState() == null) {
+            return Optional.empty();
+        }
+        switch (auditEntry.getState()) {
+            case STARTED:
+            case FAILED:
+            case ROLLBACK_FAILED:
+                return read(auditEntry.getMetadata());
+            default:
+                return Optional.empty();
+        }
+    }
+
+    static Optional<BatchCursor> read(Object metadata) {
+        String encodedPosition = null;
+        String chunks = null;
+        if (metadata instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) metadata;
+            Object positionValue = map.get(METADATA_KEY);
+            Object chunksValue = map.get(CHUNKS_METADATA_KEY);
+            encodedPosition = positionValue != null ? positionValue.toString() : null;
+            chunks = chunksValue != null ? chunksValue.toString() : null;
+        } else if (metadata != null) {
+            String serialized = metadata.toString();
+            Matcher positionMatcher = SERIALIZED_POSITION_PATTERN.matcher(serialized);
+            if (positionMatcher.find()) {
+                encodedPosition = positionMatcher.group(1);
+            }
+            Matcher chunksMatcher = SERIALIZED_CHUNKS_PATTERN.matcher(serialized);
+            if (chunksMatcher.find()) {
+                chunks = chunksMatcher.group(1);
+            }
+        }
+        if (encodedPosition == null) {
+            return Optional.empty();
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(encodedPosition), StandardCharsets.UTF_8);
+            return Optional.of(new BatchCursor(position, chunks != null ? Long.parseLong(chunks.trim()) : 0L));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Number of chunks committed according to the cursor in the given metadata, or 0 if it has none.
+     * Used to order batch checkpoints that share a timestamp.
+     */
+    static long readCommittedChunks(Object metadata) {
+        return read(metadata).map(BatchCursor::getCommittedChunks).orElse(0L);
+    }
+
+    /**
+     * Returns a copy of the given metadata with this cursor added. The original metadata is left
+     * untouched, as it is shared by every audit entry of the execution.
+     */
+    public Map<String, Object> writeTo(Object metadata) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (metadata instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) metadata).entrySet()) {
+                result.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+        }
+        result.put(METADATA_KEY, Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8)));
+        result.put(CHUNKS_METADATA_KEY, committedChunks);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BatchCursor)) return false;
+        BatchCursor that = (BatchCursor) o;
+        return committedChunks == that.committedChunks && position.equals(that.position);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * position.hashCode() + Long.hashCode(committedChunks);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchCursor{position='" + position + "', committedChunks=" + committedChunks + '}';
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.audit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Step cursor of a multi-step template change: the index of the last step committed to the
+ * target system, carried in the {@link AuditEntry} metadata under {@link #METADATA_KEY}.
+ *
+ * <p>It is written with every {@code STARTED} checkpoint and with the {@code FAILED} and
+ * {@code ROLLBACK_FAILED} entries, so a retried change can resume right after the last committed
+ * step instead of starting over. A successful rollback leaves nothing committed, so
+ * {@code ROLLED_BACK} entries, like those in any other state, never carry a cursor.
+ *
+ * <p>Audit stores persist metadata differently (as a document, or as the {@code toString()} of
+ * the map), so both shapes are understood when reading it back.
+ */
+public final class StepCursor {
+
+    public static final String METADATA_KEY = "flamingockStepCursor";
+
+    public static final int NONE = -1;
+
+    private static final Pattern SERIALIZED_PATTERN = Pattern.compile("\\b" + METADATA_KEY + "\"?\\s*[=:]\\s*\"?(-?\\d+)");
+
+    private StepCursor() {
+    }
+
+    /**
+     * Returns the cursor persisted in the given entry, if it is a resumable one
+     * ({@code STARTED}, {@code FAILED} or {@code ROLLBACK_FAILED}) and carries a cursor.
+     */
+    public static Optional<Integer> read(AuditEntry auditEntry) {
+        if (auditEntry == null || auditEntry.getState() == null) {
+            return Optional.empty();
+        }
+        switch (auditEntry.getState()) {
+            case STARTED:
+            case FAILED:
+            case ROLLBACK_FAILED:
+                return read(auditEntry.getMetadata());
+            default:
+                return Optional.empty();
+        }
+    }
+
+    static Optional<Integer> read(Object metadata) {
+        Integer cursor = null;
+        if (metadata instanceof Map) {
+            Object value = ((Map<?, ?>) metadata).get(METADATA_KEY);
+            if (value instanceof Number) {
+                cursor = ((Number) value).intValue();
+            } else if (value != null) {
+                cursor = parse(value.toString());
+            }
+        } else if (metadata != null) {
+            Matcher matcher = SERIALIZED_PATTERN.matcher(metadata.toString());
+            if (matcher.find()) {
+                cursor = parse(matcher.group(1));
+            }
+        }
+        return cursor != null && cursor > NONE ? Optional.of(cursor) : Optional.empty();
+    }
+
+    /**
+     * Returns a copy of the given metadata with the cursor added. The original metadata is left
+     * untouched, as it is shared by every audit entry of the execution.
+     */
+    public static Map<String, Object> write(Object metadata, int lastCommittedStep) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (metadata instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) metadata).entrySet()) {
+                result.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+        }
+        result.put(METADATA_KEY, lastCommittedStep);
+        return result;
+    }
+
+    private static Integer parse(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
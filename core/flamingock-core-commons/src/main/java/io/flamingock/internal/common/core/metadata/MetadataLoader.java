@@ -16,6 +16,7 @@
 package io.flamingock.internal.common.core.metadata;
 
 import io.flamingock.api.StageType;
+import io.flamingock.internal.common.core.nativeimage.PrecomputedRegistry;
 import io.flamingock.internal.common.core.preview.AbstractPreviewChange;
 import io.flamingock.internal.common.core.preview.PreviewPipeline;
 import io.flamingock.internal.common.core.preview.PreviewStage;
@@ -32,6 +33,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -74,11 +76,20 @@ public final class MetadataLoader {
      * single composite {@link FlamingockMetadata}. The composite is a "runtime view" with
      * orphans/strict/pipelineFile null'd because they have already been enforced.
      *
+     * <p>When a {@link PrecomputedRegistry} snapshot is installed (native images built with the
+     * Flamingock GraalVM feature), the composite computed at build time is returned as-is and
+     * neither the provider scan nor the JSON parsing runs.
+     *
      * @throws RuntimeException when no providers are registered (no Flamingock-aware module on
      *                          the classpath) — the typical user error of "did you add the
      *                          processor as an annotation processor?".
      */
     public static FlamingockMetadata loadAggregated() {
+        Optional<FlamingockMetadata> precomputed = PrecomputedRegistry.getAggregatedMetadata();
+        if (precomputed.isPresent()) {
+            logger.debug("Using build-time precomputed Flamingock metadata");
+            return precomputed.get();
+        }
         List<FlamingockMetadata> perModule = loadAll();
         if (perModule.isEmpty()) {
             throw new RuntimeException("No Flamingock metadata providers found on the classpath. "
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.nativeimage;
+
+import io.flamingock.api.template.ChangeTemplate;
+import io.flamingock.internal.common.core.metadata.FlamingockMetadata;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.common.core.template.ChangeTemplateDefinition;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holder for the template registry and the aggregated pipeline metadata when they have been
+ * computed ahead of time, typically by the GraalVM {@code RegistrationFeature} during
+ * native-image build.
+ *
+ * <p>When a snapshot is installed, {@code ChangeTemplateManager.loadTemplates()} and
+ * {@link MetadataLoader#loadAggregated()} serve it directly: no {@link java.util.ServiceLoader}
+ * scan and no JSON parsing happen at startup. When nothing is installed (the regular JVM
+ * path) both fall back to classpath discovery, so this class is inert for non-native users.
+ *
+ * <p>The GraalVM feature initializes this class at build time, which places the snapshot in
+ * the image heap. It must therefore stay free of loggers and of any static state other than
+ * the snapshot itself. The snapshot is immutable once installed; {@link #precompute(Collection)}
+ * refuses to run twice.
+ */
+public final class PrecomputedRegistry {
+
+    private static volatile Snapshot snapshot;
+
+    private PrecomputedRegistry() {
+    }
+
+    /**
+     * Computes and installs the snapshot. Entry point for the GraalVM feature, which passes
+     * the template classes it enumerated through {@code ServiceLoader.Provider::type} so no
+     * template is instantiated or initialized here.
+     *
+     * @param templateClasses every {@link ChangeTemplate} implementation registered on the classpath
+     * @throws IllegalStateException if a snapshot is already installed
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void precompute(Collection<Class<?>> templateClasses) {
+        if (snapshot != null) {
+            throw new IllegalStateException("Flamingock precomputed registry already installed");
+        }
+        Map<String, ChangeTemplateDefinition> templates = new LinkedHashMap<>();
+        for (Class<?> templateClass : templateClasses) {
+            ChangeTemplateDefinition definition = ChangeTemplateDefinition.fromTemplateClass(
+                    (Class<? extends ChangeTemplate<?, ?, ?>>) templateClass);
+            templates.put(definition.getId(), definition);
+        }
+        install(MetadataLoader.loadAggregated(), templates);
+    }
+
+    /**
+     * Installs an already computed snapshot. The template map is copied, so later changes to
+     * the argument are not visible through this registry.
+     */
+    static synchronized void install(FlamingockMetadata metadata,
+                                     Map<String, ChangeTemplateDefinition> templates) {
+        snapshot = new Snapshot(metadata, Collections.unmodifiableMap(new LinkedHashMap<>(templates)));
+    }
+
+    public static boolean isInstalled() {
+        return snapshot != null;
+    }
+
+    public static Optional<FlamingockMetadata> getAggregatedMetadata() {
+        Snapshot current = snapshot;
+        return current != null ? Optional.of(current.metadata) : Optional.empty();
+    }
+
+    public static Optional<Map<String, ChangeTemplateDefinition>> getTemplates() {
+        Snapshot current = snapshot;
+        return current != null ? Optional.of(current.templates) : Optional.empty();
+    }
+
+    @TestOnly
+    public static synchronized void clear() {
+        snapshot = null;
+    }
+
+    private static final class Snapshot {
+        private final FlamingockMetadata metadata;
+        private final Map<String, ChangeTemplateDefinition> templates;
+
+        private Snapshot(FlamingockMetadata metadata, Map<String, ChangeTemplateDefinition> templates) {
+            this.metadata = metadata;
+            this.templates = templates;
+        }
+    }
+}
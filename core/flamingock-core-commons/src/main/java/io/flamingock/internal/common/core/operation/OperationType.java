@@ -22,6 +22,7 @@ public enum OperationType {
     VALIDATE_APPLY,
     AUDIT_LIST,
     AUDIT_FIX,
+    AUDIT_COMPACT,
     ISSUE_LIST,
     ISSUE_GET
 }
@@ -15,8 +15,11 @@
  */
 package io.flamingock.internal.common.core.recovery.action;
 
+import io.flamingock.internal.common.core.audit.BatchCursor;
+
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Contains the action plan for a stage, specifying which action should be taken
@@ -27,8 +30,31 @@ public class ChangeActionMap {
 
     private final Map<String, ChangeAction> actionMap;
 
+    private final Map<String, Integer> stepCursors;
+
+    private final Map<String, BatchCursor> batchCursors;
+
     public ChangeActionMap(Map<String, ChangeAction> actionMap) {
+        this(actionMap, null, null);
+    }
+
+    public ChangeActionMap(Map<String, ChangeAction> actionMap, Map<String, Integer> stepCursors) {
+        this(actionMap, stepCursors, null);
+    }
+
+    /**
+     * @param actionMap    the action for each change
+     * @param stepCursors  for multi-step changes resuming a previous execution, the index of the
+     *                     last step already committed
+     * @param batchCursors for batch changes resuming a previous execution, the reader position
+     *                     after the last committed chunk
+     */
+    public ChangeActionMap(Map<String, ChangeAction> actionMap,
+                           Map<String, Integer> stepCursors,
+                           Map<String, BatchCursor> batchCursors) {
         this.actionMap = actionMap != null ? Collections.unmodifiableMap(new java.util.HashMap<>(actionMap)) : Collections.emptyMap();
+        this.stepCursors = stepCursors != null ? Collections.unmodifiableMap(new java.util.HashMap<>(stepCursors)) : Collections.emptyMap();
+        this.batchCursors = batchCursors != null ? Collections.unmodifiableMap(new java.util.HashMap<>(batchCursors)) : Collections.emptyMap();
     }
 
     /**
@@ -42,6 +68,27 @@ public class ChangeActionMap {
         return actionMap.getOrDefault(changeId, ChangeAction.APPLY);
     }
 
+    /**
+     * Returns the index of the last committed step when the change is a multi-step change
+     * resuming a previous execution.
+     *
+     * @param changeId the unique identifier for the change
+     * @return the step cursor, or empty if the change must start from its first step
+     */
+    public Optional<Integer> getStepCursorFor(String changeId) {
+        return Optional.ofNullable(stepCursors.get(changeId));
+    }
+
+    /**
+     * Returns the position after the last committed chunk when the change is a batch change
+     * resuming a previous execution.
+     *
+     * @param changeId the unique identifier for the change
+     * @return the batch cursor, or empty if the change must start reading from the beginning
+     */
+    public Optional<BatchCursor> getBatchCursorFor(String changeId) {
+        return Optional.ofNullable(batchCursors.get(changeId));
+    }
 
     /**
      * Returns true if any change in this action map requires manual intervention.
@@ -79,11 +126,13 @@ public class ChangeActionMap {
         if (!(o instanceof ChangeActionMap)) return false;
 
         ChangeActionMap that = (ChangeActionMap) o;
-        return actionMap.equals(that.actionMap);
+        return actionMap.equals(that.actionMap)
+                && stepCursors.equals(that.stepCursors)
+                && batchCursors.equals(that.batchCursors);
     }
 
     @Override
     public int hashCode() {
-        return actionMap.hashCode();
+        return 31 * (31 * actionMap.hashCode() + stepCursors.hashCode()) + batchCursors.hashCode();
     }
 }
\ No newline at end of file
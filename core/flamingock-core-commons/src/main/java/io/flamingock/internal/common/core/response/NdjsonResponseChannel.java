@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.response;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+
+/**
+ * Response channel that streams newline-delimited JSON to a file, one record per line, flushed as
+ * soon as it's written, so an orchestrator can tail the progress of the execution. Records are
+ * written with a {@link JsonGenerator} straight to the file: nothing is buffered beyond the record
+ * at hand.
+ *
+ * <p>Each record is an object with its {@code type}, {@code timestamp}, the {@code stage} it
+ * belongs to when any, and its {@code data}. The response envelope is the last one, with type
+ * {@value #RESULT_RECORD}, and it's also handed to the summary channel, so the atomic summary file
+ * is still produced.</p>
+ */
+public class NdjsonResponseChannel implements ResponseChannel {
+
+    public static final String RESULT_RECORD = "result";
+
+    private final Path outputPath;
+    private final ResponseChannel summaryChannel;
+    private final ObjectWriter dataWriter;
+    private final JsonGenerator generator;
+    private boolean closed;
+
+    /**
+     * @param summaryChannel receives the response envelope once streamed
+     * @throws ResponseChannelException if the stream file cannot be created
+     */
+    public NdjsonResponseChannel(String outputFilePath, ResponseChannel summaryChannel, ObjectMapper objectMapper) {
+        this.outputPath = Paths.get(outputFilePath);
+        this.summaryChannel = summaryChannel;
+        // one line per record, whatever the mapper's indentation
+        this.dataWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        try {
+            Path parentDir = outputPath.getParent();
+            if (parentDir != null && !Files.exists(parentDir)) {
+                Files.createDirectories(parentDir);
+            }
+            this.generator = objectMapper.getFactory().createGenerator(Files.newOutputStream(outputPath), JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        } catch (IOException e) {
+            throw new ResponseChannelException("Failed to open response stream file: " + outputPath, e);
+        }
+    }
+
+    /**
+     * Appends a record and flushes it. Records written after closing are discarded.
+     *
+     * @param stageName stage the record belongs to, or null
+     * @param data      payload of the record, serialized like in the response envelope; or null
+     * @throws ResponseChannelException if writing fails
+     */
+    public synchronized void writeRecord(String type, String stageName, Object data) throws ResponseChannelException {
+        if (closed) {
+            return;
+        }
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            generator.writeStringField("timestamp", Instant.now().toString());
+            if (stageName != null) {
+                generator.writeStringField("stage", stageName);
+            }
+            if (data != null) {
+                generator.writeFieldName("data");
+                dataWriter.writeValue(generator, data);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        } catch (IOException e) {
+            throw new ResponseChannelException("Failed to write record to response stream file: " + outputPath, e);
+        }
+    }
+
+    /**
+     * Streams the envelope as the result record and hands it to the summary channel. The summary is
+     * written even when the stream fails, as it's what a caller reads the outcome from.
+     */
+    @Override
+    public void write(ResponseEnvelope envelope) throws ResponseChannelException {
+        try {
+            writeRecord(RESULT_RECORD, null, envelope);
+        } finally {
+            summaryChannel.write(envelope);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new ResponseChannelException("Failed to close response stream file: " + outputPath, e);
+        } finally {
+            summaryChannel.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.response.data;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+/**
+ * Response data for the AUDIT_COMPACT operation.
+ */
+@JsonTypeName("audit_compact")
+public class AuditCompactResponseData {
+
+    private int entriesBefore;
+    private int entriesRemoved;
+    private int compactedChanges;
+    private String archiveFile;
+    private boolean dryRun;
+    private String message;
+
+    public AuditCompactResponseData() {
+    }
+
+    public AuditCompactResponseData(int entriesBefore,
+                                    int entriesRemoved,
+                                    int compactedChanges,
+                                    String archiveFile,
+                                    boolean dryRun,
+                                    String message) {
+        this.entriesBefore = entriesBefore;
+        this.entriesRemoved = entriesRemoved;
+        this.compactedChanges = compactedChanges;
+        this.archiveFile = archiveFile;
+        this.dryRun = dryRun;
+        this.message = message;
+    }
+
+    public int getEntriesBefore() {
+        return entriesBefore;
+    }
+
+    public void setEntriesBefore(int entriesBefore) {
+        this.entriesBefore = entriesBefore;
+    }
+
+    public int getEntriesRemoved() {
+        return entriesRemoved;
+    }
+
+    public void setEntriesRemoved(int entriesRemoved) {
+        this.entriesRemoved = entriesRemoved;
+    }
+
+    public int getCompactedChanges() {
+        return compactedChanges;
+    }
+
+    public void setCompactedChanges(int compactedChanges) {
+        this.compactedChanges = compactedChanges;
+    }
+
+    public String getArchiveFile() {
+        return archiveFile;
+    }
+
+    public void setArchiveFile(String archiveFile) {
+        this.archiveFile = archiveFile;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -15,7 +15,10 @@
  */
 package io.flamingock.internal.common.core.template;
 
+import io.flamingock.api.annotations.RollbackTemplate;
 import io.flamingock.api.template.ChangeTemplate;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.util.ReflectionUtil;
 
 /**
  * Wraps a template class together with its pre-resolved metadata from the {@code @ChangeTemplate} annotation.
@@ -45,6 +48,50 @@ public class ChangeTemplateDefinition {
         this.rollbackPayloadRequired = rollbackPayloadRequired;
     }
 
+    /**
+     * Validates the {@code @ChangeTemplate} annotation on the given class and builds a
+     * {@link ChangeTemplateDefinition} with pre-resolved metadata.
+     *
+     * <p>Only reads class-level metadata (annotations and declared methods), so it never fires
+     * the template's {@code <clinit>}. That makes it safe to call from the GraalVM feature at
+     * native-image build time as well as from {@link ChangeTemplateManager} at runtime.
+     *
+     * @param templateClass the template class to validate and wrap
+     * @return a new ChangeTemplateDefinition
+     * @throws FlamingockException if the class is missing the {@code @ChangeTemplate} annotation
+     */
+    public static ChangeTemplateDefinition fromTemplateClass(Class<? extends ChangeTemplate<?, ?, ?>> templateClass) {
+        io.flamingock.api.annotations.ChangeTemplate annotation = getValidatedAnnotation(templateClass);
+        String id = annotation.name();
+        if (!ReflectionUtil.findFirstAnnotatedMethod(templateClass, RollbackTemplate.class).isPresent()) {
+            throw new FlamingockException(String.format(
+                    "Template class '%s' is missing required @RollbackTemplate method",
+                    templateClass.getSimpleName()));
+        }
+        return new ChangeTemplateDefinition(id, templateClass, annotation.multiStep(), annotation.rollbackPayloadRequired());
+    }
+
+    /**
+     * Returns the {@code @ChangeTemplate} annotation of the class after checking it is present
+     * and carries a non-blank id. Cheaper than {@link #fromTemplateClass(Class)}: no method scan.
+     */
+    static io.flamingock.api.annotations.ChangeTemplate getValidatedAnnotation(Class<?> templateClass) {
+        io.flamingock.api.annotations.ChangeTemplate annotation =
+                templateClass.getAnnotation(io.flamingock.api.annotations.ChangeTemplate.class);
+        if (annotation == null) {
+            throw new FlamingockException(String.format(
+                    "Template class '%s' is missing required @ChangeTemplate annotation",
+                    templateClass.getSimpleName()));
+        }
+        String id = annotation.name();
+        if (id == null || id.trim().isEmpty()) {
+            throw new FlamingockException(String.format(
+                    "Template class '%s' has a blank @ChangeTemplate id. The id must be a non-empty string",
+                    templateClass.getSimpleName()));
+        }
+        return annotation;
+    }
+
     public String getId() {
         return id;
     }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.template;
+
+import io.flamingock.api.template.ChangeTemplate;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.common.core.nativeimage.PrecomputedRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe registry of {@link ChangeTemplate} implementations, indexed by their
+ * {@code @ChangeTemplate} id.
+ *
+ * <p>Discovery reads the {@code META-INF/services} provider-configuration files directly and
+ * loads each provider class with {@code initialize=false} — the Java 8 equivalent of
+ * {@code ServiceLoader.Provider::type}. No template is instantiated and no template
+ * {@code <clinit>} runs while indexing; only the class-level annotation is read. The
+ * {@link ChangeTemplateDefinition} (which also scans the class methods) is built the first
+ * time an id is looked up, through {@link ConcurrentHashMap#computeIfAbsent}, so templates
+ * the pipeline never references cost one class load and nothing else.
+ *
+ * <p>Instances are independent: a runner can own its registry, so several runners in the
+ * same JVM (tests, multi-tenant deployments) neither contend on nor leak into each other's
+ * templates. {@link ChangeTemplateManager} keeps a shared instance for the static API.
+ */
+public final class TemplateRegistry {
+
+    static final String SERVICE_FILE = "META-INF/services/" + ChangeTemplate.class.getName();
+
+    private final ConcurrentMap<String, Class<? extends ChangeTemplate<?, ?, ?>>> index = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, ChangeTemplateDefinition> definitions = new ConcurrentHashMap<>();
+
+    public TemplateRegistry() {
+    }
+
+    /**
+     * Creates a registry with every template declared on the classpath.
+     *
+     * @see #load(ClassLoader)
+     */
+    public static TemplateRegistry fromClasspath() {
+        return fromClasspath(defaultClassLoader());
+    }
+
+    public static TemplateRegistry fromClasspath(ClassLoader classLoader) {
+        TemplateRegistry registry = new TemplateRegistry();
+        registry.load(classLoader);
+        return registry;
+    }
+
+    /**
+     * Adds the templates on the classpath of the thread-context class loader.
+     *
+     * @see #load(ClassLoader)
+     */
+    public void load() {
+        load(defaultClassLoader());
+    }
+
+    /**
+     * Adds the templates on the given classpath. When a {@link PrecomputedRegistry} snapshot is
+     * installed (native images built with the Flamingock GraalVM feature) its definitions are
+     * added instead and the classpath is not scanned.
+     */
+    public void load(ClassLoader classLoader) {
+        Optional<Map<String, ChangeTemplateDefinition>> precomputed = PrecomputedRegistry.getTemplates();
+        if (precomputed.isPresent()) {
+            definitions.putAll(precomputed.get());
+        } else {
+            scan(classLoader);
+        }
+    }
+
+    /**
+     * Indexes the template provider classes declared in the {@code META-INF/services} files
+     * visible to the given class loader. When several provider classes declare the same id, the
+     * last one found wins, as it did when templates were loaded through {@code ServiceLoader}.
+     *
+     * @return the number of provider classes found
+     * @throws FlamingockException if a provider class is missing, is not a {@link ChangeTemplate}
+     *                             or has no valid {@code @ChangeTemplate} annotation
+     */
+    @SuppressWarnings("unchecked")
+    public int scan(ClassLoader classLoader) {
+        Set<String> classNames = readProviderClassNames(classLoader);
+        for (String className : classNames) {
+            Class<?> providerClass;
+            try {
+                providerClass = Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException e) {
+                throw new FlamingockException(String.format(
+                        "Template class '%s' declared in %s not found", className, SERVICE_FILE), e);
+            }
+            if (!ChangeTemplate.class.isAssignableFrom(providerClass)) {
+                throw new FlamingockException(String.format(
+                        "Class '%s' declared in %s does not implement %s",
+                        className, SERVICE_FILE, ChangeTemplate.class.getName()));
+            }
+            String id = ChangeTemplateDefinition.getValidatedAnnotation(providerClass).name();
+            Class<?> previous = index.put(id, (Class<? extends ChangeTemplate<?, ?, ?>>) providerClass);
+            if (previous != null && previous != providerClass) {
+                definitions.remove(id);
+            }
+        }
+        return classNames.size();
+    }
+
+    /**
+     * Registers a template class eagerly, validating it on the spot.
+     *
+     * @throws FlamingockException if the class is not a valid template
+     */
+    public ChangeTemplateDefinition register(Class<? extends ChangeTemplate<?, ?, ?>> templateClass) {
+        ChangeTemplateDefinition definition = ChangeTemplateDefinition.fromTemplateClass(templateClass);
+        index.put(definition.getId(), templateClass);
+        definitions.put(definition.getId(), definition);
+        return definition;
+    }
+
+    /**
+     * Looks a template up by its {@code @ChangeTemplate} id, resolving its definition on first
+     * use. Concurrent first lookups of the same id resolve it only once.
+     */
+    public Optional<ChangeTemplateDefinition> getTemplate(String templateName) {
+        if (templateName == null) {
+            return Optional.empty();
+        }
+        Class<? extends ChangeTemplate<?, ?, ?>> templateClass = index.get(templateName);
+        if (templateClass == null) {
+            return Optional.ofNullable(definitions.get(templateName));
+        }
+        return Optional.of(definitions.computeIfAbsent(templateName,
+                id -> ChangeTemplateDefinition.fromTemplateClass(templateClass)));
+    }
+
+    public ChangeTemplateDefinition getTemplateOrFail(String templateName) {
+        return getTemplate(templateName)
+                .orElseThrow(() -> new FlamingockException(String.format("Template[%s] not found. This is probably because template's name is wrong or template's library not imported", templateName)));
+    }
+
+    /**
+     * @return the ids of every template known to this registry, resolved or not
+     */
+    public Set<String> getTemplateIds() {
+        Set<String> ids = new LinkedHashSet<>(index.keySet());
+        ids.addAll(definitions.keySet());
+        return Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * @return how many definitions have been resolved so far; mostly useful for diagnostics
+     */
+    public int getResolvedCount() {
+        return definitions.size();
+    }
+
+    private static Set<String> readProviderClassNames(ClassLoader classLoader) {
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(SERVICE_FILE);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                try (InputStream inputStream = url.openStream();
+                     BufferedReader reader = new BufferedReader(
+                             new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int commentStart = line.indexOf('#');
+                        String className = (commentStart >= 0 ? line.substring(0, commentStart) : line).trim();
+                        if (!className.isEmpty()) {
+                            classNames.add(className);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new FlamingockException("Error reading template provider files " + SERVICE_FILE, e);
+        }
+        return classNames;
+    }
+
+    private static ClassLoader defaultClassLoader() {
+        // Same resolution ServiceLoader.load(Class) uses, so discovery sees the same providers
+        // as before (Spring Boot and other frameworks scope visibility through the TCCL).
+        ClassLoader tcl = Thread.currentThread().getContextClassLoader();
+        return tcl != null ? tcl : ChangeTemplate.class.getClassLoader();
+    }
+}
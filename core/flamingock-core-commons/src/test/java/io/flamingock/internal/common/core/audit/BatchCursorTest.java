@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.audit;
+
+import io.flamingock.api.RecoveryStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BatchCursorTest {
+
+    @Test
+    @DisplayName("Should add the cursor without altering the execution metadata")
+    void shouldWriteCursorOnCopy() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("team", "payments");
+
+        Map<String, Object> written = new BatchCursor("offset-1000", 1L).writeTo(metadata);
+
+        assertEquals(1L, written.get(BatchCursor.CHUNKS_METADATA_KEY));
+        assertEquals("payments", written.get("team"));
+        assertFalse(metadata.containsKey(BatchCursor.METADATA_KEY));
+        assertFalse(metadata.containsKey(BatchCursor.CHUNKS_METADATA_KEY));
+    }
+
+    @Test
+    @DisplayName("Should read the cursor from map and serialized metadata")
+    void shouldReadBothMetadataShapes() {
+        BatchCursor cursor = new BatchCursor("{\"lastId\": \"a=b, c\"}", 12L);
+        Map<String, Object> written = cursor.writeTo(Collections.singletonMap("team", "payments"));
+
+        assertEquals(Optional.of(cursor), BatchCursor.read(entry(AuditEntry.Status.STARTED, written)));
+        assertEquals(Optional.of(cursor), BatchCursor.read(entry(AuditEntry.Status.STARTED, written.toString())));
+        assertEquals(Optional.of(new BatchCursor("42", 3L)), BatchCursor.read(entry(AuditEntry.Status.FAILED,
+                "{\"flamingockBatchCursor\":\"NDI\",\"flamingockBatchChunks\":\"3\"}")));
+        assertEquals(Optional.empty(), BatchCursor.read(entry(AuditEntry.Status.STARTED, "{team=payments}")));
+        assertEquals(Optional.empty(), BatchCursor.read(entry(AuditEntry.Status.STARTED, null)));
+    }
+
+    @Test
+    @DisplayName("Should only expose the cursor of resumable states")
+    void shouldIgnoreCursorOfNonResumableStates() {
+        Map<String, Object> written = new BatchCursor("2000", 2L).writeTo(null);
+
+        assertEquals(Optional.of(new BatchCursor("2000", 2L)), BatchCursor.read(entry(AuditEntry.Status.ROLLBACK_FAILED, written)));
+        assertEquals(Optional.empty(), BatchCursor.read(entry(AuditEntry.Status.APPLIED, written)));
+        assertEquals(Optional.empty(), BatchCursor.read(entry(AuditEntry.Status.ROLLED_BACK, written)));
+    }
+
+    @Test
+    @DisplayName("Should keep the furthest checkpoint when several share a timestamp")
+    void shouldKeepFurthestCheckpointOnTimestampTie() {
+        LocalDateTime now = LocalDateTime.now();
+        AuditEntry chunk9 = entry(AuditEntry.Status.STARTED, new BatchCursor("9000", 9L).writeTo(null), now);
+        AuditEntry chunk10 = entry(AuditEntry.Status.STARTED, new BatchCursor("10000", 10L).writeTo(null), now);
+
+        assertSame(chunk10, AuditEntry.getMostRelevant(chunk9, chunk10));
+        assertSame(chunk10, AuditEntry.getMostRelevant(chunk10, chunk9));
+    }
+
+    private static AuditEntry entry(AuditEntry.Status status, Object metadata) {
+        return entry(status, metadata, LocalDateTime.now());
+    }
+
+    private static AuditEntry entry(AuditEntry.Status status, Object metadata, LocalDateTime createdAt) {
+        return new AuditEntry("exec-id", "stage", "change-id", "author", createdAt, status,
+                AuditEntry.ChangeType.STANDARD_CODE, "BatchClass", "apply", null, 0L, "host",
+                metadata, false, null, AuditTxType.NON_TX, "target", "001",
+                RecoveryStrategy.ALWAYS_RETRY, false);
+    }
+}
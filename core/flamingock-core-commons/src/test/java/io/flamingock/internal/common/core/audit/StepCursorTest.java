@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.audit;
+
+import io.flamingock.api.RecoveryStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StepCursorTest {
+
+    @Test
+    @DisplayName("Should add the cursor without altering the execution metadata")
+    void shouldWriteCursorOnCopy() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("team", "payments");
+
+        Map<String, Object> written = StepCursor.write(metadata, 41);
+
+        assertEquals(41, written.get(StepCursor.METADATA_KEY));
+        assertEquals("payments", written.get("team"));
+        assertFalse(metadata.containsKey(StepCursor.METADATA_KEY));
+    }
+
+    @Test
+    @DisplayName("Should read the cursor from map and serialized metadata")
+    void shouldReadBothMetadataShapes() {
+        Map<String, Object> written = StepCursor.write(Collections.singletonMap("team", "payments"), 7);
+
+        assertEquals(Optional.of(7), StepCursor.read(entry(AuditEntry.Status.STARTED, written)));
+        assertEquals(Optional.of(7), StepCursor.read(entry(AuditEntry.Status.STARTED, written.toString())));
+        assertEquals(Optional.of(7), StepCursor.read(entry(AuditEntry.Status.FAILED, "{\"flamingockStepCursor\":\"7\"}")));
+        assertEquals(Optional.empty(), StepCursor.read(entry(AuditEntry.Status.STARTED, "{team=payments}")));
+        assertEquals(Optional.empty(), StepCursor.read(entry(AuditEntry.Status.STARTED, null)));
+    }
+
+    @Test
+    @DisplayName("Should only expose the cursor of resumable states")
+    void shouldIgnoreCursorOfNonResumableStates() {
+        Map<String, Object> written = StepCursor.write(null, 3);
+
+        assertEquals(Optional.of(3), StepCursor.read(entry(AuditEntry.Status.ROLLBACK_FAILED, written)));
+        assertEquals(Optional.empty(), StepCursor.read(entry(AuditEntry.Status.APPLIED, written)));
+        assertEquals(Optional.empty(), StepCursor.read(entry(AuditEntry.Status.ROLLED_BACK, written)));
+    }
+
+    @Test
+    @DisplayName("Should keep the furthest checkpoint when several share a timestamp")
+    void shouldKeepFurthestCheckpointOnTimestampTie() {
+        LocalDateTime now = LocalDateTime.now();
+        AuditEntry step4 = entry(AuditEntry.Status.STARTED, StepCursor.write(null, 4), now);
+        AuditEntry step5 = entry(AuditEntry.Status.STARTED, StepCursor.write(null, 5), now);
+
+        assertSame(step5, AuditEntry.getMostRelevant(step4, step5));
+        assertSame(step5, AuditEntry.getMostRelevant(step5, step4));
+    }
+
+    private static AuditEntry entry(AuditEntry.Status status, Object metadata) {
+        return entry(status, metadata, LocalDateTime.now());
+    }
+
+    private static AuditEntry entry(AuditEntry.Status status, Object metadata, LocalDateTime createdAt) {
+        return new AuditEntry("exec-id", "stage", "change-id", "author", createdAt, status,
+                AuditEntry.ChangeType.STANDARD_TEMPLATE, "TemplateClass", "apply", null, 0L, "host",
+                metadata, false, null, AuditTxType.NON_TX, "target", "001",
+                RecoveryStrategy.ALWAYS_RETRY, false);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.ExecutionStatus;
+import io.flamingock.internal.common.core.response.data.StageResult;
+import io.flamingock.internal.common.core.response.data.StageState;
+import io.flamingock.internal.util.JsonObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for NdjsonResponseChannel - streams records as newline-delimited JSON and keeps the
+ * summary file.
+ */
+class NdjsonResponseChannelTest {
+
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = JsonObjectMapper.DEFAULT_INSTANCE.copy();
+        objectMapper.registerSubtypes(
+                new NamedType(ExecuteResponseData.class, "execute")
+        );
+    }
+
+    @Test
+    @DisplayName("Should flush each record as a single line before the channel is closed")
+    void shouldFlushEachRecordAsSingleLine() throws Exception {
+        Path streamPath = tempDir.resolve("response.ndjson");
+        NdjsonResponseChannel channel = new NdjsonResponseChannel(streamPath.toString(), new NoOpResponseChannel(), objectMapper);
+
+        channel.writeRecord("stage_started", "stage-1", null);
+        channel.writeRecord("change", "stage-1", changeResult("change-1"));
+
+        List<String> lines = Files.readAllLines(streamPath, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        JsonNode started = objectMapper.readTree(lines.get(0));
+        assertEquals("stage_started", started.get("type").asText());
+        assertEquals("stage-1", started.get("stage").asText());
+        assertNotNull(started.get("timestamp"));
+        assertFalse(started.has("data"));
+        JsonNode change = objectMapper.readTree(lines.get(1));
+        assertEquals("change", change.get("type").asText());
+        assertEquals("change-1", change.get("data").get("changeId").asText());
+
+        channel.close();
+    }
+
+    @Test
+    @DisplayName("Should write the same summary file as FileResponseChannel and stream the envelope as last record")
+    void shouldKeepSummaryFileAndStreamEnvelope() throws Exception {
+        Path streamPath = tempDir.resolve("response.ndjson");
+        Path summaryPath = tempDir.resolve("response.json");
+        Path referencePath = tempDir.resolve("reference.json");
+        NdjsonResponseChannel channel = new NdjsonResponseChannel(
+                streamPath.toString(),
+                new FileResponseChannel(summaryPath.toString(), objectMapper),
+                objectMapper);
+        ResponseEnvelope envelope = ResponseEnvelope.success("EXECUTE", executeResponseData(), 500);
+
+        channel.writeRecord("change", "stage-1", changeResult("change-1"));
+        channel.write(envelope);
+        channel.close();
+        new FileResponseChannel(referencePath.toString(), objectMapper).write(envelope);
+
+        JsonNode reference = objectMapper.readTree(referencePath.toFile());
+        assertEquals(reference, objectMapper.readTree(summaryPath.toFile()));
+
+        List<String> lines = Files.readAllLines(streamPath, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        JsonNode result = objectMapper.readTree(lines.get(1));
+        assertEquals(NdjsonResponseChannel.RESULT_RECORD, result.get("type").asText());
+        assertEquals(reference, result.get("data"));
+
+        // change records carry the change result in the envelope format
+        JsonNode change = objectMapper.readTree(lines.get(0));
+        assertEquals(reference.at("/data/stages/0/changes/0"), change.get("data"));
+
+        ResponseEnvelope parsed = objectMapper.treeToValue(result.get("data"), ResponseEnvelope.class);
+        assertTrue(parsed.isSuccess());
+        assertInstanceOf(ExecuteResponseData.class, parsed.getData());
+    }
+
+    @Test
+    @DisplayName("Should still write the summary file when the stream fails")
+    void shouldWriteSummaryWhenStreamFails() throws Exception {
+        Path summaryPath = tempDir.resolve("response.json");
+        NdjsonResponseChannel channel = new NdjsonResponseChannel(
+                tempDir.resolve("response.ndjson").toString(),
+                new FileResponseChannel(summaryPath.toString(), objectMapper),
+                objectMapper) {
+            @Override
+            public synchronized void writeRecord(String type, String stageName, Object data) {
+                throw new ResponseChannelException("disk full");
+            }
+        };
+        ResponseEnvelope envelope = ResponseEnvelope.success("EXECUTE", executeResponseData(), 500);
+
+        assertThrows(ResponseChannelException.class, () -> channel.write(envelope));
+        channel.close();
+
+        JsonNode summary = objectMapper.readTree(summaryPath.toFile());
+        assertTrue(summary.get("success").asBoolean());
+        assertEquals("change-1", summary.at("/data/stages/0/changes/0/changeId").asText());
+    }
+
+    @Test
+    @DisplayName("Should discard records written after closing")
+    void shouldDiscardRecordsAfterClosing() throws Exception {
+        Path streamPath = tempDir.resolve("nested/response.ndjson");
+        NdjsonResponseChannel channel = new NdjsonResponseChannel(streamPath.toString(), new NoOpResponseChannel(), objectMapper);
+
+        channel.writeRecord("stage_started", "stage-1", null);
+        channel.close();
+        channel.writeRecord("stage_started", "stage-2", null);
+        channel.close();
+
+        assertEquals(1, Files.readAllLines(streamPath, StandardCharsets.UTF_8).size());
+    }
+
+    private static ChangeResult changeResult(String changeId) {
+        return ChangeResult.builder()
+                .changeId(changeId)
+                .author("test-author")
+                .status(ChangeStatus.APPLIED)
+                .durationMs(20)
+                .targetSystemId("mongo")
+                .build();
+    }
+
+    private static ExecuteResponseData executeResponseData() {
+        StageResult stage = StageResult.builder()
+                .stageId("stage-1")
+                .stageName("stage-1")
+                .state(StageState.COMPLETED)
+                .durationMs(40)
+                .addChange(changeResult("change-1"))
+                .totalChanges(1)
+                .build();
+        return ExecuteResponseData.builder()
+                .status(ExecutionStatus.SUCCESS)
+                .totalStages(1)
+                .completedStages(1)
+                .totalChanges(1)
+                .appliedChanges(1)
+                .totalDurationMs(500)
+                .addStage(stage)
+                .build();
+    }
+}
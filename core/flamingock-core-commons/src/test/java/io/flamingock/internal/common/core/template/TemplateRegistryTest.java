@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.core.template;
+
+import io.flamingock.api.annotations.ApplyTemplate;
+import io.flamingock.api.annotations.ChangeTemplate;
+import io.flamingock.api.annotations.RollbackTemplate;
+import io.flamingock.api.template.AbstractChangeTemplate;
+import io.flamingock.api.template.wrappers.TemplateString;
+import io.flamingock.api.template.wrappers.TemplateVoid;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateRegistryTest {
+
+    private static final int THREADS = 32;
+
+    static volatile boolean lazyTemplateInitialized = false;
+
+    @ChangeTemplate(name = "lazy-template")
+    public static class LazyTemplate extends AbstractChangeTemplate<TemplateVoid, TemplateString, TemplateString> {
+        static {
+            lazyTemplateInitialized = true;
+        }
+
+        public LazyTemplate() {
+            super();
+        }
+
+        @ApplyTemplate
+        public void apply() {
+        }
+
+        @RollbackTemplate
+        public void rollback() {
+        }
+    }
+
+    @ChangeTemplate(name = "other-template")
+    public static class OtherTemplate extends AbstractChangeTemplate<TemplateVoid, TemplateString, TemplateString> {
+        public OtherTemplate() {
+            super();
+        }
+
+        @ApplyTemplate
+        public void apply() {
+        }
+
+        @RollbackTemplate
+        public void rollback() {
+        }
+    }
+
+    @ChangeTemplate(name = "other-template")
+    public static class OverridingTemplate extends AbstractChangeTemplate<TemplateVoid, TemplateString, TemplateString> {
+        public OverridingTemplate() {
+            super();
+        }
+
+        @ApplyTemplate
+        public void apply() {
+        }
+
+        @RollbackTemplate
+        public void rollback() {
+        }
+    }
+
+    public static class UnannotatedTemplate extends AbstractChangeTemplate<TemplateVoid, TemplateString, TemplateString> {
+        public UnannotatedTemplate() {
+            super();
+        }
+
+        @ApplyTemplate
+        public void apply() {
+        }
+    }
+
+    @Test
+    @DisplayName("scan should index provider classes without initializing them and resolve on first use")
+    void scanShouldIndexWithoutInitializing(@TempDir Path tempDir) throws Exception {
+        try (URLClassLoader loader = serviceFileLoader(tempDir, LazyTemplate.class.getName(), OtherTemplate.class.getName())) {
+            TemplateRegistry registry = new TemplateRegistry();
+
+            assertEquals(2, registry.scan(loader));
+            assertFalse(lazyTemplateInitialized);
+            assertEquals(0, registry.getResolvedCount());
+            assertEquals(new HashSet<>(Arrays.asList("lazy-template", "other-template")), registry.getTemplateIds());
+
+            ChangeTemplateDefinition definition = registry.getTemplateOrFail("lazy-template");
+            assertEquals(LazyTemplate.class, definition.getTemplateClass());
+            assertEquals(1, registry.getResolvedCount());
+            assertFalse(lazyTemplateInitialized);
+        }
+    }
+
+    @Test
+    @DisplayName("scan should ignore comments and blank lines in provider files")
+    void scanShouldIgnoreCommentsAndBlankLines(@TempDir Path tempDir) throws Exception {
+        try (URLClassLoader loader = serviceFileLoader(tempDir,
+                "# provided templates", "", OtherTemplate.class.getName() + "  # trailing comment")) {
+            TemplateRegistry registry = new TemplateRegistry();
+
+            assertEquals(1, registry.scan(loader));
+            assertTrue(registry.getTemplate("other-template").isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("scan should keep the last provider class declared for a duplicated id")
+    void scanShouldKeepLastProviderForDuplicatedId(@TempDir Path tempDir) throws Exception {
+        try (URLClassLoader loader = serviceFileLoader(tempDir, OtherTemplate.class.getName(), OverridingTemplate.class.getName())) {
+            TemplateRegistry registry = new TemplateRegistry();
+
+            assertEquals(2, registry.scan(loader));
+            assertEquals(new HashSet<>(Arrays.asList("other-template")), registry.getTemplateIds());
+            assertEquals(OverridingTemplate.class, registry.getTemplateOrFail("other-template").getTemplateClass());
+        }
+    }
+
+    @Test
+    @DisplayName("scan should fail fast on provider classes without @ChangeTemplate")
+    void scanShouldFailOnUnannotatedProvider(@TempDir Path tempDir) throws Exception {
+        try (URLClassLoader loader = serviceFileLoader(tempDir, UnannotatedTemplate.class.getName())) {
+            FlamingockException exception = assertThrows(FlamingockException.class,
+                    () -> new TemplateRegistry().scan(loader));
+
+            assertTrue(exception.getMessage().contains("missing required @ChangeTemplate annotation"));
+        }
+    }
+
+    @Test
+    @DisplayName("getTemplate for unknown or null name should return empty")
+    void getTemplateForUnknownNameShouldReturnEmpty() {
+        TemplateRegistry registry = new TemplateRegistry();
+
+        assertFalse(registry.getTemplate("unknown").isPresent());
+        assertFalse(registry.getTemplate(null).isPresent());
+        assertThrows(FlamingockException.class, () -> registry.getTemplateOrFail("unknown"));
+    }
+
+    @Test
+    @DisplayName("registries should be isolated from each other and from the shared one")
+    void registriesShouldBeIsolated() {
+        TemplateRegistry first = new TemplateRegistry();
+        TemplateRegistry second = new TemplateRegistry();
+
+        first.register(OtherTemplate.class);
+
+        assertTrue(first.getTemplate("other-template").isPresent());
+        assertFalse(second.getTemplate("other-template").isPresent());
+        assertFalse(ChangeTemplateManager.getTemplate("other-template").isPresent());
+    }
+
+    @Test
+    @DisplayName("concurrent first lookups should resolve the definition exactly once")
+    void concurrentFirstLookupsShouldResolveOnce(@TempDir Path tempDir) throws Exception {
+        try (URLClassLoader loader = serviceFileLoader(tempDir, OtherTemplate.class.getName())) {
+            TemplateRegistry registry = TemplateRegistry.fromClasspath(loader);
+
+            List<ChangeTemplateDefinition> results = runConcurrently(() -> registry.getTemplateOrFail("other-template"));
+
+            ChangeTemplateDefinition first = results.get(0);
+            results.forEach(definition -> assertSame(first, definition));
+            assertEquals(1, registry.getResolvedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent per-runner registries should not see each other's registrations")
+    void concurrentRegistriesShouldNotLeak() throws Exception {
+        List<TemplateRegistry> registries = runConcurrently(() -> {
+            TemplateRegistry registry = new TemplateRegistry();
+            registry.register(OtherTemplate.class);
+            registry.getTemplateOrFail("other-template");
+            return registry;
+        });
+
+        Set<ChangeTemplateDefinition> distinctDefinitions = new HashSet<>();
+        for (TemplateRegistry registry : registries) {
+            assertEquals(1, registry.getTemplateIds().size());
+            distinctDefinitions.add(registry.getTemplateOrFail("other-template"));
+        }
+        assertEquals(THREADS, distinctDefinitions.size());
+    }
+
+    private static <T> List<T> runConcurrently(java.util.concurrent.Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static URLClassLoader serviceFileLoader(Path root, String... lines) throws IOException {
+        Path servicesDir = Files.createDirectories(root.resolve("META-INF/services"));
+        Files.write(servicesDir.resolve(io.flamingock.api.template.ChangeTemplate.class.getName()),
+                Arrays.asList(lines), StandardCharsets.UTF_8);
+        // Parent-first delegation: the listed classes come from the test classpath, only the
+        // provider file is private to this loader.
+        return new URLClassLoader(new URL[]{root.toUri().toURL()}, TemplateRegistryTest.class.getClassLoader());
+    }
+}
@@ -1,6 +1,29 @@
 val jacksonVersion = "2.16.0"
+val jmhVersion = "1.37"
 val generalUtilVersion: String by extra
 
+// JMH benchmarks live in src/jmh/java; run them with ./gradlew :core:flamingock-core:jmh [-PjmhIncludes=<regex>]
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets["main"].output + sourceSets["main"].compileClasspath
+        runtimeClasspath += sourceSets["main"].output + sourceSets["main"].runtimeClasspath
+    }
+    // Flight Recorder events: the JDK 11+ classes of the multi-release jar, overriding main ones
+    create("java11") {
+        java.setSrcDirs(listOf("src/main/java11"))
+        compileClasspath += sourceSets["main"].output + sourceSets["main"].compileClasspath
+    }
+    // Tests of the Flight Recorder events, on JDK 17 for RecordingStream; java11 goes first so
+    // its classes win over main's, as in the multi-release jar
+    create("jfrTest") {
+        compileClasspath = sourceSets["java11"].output + sourceSets["main"].output + compileClasspath
+        runtimeClasspath = sourceSets["java11"].output + sourceSets["main"].output + runtimeClasspath
+    }
+}
+
+configurations["jfrTestImplementation"].extendsFrom(configurations["testImplementation"], configurations["implementation"])
+configurations["jfrTestRuntimeOnly"].extendsFrom(configurations["testRuntimeOnly"], configurations["runtimeOnly"])
+
 dependencies {
     api(project(":core:flamingock-core-commons"))
     api("io.flamingock:flamingock-general-util:${generalUtilVersion}")//todo implementation
@@ -17,6 +40,10 @@ dependencies {
 
 
     testImplementation(project(":utils:test-util"))
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhImplementation"(project(":utils:test-util"))
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 description = "Core engine and orchestration logic for executing versioned changes across distributed systems"
@@ -31,6 +58,45 @@ tasks.withType<JavaCompile>().configureEach {
     }
 }
 
+tasks.named<JavaCompile>("compileJava11Java") {
+    javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(11)) })
+    options.release.set(11)
+}
+
+tasks.named<JavaCompile>("compileJfrTestJava") {
+    javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+}
+
+tasks.jar {
+    into("META-INF/versions/11") {
+        from(sourceSets["java11"].output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
+}
+
+val jfrTest = tasks.register<Test>("jfrTest") {
+    group = "verification"
+    description = "Runs the Flight Recorder event tests on JDK 17"
+    testClassesDirs = sourceSets["jfrTest"].output.classesDirs
+    classpath = sourceSets["jfrTest"].runtimeClasspath
+    javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+    useJUnitPlatform()
+}
+
+tasks.named("check") {
+    dependsOn(jfrTest)
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks of this module"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(project.findProperty("jmhIncludes")?.toString() ?: ".*")
+}
+
 java {
     toolchain {
         languageVersion.set(JavaLanguageVersion.of(8))
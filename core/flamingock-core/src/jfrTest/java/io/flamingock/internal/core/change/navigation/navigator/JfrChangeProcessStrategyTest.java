@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.navigation.navigator;
+
+import io.flamingock.internal.common.core.change.ChangeDescriptor;
+import io.flamingock.internal.common.core.change.TargetSystemDescriptor;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.core.change.executable.ExecutableChange;
+import io.flamingock.internal.core.jfr.FlamingockJfr;
+import io.flamingock.internal.core.jfr.JfrEvents;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JfrChangeProcessStrategyTest {
+
+    @Test
+    @DisplayName("Should record the change execution with its stage, target system and status")
+    void shouldRecordChangeExecution() throws InterruptedException {
+        ExecutableChange change = mockChange("change-1", false);
+        ChangeProcessStrategy strategy = new JfrChangeProcessStrategy(() -> applied("change-1"), change);
+
+        List<RecordedEvent> events = JfrEvents.record(FlamingockJfr.CHANGE_EXECUTION, 1, strategy::applyChange);
+
+        RecordedEvent event = events.get(0);
+        assertEquals("change-1", event.getString("changeId"));
+        assertEquals("stage-1", event.getString("stageName"));
+        assertEquals("mongo", event.getString("targetSystemId"));
+        assertEquals(ChangeStatus.APPLIED.name(), event.getString("status"));
+        assertTrue(event.getBoolean("success"));
+    }
+
+    @Test
+    @DisplayName("Should not record already applied changes")
+    void shouldNotRecordAlreadyAppliedChanges() throws InterruptedException {
+        ChangeProcessStrategy alreadyApplied = new JfrChangeProcessStrategy(
+                () -> applied("change-1"), mockChange("change-1", true));
+        ChangeProcessStrategy pending = new JfrChangeProcessStrategy(
+                () -> applied("change-2"), mockChange("change-2", false));
+
+        List<RecordedEvent> events = JfrEvents.record(FlamingockJfr.CHANGE_EXECUTION, 1, () -> {
+            alreadyApplied.applyChange();
+            pending.applyChange();
+        });
+
+        assertEquals(1, events.size());
+        assertEquals("change-2", events.get(0).getString("changeId"));
+    }
+
+    private static ExecutableChange mockChange(String id, boolean alreadyApplied) {
+        ChangeDescriptor descriptor = mock(ChangeDescriptor.class);
+        when(descriptor.getTargetSystem()).thenReturn(TargetSystemDescriptor.fromId("mongo"));
+        ExecutableChange change = mock(ExecutableChange.class);
+        when(change.getId()).thenReturn(id);
+        when(change.getStageName()).thenReturn("stage-1");
+        when(change.isAlreadyApplied()).thenReturn(alreadyApplied);
+        when(change.getLoadedChange()).thenReturn(descriptor);
+        return change;
+    }
+
+    private static ChangeProcessResult applied(String changeId) {
+        return new ChangeProcessResult(changeId, ChangeResult.builder()
+                .changeId(changeId)
+                .status(ChangeStatus.APPLIED)
+                .build());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+import io.flamingock.api.RecoveryStrategy;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.audit.AuditWriter;
+import io.flamingock.internal.core.configuration.core.CoreConfigurable;
+import io.flamingock.internal.core.external.store.audit.community.CommunityAuditReader;
+import io.flamingock.internal.core.external.store.lock.Lock;
+import io.flamingock.internal.core.external.store.lock.LockAcquisition;
+import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.core.external.store.lock.community.CommunityLock;
+import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
+import io.flamingock.internal.core.pipeline.run.PipelineRun;
+import io.flamingock.internal.core.plan.community.CommunityExecutionPlanner;
+import io.flamingock.internal.core.runtime.proxy.LockGuardProxyFactory;
+import io.flamingock.internal.util.Result;
+import io.flamingock.internal.util.TimeService;
+import io.flamingock.internal.util.id.RunnerId;
+import jdk.jfr.Configuration;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FlamingockJfrTest {
+
+    private static final RunnerId OWNER = RunnerId.fromString("jfr-runner");
+
+    @Test
+    @DisplayName("Should use the JDK 11 variant and record nothing while the events are disabled")
+    void shouldRecordNothingWhileDisabled() {
+        assertTrue(FlamingockJfr.isAvailable());
+        assertSame(JfrRecording.NO_OP, FlamingockJfr.beginLockWait("key", "owner"));
+        assertSame(JfrRecording.NO_OP, FlamingockJfr.beginAuditRead());
+        assertSame(JfrRecording.NO_OP, FlamingockJfr.beginAuditWrite("change-1", null, "APPLIED"));
+        assertSame(JfrRecording.NO_OP, FlamingockJfr.beginChangeExecution("change-1", "stage-1", null));
+        assertSame(JfrRecording.NO_OP, FlamingockJfr.beginProxyCreation(Repository.class, SimpleRepository.class));
+    }
+
+    @Test
+    @DisplayName("Should record the lock wait with its attempts when the lock is held by another runner")
+    void shouldRecordLockWait() throws InterruptedException {
+        CommunityLockService lockService = mock(CommunityLockService.class);
+        when(lockService.upsert(any(), any(), anyLong()))
+                .thenThrow(new LockServiceException("upsert", "lock", "taken",
+                        new LockAcquisition(RunnerId.fromString("other-runner"), 1_000L)))
+                .thenReturn(new LockAcquisition(OWNER, 60_000L));
+
+        List<RecordedEvent> events = JfrEvents.record(FlamingockJfr.LOCK_WAIT, 1, () ->
+                CommunityLock.getLock(60_000L, 10_000L, 50L, OWNER, lockService, TimeService.getDefault(), false));
+
+        RecordedEvent event = events.get(0);
+        assertEquals("DEFAULT_KEY", event.getString("lockKey"));
+        assertEquals(OWNER.toString(), event.getString("owner"));
+        assertEquals(2, event.getInt("attempts"));
+        assertTrue(event.getBoolean("acquired"));
+        assertTrue(event.getDuration().toMillis() >= 50);
+        assertNull(event.getStackTrace());
+    }
+
+    @Test
+    @DisplayName("Should record the audit snapshot read with its entry count and estimated size")
+    void shouldRecordAuditRead() throws InterruptedException {
+        AuditEntry first = buildAuditEntry("change-1");
+        AuditEntry second = buildAuditEntry("change-2");
+        Map<String, AuditEntry> snapshot = new HashMap<>();
+        snapshot.put("change-1", first);
+        snapshot.put("change-2", second);
+        CommunityAuditReader auditReader = mock(CommunityAuditReader.class);
+        when(auditReader.getAuditSnapshotByChangeId()).thenReturn(snapshot);
+        CommunityExecutionPlanner planner = new CommunityExecutionPlanner(
+                OWNER, mock(CommunityLockService.class), auditReader, mock(CoreConfigurable.class));
+
+        List<RecordedEvent> events = JfrEvents.record(FlamingockJfr.AUDIT_READ, 1, () ->
+                planner.getNextExecution(PipelineRun.of(Collections.emptyList())));
+
+        RecordedEvent event = events.get(0);
+        assertEquals(2L, event.getLong("entryCount"));
+        assertEquals(AuditEntrySize.estimate(Arrays.asList(first, second)), event.getLong("bytes"));
+        assertTrue(event.getLong("bytes") > 2L * AuditEntrySize.FIXED_FIELDS_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should record audit writes, failed ones as unsuccessful")
+    void shouldRecordAuditWrite() throws InterruptedException {
+        AuditWriter writer = new JfrAuditWriter(entry -> "change-2".equals(entry.getChangeId())
+                ? new Result.Error(new RuntimeException("store down"))
+                : Result.OK());
+
+        List<RecordedEvent> events = JfrEvents.record(FlamingockJfr.AUDIT_WRITE, 2, () -> {
+            writer.writeEntry(buildAuditEntry("change-1"));
+            writer.writeEntry(buildAuditEntry("change-2"));
+        });
+
+        assertEquals("change-1", events.get(0).getString("changeId"));
+        assertEquals("mongo", events.get(0).getString("targetSystemId"));
+        assertEquals("APPLIED", events.get(0).getString("auditStatus"));
+        assertTrue(events.get(0).getBoolean("success"));
+        assertEquals("change-2", events.get(1).getString("changeId"));
+        assertFalse(events.get(1).getBoolean("success"));
+    }
+
+    @Test
+    @DisplayName("Should record the creation of lock guard proxies")
+    void shouldRecordProxyCreation() throws InterruptedException {
+        LockGuardProxyFactory proxyFactory = LockGuardProxyFactory.withLock(mock(Lock.class));
+
+        List<RecordedEvent> events = JfrEvents.record(FlamingockJfr.PROXY_CREATION, 1, () ->
+                proxyFactory.getProxy(new SimpleRepository(), Repository.class));
+
+        RecordedEvent event = events.get(0);
+        assertEquals(Repository.class.getName(), event.getClass("proxiedType").getName());
+        assertEquals(SimpleRepository.class.getName(), event.getClass("targetType").getName());
+        assertTrue(event.getBoolean("success"));
+    }
+
+    @Test
+    @DisplayName("Should ship a settings profile enabling every event without stack traces")
+    void shouldShipSettingsProfile() throws Exception {
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/META-INF/flamingock/flamingock.jfc"), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        }
+
+        Map<String, String> settings = configuration.getSettings();
+        for (String event : Arrays.asList(FlamingockJfr.LOCK_WAIT, FlamingockJfr.AUDIT_READ, FlamingockJfr.AUDIT_WRITE,
+                FlamingockJfr.CHANGE_EXECUTION, FlamingockJfr.PROXY_CREATION)) {
+            assertEquals("true", settings.get(event + "#enabled"), event);
+            assertEquals("false", settings.get(event + "#stackTrace"), event);
+            assertNotNull(settings.get(event + "#threshold"), event);
+        }
+    }
+
+    private static AuditEntry buildAuditEntry(String changeId) {
+        return new AuditEntry(
+                "exec-1",
+                "stage-1",
+                changeId,
+                "test-author",
+                LocalDateTime.now(),
+                AuditEntry.Status.APPLIED,
+                AuditEntry.ChangeType.STANDARD_CODE,
+                "io.flamingock.test.TestChange",
+                "apply",
+                null,
+                100L,
+                "localhost",
+                null,
+                false,
+                null,
+                AuditTxType.NON_TX,
+                "mongo",
+                null,
+                RecoveryStrategy.MANUAL_INTERVENTION,
+                null
+        );
+    }
+
+    public interface Repository {
+
+        void save(String id);
+    }
+
+    public static class SimpleRepository implements Repository {
+
+        @Override
+        public void save(String id) {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Streams the given Flamingock event, with no threshold, while running an action.
+ */
+public final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    public static List<RecordedEvent> record(String eventName, int expectedCount, Runnable action) throws InterruptedException {
+        List<RecordedEvent> events = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(expectedCount);
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(eventName).withThreshold(Duration.ZERO);
+            stream.onEvent(eventName, event -> {
+                synchronized (events) {
+                    events.add(event);
+                }
+                latch.countDown();
+            });
+            stream.startAsync();
+            action.run();
+            assertTrue(latch.await(10, TimeUnit.SECONDS), "Expected " + expectedCount + " " + eventName + " events");
+        }
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of handing out journal positions and event ids to 32 concurrent writers of one stream.
+ * <p>
+ * {@code reserveCostTokens} burns CPU inside every counter reservation to stand in for the database round trip
+ * of a real allocator; with one position per reservation ({@code blockSize=1}) that cost is paid per event, the
+ * way a writer seeding each append from the journal pays it today.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class JournalEventSequencerBenchmark {
+
+    private static final String STREAM = "stage-1";
+
+    @Param({"1", "64", "1024"})
+    int blockSize;
+
+    @Param({"0", "2000"})
+    long reserveCostTokens;
+
+    private AuditEntry entry;
+    private BlockReservingJournalEventSequencer blockSequencer;
+    private JournalEventSequencer contiguousSequencer;
+    private final Object streamLock = new Object();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entry = AuditEntryTestFactory.createTestAuditEntry("change-1", AuditEntry.Status.APPLIED, AuditTxType.NON_TX);
+        JournalSequenceAllocator allocator = new SlowAllocator(reserveCostTokens);
+        blockSequencer = new BlockReservingJournalEventSequencer(STREAM, allocator, blockSize);
+        contiguousSequencer = new JournalEventSequencer(STREAM, 1L);
+    }
+
+    @Benchmark
+    public JournalEvent<AuditEntry> blockReservingNewEvent() {
+        return blockSequencer.newEvent(entry);
+    }
+
+    /**
+     * Baseline: the contiguous sequencer is single-writer, so concurrent writers must serialize the whole
+     * hand-out and confirm on the stream.
+     */
+    @Benchmark
+    public JournalEvent<AuditEntry> contiguousNewEventUnderStreamLock() {
+        synchronized (streamLock) {
+            JournalEvent<AuditEntry> event = contiguousSequencer.newEvent(entry);
+            contiguousSequencer.confirm();
+            return event;
+        }
+    }
+
+    @Benchmark
+    public String randomUuidEventId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrderedEventId() {
+        return TimeOrderedIdGenerator.nextId();
+    }
+
+    private static final class SlowAllocator extends InMemoryJournalSequenceAllocator {
+        private final long costTokens;
+
+        private SlowAllocator(long costTokens) {
+            this.costTokens = costTokens;
+        }
+
+        @Override
+        public long reserve(String streamId, int blockSize) {
+            Blackhole.consumeCPU(costTokens);
+            return super.reserve(streamId, blockSize);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.batch;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Turns a {@code @Change} class into a batch change: instead of a single {@code @Apply} method
+ * running for the whole migration, the data is moved chunk by chunk through a
+ * {@link BatchReader}, an optional {@link BatchProcessor} and a {@link BatchWriter}.
+ *
+ * <p>Each chunk is committed on its own (in its own transaction when the change is transactional
+ * and the target system supports it). After every chunk, the reader position is checkpointed in
+ * the audit store and the lock is extended, so a long backfill neither holds one lease for hours
+ * nor starts over when it is interrupted: with {@code @Recovery(strategy = ALWAYS_RETRY)} the next
+ * execution resumes after the last committed chunk.
+ *
+ * <p>A chunk committed right before an interruption may be written again on resume, since its
+ * checkpoint may not have been persisted. Writers must therefore be idempotent (upserts, or
+ * updates guarded by a condition on the migrated state).
+ *
+ * <pre>
+ * &#64;Change(id = "backfill-customer-tier", author = "team", transactional = false)
+ * &#64;BatchChange(chunkSize = 500)
+ * &#64;Recovery(strategy = RecoveryStrategy.ALWAYS_RETRY)
+ * public class _0010__BackfillCustomerTier {
+ *
+ *     &#64;BatchReader
+ *     public Chunk&lt;Customer&gt; read(ChunkRequest request, CustomerRepository repository) {
+ *         List&lt;Customer&gt; customers = repository.findAfterId(request.getCursor().orElse(""), request.getChunkSize());
+ *         return customers.isEmpty()
+ *                 ? Chunk.empty()
+ *                 : Chunk.of(customers, customers.get(customers.size() - 1).getId());
+ *     }
+ *
+ *     &#64;BatchProcessor
+ *     public Customer process(Customer customer) {
+ *         return customer.hasTier() ? null : customer.withTier(Tier.STANDARD);
+ *     }
+ *
+ *     &#64;BatchWriter
+ *     public void write(List&lt;Customer&gt; customers, CustomerRepository repository) {
+ *         repository.saveAll(customers);
+ *     }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BatchChange {
+
+    int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * Maximum number of items read, processed and written per chunk. Must be positive.
+     */
+    int chunkSize() default DEFAULT_CHUNK_SIZE;
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Items returned by a {@link BatchReader}, together with the position to continue reading from.
+ *
+ * @param <T> the item type
+ */
+public final class Chunk<T> {
+
+    private static final Chunk<?> EMPTY = new Chunk<>(Collections.emptyList(), null);
+
+    private final List<T> items;
+
+    private final String nextCursor;
+
+    private Chunk(List<T> items, String nextCursor) {
+        this.items = items != null ? items : Collections.emptyList();
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * A chunk with more data after it. The next chunk is read from {@code nextCursor}, which is
+     * also what gets checkpointed once this chunk is committed.
+     */
+    public static <T> Chunk<T> of(List<T> items, String nextCursor) {
+        if (nextCursor == null) {
+            throw new IllegalArgumentException("nextCursor cannot be null; use Chunk.last() for the final chunk");
+        }
+        return new Chunk<>(items, nextCursor);
+    }
+
+    /**
+     * The final chunk: nothing is read after it.
+     */
+    public static <T> Chunk<T> last(List<T> items) {
+        return new Chunk<>(items, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Chunk<T> empty() {
+        return (Chunk<T>) EMPTY;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Optional<String> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * @return whether the reader should be called again after this chunk
+     */
+    public boolean hasMore() {
+        return !items.isEmpty() && nextCursor != null;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.batch;
+
+import java.util.Optional;
+
+/**
+ * What a {@link BatchReader} is asked to read: up to {@link #getChunkSize()} items after
+ * {@link #getCursor()}.
+ */
+public final class ChunkRequest {
+
+    private final String cursor;
+
+    private final int chunkSize;
+
+    public ChunkRequest(String cursor, int chunkSize) {
+        this.cursor = cursor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return the position returned with the previous chunk, or empty for the first one
+     */
+    public Optional<String> getCursor() {
+        return Optional.ofNullable(cursor);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkRequest{cursor='" + cursor + "', chunkSize=" + chunkSize + '}';
+    }
+}
@@ -33,10 +33,14 @@ import java.lang.reflect.Method;
  * <p>Arguments expected:
  * <ul>
  *   <li>--flamingock.cli.mode=true</li>
- *   <li>--flamingock.operation=EXECUTE|LIST|...</li>
+ *   <li>--flamingock.operation=EXECUTE_APPLY|AUDIT_LIST|AUDIT_FIX|AUDIT_COMPACT|...</li>
  *   <li>--flamingock.output-file=/path/to/response.json</li>
  *   <li>--flamingock.log.level=DEBUG|INFO|... (optional)</li>
  * </ul>
+ *
+ * <p>{@code AUDIT_COMPACT} also accepts {@code --flamingock.audit.keep-failures=N} (failures kept per change,
+ * default 3), {@code --flamingock.audit.archive-dir=/path} (archive removed rows as gzip NDJSON) and
+ * {@code --flamingock.audit.dry-run=true}.
  */
 public class FlamingockCliMainEntryPoint {
 
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.journal;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the journal events removed by compaction.
+ *
+ * @see JournalRetentionPolicy.Builder#setArchiveSink(JournalArchiveSink)
+ * @see NdjsonJournalArchiveSink
+ */
+public interface JournalArchiveSink {
+
+    /**
+     * Durably stores a batch of events of one stream, ordered by sequence. Compaction deletes the batch
+     * only after this method returns, so an implementation must not return before the events are safe.
+     * Throwing leaves the batch in the journal; it is offered again on the next compaction pass.
+     *
+     * @param streamId the stream the events belong to
+     * @param events   acknowledged events, in ascending sequence order; never empty
+     */
+    void archive(String streamId, List<JournalEvent<AuditEntry>> events) throws IOException;
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.journal;
+
+import java.time.Duration;
+
+/**
+ * How long acknowledged journal events are kept before the audit store compacts them away.
+ *
+ * <p>An event becomes eligible for removal when it is older than the maximum age or falls outside
+ * the newest {@code maxEventsPerStream} events of its stream, whichever comes first. Whatever the
+ * policy says, compaction never removes:
+ * <ul>
+ * <li>an event that has not been acknowledged yet, since it still has to be synchronized;</li>
+ * <li>the last event of each stream, which is where the stream's sequence resumes from on the next
+ * run.</li>
+ * </ul>
+ *
+ * <p>When an {@link JournalArchiveSink} is configured, every batch of pruned events is handed to it
+ * before being deleted, and a batch the sink fails to archive is not deleted.
+ *
+ * <pre>
+ * JournalRetentionPolicy policy = JournalRetentionPolicy.builder()
+ *         .setMaxAge(Duration.ofDays(30))
+ *         .setMaxEventsPerStream(10_000)
+ *         .setArchiveSink(new NdjsonJournalArchiveSink(Paths.get("/var/flamingock/journal-archive")))
+ *         .build();
+ *
+ * MongoDBSyncAuditStore.from(targetSystem)
+ *         .withJournalRetentionPolicy(policy);
+ * </pre>
+ *
+ * <p>Deletes are bounded: each compaction pass removes at most {@code maxBatchesPerRun} batches of
+ * {@code batchSize} events, and the next pass picks up where it left off.
+ */
+public final class JournalRetentionPolicy {
+
+    private final Duration maxAge;
+    private final Long maxEventsPerStream;
+    private final JournalArchiveSink archiveSink;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration compactionInterval;
+
+    private JournalRetentionPolicy(Builder builder) {
+        this.maxAge = builder.maxAge;
+        this.maxEventsPerStream = builder.maxEventsPerStream;
+        this.archiveSink = builder.archiveSink;
+        this.batchSize = builder.batchSize;
+        this.maxBatchesPerRun = builder.maxBatchesPerRun;
+        this.compactionInterval = builder.compactionInterval;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum age of an acknowledged event, or {@code null} when age is not limited
+     */
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * @return how many events each stream keeps, or {@code null} when the count is not limited
+     */
+    public Long getMaxEventsPerStream() {
+        return maxEventsPerStream;
+    }
+
+    /**
+     * @return where pruned events are archived before deletion, or {@code null} to delete them outright
+     */
+    public JournalArchiveSink getArchiveSink() {
+        return archiveSink;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public Duration getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    @Override
+    public String toString() {
+        return "JournalRetentionPolicy{" +
+                "maxAge=" + maxAge +
+                ", maxEventsPerStream=" + maxEventsPerStream +
+                ", archiveSink=" + (archiveSink != null ? archiveSink.getClass().getSimpleName() : null) +
+                ", batchSize=" + batchSize +
+                ", maxBatchesPerRun=" + maxBatchesPerRun +
+                ", compactionInterval=" + compactionInterval +
+                '}';
+    }
+
+    public static final class Builder {
+
+        private Duration maxAge;
+        private Long maxEventsPerStream;
+        private JournalArchiveSink archiveSink;
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 20;
+        private Duration compactionInterval = Duration.ofMinutes(10);
+
+        private Builder() {
+        }
+
+        /**
+         * Acknowledged events older than this are removed. Not limited by default.
+         */
+        public Builder setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+            return this;
+        }
+
+        /**
+         * Acknowledged events beyond the newest {@code maxEventsPerStream} of a stream are removed.
+         * Not limited by default.
+         */
+        public Builder setMaxEventsPerStream(long maxEventsPerStream) {
+            this.maxEventsPerStream = maxEventsPerStream;
+            return this;
+        }
+
+        /**
+         * Sink pruned events are archived to before being deleted. None by default.
+         */
+        public Builder setArchiveSink(JournalArchiveSink archiveSink) {
+            this.archiveSink = archiveSink;
+            return this;
+        }
+
+        /**
+         * Events read, archived and deleted per round trip. Defaults to 500.
+         */
+        public Builder setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Upper bound of batches deleted in a single compaction pass, across all streams. Defaults to 20.
+         */
+        public Builder setMaxBatchesPerRun(int maxBatchesPerRun) {
+            this.maxBatchesPerRun = maxBatchesPerRun;
+            return this;
+        }
+
+        /**
+         * Delay between two compaction passes of the background job. Defaults to 10 minutes.
+         */
+        public Builder setCompactionInterval(Duration compactionInterval) {
+            this.compactionInterval = compactionInterval;
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if neither a maximum age nor a maximum count is set, or a
+         *                                  value is out of range
+         */
+        public JournalRetentionPolicy build() {
+            if (maxAge == null && maxEventsPerStream == null) {
+                throw new IllegalArgumentException("A journal retention policy needs a max age, a max events per stream, or both");
+            }
+            if (maxAge != null && (maxAge.isNegative() || maxAge.isZero())) {
+                throw new IllegalArgumentException("maxAge must be positive: " + maxAge);
+            }
+            if (maxEventsPerStream != null && maxEventsPerStream < 1) {
+                throw new IllegalArgumentException("maxEventsPerStream must be at least 1: " + maxEventsPerStream);
+            }
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be at least 1: " + batchSize);
+            }
+            if (maxBatchesPerRun < 1) {
+                throw new IllegalArgumentException("maxBatchesPerRun must be at least 1: " + maxBatchesPerRun);
+            }
+            if (compactionInterval == null || compactionInterval.isNegative() || compactionInterval.isZero()) {
+                throw new IllegalArgumentException("compactionInterval must be positive: " + compactionInterval);
+            }
+            return new JournalRetentionPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.core.external.store.audit.AuditEntryJson;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archives pruned journal events as gzip-compressed NDJSON segment files, one JSON event per line.
+ *
+ * <p>Each archived batch becomes its own segment, named after the stream and the sequence range it
+ * covers, for instance {@code journal-stage_1-00000000000000000001-00000000000000000500.ndjson.gz}.
+ * A segment is written to a temporary file, flushed to disk and then moved into place, so a
+ * half-written segment is never visible under its final name. Archiving the same batch again (after
+ * a failed delete) replaces the segment with identical content.
+ */
+public class NdjsonJournalArchiveSink implements JournalArchiveSink {
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".ndjson.gz";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public NdjsonJournalArchiveSink(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void archive(String streamId, List<JournalEvent<AuditEntry>> events) throws IOException {
+        if (events.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path segment = directory.resolve(segmentName(
+                streamId,
+                events.get(0).getStreamSequence(),
+                events.get(events.size() - 1).getStreamSequence()));
+        Path tmp = Files.createTempFile(directory, SEGMENT_PREFIX, ".tmp");
+        try {
+            try (OutputStream fileOut = Files.newOutputStream(tmp);
+                 GZIPOutputStream gzipOut = new GZIPOutputStream(fileOut);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(gzipOut, StandardCharsets.UTF_8))) {
+                for (JournalEvent<AuditEntry> event : events) {
+                    writer.write(objectMapper.writeValueAsString(toJson(event)));
+                    writer.write('\n');
+                }
+            }
+            Files.move(tmp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    static String segmentName(String streamId, long firstSequence, long lastSequence) {
+        return String.format("%s%s-%020d-%020d%s",
+                SEGMENT_PREFIX, streamId.replaceAll("[^A-Za-z0-9._]", "_"), firstSequence, lastSequence, SEGMENT_SUFFIX);
+    }
+
+    private ObjectNode toJson(JournalEvent<AuditEntry> event) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("eventId", event.getEventId());
+        node.put("eventType", event.getEventType().name());
+        node.put("eventVersion", event.getEventVersion());
+        node.put("streamId", event.getStreamId());
+        node.put("streamSequence", event.getStreamSequence());
+        node.put("occurredAt", event.getOccurredAt().toString());
+        AuditEntry entry = event.getData();
+        if (entry != null) {
+            AuditEntryJson.write(node.putObject("data"), entry);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.throttle;
+
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter for data-migration changes that adapts to how the target system is coping.
+ *
+ * <p>It combines two mechanisms:
+ * <ul>
+ * <li>a token bucket: {@link #acquire(int)} blocks the change until it's allowed to perform
+ * that many operations at the current rate, with a small burst allowance;</li>
+ * <li>an AIMD controller (additive increase, multiplicative decrease): operation latencies are
+ * averaged over a window of samples and, when the average exceeds the target latency, the rate
+ * is multiplied by the decrease factor. Otherwise it grows by a fixed step, up to the maximum
+ * rate.</li>
+ * </ul>
+ *
+ * <p>Once registered as a dependency, the throttle is injectable into any change, and every
+ * lock-guarded call the change makes on an injected dependency (a driver, a repository...) is
+ * timed and fed to it automatically. Latencies can also be reported with
+ * {@link #recordLatency(long, TimeUnit)}, for instance when running as a native image, where
+ * dependencies are not proxied.
+ *
+ * <pre>
+ * MigrationThrottle throttle = MigrationThrottle.builder()
+ *         .setMaxRatePerSecond(2000)
+ *         .setTargetLatencyMillis(50)
+ *         .build();
+ *
+ * Flamingock.builder()
+ *         .addDependency(throttle)
+ *         ...
+ *
+ * &#64;Apply
+ * public void apply(MongoDatabase db, MigrationThrottle throttle) {
+ *     for (Document document : documents) {
+ *         throttle.acquire();
+ *         collection.updateOne(...);
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>A single instance is meant to be shared by every change of the runner, and is thread safe.
+ */
+public final class MigrationThrottle {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("Throttle");
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final long targetLatencyNanos;
+    private final int sampleWindow;
+    private final double burstSeconds;
+    private final Ticker ticker;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+
+    private int windowSamples;
+    private long windowLatencyNanos;
+    private long lastWindowLatencyNanos;
+
+    private long acquiredPermits;
+    private long throttledNanos;
+    private long latencySamples;
+    private long backoffCount;
+    private long increaseCount;
+
+    MigrationThrottle(Builder builder, Ticker ticker) {
+        this.minRate = builder.minRatePerSecond;
+        this.maxRate = builder.maxRatePerSecond;
+        this.increaseStep = builder.increaseStep != null ? builder.increaseStep : Math.max(1.0, maxRate / 20);
+        this.decreaseFactor = builder.decreaseFactor;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(builder.targetLatencyMillis);
+        this.sampleWindow = builder.sampleWindow;
+        this.burstSeconds = builder.burstSeconds;
+        this.ticker = ticker;
+        this.rate = builder.initialRatePerSecond != null ? builder.initialRatePerSecond : maxRate;
+        this.tokens = capacity();
+        this.lastRefillNanos = ticker.nanoTime();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Blocks until one operation is allowed.
+     *
+     * @throws FlamingockException if the thread is interrupted while waiting
+     */
+    public void acquire() {
+        acquire(1);
+    }
+
+    /**
+     * Blocks until the given number of operations are allowed, typically the size of the batch
+     * about to be written. Requests bigger than the burst allowance are accepted, and are paid
+     * by the callers that come next.
+     *
+     * @throws FlamingockException if the thread is interrupted while waiting
+     */
+    public void acquire(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            try {
+                ticker.sleepNanos(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlamingockException("Interrupted while waiting for the migration throttle", e);
+            }
+        }
+    }
+
+    /**
+     * Takes one permit if it's available right now.
+     *
+     * @return whether the operation is allowed
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        acquiredPermits++;
+        return true;
+    }
+
+    /**
+     * Reports the latency of one operation on the target system. When a window of samples is
+     * complete, the rate is adjusted.
+     */
+    public void recordLatency(long latency, TimeUnit unit) {
+        recordLatencyNanos(unit.toNanos(latency));
+    }
+
+    public synchronized void recordLatencyNanos(long latencyNanos) {
+        latencySamples++;
+        windowSamples++;
+        windowLatencyNanos += Math.max(0L, latencyNanos);
+        if (windowSamples >= sampleWindow) {
+            adjustRate(windowLatencyNanos / windowSamples);
+            windowSamples = 0;
+            windowLatencyNanos = 0L;
+        }
+    }
+
+    /**
+     * @return the operations per second currently allowed
+     */
+    public synchronized double getCurrentRate() {
+        return rate;
+    }
+
+    public synchronized ThrottleMetrics getMetrics() {
+        return new ThrottleMetrics(
+                rate,
+                acquiredPermits,
+                TimeUnit.NANOSECONDS.toMillis(throttledNanos),
+                latencySamples,
+                lastWindowLatencyNanos / 1_000_000.0,
+                TimeUnit.NANOSECONDS.toMillis(targetLatencyNanos),
+                backoffCount,
+                increaseCount);
+    }
+
+    private synchronized long reserve(int permits) {
+        refill();
+        acquiredPermits += permits;
+        tokens -= permits;
+        if (tokens >= 0) {
+            return 0L;
+        }
+        long waitNanos = (long) Math.ceil(-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+        throttledNanos += waitNanos;
+        return waitNanos;
+    }
+
+    private void adjustRate(long averageLatencyNanos) {
+        lastWindowLatencyNanos = averageLatencyNanos;
+        // Tokens accrued so far belong to the old rate
+        refill();
+        double previousRate = rate;
+        if (averageLatencyNanos > targetLatencyNanos) {
+            rate = Math.max(minRate, rate * decreaseFactor);
+            backoffCount++;
+            logger.info("Migration throttle backing off [latency={}ms target={}ms rate={}/s -> {}/s]",
+                    TimeUnit.NANOSECONDS.toMillis(averageLatencyNanos), TimeUnit.NANOSECONDS.toMillis(targetLatencyNanos),
+                    Math.round(previousRate), Math.round(rate));
+        } else if (rate < maxRate) {
+            rate = Math.min(maxRate, rate + increaseStep);
+            increaseCount++;
+            logger.debug("Migration throttle speeding up [latency={}ms rate={}/s -> {}/s]",
+                    TimeUnit.NANOSECONDS.toMillis(averageLatencyNanos), Math.round(previousRate), Math.round(rate));
+        }
+        tokens = Math.min(tokens, capacity());
+    }
+
+    private void refill() {
+        long now = ticker.nanoTime();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity(), tokens + elapsed * rate / TimeUnit.SECONDS.toNanos(1));
+            lastRefillNanos = now;
+        }
+    }
+
+    private double capacity() {
+        return Math.max(1.0, rate * burstSeconds);
+    }
+
+    /**
+     * Time source of the throttle, replaceable in tests.
+     */
+    interface Ticker {
+
+        Ticker SYSTEM = new Ticker() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void sleepNanos(long nanos) throws InterruptedException {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            }
+        };
+
+        long nanoTime();
+
+        void sleepNanos(long nanos) throws InterruptedException;
+    }
+
+    public static final class Builder {
+
+        private Double initialRatePerSecond;
+        private double minRatePerSecond = 1.0;
+        private double maxRatePerSecond = 1000.0;
+        private Double increaseStep;
+        private double decreaseFactor = 0.5;
+        private long targetLatencyMillis = 100L;
+        private int sampleWindow = 50;
+        private double burstSeconds = 0.1;
+
+        private Builder() {
+        }
+
+        /**
+         * Rate the throttle starts at. Defaults to the maximum rate.
+         */
+        public Builder setInitialRatePerSecond(double initialRatePerSecond) {
+            this.initialRatePerSecond = initialRatePerSecond;
+            return this;
+        }
+
+        /**
+         * Floor the rate never goes below, however slow the target system gets. Defaults to 1.
+         */
+        public Builder setMinRatePerSecond(double minRatePerSecond) {
+            this.minRatePerSecond = minRatePerSecond;
+            return this;
+        }
+
+        /**
+         * Ceiling the rate never goes above. Defaults to 1000.
+         */
+        public Builder setMaxRatePerSecond(double maxRatePerSecond) {
+            this.maxRatePerSecond = maxRatePerSecond;
+            return this;
+        }
+
+        /**
+         * Operations per second added after a window within the target latency. Defaults to 5%
+         * of the maximum rate.
+         */
+        public Builder setIncreaseStep(double increaseStep) {
+            this.increaseStep = increaseStep;
+            return this;
+        }
+
+        /**
+         * Factor the rate is multiplied by after a window over the target latency, between 0 and
+         * 1 exclusive. Defaults to 0.5.
+         */
+        public Builder setDecreaseFactor(double decreaseFactor) {
+            this.decreaseFactor = decreaseFactor;
+            return this;
+        }
+
+        /**
+         * Average operation latency above which the throttle backs off. Defaults to 100ms.
+         */
+        public Builder setTargetLatencyMillis(long targetLatencyMillis) {
+            this.targetLatencyMillis = targetLatencyMillis;
+            return this;
+        }
+
+        /**
+         * Number of latency samples averaged before each adjustment. Defaults to 50.
+         */
+        public Builder setSampleWindow(int sampleWindow) {
+            this.sampleWindow = sampleWindow;
+            return this;
+        }
+
+        /**
+         * Seconds worth of operations that can be performed at once after an idle period.
+         * Defaults to 0.1.
+         */
+        public Builder setBurstSeconds(double burstSeconds) {
+            this.burstSeconds = burstSeconds;
+            return this;
+        }
+
+        public MigrationThrottle build() {
+            return build(Ticker.SYSTEM);
+        }
+
+        MigrationThrottle build(Ticker ticker) {
+            if (minRatePerSecond <= 0) {
+                throw new IllegalArgumentException("minRatePerSecond must be positive: " + minRatePerSecond);
+            }
+            if (maxRatePerSecond < minRatePerSecond) {
+                throw new IllegalArgumentException(String.format(
+                        "maxRatePerSecond[%s] cannot be lower than minRatePerSecond[%s]", maxRatePerSecond, minRatePerSecond));
+            }
+            if (initialRatePerSecond != null
+                    && (initialRatePerSecond < minRatePerSecond || initialRatePerSecond > maxRatePerSecond)) {
+                throw new IllegalArgumentException(String.format(
+                        "initialRatePerSecond[%s] must be between minRatePerSecond[%s] and maxRatePerSecond[%s]",
+                        initialRatePerSecond, minRatePerSecond, maxRatePerSecond));
+            }
+            if (increaseStep != null && increaseStep <= 0) {
+                throw new IllegalArgumentException("increaseStep must be positive: " + increaseStep);
+            }
+            if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+                throw new IllegalArgumentException("decreaseFactor must be between 0 and 1 exclusive: " + decreaseFactor);
+            }
+            if (targetLatencyMillis <= 0) {
+                throw new IllegalArgumentException("targetLatencyMillis must be positive: " + targetLatencyMillis);
+            }
+            if (sampleWindow <= 0) {
+                throw new IllegalArgumentException("sampleWindow must be positive: " + sampleWindow);
+            }
+            if (burstSeconds <= 0) {
+                throw new IllegalArgumentException("burstSeconds must be positive: " + burstSeconds);
+            }
+            return new MigrationThrottle(this, ticker);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.throttle;
+
+/**
+ * Point-in-time snapshot of a {@link MigrationThrottle}.
+ */
+public final class ThrottleMetrics {
+
+    private final double currentRate;
+    private final long acquiredPermits;
+    private final long throttledMillis;
+    private final long latencySamples;
+    private final double lastWindowLatencyMillis;
+    private final long targetLatencyMillis;
+    private final long backoffCount;
+    private final long increaseCount;
+
+    ThrottleMetrics(double currentRate,
+                    long acquiredPermits,
+                    long throttledMillis,
+                    long latencySamples,
+                    double lastWindowLatencyMillis,
+                    long targetLatencyMillis,
+                    long backoffCount,
+                    long increaseCount) {
+        this.currentRate = currentRate;
+        this.acquiredPermits = acquiredPermits;
+        this.throttledMillis = throttledMillis;
+        this.latencySamples = latencySamples;
+        this.lastWindowLatencyMillis = lastWindowLatencyMillis;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.backoffCount = backoffCount;
+        this.increaseCount = increaseCount;
+    }
+
+    /**
+     * @return operations per second currently allowed
+     */
+    public double getCurrentRate() {
+        return currentRate;
+    }
+
+    /**
+     * @return permits handed out so far
+     */
+    public long getAcquiredPermits() {
+        return acquiredPermits;
+    }
+
+    /**
+     * @return total time callers have been made to wait
+     */
+    public long getThrottledMillis() {
+        return throttledMillis;
+    }
+
+    /**
+     * @return operation latencies observed so far
+     */
+    public long getLatencySamples() {
+        return latencySamples;
+    }
+
+    /**
+     * @return average latency of the last complete window of samples, 0 if none is complete yet
+     */
+    public double getLastWindowLatencyMillis() {
+        return lastWindowLatencyMillis;
+    }
+
+    public long getTargetLatencyMillis() {
+        return targetLatencyMillis;
+    }
+
+    /**
+     * @return how many times the rate was decreased because latency exceeded the target
+     */
+    public long getBackoffCount() {
+        return backoffCount;
+    }
+
+    /**
+     * @return how many times the rate was increased
+     */
+    public long getIncreaseCount() {
+        return increaseCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ThrottleMetrics{" +
+                "currentRate=" + currentRate +
+                ", acquiredPermits=" + acquiredPermits +
+                ", throttledMillis=" + throttledMillis +
+                ", latencySamples=" + latencySamples +
+                ", lastWindowLatencyMillis=" + lastWindowLatencyMillis +
+                ", targetLatencyMillis=" + targetLatencyMillis +
+                ", backoffCount=" + backoffCount +
+                ", increaseCount=" + increaseCount +
+                '}';
+    }
+}
@@ -20,6 +20,7 @@ import io.flamingock.internal.common.core.audit.AuditWriter;
 import io.flamingock.internal.common.core.context.Context;
 import io.flamingock.internal.common.core.context.ContextConfigurable;
 import io.flamingock.internal.common.core.context.Dependency;
+import io.flamingock.internal.core.configuration.core.AsyncEventsConfiguration;
 import io.flamingock.internal.core.configuration.core.CoreConfiguration;
 import io.flamingock.internal.core.configuration.core.CoreConfigurator;
 import io.flamingock.internal.core.context.PriorityContext;
@@ -152,6 +153,17 @@ public abstract class AbstractBuilder<AUDIT_STORE extends AuditStore<?>, HOLDER
         return coreConfiguration.isEnableDefaultExecutionReport();
     }
 
+    @Override
+    public HOLDER setAsyncEvents(AsyncEventsConfiguration asyncEvents) {
+        coreConfiguration.setAsyncEvents(asyncEvents);
+        return getSelf();
+    }
+
+    @Override
+    public AsyncEventsConfiguration getAsyncEvents() {
+        return coreConfiguration.getAsyncEvents();
+    }
+
     @Override
     public HOLDER setServiceIdentifier(String serviceIdentifier) {
         coreConfiguration.setServiceIdentifier(serviceIdentifier);
@@ -24,9 +24,13 @@ import io.flamingock.internal.common.core.context.ContextResolver;
 import io.flamingock.internal.common.core.context.Dependency;
 import io.flamingock.internal.common.core.error.FlamingockException;
 import io.flamingock.internal.common.core.metadata.FlamingockMetadata;
+import io.flamingock.internal.common.core.response.NdjsonResponseChannel;
+import io.flamingock.internal.common.core.response.ResponseChannel;
 import io.flamingock.internal.common.core.template.ChangeTemplateManager;
+import io.flamingock.internal.common.core.template.TemplateRegistry;
 import io.flamingock.internal.common.core.util.ConfigValueParser;
 import io.flamingock.internal.core.configuration.EventLifecycleConfigurator;
+import io.flamingock.internal.core.configuration.core.AsyncEventsConfiguration;
 import io.flamingock.internal.core.configuration.core.CoreConfiguration;
 import io.flamingock.internal.core.context.PriorityContext;
 import io.flamingock.internal.core.context.PriorityContextResolver;
@@ -35,11 +39,17 @@ import io.flamingock.internal.core.external.store.AuditStore;
 import io.flamingock.internal.common.core.audit.AuditPersistence;
 import io.flamingock.internal.core.operation.OperationResolver;
 import io.flamingock.internal.core.plan.ExecutionPlanner;
+import io.flamingock.internal.core.event.AsyncEventPublisher;
 import io.flamingock.internal.core.event.CompositeEventPublisher;
 import io.flamingock.internal.core.event.EventPublisher;
 import io.flamingock.internal.core.event.SimpleEventPublisher;
 import io.flamingock.internal.core.event.listener.DefaultPipelineCompletedReportListener;
 import io.flamingock.internal.core.event.listener.DefaultPipelineFailedReportListener;
+import io.flamingock.internal.core.event.listener.StreamingExecutionReporter;
+import io.flamingock.internal.core.event.model.IChangeCompletedEvent;
+import io.flamingock.internal.core.event.model.IChangeFailedEvent;
+import io.flamingock.internal.core.event.model.IChangeRolledBackEvent;
+import io.flamingock.internal.core.event.model.IChangeStartedEvent;
 import io.flamingock.internal.core.event.model.IPipelineCompletedEvent;
 import io.flamingock.internal.core.event.model.IPipelineFailedEvent;
 import io.flamingock.internal.core.event.model.IPipelineIgnoredEvent;
@@ -48,6 +58,11 @@ import io.flamingock.internal.core.event.model.IStageCompletedEvent;
 import io.flamingock.internal.core.event.model.IStageFailedEvent;
 import io.flamingock.internal.core.event.model.IStageIgnoredEvent;
 import io.flamingock.internal.core.event.model.IStageStartedEvent;
+import io.flamingock.internal.core.metrics.FlamingockMetrics;
+import io.flamingock.internal.core.metrics.MetricsExecutionPlanner;
+import io.flamingock.internal.core.tracing.FlamingockTracer;
+import io.flamingock.internal.core.tracing.Tracing;
+import io.flamingock.internal.core.tracing.TracingExecutionPlanner;
 import io.flamingock.internal.core.operation.RunnableOperation;
 import io.flamingock.internal.core.pipeline.loaded.LoadedPipeline;
 import io.flamingock.internal.core.plugin.Plugin;
@@ -82,6 +97,7 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.Period;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Currency;
 import java.util.List;
 import java.util.Locale;
@@ -103,6 +119,12 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
 
     private String[] applicationArgs;
 
+    private TemplateRegistry templateRegistry;
+
+    private FlamingockMetrics metrics = FlamingockMetrics.NO_OP;
+
+    private FlamingockTracer tracer = FlamingockTracer.NO_OP;
+
     private Consumer<IPipelineStartedEvent> pipelineStartedListener;
     private Consumer<IPipelineCompletedEvent> pipelineCompletedListener;
     private Consumer<IPipelineIgnoredEvent> pipelineIgnoredListener;
@@ -111,6 +133,10 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
     private Consumer<IStageCompletedEvent> stageCompletedListener;
     private Consumer<IStageIgnoredEvent> stageIgnoredListener;
     private Consumer<IStageFailedEvent> stageFailedListener;
+    private Consumer<IChangeStartedEvent> changeStartedListener;
+    private Consumer<IChangeCompletedEvent> changeCompletedListener;
+    private Consumer<IChangeFailedEvent> changeFailedListener;
+    private Consumer<IChangeRolledBackEvent> changeRolledBackListener;
 
 
     ///////////////////////////////////////////////////////////////////////////////////
@@ -139,6 +165,44 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
         return getSelf();
     }
 
+    /**
+     * Gives this runner its own template registry, e.g. {@link TemplateRegistry#fromClasspath()}.
+     * Useful when several runners live in the same JVM (tests, multi-tenant setups) and must not
+     * share template registrations. When not set, the shared registry behind
+     * {@link ChangeTemplateManager} is used.
+     */
+    public HOLDER setTemplateRegistry(TemplateRegistry templateRegistry) {
+        this.templateRegistry = templateRegistry;
+        return getSelf();
+    }
+
+    /**
+     * Records timings and counters of the planner, audit writes, lock operations, stages and
+     * changes, e.g. into Micrometer with the flamingock-micrometer module. No-op when not set.
+     */
+    public HOLDER setMetrics(FlamingockMetrics metrics) {
+        this.metrics = metrics != null ? metrics : FlamingockMetrics.NO_OP;
+        return getSelf();
+    }
+
+    protected FlamingockMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Wraps the pipeline, planner rounds, stages, changes, rollbacks, audit writes, lock operations
+     * and cloud requests in spans, e.g. OpenTelemetry ones with the flamingock-opentelemetry module.
+     * No-op when not set.
+     */
+    public HOLDER setTracer(FlamingockTracer tracer) {
+        this.tracer = tracer != null ? tracer : FlamingockTracer.NO_OP;
+        return getSelf();
+    }
+
+    protected Tracing getTracing() {
+        return tracer != FlamingockTracer.NO_OP ? new Tracing(tracer, auditStore.getId()) : Tracing.NO_OP;
+    }
+
     protected abstract void updateContextSpecific();
 
     protected abstract ExecutionPlanner buildExecutionPlanner(RunnerId runnerId);
@@ -204,7 +268,9 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
             return new DisabledRunner();
         }
 
-        ChangeTemplateManager.loadTemplates();
+        if (templateRegistry == null) {
+            ChangeTemplateManager.loadTemplates();
+        }
         pluginManager.initialize(context);
 
         validateAuditStore();
@@ -218,6 +284,8 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
         // structural issues (empty stages, duplicate change IDs, etc.).
 
         PriorityContext hierarchicalContext = buildContext(flamingockMetadata);
+        // Before the store is initialized, so the cloud transport can trace its requests
+        hierarchicalContext.addDependency(new Dependency(Tracing.class, getTracing()));
 
         configureStoreAndTargetSystem(hierarchicalContext);
 
@@ -227,6 +295,7 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
         // of Dependency's "dependency instance cannot be null", when a store supplies no factory.
         hierarchicalContext.addDependency(
                 new Dependency(AuditPersistenceFactory.class, auditStore.getPersistenceFactory()));
+        hierarchicalContext.addDependency(new Dependency(FlamingockMetrics.class, metrics));
 
         //Loads the pipeline
         //This contribution to the context is fine after components initialization as it's only used
@@ -237,25 +306,69 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
         pipeline.validate();
         pipeline.contributeToContext(hierarchicalContext);
 
+        ResponseChannel responseChannel = RunnerFactory.createResponseChannel(flamingockArgs);
+        EventPublisher eventPublisher = buildEventPublisher(responseChannel instanceof NdjsonResponseChannel);
+        Runnable finalizer = withEventDrain(eventPublisher, auditStore.getCloser());
+
         OperationResolver operationResolver = new OperationResolver(
                 runnerId,
                 flamingockArgs,
                 pipeline,
                 auditStore,
-                buildExecutionPlanner(runnerId),
+                instrument(buildExecutionPlanner(runnerId)),
                 targetSystemManager,
                 coreConfiguration,
-                buildEventPublisher(),
+                withStreamingReport(eventPublisher, responseChannel),
                 hierarchicalContext,
                 auditStore.getNonGuardedTypes(),
                 coreConfiguration.isThrowExceptionIfCannotObtainLock(),
-                auditStore.getCloser()
+                finalizer
         );
         RunnableOperation<?, ?> operation = operationResolver.getOperation();
 
-        return new RunnerFactory(runnerId, flamingockArgs, operation, auditStore.getCloser()).create();
+        return new RunnerFactory(runnerId, flamingockArgs, operation, finalizer, responseChannel).create();
     }
 
+    /**
+     * Async listeners are drained before the audit store is closed, so they have received every
+     * event by the time the runner returns.
+     */
+    private static Runnable withEventDrain(EventPublisher eventPublisher, Runnable closer) {
+        if (!(eventPublisher instanceof AsyncEventPublisher)) {
+            return closer;
+        }
+        AsyncEventPublisher asyncEventPublisher = (AsyncEventPublisher) eventPublisher;
+        return () -> {
+            try {
+                asyncEventPublisher.close();
+            } finally {
+                if (closer != null) {
+                    closer.run();
+                }
+            }
+        };
+    }
+
+    /**
+     * The streaming report is written synchronously, ahead of the other listeners, even when those
+     * are async: the CLI runner writes the result record before async listeners are drained, and it
+     * must remain the last record.
+     */
+    private static EventPublisher withStreamingReport(EventPublisher eventPublisher, ResponseChannel responseChannel) {
+        if (!(responseChannel instanceof NdjsonResponseChannel)) {
+            return eventPublisher;
+        }
+        StreamingExecutionReporter reporter = new StreamingExecutionReporter((NdjsonResponseChannel) responseChannel);
+        return new CompositeEventPublisher(Arrays.asList(reporter, eventPublisher));
+    }
+
+    private ExecutionPlanner instrument(ExecutionPlanner executionPlanner) {
+        ExecutionPlanner instrumented = metrics != FlamingockMetrics.NO_OP
+                ? new MetricsExecutionPlanner(executionPlanner, metrics)
+                : executionPlanner;
+        Tracing tracing = getTracing();
+        return tracing.isEnabled() ? new TracingExecutionPlanner(instrumented, tracing) : instrumented;
+    }
 
     private LoadedPipeline loadPipeline(FlamingockMetadata flamingockMetadata) {
         List<ChangeFilter> changeFiltersFromPlugins = pluginManager.getPlugins()
@@ -265,6 +378,7 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
                 .collect(Collectors.toList());
 
         return LoadedPipeline.builder()
+                .setTemplateRegistry(templateRegistry)
                 .addFilters(changeFiltersFromPlugins)
                 .addPreviewPipeline(flamingockMetadata.getPipeline())
                 .build();
@@ -318,19 +432,28 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
     }
 
     @NotNull
-    private EventPublisher buildEventPublisher() {
+    private EventPublisher buildEventPublisher(boolean streamingReport) {
+        boolean defaultExecutionReport = coreConfiguration.isEnableDefaultExecutionReport() && !streamingReport;
+        if (streamingReport && coreConfiguration.isEnableDefaultExecutionReport()) {
+            logger.debug("Default execution report disabled: the execution report is streamed to the output stream file");
+        }
 
         SimpleEventPublisher simpleEventPublisher = new SimpleEventPublisher()
                 //pipeline events
                 .addListener(IPipelineStartedEvent.class, getPipelineStartedListener())
-                .addListener(IPipelineCompletedEvent.class, composedPipelineCompletedListener())
+                .addListener(IPipelineCompletedEvent.class, composedPipelineCompletedListener(defaultExecutionReport))
                 .addListener(IPipelineIgnoredEvent.class, getPipelineIgnoredListener())
-                .addListener(IPipelineFailedEvent.class, composedPipelineFailedListener())
+                .addListener(IPipelineFailedEvent.class, composedPipelineFailedListener(defaultExecutionReport))
                 //stage events
                 .addListener(IStageStartedEvent.class, getStageStartedListener())
                 .addListener(IStageCompletedEvent.class, getStageCompletedListener())
                 .addListener(IStageIgnoredEvent.class, getStageIgnoredListener())
-                .addListener(IStageFailedEvent.class, getStageFailureListener());
+                .addListener(IStageFailedEvent.class, getStageFailureListener())
+                //change events
+                .addListener(IChangeStartedEvent.class, getChangeStartedListener())
+                .addListener(IChangeCompletedEvent.class, getChangeCompletedListener())
+                .addListener(IChangeFailedEvent.class, getChangeFailedListener())
+                .addListener(IChangeRolledBackEvent.class, getChangeRolledBackListener());
         //TODO this addition is not good, but it will be refactored, once all the builders merged
 
         List<EventPublisher> eventPublishersFromPlugins = pluginManager.getPlugins()
@@ -339,6 +462,16 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
                 .flatMap(CollectionUtil::optionalToStream)
                 .collect(Collectors.toList());
         eventPublishersFromPlugins.add(simpleEventPublisher);
+
+        AsyncEventsConfiguration asyncEvents = coreConfiguration.getAsyncEvents();
+        if (asyncEvents.isEnabled()) {
+            AsyncEventPublisher.Builder asyncBuilder = AsyncEventPublisher.builder()
+                    .setQueueCapacity(asyncEvents.getQueueCapacity())
+                    .setOverflowPolicy(asyncEvents.getOverflowPolicy())
+                    .setDrainTimeoutMillis(asyncEvents.getDrainTimeoutMillis());
+            eventPublishersFromPlugins.forEach(asyncBuilder::addListener);
+            return asyncBuilder.build();
+        }
         return new CompositeEventPublisher(eventPublishersFromPlugins);
     }
 
@@ -346,19 +479,22 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
      * Composes the default execution-report listener with the user-supplied listener when
      * {@code enableDefaultExecutionReport} is on. Order is deterministic: default fires first,
      * user fires after — so user code sees a stable log state when it runs.
+     * <p>
+     * The default report is left out while the execution is streamed as NDJSON: the stream already
+     * carries it, and rendering it whole at the end would cost memory in the number of changes.
      */
-    private Consumer<IPipelineCompletedEvent> composedPipelineCompletedListener() {
+    private Consumer<IPipelineCompletedEvent> composedPipelineCompletedListener(boolean defaultExecutionReport) {
         Consumer<IPipelineCompletedEvent> userListener = getPipelineCompletedListener();
-        if (!coreConfiguration.isEnableDefaultExecutionReport()) {
+        if (!defaultExecutionReport) {
             return userListener;
         }
         Consumer<IPipelineCompletedEvent> defaultListener = new DefaultPipelineCompletedReportListener();
         return userListener != null ? defaultListener.andThen(userListener) : defaultListener;
     }
 
-    private Consumer<IPipelineFailedEvent> composedPipelineFailedListener() {
+    private Consumer<IPipelineFailedEvent> composedPipelineFailedListener(boolean defaultExecutionReport) {
         Consumer<IPipelineFailedEvent> userListener = getPipelineFailureListener();
-        if (!coreConfiguration.isEnableDefaultExecutionReport()) {
+        if (!defaultExecutionReport) {
             return userListener;
         }
         Consumer<IPipelineFailedEvent> defaultListener = new DefaultPipelineFailedReportListener();
@@ -543,6 +679,30 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
         return getSelf();
     }
 
+    @Override
+    public HOLDER setChangeStartedListener(Consumer<IChangeStartedEvent> listener) {
+        this.changeStartedListener = listener;
+        return getSelf();
+    }
+
+    @Override
+    public HOLDER setChangeCompletedListener(Consumer<IChangeCompletedEvent> listener) {
+        this.changeCompletedListener = listener;
+        return getSelf();
+    }
+
+    @Override
+    public HOLDER setChangeFailedListener(Consumer<IChangeFailedEvent> listener) {
+        this.changeFailedListener = listener;
+        return getSelf();
+    }
+
+    @Override
+    public HOLDER setChangeRolledBackListener(Consumer<IChangeRolledBackEvent> listener) {
+        this.changeRolledBackListener = listener;
+        return getSelf();
+    }
+
     @Override
     public Consumer<IPipelineStartedEvent> getPipelineStartedListener() {
         return pipelineStartedListener;
@@ -583,6 +743,26 @@ public abstract class AbstractChangeRunnerBuilder<AUDIT_STORE extends AuditStore
         return stageFailedListener;
     }
 
+    @Override
+    public Consumer<IChangeStartedEvent> getChangeStartedListener() {
+        return changeStartedListener;
+    }
+
+    @Override
+    public Consumer<IChangeCompletedEvent> getChangeCompletedListener() {
+        return changeCompletedListener;
+    }
+
+    @Override
+    public Consumer<IChangeFailedEvent> getChangeFailedListener() {
+        return changeFailedListener;
+    }
+
+    @Override
+    public Consumer<IChangeRolledBackEvent> getChangeRolledBackListener() {
+        return changeRolledBackListener;
+    }
+
 
     @Override
     public HOLDER setProperty(Property property) {
@@ -19,6 +19,11 @@ import io.flamingock.internal.common.core.context.Context;
 import io.flamingock.internal.core.configuration.community.CommunityConfiguration;
 import io.flamingock.internal.core.configuration.community.CommunityConfigurator;
 import io.flamingock.internal.core.configuration.core.CoreConfiguration;
+import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
+import io.flamingock.internal.core.metrics.FlamingockMetrics;
+import io.flamingock.internal.core.metrics.MetricsCommunityLockService;
+import io.flamingock.internal.core.tracing.Tracing;
+import io.flamingock.internal.core.tracing.TracingCommunityLockService;
 import io.flamingock.internal.core.plan.ExecutionPlanner;
 import io.flamingock.internal.core.plan.community.CommunityExecutionPlanner;
 import io.flamingock.internal.core.plugin.PluginManager;
@@ -64,11 +69,20 @@ public class CommunityChangeRunnerBuilder
     @Override
     protected ExecutionPlanner buildExecutionPlanner(RunnerId runnerId) {
 
+        FlamingockMetrics metrics = getMetrics();
+        CommunityLockService lockService = metrics != FlamingockMetrics.NO_OP
+                ? new MetricsCommunityLockService(auditStore.getLockService(), metrics)
+                : auditStore.getLockService();
+        Tracing tracing = getTracing();
+        if (tracing.isEnabled()) {
+            lockService = new TracingCommunityLockService(lockService, tracing);
+        }
         return CommunityExecutionPlanner.builder()
                 .setRunnerId(runnerId)
                 .setAuditReader(auditStore.getAuditReader())
-                .setLockService(auditStore.getLockService())
+                .setLockService(lockService)
                 .setCoreConfigurable(coreConfiguration)
+                .setMetrics(metrics)
                 .build();
     }
 
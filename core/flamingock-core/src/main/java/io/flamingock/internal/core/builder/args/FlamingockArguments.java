@@ -32,31 +32,36 @@ public class FlamingockArguments {
     public static final String KEY_CLI_MODE = "flamingock.cli.mode";
     public static final String KEY_OPERATION = "flamingock.operation";
     public static final String KEY_OUTPUT_FILE = "flamingock.output-file";
+    public static final String KEY_OUTPUT_STREAM_FILE = "flamingock.output-stream-file";
 
     private final boolean cliMode;
     private final OperationType operation;
     private final String outputFile;
+    private final String outputStreamFile;
     private final Map<String, String> remainingArgs;
 
     private FlamingockArguments(boolean cliMode,
                                 OperationType operation,
                                 String outputFile,
+                                String outputStreamFile,
                                 Map<String, String> remainingArgs) {
         this.cliMode = cliMode;
         this.operation = operation;
         this.outputFile = outputFile;
+        this.outputStreamFile = outputStreamFile;
         this.remainingArgs = Collections.unmodifiableMap(remainingArgs);
     }
 
     public static FlamingockArguments parse(String[] args) {
         if (args == null || args.length == 0) {
-            return new FlamingockArguments(false, null, null, Collections.emptyMap());
+            return new FlamingockArguments(false, null, null, null, Collections.emptyMap());
         }
 
         boolean cliMode = false;
         OperationType operation = null;
         boolean operationProvided = false;
         String outputFile = null;
+        String outputStreamFile = null;
         Map<String, String> remaining = new HashMap<>();
 
         for (int i = 0; i < args.length; i++) {
@@ -93,6 +98,8 @@ public class FlamingockArguments {
                 operationProvided = true;
             } else if (KEY_OUTPUT_FILE.equals(key)) {
                 outputFile = requireValue(key, value);
+            } else if (KEY_OUTPUT_STREAM_FILE.equals(key)) {
+                outputStreamFile = requireValue(key, value);
             } else {
                 if (value != null) {
                     remaining.put(key, value);
@@ -103,7 +110,7 @@ public class FlamingockArguments {
         }
 
         OperationType effectiveOperation = operationProvided ? operation : null;
-        return new FlamingockArguments(cliMode, effectiveOperation, outputFile, remaining);
+        return new FlamingockArguments(cliMode, effectiveOperation, outputFile, outputStreamFile, remaining);
     }
 
     private static boolean parseBoolean(String key, String value) {
@@ -155,6 +162,14 @@ public class FlamingockArguments {
         return Optional.ofNullable(outputFile);
     }
 
+    /**
+     * @return file the execution progress is streamed to as newline-delimited JSON, besides the
+     * summary written to the output file
+     */
+    public Optional<String> getOutputStreamFile() {
+        return Optional.ofNullable(outputStreamFile);
+    }
+
     /**
      * Returns the remaining arguments map. Package-private for testing purposes.
      * Prefer using typed accessor methods (getStringOrThrow, getBooleanOr, etc.) instead.
@@ -195,6 +210,21 @@ public class FlamingockArguments {
         return "true".equalsIgnoreCase(value);
     }
 
+    /**
+     * Returns the int value for the given key, or the default if null or empty.
+     */
+    public int getIntOr(String key, int defaultValue) {
+        String value = remainingArgs.get(key);
+        if (isNullOrEmpty(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ArgumentException("Invalid number for '%s': %s", key, value);
+        }
+    }
+
     /**
      * Returns the LocalDateTime value for the given key, or the default if null or empty.
      */
@@ -15,12 +15,17 @@
  */
 package io.flamingock.internal.core.builder.runner;
 
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
 import io.flamingock.internal.core.operation.AbstractOperationResult;
 import io.flamingock.internal.core.operation.RunnableOperation;
+import io.flamingock.internal.core.operation.execute.ExecuteResult;
 import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
 import org.slf4j.Logger;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public class DefaultRunner implements Runner {
     private static final Logger logger = FlamingockLoggerFactory.getLogger("flamingock.runner");
 
@@ -39,9 +44,21 @@ public class DefaultRunner implements Runner {
 
     @Override
     public void run() {
+        runOperation();
+    }
+
+    @Override
+    public CompletableFuture<ExecuteResponseData> runAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            AbstractOperationResult result = runOperation();
+            return result instanceof ExecuteResult ? ((ExecuteResult) result).getData() : null;
+        }, executor);
+    }
+
+    private AbstractOperationResult runOperation() {
         try {
-            AbstractOperationResult result = operation.run();
             //todo process result. Maybe just printing result
+            return operation.run();
         } finally {
             finalizer.run();
         }
@@ -15,11 +15,42 @@
  */
 package io.flamingock.internal.core.builder.runner;
 
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface Runner extends Runnable {
+
+    /**
+     * Runs each asynchronous execution on its own, non-daemon, thread, so the JVM doesn't exit mid-change.
+     */
+    Executor DEFAULT_ASYNC_EXECUTOR = command -> new Thread(command, "flamingock-runner").start();
+
     void run();
 
     default void execute() {
         run();
     }
 
+    /**
+     * Same as {@link #runAsync(Executor)}, on a dedicated thread.
+     */
+    default CompletableFuture<ExecuteResponseData> runAsync() {
+        return runAsync(DEFAULT_ASYNC_EXECUTOR);
+    }
+
+    /**
+     * Runs on the given executor, without blocking the caller.
+     *
+     * @return future completed with the execution result, or exceptionally with the error {@link #run()}
+     * would have thrown. The result is null when the runner doesn't execute the pipeline
+     */
+    default CompletableFuture<ExecuteResponseData> runAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            run();
+            return null;
+        }, executor);
+    }
+
 }
@@ -16,6 +16,7 @@
 package io.flamingock.internal.core.builder.runner;
 
 import io.flamingock.internal.common.core.response.FileResponseChannel;
+import io.flamingock.internal.common.core.response.NdjsonResponseChannel;
 import io.flamingock.internal.common.core.response.NoOpResponseChannel;
 import io.flamingock.internal.common.core.response.ResponseChannel;
 import io.flamingock.internal.core.builder.args.FlamingockArguments;
@@ -32,15 +33,41 @@ public class RunnerFactory {
     private final FlamingockArguments flamingockArgs;
     private final RunnableOperation<?, ?> operation;
     private final Runnable finalizer;
+    private final ResponseChannel responseChannel;
 
+    /**
+     * @param responseChannel channel the CLI runner writes the result to, usually from
+     *                        {@link #createResponseChannel(FlamingockArguments)}
+     */
     public RunnerFactory(RunnerId runnerId,
                          FlamingockArguments flamingockArgs,
                          RunnableOperation<?, ?> operation,
-                         Runnable finalizer) {
+                         Runnable finalizer,
+                         ResponseChannel responseChannel) {
         this.runnerId = runnerId;
         this.flamingockArgs = flamingockArgs;
         this.operation = operation;
         this.finalizer = finalizer;
+        this.responseChannel = responseChannel;
+    }
+
+    /**
+     * Creates the channel for the result of a CLI run: the summary file of the output file
+     * argument, behind the newline-delimited JSON stream of the output stream file argument when
+     * given. It's created before the operation runs, so the stream can follow its progress.
+     *
+     * @return a no-op channel when not in CLI mode
+     */
+    public static ResponseChannel createResponseChannel(FlamingockArguments flamingockArgs) {
+        if (!flamingockArgs.isCliMode()) {
+            return new NoOpResponseChannel();
+        }
+        ResponseChannel summaryChannel = flamingockArgs.getOutputFile()
+                .map(outputFile -> (ResponseChannel) new FileResponseChannel(outputFile, JsonObjectMapper.DEFAULT_INSTANCE))
+                .orElseGet(NoOpResponseChannel::new);
+        return flamingockArgs.getOutputStreamFile()
+                .map(streamFile -> (ResponseChannel) new NdjsonResponseChannel(streamFile, summaryChannel, JsonObjectMapper.DEFAULT_INSTANCE))
+                .orElse(summaryChannel);
     }
 
     /**
@@ -56,11 +83,7 @@ public class RunnerFactory {
     }
 
     private Runner createCliRunner() {
-        ResponseChannel channel = flamingockArgs.getOutputFile()
-                .map(outputFile -> (ResponseChannel) new FileResponseChannel(outputFile, JsonObjectMapper.DEFAULT_INSTANCE))
-                .orElseGet(NoOpResponseChannel::new);
-
-        return new CliRunner(operation, finalizer, channel, flamingockArgs);
+        return new CliRunner(operation, finalizer, responseChannel, flamingockArgs);
     }
 
     private Runner createDefaultRunner() {
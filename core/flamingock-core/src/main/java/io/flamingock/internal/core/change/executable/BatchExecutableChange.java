@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.executable;
+
+import io.flamingock.core.batch.Chunk;
+import io.flamingock.core.batch.ChunkRequest;
+import io.flamingock.internal.common.core.audit.BatchCursor;
+import io.flamingock.internal.common.core.error.ChangeExecutionException;
+import io.flamingock.internal.common.core.recovery.action.ChangeAction;
+import io.flamingock.internal.core.change.loaded.BatchLoadedChange;
+import io.flamingock.internal.core.runtime.ExecutionRuntime;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Executable version of a {@link BatchLoadedChange}.
+ *
+ * <p>The change is applied one chunk at a time: {@link #applyChunk(ExecutionRuntime)} reads,
+ * processes and writes a chunk without moving the cursor, and {@link #commitChunk(ChunkResult)}
+ * moves it once the caller knows the chunk is durable (its transaction committed, for instance).
+ * Keeping both apart guarantees the cursor never gets ahead of the target system, which is what
+ * makes resuming from a checkpoint safe.
+ *
+ * <p>A new change instance is created, and the injected dependencies resolved, once per chunk, so
+ * transaction-scoped dependencies are always those of the current chunk. Processor dependencies
+ * are resolved once per chunk too, not once per item.
+ */
+public class BatchExecutableChange extends CodeExecutableChange<BatchLoadedChange> {
+
+    private final Method readerMethod;
+    private final Method processorMethod;
+    private final Method writerMethod;
+
+    private volatile BatchCursor cursor;
+
+    private volatile long committedChunks;
+
+    private volatile long committedItems;
+
+    public BatchExecutableChange(String stageName,
+                                 BatchLoadedChange loadedChange,
+                                 ChangeAction action,
+                                 Method rollbackMethod,
+                                 BatchCursor resumeCursor) {
+        super(stageName, loadedChange, action, loadedChange.getWriterMethod(), rollbackMethod);
+        this.readerMethod = loadedChange.getReaderMethod();
+        this.processorMethod = loadedChange.getProcessorMethod().orElse(null);
+        this.writerMethod = loadedChange.getWriterMethod();
+        this.cursor = resumeCursor;
+        this.committedChunks = resumeCursor != null ? resumeCursor.getCommittedChunks() : 0L;
+    }
+
+    public int getChunkSize() {
+        return loadedChange.getChunkSize();
+    }
+
+    @Override
+    public Optional<BatchCursor> getBatchCursor() {
+        return Optional.ofNullable(cursor);
+    }
+
+    /**
+     * @return chunks committed so far, including those of the execution being resumed
+     */
+    public long getCommittedChunks() {
+        return committedChunks;
+    }
+
+    /**
+     * @return items read by the chunks committed in this execution
+     */
+    public long getCommittedItems() {
+        return committedItems;
+    }
+
+    /**
+     * Applies every remaining chunk with the same runtime. The chunked strategy drives the chunks
+     * itself instead, committing and checkpointing each one; this is the fallback for callers
+     * that run the change as a whole.
+     */
+    @Override
+    public void apply(ExecutionRuntime executionRuntime) {
+        ChunkResult result;
+        do {
+            result = applyChunk(executionRuntime);
+            commitChunk(result);
+        } while (result.hasMore());
+    }
+
+    /**
+     * Reads the chunk after the current cursor, processes its items and writes them. The cursor
+     * is not moved; see {@link #commitChunk(ChunkResult)}.
+     */
+    public ChunkResult applyChunk(ExecutionRuntime executionRuntime) {
+        Object instance = executionRuntime.getInstance(loadedChange.getConstructor());
+        ChunkRequest request = new ChunkRequest(cursor != null ? cursor.getPosition() : null, getChunkSize());
+
+        Chunk<?> chunk = read(executionRuntime, instance, request);
+        List<?> items = chunk.getItems();
+        if (!items.isEmpty()) {
+            List<?> processed = processorMethod != null ? process(executionRuntime, instance, items) : items;
+            if (!processed.isEmpty()) {
+                write(executionRuntime, instance, processed);
+            }
+        }
+        return new ChunkResult(items.size(), chunk.getNextCursor().orElse(null), chunk.hasMore());
+    }
+
+    /**
+     * Moves the cursor past the given chunk. Must only be called once the chunk is durable in the
+     * target system.
+     */
+    public void commitChunk(ChunkResult result) {
+        if (result.getItemCount() == 0) {
+            return;
+        }
+        committedChunks++;
+        committedItems += result.getItemCount();
+        if (result.getNextCursor() != null) {
+            cursor = new BatchCursor(result.getNextCursor(), committedChunks);
+        }
+    }
+
+    private Chunk<?> read(ExecutionRuntime executionRuntime, Object instance, ChunkRequest request) {
+        Object[] arguments = executionRuntime.getInjectedParameters(readerMethod, 1);
+        arguments[0] = request;
+        Object chunk = invoke(executionRuntime, instance, readerMethod, arguments);
+        if (chunk == null) {
+            throw new ChangeExecutionException(getId(),
+                    String.format("Batch reader[%s] returned null for %s", readerMethod.getName(), request), null);
+        }
+        return (Chunk<?>) chunk;
+    }
+
+    private List<Object> process(ExecutionRuntime executionRuntime, Object instance, List<?> items) {
+        Object[] arguments = executionRuntime.getInjectedParameters(processorMethod, 1);
+        List<Object> processed = new ArrayList<>(items.size());
+        for (Object item : items) {
+            arguments[0] = item;
+            Object output = invoke(executionRuntime, instance, processorMethod, arguments);
+            if (output != null) {
+                processed.add(output);
+            }
+        }
+        return processed;
+    }
+
+    private void write(ExecutionRuntime executionRuntime, Object instance, List<?> items) {
+        Object[] arguments = executionRuntime.getInjectedParameters(writerMethod, 1);
+        arguments[0] = items;
+        invoke(executionRuntime, instance, writerMethod, arguments);
+    }
+
+    private Object invoke(ExecutionRuntime executionRuntime, Object instance, Method method, Object[] arguments) {
+        try {
+            return executionRuntime.executeMethodWithParameters(instance, method, arguments);
+        } catch (Throwable ex) {
+            throw new ChangeExecutionException(this.getId(), ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Outcome of a chunk applied to the target system.
+     */
+    public static final class ChunkResult {
+
+        private final int itemCount;
+        private final String nextCursor;
+        private final boolean hasMore;
+
+        ChunkResult(int itemCount, String nextCursor, boolean hasMore) {
+            this.itemCount = itemCount;
+            this.nextCursor = nextCursor;
+            this.hasMore = hasMore;
+        }
+
+        /**
+         * @return items read in the chunk, whether the processor kept them or not
+         */
+        public int getItemCount() {
+            return itemCount;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public boolean hasMore() {
+            return hasMore;
+        }
+    }
+}
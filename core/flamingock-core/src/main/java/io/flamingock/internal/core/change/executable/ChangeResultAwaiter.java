@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.executable;
+
+/**
+ * Waits for the value returned by a code change method, for changes whose work is not done when
+ * the method returns (e.g. a reactive {@code Publisher<Void>}). Registered as a dependency; when
+ * absent, return values are ignored as usual. An exception thrown here fails the change like one
+ * thrown by the method itself.
+ */
+public interface ChangeResultAwaiter {
+
+    /**
+     * @return whether this awaiter knows how to wait for the given, non-null, value
+     */
+    boolean supports(Object result);
+
+    /**
+     * Blocks until the work represented by the value has finished, on the calling thread.
+     */
+    void await(Object result);
+}
@@ -68,7 +68,12 @@ public class CodeExecutableChange<LOADED_CHANGE extends AbstractReflectionLoaded
     protected void executeInternal(ExecutionRuntime executionRuntime, Method method ) {
         Object instance = executionRuntime.getInstance(loadedChange.getConstructor());
         try {
-            executionRuntime.executeMethodWithInjectedDependencies(instance, method);
+            Object result = executionRuntime.executeMethodWithInjectedDependencies(instance, method);
+            if (result != null) {
+                executionRuntime.getContext().getDependencyValue(ChangeResultAwaiter.class)
+                        .filter(awaiter -> awaiter.supports(result))
+                        .ifPresent(awaiter -> awaiter.await(result));
+            }
         } catch (Throwable ex) {
             throw new ChangeExecutionException(this.getId(), ex.getMessage(), ex);
         }
@@ -15,10 +15,14 @@
  */
 package io.flamingock.internal.core.change.executable;
 
+import io.flamingock.internal.common.core.audit.BatchCursor;
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.common.core.change.ChangeDescriptor;
 import io.flamingock.internal.core.runtime.ExecutionRuntime;
 import io.flamingock.internal.common.core.recovery.action.ChangeAction;
 
+import java.util.Optional;
+
 public interface ExecutableChange extends ChangeDescriptor {
 
     boolean isTransactional();
@@ -48,4 +52,29 @@ public interface ExecutableChange extends ChangeDescriptor {
 
     ChangeAction getAction();
 
+    /**
+     * Index of the last step committed to the target system, including the steps committed by
+     * a previous execution this one resumes. Only multi-step template changes have steps; every
+     * other change answers {@link StepCursor#NONE}.
+     */
+    default int getStepCursor() {
+        return StepCursor.NONE;
+    }
+
+    /**
+     * Registers the listener notified each time a step is committed, so the strategy running
+     * the change can persist the cursor. Ignored by changes without steps.
+     */
+    default void setStepCheckpointListener(StepCheckpointListener listener) {
+    }
+
+    /**
+     * Position after the last chunk committed to the target system, including the chunks
+     * committed by a previous execution this one resumes. Only batch changes have chunks; every
+     * other change answers empty, as does a batch change that hasn't committed any yet.
+     */
+    default Optional<BatchCursor> getBatchCursor() {
+        return Optional.empty();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.executable;
+
+/**
+ * Callback invoked by multi-step changes right after each step completes, while the change is
+ * still running. Implementations persist the step cursor so an interrupted execution can resume
+ * from the next step. An exception thrown here fails the change like a failing step would.
+ */
+@FunctionalInterface
+public interface StepCheckpointListener {
+
+    /**
+     * @param change    the change being applied
+     * @param stepIndex index of the step just committed
+     */
+    void onStepCommitted(ExecutableChange change, int stepIndex);
+}
@@ -20,6 +20,7 @@ import io.flamingock.api.template.TemplateField;
 import io.flamingock.api.template.TemplatePayload;
 import io.flamingock.api.template.TemplateStep;
 import io.flamingock.internal.core.runtime.ExecutionRuntime;
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.common.core.error.ChangeExecutionException;
 import io.flamingock.internal.common.core.recovery.action.ChangeAction;
 import io.flamingock.internal.core.change.loaded.MultiStepTemplateLoadedChange;
@@ -32,6 +33,12 @@ import java.util.List;
  * Executable change for steppable templates (multiple steps).
  * Handles templates annotated with {@code @ChangeTemplate(steppable = true)}.
  *
+ * <p>Steps run in order and the change keeps a cursor on the last committed one. After each
+ * step the registered {@link StepCheckpointListener} is notified, which lets the strategy
+ * persist the cursor; a change built with a cursor from a previous execution resumes right
+ * after it. Rollback walks the committed steps backwards, so a step whose apply failed is
+ * never rolled back.
+ *
  * @param <CONFIG>   the configuration type for the template
  * @param <APPLY>    the apply payload type
  * @param <ROLLBACK> the rollback payload type
@@ -41,14 +48,40 @@ public class SteppableTemplateExecutableChange<CONFIG extends TemplateField, APP
         extends AbstractTemplateExecutableChange<CONFIG, APPLY, ROLLBACK,
                 MultiStepTemplateLoadedChange<CONFIG, APPLY, ROLLBACK>> {
 
-    private int stepIndex = -1;
+    private int stepCursor;
+
+    private StepCheckpointListener checkpointListener;
 
     public SteppableTemplateExecutableChange(String stageName,
                                            MultiStepTemplateLoadedChange<CONFIG, APPLY, ROLLBACK> loadedChange,
                                            ChangeAction action,
                                            Method executionMethod,
                                            Method rollbackMethod) {
+        this(stageName, loadedChange, action, executionMethod, rollbackMethod, StepCursor.NONE);
+    }
+
+    /**
+     * @param stepCursor index of the last step committed by a previous execution, or
+     *                   {@link StepCursor#NONE} to start from the first step
+     */
+    public SteppableTemplateExecutableChange(String stageName,
+                                           MultiStepTemplateLoadedChange<CONFIG, APPLY, ROLLBACK> loadedChange,
+                                           ChangeAction action,
+                                           Method executionMethod,
+                                           Method rollbackMethod,
+                                           int stepCursor) {
         super(stageName, loadedChange, action, executionMethod, rollbackMethod);
+        this.stepCursor = Math.max(stepCursor, StepCursor.NONE);
+    }
+
+    @Override
+    public int getStepCursor() {
+        return stepCursor;
+    }
+
+    @Override
+    public void setStepCheckpointListener(StepCheckpointListener checkpointListener) {
+        this.checkpointListener = checkpointListener;
     }
 
     @Override
@@ -57,11 +90,20 @@ public class SteppableTemplateExecutableChange<CONFIG extends TemplateField, APP
 
         try {
             List<TemplateStep<APPLY, ROLLBACK>> steps = loadedChange.getSteps();
-            while (stepIndex >= -1 && stepIndex + 1 < steps.size()) {
-                TemplateStep<APPLY, ROLLBACK> currentSep = steps.get(stepIndex + 1);
-                instance.setApplyPayload(currentSep.getApplyPayload());
-                stepIndex++;
+            if (stepCursor >= steps.size()) {
+                logger.warn("Change[{}] resumes after step {}, but it only declares {} steps. Nothing left to apply",
+                        getId(), stepCursor, steps.size());
+            } else if (stepCursor > StepCursor.NONE) {
+                logger.info("Change[{}] resuming at step {} of {}", getId(), stepCursor + 1, steps.size());
+            }
+            while (stepCursor + 1 < steps.size()) {
+                int nextStep = stepCursor + 1;
+                instance.setApplyPayload(steps.get(nextStep).getApplyPayload());
                 executionRuntime.executeMethodWithInjectedDependencies(instance, executionMethod);
+                stepCursor = nextStep;
+                if (checkpointListener != null) {
+                    checkpointListener.onStepCommitted(this, stepCursor);
+                }
             }
         } catch (Throwable ex) {
             throw new ChangeExecutionException(this.getId(), ex.getMessage(), ex);
@@ -74,7 +116,8 @@ public class SteppableTemplateExecutableChange<CONFIG extends TemplateField, APP
 
         try {
             List<TemplateStep<APPLY, ROLLBACK>> steps = loadedChange.getSteps();
-            while (stepIndex >= 0 && stepIndex < steps.size()) {
+            int stepIndex = Math.min(stepCursor, steps.size() - 1);
+            while (stepIndex >= 0) {
                 TemplateStep<APPLY, ROLLBACK> currentSep = steps.get(stepIndex);
                 if(currentSep.hasRollbackPayload() && rollbackMethod != null) {
                     instance.setRollbackPayload(currentSep.getRollbackPayload());
@@ -84,6 +127,7 @@ public class SteppableTemplateExecutableChange<CONFIG extends TemplateField, APP
                             getId(), stepIndex, currentSep.hasRollbackPayload(), rollbackMethod != null);
                 }
                 stepIndex--;
+                stepCursor = stepIndex;
             }
         } catch (Throwable ex) {
             throw new ChangeExecutionException(this.getId(), ex.getMessage(), ex);
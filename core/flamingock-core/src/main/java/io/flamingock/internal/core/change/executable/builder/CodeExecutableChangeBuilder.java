@@ -15,13 +15,18 @@
  */
 package io.flamingock.internal.core.change.executable.builder;
 
+import io.flamingock.internal.common.core.audit.BatchCursor;
 import io.flamingock.internal.common.core.recovery.action.ChangeAction;
+import io.flamingock.internal.core.change.executable.BatchExecutableChange;
 import io.flamingock.internal.core.change.executable.CodeExecutableChange;
 import io.flamingock.internal.core.change.executable.ExecutableChange;
 import io.flamingock.internal.core.change.executable.ReflectionExecutableChange;
 import io.flamingock.internal.core.change.loaded.AbstractLoadedChange;
 import io.flamingock.internal.core.change.loaded.AbstractReflectionLoadedChange;
+import io.flamingock.internal.core.change.loaded.BatchLoadedChange;
 import io.flamingock.internal.core.change.loaded.CodeLoadedChange;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
 
 import java.lang.reflect.Method;
 import java.util.Optional;
@@ -31,11 +36,13 @@ import java.util.Optional;
  * Factory for Change classes
  */
 public class CodeExecutableChangeBuilder implements ExecutableChangeBuilder<CodeLoadedChange> {
+    private final static Logger logger = FlamingockLoggerFactory.getLogger("CodeBuilder");
     private static final CodeExecutableChangeBuilder instance = new CodeExecutableChangeBuilder();
 
     private String stageName;
     private ChangeAction changeAction;
     private CodeLoadedChange loadedChange;
+    private BatchCursor batchCursor;
 
     static CodeExecutableChangeBuilder getInstance() {
         return instance;
@@ -69,8 +76,17 @@ public class CodeExecutableChangeBuilder implements ExecutableChangeBuilder<Code
         return this;
     }
 
+    @Override
+    public CodeExecutableChangeBuilder setBatchCursor(BatchCursor batchCursor) {
+        this.batchCursor = batchCursor;
+        return this;
+    }
+
     @Override
     public ExecutableChange build() {
+        if (loadedChange instanceof BatchLoadedChange) {
+            return buildBatchChange((BatchLoadedChange) loadedChange);
+        }
         return getChangesFromReflection(stageName, loadedChange, changeAction);
     }
 
@@ -83,6 +99,19 @@ public class CodeExecutableChangeBuilder implements ExecutableChangeBuilder<Code
         return buildChangesInternal(stageName, loadedChange, action);
     }
 
+    private BatchExecutableChange buildBatchChange(BatchLoadedChange loadedChange) {
+        if (batchCursor != null) {
+            logger.info("Change[{}] resumes after chunk {}, committed by a previous execution",
+                    loadedChange.getId(), batchCursor.getCommittedChunks());
+        }
+        return new BatchExecutableChange(
+                stageName,
+                loadedChange,
+                changeAction,
+                loadedChange.getRollbackMethod().orElse(null),
+                batchCursor);
+    }
+
     private ReflectionExecutableChange<AbstractReflectionLoadedChange> buildChangesInternal(String stageName,
                                                                                           CodeLoadedChange loadedChange,
                                                                                           ChangeAction action) {
@@ -15,6 +15,8 @@
  */
 package io.flamingock.internal.core.change.executable.builder;
 
+import io.flamingock.internal.common.core.audit.BatchCursor;
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.common.core.recovery.action.ChangeAction;
 import io.flamingock.internal.core.change.executable.ExecutableChange;
 import io.flamingock.internal.core.change.loaded.AbstractLoadedChange;
@@ -32,9 +34,36 @@ public interface ExecutableChangeBuilder<LOADED_CHANGE extends AbstractLoadedCha
      * @return executable change
      */
     static ExecutableChange build(AbstractLoadedChange loadedChange, String stageName, ChangeAction action) {
+        return build(loadedChange, stageName, action, StepCursor.NONE);
+    }
+
+    /**
+     * Builds the executable change, resuming multi-step changes after the given step.
+     *
+     * @param stepCursor index of the last step already committed by a previous execution, or
+     *                   {@link StepCursor#NONE} to start from the first step
+     */
+    static ExecutableChange build(AbstractLoadedChange loadedChange, String stageName, ChangeAction action, int stepCursor) {
+        return build(loadedChange, stageName, action, stepCursor, null);
+    }
+
+    /**
+     * Builds the executable change, resuming multi-step changes after the given step and batch
+     * changes after the given chunk.
+     *
+     * @param batchCursor position after the last chunk already committed by a previous execution,
+     *                    or {@code null} to read from the beginning
+     */
+    static ExecutableChange build(AbstractLoadedChange loadedChange,
+                                  String stageName,
+                                  ChangeAction action,
+                                  int stepCursor,
+                                  BatchCursor batchCursor) {
         return getInstance(loadedChange)
                 .setStageName(stageName)
                 .setChangeAction(action)
+                .setStepCursor(stepCursor)
+                .setBatchCursor(batchCursor)
                 .build();
     }
 
@@ -73,5 +102,27 @@ public interface ExecutableChangeBuilder<LOADED_CHANGE extends AbstractLoadedCha
      */
     ExecutableChangeBuilder<?> setChangeAction(ChangeAction action);
 
+    /**
+     * Sets the index of the last step already committed. Only meaningful for multi-step
+     * changes; other builders ignore it.
+     *
+     * @param stepCursor the step cursor, or {@link StepCursor#NONE}
+     * @return this builder instance for method chaining
+     */
+    default ExecutableChangeBuilder<?> setStepCursor(int stepCursor) {
+        return this;
+    }
+
+    /**
+     * Sets the position after the last chunk already committed. Only meaningful for batch
+     * changes; other builders ignore it.
+     *
+     * @param batchCursor the batch cursor, or {@code null}
+     * @return this builder instance for method chaining
+     */
+    default ExecutableChangeBuilder<?> setBatchCursor(BatchCursor batchCursor) {
+        return this;
+    }
+
     ExecutableChange build();
 }
@@ -15,6 +15,7 @@
  */
 package io.flamingock.internal.core.change.executable.builder;
 
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.common.core.recovery.action.ChangeAction;
 import io.flamingock.internal.core.change.executable.ExecutableChange;
 import io.flamingock.internal.core.change.executable.SimpleTemplateExecutableChange;
@@ -39,6 +40,7 @@ public class TemplateExecutableChangeBuilder implements ExecutableChangeBuilder<
     private String stageName;
     private ChangeAction changeAction;
     private AbstractTemplateLoadedChange<?, ?, ?> loadedChange;
+    private int stepCursor = StepCursor.NONE;
 
     static TemplateExecutableChangeBuilder getInstance() {
         return instance;
@@ -72,6 +74,13 @@ public class TemplateExecutableChangeBuilder implements ExecutableChangeBuilder<
     }
 
 
+    @Override
+    public TemplateExecutableChangeBuilder setStepCursor(int stepCursor) {
+        this.stepCursor = stepCursor;
+        return this;
+    }
+
+
     @Override
     public ExecutableChange build() {
         Method rollbackMethod = loadedChange.getRollbackMethod().orElse(null);
@@ -109,12 +118,16 @@ public class TemplateExecutableChangeBuilder implements ExecutableChangeBuilder<
             if (rollbackMethod != null) {
                 logger.trace("Change[{}] is a steppable template with rollback method", loadedChange.getId());
             }
+            if (stepCursor > StepCursor.NONE) {
+                logger.info("Change[{}] resumes after step {}, committed by a previous execution", loadedChange.getId(), stepCursor);
+            }
             return new SteppableTemplateExecutableChange<>(
                     stageName,
                     steppable,
                     changeAction,
                     loadedChange.getApplyMethod(),
-                    rollbackMethod
+                    rollbackMethod,
+                    stepCursor
             );
         }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.loaded;
+
+import io.flamingock.core.batch.BatchChange;
+import io.flamingock.core.batch.BatchProcessor;
+import io.flamingock.core.batch.BatchReader;
+import io.flamingock.core.batch.BatchWriter;
+import io.flamingock.core.batch.Chunk;
+import io.flamingock.core.batch.ChunkRequest;
+import io.flamingock.internal.common.core.change.RecoveryDescriptor;
+import io.flamingock.internal.common.core.change.TargetSystemDescriptor;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.util.ReflectionUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Code change annotated with {@link BatchChange}: it is applied chunk by chunk through its
+ * {@link BatchReader}, {@link BatchProcessor} and {@link BatchWriter} methods instead of a single
+ * {@code @Apply} method.
+ *
+ * <p>The writer doubles as the apply method, so the change is reported and audited under its
+ * name and everything handling code changes generically keeps working.
+ */
+public class BatchLoadedChange extends CodeLoadedChange {
+
+    private final Method readerMethod;
+    private final Optional<Method> processorMethod;
+    private final Method writerMethod;
+    private final int chunkSize;
+
+    BatchLoadedChange(String id,
+                      String order,
+                      String author,
+                      Class<?> changeClass,
+                      String sourceFile,
+                      Constructor<?> constructor,
+                      Optional<Method> rollbackMethod,
+                      boolean runAlways,
+                      Boolean transactionalFlag,
+                      boolean transactional,
+                      boolean systemChange,
+                      TargetSystemDescriptor targetSystem,
+                      RecoveryDescriptor recovery,
+                      boolean legacy) {
+        this(id, order, author, changeClass, sourceFile, constructor,
+                getBatchMethod(changeClass, BatchReader.class), getBatchMethodIfPresent(changeClass, BatchProcessor.class),
+                getBatchMethod(changeClass, BatchWriter.class), rollbackMethod, runAlways, transactionalFlag,
+                transactional, systemChange, targetSystem, recovery, legacy);
+    }
+
+    private BatchLoadedChange(String id,
+                              String order,
+                              String author,
+                              Class<?> changeClass,
+                              String sourceFile,
+                              Constructor<?> constructor,
+                              Method readerMethod,
+                              Optional<Method> processorMethod,
+                              Method writerMethod,
+                              Optional<Method> rollbackMethod,
+                              boolean runAlways,
+                              Boolean transactionalFlag,
+                              boolean transactional,
+                              boolean systemChange,
+                              TargetSystemDescriptor targetSystem,
+                              RecoveryDescriptor recovery,
+                              boolean legacy) {
+        super(id, order, author, changeClass, sourceFile, constructor, writerMethod, rollbackMethod, runAlways,
+                transactionalFlag, transactional, systemChange, targetSystem, recovery, legacy);
+        this.readerMethod = readerMethod;
+        this.processorMethod = processorMethod;
+        this.writerMethod = writerMethod;
+        this.chunkSize = changeClass.getAnnotation(BatchChange.class).chunkSize();
+        validate(changeClass);
+    }
+
+    public static boolean isBatchChange(Class<?> changeClass) {
+        return changeClass.isAnnotationPresent(BatchChange.class);
+    }
+
+    public Method getReaderMethod() {
+        return readerMethod;
+    }
+
+    public Optional<Method> getProcessorMethod() {
+        return processorMethod;
+    }
+
+    public Method getWriterMethod() {
+        return writerMethod;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private void validate(Class<?> changeClass) {
+        if (chunkSize <= 0) {
+            throw new FlamingockException("Batch change[%s] must declare a positive chunkSize, but found %d",
+                    changeClass.getName(), chunkSize);
+        }
+        Class<?>[] readerParameters = readerMethod.getParameterTypes();
+        if (readerParameters.length == 0 || !ChunkRequest.class.equals(readerParameters[0])) {
+            throw new FlamingockException("%s method[%s] of batch change[%s] must take a %s as first parameter",
+                    BatchReader.class.getSimpleName(), readerMethod.getName(), changeClass.getName(), ChunkRequest.class.getSimpleName());
+        }
+        if (!Chunk.class.isAssignableFrom(readerMethod.getReturnType())) {
+            throw new FlamingockException("%s method[%s] of batch change[%s] must return a %s",
+                    BatchReader.class.getSimpleName(), readerMethod.getName(), changeClass.getName(), Chunk.class.getSimpleName());
+        }
+        Class<?>[] writerParameters = writerMethod.getParameterTypes();
+        if (writerParameters.length == 0 || !writerParameters[0].isAssignableFrom(List.class)) {
+            throw new FlamingockException("%s method[%s] of batch change[%s] must take a List as first parameter",
+                    BatchWriter.class.getSimpleName(), writerMethod.getName(), changeClass.getName());
+        }
+        if (processorMethod.isPresent() && processorMethod.get().getParameterCount() == 0) {
+            throw new FlamingockException("%s method[%s] of batch change[%s] must take the item as first parameter",
+                    BatchProcessor.class.getSimpleName(), processorMethod.get().getName(), changeClass.getName());
+        }
+    }
+
+    private static Method getBatchMethod(Class<?> changeClass, Class<? extends Annotation> annotation) {
+        return getBatchMethodIfPresent(changeClass, annotation)
+                .orElseThrow(() -> new FlamingockException("Batch change[%s] without %s method",
+                        changeClass.getName(), annotation.getName()));
+    }
+
+    private static Optional<Method> getBatchMethodIfPresent(Class<?> changeClass, Class<? extends Annotation> annotation) {
+        return ReflectionUtil.findFirstAnnotatedMethod(changeClass, annotation);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", BatchLoadedChange.class.getSimpleName() + "[", "]")
+                .add("source=" + source)
+                .add("id='" + getId() + "'")
+                .add("chunkSize=" + chunkSize)
+                .add("reader=" + readerMethod.getName())
+                .add("processor=" + processorMethod.map(Method::getName).orElse(null))
+                .add("writer=" + writerMethod.getName())
+                .add("transactional=" + isTransactional())
+                .add("order=" + getOrder())
+                .toString();
+    }
+}
@@ -188,6 +188,27 @@ public class CodeLoadedChangeBuilder implements LoadedChangeBuilder<CodeLoadedCh
         String order = ChangeOrderUtil.getMatchedOrderFromClassName(id, orderInContent, changeClassName);
 
         boolean resolvedTransactional = transactionalFlag != null ? transactionalFlag : true;
+        if (BatchLoadedChange.isBatchChange(changeClass)) {
+            return new BatchLoadedChange(
+                    id,
+                    order,
+                    author,
+                    changeClass,
+                    sourceFile,
+                    constructor,
+                    rollbackMethod,
+                    isRunAlways,
+                    transactionalFlag,
+                    resolvedTransactional,
+                    isSystem,
+                    targetSystem,
+                    recovery,
+                    legacy
+            );
+        }
+        if (applyMethod == null) {
+            throw new FlamingockException("Executable change[%s] without %s method", changeClassName, Apply.class.getName());
+        }
         return new CodeLoadedChange(
                 id,
                 order,
@@ -215,7 +236,8 @@ public class CodeLoadedChangeBuilder implements LoadedChangeBuilder<CodeLoadedCh
         setChangeClassName(sourceClass.getName());
         setSourceFile(null);
         setConstructor(getConstructor(sourceClass));
-        setApplyMethod(getApplyMethodFromAnnotation(sourceClass));
+        // Batch changes are applied through their reader, processor and writer methods
+        setApplyMethod(BatchLoadedChange.isBatchChange(sourceClass) ? null : getApplyMethodFromAnnotation(sourceClass));
         setRollbackMethod(getRollbackMethodFromAnnotation(sourceClass));
         setTransactionalFlag(annotation.transactional());
         setSystem(false);
@@ -266,6 +288,10 @@ public class CodeLoadedChangeBuilder implements LoadedChangeBuilder<CodeLoadedCh
     }
 
     private Method getApplyMethodFromPreview(CodePreviewChange preview) {
+        if (preview.getApplyPreviewMethod() == null) {
+            // Batch changes have no @Apply method
+            return null;
+        }
         try {
             return getMethodFromNameAndParameters(preview.getSource(), preview.getApplyPreviewMethod().getName(), preview.getApplyPreviewMethod().getParameterTypes());
         } catch (NullPointerException ex) {
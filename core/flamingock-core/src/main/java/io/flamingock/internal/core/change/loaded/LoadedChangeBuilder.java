@@ -20,6 +20,7 @@ import io.flamingock.internal.common.core.preview.CodePreviewChange;
 import io.flamingock.internal.common.core.preview.TemplatePreviewChange;
 import io.flamingock.internal.common.core.change.RecoveryDescriptor;
 import io.flamingock.internal.common.core.change.TargetSystemDescriptor;
+import io.flamingock.internal.common.core.template.TemplateRegistry;
 
 public interface LoadedChangeBuilder<LOADED_CHANGE extends AbstractLoadedChange> {
 
@@ -27,9 +28,21 @@ public interface LoadedChangeBuilder<LOADED_CHANGE extends AbstractLoadedChange>
         return getInstance(previewChange).build();
     }
 
+    static AbstractLoadedChange build(AbstractPreviewChange previewChange, TemplateRegistry templateRegistry) {
+        return getInstance(previewChange, templateRegistry).build();
+    }
+
     static LoadedChangeBuilder<?> getInstance(AbstractPreviewChange previewChange) {
+        return getInstance(previewChange, null);
+    }
+
+    /**
+     * @param templateRegistry registry template changes are resolved from; {@code null} means
+     *                         the shared registry behind {@code ChangeTemplateManager}
+     */
+    static LoadedChangeBuilder<?> getInstance(AbstractPreviewChange previewChange, TemplateRegistry templateRegistry) {
         if (TemplateLoadedChangeBuilder.supportsPreview(previewChange)) {
-            return  TemplateLoadedChangeBuilder.getInstanceFromPreview((TemplatePreviewChange) previewChange);
+            return  TemplateLoadedChangeBuilder.getInstanceFromPreview((TemplatePreviewChange) previewChange, templateRegistry);
 
         } else if (CodeLoadedChangeBuilder.supportsPreview(previewChange)) {
             return CodeLoadedChangeBuilder.getInstanceFromPreview((CodePreviewChange) previewChange);
@@ -28,6 +28,7 @@ import io.flamingock.internal.common.core.change.RecoveryDescriptor;
 import io.flamingock.internal.common.core.change.TargetSystemDescriptor;
 import io.flamingock.internal.common.core.template.ChangeTemplateDefinition;
 import io.flamingock.internal.common.core.template.ChangeTemplateManager;
+import io.flamingock.internal.common.core.template.TemplateRegistry;
 import io.flamingock.internal.common.core.template.TemplateValidator;
 import io.flamingock.internal.util.FileUtil;
 import io.flamingock.internal.util.Pair;
@@ -68,6 +69,7 @@ public class TemplateLoadedChangeBuilder implements LoadedChangeBuilder<Abstract
     private RecoveryDescriptor recovery;
     private TemplatePreviewChange preview;
     private final TemplateValidator templateValidator;
+    private TemplateRegistry templateRegistry;
 
     private TemplateLoadedChangeBuilder() {
         this(DEFAULT_VALIDATOR);
@@ -93,10 +95,23 @@ public class TemplateLoadedChangeBuilder implements LoadedChangeBuilder<Abstract
         return getInstance(templateValidator).setPreview(preview);
     }
 
+    static TemplateLoadedChangeBuilder getInstanceFromPreview(TemplatePreviewChange preview, TemplateRegistry templateRegistry) {
+        return getInstanceFromPreview(preview).setTemplateRegistry(templateRegistry);
+    }
+
     public static boolean supportsPreview(AbstractPreviewChange previewChange) {
         return TemplatePreviewChange.class.isAssignableFrom(previewChange.getClass());
     }
 
+    /**
+     * Registry the template is resolved from. When not set, the shared registry behind
+     * {@link ChangeTemplateManager} is used.
+     */
+    public TemplateLoadedChangeBuilder setTemplateRegistry(TemplateRegistry templateRegistry) {
+        this.templateRegistry = templateRegistry;
+        return this;
+    }
+
     public TemplateLoadedChangeBuilder setId(String id) {
         this.id = id;
         return this;
@@ -177,7 +192,10 @@ public class TemplateLoadedChangeBuilder implements LoadedChangeBuilder<Abstract
     @SuppressWarnings({"unchecked", "rawtypes"})
     public AbstractTemplateLoadedChange<?, ?, ?> build() {
         //            boolean isChangeTransactional = true;//TODO implement this. isChangeTransactionalAccordingTemplate(templateSpec);
-        ChangeTemplateDefinition definition = ChangeTemplateManager.getTemplate(templateName)
+        Optional<ChangeTemplateDefinition> definitionOpt = templateRegistry != null
+                ? templateRegistry.getTemplate(templateName)
+                : ChangeTemplateManager.getTemplate(templateName);
+        ChangeTemplateDefinition definition = definitionOpt
                 .orElseThrow(()-> new FlamingockException(String.format("Template[%s] not found. This is probably because template's name is wrong or template's library not imported", templateName)));
 
 
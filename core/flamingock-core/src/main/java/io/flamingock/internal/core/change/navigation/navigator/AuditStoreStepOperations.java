@@ -18,6 +18,8 @@ package io.flamingock.internal.core.change.navigation.navigator;
 import io.flamingock.internal.common.core.audit.AuditEntry;
 import io.flamingock.internal.common.core.audit.AuditTxType;
 import io.flamingock.internal.common.core.audit.AuditWriter;
+import io.flamingock.internal.common.core.audit.StepCursor;
+import io.flamingock.internal.core.change.executable.ExecutableChange;
 import io.flamingock.internal.core.external.store.audit.domain.ExecutionAuditContextBundle;
 import io.flamingock.internal.core.external.store.audit.domain.RollbackAuditContextBundle;
 import io.flamingock.internal.core.external.store.audit.domain.RuntimeContext;
@@ -49,14 +51,61 @@ public class AuditStoreStepOperations {
         return auditWriter.writeEntry(auditEntry);
     }
 
+    /**
+     * Records a committed step of a multi-step change as a new {@code STARTED} entry carrying the
+     * step cursor, so an interrupted execution can resume after it.
+     */
+    public Result auditStepCheckpoint(ExecutableChange change, int stepIndex, ExecutionContext executionContext, LocalDateTime appliedAt) {
+        StartStep checkpointStep = new StartStep(change);
+        RuntimeContext runtimeContext = RuntimeContext.builder()
+                .setStartStep(checkpointStep)
+                .setStepCursor(stepIndex)
+                .setAppliedAt(appliedAt)
+                .build();
+        AuditEntry auditEntry = new StartExecutionAuditContextBundle(checkpointStep.getLoadedChange(), executionContext, runtimeContext, auditTxType, targetSystemId).toAuditEntry();
+        return auditWriter.writeEntry(auditEntry);
+    }
+
+    /**
+     * Records a committed chunk of a batch change as a new {@code STARTED} entry carrying the
+     * change's current batch cursor, so an interrupted execution can resume after it.
+     */
+    public Result auditBatchCheckpoint(ExecutableChange change, ExecutionContext executionContext, LocalDateTime appliedAt) {
+        return auditStartExecution(new StartStep(change), executionContext, appliedAt);
+    }
+
     public Result auditExecution(ExecutionStep executionStep, ExecutionContext executionContext, LocalDateTime appliedAt) {
-        RuntimeContext runtimeContext = RuntimeContext.builder().setExecutionStep(executionStep).setAppliedAt(appliedAt).build();
+        return auditExecution(executionStep, executionContext, appliedAt, StepCursor.NONE);
+    }
+
+    /**
+     * Same as {@link #auditExecution(ExecutionStep, ExecutionContext, LocalDateTime)}, persisting
+     * the given step cursor with the entry.
+     */
+    public Result auditExecution(ExecutionStep executionStep, ExecutionContext executionContext, LocalDateTime appliedAt, int stepCursor) {
+        RuntimeContext runtimeContext = RuntimeContext.builder()
+                .setExecutionStep(executionStep)
+                .setStepCursor(stepCursor)
+                .setAppliedAt(appliedAt)
+                .build();
         AuditEntry auditEntry = new ExecutionAuditContextBundle(executionStep.getLoadedChange(), executionContext, runtimeContext, auditTxType, targetSystemId).toAuditEntry();
         return auditWriter.writeEntry(auditEntry);
     }
 
     public Result auditManualRollback(ManualRolledBackStep rolledBackStep, ExecutionContext executionContext, LocalDateTime appliedAt) {
-        RuntimeContext runtimeContext = RuntimeContext.builder().setManualRollbackStep(rolledBackStep).setAppliedAt(appliedAt).build();
+        return auditManualRollback(rolledBackStep, executionContext, appliedAt, StepCursor.NONE);
+    }
+
+    /**
+     * Same as {@link #auditManualRollback(ManualRolledBackStep, ExecutionContext, LocalDateTime)},
+     * persisting the given step cursor with the entry.
+     */
+    public Result auditManualRollback(ManualRolledBackStep rolledBackStep, ExecutionContext executionContext, LocalDateTime appliedAt, int stepCursor) {
+        RuntimeContext runtimeContext = RuntimeContext.builder()
+                .setManualRollbackStep(rolledBackStep)
+                .setStepCursor(stepCursor)
+                .setAppliedAt(appliedAt)
+                .build();
         AuditEntry auditEntry = new RollbackAuditContextBundle(rolledBackStep.getLoadedChange(), executionContext, runtimeContext, auditTxType, targetSystemId).toAuditEntry();
         return auditWriter.writeEntry(auditEntry);
     }
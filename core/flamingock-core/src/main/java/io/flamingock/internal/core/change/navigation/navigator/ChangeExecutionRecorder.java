@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.navigation.navigator;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditWriter;
+import io.flamingock.internal.core.runtime.proxy.ProxyInvocationListener;
+import io.flamingock.internal.util.Result;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects what a single change costs while it runs: the time spent on its audit writes and the
+ * calls it makes on lock-guarded dependencies. It also notes whether a rollback was audited, which
+ * is the only trace a strategy leaves of it.
+ *
+ * <p>Counters are atomic because a change may hand its dependencies to threads of its own.</p>
+ */
+final class ChangeExecutionRecorder implements AuditWriter, ProxyInvocationListener {
+
+    private final AuditWriter delegate;
+    private final ProxyInvocationListener nextListener;
+    private final AtomicLong auditWriteNanos = new AtomicLong();
+    private final AtomicLong lockGuardedCalls = new AtomicLong();
+    private volatile boolean rolledBack;
+
+    ChangeExecutionRecorder(AuditWriter delegate, ProxyInvocationListener nextListener) {
+        this.delegate = delegate;
+        this.nextListener = nextListener;
+    }
+
+    @Override
+    public Result writeEntry(AuditEntry auditEntry) {
+        long start = System.nanoTime();
+        try {
+            Result result = delegate.writeEntry(auditEntry);
+            if (auditEntry.getState() == AuditEntry.Status.ROLLED_BACK && !(result instanceof Result.Error)) {
+                rolledBack = true;
+            }
+            return result;
+        } finally {
+            auditWriteNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void onInvocation(Method method, long elapsedNanos, boolean failed) {
+        lockGuardedCalls.incrementAndGet();
+        if (nextListener != null) {
+            nextListener.onInvocation(method, elapsedNanos, failed);
+        }
+    }
+
+    long getAuditWriteNanos() {
+        return auditWriteNanos.get();
+    }
+
+    long getLockGuardedCallCount() {
+        return lockGuardedCalls.get();
+    }
+
+    boolean isRolledBack() {
+        return rolledBack;
+    }
+}
@@ -34,6 +34,8 @@ public class ChangeProcessLogger {
     private static final String EXECUTION_DESC = "apply";
     private static final String MANUAL_ROLLBACK_DESC = "manual-rollback";
     private static final String AUTO_ROLLBACK_DESC = "auto-rollback";
+    private static final String STEP_CHECKPOINT_DESC = "step-checkpoint";
+    private static final String BATCH_CHECKPOINT_DESC = "batch-checkpoint";
 
     public void logStartChangeProcessStrategy(String changeId) {
         logger.debug("Starting change process strategy build [change= {}]", changeId);
@@ -117,6 +119,34 @@ public class ChangeProcessLogger {
     public void logAuditAutoRollbackResult(Result auditResult, ChangeDescriptor change) {
         logAuditResult(auditResult, change.getId(), AUTO_ROLLBACK_DESC);
     }
+
+    public void logAuditStepCheckpointResult(Result auditResult, ChangeDescriptor change, int stepIndex) {
+        if (auditResult instanceof Result.Error) {
+            logger.warn("Step checkpoint not persisted, an interruption would resume from an earlier step [change={} step={}]: {}",
+                    change.getId(), stepIndex, ((Result.Error) auditResult).getError().getMessage());
+        } else {
+            logger.debug("Audit operation completed [change={} operation={} step={}]", change.getId(), STEP_CHECKPOINT_DESC, stepIndex);
+        }
+    }
+
+    public void logAuditBatchCheckpointResult(Result auditResult, ChangeDescriptor change, long committedChunks) {
+        if (auditResult instanceof Result.Error) {
+            logger.warn("Batch checkpoint not persisted, an interruption would resume from an earlier chunk [change={} chunk={}]: {}",
+                    change.getId(), committedChunks, ((Result.Error) auditResult).getError().getMessage());
+        } else {
+            logger.debug("Audit operation completed [change={} operation={} chunk={}]", change.getId(), BATCH_CHECKPOINT_DESC, committedChunks);
+        }
+    }
+
+    public void logChunkCommitted(ChangeDescriptor change, long committedChunks, int itemCount, long chunkDurationMs) {
+        logger.debug("Chunk committed [change={} chunk={} items={} duration={}]",
+                change.getId(), committedChunks, itemCount, formatDuration(chunkDurationMs));
+    }
+
+    public void logBatchCompleted(ChangeDescriptor change, long committedChunks, long committedItems, long durationMs) {
+        logger.info("Batch change completed [change={} chunks={} items={} duration={}]",
+                change.getId(), committedChunks, committedItems, formatDuration(durationMs));
+    }
     
     private String formatDuration(long durationMs) {
         if (durationMs < 1000) {
@@ -15,21 +15,28 @@
  */
 package io.flamingock.internal.core.change.navigation.navigator;
 
+import io.flamingock.core.throttle.MigrationThrottle;
 import io.flamingock.internal.common.core.audit.AuditTxType;
 import io.flamingock.internal.common.core.audit.AuditWriter;
 import io.flamingock.internal.common.core.context.ContextResolver;
 import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.core.event.EventPublisher;
 import io.flamingock.internal.core.external.store.lock.Lock;
 import io.flamingock.internal.core.operation.result.ChangeResultBuilder;
 import io.flamingock.internal.core.pipeline.execution.ExecutionContext;
 import io.flamingock.internal.core.runtime.proxy.LockGuardProxyFactory;
+import io.flamingock.internal.core.runtime.proxy.ProxyInvocationListener;
 import io.flamingock.internal.core.external.targets.TargetSystemManager;
 import io.flamingock.internal.core.external.targets.operations.TargetSystemOps;
 import io.flamingock.internal.core.external.targets.operations.TransactionalTargetSystemOps;
+import io.flamingock.internal.core.change.executable.BatchExecutableChange;
 import io.flamingock.internal.core.change.executable.ExecutableChange;
+import io.flamingock.internal.core.change.navigation.navigator.strategy.ChunkedChangeProcessStrategy;
 import io.flamingock.internal.core.change.navigation.navigator.strategy.NonTxChangeProcessStrategy;
 import io.flamingock.internal.core.change.navigation.navigator.strategy.SharedTxChangeProcessStrategy;
 import io.flamingock.internal.core.change.navigation.navigator.strategy.SimpleTxChangeProcessStrategy;
+import io.flamingock.internal.core.jfr.FlamingockJfr;
+import io.flamingock.internal.core.tracing.Tracing;
 import io.flamingock.internal.util.TimeService;
 
 import java.util.Set;
@@ -43,6 +50,8 @@ import java.util.Set;
  *
  * <h3>Strategy Selection Logic</h3>
  * <ul>
+ * <li><strong>Batch changes:</strong> Always use {@link ChunkedChangeProcessStrategy}, which commits
+ * chunk by chunk whatever the target system</li>
  * <li><strong>Non-transactional changes:</strong> Always use {@link NonTxChangeProcessStrategy}</li>
  * <li><strong>NON_TX operation type:</strong> Use {@link NonTxChangeProcessStrategy}</li>
  * <li><strong>TX_NON_SYNC or TX_AUDIT_STORE_SYNC:</strong> Use {@link SimpleTxChangeProcessStrategy}</li>
@@ -70,6 +79,8 @@ public class ChangeProcessStrategyFactory {
 
     protected ExecutionContext executionContext;
 
+    protected EventPublisher eventPublisher;
+
     public ChangeProcessStrategyFactory(TargetSystemManager targetSystemManager) {
         this.targetSystemManager = targetSystemManager;
     }
@@ -104,6 +115,14 @@ public class ChangeProcessStrategyFactory {
         return this;
     }
 
+    /**
+     * When set, the built strategies publish the change lifecycle events to it.
+     */
+    public ChangeProcessStrategyFactory setEventPublisher(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        return this;
+    }
+
 
     public ChangeProcessStrategy build() {
 
@@ -114,22 +133,78 @@ public class ChangeProcessStrategyFactory {
         // Log target system resolution
         changeLogger.logTargetSystemResolved(change.getId(), change.getTargetSystem());
 
+        ProxyInvocationListener invocationListener = getThrottleObserver();
+        AuditWriter changeAuditWriter = auditWriter;
+        ChangeExecutionRecorder recorder = null;
+        if (eventPublisher != null) {
+            recorder = new ChangeExecutionRecorder(auditWriter, invocationListener);
+            invocationListener = recorder;
+            changeAuditWriter = recorder;
+        }
+
         LockGuardProxyFactory lockGuardProxyFactory = LockGuardProxyFactory.withLockAndNonGuardedClasses(lock, nonGuardedTypes);
+        if (invocationListener != null) {
+            lockGuardProxyFactory = lockGuardProxyFactory.withInvocationListener(invocationListener);
+        }
 
         AuditTxType auditTxType = getAuditTxStrategy(change, targetSystemOps);
 
-        AuditStoreStepOperations auditStoreOps = new AuditStoreStepOperations(auditWriter, auditTxType, targetSystemOps.getId());
-
-        return getStrategy(
-                change,
-                targetSystemOps,
-                auditStoreOps,
-                baseContext,
-                executionContext,
-                new ChangeResultBuilder().fromChange(change),
-                lockGuardProxyFactory,
-                TimeService.getDefault()
-        );
+        AuditStoreStepOperations auditStoreOps = new AuditStoreStepOperations(changeAuditWriter, auditTxType, targetSystemOps.getId());
+
+        ChangeProcessStrategy strategy;
+        if (change instanceof BatchExecutableChange) {
+            changeLogger.logStrategyApplication(change.getId(), targetSystemOps.getId(), "CHUNKED");
+            strategy = new ChunkedChangeProcessStrategy(
+                    (BatchExecutableChange) change,
+                    executionContext,
+                    targetSystemOps,
+                    auditStoreOps,
+                    new ChangeResultBuilder().fromChange(change),
+                    lockGuardProxyFactory,
+                    baseContext,
+                    TimeService.getDefault(),
+                    lock
+            );
+        } else {
+            strategy = getStrategy(
+                    change,
+                    targetSystemOps,
+                    auditStoreOps,
+                    baseContext,
+                    executionContext,
+                    new ChangeResultBuilder().fromChange(change),
+                    lockGuardProxyFactory,
+                    TimeService.getDefault()
+            );
+        }
+
+        if (recorder != null) {
+            strategy = new EventPublishingChangeProcessStrategy(strategy, change, recorder, eventPublisher);
+        }
+        if (FlamingockJfr.isAvailable()) {
+            strategy = new JfrChangeProcessStrategy(strategy, change);
+        }
+        Tracing tracing = getTracing();
+        return tracing.isEnabled() ? new TracingChangeProcessStrategy(strategy, change, tracing) : strategy;
+    }
+
+    private Tracing getTracing() {
+        return baseContext != null
+                ? baseContext.getDependencyValue(Tracing.class).orElse(Tracing.NO_OP)
+                : Tracing.NO_OP;
+    }
+
+    /**
+     * When a {@link MigrationThrottle} is registered, the latency of every guarded call the change
+     * makes on its dependencies is reported to it, so it can back off when the target system slows down.
+     */
+    private ProxyInvocationListener getThrottleObserver() {
+        if (baseContext == null) {
+            return null;
+        }
+        return baseContext.getDependencyValue(MigrationThrottle.class)
+                .<ProxyInvocationListener>map(throttle -> (method, elapsedNanos, failed) -> throttle.recordLatencyNanos(elapsedNanos))
+                .orElse(null);
     }
 
     private TargetSystemOps getTargetSystem() {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.navigation.navigator;
+
+import io.flamingock.internal.common.core.change.TargetSystemDescriptor;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.core.change.executable.ExecutableChange;
+import io.flamingock.internal.core.change.navigation.FailedChangeProcessResult;
+import io.flamingock.internal.core.event.EventPublisher;
+import io.flamingock.internal.core.event.model.impl.ChangeCompletedEvent;
+import io.flamingock.internal.core.event.model.impl.ChangeFailedEvent;
+import io.flamingock.internal.core.event.model.impl.ChangeRolledBackEvent;
+import io.flamingock.internal.core.event.model.impl.ChangeStartedEvent;
+import io.flamingock.internal.core.operation.result.ChangeResultBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the lifecycle events of a change around the strategy that applies it. Already applied
+ * changes are passed through without events. A strategy that throws instead of returning a failed
+ * result still gets a {@link ChangeFailedEvent} before the exception propagates.
+ */
+final class EventPublishingChangeProcessStrategy implements ChangeProcessStrategy {
+
+    private final ChangeProcessStrategy delegate;
+    private final ExecutableChange change;
+    private final ChangeExecutionRecorder recorder;
+    private final EventPublisher eventPublisher;
+
+    EventPublishingChangeProcessStrategy(ChangeProcessStrategy delegate,
+                                         ExecutableChange change,
+                                         ChangeExecutionRecorder recorder,
+                                         EventPublisher eventPublisher) {
+        this.delegate = delegate;
+        this.change = change;
+        this.recorder = recorder;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public ChangeProcessResult applyChange() {
+        if (change.isAlreadyApplied()) {
+            return delegate.applyChange();
+        }
+        String stageName = change.getStageName();
+        TargetSystemDescriptor targetSystem = change.getLoadedChange().getTargetSystem();
+        eventPublisher.publish(new ChangeStartedEvent(
+                change.getId(), stageName, targetSystem != null ? targetSystem.getId() : null));
+        long start = System.nanoTime();
+
+        ChangeProcessResult processResult;
+        try {
+            processResult = delegate.applyChange();
+        } catch (Throwable t) {
+            // the started event still gets its terminal event before the failure propagates
+            long durationNanos = System.nanoTime() - start;
+            ChangeResult result = new ChangeResultBuilder()
+                    .fromChange(change)
+                    .failed(t)
+                    .durationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                    .build();
+            eventPublisher.publish(new ChangeFailedEvent(
+                    stageName, result, t, durationNanos, recorder.getAuditWriteNanos(), recorder.getLockGuardedCallCount()));
+            throw t;
+        }
+
+        long durationNanos = System.nanoTime() - start;
+        ChangeResult result = processResult.getResult();
+        if (!processResult.isFailed()) {
+            eventPublisher.publish(new ChangeCompletedEvent(
+                    stageName, result, durationNanos, recorder.getAuditWriteNanos(), recorder.getLockGuardedCallCount()));
+        } else {
+            Throwable exception = ((FailedChangeProcessResult) processResult).getException();
+            eventPublisher.publish(recorder.isRolledBack()
+                    ? new ChangeRolledBackEvent(stageName, result, exception, durationNanos, recorder.getAuditWriteNanos(), recorder.getLockGuardedCallCount())
+                    : new ChangeFailedEvent(stageName, result, exception, durationNanos, recorder.getAuditWriteNanos(), recorder.getLockGuardedCallCount()));
+        }
+        return processResult;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.navigation.navigator;
+
+import io.flamingock.internal.common.core.change.TargetSystemDescriptor;
+import io.flamingock.internal.core.change.executable.ExecutableChange;
+import io.flamingock.internal.core.jfr.FlamingockJfr;
+import io.flamingock.internal.core.jfr.JfrRecording;
+
+/**
+ * Records the application of a change, audit writes and rollback included, as a
+ * {@value FlamingockJfr#CHANGE_EXECUTION} event. Already applied changes aren't recorded.
+ */
+final class JfrChangeProcessStrategy implements ChangeProcessStrategy {
+
+    private final ChangeProcessStrategy delegate;
+    private final ExecutableChange change;
+
+    JfrChangeProcessStrategy(ChangeProcessStrategy delegate, ExecutableChange change) {
+        this.delegate = delegate;
+        this.change = change;
+    }
+
+    @Override
+    public ChangeProcessResult applyChange() {
+        if (change.isAlreadyApplied()) {
+            return delegate.applyChange();
+        }
+        TargetSystemDescriptor targetSystem = change.getLoadedChange().getTargetSystem();
+        JfrRecording recording = FlamingockJfr.beginChangeExecution(
+                change.getId(),
+                change.getStageName(),
+                targetSystem != null ? targetSystem.getId() : null);
+        ChangeProcessResult processResult = null;
+        try {
+            processResult = delegate.applyChange();
+            return processResult;
+        } finally {
+            if (processResult != null) {
+                recording.setStatus(processResult.getResult().getStatus().name())
+                        .setSuccess(!processResult.isFailed());
+            }
+            recording.commit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.navigation.navigator;
+
+import io.flamingock.internal.common.core.change.TargetSystemDescriptor;
+import io.flamingock.internal.core.change.executable.ExecutableChange;
+import io.flamingock.internal.core.change.navigation.FailedChangeProcessResult;
+import io.flamingock.internal.core.tracing.TraceSpan;
+import io.flamingock.internal.core.tracing.Tracing;
+
+/**
+ * Wraps the strategy that applies a change in a span, parent of its audit writes and rollback.
+ * Already applied changes are passed through without span.
+ */
+final class TracingChangeProcessStrategy implements ChangeProcessStrategy {
+
+    private final ChangeProcessStrategy delegate;
+    private final ExecutableChange change;
+    private final Tracing tracing;
+
+    TracingChangeProcessStrategy(ChangeProcessStrategy delegate, ExecutableChange change, Tracing tracing) {
+        this.delegate = delegate;
+        this.change = change;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public ChangeProcessResult applyChange() {
+        if (change.isAlreadyApplied()) {
+            return delegate.applyChange();
+        }
+        try (TraceSpan span = tracing.startSpan(Tracing.CHANGE_APPLY)) {
+            span.setAttribute(Tracing.CHANGE_ID_ATTRIBUTE, change.getId());
+            span.setAttribute(Tracing.STAGE_NAME_ATTRIBUTE, change.getStageName());
+            TargetSystemDescriptor targetSystem = change.getLoadedChange().getTargetSystem();
+            if (targetSystem != null) {
+                span.setAttribute(Tracing.TARGET_SYSTEM_ATTRIBUTE, targetSystem.getId());
+            }
+            try {
+                ChangeProcessResult processResult = delegate.applyChange();
+                span.setAttribute(Tracing.CHANGE_STATUS_ATTRIBUTE, processResult.getResult().getStatus().name());
+                if (processResult.isFailed()) {
+                    span.recordFailure(((FailedChangeProcessResult) processResult).getException());
+                }
+                return processResult;
+            } catch (RuntimeException e) {
+                span.recordFailure(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.flamingock.internal.core.change.navigation.navigator.strategy;
 
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.common.core.context.Context;
 import io.flamingock.internal.common.core.context.ContextResolver;
 import io.flamingock.internal.core.runtime.ExecutionRuntime;
@@ -36,7 +37,11 @@ import io.flamingock.internal.core.change.navigation.step.afteraudit.AfterExecut
 import io.flamingock.internal.core.change.navigation.step.complete.failed.CompleteAutoRolledBackStep;
 import io.flamingock.internal.core.change.navigation.step.complete.failed.CompletedFailedManualRollback;
 import io.flamingock.internal.core.change.navigation.step.execution.ExecutionStep;
+import io.flamingock.internal.core.change.navigation.step.afteraudit.RollableStep;
+import io.flamingock.internal.core.change.navigation.step.rolledback.FailedManualRolledBackStep;
 import io.flamingock.internal.core.change.navigation.step.rolledback.ManualRolledBackStep;
+import io.flamingock.internal.core.tracing.TraceSpan;
+import io.flamingock.internal.core.tracing.Tracing;
 import io.flamingock.internal.util.Result;
 import io.flamingock.internal.util.TimeService;
 
@@ -166,8 +171,55 @@ public abstract class AbstractChangeProcessStrategy<TS_OPS extends TargetSystemO
     }
 
 
+    /**
+     * Audits and logs the execution result of a change, persisting the given step cursor with it.
+     *
+     * @param executionStep The execution step with results
+     * @param stepCursor    index of the last committed step of a multi-step change
+     * @return The after-execution audit step
+     */
+    protected AfterExecutionAuditStep auditAndLogExecution(ExecutionStep executionStep, int stepCursor) {
+        stepLogger.logExecutionResult(executionStep);
+
+        Result auditResult = auditStoreOperations.auditExecution(executionStep, executionContext, timeService.currentDateTime(), stepCursor);
+
+        stepLogger.logAuditExecutionResult(auditResult, executionStep.getLoadedChange());
+        return executionStep.withAuditResult(auditResult);
+    }
+
+    /**
+     * Persists the cursor of a multi-step change once a step is committed. A failed write is
+     * logged but doesn't fail the change: the worst outcome is resuming from an earlier step.
+     *
+     * @param change    the change being applied
+     * @param stepIndex index of the step just committed
+     */
+    protected void auditAndLogStepCheckpoint(ExecutableChange change, int stepIndex) {
+        Result auditResult = auditStoreOperations.auditStepCheckpoint(change, stepIndex, executionContext, timeService.currentDateTime());
+        stepLogger.logAuditStepCheckpointResult(auditResult, change, stepIndex);
+    }
+
+    /**
+     * Persists the cursor of a batch change once a chunk is committed. As with step checkpoints,
+     * a failed write is logged but doesn't fail the change: the worst outcome is resuming from an
+     * earlier chunk.
+     *
+     * @param change          the batch change being applied
+     * @param committedChunks chunks committed so far
+     */
+    protected void auditAndLogBatchCheckpoint(ExecutableChange change, long committedChunks) {
+        Result auditResult = auditStoreOperations.auditBatchCheckpoint(change, executionContext, timeService.currentDateTime());
+        stepLogger.logAuditBatchCheckpointResult(auditResult, change, committedChunks);
+    }
+
     protected void auditAndLogManualRollback(ManualRolledBackStep rolledBackStep, io.flamingock.internal.core.pipeline.execution.ExecutionContext executionContext) {
-        Result auditResult = auditStoreOperations.auditManualRollback(rolledBackStep, executionContext, timeService.currentDateTime());
+        auditAndLogManualRollback(rolledBackStep, executionContext, StepCursor.NONE);
+    }
+
+    protected void auditAndLogManualRollback(ManualRolledBackStep rolledBackStep,
+                                             io.flamingock.internal.core.pipeline.execution.ExecutionContext executionContext,
+                                             int stepCursor) {
+        Result auditResult = auditStoreOperations.auditManualRollback(rolledBackStep, executionContext, timeService.currentDateTime(), stepCursor);
         stepLogger.logAuditManualRollbackResult(auditResult, rolledBackStep.getLoadedChange());
         CompletedFailedManualRollback failedStep = rolledBackStep.applyAuditResult(auditResult);
     }
@@ -178,6 +230,28 @@ public abstract class AbstractChangeProcessStrategy<TS_OPS extends TargetSystemO
     }
 
 
+    /**
+     * Runs the manual rollback of the change, in its own span when tracing is configured.
+     *
+     * @param rollableStep     the rollback of the failed change
+     * @param executionRuntime the runtime the rollback method is invoked with
+     * @return the rollback outcome
+     */
+    protected ManualRolledBackStep rollback(RollableStep rollableStep, ExecutionRuntime executionRuntime) {
+        Tracing tracing = baseContext != null
+                ? baseContext.getDependencyValue(Tracing.class).orElse(Tracing.NO_OP)
+                : Tracing.NO_OP;
+        try (TraceSpan span = tracing.startSpan(Tracing.CHANGE_ROLLBACK)) {
+            span.setAttribute(Tracing.CHANGE_ID_ATTRIBUTE, change.getId());
+            span.setAttribute(Tracing.TARGET_SYSTEM_ATTRIBUTE, targetSystemOps.getId());
+            ManualRolledBackStep rolledBack = rollableStep.rollback(executionRuntime);
+            if (rolledBack instanceof FailedManualRolledBackStep) {
+                span.recordFailure(((FailedManualRolledBackStep) rolledBack).getMainError());
+            }
+            return rolledBack;
+        }
+    }
+
     /**
      * Builds the execution runtime for change execution.
      *
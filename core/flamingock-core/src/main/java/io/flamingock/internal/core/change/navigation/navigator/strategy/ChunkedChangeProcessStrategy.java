@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.navigation.navigator.strategy;
+
+import io.flamingock.internal.common.core.context.ContextResolver;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.targets.OperationType;
+import io.flamingock.internal.core.change.executable.BatchExecutableChange;
+import io.flamingock.internal.core.change.executable.BatchExecutableChange.ChunkResult;
+import io.flamingock.internal.core.change.navigation.FailedChangeProcessResult;
+import io.flamingock.internal.core.change.navigation.navigator.AuditStoreStepOperations;
+import io.flamingock.internal.core.change.navigation.navigator.ChangeProcessResult;
+import io.flamingock.internal.core.change.navigation.step.ExecutableStep;
+import io.flamingock.internal.core.change.navigation.step.StartStep;
+import io.flamingock.internal.core.change.navigation.step.afteraudit.AfterExecutionAuditStep;
+import io.flamingock.internal.core.change.navigation.step.afteraudit.FailedAfterExecutionAuditStep;
+import io.flamingock.internal.core.change.navigation.step.execution.ExecutionStep;
+import io.flamingock.internal.core.change.navigation.step.execution.FailedExecutionStep;
+import io.flamingock.internal.core.change.navigation.step.execution.SuccessApplyStep;
+import io.flamingock.internal.core.external.store.lock.Lock;
+import io.flamingock.internal.core.external.store.lock.LockException;
+import io.flamingock.internal.core.external.targets.operations.TargetSystemOps;
+import io.flamingock.internal.core.external.targets.operations.TransactionalTargetSystemOps;
+import io.flamingock.internal.core.operation.result.ChangeResultBuilder;
+import io.flamingock.internal.core.pipeline.execution.ExecutionContext;
+import io.flamingock.internal.core.runtime.ExecutionRuntime;
+import io.flamingock.internal.core.runtime.proxy.LockGuardProxyFactory;
+import io.flamingock.internal.util.StopWatch;
+import io.flamingock.internal.util.TimeService;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+/**
+ * Change process strategy for batch changes, applied chunk by chunk.
+ *
+ * <p>Used for every change annotated with {@code @BatchChange}, whatever its target system: the
+ * unit of work is the chunk, not the change, so the change as a whole is never atomic.
+ *
+ * <h3>Execution Flow</h3>
+ * <ol>
+ * <li>Audit change start in audit store, with the cursor being resumed if any</li>
+ * <li>For each chunk:
+ *   <ol>
+ *   <li>Read, process and write the chunk, in its own transaction when the change is
+ *       transactional and the target system supports it</li>
+ *   <li>Audit a {@code STARTED} checkpoint carrying the cursor after the chunk</li>
+ *   <li>Extend the lock, failing the change if it can't be extended</li>
+ *   </ol>
+ * </li>
+ * <li>Audit execution result in audit store</li>
+ * </ol>
+ *
+ * <h3>Audit Store State Outcomes</h3>
+ * <ul>
+ * <li><strong>STARTED (n times):</strong> Chunks committed, process interrupted</li>
+ * <li><strong>STARTED → APPLIED:</strong> Every chunk committed</li>
+ * <li><strong>STARTED → FAILED:</strong> A chunk failed; the entry carries the cursor of the last
+ * committed chunk</li>
+ * </ul>
+ *
+ * <h3>Recovery Considerations</h3>
+ * <p>Committed chunks are never rolled back, not even when the change declares a rollback
+ * method: a retry resumes after the last checkpointed chunk instead. Whether a retry happens
+ * automatically is still decided by the recovery strategy, exactly as for any other change.
+ * A chunk committed right before an interruption may have no checkpoint yet and be written
+ * again, so batch writers must be idempotent.</p>
+ */
+public class ChunkedChangeProcessStrategy extends AbstractChangeProcessStrategy<TargetSystemOps> {
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("ChunkedStrategy");
+
+    private final BatchExecutableChange batchChange;
+
+    private final Lock lock;
+
+    public ChunkedChangeProcessStrategy(BatchExecutableChange change,
+                                        ExecutionContext executionContext,
+                                        TargetSystemOps targetSystem,
+                                        AuditStoreStepOperations auditStoreOperations,
+                                        ChangeResultBuilder resultBuilder,
+                                        LockGuardProxyFactory proxyFactory,
+                                        ContextResolver baseContext,
+                                        TimeService timeService,
+                                        Lock lock) {
+        super(change, executionContext, targetSystem, auditStoreOperations, resultBuilder, proxyFactory, baseContext, timeService);
+        this.batchChange = change;
+        this.lock = lock;
+    }
+
+    @Override
+    protected ChangeProcessResult doApplyChange() {
+        resultBuilder.startTimer();
+
+        ExecutableStep executableStep = auditAndLogStartExecution(new StartStep(change), executionContext);
+
+        logger.debug("Executing batch change [change={} chunkSize={} transactionalChunks={}]",
+                change.getId(), batchChange.getChunkSize(), isTransactionalChunk());
+
+        ExecutionStep executionStep = applyChunks(executableStep);
+
+        AfterExecutionAuditStep afterAudit = auditAndLogExecution(executionStep);
+
+        resultBuilder.stopTimer();
+
+        if (afterAudit instanceof FailedAfterExecutionAuditStep) {
+            Throwable mainError = ((FailedAfterExecutionAuditStep) afterAudit).getMainError();
+            ChangeResult result = resultBuilder
+                    .failed(mainError)
+                    .build();
+            return new FailedChangeProcessResult(change.getId(), result, mainError);
+        } else {
+            ChangeResult result = resultBuilder
+                    .applied()
+                    .build();
+            return new ChangeProcessResult(change.getId(), result);
+        }
+    }
+
+    private ExecutionStep applyChunks(ExecutableStep executableStep) {
+        StopWatch stopWatch = StopWatch.startAndGet();
+        try {
+            ChunkResult chunk;
+            do {
+                StopWatch chunkWatch = StopWatch.startAndGet();
+                chunk = applyChunk();
+                // Only reached once the chunk is durable, so the cursor never gets ahead of the target system
+                batchChange.commitChunk(chunk);
+                if (chunk.getItemCount() > 0) {
+                    stepLogger.logChunkCommitted(change, batchChange.getCommittedChunks(), chunk.getItemCount(), chunkWatch.getElapsed());
+                }
+                if (chunk.hasMore()) {
+                    auditAndLogBatchCheckpoint(change, batchChange.getCommittedChunks());
+                    extendLock();
+                }
+            } while (chunk.hasMore());
+            stepLogger.logBatchCompleted(change, batchChange.getCommittedChunks(), batchChange.getCommittedItems(), stopWatch.getElapsed());
+            return SuccessApplyStep.instance(executableStep, stopWatch.getElapsed());
+        } catch (Throwable throwable) {
+            return FailedExecutionStep.instance(executableStep, stopWatch.getElapsed(), throwable);
+        }
+    }
+
+    private ChunkResult applyChunk() {
+        // A fresh runtime per chunk: each chunk gets its own session and transaction-scoped dependencies
+        ExecutionRuntime executionRuntime = buildExecutionRuntime();
+        if (isTransactionalChunk()) {
+            return ((TransactionalTargetSystemOps) targetSystemOps).applyChangeTransactional(batchChange::applyChunk, executionRuntime);
+        } else {
+            return targetSystemOps.applyChange(batchChange::applyChunk, executionRuntime);
+        }
+    }
+
+    private boolean isTransactionalChunk() {
+        return change.isTransactional()
+                && targetSystemOps.getOperationType() != OperationType.NON_TX
+                && targetSystemOps instanceof TransactionalTargetSystemOps;
+    }
+
+    private void extendLock() {
+        if (lock != null && !lock.extend()) {
+            throw new LockException(String.format(
+                    "Lock could not be extended after chunk %d of change[%s], it's released or expired",
+                    batchChange.getCommittedChunks(), change.getId()));
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.flamingock.internal.core.change.navigation.navigator.strategy;
 
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.common.core.context.ContextResolver;
 import io.flamingock.internal.common.core.response.data.ChangeResult;
 import io.flamingock.internal.core.operation.result.ChangeResultBuilder;
@@ -48,7 +49,7 @@ import java.util.Optional;
  * <h3>Execution Flow</h3>
  * <ol>
  * <li>Audit change start in audit store</li>
- * <li>Apply change to target system</li>
+ * <li>Apply change to target system, checkpointing each committed step of multi-step changes</li>
  * <li>Audit execution result in audit store</li>
  * <li>If execution failed, attempt manual rollback of change chain</li>
  * </ol>
@@ -67,6 +68,13 @@ import java.util.Optional;
  * <li><strong>STARTED → FAILED → ROLLED_BACK:</strong> Change failed and rollback chain completed</li>
  * </ul>
  *
+ * <h3>Step Checkpoints</h3>
+ * <p>Steps of a multi-step template change can't be undone by a transaction here, so each
+ * committed step is recorded as a new {@code STARTED} entry carrying the step cursor. The
+ * {@code FAILED} and {@code ROLLBACK_FAILED} entries carry it too. When the change
+ * is retried, it resumes after the last committed step, and a rollback only reverts
+ * committed steps.</p>
+ *
  * <h3>Recovery Considerations</h3>
  * <p>Non-transactional target systems require careful recovery handling since changes
  * cannot be automatically rolled back. The rollback chain mechanism provides best-effort
@@ -97,9 +105,12 @@ public class NonTxChangeProcessStrategy extends AbstractChangeProcessStrategy<Ta
 
         logger.debug("Executing non-transactional change [change={}]", change.getId());
 
+        change.setStepCheckpointListener(this::auditAndLogStepCheckpoint);
         ExecutionStep changeAppliedStep = targetSystemOps.applyChange(executableStep::execute, buildExecutionRuntime());
 
-        AfterExecutionAuditStep afterAudit = auditAndLogExecution(changeAppliedStep);
+        AfterExecutionAuditStep afterAudit = changeAppliedStep.isSuccessStep()
+                ? auditAndLogExecution(changeAppliedStep)
+                : auditAndLogExecution(changeAppliedStep, change.getStepCursor());
 
         resultBuilder.stopTimer();
 
@@ -123,10 +134,13 @@ public class NonTxChangeProcessStrategy extends AbstractChangeProcessStrategy<Ta
     private void rollbackActualChangeAndChain(FailedAfterExecutionAuditStep rollableFailedStep, ExecutionContext executionContext) {
         Optional<RollableStep> rollableStepOpt = rollableFailedStep.getRollbackStep();
         if (rollableStepOpt.isPresent()) {
+            RollableStep rollableStep = rollableStepOpt.get();
             ManualRolledBackStep rolledBack = targetSystemOps.rollbackChange(
-                    rollableStepOpt.get()::rollback, buildExecutionRuntime());
+                    executionRuntime -> rollback(rollableStep, executionRuntime), buildExecutionRuntime());
             stepLogger.logManualRollbackResult(rolledBack);
-            auditAndLogManualRollback(rolledBack, executionContext);
+            // A failed rollback leaves the steps up to the cursor applied, so a retry resumes after them
+            int stepCursor = rolledBack.isSuccessStep() ? StepCursor.NONE : change.getStepCursor();
+            auditAndLogManualRollback(rolledBack, executionContext, stepCursor);
         } else {
             // No @RollbackExecution declared: don't invoke rollback, don't write a manual-rollback
             // audit entry. The upstream FAILED audit entry already written by auditAndLogExecution
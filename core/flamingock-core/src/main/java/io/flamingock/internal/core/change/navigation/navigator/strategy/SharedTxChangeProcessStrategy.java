@@ -153,8 +153,9 @@ public class SharedTxChangeProcessStrategy extends AbstractChangeProcessStrategy
         // Skip first rollback (main change) as transaction already rolled it back
         Optional<RollableStep> rollableStepOpt = rollableFailedStep.getRollbackStep();
         if (rollableStepOpt.isPresent()) {
+            RollableStep rollableStep = rollableStepOpt.get();
             ManualRolledBackStep rolledBack = targetSystemOps.rollbackChange(
-                    rollableStepOpt.get()::rollback, buildExecutionRuntime());
+                    executionRuntime -> rollback(rollableStep, executionRuntime), buildExecutionRuntime());
             stepLogger.logManualRollbackResult(rolledBack);
             auditAndLogManualRollback(rolledBack, executionContext);
         } else {
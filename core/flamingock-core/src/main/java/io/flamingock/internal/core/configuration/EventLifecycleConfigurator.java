@@ -16,6 +16,10 @@
 package io.flamingock.internal.core.configuration;
 
 
+import io.flamingock.internal.core.event.model.IChangeCompletedEvent;
+import io.flamingock.internal.core.event.model.IChangeFailedEvent;
+import io.flamingock.internal.core.event.model.IChangeRolledBackEvent;
+import io.flamingock.internal.core.event.model.IChangeStartedEvent;
 import io.flamingock.internal.core.event.model.IPipelineCompletedEvent;
 import io.flamingock.internal.core.event.model.IPipelineFailedEvent;
 import io.flamingock.internal.core.event.model.IPipelineIgnoredEvent;
@@ -93,6 +97,38 @@ public interface EventLifecycleConfigurator<HOLDER> {
      */
     HOLDER setStageFailedListener(Consumer<IStageFailedEvent> listener);
 
+    /**
+     * Sets the listener to be notified when a change is started.
+     *
+     * @param listener consumer of the change started event
+     * @return fluent builder
+     */
+    HOLDER setChangeStartedListener(Consumer<IChangeStartedEvent> listener);
+
+    /**
+     * Sets the listener to be notified when a change is successfully applied.
+     *
+     * @param listener consumer of the change completed event
+     * @return fluent builder
+     */
+    HOLDER setChangeCompletedListener(Consumer<IChangeCompletedEvent> listener);
+
+    /**
+     * Sets the listener to be notified when a change fails without being rolled back.
+     *
+     * @param listener consumer of the change failed event
+     * @return fluent builder
+     */
+    HOLDER setChangeFailedListener(Consumer<IChangeFailedEvent> listener);
+
+    /**
+     * Sets the listener to be notified when a failed change is rolled back.
+     *
+     * @param listener consumer of the change rolled back event
+     * @return fluent builder
+     */
+    HOLDER setChangeRolledBackListener(Consumer<IChangeRolledBackEvent> listener);
+
     /**
      * Gets the registered pipeline started listener.
      *
@@ -149,4 +185,32 @@ public interface EventLifecycleConfigurator<HOLDER> {
      */
     Consumer<IStageFailedEvent> getStageFailureListener();
 
+    /**
+     * Gets the registered change started listener.
+     *
+     * @return change started event listener
+     */
+    Consumer<IChangeStartedEvent> getChangeStartedListener();
+
+    /**
+     * Gets the registered change completed listener.
+     *
+     * @return change completed event listener
+     */
+    Consumer<IChangeCompletedEvent> getChangeCompletedListener();
+
+    /**
+     * Gets the registered change failed listener.
+     *
+     * @return change failed event listener
+     */
+    Consumer<IChangeFailedEvent> getChangeFailedListener();
+
+    /**
+     * Gets the registered change rolled back listener.
+     *
+     * @return change rolled back event listener
+     */
+    Consumer<IChangeRolledBackEvent> getChangeRolledBackListener();
+
 }
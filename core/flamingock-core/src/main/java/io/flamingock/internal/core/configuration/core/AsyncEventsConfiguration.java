@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.configuration.core;
+
+import io.flamingock.internal.core.event.AsyncEventPublisher;
+import io.flamingock.internal.core.event.AsyncEventPublisher.OverflowPolicy;
+
+/**
+ * Asynchronous dispatch of the lifecycle events to listeners and plugins. Disabled by default:
+ * listeners then run on the execution thread.
+ */
+public class AsyncEventsConfiguration {
+
+    /**
+     * If true, listeners are notified off the execution thread, each in publishing order.
+     * Default false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Events each listener may have pending before the overflow policy applies. Default 1024.
+     */
+    private int queueCapacity = AsyncEventPublisher.DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * What to do when a listener's queue is full. Default BLOCK, which only discards an event when
+     * the listener makes no room within the drain timeout.
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * How long the runner waits, before returning, for listeners to receive the pending events, and
+     * how long a BLOCK publish waits for room. Default 30 seconds.
+     */
+    private long drainTimeoutMillis = AsyncEventPublisher.DEFAULT_DRAIN_TIMEOUT_MILLIS;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public long getDrainTimeoutMillis() {
+        return drainTimeoutMillis;
+    }
+
+    public void setDrainTimeoutMillis(long drainTimeoutMillis) {
+        this.drainTimeoutMillis = drainTimeoutMillis;
+    }
+}
@@ -46,6 +46,10 @@ public interface CoreConfigurable {
 
     boolean isEnableDefaultExecutionReport();
 
+    void setAsyncEvents(AsyncEventsConfiguration asyncEvents);
+
+    AsyncEventsConfiguration getAsyncEvents();
+
     void setServiceIdentifier(String serviceIdentifier);
 
     void setMetadata(Map<String, Object> metadata);
@@ -51,6 +51,11 @@ public class CoreConfiguration implements CoreConfigurable {
      */
     private boolean enableDefaultExecutionReport = true;
 
+    /**
+     * Asynchronous dispatch of the lifecycle events. Disabled by default.
+     */
+    private AsyncEventsConfiguration asyncEvents = new AsyncEventsConfiguration();
+
     /**
      * Service identifier.
      */
@@ -122,6 +127,16 @@ public class CoreConfiguration implements CoreConfigurable {
         return enableDefaultExecutionReport;
     }
 
+    @Override
+    public void setAsyncEvents(AsyncEventsConfiguration asyncEvents) {
+        this.asyncEvents = asyncEvents != null ? asyncEvents : new AsyncEventsConfiguration();
+    }
+
+    @Override
+    public AsyncEventsConfiguration getAsyncEvents() {
+        return asyncEvents;
+    }
+
     @Override
     public void setServiceIdentifier(String serviceIdentifier) {
         this.serviceIdentifier = serviceIdentifier;
@@ -36,6 +36,17 @@ public interface CoreConfigurator<HOLDER> {
 
     boolean isEnableDefaultExecutionReport();
 
+    /**
+     * Dispatches the lifecycle events to listeners and plugins off the execution thread, so slow
+     * listeners don't delay the migration. The runner drains them before returning.
+     *
+     * @param asyncEvents async dispatch settings
+     * @return fluent builder
+     */
+    HOLDER setAsyncEvents(AsyncEventsConfiguration asyncEvents);
+
+    AsyncEventsConfiguration getAsyncEvents();
+
     HOLDER setServiceIdentifier(String serviceIdentifier);
 
     HOLDER setMetadata(Map<String, Object> metadata);
@@ -0,0 +1,432 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.event;
+
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.core.event.model.Event;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publisher that hands events to its listeners off the execution thread, so a slow listener doesn't
+ * add latency to the migration or to the time the lock is held.
+ *
+ * <p>Each listener has its own bounded ring buffer, drained in order by one task at a time on the
+ * listener's executor. Listeners therefore see events in publishing order, and a slow listener only
+ * delays itself. When a buffer is full, the {@link OverflowPolicy} decides between blocking the
+ * execution thread and discarding events.</p>
+ *
+ * <p>{@link #close()} waits, up to the drain timeout, for every buffered event to be delivered. The
+ * runner calls it before returning, so listeners have seen the whole execution by then. A listener
+ * that isn't drained in time has its pending events discarded and its dedicated thread interrupted.
+ * Events published after closing are delivered synchronously, except to such a listener, which may
+ * still be busy with an earlier event: they are discarded for it, so it never sees two events at once
+ * or out of order.</p>
+ */
+public class AsyncEventPublisher implements EventPublisher, AutoCloseable {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("AsyncEvent");
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final long DEFAULT_DRAIN_TIMEOUT_MILLIS = 30_000L;
+
+    public enum OverflowPolicy {
+        /**
+         * The execution thread waits for the listener to make room, up to the drain timeout. If there's
+         * still no room by then, the event is discarded, so a stuck listener can't stall the execution.
+         */
+        BLOCK,
+        /**
+         * The oldest buffered event is discarded to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * The new event is discarded.
+         */
+        DROP_NEWEST
+    }
+
+    private final List<Dispatcher> dispatchers;
+    private final List<ExecutorService> ownedExecutors;
+    private final long drainTimeoutMillis;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private AsyncEventPublisher(List<Dispatcher> dispatchers,
+                                List<ExecutorService> ownedExecutors,
+                                long drainTimeoutMillis) {
+        this.dispatchers = dispatchers;
+        this.ownedExecutors = ownedExecutors;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void publish(Event event) {
+        if (closed.get()) {
+            dispatchers.forEach(dispatcher -> dispatcher.deliverAfterClose(event));
+            return;
+        }
+        dispatchers.forEach(dispatcher -> dispatcher.offer(event));
+    }
+
+    /**
+     * @return events discarded so far, by the overflow policy or on closing, across all listeners
+     */
+    public long getDroppedCount() {
+        return dispatchers.stream().mapToLong(Dispatcher::getDroppedCount).sum();
+    }
+
+    /**
+     * Waits for the buffered events to be delivered, up to the drain timeout, and releases the
+     * executors this publisher created. Listeners not drained by then lose their pending events, and
+     * the executors are shut down immediately. Idempotent.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMillis);
+        boolean drained = true;
+        for (Dispatcher dispatcher : dispatchers) {
+            if (!dispatcher.awaitDrained(deadline)) {
+                drained = false;
+                logger.warn("Event listener not drained within {}ms, discarding {} pending events [listener={}]",
+                        drainTimeoutMillis, dispatcher.abandon(), dispatcher.getListenerName());
+            }
+        }
+        if (drained) {
+            ownedExecutors.forEach(ExecutorService::shutdown);
+        } else {
+            // interrupts listeners still busy with an event
+            ownedExecutors.forEach(ExecutorService::shutdownNow);
+        }
+        long dropped = getDroppedCount();
+        if (dropped > 0) {
+            logger.warn("{} async events were discarded, by the overflow policy or on closing", dropped);
+        }
+    }
+
+    public static class Builder {
+
+        private final List<EventPublisher> listeners = new ArrayList<>();
+        private final List<Executor> executors = new ArrayList<>();
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private long drainTimeoutMillis = DEFAULT_DRAIN_TIMEOUT_MILLIS;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a listener drained by a dedicated daemon thread.
+         */
+        public Builder addListener(EventPublisher listener) {
+            return addListener(listener, null);
+        }
+
+        /**
+         * Adds a listener drained by the given executor. It's never run by more than one of the
+         * executor's threads at a time, so ordering is preserved on a shared pool too.
+         */
+        public Builder addListener(EventPublisher listener, Executor executor) {
+            listeners.add(listener);
+            executors.add(executor);
+            return this;
+        }
+
+        public Builder setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder setDrainTimeoutMillis(long drainTimeoutMillis) {
+            this.drainTimeoutMillis = drainTimeoutMillis;
+            return this;
+        }
+
+        public AsyncEventPublisher build() {
+            if (queueCapacity <= 0) {
+                throw new FlamingockException("Async event queue capacity must be positive: " + queueCapacity);
+            }
+            if (overflowPolicy == null) {
+                throw new FlamingockException("Async event overflow policy cannot be null");
+            }
+            List<Dispatcher> dispatchers = new ArrayList<>(listeners.size());
+            List<ExecutorService> ownedExecutors = new ArrayList<>();
+            for (int i = 0; i < listeners.size(); i++) {
+                Executor executor = executors.get(i);
+                if (executor == null) {
+                    ExecutorService dedicated = newDedicatedExecutor(i);
+                    ownedExecutors.add(dedicated);
+                    executor = dedicated;
+                }
+                dispatchers.add(new Dispatcher(listeners.get(i), executor, queueCapacity, overflowPolicy, drainTimeoutMillis));
+            }
+            return new AsyncEventPublisher(
+                    Collections.unmodifiableList(dispatchers),
+                    Collections.unmodifiableList(ownedExecutors),
+                    drainTimeoutMillis);
+        }
+
+        private static ExecutorService newDedicatedExecutor(int index) {
+            return Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "flamingock-event-listener-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Ring buffer of one listener. At most one drain task is scheduled at a time: it's submitted
+     * when an event arrives at an idle buffer and ends once the buffer is empty.
+     */
+    private static final class Dispatcher implements Runnable {
+
+        private final EventPublisher listener;
+        private final Executor executor;
+        private final OverflowPolicy overflowPolicy;
+        private final long blockTimeoutNanos;
+        private final Event[] buffer;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+        private final Condition idle = lock.newCondition();
+        private int head;
+        private int size;
+        private boolean scheduled;
+        private boolean abandoned;
+        private long dropped;
+
+        private Dispatcher(EventPublisher listener,
+                           Executor executor,
+                           int capacity,
+                           OverflowPolicy overflowPolicy,
+                           long blockTimeoutMillis) {
+            this.listener = listener;
+            this.executor = executor;
+            this.overflowPolicy = overflowPolicy;
+            this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, blockTimeoutMillis));
+            this.buffer = new Event[capacity];
+        }
+
+        private void offer(Event event) {
+            boolean schedule;
+            lock.lock();
+            try {
+                if (abandoned) {
+                    dropped++;
+                    return;
+                }
+                if (size == buffer.length) {
+                    switch (overflowPolicy) {
+                        case DROP_NEWEST:
+                            dropped++;
+                            return;
+                        case DROP_OLDEST:
+                            poll();
+                            dropped++;
+                            break;
+                        case BLOCK:
+                        default:
+                            if (!awaitNotFull()) {
+                                dropped++;
+                                logger.debug("Event listener buffer still full after {}ms, discarding event [listener={} event={}]",
+                                        TimeUnit.NANOSECONDS.toMillis(blockTimeoutNanos), getListenerName(),
+                                        event.getClass().getSimpleName());
+                                return;
+                            }
+                    }
+                }
+                buffer[(head + size) % buffer.length] = event;
+                size++;
+                schedule = !scheduled;
+                scheduled = true;
+            } finally {
+                lock.unlock();
+            }
+            if (schedule) {
+                schedule();
+            }
+        }
+
+        /**
+         * Called holding the lock. Waits for room up to the block timeout, ignoring interrupts until
+         * it returns.
+         *
+         * @return false if the buffer is still full
+         */
+        private boolean awaitNotFull() {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            boolean interrupted = false;
+            try {
+                while (size == buffer.length) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    try {
+                        notFull.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                return true;
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Event listener executor rejected the drain task, draining on the caller thread [listener={}]",
+                        getListenerName());
+                run();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Event event;
+                lock.lock();
+                try {
+                    if (size == 0) {
+                        scheduled = false;
+                        idle.signalAll();
+                        return;
+                    }
+                    event = poll();
+                    notFull.signal();
+                } finally {
+                    lock.unlock();
+                }
+                deliver(event);
+            }
+        }
+
+        private Event poll() {
+            Event event = buffer[head];
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+            size--;
+            return event;
+        }
+
+        private void deliver(Event event) {
+            try {
+                listener.publish(event);
+            } catch (RuntimeException e) {
+                logger.warn("Event listener failed [listener={} event={}]",
+                        getListenerName(), event.getClass().getSimpleName(), e);
+            }
+        }
+
+        /**
+         * Delivers on the caller thread, unless the listener was abandoned at closing: it may still be
+         * running an earlier event, so the new one is discarded.
+         */
+        private void deliverAfterClose(Event event) {
+            lock.lock();
+            try {
+                if (abandoned) {
+                    dropped++;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            deliver(event);
+        }
+
+        /**
+         * Discards the pending events and stops delivering to this listener.
+         *
+         * @return the number of events discarded
+         */
+        private int abandon() {
+            lock.lock();
+            try {
+                abandoned = true;
+                int discarded = size;
+                while (size > 0) {
+                    poll();
+                }
+                dropped += discarded;
+                notFull.signalAll();
+                return discarded;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean awaitDrained(long deadlineNanos) {
+            lock.lock();
+            try {
+                while (scheduled) {
+                    long remaining = deadlineNanos - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    idle.awaitNanos(remaining);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long getDroppedCount() {
+            lock.lock();
+            try {
+                return dropped;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private String getListenerName() {
+            return listener.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.event.listener;
+
+import io.flamingock.internal.common.core.response.NdjsonResponseChannel;
+import io.flamingock.internal.common.core.response.data.StageResult;
+import io.flamingock.internal.common.core.response.data.StageState;
+import io.flamingock.internal.core.event.EventPublisher;
+import io.flamingock.internal.core.event.model.Event;
+import io.flamingock.internal.core.event.model.IChangeFinishedEvent;
+import io.flamingock.internal.core.event.model.IPipelineStartedEvent;
+import io.flamingock.internal.core.event.model.IStageCompletedEvent;
+import io.flamingock.internal.core.event.model.IStageFailedEvent;
+import io.flamingock.internal.core.event.model.IStageStartedEvent;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+/**
+ * Streams the progress of the execution to a {@link NdjsonResponseChannel} as it happens, one
+ * record per event, instead of rendering it once the pipeline is done. Nothing is retained
+ * between events, so the cost doesn't grow with the number of changes.
+ *
+ * <p>Each change that runs is written with its {@code ChangeResult}, in the format of the
+ * response envelope. Stages are written with their counts only, their changes having been
+ * written already. The response envelope itself is the last record, written by the CLI runner.</p>
+ *
+ * <p>Defensive: must never throw. A failing write is logged and the execution goes on.</p>
+ */
+public final class StreamingExecutionReporter implements EventPublisher {
+
+    public static final String PIPELINE_STARTED_RECORD = "pipeline_started";
+    public static final String STAGE_STARTED_RECORD = "stage_started";
+    public static final String CHANGE_RECORD = "change";
+    public static final String STAGE_COMPLETED_RECORD = "stage_completed";
+    public static final String STAGE_FAILED_RECORD = "stage_failed";
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("Report");
+
+    private final NdjsonResponseChannel channel;
+
+    public StreamingExecutionReporter(NdjsonResponseChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(Event event) {
+        try {
+            if (event instanceof IChangeFinishedEvent) {
+                IChangeFinishedEvent changeEvent = (IChangeFinishedEvent) event;
+                channel.writeRecord(CHANGE_RECORD, changeEvent.getStageName(), changeEvent.getResult());
+            } else if (event instanceof IStageStartedEvent) {
+                channel.writeRecord(STAGE_STARTED_RECORD, ((IStageStartedEvent) event).getStageName(), null);
+            } else if (event instanceof IStageCompletedEvent) {
+                StageResult result = ((IStageCompletedEvent) event).getResult();
+                channel.writeRecord(STAGE_COMPLETED_RECORD, result.getStageName(), new StageSummary(result));
+            } else if (event instanceof IStageFailedEvent) {
+                StageResult result = ((IStageFailedEvent) event).getResult();
+                channel.writeRecord(STAGE_FAILED_RECORD, result.getStageName(), new StageSummary(result));
+            } else if (event instanceof IPipelineStartedEvent) {
+                channel.writeRecord(PIPELINE_STARTED_RECORD, null, null);
+            }
+        } catch (Throwable t) {
+            logger.warn("Streaming report record failed [event={}]: {}", event.getClass().getSimpleName(), t.toString());
+        }
+    }
+
+    /**
+     * Stage record payload: the stage result without its changes.
+     */
+    static final class StageSummary {
+
+        private final StageState state;
+        private final long durationMs;
+        private final int totalChanges;
+        private final int appliedCount;
+        private final int alreadyAppliedCount;
+        private final int failedCount;
+
+        StageSummary(StageResult result) {
+            this.state = result.getState();
+            this.durationMs = result.getDurationMs();
+            this.totalChanges = result.getTotalChanges();
+            this.appliedCount = result.getAppliedCount();
+            this.alreadyAppliedCount = result.getAlreadyAppliedCount();
+            this.failedCount = result.getFailedCount();
+        }
+
+        public StageState getState() {
+            return state;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        public int getTotalChanges() {
+            return totalChanges;
+        }
+
+        public int getAppliedCount() {
+            return appliedCount;
+        }
+
+        public int getAlreadyAppliedCount() {
+            return alreadyAppliedCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+    }
+}
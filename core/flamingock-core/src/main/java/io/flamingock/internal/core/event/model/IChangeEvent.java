@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.event.model;
+
+/**
+ * Common payload of the change lifecycle events. They are published only for changes that run:
+ * already applied changes are skipped silently.
+ */
+public interface IChangeEvent extends Event {
+
+    String getChangeId();
+
+    String getStageName();
+
+    /**
+     * @return id of the target system the change runs against, or null if it declares none
+     */
+    String getTargetSystemId();
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.event.model;
+
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+
+/**
+ * Terminal event of a change that ran: exactly one of {@link IChangeCompletedEvent},
+ * {@link IChangeFailedEvent} or {@link IChangeRolledBackEvent} follows each
+ * {@link IChangeStartedEvent}.
+ *
+ * <p>Timings are measured with {@link System#nanoTime()}, so they are monotonic but only
+ * meaningful as durations.</p>
+ */
+public interface IChangeFinishedEvent extends IChangeEvent {
+
+    /**
+     * @return time from the start event to the last audit write, rollback included
+     */
+    long getDurationNanos();
+
+    /**
+     * @return time spent writing audit entries for the change, checkpoints included
+     */
+    long getAuditWriteNanos();
+
+    /**
+     * @return calls the change made on lock-guarded dependencies
+     */
+    long getLockGuardedCallCount();
+
+    ChangeResult getResult();
+}
@@ -17,4 +17,5 @@ package io.flamingock.internal.core.event.model;
 
 public interface IStageStartedEvent extends Event {
 
+    String getStageName();
 }
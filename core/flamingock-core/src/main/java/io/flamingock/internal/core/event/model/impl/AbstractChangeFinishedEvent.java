@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.event.model.impl;
+
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.core.event.model.IChangeFinishedEvent;
+
+public abstract class AbstractChangeFinishedEvent extends AbstractChangeEvent implements IChangeFinishedEvent {
+
+    private final ChangeResult result;
+    private final long durationNanos;
+    private final long auditWriteNanos;
+    private final long lockGuardedCallCount;
+
+    protected AbstractChangeFinishedEvent(String stageName,
+                                          ChangeResult result,
+                                          long durationNanos,
+                                          long auditWriteNanos,
+                                          long lockGuardedCallCount) {
+        super(result.getChangeId(), stageName, result.getTargetSystemId());
+        this.result = result;
+        this.durationNanos = durationNanos;
+        this.auditWriteNanos = auditWriteNanos;
+        this.lockGuardedCallCount = lockGuardedCallCount;
+    }
+
+    @Override
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    @Override
+    public long getAuditWriteNanos() {
+        return auditWriteNanos;
+    }
+
+    @Override
+    public long getLockGuardedCallCount() {
+        return lockGuardedCallCount;
+    }
+
+    @Override
+    public ChangeResult getResult() {
+        return result;
+    }
+}
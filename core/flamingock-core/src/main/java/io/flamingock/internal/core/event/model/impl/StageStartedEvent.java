@@ -18,4 +18,15 @@ package io.flamingock.internal.core.event.model.impl;
 import io.flamingock.internal.core.event.model.IStageStartedEvent;
 
 public class StageStartedEvent implements IStageStartedEvent {
+
+    private final String stageName;
+
+    public StageStartedEvent(String stageName) {
+        this.stageName = stageName;
+    }
+
+    @Override
+    public String getStageName() {
+        return stageName;
+    }
 }
@@ -16,9 +16,19 @@
 package io.flamingock.internal.core.external.store;
 
 import io.flamingock.internal.core.external.store.audit.community.CommunityAuditPersistence;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
 
+import java.util.Optional;
+
 public interface CommunityAuditStore extends AuditStore<CommunityAuditPersistence> {
 
     CommunityLockService getLockService();
+
+    /**
+     * The audit history as seen by the {@code AUDIT_COMPACT} operation; empty for stores that do not support it.
+     */
+    default Optional<CompactableAuditHistory> getCompactableAuditHistory() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.external.store.audit;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+
+/**
+ * Flat JSON form of an {@link AuditEntry} used by the NDJSON archives (pruned journal events, compacted audit
+ * history). Written field by field because {@code AuditEntry} hides {@code createdAt} from Jackson and core
+ * carries no {@code java.time} module; dates are ISO-8601 strings and enums their names.
+ */
+public final class AuditEntryJson {
+
+    private AuditEntryJson() {
+    }
+
+    public static ObjectNode write(ObjectNode node, AuditEntry entry) {
+        node.put("executionId", entry.getExecutionId());
+        node.put("stageId", entry.getStageId());
+        node.put("changeId", entry.getChangeId());
+        node.put("author", entry.getAuthor());
+        node.put("createdAt", entry.getCreatedAt() != null ? entry.getCreatedAt().toString() : null);
+        node.put("state", entry.getState() != null ? entry.getState().name() : null);
+        node.put("type", entry.getType() != null ? entry.getType().name() : null);
+        node.put("className", entry.getClassName());
+        node.put("methodName", entry.getMethodName());
+        node.put("sourceFile", entry.getSourceFile());
+        node.put("metadata", entry.getMetadata() != null ? entry.getMetadata().toString() : null);
+        node.put("executionMillis", entry.getExecutionMillis());
+        node.put("executionHostname", entry.getExecutionHostname());
+        node.put("errorTrace", entry.getErrorTrace());
+        node.put("txType", entry.getTxType() != null ? entry.getTxType().name() : null);
+        node.put("targetSystemId", entry.getTargetSystemId());
+        node.put("order", entry.getOrder());
+        node.put("recoveryStrategy", entry.getRecoveryStrategy() != null ? entry.getRecoveryStrategy().name() : null);
+        node.put("transactionFlag", entry.getTransactionFlag());
+        node.put("systemChange", entry.getSystemChange());
+        return node;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.external.store.audit.community;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditHistoryReader;
+
+import java.util.Collection;
+
+/**
+ * An append-mode audit history whose individual entries can be removed, used by the {@code AUDIT_COMPACT}
+ * operation. Callers hold the community lock, so no change is being audited meanwhile.
+ * <p>
+ * Audit rows carry no identity of their own through {@link AuditEntry}, so an entry is matched by
+ * {@code (changeId, executionId, state, createdAt)}. Callers never pass an entry sharing that key with one they
+ * keep.
+ */
+public interface CompactableAuditHistory extends AuditHistoryReader {
+
+    /**
+     * Deletes the rows matching the given entries.
+     *
+     * @return the number of rows deleted
+     */
+    long deleteAuditEntries(Collection<AuditEntry> entries);
+}
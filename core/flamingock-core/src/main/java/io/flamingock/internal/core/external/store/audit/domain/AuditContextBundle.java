@@ -18,6 +18,7 @@ package io.flamingock.internal.core.external.store.audit.domain;
 import io.flamingock.internal.common.core.audit.AuditTxType;
 import io.flamingock.internal.util.ThrowableUtil;
 import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
 import io.flamingock.internal.core.pipeline.execution.ExecutionContext;
 import io.flamingock.internal.core.change.loaded.AbstractLoadedChange;
@@ -132,7 +133,7 @@ public abstract class AuditContextBundle {
                 loadedChange.getSourceFile(),
                 runtimeContext.getDuration(),
                 stageExecutionContext.getHostname(),
-                stageExecutionContext.getMetadata(),
+                getMetadata(),
                 loadedChange.isSystem(),
                 ThrowableUtil.serialize(runtimeContext.getError().orElse(null)),
                 getAuditTxType(),
@@ -143,6 +144,16 @@ public abstract class AuditContextBundle {
         );
     }
 
+    private Object getMetadata() {
+        Object metadata = getExecutionContext().getMetadata();
+        Object withStepCursor = getRuntimeContext().getStepCursor()
+                .<Object>map(cursor -> StepCursor.write(metadata, cursor))
+                .orElse(metadata);
+        return getRuntimeContext().getBatchCursor()
+                .<Object>map(cursor -> cursor.writeTo(withStepCursor))
+                .orElse(withStepCursor);
+    }
+
     private AuditEntry.Status getAuditStatus() {
         switch (getOperation()) {
             case START_EXECUTION:
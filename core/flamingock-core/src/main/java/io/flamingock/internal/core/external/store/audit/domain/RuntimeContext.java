@@ -15,6 +15,8 @@
  */
 package io.flamingock.internal.core.external.store.audit.domain;
 
+import io.flamingock.internal.common.core.audit.BatchCursor;
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.core.change.navigation.step.FailedWithErrorStep;
 import io.flamingock.internal.core.change.navigation.step.StartStep;
 import io.flamingock.internal.core.change.navigation.step.ChangeStep;
@@ -45,18 +47,26 @@ public final class RuntimeContext {
 
     private final Throwable error;
 
+    private final int stepCursor;
+
+    private final BatchCursor batchCursor;
+
     private RuntimeContext(String stageName,
                            ExecutionResult executionResult,
                            long duration,
                            LocalDateTime appliedAt,
                            String methodExecutor,
-                           Throwable error) {
+                           Throwable error,
+                           int stepCursor,
+                           BatchCursor batchCursor) {
         this.stageName = stageName;
         this.executionResult = executionResult;
         this.duration = duration;
         this.appliedAt = appliedAt;
         this.methodExecutor = methodExecutor;
         this.error = error;
+        this.stepCursor = stepCursor;
+        this.batchCursor = batchCursor;
     }
 
     public String getStageName() {
@@ -79,6 +89,20 @@ public final class RuntimeContext {
         return Optional.ofNullable(error);
     }
 
+    /**
+     * @return the step cursor to persist with the audit entry, if any
+     */
+    public Optional<Integer> getStepCursor() {
+        return stepCursor > StepCursor.NONE ? Optional.of(stepCursor) : Optional.empty();
+    }
+
+    /**
+     * @return the batch cursor to persist with the audit entry, if any
+     */
+    public Optional<BatchCursor> getBatchCursor() {
+        return Optional.ofNullable(batchCursor);
+    }
+
     public boolean isSuccess() {
         return executionResult == ExecutionResult.SUCCESS;
     }
@@ -101,6 +125,10 @@ public final class RuntimeContext {
 
         private Throwable error;
 
+        private int stepCursor = StepCursor.NONE;
+
+        private BatchCursor batchCursor;
+
         private Builder() {
         }
 
@@ -108,6 +136,8 @@ public final class RuntimeContext {
             duration = 0L;
             methodExecutor = changeStep.getChange().getApplyMethodName();
             stageName = changeStep.getChange().getStageName();
+            stepCursor = changeStep.getChange().getStepCursor();
+            batchCursor = changeStep.getChange().getBatchCursor().orElse(null);
             setResult(changeStep);
             return this;
         }
@@ -116,6 +146,8 @@ public final class RuntimeContext {
             duration = changeStep.getDuration();
             methodExecutor = changeStep.getChange().getApplyMethodName();
             stageName = changeStep.getChange().getStageName();
+            // Chunks committed before a failure stay applied, so a retry resumes after them
+            batchCursor = changeStep.isSuccessStep() ? null : changeStep.getChange().getBatchCursor().orElse(null);
             setResult(changeStep);
             return this;
         }
@@ -147,6 +179,11 @@ public final class RuntimeContext {
         }
 
 
+        public Builder setStepCursor(int stepCursor) {
+            this.stepCursor = stepCursor;
+            return this;
+        }
+
         public Builder setAppliedAt(LocalDateTime appliedAt) {
             this.appliedAt = appliedAt;
             return this;
@@ -159,7 +196,7 @@ public final class RuntimeContext {
             if (appliedAt == null) {
                 throw new IllegalArgumentException("[appliedAt] cannot be null when building RuntimeContext");
             }
-            return new RuntimeContext(stageName, executionResult, duration, appliedAt, methodExecutor, error);
+            return new RuntimeContext(stageName, executionResult, duration, appliedAt, methodExecutor, error, stepCursor, batchCursor);
 
         }
     }
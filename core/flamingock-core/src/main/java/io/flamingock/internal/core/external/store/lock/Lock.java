@@ -245,7 +245,10 @@ public abstract class Lock {
     }
 
     protected void handleLockException(boolean acquiringLock, Instant shouldStopTryingAt, LockServiceException ex) {
-        LockAcquisition currentLock = lockService.getLockInfo(lockKey);
+        // stores that learn the current holder from the failed write save the extra read
+        LockAcquisition currentLock = ex.getCurrentLock() != null
+                ? ex.getCurrentLock()
+                : lockService.getLockInfo(lockKey);
         if (timeService.isPast(shouldStopTryingAt)) {
             throw new LockException(String.format(
                     "Quit trying lock after %s millis due to LockPersistenceException: \n\tcurrent lock:  %s\n\tnew lock: %s\n\tacquireLockQuery: %s\n\tdb error detail: %s",
@@ -39,4 +39,12 @@ public class LockAcquisition {
     public boolean doesBelongTo(RunnerId owner) {
         return owner.equals(this.owner);
     }
+
+    @Override
+    public String toString() {
+        return "LockAcquisition{" +
+                "owner=" + owner +
+                ", acquiredForMillis=" + acquiredForMillis +
+                '}';
+    }
 }
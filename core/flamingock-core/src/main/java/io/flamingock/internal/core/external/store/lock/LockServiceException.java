@@ -35,10 +35,21 @@ public class LockServiceException extends RuntimeException {
    */
   private final String dbErrorDetail;
 
+  /**
+   * Lock currently held in the database, when the store already knows it from the failed operation.
+   * Null means the caller has to read it
+   */
+  private final LockAcquisition currentLock;
+
   public LockServiceException(String acquireLockQuery, String newLockEntity, String dbErrorDetail) {
+    this(acquireLockQuery, newLockEntity, dbErrorDetail, null);
+  }
+
+  public LockServiceException(String acquireLockQuery, String newLockEntity, String dbErrorDetail, LockAcquisition currentLock) {
     this.acquireLockQuery = acquireLockQuery;
     this.newLockEntity = newLockEntity;
     this.dbErrorDetail = dbErrorDetail;
+    this.currentLock = currentLock;
   }
 
   public String getAcquireLockQuery() {
@@ -53,6 +64,10 @@ public class LockServiceException extends RuntimeException {
     return dbErrorDetail;
   }
 
+  public LockAcquisition getCurrentLock() {
+    return currentLock;
+  }
+
   @Override
   public String getMessage() {
     return toString();
@@ -64,6 +79,7 @@ public class LockServiceException extends RuntimeException {
         ", acquireLockQuery='" + acquireLockQuery + '\'' +
         ", newLockEntity='" + newLockEntity + '\'' +
         ", dbErrorDetail='" + dbErrorDetail + '\'' +
+        (currentLock != null ? ", currentLock=" + currentLock : "") +
         "} ";
   }
 }
@@ -20,6 +20,8 @@ import io.flamingock.internal.core.external.store.lock.Lock;
 import io.flamingock.internal.core.external.store.lock.LockAcquisition;
 import io.flamingock.internal.core.external.store.lock.LockException;
 import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.core.jfr.FlamingockJfr;
+import io.flamingock.internal.core.jfr.JfrRecording;
 import io.flamingock.internal.util.id.RunnerId;
 import io.flamingock.internal.util.TimeService;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
@@ -65,22 +67,29 @@ public class CommunityLock extends Lock {
      */
     private void acquire() throws LockException {
         Instant shouldStopTryingAt = timeService.nowPlusMillis(stopTryingAfterMillis);
+        JfrRecording recording = FlamingockJfr.beginLockWait(String.valueOf(lockKey), String.valueOf(owner));
         boolean keepLooping = true;
         boolean firstAttempt = true;
-        do {
-            try {
-                if (firstAttempt) {
-                    logger.debug("Attempting to acquire process lock [timeout={}s]", stopTryingAfterMillis / 1000);
-                    firstAttempt = false;
+        int attempts = 0;
+        try {
+            do {
+                try {
+                    if (firstAttempt) {
+                        logger.debug("Attempting to acquire process lock [timeout={}s]", stopTryingAfterMillis / 1000);
+                        firstAttempt = false;
+                    }
+                    attempts++;
+                    LockAcquisition lockAcquisition = getLockService().upsert(lockKey, owner, leaseMillis);
+                    updateLease(lockAcquisition.getAcquiredForMillis());
+                    keepLooping = false;
+                } catch (LockServiceException ex) {
+                    handleLockException(true, shouldStopTryingAt, ex);
                 }
-                LockAcquisition lockAcquisition = getLockService().upsert(lockKey, owner, leaseMillis);
-                updateLease(lockAcquisition.getAcquiredForMillis());
-                keepLooping = false;
-            } catch (LockServiceException ex) {
-                handleLockException(true, shouldStopTryingAt, ex);
-            }
 
-        } while (keepLooping);
+            } while (keepLooping);
+        } finally {
+            recording.setAttempts(attempts).setSuccess(!keepLooping).commit();
+        }
         logger.info("Lock acquired [lock_key={} owner={} expires_at={}]", lockKey, owner, expiresAt());
     }
 
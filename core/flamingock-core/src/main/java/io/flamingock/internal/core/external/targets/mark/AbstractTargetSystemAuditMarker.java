@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.external.targets.mark;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Base {@link TargetSystemAuditMarker} that keeps the last {@link #listAll()} result as a snapshot,
+ * so consecutive planner rounds don't re-read the whole mark storage when nothing changed locally.
+ * <p>
+ * The snapshot is invalidated by every local {@link #mark(TargetSystemAuditMark)} and
+ * {@link #clearMarks(Collection)}. Marks written by other processes are only seen after the next
+ * invalidation, which is fine for the marker's advisory nature, as every runner only needs to
+ * reconcile the marks it produced. Call {@link #invalidate()} to force a fresh read.
+ * <p>
+ * Subclasses implement the storage access through {@link #loadAll()}, {@link #deleteMarks(Collection)}
+ * and {@link #writeMark(TargetSystemAuditMark)}.
+ */
+public abstract class AbstractTargetSystemAuditMarker implements TargetSystemAuditMarker {
+
+    private volatile Set<TargetSystemAuditMark> snapshot;
+
+    /**
+     * Bumped on every invalidation, so a read racing with a local write is not cached
+     */
+    private long generation;
+
+    @Override
+    public Set<TargetSystemAuditMark> listAll() {
+        Set<TargetSystemAuditMark> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        long readGeneration;
+        synchronized (this) {
+            readGeneration = generation;
+        }
+        Set<TargetSystemAuditMark> loaded = Collections.unmodifiableSet(loadAll());
+        synchronized (this) {
+            if (generation == readGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void clearMark(String changeId) {
+        clearMarks(Collections.singletonList(changeId));
+    }
+
+    @Override
+    public void clearMarks(Collection<String> changeIds) {
+        if (changeIds == null || changeIds.isEmpty()) {
+            return;
+        }
+        try {
+            deleteMarks(changeIds);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void mark(TargetSystemAuditMark auditMark) {
+        try {
+            writeMark(auditMark);
+        } finally {
+            invalidate();
+        }
+    }
+
+    /**
+     * Discards the cached snapshot, so the next {@link #listAll()} reads from the storage.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    /**
+     * Reads all the marks from the storage.
+     *
+     * @return a non-null, possibly empty set of marks
+     */
+    protected abstract Set<TargetSystemAuditMark> loadAll();
+
+    /**
+     * Removes the marks for the given, non-empty, collection of change ids in as few round trips as
+     * the storage permits. Must be a no-op for ids without mark.
+     */
+    protected abstract void deleteMarks(Collection<String> changeIds);
+
+    /**
+     * Creates or updates the mark, participating in the change's transaction.
+     *
+     * @see TargetSystemAuditMarker#mark(TargetSystemAuditMark)
+     */
+    protected abstract void writeMark(TargetSystemAuditMark auditMark);
+}
@@ -18,6 +18,8 @@ package io.flamingock.internal.core.external.targets.mark;
 import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
 import io.flamingock.internal.common.core.error.FlamingockException;
 import io.flamingock.internal.core.change.executable.ExecutableChange;
+
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -63,6 +65,22 @@ public interface TargetSystemAuditMarker {
      */
     void clearMark(String changeId);
 
+    /**
+     * Removes the local audit marks for all the given change identifiers.
+     * <p>
+     * Same semantics as {@link #clearMark(String)}, but allows implementations to remove the whole
+     * batch in as few round trips as the storage permits. The default implementation simply clears
+     * the marks one by one.
+     *
+     * @param changeIds the identifiers of the changes whose local marks should be removed.
+     * @throws FlamingockException if the operation fails (e.g., storage unavailable).
+     */
+    default void clearMarks(Collection<String> changeIds) {
+        for (String changeId : changeIds) {
+            clearMark(changeId);
+        }
+    }
+
     /**
      * Creates or updates a local audit mark.
      * <p>
@@ -23,6 +23,7 @@ import io.flamingock.internal.core.external.targets.AbstractTargetSystem;
 import io.flamingock.internal.core.external.targets.TransactionalTargetSystem;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -73,6 +74,11 @@ public class TransactionalTargetSystemOpsImpl
         targetSystem.getAuditMarker().clearMark(changeId);
     }
 
+    @Override
+    public void clearMarks(Collection<String> changeIds) {
+        targetSystem.getAuditMarker().clearMarks(changeIds);
+    }
+
     @Override
     public void mark(TargetSystemAuditMark auditMark) {
         targetSystem.getAuditMarker().mark(auditMark);
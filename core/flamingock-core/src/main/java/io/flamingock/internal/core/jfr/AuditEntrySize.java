@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+
+import java.util.Collection;
+
+/**
+ * Estimates the size of audit entries as read from the store. Stores don't report the bytes they
+ * return, so this counts the characters of the textual fields, which dominate the payload, plus a
+ * fixed amount for the rest. Metadata is left out.
+ */
+public final class AuditEntrySize {
+
+    /**
+     * Timestamp, duration, and the enums and flags, roughly as a store encodes them
+     */
+    static final int FIXED_FIELDS_BYTES = 48;
+
+    private AuditEntrySize() {
+    }
+
+    public static long estimate(Collection<AuditEntry> entries) {
+        long bytes = 0;
+        for (AuditEntry entry : entries) {
+            bytes += estimate(entry);
+        }
+        return bytes;
+    }
+
+    public static long estimate(AuditEntry entry) {
+        return FIXED_FIELDS_BYTES
+                + length(entry.getExecutionId())
+                + length(entry.getStageId())
+                + length(entry.getChangeId())
+                + length(entry.getAuthor())
+                + length(entry.getClassName())
+                + length(entry.getMethodName())
+                + length(entry.getSourceFile())
+                + length(entry.getExecutionHostname())
+                + length(entry.getErrorTrace())
+                + length(entry.getTargetSystemId())
+                + length(entry.getOrder());
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
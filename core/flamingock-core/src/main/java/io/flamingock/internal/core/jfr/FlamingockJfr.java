@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+/**
+ * Entry point to the Flight Recorder events Flamingock emits on its hot paths.
+ *
+ * <p>This is the Java 8 variant, which records nothing. The multi-release jar ships the one that
+ * emits {@code jdk.jfr} events under {@code META-INF/versions/11}, with the same API. Both must be
+ * kept in sync.</p>
+ */
+public final class FlamingockJfr {
+
+    public static final String LOCK_WAIT = "io.flamingock.LockWait";
+    public static final String AUDIT_READ = "io.flamingock.AuditRead";
+    public static final String AUDIT_WRITE = "io.flamingock.AuditWrite";
+    public static final String CHANGE_EXECUTION = "io.flamingock.ChangeExecution";
+    public static final String PROXY_CREATION = "io.flamingock.ProxyCreation";
+
+    private FlamingockJfr() {
+    }
+
+    /**
+     * @return whether this runtime can emit the events at all, regardless of them being enabled
+     */
+    public static boolean isAvailable() {
+        return false;
+    }
+
+    public static JfrRecording beginLockWait(String lockKey, String owner) {
+        return JfrRecording.NO_OP;
+    }
+
+    public static JfrRecording beginAuditRead() {
+        return JfrRecording.NO_OP;
+    }
+
+    public static JfrRecording beginAuditWrite(String changeId, String targetSystemId, String auditStatus) {
+        return JfrRecording.NO_OP;
+    }
+
+    public static JfrRecording beginChangeExecution(String changeId, String stageName, String targetSystemId) {
+        return JfrRecording.NO_OP;
+    }
+
+    public static JfrRecording beginProxyCreation(Class<?> proxiedType, Class<?> targetType) {
+        return JfrRecording.NO_OP;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditWriter;
+import io.flamingock.internal.util.Result;
+
+/**
+ * Records each audit write as a {@value FlamingockJfr#AUDIT_WRITE} event. A write reported as
+ * {@link Result.Error} is recorded as unsuccessful, like one that throws.
+ */
+public final class JfrAuditWriter implements AuditWriter {
+
+    private final AuditWriter delegate;
+
+    public JfrAuditWriter(AuditWriter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Result writeEntry(AuditEntry auditEntry) {
+        JfrRecording recording = FlamingockJfr.beginAuditWrite(
+                auditEntry.getChangeId(),
+                auditEntry.getTargetSystemId(),
+                auditEntry.getState() != null ? auditEntry.getState().name() : null);
+        boolean success = false;
+        try {
+            Result result = delegate.writeEntry(auditEntry);
+            success = !(result instanceof Result.Error);
+            return result;
+        } finally {
+            recording.setSuccess(success).commit();
+        }
+    }
+}
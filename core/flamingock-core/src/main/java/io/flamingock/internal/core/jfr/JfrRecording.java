@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+/**
+ * A Flight Recorder event in progress, started by {@link FlamingockJfr}. On JDK 11+ it's the
+ * {@code jdk.jfr.Event} itself; elsewhere, and whenever the event is disabled, it's {@link #NO_OP}.
+ *
+ * <p>Each event only records the fields it declares: the setters of the others are no-ops.</p>
+ */
+public interface JfrRecording {
+
+    JfrRecording NO_OP = new JfrRecording() {
+    };
+
+    default JfrRecording setSuccess(boolean success) {
+        return this;
+    }
+
+    default JfrRecording setStatus(String status) {
+        return this;
+    }
+
+    default JfrRecording setAttempts(int attempts) {
+        return this;
+    }
+
+    default JfrRecording setEntryCount(long entryCount) {
+        return this;
+    }
+
+    default JfrRecording setBytes(long bytes) {
+        return this;
+    }
+
+    /**
+     * Stops the timing, so fields that are expensive to compute can be set after checking
+     * {@link #shouldCommit()} without adding to the duration.
+     */
+    default void end() {
+    }
+
+    /**
+     * @return whether the event is enabled and over its threshold
+     */
+    default boolean shouldCommit() {
+        return false;
+    }
+
+    /**
+     * Ends the event, if not ended yet, and writes it to the recordings that enable it.
+     */
+    default void commit() {
+    }
+}
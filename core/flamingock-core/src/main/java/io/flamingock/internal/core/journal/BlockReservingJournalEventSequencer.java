@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.common.core.journal.JournalEventType;
+
+/**
+ * Hands out stream positions from blocks reserved through a {@link JournalSequenceAllocator}, for streams with
+ * several concurrent writers. One round trip to the shared counter buys {@code blockSize} positions, which are
+ * then handed out in memory; the instance is thread-safe.
+ * <p>
+ * Ordering contract — weaker than the contiguous {@link JournalEventSequencer}, and deliberately so:
+ * <ul>
+ *   <li><b>Unique:</b> a position is handed out at most once across every writer sharing the counter, so the
+ *       unique {@code (streamId, streamSequence)} index is never the point of contention.</li>
+ *   <li><b>Monotonic per writer:</b> positions from one sequencer increase in the order {@link #newEvent} is
+ *       called.</li>
+ *   <li><b>Gaps are expected:</b> a position is spent as soon as it is handed out, so a failed write leaves a
+ *       hole, and so does the unused tail of a block when the writer stops. A missing position means nothing
+ *       to a consumer — it is neither "lost" nor "still in flight".</li>
+ *   <li><b>Not ordered across writers:</b> a writer holding block {@code [1, 100]} may append position 7 after
+ *       another writer appended 101. Order events of different writers by {@code occurredAt}, then by
+ *       {@code eventId}, which is time-ordered (see {@link TimeOrderedIdGenerator}).</li>
+ * </ul>
+ * {@link #confirm()} is a no-op: there is nothing to give back once a position is handed out.
+ */
+public class BlockReservingJournalEventSequencer extends JournalEventSequencer {
+
+    private final JournalSequenceAllocator allocator;
+    private final int blockSize;
+    private long nextSequence;   // guarded by this
+    private long blockEnd;       // exclusive, guarded by this
+
+    BlockReservingJournalEventSequencer(String streamId, JournalSequenceAllocator allocator, int blockSize) {
+        super(streamId, 0L);
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be at least 1");
+        }
+        this.allocator = allocator;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Builds the next event on a freshly handed-out position, reserving a new block first when the current one is
+     * exhausted. The position is spent whether or not the event is eventually written.
+     */
+    @Override
+    public JournalEvent<AuditEntry> newEvent(AuditEntry payload) {
+        return buildEvent(nextPosition(), payload, JournalEventType.CHANGE_STATE);
+    }
+
+    @Override
+    public void confirm() {
+        // positions are spent when handed out
+    }
+
+    synchronized long nextPosition() {
+        if (nextSequence == blockEnd) {
+            nextSequence = allocator.reserve(getStreamId(), blockSize);
+            blockEnd = nextSequence + blockSize;
+        }
+        return nextSequence++;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link JournalEventStore} that {@link JournalCompactor} can prune.
+ * <p>
+ * Every operation is bounded to one stream and, for deletes, to a sequence range, so each call maps to a
+ * single ranged query or delete on the underlying store.
+ */
+public interface CompactableJournalEventStore extends JournalEventStore {
+
+    /**
+     * Returns the ids of the streams with at least one event.
+     */
+    Set<String> getStreamIds();
+
+    /**
+     * Returns up to {@code limit} events of the stream, acknowledged or not, from {@code fromSequence}
+     * (inclusive) in ascending sequence order.
+     */
+    List<JournalEvent<AuditEntry>> getEvents(String streamId, long fromSequence, int limit);
+
+    /**
+     * Returns how many events the stream holds, acknowledged or not. The default pages through
+     * {@link #getEvents}; stores that can count in a single query should override it.
+     */
+    default long countEvents(String streamId) {
+        int pageSize = 1000;
+        long count = 0L;
+        long from = 1L;
+        while (true) {
+            List<JournalEvent<AuditEntry>> page = getEvents(streamId, from, pageSize);
+            count += page.size();
+            if (page.size() < pageSize) {
+                return count;
+            }
+            from = page.get(page.size() - 1).getStreamSequence() + 1;
+        }
+    }
+
+    /**
+     * Deletes the <em>acknowledged</em> events of the stream whose sequence lies in
+     * {@code [fromSequence, toSequence]}. Unacknowledged events in the range must be left untouched, whatever
+     * the caller asked for.
+     *
+     * @return how many events were deleted
+     */
+    long deleteAcknowledgedEvents(String streamId, long fromSequence, long toSequence);
+}
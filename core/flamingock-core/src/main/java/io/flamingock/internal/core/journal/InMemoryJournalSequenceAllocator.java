@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link JournalSequenceAllocator} whose counters live in this JVM. Only suitable when every writer of a stream
+ * runs in the same process; stores shared by several runners provide their own server-side counter.
+ */
+public class InMemoryJournalSequenceAllocator implements JournalSequenceAllocator {
+
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void seed(String streamId, long lastSequence) {
+        counter(streamId).accumulateAndGet(lastSequence, Math::max);
+    }
+
+    @Override
+    public long reserve(String streamId, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be at least 1");
+        }
+        return counter(streamId).addAndGet(blockSize) - blockSize + 1;
+    }
+
+    private AtomicLong counter(String streamId) {
+        return counters.computeIfAbsent(streamId, id -> new AtomicLong());
+    }
+}
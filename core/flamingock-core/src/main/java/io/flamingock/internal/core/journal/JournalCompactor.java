@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import io.flamingock.core.journal.JournalArchiveSink;
+import io.flamingock.core.journal.JournalRetentionPolicy;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a {@link JournalRetentionPolicy} to a {@link CompactableJournalEventStore}.
+ * <p>
+ * Each stream is walked from its oldest event in pages of {@code batchSize}. With the contiguous
+ * {@link JournalEventSequencer}, sequences are handed out in time order, so the walk stops at the first event
+ * the policy still retains and {@code maxEventsPerStream} is a cutoff on the sequence itself.
+ * <p>
+ * Streams written through {@link BlockReservingJournalEventSequencer} have gaps and are not ordered across
+ * writers, so with {@code orderedSequences} off the count limit is applied to the events actually stored,
+ * the age limit is checked on every event instead of stopping at the first retained one, and a deleted range
+ * never spans a gap, which a writer holding an older block may still fill.
+ * <p>
+ * Expired events are deleted by contiguous sequence range, restricted to acknowledged ones; unacknowledged
+ * events and the last event of every stream are never removed. A pass reads at most {@code maxBatchesPerRun}
+ * pages across all streams, which bounds the load a single pass puts on the store.
+ * <p>
+ * With an archive sink, a range is deleted only after the sink has stored it, and ranges are split at every
+ * unacknowledged event so that an event acknowledged between the read and the delete can never be deleted
+ * without having been archived.
+ * <p>
+ * {@link #start()} runs the passes on a single daemon thread, every {@code compactionInterval};
+ * {@link #close()} stops it. {@link #compact()} runs one pass on the calling thread.
+ */
+public class JournalCompactor implements AutoCloseable {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("JournalCompactor");
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10L;
+
+    private final CompactableJournalEventStore store;
+    private final JournalRetentionPolicy policy;
+    private final boolean orderedSequences;
+    private final Clock clock;
+    private ScheduledExecutorService executor;
+
+    public JournalCompactor(CompactableJournalEventStore store, JournalRetentionPolicy policy) {
+        this(store, policy, true);
+    }
+
+    /**
+     * @param orderedSequences whether the streams are written through the contiguous
+     *                         {@link JournalEventSequencer}; {@code false} for block-reserved sequences
+     */
+    public JournalCompactor(CompactableJournalEventStore store, JournalRetentionPolicy policy, boolean orderedSequences) {
+        this(store, policy, orderedSequences, Clock.systemUTC());
+    }
+
+    JournalCompactor(CompactableJournalEventStore store, JournalRetentionPolicy policy, boolean orderedSequences, Clock clock) {
+        this.store = store;
+        this.policy = policy;
+        this.orderedSequences = orderedSequences;
+        this.clock = clock;
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flamingock-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = policy.getCompactionInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::compactQuietly, 0L, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Journal compaction started [policy={}]", policy);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+        logger.info("Journal compaction stopped");
+    }
+
+    /**
+     * Runs one compaction pass over every stream.
+     */
+    public Report compact() {
+        Instant ageCutoff = policy.getMaxAge() != null ? clock.instant().minus(policy.getMaxAge()) : null;
+        Report report = new Report();
+        int remainingPages = policy.getMaxBatchesPerRun();
+        for (String streamId : store.getStreamIds()) {
+            if (remainingPages <= 0) {
+                break;
+            }
+            remainingPages = compactStream(streamId, ageCutoff, remainingPages, report);
+            report.streams++;
+        }
+        logger.debug("Journal compaction pass finished [streams={} deleted={} archived={}]",
+                report.streams, report.deleted, report.archived);
+        return report;
+    }
+
+    private int compactStream(String streamId, Instant ageCutoff, int remainingPages, Report report) {
+        Optional<JournalEvent<AuditEntry>> last = store.getLastEventByStream(streamId);
+        if (!last.isPresent()) {
+            return remainingPages;
+        }
+        long lastSequence = last.get().getStreamSequence();
+        // Ordered streams expire by sequence; the others by position among the events actually stored
+        long countCutoff = Long.MIN_VALUE;
+        long excessEvents = 0L;
+        if (policy.getMaxEventsPerStream() != null) {
+            if (orderedSequences) {
+                countCutoff = lastSequence - policy.getMaxEventsPerStream();
+            } else {
+                excessEvents = Math.max(0L, store.countEvents(streamId) - policy.getMaxEventsPerStream());
+            }
+        }
+        // Once past the count limit, only an age limit on an unordered stream can still expire events
+        boolean walkWholeStream = !orderedSequences && ageCutoff != null;
+
+        long from = 1L;
+        long position = 0L;
+        while (remainingPages > 0) {
+            List<JournalEvent<AuditEntry>> page = store.getEvents(streamId, from, policy.getBatchSize());
+            remainingPages--;
+            if (page.isEmpty()) {
+                break;
+            }
+            boolean reachedRetained = false;
+            List<JournalEvent<AuditEntry>> run = new ArrayList<>();
+            for (JournalEvent<AuditEntry> event : page) {
+                long sequence = event.getStreamSequence();
+                boolean expiredByCount = orderedSequences ? sequence <= countCutoff : position < excessEvents;
+                boolean expired = sequence < lastSequence
+                        && (expiredByCount || (ageCutoff != null && event.getOccurredAt().isBefore(ageCutoff)));
+                position++;
+                if (!expired && !walkWholeStream) {
+                    reachedRetained = true;
+                    break;
+                }
+                boolean extendsRun = run.isEmpty() || orderedSequences
+                        || run.get(run.size() - 1).getStreamSequence() + 1 == sequence;
+                if (expired && event.isAcknowledged() && extendsRun) {
+                    run.add(event);
+                } else {
+                    // Closing the run here keeps retained and unacknowledged events, and gaps, out of every
+                    // deleted range
+                    if (!prune(streamId, run, report)) {
+                        return remainingPages;
+                    }
+                    run = new ArrayList<>();
+                    if (expired && event.isAcknowledged()) {
+                        run.add(event);
+                    }
+                }
+                from = sequence + 1;
+            }
+            if (!prune(streamId, run, report)) {
+                return remainingPages;
+            }
+            if (reachedRetained || page.size() < policy.getBatchSize()) {
+                break;
+            }
+        }
+        return remainingPages;
+    }
+
+    /**
+     * Archives, then deletes, a contiguous run of acknowledged events.
+     *
+     * @return {@code false} when the archive failed and the stream must not be compacted any further
+     */
+    private boolean prune(String streamId, List<JournalEvent<AuditEntry>> run, Report report) {
+        if (run.isEmpty()) {
+            return true;
+        }
+        JournalArchiveSink archiveSink = policy.getArchiveSink();
+        if (archiveSink != null) {
+            try {
+                archiveSink.archive(streamId, run);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Journal archive failed, events kept [stream={} from={} to={} error={}]",
+                        streamId, run.get(0).getStreamSequence(), run.get(run.size() - 1).getStreamSequence(),
+                        e.getMessage());
+                return false;
+            }
+            report.archived += run.size();
+        }
+        report.deleted += store.deleteAcknowledgedEvents(
+                streamId, run.get(0).getStreamSequence(), run.get(run.size() - 1).getStreamSequence());
+        return true;
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            // Never let an exception escape: it would cancel every later execution of the scheduled task
+            logger.warn("Journal compaction pass failed [error={}]", e.getMessage(), e);
+        }
+    }
+
+    public static final class Report {
+        private int streams;
+        private long deleted;
+        private long archived;
+
+        public int getStreams() {
+            return streams;
+        }
+
+        public long getDeleted() {
+            return deleted;
+        }
+
+        public long getArchived() {
+            return archived;
+        }
+    }
+}
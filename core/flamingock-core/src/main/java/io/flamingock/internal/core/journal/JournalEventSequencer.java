@@ -21,7 +21,6 @@ import io.flamingock.internal.common.core.journal.JournalEventType;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Instant;
-import java.util.UUID;
 
 /**
  * Hands out stream positions for a single stream, in memory — safe because the stage lock guarantees one
@@ -34,6 +33,9 @@ import java.util.UUID;
  * <p>
  * If a caller forgets to confirm a write that did land, the reused position collides with the unique
  * {@code (streamId, streamSequence)} index — a loud failure rather than a silent duplicate.
+ * <p>
+ * Streams written by more than one writer use {@link BlockReservingJournalEventSequencer} instead, which trades
+ * contiguity for contention-free positions.
  */
 public class JournalEventSequencer {
     private final String streamId;
@@ -67,13 +69,22 @@ public class JournalEventSequencer {
     @NotNull
     private JournalEvent<AuditEntry> getAuditEntryJournalEvent(AuditEntry payload, JournalEventType type) {
         pendingConfirmation = true;
+        return buildEvent(nextSequence, payload, type);   // spent only on confirm(), so a failed write leaves no gap
+    }
+
+    @NotNull
+    protected JournalEvent<AuditEntry> buildEvent(long streamSequence, AuditEntry payload, JournalEventType type) {
         return new JournalEvent<>(
-                UUID.randomUUID().toString(),   // eventId
+                TimeOrderedIdGenerator.nextId(),   // eventId
                 type,
                 streamId,
-                nextSequence,                   // spent only on confirm(), so a failed write leaves no gap
-                Instant.now(),                  // occurredAt
+                streamSequence,
+                Instant.now(),                     // occurredAt
                 payload);
     }
 
+    public String getStreamId() {
+        return streamId;
+    }
+
 }
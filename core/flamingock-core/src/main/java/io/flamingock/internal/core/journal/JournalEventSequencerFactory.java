@@ -15,18 +15,44 @@
  */
 package io.flamingock.internal.core.journal;
 
+import io.flamingock.internal.common.core.journal.JournalEvent;
+
+/**
+ * Creates the sequencer of each stream, seeded from the last event already in the journal.
+ * <p>
+ * By default streams get the contiguous, single-writer {@link JournalEventSequencer}. When built with a
+ * {@link JournalSequenceAllocator} they get a {@link BlockReservingJournalEventSequencer} instead, whose shared
+ * counter is first raised past the journal's last position.
+ */
 public class JournalEventSequencerFactory {
 
     private final JournalEventReader journalEventReader;
+    private final JournalSequenceAllocator sequenceAllocator;
+    private final int blockSize;
 
     public JournalEventSequencerFactory(JournalEventReader journalEventReader) {
+        this(journalEventReader, null, 0);
+    }
+
+    public JournalEventSequencerFactory(JournalEventReader journalEventReader,
+                                        JournalSequenceAllocator sequenceAllocator,
+                                        int blockSize) {
+        if (sequenceAllocator != null && blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be at least 1");
+        }
         this.journalEventReader = journalEventReader;
+        this.sequenceAllocator = sequenceAllocator;
+        this.blockSize = blockSize;
     }
 
     public JournalEventSequencer forStream(String streamId) {
-        long initialSequence = journalEventReader.getLastEventByStream(streamId)
-                .map(e -> e.getStreamSequence() + 1)
-                .orElse(1L);
-        return new JournalEventSequencer(streamId, initialSequence);
+        long lastSequence = journalEventReader.getLastEventByStream(streamId)
+                .map(JournalEvent::getStreamSequence)
+                .orElse(0L);
+        if (sequenceAllocator != null) {
+            sequenceAllocator.seed(streamId, lastSequence);
+            return new BlockReservingJournalEventSequencer(streamId, sequenceAllocator, blockSize);
+        }
+        return new JournalEventSequencer(streamId, lastSequence + 1);
     }
 }
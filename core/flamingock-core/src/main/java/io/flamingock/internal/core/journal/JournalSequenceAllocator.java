@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+/**
+ * Reserves blocks of stream positions from a counter shared by every writer of a stream.
+ * <p>
+ * Implementations back the counter with a single atomic server-side operation (a {@code findOneAndUpdate}
+ * with {@code $inc} in MongoDB, an {@code ADD} update in DynamoDB), so concurrent writers — threads of one
+ * runner or separate runners — never receive overlapping blocks and never have to retry on the journal's
+ * unique {@code (streamId, streamSequence)} index.
+ */
+public interface JournalSequenceAllocator {
+
+    /**
+     * Raises the stream's counter to at least {@code lastSequence}, so blocks reserved afterwards start past
+     * every position already present in the journal. Lowering is never done; calling it with a stale value is
+     * harmless.
+     *
+     * @param streamId     the stream
+     * @param lastSequence the highest position known to be in use, {@code 0} for none
+     */
+    void seed(String streamId, long lastSequence);
+
+    /**
+     * Atomically reserves {@code blockSize} consecutive positions of the stream.
+     *
+     * @param streamId  the stream
+     * @param blockSize how many positions to reserve, at least 1
+     * @return the first reserved position; the block is {@code [first, first + blockSize)}
+     */
+    long reserve(String streamId, int blockSize);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates journal event ids as RFC 9562 version-7 UUIDs: a 48-bit Unix-millisecond timestamp, then 12 bits
+ * of sub-millisecond counter, then 62 random bits.
+ * <p>
+ * Replaces {@link UUID#randomUUID()}, which draws every id from {@code SecureRandom} — a shared, synchronized
+ * source that becomes the hot spot once several writers append to the same stream. Event ids only need to be
+ * unique, not unpredictable, so the random part comes from {@link ThreadLocalRandom}.
+ * <p>
+ * Ids are strictly increasing within the JVM: the timestamp and counter are advanced together through a single
+ * {@link AtomicLong}, and a burst of more than 4096 ids in one millisecond borrows from the next millisecond
+ * rather than wrapping. That makes the id a usable tie-breaker for events of the same stream written by
+ * different writers of the same process, where the block-reserved stream position is not (see
+ * {@link BlockReservingJournalEventSequencer}).
+ */
+public final class TimeOrderedIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    private TimeOrderedIdGenerator() {
+    }
+
+    public static String nextId() {
+        return nextUuid().toString();
+    }
+
+    public static UUID nextUuid() {
+        long timestampAndCounter = nextTimestampAndCounter(System.currentTimeMillis());
+        long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        long counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+        long mostSignificant = (timestamp << 16) | VERSION_7 | counter;
+        long leastSignificant = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_4122;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * @return the Unix-millisecond timestamp embedded in a version-7 id
+     */
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextTimestampAndCounter(long nowMillis) {
+        long candidate = nowMillis << COUNTER_BITS;
+        while (true) {
+            long last = lastTimestampAndCounter.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
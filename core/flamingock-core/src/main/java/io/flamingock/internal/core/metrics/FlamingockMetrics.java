@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.metrics;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+
+/**
+ * Metrics hook for pipeline, stage, change, audit and lock operations. Every method is a no-op by
+ * default, so implementations only override what they record; {@link #NO_OP} is used when none is
+ * configured.
+ *
+ * <p>Set through {@code AbstractChangeRunnerBuilder#setMetrics}. Durations are in nanoseconds.
+ * Methods are called on the execution path, so implementations must be cheap and must not
+ * throw.</p>
+ */
+public interface FlamingockMetrics {
+
+    FlamingockMetrics NO_OP = new FlamingockMetrics() {
+    };
+
+    enum LockOperation {
+        ACQUIRE, EXTEND
+    }
+
+    /**
+     * One execution planner round: audit reads, lock acquisition and, when there is work, plan
+     * validation.
+     */
+    default void recordPlannerScan(long durationNanos, boolean success) {
+    }
+
+    default void recordAuditWrite(AuditEntry.Status status, long durationNanos, boolean success) {
+    }
+
+    /**
+     * A single attempt against the lock store; waiting between acquisition attempts is not included.
+     */
+    default void recordLockOperation(LockOperation operation, long durationNanos, boolean success) {
+    }
+
+    default void recordStageExecution(String stageName, long durationNanos, boolean success) {
+    }
+
+    /**
+     * @param result the change outcome, carrying its duration, target system and status
+     */
+    default void recordChangeExecution(String stageName, ChangeResult result) {
+    }
+
+    /**
+     * Changes still to apply in the stages being planned, as seen by the last planner round.
+     */
+    default void recordPendingChanges(long pendingChanges) {
+    }
+}
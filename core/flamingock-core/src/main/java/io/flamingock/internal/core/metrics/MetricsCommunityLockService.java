@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.metrics;
+
+import io.flamingock.internal.core.external.store.lock.LockAcquisition;
+import io.flamingock.internal.core.external.store.lock.LockKey;
+import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
+import io.flamingock.internal.util.id.RunnerId;
+
+/**
+ * Records the latency of lock acquisition and extension attempts. Reads and releases are not
+ * timed.
+ */
+public final class MetricsCommunityLockService implements CommunityLockService {
+
+    private final CommunityLockService delegate;
+    private final FlamingockMetrics metrics;
+
+    public MetricsCommunityLockService(CommunityLockService delegate, FlamingockMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public LockAcquisition upsert(LockKey key, RunnerId owner, long leaseMillis) throws LockServiceException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            LockAcquisition acquisition = delegate.upsert(key, owner, leaseMillis);
+            success = true;
+            return acquisition;
+        } finally {
+            metrics.recordLockOperation(FlamingockMetrics.LockOperation.ACQUIRE, System.nanoTime() - start, success);
+        }
+    }
+
+    @Override
+    public LockAcquisition extendLock(LockKey key, RunnerId owner, long leaseMillis) throws LockServiceException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            LockAcquisition acquisition = delegate.extendLock(key, owner, leaseMillis);
+            success = true;
+            return acquisition;
+        } finally {
+            metrics.recordLockOperation(FlamingockMetrics.LockOperation.EXTEND, System.nanoTime() - start, success);
+        }
+    }
+
+    @Override
+    public LockAcquisition getLockInfo(LockKey lockKey) {
+        return delegate.getLockInfo(lockKey);
+    }
+
+    @Override
+    public void releaseLock(LockKey lockKey, RunnerId owner) {
+        delegate.releaseLock(lockKey, owner);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.metrics;
+
+import io.flamingock.internal.core.external.store.lock.LockException;
+import io.flamingock.internal.core.pipeline.run.PipelineRun;
+import io.flamingock.internal.core.plan.ExecutionPlan;
+import io.flamingock.internal.core.plan.ExecutionPlanner;
+
+/**
+ * Records the duration of each planner round, for community and cloud planners alike.
+ */
+public final class MetricsExecutionPlanner extends ExecutionPlanner {
+
+    private final ExecutionPlanner delegate;
+    private final FlamingockMetrics metrics;
+
+    public MetricsExecutionPlanner(ExecutionPlanner delegate, FlamingockMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ExecutionPlan getNextExecution(PipelineRun pipelineRun) throws LockException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            ExecutionPlan plan = delegate.getNextExecution(pipelineRun);
+            success = true;
+            return plan;
+        } finally {
+            metrics.recordPlannerScan(System.nanoTime() - start, success);
+        }
+    }
+}
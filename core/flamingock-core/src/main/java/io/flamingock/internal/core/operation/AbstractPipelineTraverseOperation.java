@@ -189,7 +189,7 @@ public abstract class AbstractPipelineTraverseOperation implements Operation<Exe
             logger.warn("ABORTED STAGE '{}' - Manual intervention required for changes: [{}]",
                     stageName, miException.getConflictingSummary());
             pipelineRun.markStageStarted(stageName);
-            eventPublisher.publish(new StageStartedEvent());
+            eventPublisher.publish(new StageStartedEvent(stageName));
             pipelineRun.markStageBlockedFromMI(stageName, miException.getConflictingChanges());
             eventPublisher.publish(new StageFailedEvent(miException, pipelineRun.getStageRun(stageName).getResult()));
             return;
@@ -208,7 +208,7 @@ public abstract class AbstractPipelineTraverseOperation implements Operation<Exe
 
     private void startStage(String executionId, Lock lock, ExecutableStage executableStage, PipelineRun pipelineRun) throws StageExecutionException {
         pipelineRun.markStageStarted(executableStage.getName());
-        eventPublisher.publish(new StageStartedEvent());
+        eventPublisher.publish(new StageStartedEvent(executableStage.getName()));
         logger.debug("Applied state to process:\n{}", executableStage);
 
         ExecutionContext executionContext = new ExecutionContext(executionId, orphanExecutionContext.getHostname(), orphanExecutionContext.getMetadata());
@@ -18,12 +18,20 @@ package io.flamingock.internal.core.operation;
 import io.flamingock.internal.common.core.context.ContextResolver;
 import io.flamingock.internal.common.core.operation.OperationType;
 import io.flamingock.internal.common.core.recovery.Resolution;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.core.builder.args.ArgumentException;
 import io.flamingock.internal.core.builder.args.FlamingockArguments;
 import io.flamingock.internal.core.configuration.core.CoreConfigurable;
 import io.flamingock.internal.core.event.EventPublisher;
 import io.flamingock.internal.common.core.audit.AuditPersistence;
 import io.flamingock.internal.core.external.store.AuditStore;
+import io.flamingock.internal.core.external.store.CommunityAuditStore;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
+import io.flamingock.internal.core.external.store.lock.community.CommunityLock;
 import io.flamingock.internal.core.external.targets.TargetSystemManager;
+import io.flamingock.internal.core.operation.audit.AuditCompactArgs;
+import io.flamingock.internal.core.operation.audit.AuditCompactOperation;
+import io.flamingock.internal.core.operation.audit.AuditCompactResult;
 import io.flamingock.internal.core.operation.audit.AuditFixArgs;
 import io.flamingock.internal.core.operation.audit.AuditFixOperation;
 import io.flamingock.internal.core.operation.audit.AuditFixResult;
@@ -42,9 +50,13 @@ import io.flamingock.internal.core.pipeline.execution.OrphanExecutionContext;
 import io.flamingock.internal.core.pipeline.execution.StageExecutor;
 import io.flamingock.internal.core.pipeline.loaded.LoadedPipeline;
 import io.flamingock.internal.core.plan.ExecutionPlanner;
+import io.flamingock.internal.core.tracing.Tracing;
+import io.flamingock.internal.core.tracing.TracingOperation;
 import io.flamingock.internal.util.StringUtil;
+import io.flamingock.internal.util.TimeService;
 import io.flamingock.internal.util.id.RunnerId;
 
+import java.nio.file.Paths;
 import java.util.Set;
 
 public class OperationResolver {
@@ -55,6 +67,9 @@ public class OperationResolver {
     private static final String ARG_CHANGE_ID = "flamingock.change-id";
     private static final String ARG_RESOLUTION = "flamingock.resolution";
     private static final String ARG_GUIDANCE = "flamingock.guidance";
+    private static final String ARG_KEEP_FAILURES = "flamingock.audit.keep-failures";
+    private static final String ARG_ARCHIVE_DIR = "flamingock.audit.archive-dir";
+    private static final String ARG_DRY_RUN = "flamingock.audit.dry-run";
 
     private final RunnerId runnerId;
     private final FlamingockArguments flamingockArgs;
@@ -108,6 +123,8 @@ public class OperationResolver {
                 return getAuditListOperation();
             case AUDIT_FIX:
                 return getAuditFixOperation();
+            case AUDIT_COMPACT:
+                return getAuditCompactOperation();
             case ISSUE_LIST:
                 return getIssueListOperation();
             case ISSUE_GET:
@@ -134,6 +151,32 @@ public class OperationResolver {
         return new RunnableOperation<>(auditFixOperation, new AuditFixArgs(changeId, resolution));
     }
 
+    private RunnableOperation<AuditCompactArgs, AuditCompactResult> getAuditCompactOperation() {
+        if (!(auditStore instanceof CommunityAuditStore)) {
+            throw new FlamingockException("AUDIT_COMPACT is only supported by community audit stores");
+        }
+        CommunityAuditStore communityAuditStore = (CommunityAuditStore) auditStore;
+        CompactableAuditHistory auditHistory = communityAuditStore.getCompactableAuditHistory()
+                .orElseThrow(() -> new FlamingockException(
+                        "The configured audit store does not support AUDIT_COMPACT"));
+        int failuresToKeep = flamingockArgs.getIntOr(ARG_KEEP_FAILURES, AuditCompactArgs.DEFAULT_FAILURES_TO_KEEP);
+        if (failuresToKeep < 0) {
+            throw new ArgumentException("'%s' must not be negative", ARG_KEEP_FAILURES);
+        }
+        String archiveDir = flamingockArgs.getStringOr(ARG_ARCHIVE_DIR, null);
+        boolean dryRun = flamingockArgs.getBooleanOr(ARG_DRY_RUN, false);
+        AuditCompactOperation auditCompactOperation = new AuditCompactOperation(auditHistory, () -> CommunityLock.getLock(
+                coreConfiguration.getLockAcquiredForMillis(),
+                coreConfiguration.getLockQuitTryingAfterMillis(),
+                coreConfiguration.getLockTryFrequencyMillis(),
+                runnerId,
+                communityAuditStore.getLockService(),
+                TimeService.getDefault(),
+                coreConfiguration.isEnableRefreshDaemon()));
+        return new RunnableOperation<>(auditCompactOperation,
+                new AuditCompactArgs(failuresToKeep, archiveDir != null ? Paths.get(archiveDir) : null, dryRun));
+    }
+
     private RunnableOperation<IssueListArgs, IssueListResult> getIssueListOperation() {
         IssueListOperation issueListOperation = new IssueListOperation(auditStore.getAuditReader());
         return new RunnableOperation<>(issueListOperation, new IssueListArgs());
@@ -147,7 +190,7 @@ public class OperationResolver {
     }
 
     private RunnableOperation<ExecuteArgs, ExecuteResult> getExecuteApplyOperation() {
-        final StageExecutor stageExecutor = new StageExecutor(dependencyContext, nonGuardedTypes, auditStore.getPersistenceFactory(), targetSystemManager, null);
+        final StageExecutor stageExecutor = new StageExecutor(dependencyContext, nonGuardedTypes, auditStore.getPersistenceFactory(), targetSystemManager, null, eventPublisher);
         ExecuteApplyOperation executeApplyOperation = new ExecuteApplyOperation(
             runnerId,
             executionPlanner,
@@ -156,11 +199,11 @@ public class OperationResolver {
             eventPublisher,
             isThrowExceptionIfCannotObtainLock,
             finalizer);
-        return new RunnableOperation<>(executeApplyOperation, new ExecuteArgs(pipeline));
+        return new RunnableOperation<>(traced(executeApplyOperation), new ExecuteArgs(pipeline));
     }
 
     private RunnableOperation<ExecuteArgs, ExecuteResult> getValidateApplyOperation() {
-        final StageExecutor stageExecutor = new StageExecutor(dependencyContext, nonGuardedTypes, auditStore.getPersistenceFactory(), targetSystemManager, null);
+        final StageExecutor stageExecutor = new StageExecutor(dependencyContext, nonGuardedTypes, auditStore.getPersistenceFactory(), targetSystemManager, null, eventPublisher);
         ValidateApplyOperation validateApplyOperation = new ValidateApplyOperation(
             runnerId,
             executionPlanner,
@@ -169,7 +212,12 @@ public class OperationResolver {
             eventPublisher,
             isThrowExceptionIfCannotObtainLock,
             finalizer);
-        return new RunnableOperation<>(validateApplyOperation, new ExecuteArgs(pipeline));
+        return new RunnableOperation<>(traced(validateApplyOperation), new ExecuteArgs(pipeline));
+    }
+
+    private Operation<ExecuteArgs, ExecuteResult> traced(Operation<ExecuteArgs, ExecuteResult> operation) {
+        Tracing tracing = dependencyContext.getDependencyValue(Tracing.class).orElse(Tracing.NO_OP);
+        return tracing.isEnabled() ? new TracingOperation<>(operation, tracing) : operation;
     }
 
     private static OrphanExecutionContext buildExecutionContext(CoreConfigurable configuration) {
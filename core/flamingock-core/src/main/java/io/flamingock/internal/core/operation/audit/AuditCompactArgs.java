@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.operation.audit;
+
+import io.flamingock.internal.core.operation.OperationArgs;
+
+import java.nio.file.Path;
+
+public class AuditCompactArgs implements OperationArgs {
+
+    public static final int DEFAULT_FAILURES_TO_KEEP = 3;
+
+    private final int failuresToKeep;
+    private final Path archiveDirectory;
+    private final boolean dryRun;
+
+    public AuditCompactArgs() {
+        this(DEFAULT_FAILURES_TO_KEEP, null, false);
+    }
+
+    /**
+     * @param failuresToKeep   how many of the latest failures to keep per change, besides its current entry
+     * @param archiveDirectory where to archive the removed rows, or {@code null} not to archive them
+     * @param dryRun           whether to only report what would be removed
+     */
+    public AuditCompactArgs(int failuresToKeep, Path archiveDirectory, boolean dryRun) {
+        this.failuresToKeep = failuresToKeep;
+        this.archiveDirectory = archiveDirectory;
+        this.dryRun = dryRun;
+    }
+
+    public int getFailuresToKeep() {
+        return failuresToKeep;
+    }
+
+    public Path getArchiveDirectory() {
+        return archiveDirectory;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+}
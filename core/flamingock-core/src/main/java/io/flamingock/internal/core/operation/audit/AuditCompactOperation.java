@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.operation.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.core.external.store.audit.AuditEntryJson;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
+import io.flamingock.internal.core.external.store.lock.Lock;
+import io.flamingock.internal.core.operation.Operation;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Shrinks an append-mode audit history to what the audit snapshot still needs (see
+ * {@link AuditHistoryCompaction}), under the community lock so no execution writes to the history meanwhile.
+ * <p>
+ * When an archive directory is given, the removed rows are first written to a gzip-compressed NDJSON file there;
+ * nothing is deleted unless that file was written completely.
+ */
+public class AuditCompactOperation implements Operation<AuditCompactArgs, AuditCompactResult> {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("AuditCompact");
+
+    static final String ARCHIVE_PREFIX = "audit-compaction-";
+    static final String ARCHIVE_SUFFIX = ".ndjson.gz";
+    private static final DateTimeFormatter ARCHIVE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS");
+
+    private final CompactableAuditHistory auditHistory;
+    private final Supplier<Lock> lockSupplier;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public AuditCompactOperation(CompactableAuditHistory auditHistory, Supplier<Lock> lockSupplier) {
+        this(auditHistory, lockSupplier, Clock.systemDefaultZone());
+    }
+
+    AuditCompactOperation(CompactableAuditHistory auditHistory, Supplier<Lock> lockSupplier, Clock clock) {
+        this.auditHistory = auditHistory;
+        this.lockSupplier = lockSupplier;
+        this.clock = clock;
+    }
+
+    @Override
+    public AuditCompactResult execute(AuditCompactArgs args) {
+        Lock lock = lockSupplier.get();
+        try {
+            List<AuditEntry> history = auditHistory.getAuditHistory();
+            AuditHistoryCompaction compaction = AuditHistoryCompaction.plan(history, args.getFailuresToKeep());
+            List<AuditEntry> removed = compaction.getRemoved();
+            if (removed.isEmpty() || args.isDryRun()) {
+                return new AuditCompactResult(history.size(), removed.size(), compaction.getCompactedChanges(),
+                        null, args.isDryRun());
+            }
+
+            Path archiveFile = null;
+            if (args.getArchiveDirectory() != null) {
+                archiveFile = archive(args.getArchiveDirectory(), removed);
+            }
+            long deleted = auditHistory.deleteAuditEntries(removed);
+            logger.info("Audit history compacted [entries={} removed={} changes={} archive={}]",
+                    history.size(), deleted, compaction.getCompactedChanges(), archiveFile);
+            return new AuditCompactResult(history.size(), (int) deleted, compaction.getCompactedChanges(),
+                    archiveFile, false);
+        } finally {
+            lock.release();
+        }
+    }
+
+    private Path archive(Path directory, List<AuditEntry> entries) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, ARCHIVE_PREFIX, ".tmp");
+            Path archiveFile = null;
+            boolean archived = false;
+            try {
+                try (OutputStream fileOut = Files.newOutputStream(tmp);
+                     GZIPOutputStream gzipOut = new GZIPOutputStream(fileOut);
+                     Writer writer = new BufferedWriter(new OutputStreamWriter(gzipOut, StandardCharsets.UTF_8))) {
+                    for (AuditEntry entry : entries) {
+                        writer.write(objectMapper.writeValueAsString(
+                                AuditEntryJson.write(objectMapper.createObjectNode(), entry)));
+                        writer.write('\n');
+                    }
+                }
+                archiveFile = reserveArchiveFile(directory);
+                // only replaces the empty file just reserved
+                Files.move(tmp, archiveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                archived = true;
+            } finally {
+                Files.deleteIfExists(tmp);
+                if (!archived && archiveFile != null) {
+                    Files.deleteIfExists(archiveFile);
+                }
+            }
+            return archiveFile;
+        } catch (IOException e) {
+            throw new FlamingockException("Could not archive the compacted audit entries; nothing was removed", e);
+        }
+    }
+
+    /**
+     * Claims a new archive name by creating it, so compactions within the same millisecond, or run from
+     * different processes, never overwrite each other's archive.
+     */
+    private Path reserveArchiveFile(Path directory) throws IOException {
+        String baseName = ARCHIVE_PREFIX + LocalDateTime.now(clock).format(ARCHIVE_TIMESTAMP);
+        for (int attempt = 0; ; attempt++) {
+            Path candidate = directory.resolve(baseName + (attempt == 0 ? "" : "-" + attempt) + ARCHIVE_SUFFIX);
+            try {
+                return Files.createFile(candidate);
+            } catch (FileAlreadyExistsException e) {
+                logger.debug("Archive file [{}] already exists, trying the next name", candidate);
+            }
+        }
+    }
+}
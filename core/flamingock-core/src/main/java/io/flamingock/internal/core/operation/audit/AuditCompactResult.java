@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.operation.audit;
+
+import io.flamingock.internal.common.core.response.data.AuditCompactResponseData;
+import io.flamingock.internal.core.operation.AbstractOperationResult;
+
+import java.nio.file.Path;
+
+public class AuditCompactResult extends AbstractOperationResult {
+
+    private final int entriesBefore;
+    private final int entriesRemoved;
+    private final int compactedChanges;
+    private final Path archiveFile;
+    private final boolean dryRun;
+
+    public AuditCompactResult(int entriesBefore, int entriesRemoved, int compactedChanges, Path archiveFile, boolean dryRun) {
+        this.entriesBefore = entriesBefore;
+        this.entriesRemoved = entriesRemoved;
+        this.compactedChanges = compactedChanges;
+        this.archiveFile = archiveFile;
+        this.dryRun = dryRun;
+    }
+
+    public int getEntriesBefore() {
+        return entriesBefore;
+    }
+
+    public int getEntriesRemoved() {
+        return entriesRemoved;
+    }
+
+    public int getCompactedChanges() {
+        return compactedChanges;
+    }
+
+    public Path getArchiveFile() {
+        return archiveFile;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    @Override
+    public Object toResponseData() {
+        String message;
+        if (entriesRemoved == 0) {
+            message = "Audit history is already compact";
+        } else if (dryRun) {
+            message = String.format("%d of %d audit entries would be removed from %d changes",
+                    entriesRemoved, entriesBefore, compactedChanges);
+        } else {
+            message = String.format("%d of %d audit entries removed from %d changes",
+                    entriesRemoved, entriesBefore, compactedChanges);
+        }
+        return new AuditCompactResponseData(
+                entriesBefore,
+                entriesRemoved,
+                compactedChanges,
+                archiveFile != null ? archiveFile.toString() : null,
+                dryRun,
+                message
+        );
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.operation.audit;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditSnapshotBuilder;
+import io.flamingock.internal.common.core.error.FlamingockException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Decides which rows of an append-mode audit history can go.
+ * <p>
+ * For each change it keeps the entry {@link AuditEntry#getMostRelevant} ends up choosing when folding the
+ * history in order — the one the snapshot is built from — plus its last {@code failuresToKeep} failures, for
+ * diagnosis. Everything else is removed. Kept entries stay in their original order, so the snapshot built from
+ * what remains is the same list, in the same order, as the one built from the whole history: each change's
+ * winner beat everything before it and nothing after it beat it, and dropping entries changes neither. The plan
+ * checks that before returning, and refuses to remove anything otherwise.
+ */
+final class AuditHistoryCompaction {
+
+    private final List<AuditEntry> kept;
+    private final List<AuditEntry> removed;
+    private final int compactedChanges;
+
+    private AuditHistoryCompaction(List<AuditEntry> kept, List<AuditEntry> removed, int compactedChanges) {
+        this.kept = kept;
+        this.removed = removed;
+        this.compactedChanges = compactedChanges;
+    }
+
+    static AuditHistoryCompaction plan(List<AuditEntry> history, int failuresToKeep) {
+        if (failuresToKeep < 0) {
+            throw new IllegalArgumentException("failuresToKeep must not be negative");
+        }
+        Map<String, AuditEntry> winners = new LinkedHashMap<>();
+        Map<String, Deque<AuditEntry>> failures = new LinkedHashMap<>();
+        for (AuditEntry entry : history) {
+            winners.put(entry.getChangeId(), AuditEntry.getMostRelevant(winners.get(entry.getChangeId()), entry));
+            if (isFailure(entry) && failuresToKeep > 0) {
+                Deque<AuditEntry> tail = failures.computeIfAbsent(entry.getChangeId(), id -> new ArrayDeque<>());
+                tail.addLast(entry);
+                if (tail.size() > failuresToKeep) {
+                    tail.removeFirst();
+                }
+            }
+        }
+
+        Set<AuditEntry> keep = Collections.newSetFromMap(new IdentityHashMap<>());
+        keep.addAll(winners.values());
+        failures.values().forEach(keep::addAll);
+        Set<RowKey> keptKeys = new HashSet<>();
+        for (AuditEntry entry : keep) {
+            keptKeys.add(new RowKey(entry));
+        }
+
+        List<AuditEntry> kept = new ArrayList<>();
+        List<AuditEntry> removed = new ArrayList<>();
+        Set<String> compacted = new HashSet<>();
+        for (AuditEntry entry : history) {
+            // a row indistinguishable from a kept one would be deleted along with it: keep it as well
+            if (keep.contains(entry) || keptKeys.contains(new RowKey(entry))) {
+                kept.add(entry);
+            } else {
+                removed.add(entry);
+                compacted.add(entry.getChangeId());
+            }
+        }
+
+        if (!removed.isEmpty() && !sameSnapshot(history, kept)) {
+            throw new FlamingockException("Audit compaction would change the audit snapshot; nothing was removed");
+        }
+        return new AuditHistoryCompaction(
+                Collections.unmodifiableList(kept), Collections.unmodifiableList(removed), compacted.size());
+    }
+
+    List<AuditEntry> getKept() {
+        return kept;
+    }
+
+    List<AuditEntry> getRemoved() {
+        return removed;
+    }
+
+    int getCompactedChanges() {
+        return compactedChanges;
+    }
+
+    static List<AuditEntry> snapshotOf(List<AuditEntry> history) {
+        AuditSnapshotBuilder builder = new AuditSnapshotBuilder();
+        history.forEach(builder::addEntry);
+        return builder.buildList();
+    }
+
+    private static boolean sameSnapshot(List<AuditEntry> history, List<AuditEntry> kept) {
+        List<AuditEntry> before = snapshotOf(history);
+        List<AuditEntry> after = snapshotOf(kept);
+        if (before.size() != after.size()) {
+            return false;
+        }
+        for (int i = 0; i < before.size(); i++) {
+            if (before.get(i) != after.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFailure(AuditEntry entry) {
+        return entry.getState() == AuditEntry.Status.FAILED || entry.getState() == AuditEntry.Status.ROLLBACK_FAILED;
+    }
+
+    private static final class RowKey {
+        private final String changeId;
+        private final String executionId;
+        private final AuditEntry.Status state;
+        private final LocalDateTime createdAt;
+
+        private RowKey(AuditEntry entry) {
+            this.changeId = entry.getChangeId();
+            this.executionId = entry.getExecutionId();
+            this.state = entry.getState();
+            this.createdAt = entry.getCreatedAt();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RowKey)) return false;
+            RowKey other = (RowKey) o;
+            return Objects.equals(changeId, other.changeId)
+                    && Objects.equals(executionId, other.executionId)
+                    && state == other.state
+                    && Objects.equals(createdAt, other.createdAt);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(changeId, executionId, state, createdAt);
+        }
+    }
+}
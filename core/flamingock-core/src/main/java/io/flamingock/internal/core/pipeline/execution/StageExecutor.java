@@ -23,10 +23,18 @@ import io.flamingock.internal.common.core.context.Dependency;
 import io.flamingock.internal.common.core.pipeline.StageDescriptor;
 import io.flamingock.internal.common.core.response.data.StageResult;
 import io.flamingock.internal.core.context.PriorityContext;
+import io.flamingock.internal.core.event.EventPublisher;
 import io.flamingock.internal.core.external.store.audit.community.CommunityAuditPersistence;
 import io.flamingock.internal.core.external.store.lock.Lock;
 import io.flamingock.internal.core.external.targets.TargetSystemManager;
+import io.flamingock.internal.core.jfr.FlamingockJfr;
+import io.flamingock.internal.core.jfr.JfrAuditWriter;
+import io.flamingock.internal.core.metrics.FlamingockMetrics;
+import io.flamingock.internal.core.metrics.MetricsAuditWriter;
 import io.flamingock.internal.core.operation.result.StageResultBuilder;
+import io.flamingock.internal.core.tracing.TraceSpan;
+import io.flamingock.internal.core.tracing.Tracing;
+import io.flamingock.internal.core.tracing.TracingAuditWriter;
 import io.flamingock.internal.core.change.executable.ExecutableChange;
 import io.flamingock.internal.core.change.navigation.FailedChangeProcessResult;
 import io.flamingock.internal.core.change.navigation.navigator.ChangeProcessResult;
@@ -53,22 +61,60 @@ public class StageExecutor {
     private final Set<Class<?>> nonGuardedTypes;
     private final TargetSystemManager targetSystemManager;
     protected final TransactionWrapper auditStoreTxWrapper;
+    private final FlamingockMetrics metrics;
+    private final Tracing tracing;
+    private final EventPublisher eventPublisher;
 
     public StageExecutor(ContextResolver dependencyContext,
                          Set<Class<?>> nonGuardedTypes,
                          AuditPersistenceFactory<? extends AuditPersistence> auditPersistenceFactory,
                          TargetSystemManager targetSystemManager,
                          TransactionWrapper auditStoreTxWrapper) {
+        this(dependencyContext, nonGuardedTypes, auditPersistenceFactory, targetSystemManager, auditStoreTxWrapper, null);
+    }
+
+    /**
+     * @param eventPublisher receives the change lifecycle events; none are published when null
+     */
+    public StageExecutor(ContextResolver dependencyContext,
+                         Set<Class<?>> nonGuardedTypes,
+                         AuditPersistenceFactory<? extends AuditPersistence> auditPersistenceFactory,
+                         TargetSystemManager targetSystemManager,
+                         TransactionWrapper auditStoreTxWrapper,
+                         EventPublisher eventPublisher) {
         this.baseDependencyContext = dependencyContext;
         this.nonGuardedTypes = nonGuardedTypes;
         this.auditPersistenceFactory = auditPersistenceFactory;
         this.targetSystemManager = targetSystemManager;
         this.auditStoreTxWrapper = auditStoreTxWrapper;
+        this.metrics = dependencyContext.getDependencyValue(FlamingockMetrics.class).orElse(FlamingockMetrics.NO_OP);
+        this.tracing = dependencyContext.getDependencyValue(Tracing.class).orElse(Tracing.NO_OP);
+        this.eventPublisher = eventPublisher;
     }
 
     public Output executeStage(ExecutableStage executableStage,
                                ExecutionContext executionContext,
                                Lock lock) throws StageExecutionException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try (TraceSpan span = tracing.startSpan(Tracing.STAGE)) {
+            span.setAttribute(Tracing.STAGE_NAME_ATTRIBUTE, executableStage.getName());
+            try {
+                Output output = executeStageInternal(executableStage, executionContext, lock);
+                success = true;
+                return output;
+            } catch (RuntimeException e) {
+                span.recordFailure(e);
+                throw e;
+            }
+        } finally {
+            metrics.recordStageExecution(executableStage.getName(), System.nanoTime() - start, success);
+        }
+    }
+
+    private Output executeStageInternal(ExecutableStage executableStage,
+                                        ExecutionContext executionContext,
+                                        Lock lock) throws StageExecutionException {
         LocalDateTime stageStart = LocalDateTime.now();
         String stageName = executableStage.getName();
         long changeCount = getChangesStream(executableStage).count();
@@ -84,7 +130,7 @@ public class StageExecutor {
 
         PriorityContext dependencyContext = new PriorityContext(baseDependencyContext);
         dependencyContext.addDependency(new Dependency(StageDescriptor.class, executableStage));
-        AuditWriter auditWriter = auditPersistenceFactory.get(stageName);
+        AuditWriter auditWriter = instrument(auditPersistenceFactory.get(stageName));
         ChangeProcessStrategyFactory changeProcessFactory = getStepNavigatorBuilder(executionContext, auditWriter, lock, dependencyContext);
 
         try {
@@ -96,6 +142,7 @@ public class StageExecutor {
                     .map(ChangeProcessStrategy::applyChange)
                     .peek(result -> {
                         resultBuilder.addChange(result.getResult());
+                        metrics.recordChangeExecution(stageName, result.getResult());
                         if (result.isFailed()) {
                             logger.error("Change failed [change={} stage={}]",
                                     result.getChangeId(), stageName);
@@ -137,6 +184,14 @@ public class StageExecutor {
         }
     }
 
+    private AuditWriter instrument(AuditWriter auditWriter) {
+        AuditWriter instrumented = metrics != FlamingockMetrics.NO_OP ? new MetricsAuditWriter(auditWriter, metrics) : auditWriter;
+        if (FlamingockJfr.isAvailable()) {
+            instrumented = new JfrAuditWriter(instrumented);
+        }
+        return tracing.isEnabled() ? new TracingAuditWriter(instrumented, tracing) : instrumented;
+    }
+
     private ChangeProcessStrategyFactory getStepNavigatorBuilder(ExecutionContext executionContext,
                                                                  AuditWriter auditWriter,
                                                                  Lock lock,
@@ -146,7 +201,8 @@ public class StageExecutor {
                 .setAuditWriter(auditWriter)
                 .setDependencyContext(contextResolver)
                 .setLock(lock)
-                .setNonGuardedTypes(nonGuardedTypes);
+                .setNonGuardedTypes(nonGuardedTypes)
+                .setEventPublisher(eventPublisher);
     }
 
     protected Stream<? extends ExecutableChange> getChangesStream(ExecutableStage executableStage) {
@@ -24,6 +24,7 @@ import io.flamingock.internal.common.core.pipeline.PipelineDescriptor;
 import io.flamingock.internal.common.core.preview.PreviewPipeline;
 import io.flamingock.internal.common.core.preview.PreviewStage;
 import io.flamingock.internal.common.core.change.ChangeDescriptor;
+import io.flamingock.internal.common.core.template.TemplateRegistry;
 import io.flamingock.internal.core.pipeline.loaded.stage.AbstractLoadedStage;
 import io.flamingock.internal.core.change.filter.ChangeFilter;
 import io.flamingock.internal.core.change.loaded.AbstractLoadedChange;
@@ -178,10 +179,20 @@ public class LoadedPipeline implements PipelineDescriptor {
         private PreviewPipeline previewPipeline;
         private Collection<PreviewStage> afterUserStages = new LinkedHashSet<>();
         private Collection<ChangeFilter> changeFilters = new LinkedHashSet<>();
+        private TemplateRegistry templateRegistry;
 
         private LoadedPipelineBuilder() {
         }
 
+        /**
+         * Registry template changes are resolved from. When not set, the shared registry behind
+         * {@code ChangeTemplateManager} is used.
+         */
+        public LoadedPipelineBuilder setTemplateRegistry(TemplateRegistry templateRegistry) {
+            this.templateRegistry = templateRegistry;
+            return this;
+        }
+
         public LoadedPipelineBuilder addBeforeUserStages(Collection<PreviewStage> stages) {
             this.beforeUserStages = stages;
             return this;
@@ -210,7 +221,7 @@ public class LoadedPipeline implements PipelineDescriptor {
             allSortedStages.addAll(transformListToLoadedStages(afterUserStages));
 
             PreviewStage systemStage = previewPipeline != null ? previewPipeline.getSystemStage() : null;
-            return transformToLoadedStage(systemStage)
+            return transformToLoadedStage(systemStage, templateRegistry)
                     .map(abstractLoadedStage -> new LoadedPipeline(
                             abstractLoadedStage,
                             allSortedStages,
@@ -219,21 +230,29 @@ public class LoadedPipeline implements PipelineDescriptor {
         }
 
         @NotNull
-        private static List<AbstractLoadedStage> transformListToLoadedStages(Collection<PreviewStage> stages) {
+        private List<AbstractLoadedStage> transformListToLoadedStages(Collection<PreviewStage> stages) {
             if (stages == null) {
                 return Collections.emptyList();
             }
             return stages
                     .stream()
-                    .map(LoadedPipelineBuilder::transformToLoadedStage)
+                    .map(previewStage -> transformToLoadedStage(previewStage, templateRegistry))
                     .filter(Optional::isPresent)
                     .map(Optional::get)
                     .collect(Collectors.toList());
         }
 
         public static Optional<AbstractLoadedStage> transformToLoadedStage(PreviewStage previewStage) {
+            return transformToLoadedStage(previewStage, null);
+        }
+
+        public static Optional<AbstractLoadedStage> transformToLoadedStage(PreviewStage previewStage,
+                                                                           TemplateRegistry templateRegistry) {
             return previewStage != null
-                    ? Optional.of(AbstractLoadedStage.builder().setPreviewStage(previewStage).build())
+                    ? Optional.of(AbstractLoadedStage.builder()
+                            .setPreviewStage(previewStage)
+                            .setTemplateRegistry(templateRegistry)
+                            .build())
                     : Optional.empty();
         }
 
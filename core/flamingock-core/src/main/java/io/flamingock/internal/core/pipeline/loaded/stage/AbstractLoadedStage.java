@@ -24,11 +24,14 @@ import io.flamingock.internal.common.core.preview.PreviewStage;
 import io.flamingock.internal.core.pipeline.execution.ExecutableStage;
 import io.flamingock.internal.common.core.recovery.action.ChangeAction;
 import io.flamingock.internal.common.core.recovery.action.ChangeActionMap;
+import io.flamingock.internal.common.core.audit.BatchCursor;
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.core.pipeline.loaded.PipelineValidationContext;
 import io.flamingock.internal.core.change.executable.ExecutableChange;
 import io.flamingock.internal.core.change.executable.builder.ExecutableChangeBuilder;
 import io.flamingock.internal.core.change.loaded.AbstractLoadedChange;
 import io.flamingock.internal.core.change.loaded.LoadedChangeBuilder;
+import io.flamingock.internal.common.core.template.TemplateRegistry;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -84,7 +87,9 @@ public abstract class AbstractLoadedStage implements Validatable<PipelineValidat
                 .stream()
                 .map(loadedChange -> {
                     ChangeAction action = actionPlan.getActionFor(loadedChange.getId());
-                    return ExecutableChangeBuilder.build(loadedChange, name, action);
+                    int stepCursor = actionPlan.getStepCursorFor(loadedChange.getId()).orElse(StepCursor.NONE);
+                    BatchCursor batchCursor = actionPlan.getBatchCursorFor(loadedChange.getId()).orElse(null);
+                    return ExecutableChangeBuilder.build(loadedChange, name, action, stepCursor, batchCursor);
                 })
                 .collect(Collectors.toCollection(LinkedList::new));
 
@@ -204,6 +209,7 @@ public abstract class AbstractLoadedStage implements Validatable<PipelineValidat
     public static class Builder {
 
         private PreviewStage previewStage;
+        private TemplateRegistry templateRegistry;
 
         private Builder() {
         }
@@ -213,10 +219,15 @@ public abstract class AbstractLoadedStage implements Validatable<PipelineValidat
             return this;
         }
 
+        public Builder setTemplateRegistry(TemplateRegistry templateRegistry) {
+            this.templateRegistry = templateRegistry;
+            return this;
+        }
+
         public AbstractLoadedStage build() {
             List<AbstractLoadedChange> loadedChanges = previewStage.getChanges()
                     .stream()
-                    .map(LoadedChangeBuilder::build)
+                    .map(previewChange -> LoadedChangeBuilder.build(previewChange, templateRegistry))
                     .sorted()
                     .collect(Collectors.toList());
             switch(previewStage.getType()) {
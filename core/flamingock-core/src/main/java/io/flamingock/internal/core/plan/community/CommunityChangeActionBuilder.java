@@ -16,6 +16,8 @@
 package io.flamingock.internal.core.plan.community;
 
 import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.BatchCursor;
+import io.flamingock.internal.common.core.audit.StepCursor;
 
 import io.flamingock.internal.common.core.recovery.ManualInterventionRequiredException;
 import io.flamingock.internal.common.core.recovery.action.ChangeAction;
@@ -46,12 +48,19 @@ public class CommunityChangeActionBuilder {
      *
      * @param changes the list of available changes
      * @param auditSnapshot the audit status containing change states and transaction info
+     * <p>Changes that are applied again after an interrupted or failed multi-step execution also
+     * get the {@link StepCursor} persisted by that execution, so they resume after the last
+     * committed step. Batch changes likewise get their {@link BatchCursor}, so they resume reading
+     * after the last committed chunk.
+     *
      * @return a StageActionPlan with actions for each change
      * @throws ManualInterventionRequiredException
      *         if any changes require manual intervention
      */
     public static ChangeActionMap build(Collection<AbstractLoadedChange> changes, Map<String, AuditEntry> auditSnapshot) {
         Map<String, ChangeAction> actionMap = new HashMap<>();
+        Map<String, Integer> stepCursors = new HashMap<>();
+        Map<String, BatchCursor> batchCursors = new HashMap<>();
         for(AbstractLoadedChange change: changes) {
             AuditEntry auditEntry = auditSnapshot.get(change.getId());
             if (auditEntry == null || auditEntry.getState() == null) {
@@ -62,11 +71,20 @@ public class CommunityChangeActionBuilder {
             } else {
                 ChangeAction action = ChangeActionResolver.resolve(auditEntry);
                 actionMap.put(change.getId(), action);
-
+                if (action == ChangeAction.APPLY) {
+                    StepCursor.read(auditEntry).ifPresent(cursor -> {
+                        log.debug("Change[{}] resumes after step {}", change.getId(), cursor);
+                        stepCursors.put(change.getId(), cursor);
+                    });
+                    BatchCursor.read(auditEntry).ifPresent(cursor -> {
+                        log.debug("Change[{}] resumes after chunk {}", change.getId(), cursor.getCommittedChunks());
+                        batchCursors.put(change.getId(), cursor);
+                    });
+                }
             }
         }
 
-        return new ChangeActionMap(actionMap);
+        return new ChangeActionMap(actionMap, stepCursors, batchCursors);
     }
 
 
@@ -25,6 +25,10 @@ import io.flamingock.internal.core.plan.ExecutionId;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLock;
 import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
 import io.flamingock.internal.core.configuration.core.CoreConfigurable;
+import io.flamingock.internal.core.jfr.AuditEntrySize;
+import io.flamingock.internal.core.jfr.FlamingockJfr;
+import io.flamingock.internal.core.jfr.JfrRecording;
+import io.flamingock.internal.core.metrics.FlamingockMetrics;
 
 import io.flamingock.internal.core.plan.ExecutionPlan;
 import io.flamingock.internal.core.plan.ExecutionPlanner;
@@ -57,6 +61,7 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
 
     private final CoreConfigurable configuration;
     private final RunnerId instanceId;
+    private final FlamingockMetrics metrics;
 
     public static Builder builder() {
         return new Builder();
@@ -73,10 +78,22 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
                                      CommunityLockService lockService,
                                      AuditReader auditReader,
                                      CoreConfigurable coreConfiguration) {
+        this(instanceId, lockService, auditReader, coreConfiguration, FlamingockMetrics.NO_OP);
+    }
+
+    /**
+     * @param metrics receives the pending-change count of each planner round
+     */
+    public CommunityExecutionPlanner(RunnerId instanceId,
+                                     CommunityLockService lockService,
+                                     AuditReader auditReader,
+                                     CoreConfigurable coreConfiguration,
+                                     FlamingockMetrics metrics) {
         this.instanceId = instanceId;
         this.auditReader = auditReader;
         this.lockService = lockService;
         this.configuration = coreConfiguration;
+        this.metrics = metrics;
     }
 
     /**
@@ -140,7 +157,7 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
         // Defensive merge in the writer methods means re-walking each iteration never overwrites
         // operation-written state or duplicates per-change records.
         while (true) {
-            Map<String, AuditEntry> initialSnapshot = auditReader.getAuditSnapshotByChangeId();
+            Map<String, AuditEntry> initialSnapshot = readAuditSnapshot();
             logger.debug("Pulled initial remote state:\n{}", initialSnapshot);
             stampSnapshotFacts(pipelineRun, initialSnapshot);
 
@@ -149,12 +166,14 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
                 return ExecutionPlan.ABORT();
             }
             if (!selection.getActiveBlock().isPresent()) {
+                metrics.recordPendingChanges(0);
                 return ExecutionPlan.CONTINUE();
             }
 
             StageRunBlock activeBlock = selection.getActiveBlock().get();
             List<AbstractLoadedStage> loadedStages = eligibleLoadedStagesFor(activeBlock);
             List<ExecutableStage> initialStages = buildExecutableStages(loadedStages, initialSnapshot);
+            metrics.recordPendingChanges(countPendingChanges(initialStages));
 
             if (!hasExecutableStages(initialStages)) {
                 // Defensive — should be unreachable: stampSnapshotFacts already marked the
@@ -172,9 +191,10 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
         Lock lock = acquireLock();
 
         try {
-            Map<String, AuditEntry> validatedSnapshot = auditReader.getAuditSnapshotByChangeId();
+            Map<String, AuditEntry> validatedSnapshot = readAuditSnapshot();
 
             List<ExecutableStage> validatedStages = buildExecutableStages(loadedStages, validatedSnapshot);
+            metrics.recordPendingChanges(countPendingChanges(validatedStages));
 
             Optional<ExecutableStage> nextStageOpt = getFirstExecutableStage(validatedStages);
 
@@ -348,6 +368,22 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
         }
     }
 
+    /**
+     * Reads the audit snapshot, recorded as a Flight Recorder event. Its size is only estimated
+     * when the event is going to be written.
+     */
+    private Map<String, AuditEntry> readAuditSnapshot() {
+        JfrRecording recording = FlamingockJfr.beginAuditRead();
+        Map<String, AuditEntry> snapshot = auditReader.getAuditSnapshotByChangeId();
+        recording.end();
+        if (recording.shouldCommit()) {
+            recording.setEntryCount(snapshot.size())
+                    .setBytes(AuditEntrySize.estimate(snapshot.values()))
+                    .commit();
+        }
+        return snapshot;
+    }
+
     private Lock acquireLock() {
         return CommunityLock.getLock(
                 configuration.getLockAcquiredForMillis(),
@@ -427,6 +463,17 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
         }
     }
 
+    /**
+     * Counts the changes not applied yet in the stages that require execution.
+     */
+    private long countPendingChanges(List<ExecutableStage> stages) {
+        return stages.stream()
+                .filter(ExecutableStage::isExecutionRequired)
+                .flatMap(stage -> stage.getChanges().stream())
+                .filter(change -> !change.isAlreadyApplied())
+                .count();
+    }
+
     /**
      * Counts the number of executable changes across all stages.
      *
@@ -446,6 +493,7 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
         private AuditReader auditReader;
         private CommunityLockService lockService;
         private CoreConfigurable coreConfigurable;
+        private FlamingockMetrics metrics = FlamingockMetrics.NO_OP;
 
         private Builder() {
         }
@@ -470,8 +518,13 @@ public class CommunityExecutionPlanner extends ExecutionPlanner {
             return this;
         }
 
+        public Builder setMetrics(FlamingockMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public CommunityExecutionPlanner build() {
-            return new CommunityExecutionPlanner(runnerId, lockService, auditReader, coreConfigurable);
+            return new CommunityExecutionPlanner(runnerId, lockService, auditReader, coreConfigurable, metrics);
         }
     }
 
@@ -115,6 +115,17 @@ public final class DefaultExecutionRuntime implements ExecutionRuntime {
         }
     }
 
+    @Override
+    public Object[] getInjectedParameters(Method method, int providedParameters) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Parameter[] parameters = method.getParameters();
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int paramIndex = providedParameters; paramIndex < parameterTypes.length; paramIndex++) {
+            arguments[paramIndex] = getParameter(parameterTypes[paramIndex], parameters[paramIndex]);
+        }
+        return arguments;
+    }
+
     private List<Object> getSignatureParameters(Executable executable) {
         Class<?>[] parameterTypes = executable.getParameterTypes();
         Parameter[] parameters = executable.getParameters();
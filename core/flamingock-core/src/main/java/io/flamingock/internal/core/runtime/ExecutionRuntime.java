@@ -27,4 +27,14 @@ public interface ExecutionRuntime extends RuntimeContext {
     Object executeMethodWithInjectedDependencies(Object instance, Method method);
 
     Object executeMethodWithParameters(Object instance, Method method, Object... parameters);
+
+    /**
+     * Resolves the arguments of the given method as {@link #executeMethodWithInjectedDependencies}
+     * does, except for its first {@code providedParameters} parameters, which are left
+     * {@code null} for the caller to fill in. Lets a method invoked many times with different
+     * leading arguments resolve its dependencies only once.
+     *
+     * @return an array with one slot per method parameter
+     */
+    Object[] getInjectedParameters(Method method, int providedParameters);
 }
@@ -27,7 +27,15 @@ public class LockGuardMethodHandler<T> implements MethodHandler {
     private final LockGuardProxy<T> lockGuardProxy;
 
     public LockGuardMethodHandler(T implementation, Lock lockEnsurer, LockGuardProxyFactory proxyFactory, Set<String> nonGuardedMethods) {
-        this.lockGuardProxy = new LockGuardProxy<>(implementation, lockEnsurer, proxyFactory, nonGuardedMethods);
+        this(implementation, lockEnsurer, proxyFactory, nonGuardedMethods, null);
+    }
+
+    public LockGuardMethodHandler(T implementation,
+                                  Lock lockEnsurer,
+                                  LockGuardProxyFactory proxyFactory,
+                                  Set<String> nonGuardedMethods,
+                                  ProxyInvocationListener invocationListener) {
+        this.lockGuardProxy = new LockGuardProxy<>(implementation, lockEnsurer, proxyFactory, nonGuardedMethods, invocationListener);
     }
 
     public LockGuardProxy<T> getLockGuardProxy() {
@@ -32,12 +32,22 @@ public class LockGuardProxy<T> implements InvocationHandler {
     private final T implementation;
     private final LockGuardProxyFactory proxyFactory;
     private final Set<String> nonGuardedMethods;
+    private final ProxyInvocationListener invocationListener;
 
     public LockGuardProxy(T implementation, Lock lock, LockGuardProxyFactory proxyFactory, Set<String> nonGuardedMethods) {
+        this(implementation, lock, proxyFactory, nonGuardedMethods, null);
+    }
+
+    public LockGuardProxy(T implementation,
+                          Lock lock,
+                          LockGuardProxyFactory proxyFactory,
+                          Set<String> nonGuardedMethods,
+                          ProxyInvocationListener invocationListener) {
         this.implementation = implementation;
         this.lockEnsurer = lock;
         this.proxyFactory = proxyFactory;
         this.nonGuardedMethods = nonGuardedMethods;
+        this.invocationListener = invocationListener;
     }
 
 
@@ -57,12 +67,29 @@ public class LockGuardProxy<T> implements InvocationHandler {
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         List<NonLockGuardedType> noGuardedLockTypes = ExecutionUtils.getLockGuardedTypeFromMethod(method);
 
-        if (shouldMethodBeLockGuarded(method, noGuardedLockTypes)) {
+        boolean guarded = shouldMethodBeLockGuarded(method, noGuardedLockTypes);
+        if (guarded) {
             lockEnsurer.ensure();
         }
 
-        return shouldTryProxyReturn(noGuardedLockTypes, method.getGenericReturnType())
-                ? proxyFactory.getRawProxy(method.invoke(implementation, args), method.getReturnType())
+        Object result = guarded && invocationListener != null
+                ? invokeObserved(method, args)
                 : method.invoke(implementation, args);
+
+        return shouldTryProxyReturn(noGuardedLockTypes, method.getGenericReturnType())
+                ? proxyFactory.getRawProxy(result, method.getReturnType())
+                : result;
+    }
+
+    private Object invokeObserved(Method method, Object[] args) throws Throwable {
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = method.invoke(implementation, args);
+            failed = false;
+            return result;
+        } finally {
+            invocationListener.onInvocation(method, System.nanoTime() - startedAt, failed);
+        }
     }
 }
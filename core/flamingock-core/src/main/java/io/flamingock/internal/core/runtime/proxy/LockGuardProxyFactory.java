@@ -18,6 +18,8 @@ package io.flamingock.internal.core.runtime.proxy;
 import io.flamingock.internal.util.Constants;
 import io.flamingock.internal.util.JdkUtil;
 import io.flamingock.internal.core.external.store.lock.Lock;
+import io.flamingock.internal.core.jfr.FlamingockJfr;
+import io.flamingock.internal.core.jfr.JfrRecording;
 import io.flamingock.internal.core.utils.ExecutionUtils;
 import javassist.util.proxy.ProxyFactory;
 import org.objenesis.ObjenesisStd;
@@ -54,26 +56,38 @@ public class LockGuardProxyFactory implements GuardProxyFactory {
     }
 
     public static LockGuardProxyFactory withLockAndNonGuardedClasses(Lock lock, Set<Class<?>> nonGuardedTypes) {
-        return new LockGuardProxyFactory(lock, Collections.emptyList(), nonGuardedTypes, Collections.emptySet());
+        return new LockGuardProxyFactory(lock, Collections.emptyList(), nonGuardedTypes, Collections.emptySet(), null);
 
     }
 
     private final Lock lock;
     private final Collection<String> notProxiedPackagePrefixes;
     private final Set<String> nonGuardedMethods;
+    private final ProxyInvocationListener invocationListener;
 
     private LockGuardProxyFactory(Lock lock) {
-        this(lock, Collections.emptyList(), Collections.emptySet(), DEFAULT_NON_GUARDED_METHODS);
+        this(lock, Collections.emptyList(), Collections.emptySet(), DEFAULT_NON_GUARDED_METHODS, null);
     }
 
     private LockGuardProxyFactory(Lock lock,
                                   Collection<String> notProxiedPackagePrefixes,
                                   Set<Class<?>> nonGuardedTypes,
-                                  Set<String> nonGuardedMethods) {
+                                  Set<String> nonGuardedMethods,
+                                  ProxyInvocationListener invocationListener) {
         this.lock = lock;
         this.notProxiedPackagePrefixes = notProxiedPackagePrefixes != null ? notProxiedPackagePrefixes : Collections.emptySet();
         this.nonGuardedTypes = nonGuardedTypes != null ? nonGuardedTypes : Collections.emptySet();
         this.nonGuardedMethods = nonGuardedMethods != null ? nonGuardedMethods : Collections.emptySet();
+        this.invocationListener = invocationListener;
+    }
+
+    /**
+     * Returns a factory like this one whose proxies also notify the given listener after every
+     * lock-guarded invocation. Proxies created for the values those invocations return notify it
+     * too.
+     */
+    public LockGuardProxyFactory withInvocationListener(ProxyInvocationListener invocationListener) {
+        return new LockGuardProxyFactory(lock, notProxiedPackagePrefixes, nonGuardedTypes, nonGuardedMethods, invocationListener);
     }
 
     @SuppressWarnings("unchecked")
@@ -106,7 +120,18 @@ public class LockGuardProxyFactory implements GuardProxyFactory {
     }
 
     private Object createProxy(Object impl, Class<?> type) {
+        JfrRecording recording = FlamingockJfr.beginProxyCreation(type, impl.getClass());
+        boolean success = false;
+        try {
+            Object proxyInstance = newProxyInstance(impl, type);
+            success = true;
+            return proxyInstance;
+        } finally {
+            recording.setSuccess(success).commit();
+        }
+    }
 
+    private Object newProxyInstance(Object impl, Class<?> type) {
         ProxyFactory proxyFactory = new ProxyFactory();
         if (type.isInterface()) {
             proxyFactory.setInterfaces(new Class<?>[]{type});
@@ -118,7 +143,7 @@ public class LockGuardProxyFactory implements GuardProxyFactory {
                 .getInstantiatorOf(proxyFactory.createClass())
                 .newInstance();
 
-        ((javassist.util.proxy.Proxy) proxyInstance).setHandler(new LockGuardMethodHandler<>(impl, lock, this, nonGuardedMethods));
+        ((javassist.util.proxy.Proxy) proxyInstance).setHandler(new LockGuardMethodHandler<>(impl, lock, this, nonGuardedMethods, invocationListener));
         return proxyInstance;
     }
 
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.runtime.proxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * Hook notified after every lock-guarded invocation on a dependency injected into a change,
+ * typically to observe how the target system responds to the change's operations.
+ *
+ * <p>It runs on the change's thread, right after the invocation returns, so implementations
+ * must be cheap and must not throw.
+ */
+@FunctionalInterface
+public interface ProxyInvocationListener {
+
+    /**
+     * @param method       the invoked method
+     * @param elapsedNanos wall-clock duration of the invocation, excluding the lock check
+     * @param failed       whether the invocation threw
+     */
+    void onInvocation(Method method, long elapsedNanos, boolean failed);
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.tracing;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Tracing hook for pipeline, stage, change, audit, lock and cloud operations. Every method is a
+ * no-op by default; {@link #NO_OP} is used when none is configured.
+ *
+ * <p>Set through {@code AbstractChangeRunnerBuilder#setTracer}, e.g. with the
+ * flamingock-opentelemetry module. A started span must become the current one on the calling
+ * thread until it's closed, so the spans started meanwhile are its children. Methods are called on
+ * the execution path, so implementations must be cheap and must not throw.</p>
+ */
+public interface FlamingockTracer {
+
+    FlamingockTracer NO_OP = new FlamingockTracer() {
+    };
+
+    enum SpanKind {
+        INTERNAL, CLIENT
+    }
+
+    default TraceSpan startSpan(String name, SpanKind kind) {
+        return TraceSpan.NO_OP;
+    }
+
+    /**
+     * Writes the context of the current span into an outgoing request, e.g. as W3C
+     * {@code traceparent} header.
+     *
+     * @param headerSetter receives each header name and value
+     */
+    default void injectContext(BiConsumer<String, String> headerSetter) {
+    }
+}
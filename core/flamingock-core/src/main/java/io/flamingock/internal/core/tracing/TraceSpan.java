@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.tracing;
+
+/**
+ * A span started by a {@link FlamingockTracer}. It's current until closed, which ends it.
+ */
+public interface TraceSpan extends AutoCloseable {
+
+    TraceSpan NO_OP = new TraceSpan() {
+    };
+
+    default TraceSpan setAttribute(String key, String value) {
+        return this;
+    }
+
+    default TraceSpan setAttribute(String key, long value) {
+        return this;
+    }
+
+    /**
+     * Marks the span as failed with the given error.
+     */
+    default void recordFailure(Throwable error) {
+    }
+
+    /**
+     * Ends the span and restores the context that was current when it started.
+     */
+    @Override
+    default void close() {
+    }
+}
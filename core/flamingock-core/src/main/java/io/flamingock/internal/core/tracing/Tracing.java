@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.tracing;
+
+import java.util.function.BiConsumer;
+
+/**
+ * The configured {@link FlamingockTracer} as seen by the instrumented components, which find it in
+ * the runner context. It names the spans and stamps each of them with the audit store type.
+ */
+public final class Tracing {
+
+    public static final Tracing NO_OP = new Tracing(FlamingockTracer.NO_OP, null);
+
+    public static final String PIPELINE = "flamingock.pipeline";
+    public static final String PLANNER_SCAN = "flamingock.planner.scan";
+    public static final String STAGE = "flamingock.stage";
+    public static final String CHANGE_APPLY = "flamingock.change.apply";
+    public static final String CHANGE_ROLLBACK = "flamingock.change.rollback";
+    public static final String AUDIT_WRITE = "flamingock.audit.write";
+    public static final String LOCK_ACQUIRE = "flamingock.lock.acquire";
+    public static final String LOCK_EXTEND = "flamingock.lock.extend";
+    public static final String CLOUD_REQUEST = "flamingock.cloud.request";
+
+    public static final String AUDIT_STORE_TYPE_ATTRIBUTE = "flamingock.audit_store.type";
+    public static final String STAGE_NAME_ATTRIBUTE = "flamingock.stage.name";
+    public static final String CHANGE_ID_ATTRIBUTE = "flamingock.change.id";
+    public static final String CHANGE_STATUS_ATTRIBUTE = "flamingock.change.status";
+    public static final String TARGET_SYSTEM_ATTRIBUTE = "flamingock.target_system.id";
+    public static final String AUDIT_STATUS_ATTRIBUTE = "flamingock.audit.status";
+    public static final String CLOUD_ENDPOINT_ATTRIBUTE = "flamingock.cloud.endpoint";
+    public static final String HTTP_METHOD_ATTRIBUTE = "http.request.method";
+    public static final String URL_PATH_ATTRIBUTE = "url.path";
+
+    private final FlamingockTracer tracer;
+    private final String auditStoreType;
+
+    /**
+     * @param auditStoreType the id of the audit store, added to every span; none when null
+     */
+    public Tracing(FlamingockTracer tracer, String auditStoreType) {
+        this.tracer = tracer != null ? tracer : FlamingockTracer.NO_OP;
+        this.auditStoreType = auditStoreType;
+    }
+
+    public boolean isEnabled() {
+        return tracer != FlamingockTracer.NO_OP;
+    }
+
+    public TraceSpan startSpan(String name) {
+        return start(name, FlamingockTracer.SpanKind.INTERNAL);
+    }
+
+    /**
+     * Starts the span of an outgoing request, whose headers should then receive
+     * {@link #injectContext(BiConsumer)}.
+     */
+    public TraceSpan startClientSpan(String name) {
+        return start(name, FlamingockTracer.SpanKind.CLIENT);
+    }
+
+    public void injectContext(BiConsumer<String, String> headerSetter) {
+        tracer.injectContext(headerSetter);
+    }
+
+    private TraceSpan start(String name, FlamingockTracer.SpanKind kind) {
+        TraceSpan span = tracer.startSpan(name, kind);
+        if (auditStoreType != null) {
+            span.setAttribute(AUDIT_STORE_TYPE_ATTRIBUTE, auditStoreType);
+        }
+        return span;
+    }
+}
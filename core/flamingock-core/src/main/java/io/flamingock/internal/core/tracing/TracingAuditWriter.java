@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.tracing;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditWriter;
+import io.flamingock.internal.util.Result;
+
+/**
+ * Wraps each audit write in a span. A write reported as {@link Result.Error} fails the span, like
+ * one that throws.
+ */
+public final class TracingAuditWriter implements AuditWriter {
+
+    private final AuditWriter delegate;
+    private final Tracing tracing;
+
+    public TracingAuditWriter(AuditWriter delegate, Tracing tracing) {
+        this.delegate = delegate;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public Result writeEntry(AuditEntry auditEntry) {
+        try (TraceSpan span = tracing.startSpan(Tracing.AUDIT_WRITE)) {
+            span.setAttribute(Tracing.CHANGE_ID_ATTRIBUTE, auditEntry.getChangeId());
+            if (auditEntry.getTargetSystemId() != null) {
+                span.setAttribute(Tracing.TARGET_SYSTEM_ATTRIBUTE, auditEntry.getTargetSystemId());
+            }
+            if (auditEntry.getState() != null) {
+                span.setAttribute(Tracing.AUDIT_STATUS_ATTRIBUTE, auditEntry.getState().name());
+            }
+            try {
+                Result result = delegate.writeEntry(auditEntry);
+                if (result instanceof Result.Error) {
+                    span.recordFailure(((Result.Error) result).getError());
+                }
+                return result;
+            } catch (RuntimeException e) {
+                span.recordFailure(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.tracing;
+
+import io.flamingock.internal.core.external.store.lock.LockAcquisition;
+import io.flamingock.internal.core.external.store.lock.LockKey;
+import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.core.external.store.lock.community.CommunityLockService;
+import io.flamingock.internal.util.id.RunnerId;
+
+/**
+ * Wraps lock acquisition and extension attempts in spans. Reads and releases are not traced.
+ */
+public final class TracingCommunityLockService implements CommunityLockService {
+
+    private final CommunityLockService delegate;
+    private final Tracing tracing;
+
+    public TracingCommunityLockService(CommunityLockService delegate, Tracing tracing) {
+        this.delegate = delegate;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public LockAcquisition upsert(LockKey key, RunnerId owner, long leaseMillis) throws LockServiceException {
+        try (TraceSpan span = tracing.startSpan(Tracing.LOCK_ACQUIRE)) {
+            try {
+                return delegate.upsert(key, owner, leaseMillis);
+            } catch (RuntimeException e) {
+                span.recordFailure(e);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public LockAcquisition extendLock(LockKey key, RunnerId owner, long leaseMillis) throws LockServiceException {
+        try (TraceSpan span = tracing.startSpan(Tracing.LOCK_EXTEND)) {
+            try {
+                return delegate.extendLock(key, owner, leaseMillis);
+            } catch (RuntimeException e) {
+                span.recordFailure(e);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public LockAcquisition getLockInfo(LockKey lockKey) {
+        return delegate.getLockInfo(lockKey);
+    }
+
+    @Override
+    public void releaseLock(LockKey lockKey, RunnerId owner) {
+        delegate.releaseLock(lockKey, owner);
+    }
+}
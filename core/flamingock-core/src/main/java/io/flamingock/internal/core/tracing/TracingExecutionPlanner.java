@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.tracing;
+
+import io.flamingock.internal.core.external.store.lock.LockException;
+import io.flamingock.internal.core.pipeline.run.PipelineRun;
+import io.flamingock.internal.core.plan.ExecutionPlan;
+import io.flamingock.internal.core.plan.ExecutionPlanner;
+
+/**
+ * Wraps each planner round in a span, so the audit reads and lock attempts it makes are grouped
+ * under it.
+ */
+public final class TracingExecutionPlanner extends ExecutionPlanner {
+
+    private final ExecutionPlanner delegate;
+    private final Tracing tracing;
+
+    public TracingExecutionPlanner(ExecutionPlanner delegate, Tracing tracing) {
+        this.delegate = delegate;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public ExecutionPlan getNextExecution(PipelineRun pipelineRun) throws LockException {
+        try (TraceSpan span = tracing.startSpan(Tracing.PLANNER_SCAN)) {
+            try {
+                return delegate.getNextExecution(pipelineRun);
+            } catch (RuntimeException e) {
+                span.recordFailure(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.tracing;
+
+import io.flamingock.internal.core.operation.AbstractOperationResult;
+import io.flamingock.internal.core.operation.Operation;
+import io.flamingock.internal.core.operation.OperationArgs;
+
+/**
+ * Wraps a pipeline operation in the root span of the execution.
+ */
+public final class TracingOperation<ARGS extends OperationArgs, RESULT extends AbstractOperationResult> implements Operation<ARGS, RESULT> {
+
+    private final Operation<ARGS, RESULT> delegate;
+    private final Tracing tracing;
+
+    public TracingOperation(Operation<ARGS, RESULT> delegate, Tracing tracing) {
+        this.delegate = delegate;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public RESULT execute(ARGS args) {
+        try (TraceSpan span = tracing.startSpan(Tracing.PIPELINE)) {
+            try {
+                return delegate.execute(args);
+            } catch (RuntimeException e) {
+                span.recordFailure(e);
+                throw e;
+            }
+        }
+    }
+}
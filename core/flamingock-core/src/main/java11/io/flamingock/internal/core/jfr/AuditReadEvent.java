@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name(FlamingockJfr.AUDIT_READ)
+@Label("Flamingock Audit Read")
+@Description("Read of the audit snapshot the execution is planned from")
+@Category("Flamingock")
+@Enabled(false)
+@StackTrace(false)
+@Threshold("0 ms")
+final class AuditReadEvent extends Event implements JfrRecording {
+
+    @Label("Entry Count")
+    long entryCount;
+
+    @Label("Estimated Size")
+    @Description("Estimated from the entries' textual fields; stores don't report the bytes they return")
+    @DataAmount
+    long bytes;
+
+    @Override
+    public JfrRecording setEntryCount(long entryCount) {
+        this.entryCount = entryCount;
+        return this;
+    }
+
+    @Override
+    public JfrRecording setBytes(long bytes) {
+        this.bytes = bytes;
+        return this;
+    }
+}
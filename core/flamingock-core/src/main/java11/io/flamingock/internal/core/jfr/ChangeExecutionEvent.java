@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name(FlamingockJfr.CHANGE_EXECUTION)
+@Label("Flamingock Change Execution")
+@Description("Application of a change, its audit writes and rollback included")
+@Category("Flamingock")
+@Enabled(false)
+@StackTrace(false)
+@Threshold("0 ms")
+final class ChangeExecutionEvent extends Event implements JfrRecording {
+
+    @Label("Change Id")
+    String changeId;
+
+    @Label("Stage")
+    String stageName;
+
+    @Label("Target System")
+    String targetSystemId;
+
+    @Label("Status")
+    String status;
+
+    @Label("Success")
+    boolean success;
+
+    @Override
+    public JfrRecording setStatus(String status) {
+        this.status = status;
+        return this;
+    }
+
+    @Override
+    public JfrRecording setSuccess(boolean success) {
+        this.success = success;
+        return this;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.jfr;
+
+/**
+ * Entry point to the Flight Recorder events Flamingock emits on its hot paths.
+ *
+ * <p>This is the JDK 11+ variant of the multi-release jar. The events are disabled by default: a
+ * recording has to enable them, for instance with the {@code META-INF/flamingock/flamingock.jfc}
+ * profile. While disabled, the begin methods return {@link JfrRecording#NO_OP}, so callers pay no
+ * more than the check.</p>
+ */
+public final class FlamingockJfr {
+
+    public static final String LOCK_WAIT = "io.flamingock.LockWait";
+    public static final String AUDIT_READ = "io.flamingock.AuditRead";
+    public static final String AUDIT_WRITE = "io.flamingock.AuditWrite";
+    public static final String CHANGE_EXECUTION = "io.flamingock.ChangeExecution";
+    public static final String PROXY_CREATION = "io.flamingock.ProxyCreation";
+
+    // a runtime image can be linked without the jdk.jfr module
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private FlamingockJfr() {
+    }
+
+    /**
+     * @return whether this runtime can emit the events at all, regardless of them being enabled
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static JfrRecording beginLockWait(String lockKey, String owner) {
+        if (!AVAILABLE) {
+            return JfrRecording.NO_OP;
+        }
+        LockWaitEvent event = new LockWaitEvent();
+        if (!event.isEnabled()) {
+            return JfrRecording.NO_OP;
+        }
+        event.lockKey = lockKey;
+        event.owner = owner;
+        event.begin();
+        return event;
+    }
+
+    public static JfrRecording beginAuditRead() {
+        if (!AVAILABLE) {
+            return JfrRecording.NO_OP;
+        }
+        AuditReadEvent event = new AuditReadEvent();
+        if (!event.isEnabled()) {
+            return JfrRecording.NO_OP;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static JfrRecording beginAuditWrite(String changeId, String targetSystemId, String auditStatus) {
+        if (!AVAILABLE) {
+            return JfrRecording.NO_OP;
+        }
+        AuditWriteEvent event = new AuditWriteEvent();
+        if (!event.isEnabled()) {
+            return JfrRecording.NO_OP;
+        }
+        event.changeId = changeId;
+        event.targetSystemId = targetSystemId;
+        event.auditStatus = auditStatus;
+        event.begin();
+        return event;
+    }
+
+    public static JfrRecording beginChangeExecution(String changeId, String stageName, String targetSystemId) {
+        if (!AVAILABLE) {
+            return JfrRecording.NO_OP;
+        }
+        ChangeExecutionEvent event = new ChangeExecutionEvent();
+        if (!event.isEnabled()) {
+            return JfrRecording.NO_OP;
+        }
+        event.changeId = changeId;
+        event.stageName = stageName;
+        event.targetSystemId = targetSystemId;
+        event.begin();
+        return event;
+    }
+
+    public static JfrRecording beginProxyCreation(Class<?> proxiedType, Class<?> targetType) {
+        if (!AVAILABLE) {
+            return JfrRecording.NO_OP;
+        }
+        ProxyCreationEvent event = new ProxyCreationEvent();
+        if (!event.isEnabled()) {
+            return JfrRecording.NO_OP;
+        }
+        event.proxiedType = proxiedType;
+        event.targetType = targetType;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MigrationThrottleTest {
+
+    private static final long TARGET_LATENCY_MILLIS = 5L;
+
+    @Test
+    @DisplayName("Should let a burst through and then pace operations at the configured rate")
+    void shouldPaceOperationsAtConfiguredRate() {
+        FakeTicker ticker = new FakeTicker();
+        MigrationThrottle throttle = MigrationThrottle.builder()
+                .setMaxRatePerSecond(100)
+                .build(ticker);
+
+        // burst allowance: 0.1s worth of operations
+        for (int i = 0; i < 10; i++) {
+            throttle.acquire();
+        }
+        assertEquals(0L, ticker.now);
+        assertFalse(throttle.tryAcquire());
+
+        for (int i = 0; i < 100; i++) {
+            throttle.acquire();
+        }
+
+        assertEquals(TimeUnit.SECONDS.toNanos(1), ticker.now, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(110L, throttle.getMetrics().getAcquiredPermits());
+        assertEquals(1000L, throttle.getMetrics().getThrottledMillis(), 1L);
+    }
+
+    @Test
+    @DisplayName("Should charge batch acquisitions bigger than the burst to the following callers")
+    void shouldChargeBigAcquisitionsToFollowingCallers() {
+        FakeTicker ticker = new FakeTicker();
+        MigrationThrottle throttle = MigrationThrottle.builder()
+                .setMaxRatePerSecond(100)
+                .build(ticker);
+
+        throttle.acquire(60);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), ticker.now, TimeUnit.MILLISECONDS.toNanos(1));
+
+        throttle.acquire(1);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(510), ticker.now, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively and recover additively")
+    void shouldApplyAimd() {
+        MigrationThrottle throttle = MigrationThrottle.builder()
+                .setMinRatePerSecond(10)
+                .setMaxRatePerSecond(1000)
+                .setIncreaseStep(50)
+                .setTargetLatencyMillis(TARGET_LATENCY_MILLIS)
+                .setSampleWindow(10)
+                .build(new FakeTicker());
+
+        recordWindow(throttle, 20);
+        assertEquals(500.0, throttle.getCurrentRate());
+        recordWindow(throttle, 20);
+        assertEquals(250.0, throttle.getCurrentRate());
+
+        recordWindow(throttle, 1);
+        assertEquals(300.0, throttle.getCurrentRate());
+
+        for (int i = 0; i < 20; i++) {
+            recordWindow(throttle, 100);
+        }
+        assertEquals(10.0, throttle.getCurrentRate());
+
+        ThrottleMetrics metrics = throttle.getMetrics();
+        assertEquals(22L, metrics.getBackoffCount());
+        assertEquals(1L, metrics.getIncreaseCount());
+        assertEquals(230L, metrics.getLatencySamples());
+        assertEquals(100.0, metrics.getLastWindowLatencyMillis());
+    }
+
+    @Test
+    @DisplayName("Should converge to the capacity of a target system whose latency degrades under load")
+    void shouldConvergeToCapacityOfDegradingTarget() {
+        FakeTicker ticker = new FakeTicker();
+        SimulatedTarget target = new SimulatedTarget(ticker, 500);
+        MigrationThrottle throttle = MigrationThrottle.builder()
+                .setMinRatePerSecond(10)
+                .setMaxRatePerSecond(2000)
+                .setTargetLatencyMillis(TARGET_LATENCY_MILLIS)
+                .build(ticker);
+
+        int operations = 60_000;
+        double rateSum = 0;
+        long latencySum = 0;
+        for (int i = 0; i < operations; i++) {
+            throttle.acquire();
+            long latency = target.write();
+            throttle.recordLatencyNanos(latency);
+            if (i >= operations / 2) {
+                rateSum += throttle.getCurrentRate();
+                latencySum += latency;
+            }
+        }
+
+        double averageRate = rateSum / (operations / 2);
+        double averageLatencyMillis = latencySum / (operations / 2) / 1_000_000.0;
+        ThrottleMetrics metrics = throttle.getMetrics();
+
+        assertTrue(metrics.getBackoffCount() > 0, "throttle never backed off: " + metrics);
+        assertTrue(metrics.getThrottledMillis() > 0, "throttle never made callers wait: " + metrics);
+        assertTrue(averageRate > 250 && averageRate < 650,
+                "rate doesn't oscillate around the target capacity: " + averageRate);
+        assertTrue(averageLatencyMillis < TARGET_LATENCY_MILLIS,
+                "average latency over target: " + averageLatencyMillis + "ms");
+        // unthrottled, the target would be pushed to 2000 ops/s, at 61ms per operation
+        assertTrue(target.latencyAt(2000) > TimeUnit.MILLISECONDS.toNanos(60));
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent configuration")
+    void shouldRejectInconsistentConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> MigrationThrottle.builder().setMinRatePerSecond(0).build());
+        assertThrows(IllegalArgumentException.class, () -> MigrationThrottle.builder()
+                .setMinRatePerSecond(100).setMaxRatePerSecond(10).build());
+        assertThrows(IllegalArgumentException.class, () -> MigrationThrottle.builder()
+                .setMaxRatePerSecond(100).setInitialRatePerSecond(200).build());
+        assertThrows(IllegalArgumentException.class, () -> MigrationThrottle.builder().setDecreaseFactor(1).build());
+        assertThrows(IllegalArgumentException.class, () -> MigrationThrottle.builder().setSampleWindow(0).build());
+        assertThrows(IllegalArgumentException.class, () -> MigrationThrottle.builder().build().acquire(0));
+    }
+
+    private static void recordWindow(MigrationThrottle throttle, long latencyMillis) {
+        for (int i = 0; i < 10; i++) {
+            throttle.recordLatency(latencyMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static final class FakeTicker implements MigrationThrottle.Ticker {
+
+        private long now;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void sleepNanos(long nanos) {
+            now += nanos;
+        }
+    }
+
+    /**
+     * Target system serving 1ms writes up to its capacity, and degrading linearly beyond it:
+     * 20ms more for every extra capacity's worth of operations per second. Writes are issued
+     * asynchronously, so the load is whatever rate the throttle lets through.
+     */
+    private static final class SimulatedTarget {
+
+        private static final long LOAD_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+        private final FakeTicker ticker;
+        private final int capacityPerSecond;
+        private final Deque<Long> recentWrites = new ArrayDeque<>();
+
+        private SimulatedTarget(FakeTicker ticker, int capacityPerSecond) {
+            this.ticker = ticker;
+            this.capacityPerSecond = capacityPerSecond;
+        }
+
+        long write() {
+            recentWrites.addLast(ticker.now);
+            while (recentWrites.peekFirst() <= ticker.now - LOAD_WINDOW_NANOS) {
+                recentWrites.removeFirst();
+            }
+            long loadPerSecond = recentWrites.size() * TimeUnit.SECONDS.toNanos(1) / LOAD_WINDOW_NANOS;
+            return latencyAt(loadPerSecond);
+        }
+
+        long latencyAt(long loadPerSecond) {
+            long base = TimeUnit.MILLISECONDS.toNanos(1);
+            if (loadPerSecond <= capacityPerSecond) {
+                return base;
+            }
+            return base + TimeUnit.MILLISECONDS.toNanos(20) * (loadPerSecond - capacityPerSecond) / capacityPerSecond;
+        }
+    }
+}
@@ -65,6 +65,21 @@ class FlamingockArgumentsTest {
         assertEquals("/var/log/flamingock.log", arguments.getOutputFile().orElse(null));
     }
 
+    @Test
+    void shouldParseOutputStreamFileAlongsideOutputFile() {
+        String[] args = {
+                "--flamingock.cli.mode=true",
+                "--flamingock.output-file=/tmp/output.json",
+                "--flamingock.output-stream-file", "/tmp/output.ndjson"
+        };
+
+        FlamingockArguments arguments = FlamingockArguments.parse(args);
+
+        assertEquals("/tmp/output.json", arguments.getOutputFile().orElse(null));
+        assertEquals("/tmp/output.ndjson", arguments.getOutputStreamFile().orElse(null));
+        assertTrue(arguments.getRemainingArgs().isEmpty());
+    }
+
     @Test
     void shouldCollectRemainingArgs() {
         String[] args = {
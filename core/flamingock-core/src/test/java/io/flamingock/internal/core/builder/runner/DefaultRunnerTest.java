@@ -15,10 +15,13 @@
  */
 package io.flamingock.internal.core.builder.runner;
 
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
 import io.flamingock.internal.core.operation.audit.AuditListArgs;
 import io.flamingock.internal.core.operation.audit.AuditListResult;
 import io.flamingock.internal.core.operation.Operation;
 import io.flamingock.internal.core.operation.RunnableOperation;
+import io.flamingock.internal.core.operation.execute.ExecuteArgs;
+import io.flamingock.internal.core.operation.execute.ExecuteResult;
 import io.flamingock.internal.util.id.RunnerId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +30,11 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -117,4 +125,61 @@ class DefaultRunnerTest {
         // Then
         verify(operation).execute(args);
     }
+
+    @Test
+    @DisplayName("runAsync: runs on the given executor and completes with the execution result")
+    void runAsyncShouldCompleteWithExecutionResult() throws Exception {
+        // Given
+        @SuppressWarnings("unchecked")
+        Operation<ExecuteArgs, ExecuteResult> executeOperation = mock(Operation.class);
+        ExecuteArgs executeArgs = new ExecuteArgs(null);
+        ExecuteResponseData data = new ExecuteResponseData();
+        AtomicReference<String> executingThread = new AtomicReference<>();
+        when(executeOperation.execute(executeArgs)).thenAnswer(invocation -> {
+            executingThread.set(Thread.currentThread().getName());
+            return new ExecuteResult(data);
+        });
+        DefaultRunner runner = new DefaultRunner(runnerId, new RunnableOperation<>(executeOperation, executeArgs), finalizer);
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "custom-executor"));
+
+        try {
+            // When
+            CompletableFuture<ExecuteResponseData> future = runner.runAsync(executor);
+
+            // Then
+            assertSame(data, future.get());
+            assertEquals("custom-executor", executingThread.get());
+            verify(finalizer, times(1)).run();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("runAsync: completes exceptionally with the operation error and still calls the finalizer")
+    void runAsyncShouldCompleteExceptionallyWhenOperationFails() {
+        // Given
+        RuntimeException expectedException = new RuntimeException("Operation failed");
+        when(operation.execute(args)).thenThrow(expectedException);
+        DefaultRunner runner = new DefaultRunner(runnerId, runnableOperation, finalizer);
+
+        // When
+        CompletableFuture<ExecuteResponseData> future = runner.runAsync();
+
+        // Then
+        CompletionException actualException = assertThrows(CompletionException.class, future::join);
+        assertSame(expectedException, actualException.getCause());
+        verify(finalizer, times(1)).run();
+    }
+
+    @Test
+    @DisplayName("runAsync: completes with null for operations other than execute")
+    void runAsyncShouldCompleteWithNullForNonExecuteOperations() {
+        // Given
+        when(operation.execute(args)).thenReturn(new AuditListResult(Collections.emptyList()));
+        DefaultRunner runner = new DefaultRunner(runnerId, runnableOperation, finalizer);
+
+        // When & Then
+        assertNull(runner.runAsync(Runnable::run).join());
+    }
 }
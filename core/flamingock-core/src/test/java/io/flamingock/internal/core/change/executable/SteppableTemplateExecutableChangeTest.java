@@ -23,6 +23,7 @@ import io.flamingock.api.template.TemplateStep;
 import io.flamingock.api.template.wrappers.TemplateString;
 import io.flamingock.api.template.wrappers.TemplateVoid;
 import io.flamingock.internal.core.runtime.ExecutionRuntime;
+import io.flamingock.internal.common.core.audit.StepCursor;
 import io.flamingock.internal.common.core.error.ChangeExecutionException;
 import io.flamingock.internal.common.core.error.FlamingockException;
 import io.flamingock.internal.common.core.recovery.action.ChangeAction;
@@ -183,8 +184,8 @@ class SteppableTemplateExecutableChangeTest {
     }
 
     @Test
-    @DisplayName("Should rollback from failed step in reverse order")
-    void shouldRollbackFromFailedStepInReverseOrder() {
+    @DisplayName("Should rollback committed steps in reverse order, excluding the failed step")
+    void shouldRollbackCommittedStepsInReverseOrder() {
         // Given
         shouldFailOnApply = true;
         failAtStep = 2; // Fail at step index 2 (third step)
@@ -212,15 +213,13 @@ class SteppableTemplateExecutableChangeTest {
         assertEquals("apply-0", appliedPayloads.get(0));
         assertEquals("apply-1", appliedPayloads.get(1));
 
-        // When - rollback from stepIndex=2 (the failed step) down to 0
+        // When - rollback from the last committed step (1) down to 0
         change.rollback(mockRuntime);
 
-        // Then - should rollback in reverse order (2, 1, 0)
-        // Note: step 2's rollback is attempted even though apply failed, because stepIndex was incremented before apply
-        assertEquals(3, rolledBackPayloads.size());
-        assertEquals("rollback-2", rolledBackPayloads.get(0));
-        assertEquals("rollback-1", rolledBackPayloads.get(1));
-        assertEquals("rollback-0", rolledBackPayloads.get(2));
+        // Then - should rollback in reverse order (1, 0); step 2 never committed
+        assertEquals(2, rolledBackPayloads.size());
+        assertEquals("rollback-1", rolledBackPayloads.get(0));
+        assertEquals("rollback-0", rolledBackPayloads.get(1));
     }
 
     @Test
@@ -253,14 +252,15 @@ class SteppableTemplateExecutableChangeTest {
     @Test
     @DisplayName("Should set correct rollback payload for each step during rollback")
     void shouldSetCorrectPayloadDuringRollback() {
-        // Given - simulate failure at step 2 so we can rollback steps 0, 1, and 2
+        // Given - simulate failure at step 3 so we can rollback steps 0, 1, and 2
         shouldFailOnApply = true;
-        failAtStep = 2;
+        failAtStep = 3;
 
         List<TemplateStep<TemplateString, TemplateString>> steps = Arrays.asList(
                 new TemplateStep<>(ts("apply-0"), ts("rollback-payload-X")),
                 new TemplateStep<>(ts("apply-1"), ts("rollback-payload-Y")),
-                new TemplateStep<>(ts("apply-2"), ts("rollback-payload-Z"))
+                new TemplateStep<>(ts("apply-2"), ts("rollback-payload-Z")),
+                new TemplateStep<>(ts("apply-3"), ts("rollback-payload-W"))
         );
         when(mockDescriptor.getSteps()).thenReturn(steps);
 
@@ -272,12 +272,12 @@ class SteppableTemplateExecutableChangeTest {
                 rollbackMethod
         );
 
-        // When - apply fails at step 2
+        // When - apply fails at step 3
         assertThrows(ChangeExecutionException.class, () -> change.apply(mockRuntime));
         change.rollback(mockRuntime);
 
         // Then - rollback payloads should be set correctly (reverse order: 2, 1, 0)
-        // stepIndex is 2 when failure occurs, so rollback starts from step 2
+        // step 2 is the last committed step, so rollback starts from it
         assertEquals(3, rolledBackPayloads.size());
         assertEquals("rollback-payload-Z", rolledBackPayloads.get(0)); // step 2
         assertEquals("rollback-payload-Y", rolledBackPayloads.get(1)); // step 1
@@ -287,15 +287,16 @@ class SteppableTemplateExecutableChangeTest {
     @Test
     @DisplayName("Should skip steps without rollback payload during rollback")
     void shouldSkipStepsWithoutRollbackPayload() {
-        // Given - step 1 has no rollback payload, and we have 4 steps to allow failAtStep=3
+        // Given - step 1 has no rollback payload, and we have 5 steps to allow failAtStep=4
         shouldFailOnApply = true;
-        failAtStep = 3; // Fail at step index 3 (fourth step)
+        failAtStep = 4; // Fail at step index 4 (fifth step)
 
         List<TemplateStep<TemplateString, TemplateString>> steps = Arrays.asList(
                 new TemplateStep<>(ts("apply-0"), ts("rollback-0")),
                 new TemplateStep<>(ts("apply-1"), null), // No rollback payload - should be skipped
                 new TemplateStep<>(ts("apply-2"), ts("rollback-2")),
-                new TemplateStep<>(ts("apply-3"), ts("rollback-3"))
+                new TemplateStep<>(ts("apply-3"), ts("rollback-3")),
+                new TemplateStep<>(ts("apply-4"), ts("rollback-4"))
         );
         when(mockDescriptor.getSteps()).thenReturn(steps);
 
@@ -307,16 +308,16 @@ class SteppableTemplateExecutableChangeTest {
                 rollbackMethod
         );
 
-        // When - apply fails at step 3 (after steps 0, 1, 2 succeed)
+        // When - apply fails at step 4 (after steps 0, 1, 2, 3 succeed)
         assertThrows(ChangeExecutionException.class, () -> change.apply(mockRuntime));
 
-        // Verify 3 steps were applied
-        assertEquals(3, appliedPayloads.size());
+        // Verify 4 steps were applied
+        assertEquals(4, appliedPayloads.size());
 
         change.rollback(mockRuntime);
 
         // Then - should rollback steps 3, 2, 0 (step 1 skipped due to null rollback payload)
-        // stepIndex=3 when failure occurs, rollback: 3, 2, 1(skipped), 0
+        // last committed step is 3, rollback: 3, 2, 1(skipped), 0
         assertEquals(3, rolledBackPayloads.size());
         assertEquals("rollback-3", rolledBackPayloads.get(0)); // step 3
         assertEquals("rollback-2", rolledBackPayloads.get(1)); // step 2
@@ -477,15 +478,110 @@ class SteppableTemplateExecutableChangeTest {
 
         // Verify - only steps 0 and 1 were applied (step 2 failed before completion)
         assertEquals(2, appliedPayloads.size());
+        assertEquals(1, change.getStepCursor());
 
         // When - rollback
         change.rollback(mockRuntime);
 
-        // Then - steps 2, 1, 0 should be rolled back
-        // stepIndex=2 when failure occurs (incremented before execute), so rollback starts from 2
-        assertEquals(3, rolledBackPayloads.size());
-        assertEquals("rollback-2", rolledBackPayloads.get(0));
-        assertEquals("rollback-1", rolledBackPayloads.get(1));
-        assertEquals("rollback-0", rolledBackPayloads.get(2));
+        // Then - only the committed steps 1, 0 should be rolled back, leaving nothing committed
+        assertEquals(2, rolledBackPayloads.size());
+        assertEquals("rollback-1", rolledBackPayloads.get(0));
+        assertEquals("rollback-0", rolledBackPayloads.get(1));
+        assertEquals(StepCursor.NONE, change.getStepCursor());
+    }
+
+    @Test
+    @DisplayName("Should resume after the step cursor of a previous execution")
+    void shouldResumeAfterStepCursor() {
+        // Given - steps 0 and 1 were committed by a previous execution
+        List<TemplateStep<TemplateString, TemplateString>> steps = Arrays.asList(
+                new TemplateStep<>(ts("apply-0"), ts("rollback-0")),
+                new TemplateStep<>(ts("apply-1"), ts("rollback-1")),
+                new TemplateStep<>(ts("apply-2"), ts("rollback-2")),
+                new TemplateStep<>(ts("apply-3"), ts("rollback-3"))
+        );
+        when(mockDescriptor.getSteps()).thenReturn(steps);
+
+        SteppableTemplateExecutableChange<TemplateVoid, TemplateString, TemplateString> change = new SteppableTemplateExecutableChange<>(
+                "test-stage",
+                mockDescriptor,
+                ChangeAction.APPLY,
+                applyMethod,
+                rollbackMethod,
+                1
+        );
+
+        // When
+        change.apply(mockRuntime);
+
+        // Then - only the remaining steps run
+        assertEquals(Arrays.asList("apply-2", "apply-3"), appliedPayloads);
+        assertEquals(3, change.getStepCursor());
+    }
+
+    @Test
+    @DisplayName("Should notify the checkpoint listener after each committed step only")
+    void shouldNotifyCheckpointListenerAfterEachCommittedStep() {
+        // Given
+        shouldFailOnApply = true;
+        failAtStep = 2;
+
+        List<TemplateStep<TemplateString, TemplateString>> steps = Arrays.asList(
+                new TemplateStep<>(ts("apply-0"), ts("rollback-0")),
+                new TemplateStep<>(ts("apply-1"), ts("rollback-1")),
+                new TemplateStep<>(ts("apply-2"), ts("rollback-2"))
+        );
+        when(mockDescriptor.getSteps()).thenReturn(steps);
+
+        SteppableTemplateExecutableChange<TemplateVoid, TemplateString, TemplateString> change = new SteppableTemplateExecutableChange<>(
+                "test-stage",
+                mockDescriptor,
+                ChangeAction.APPLY,
+                applyMethod,
+                rollbackMethod
+        );
+        List<Integer> checkpoints = new ArrayList<>();
+        change.setStepCheckpointListener((executableChange, stepIndex) -> {
+            assertSame(change, executableChange);
+            checkpoints.add(stepIndex);
+        });
+
+        // When
+        assertThrows(ChangeExecutionException.class, () -> change.apply(mockRuntime));
+
+        // Then - step 2 failed, so it was never checkpointed
+        assertEquals(Arrays.asList(0, 1), checkpoints);
+    }
+
+    @Test
+    @DisplayName("Should rollback steps committed by a previous execution after resuming")
+    void shouldRollbackStepsCommittedByPreviousExecution() {
+        // Given - step 0 committed by a previous execution, this one fails at its second step (index 2)
+        shouldFailOnApply = true;
+        failAtStep = 1;
+
+        List<TemplateStep<TemplateString, TemplateString>> steps = Arrays.asList(
+                new TemplateStep<>(ts("apply-0"), ts("rollback-0")),
+                new TemplateStep<>(ts("apply-1"), ts("rollback-1")),
+                new TemplateStep<>(ts("apply-2"), ts("rollback-2"))
+        );
+        when(mockDescriptor.getSteps()).thenReturn(steps);
+
+        SteppableTemplateExecutableChange<TemplateVoid, TemplateString, TemplateString> change = new SteppableTemplateExecutableChange<>(
+                "test-stage",
+                mockDescriptor,
+                ChangeAction.APPLY,
+                applyMethod,
+                rollbackMethod,
+                0
+        );
+
+        // When
+        assertThrows(ChangeExecutionException.class, () -> change.apply(mockRuntime));
+        change.rollback(mockRuntime);
+
+        // Then - step 1 was applied in this execution, step 0 in the previous one
+        assertEquals(Collections.singletonList("apply-1"), appliedPayloads);
+        assertEquals(Arrays.asList("rollback-1", "rollback-0"), rolledBackPayloads);
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.loaded;
+
+import io.flamingock.api.annotations.ApplyTemplate;
+import io.flamingock.api.annotations.ChangeTemplate;
+import io.flamingock.api.annotations.RollbackTemplate;
+import io.flamingock.api.template.AbstractChangeTemplate;
+import io.flamingock.internal.common.core.template.ChangeTemplateDefinition;
+import io.flamingock.internal.common.core.template.TemplateRegistry;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtMethod;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.StringMemberValue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Startup comparison between the previous eager discovery (ServiceLoader instantiating every
+ * provider, then building every definition) and the lazy {@link TemplateRegistry} index, over
+ * 200 generated templates. Timings are logged, not asserted; the assertions check the work
+ * each path does, which is what the timings follow from.
+ */
+class TemplateRegistryStartupBenchmarkTest {
+
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("TemplateRegistryBenchmark");
+
+    private static final int TEMPLATES = 200;
+
+    private static final String PACKAGE = "io.flamingock.generated.template";
+
+    private static final String GENERIC_SUPERCLASS_SIGNATURE =
+            "Lio/flamingock/api/template/AbstractChangeTemplate<"
+                    + "Lio/flamingock/api/template/wrappers/TemplateVoid;"
+                    + "Lio/flamingock/api/template/wrappers/TemplateString;"
+                    + "Lio/flamingock/api/template/wrappers/TemplateString;>;";
+
+    public static final AtomicInteger INITIALIZED = new AtomicInteger();
+
+    @TempDir
+    static Path classesDir;
+
+    @BeforeAll
+    static void generateTemplates() throws Exception {
+        ClassPool pool = ClassPool.getDefault();
+        CtClass superClass = pool.get(AbstractChangeTemplate.class.getName());
+        List<String> classNames = new ArrayList<>();
+        for (int i = 0; i < TEMPLATES; i++) {
+            String className = PACKAGE + ".GeneratedTemplate" + i;
+            CtClass ctClass = pool.makeClass(className, superClass);
+            ctClass.setGenericSignature(GENERIC_SUPERCLASS_SIGNATURE);
+            ConstPool constPool = ctClass.getClassFile().getConstPool();
+
+            AnnotationsAttribute classAnnotations = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+            Annotation changeTemplate = new Annotation(ChangeTemplate.class.getName(), constPool);
+            changeTemplate.addMemberValue("name", new StringMemberValue("generated-template-" + i, constPool));
+            classAnnotations.addAnnotation(changeTemplate);
+            ctClass.getClassFile().addAttribute(classAnnotations);
+
+            ctClass.makeClassInitializer().insertBefore(
+                    TemplateRegistryStartupBenchmarkTest.class.getName() + ".INITIALIZED.incrementAndGet();");
+            CtConstructor constructor = CtNewConstructor.make("public GeneratedTemplate" + i + "() { super(); }", ctClass);
+            ctClass.addConstructor(constructor);
+            ctClass.addMethod(annotatedMethod(ctClass, constPool, "apply", ApplyTemplate.class));
+            ctClass.addMethod(annotatedMethod(ctClass, constPool, "rollback", RollbackTemplate.class));
+
+            ctClass.writeFile(classesDir.toString());
+            ctClass.detach();
+            classNames.add(className);
+        }
+        Path servicesDir = Files.createDirectories(classesDir.resolve("META-INF/services"));
+        Files.write(servicesDir.resolve(io.flamingock.api.template.ChangeTemplate.class.getName()),
+                classNames, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("lazy registry should index 200 templates without initializing any of them")
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void lazyRegistryShouldIndexWithoutInitializing() throws Exception {
+        long eagerNanos;
+        try (URLClassLoader loader = newLoader()) {
+            INITIALIZED.set(0);
+            long start = System.nanoTime();
+            List<ChangeTemplateDefinition> definitions = new ArrayList<>();
+            for (io.flamingock.api.template.ChangeTemplate template : ServiceLoader.load(io.flamingock.api.template.ChangeTemplate.class, loader)) {
+                definitions.add(ChangeTemplateDefinition.fromTemplateClass((Class) template.getClass()));
+            }
+            eagerNanos = System.nanoTime() - start;
+            assertEquals(TEMPLATES, definitions.size());
+            assertEquals(TEMPLATES, INITIALIZED.get());
+        }
+
+        long lazyNanos;
+        try (URLClassLoader loader = newLoader()) {
+            INITIALIZED.set(0);
+            long start = System.nanoTime();
+            TemplateRegistry registry = TemplateRegistry.fromClasspath(loader);
+            ChangeTemplateDefinition used = registry.getTemplateOrFail("generated-template-42");
+            lazyNanos = System.nanoTime() - start;
+
+            assertEquals(TEMPLATES, registry.getTemplateIds().size());
+            assertEquals(1, registry.getResolvedCount());
+            assertEquals(PACKAGE + ".GeneratedTemplate42", used.getTemplateClass().getName());
+            assertEquals(0, INITIALIZED.get());
+        }
+
+        logger.info("{} templates: eager={} ms, lazy={} ms", TEMPLATES,
+                String.format("%.2f", eagerNanos / 1_000_000.0), String.format("%.2f", lazyNanos / 1_000_000.0));
+    }
+
+    private static URLClassLoader newLoader() throws Exception {
+        return new URLClassLoader(new URL[]{classesDir.toUri().toURL()},
+                TemplateRegistryStartupBenchmarkTest.class.getClassLoader());
+    }
+
+    private static CtMethod annotatedMethod(CtClass ctClass,
+                                            ConstPool constPool,
+                                            String name,
+                                            Class<?> annotationClass) throws Exception {
+        CtMethod method = CtNewMethod.make("public void " + name + "() { }", ctClass);
+        AnnotationsAttribute attribute = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        attribute.addAnnotation(new Annotation(annotationClass.getName(), constPool));
+        method.getMethodInfo().addAttribute(attribute);
+        return method;
+    }
+}
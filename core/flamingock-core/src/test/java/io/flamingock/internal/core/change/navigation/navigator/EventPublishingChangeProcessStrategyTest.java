@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.change.navigation.navigator;
+
+import io.flamingock.internal.common.core.audit.AuditWriter;
+import io.flamingock.internal.common.core.change.ChangeDescriptor;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.core.change.executable.ExecutableChange;
+import io.flamingock.internal.core.event.model.Event;
+import io.flamingock.internal.core.event.model.impl.ChangeFailedEvent;
+import io.flamingock.internal.core.event.model.impl.ChangeStartedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventPublishingChangeProcessStrategyTest {
+
+    @Test
+    @DisplayName("Should publish a failed event and rethrow when the strategy throws")
+    void shouldPublishFailedEventWhenDelegateThrows() {
+        ChangeDescriptor descriptor = mock(ChangeDescriptor.class);
+        when(descriptor.getId()).thenReturn("change-1");
+        when(descriptor.getAuthor()).thenReturn("author");
+        ExecutableChange change = mock(ExecutableChange.class);
+        when(change.getId()).thenReturn("change-1");
+        when(change.getStageName()).thenReturn("stage-1");
+        when(change.getLoadedChange()).thenReturn(descriptor);
+
+        IllegalStateException failure = new IllegalStateException("audit store unreachable");
+        List<Event> events = new ArrayList<>();
+        ChangeExecutionRecorder recorder = new ChangeExecutionRecorder(mock(AuditWriter.class), null);
+        EventPublishingChangeProcessStrategy strategy = new EventPublishingChangeProcessStrategy(
+                () -> {
+                    throw failure;
+                },
+                change,
+                recorder,
+                events::add);
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, strategy::applyChange);
+
+        assertSame(failure, thrown);
+        assertEquals(2, events.size());
+        assertInstanceOf(ChangeStartedEvent.class, events.get(0));
+        ChangeFailedEvent failedEvent = assertInstanceOf(ChangeFailedEvent.class, events.get(1));
+        assertEquals("stage-1", failedEvent.getStageName());
+        assertEquals("change-1", failedEvent.getChangeId());
+        assertSame(failure, failedEvent.getException());
+        assertEquals(ChangeStatus.FAILED, failedEvent.getResult().getStatus());
+        assertEquals("audit store unreachable", failedEvent.getResult().getErrorMessage());
+        assertEquals(0L, failedEvent.getLockGuardedCallCount());
+    }
+}
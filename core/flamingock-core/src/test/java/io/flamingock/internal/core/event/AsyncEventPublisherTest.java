@@ -0,0 +1,329 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.event;
+
+import io.flamingock.internal.core.event.AsyncEventPublisher.OverflowPolicy;
+import io.flamingock.internal.core.event.model.Event;
+import io.flamingock.internal.core.event.model.impl.StageStartedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncEventPublisherTest {
+
+    private static final long LISTENER_DELAY_MILLIS = 100;
+
+    @Test
+    @DisplayName("Should not make the publisher wait for slow listeners")
+    void shouldNotWaitForSlowListeners() {
+        RecordingListener slow = new RecordingListener(LISTENER_DELAY_MILLIS);
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(slow)
+                .build();
+
+        long start = System.nanoTime();
+        publishStages(publisher, 5);
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(publishMillis < LISTENER_DELAY_MILLIS, "publishing took " + publishMillis + "ms");
+        publisher.close();
+        assertEquals(stageNames(5), slow.getStageNames());
+    }
+
+    @Test
+    @DisplayName("Should deliver events in order to each listener, a slow one not delaying the others")
+    void shouldPreserveOrderPerListener() throws InterruptedException {
+        RecordingListener slow = new RecordingListener(LISTENER_DELAY_MILLIS);
+        CountDownLatch fastDone = new CountDownLatch(20);
+        RecordingListener fast = new RecordingListener(0, fastDone);
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(slow)
+                .addListener(fast)
+                .build();
+
+        publishStages(publisher, 20);
+
+        assertTrue(fastDone.await(LISTENER_DELAY_MILLIS, TimeUnit.MILLISECONDS), "fast listener waited for the slow one");
+        publisher.close();
+        assertEquals(stageNames(20), fast.getStageNames());
+        assertEquals(stageNames(20), slow.getStageNames());
+    }
+
+    @Test
+    @DisplayName("Should keep order on a shared executor")
+    void shouldPreserveOrderOnSharedExecutor() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            RecordingListener first = new RecordingListener(1);
+            RecordingListener second = new RecordingListener(1);
+            AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                    .addListener(first, pool)
+                    .addListener(second, pool)
+                    .build();
+
+            publishStages(publisher, 50);
+            publisher.close();
+
+            assertEquals(stageNames(50), first.getStageNames());
+            assertEquals(stageNames(50), second.getStageNames());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should block the publisher when the queue is full and the policy is BLOCK")
+    void shouldBlockWhenFull() {
+        RecordingListener slow = new RecordingListener(LISTENER_DELAY_MILLIS);
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(slow)
+                .setQueueCapacity(1)
+                .setOverflowPolicy(OverflowPolicy.BLOCK)
+                .build();
+
+        long start = System.nanoTime();
+        publishStages(publisher, 4);
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        publisher.close();
+
+        // the first event is taken at once, the second waits in the queue, the next two wait for room
+        assertTrue(publishMillis >= LISTENER_DELAY_MILLIS, "publishing took " + publishMillis + "ms");
+        assertEquals(stageNames(4), slow.getStageNames());
+        assertEquals(0, publisher.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Should stop blocking after the drain timeout and discard the event when the policy is BLOCK")
+    void shouldBoundBlockingByDrainTimeout() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockedListener listener = new BlockedListener(release);
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(listener)
+                .setQueueCapacity(1)
+                .setOverflowPolicy(OverflowPolicy.BLOCK)
+                .setDrainTimeoutMillis(LISTENER_DELAY_MILLIS)
+                .build();
+
+        publisher.publish(new StageStartedEvent("stage-0"));
+        listener.awaitFirstEvent();
+        long start = System.nanoTime();
+        publishStages(publisher, 1, 2);
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        publisher.close();
+
+        assertTrue(publishMillis >= LISTENER_DELAY_MILLIS, "publishing took " + publishMillis + "ms");
+        assertEquals(Arrays.asList("stage-0", "stage-1"), listener.getStageNames());
+        assertEquals(1, publisher.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Should discard the newest events when the queue is full and the policy is DROP_NEWEST")
+    void shouldDropNewest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockedListener listener = new BlockedListener(release);
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(listener)
+                .setQueueCapacity(2)
+                .setOverflowPolicy(OverflowPolicy.DROP_NEWEST)
+                .build();
+
+        publisher.publish(new StageStartedEvent("stage-0"));
+        listener.awaitFirstEvent();
+        publishStages(publisher, 1, 5);
+        release.countDown();
+        publisher.close();
+
+        assertEquals(Arrays.asList("stage-0", "stage-1", "stage-2"), listener.getStageNames());
+        assertEquals(3, publisher.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Should discard the oldest events when the queue is full and the policy is DROP_OLDEST")
+    void shouldDropOldest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockedListener listener = new BlockedListener(release);
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(listener)
+                .setQueueCapacity(2)
+                .setOverflowPolicy(OverflowPolicy.DROP_OLDEST)
+                .build();
+
+        publisher.publish(new StageStartedEvent("stage-0"));
+        listener.awaitFirstEvent();
+        publishStages(publisher, 1, 5);
+        release.countDown();
+        publisher.close();
+
+        assertEquals(Arrays.asList("stage-0", "stage-4", "stage-5"), listener.getStageNames());
+        assertEquals(3, publisher.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Should keep delivering after a listener throws")
+    void shouldSurviveFailingListener() {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(event -> {
+                    String stageName = ((StageStartedEvent) event).getStageName();
+                    received.add(stageName);
+                    if ("stage-1".equals(stageName)) {
+                        throw new IllegalStateException("listener failure");
+                    }
+                })
+                .build();
+
+        publishStages(publisher, 3);
+        publisher.close();
+
+        assertEquals(stageNames(3), received);
+    }
+
+    @Test
+    @DisplayName("Should deliver synchronously once closed")
+    void shouldDeliverSynchronouslyAfterClose() {
+        RecordingListener listener = new RecordingListener(0);
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(listener)
+                .build();
+        publisher.close();
+
+        publisher.publish(new StageStartedEvent("stage-0"));
+
+        assertEquals(Collections.singletonList("stage-0"), listener.getStageNames());
+    }
+
+    @Test
+    @DisplayName("Should discard pending events and skip later ones for a listener not drained in time")
+    void shouldAbandonListenerNotDrainedInTime() throws InterruptedException {
+        BlockedListener listener = new BlockedListener(new CountDownLatch(1));
+        AsyncEventPublisher publisher = AsyncEventPublisher.builder()
+                .addListener(listener)
+                .setQueueCapacity(4)
+                .setDrainTimeoutMillis(LISTENER_DELAY_MILLIS)
+                .build();
+
+        publisher.publish(new StageStartedEvent("stage-0"));
+        listener.awaitFirstEvent();
+        publishStages(publisher, 1, 2);
+        publisher.close();
+        // the listener may still be running stage-0: it must not get this one concurrently
+        publisher.publish(new StageStartedEvent("stage-3"));
+
+        // closing interrupts the dedicated thread, which lets the held event finish
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (listener.getStageNames().isEmpty() && System.currentTimeMillis() < deadline) {
+            sleep(10);
+        }
+        sleep(LISTENER_DELAY_MILLIS);
+        assertEquals(Collections.singletonList("stage-0"), listener.getStageNames());
+        assertEquals(3, publisher.getDroppedCount());
+    }
+
+    private static void publishStages(EventPublisher publisher, int count) {
+        publishStages(publisher, 0, count - 1);
+    }
+
+    private static void publishStages(EventPublisher publisher, int from, int to) {
+        for (int i = from; i <= to; i++) {
+            publisher.publish(new StageStartedEvent("stage-" + i));
+        }
+    }
+
+    private static List<String> stageNames(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "stage-" + i).collect(Collectors.toList());
+    }
+
+    private static class RecordingListener implements EventPublisher {
+
+        private final long delayMillis;
+        private final CountDownLatch latch;
+        private final List<String> stageNames = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingListener(long delayMillis) {
+            this(delayMillis, new CountDownLatch(0));
+        }
+
+        RecordingListener(long delayMillis, CountDownLatch latch) {
+            this.delayMillis = delayMillis;
+            this.latch = latch;
+        }
+
+        @Override
+        public void publish(Event event) {
+            sleep(delayMillis);
+            stageNames.add(((StageStartedEvent) event).getStageName());
+            latch.countDown();
+        }
+
+        List<String> getStageNames() {
+            return new ArrayList<>(stageNames);
+        }
+    }
+
+    /**
+     * Holds the first event until released, so the queue fills up behind it.
+     */
+    private static class BlockedListener extends RecordingListener {
+
+        private final CountDownLatch firstEvent = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        BlockedListener(CountDownLatch release) {
+            super(0);
+            this.release = release;
+        }
+
+        @Override
+        public void publish(Event event) {
+            firstEvent.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.publish(event);
+        }
+
+        void awaitFirstEvent() throws InterruptedException {
+            assertTrue(firstEvent.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
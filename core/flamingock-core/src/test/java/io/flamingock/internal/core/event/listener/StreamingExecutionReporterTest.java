@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.event.listener;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flamingock.internal.common.core.response.NdjsonResponseChannel;
+import io.flamingock.internal.common.core.response.NoOpResponseChannel;
+import io.flamingock.internal.common.core.response.ResponseChannelException;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.common.core.response.data.StageResult;
+import io.flamingock.internal.common.core.response.data.StageState;
+import io.flamingock.internal.core.event.model.impl.ChangeCompletedEvent;
+import io.flamingock.internal.core.event.model.impl.ChangeFailedEvent;
+import io.flamingock.internal.core.event.model.impl.PipelineStartedEvent;
+import io.flamingock.internal.core.event.model.impl.StageCompletedEvent;
+import io.flamingock.internal.core.event.model.impl.StageStartedEvent;
+import io.flamingock.internal.util.JsonObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class StreamingExecutionReporterTest {
+
+    private final ObjectMapper objectMapper = JsonObjectMapper.DEFAULT_INSTANCE;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should stream a record per event as the execution progresses")
+    void shouldStreamRecordPerEvent() throws Exception {
+        Path streamPath = tempDir.resolve("response.ndjson");
+        NdjsonResponseChannel channel = new NdjsonResponseChannel(streamPath.toString(), new NoOpResponseChannel(), objectMapper);
+        StreamingExecutionReporter reporter = new StreamingExecutionReporter(channel);
+        ChangeResult applied = changeResult("change-1", ChangeStatus.APPLIED);
+        ChangeResult failed = changeResult("change-2", ChangeStatus.FAILED);
+
+        reporter.publish(new PipelineStartedEvent());
+        reporter.publish(new StageStartedEvent("stage-1"));
+        reporter.publish(new ChangeCompletedEvent("stage-1", applied, 1_000L, 100L, 2L));
+        // progress is readable while the execution is still running
+        assertEquals(3, Files.readAllLines(streamPath, StandardCharsets.UTF_8).size());
+        reporter.publish(new ChangeFailedEvent("stage-1", failed, new RuntimeException("boom"), 1_000L, 100L, 0L));
+        reporter.publish(new StageCompletedEvent(StageResult.builder()
+                .stageId("stage-1")
+                .stageName("stage-1")
+                .state(StageState.COMPLETED)
+                .durationMs(40)
+                .addChange(applied)
+                .addChange(failed)
+                .totalChanges(2)
+                .build()));
+        channel.close();
+
+        List<String> lines = Files.readAllLines(streamPath, StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        assertEquals(StreamingExecutionReporter.PIPELINE_STARTED_RECORD, type(lines.get(0)));
+        assertEquals(StreamingExecutionReporter.STAGE_STARTED_RECORD, type(lines.get(1)));
+        assertEquals(StreamingExecutionReporter.CHANGE_RECORD, type(lines.get(2)));
+        assertEquals(StreamingExecutionReporter.CHANGE_RECORD, type(lines.get(3)));
+        assertEquals(StreamingExecutionReporter.STAGE_COMPLETED_RECORD, type(lines.get(4)));
+
+        // change records carry the change result as serialized in the response envelope
+        JsonNode change = objectMapper.readTree(lines.get(2));
+        assertEquals("stage-1", change.get("stage").asText());
+        assertEquals(objectMapper.valueToTree(applied), change.get("data"));
+        assertEquals(objectMapper.valueToTree(failed), objectMapper.readTree(lines.get(3)).get("data"));
+
+        JsonNode stage = objectMapper.readTree(lines.get(4)).get("data");
+        assertEquals(2, stage.get("totalChanges").asInt());
+        assertEquals(1, stage.get("appliedCount").asInt());
+        assertEquals(1, stage.get("failedCount").asInt());
+        assertEquals(objectMapper.valueToTree(StageState.COMPLETED), stage.get("state"));
+        assertFalse(stage.has("changes"));
+    }
+
+    @Test
+    @DisplayName("Should stream a large pipeline record by record, without holding it back until the end")
+    void shouldStreamLargePipeline() throws Exception {
+        int stages = 20;
+        int changesPerStage = 1_000;
+        Path streamPath = tempDir.resolve("response.ndjson");
+        NdjsonResponseChannel channel = new NdjsonResponseChannel(streamPath.toString(), new NoOpResponseChannel(), objectMapper);
+        StreamingExecutionReporter reporter = new StreamingExecutionReporter(channel);
+
+        reporter.publish(new PipelineStartedEvent());
+        long expectedLines = 1;
+        for (int stage = 0; stage < stages; stage++) {
+            String stageName = "stage-" + stage;
+            reporter.publish(new StageStartedEvent(stageName));
+            for (int change = 0; change < changesPerStage; change++) {
+                ChangeResult result = changeResult(stageName + "-change-" + change, ChangeStatus.APPLIED);
+                reporter.publish(new ChangeCompletedEvent(stageName, result, 1_000L, 100L, 0L));
+            }
+            reporter.publish(new StageCompletedEvent(StageResult.builder()
+                    .stageId(stageName)
+                    .stageName(stageName)
+                    .state(StageState.COMPLETED)
+                    .totalChanges(changesPerStage)
+                    .build()));
+            expectedLines += changesPerStage + 2;
+            try (Stream<String> lines = Files.lines(streamPath, StandardCharsets.UTF_8)) {
+                assertEquals(expectedLines, lines.count(), "records of " + stageName + " were not flushed");
+            }
+        }
+        channel.close();
+
+        List<String> lines = Files.readAllLines(streamPath, StandardCharsets.UTF_8);
+        assertEquals(1 + stages * (changesPerStage + 2), lines.size());
+        JsonNode lastStage = objectMapper.readTree(lines.get(lines.size() - 1));
+        assertEquals(StreamingExecutionReporter.STAGE_COMPLETED_RECORD, lastStage.get("type").asText());
+        assertEquals(changesPerStage, lastStage.get("data").get("totalChanges").asInt());
+        assertEquals("stage-" + (stages - 1) + "-change-" + (changesPerStage - 1),
+                objectMapper.readTree(lines.get(lines.size() - 2)).get("data").get("changeId").asText());
+    }
+
+    @Test
+    @DisplayName("Should not propagate failures of the channel")
+    void shouldNotPropagateChannelFailures() {
+        NdjsonResponseChannel channel = mock(NdjsonResponseChannel.class);
+        doThrow(new ResponseChannelException("disk full"))
+                .when(channel).writeRecord(anyString(), any(), any());
+        StreamingExecutionReporter reporter = new StreamingExecutionReporter(channel);
+
+        assertDoesNotThrow(() -> reporter.publish(new StageStartedEvent("stage-1")));
+    }
+
+    private String type(String line) throws Exception {
+        return objectMapper.readTree(line).get("type").asText();
+    }
+
+    private static ChangeResult changeResult(String changeId, ChangeStatus status) {
+        return ChangeResult.builder()
+                .changeId(changeId)
+                .author("test-author")
+                .status(status)
+                .durationMs(20)
+                .targetSystemId("mongo")
+                .build();
+    }
+}
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -32,6 +34,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -117,6 +121,20 @@ class LockTest {
         assertEquals("dbDetail", thrown.getErrorDetail());
     }
 
+    @Test
+    @DisplayName("handleLockException: uses the current lock carried by the exception instead of reading it again")
+    void handleLockExceptionUsesCurrentLockFromException() {
+        LockAcquisition otherLock = new LockAcquisition(RunnerId.fromString("runner-B"), LEASE_MILLIS);
+        LockServiceException ex = new LockServiceException("query", "newLock", "dbDetail", otherLock);
+
+        Lock lock = lockWithFutureExpiry(false);
+
+        LockException thrown = assertThrows(LockException.class,
+                () -> lock.handleLockException(false, Instant.now().plusSeconds(60), ex));
+        assertTrue(thrown.getMessage().contains("Lock held by other process"));
+        verify(lockService, never()).getLockInfo(any());
+    }
+
     @Test
     @DisplayName("isReleased: false until release() is called, true forever after")
     void releasedFlagFlipsOnRelease() {
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.external.targets.mark;
+
+import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AbstractTargetSystemAuditMarkerTest {
+
+    private InMemoryAuditMarker marker;
+
+    @BeforeEach
+    void beforeEach() {
+        marker = new InMemoryAuditMarker();
+        marker.store.put("change-1", TargetSystemAuditMarkType.APPLIED);
+        marker.store.put("change-2", TargetSystemAuditMarkType.ROLLED_BACK);
+    }
+
+    @Test
+    @DisplayName("Should read the storage once while nothing changes locally")
+    void shouldCacheSnapshotBetweenRounds() {
+        Set<TargetSystemAuditMark> first = marker.listAll();
+        Set<TargetSystemAuditMark> second = marker.listAll();
+
+        assertEquals(2, first.size());
+        assertSame(first, second);
+        assertEquals(1, marker.roundTrips);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the snapshot on a local mark")
+    void shouldInvalidateOnMark() {
+        marker.listAll();
+
+        marker.mark(new TargetSystemAuditMark("change-3", TargetSystemAuditMarkType.APPLIED));
+
+        assertEquals(3, marker.listAll().size());
+        assertEquals(3, marker.roundTrips);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the snapshot on a local clearMark")
+    void shouldInvalidateOnClearMark() {
+        marker.listAll();
+
+        marker.clearMark("change-1");
+
+        assertEquals(ids("change-2"), ids(marker.listAll()));
+        assertEquals(3, marker.roundTrips);
+    }
+
+    @Test
+    @DisplayName("Should clear the whole batch in a single round trip")
+    void shouldClearMarksInSingleRoundTrip() {
+        marker.clearMarks(Arrays.asList("change-1", "change-2", "unknown"));
+
+        assertEquals(1, marker.roundTrips);
+        assertTrue(marker.listAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not hit the storage when clearing an empty batch")
+    void shouldIgnoreEmptyBatch() {
+        marker.listAll();
+
+        marker.clearMarks(Collections.emptyList());
+
+        marker.listAll();
+        assertEquals(1, marker.roundTrips);
+    }
+
+    @Test
+    @DisplayName("Should not cache a snapshot read concurrently with a local write")
+    void shouldNotCacheSnapshotRacingWithWrite() {
+        marker.onLoad = () -> marker.mark(new TargetSystemAuditMark("change-3", TargetSystemAuditMarkType.APPLIED));
+
+        assertEquals(2, marker.listAll().size());
+        marker.onLoad = null;
+
+        assertEquals(3, marker.listAll().size());
+    }
+
+    private static Set<String> ids(String... ids) {
+        return Arrays.stream(ids).collect(Collectors.toSet());
+    }
+
+    private static Set<String> ids(Set<TargetSystemAuditMark> marks) {
+        return marks.stream().map(TargetSystemAuditMark::getChangeId).collect(Collectors.toSet());
+    }
+
+    private static class InMemoryAuditMarker extends AbstractTargetSystemAuditMarker {
+        private final Map<String, TargetSystemAuditMarkType> store = new HashMap<>();
+        private int roundTrips;
+        private Runnable onLoad;
+
+        @Override
+        protected Set<TargetSystemAuditMark> loadAll() {
+            roundTrips++;
+            Set<TargetSystemAuditMark> marks = store.entrySet().stream()
+                    .map(entry -> new TargetSystemAuditMark(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toSet());
+            if (onLoad != null) {
+                onLoad.run();
+            }
+            return marks;
+        }
+
+        @Override
+        protected void deleteMarks(Collection<String> changeIds) {
+            roundTrips++;
+            changeIds.forEach(store::remove);
+        }
+
+        @Override
+        protected void writeMark(TargetSystemAuditMark auditMark) {
+            roundTrips++;
+            store.put(auditMark.getChangeId(), auditMark.getOperation());
+        }
+    }
+}
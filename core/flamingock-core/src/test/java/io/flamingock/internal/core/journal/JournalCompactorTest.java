@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import io.flamingock.core.journal.JournalRetentionPolicy;
+import io.flamingock.core.journal.NdjsonJournalArchiveSink;
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.common.core.journal.JournalEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalCompactorTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @TempDir
+    Path archiveDir;
+
+    @Test
+    @DisplayName("max count keeps the newest events of each stream")
+    void maxCountKeepsNewestEvents() {
+        InMemoryStore store = new InMemoryStore();
+        store.append("stage-1", 10, true, NOW);
+        store.append("stage-2", 3, true, NOW);
+
+        JournalCompactor.Report report = compactor(store, JournalRetentionPolicy.builder()
+                .setMaxEventsPerStream(4)
+                .build()).compact();
+
+        assertEquals(6, report.getDeleted());
+        assertEquals(seqs(7, 8, 9, 10), store.sequences("stage-1"));
+        assertEquals(seqs(1, 2, 3), store.sequences("stage-2"));
+    }
+
+    @Test
+    @DisplayName("max age removes old acknowledged events but always keeps the last one of the stream")
+    void maxAgeKeepsLastEventOfStream() {
+        InMemoryStore store = new InMemoryStore();
+        store.append("stage-1", 5, true, NOW.minus(Duration.ofDays(60)));
+
+        compactor(store, JournalRetentionPolicy.builder()
+                .setMaxAge(Duration.ofDays(30))
+                .build()).compact();
+
+        assertEquals(seqs(5), store.sequences("stage-1"),
+                "the last event seeds the stream's next sequence and must survive");
+    }
+
+    @Test
+    @DisplayName("unacknowledged events are never removed, whatever their age")
+    void unacknowledgedEventsAreKept() {
+        InMemoryStore store = new InMemoryStore();
+        Instant old = NOW.minus(Duration.ofDays(60));
+        store.append("stage-1", 3, true, old);
+        store.append("stage-1", 2, false, old);
+        store.append("stage-1", 3, true, old);
+
+        JournalCompactor.Report report = compactor(store, JournalRetentionPolicy.builder()
+                .setMaxAge(Duration.ofDays(1))
+                .build()).compact();
+
+        assertEquals(5, report.getDeleted());
+        assertEquals(seqs(4, 5, 8), store.sequences("stage-1"));
+        assertEquals(2, store.deleteCalls, "the unacknowledged events must split the deleted range in two");
+    }
+
+    @Test
+    @DisplayName("the walk stops at the first retained event")
+    void stopsAtFirstRetainedEvent() {
+        InMemoryStore store = new InMemoryStore();
+        store.append("stage-1", 3, true, NOW.minus(Duration.ofDays(10)));
+        store.append("stage-1", 3, true, NOW.minus(Duration.ofHours(1)));
+
+        compactor(store, JournalRetentionPolicy.builder()
+                .setMaxAge(Duration.ofDays(1))
+                .setBatchSize(2)
+                .build()).compact();
+
+        assertEquals(seqs(4, 5, 6), store.sequences("stage-1"));
+        assertEquals(2, store.pageReads, "the second page reaches the retained event and nothing is read after it");
+    }
+
+    @Test
+    @DisplayName("a pass deletes at most maxBatchesPerRun pages and the next pass resumes")
+    void passIsBounded() {
+        InMemoryStore store = new InMemoryStore();
+        store.append("stage-1", 100, true, NOW);
+        JournalCompactor compactor = compactor(store, JournalRetentionPolicy.builder()
+                .setMaxEventsPerStream(1)
+                .setBatchSize(10)
+                .setMaxBatchesPerRun(3)
+                .build());
+
+        assertEquals(30, compactor.compact().getDeleted());
+        assertEquals(70, store.sequences("stage-1").size());
+
+        assertEquals(30, compactor.compact().getDeleted());
+        assertEquals(40, store.sequences("stage-1").size());
+    }
+
+    @Test
+    @DisplayName("pruned events are archived as gzip NDJSON before being deleted")
+    void archivesBeforeDeleting() throws IOException {
+        InMemoryStore store = new InMemoryStore();
+        store.append("stage/1", 5, true, NOW);
+
+        JournalCompactor.Report report = compactor(store, JournalRetentionPolicy.builder()
+                .setMaxEventsPerStream(2)
+                .setArchiveSink(new NdjsonJournalArchiveSink(archiveDir))
+                .build()).compact();
+
+        assertEquals(3, report.getArchived());
+        assertEquals(3, report.getDeleted());
+        List<Path> segments = listSegments();
+        assertEquals(1, segments.size());
+        assertEquals("journal-stage_1-00000000000000000001-00000000000000000003.ndjson.gz",
+                segments.get(0).getFileName().toString());
+        List<String> lines = readGzipLines(segments.get(0));
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"streamSequence\":1"));
+        assertTrue(lines.get(0).contains("\"changeId\":\"change-1\""));
+    }
+
+    @Test
+    @DisplayName("a failing archive sink leaves the events in the journal")
+    void failingArchiveKeepsEvents() {
+        InMemoryStore store = new InMemoryStore();
+        store.append("stage-1", 5, true, NOW);
+
+        JournalCompactor.Report report = compactor(store, JournalRetentionPolicy.builder()
+                .setMaxEventsPerStream(1)
+                .setArchiveSink((streamId, events) -> {
+                    throw new IOException("disk full");
+                })
+                .build()).compact();
+
+        assertEquals(0, report.getDeleted());
+        assertEquals(seqs(1, 2, 3, 4, 5), store.sequences("stage-1"));
+    }
+
+    @Test
+    @DisplayName("max count on a gapped multi-writer stream counts stored events, not sequence positions")
+    void maxCountOnGappedStreamCountsEvents() {
+        InMemoryStore store = new InMemoryStore();
+        // two writers holding blocks [1, 1000] and [1001, 2000]
+        store.appendAt("stage-1", 1L, 5, true, NOW);
+        store.appendAt("stage-1", 1001L, 5, true, NOW);
+
+        JournalCompactor.Report untouched = unorderedCompactor(store, JournalRetentionPolicy.builder()
+                .setMaxEventsPerStream(100)
+                .build()).compact();
+
+        assertEquals(0, untouched.getDeleted());
+        assertEquals(10, store.sequences("stage-1").size());
+
+        JournalCompactor.Report report = unorderedCompactor(store, JournalRetentionPolicy.builder()
+                .setMaxEventsPerStream(4)
+                .build()).compact();
+
+        assertEquals(6, report.getDeleted());
+        assertEquals(seqs(1002, 1003, 1004, 1005), store.sequences("stage-1"));
+        assertEquals(2, store.deleteCalls, "a deleted range must never span the gap between blocks");
+    }
+
+    @Test
+    @DisplayName("max age on a multi-writer stream keeps walking past newer events of another block")
+    void maxAgeOnMultiWriterStreamWalksPastRetained() {
+        InMemoryStore store = new InMemoryStore();
+        // the writer on the lower block appended recently, the one on the upper block long ago
+        store.appendAt("stage-1", 1L, 3, true, NOW);
+        store.appendAt("stage-1", 1001L, 3, true, NOW.minus(Duration.ofDays(2)));
+
+        JournalCompactor.Report report = unorderedCompactor(store, JournalRetentionPolicy.builder()
+                .setMaxAge(Duration.ofDays(1))
+                .build()).compact();
+
+        assertEquals(2, report.getDeleted());
+        assertEquals(seqs(1, 2, 3, 1003), store.sequences("stage-1"));
+    }
+
+    @Test
+    @DisplayName("a policy without age or count limit is rejected")
+    void policyRequiresALimit() {
+        assertThrows(IllegalArgumentException.class, () -> JournalRetentionPolicy.builder().build());
+        assertThrows(IllegalArgumentException.class,
+                () -> JournalRetentionPolicy.builder().setMaxEventsPerStream(0).build());
+    }
+
+    private static JournalCompactor compactor(InMemoryStore store, JournalRetentionPolicy policy) {
+        return new JournalCompactor(store, policy, true, CLOCK);
+    }
+
+    private static JournalCompactor unorderedCompactor(InMemoryStore store, JournalRetentionPolicy policy) {
+        return new JournalCompactor(store, policy, false, CLOCK);
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> readGzipLines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+
+    private static List<Long> seqs(long... sequences) {
+        List<Long> list = new ArrayList<>();
+        for (long sequence : sequences) {
+            list.add(sequence);
+        }
+        return list;
+    }
+
+    private static final class InMemoryStore implements CompactableJournalEventStore {
+
+        private final Map<String, TreeMap<Long, JournalEvent<AuditEntry>>> streams = new TreeMap<>();
+        private int pageReads;
+        private int deleteCalls;
+
+        void append(String streamId, int count, boolean acknowledged, Instant occurredAt) {
+            TreeMap<Long, JournalEvent<AuditEntry>> stream = streams.computeIfAbsent(streamId, id -> new TreeMap<>());
+            for (int i = 0; i < count; i++) {
+                long sequence = stream.isEmpty() ? 1L : stream.lastKey() + 1;
+                AuditEntry entry = AuditEntryTestFactory.createTestAuditEntry(
+                        "change-" + sequence, AuditEntry.Status.APPLIED, AuditTxType.NON_TX);
+                stream.put(sequence, new JournalEvent<>(streamId + "-" + sequence, JournalEventType.CHANGE_STATE,
+                        JournalEvent.DEFAULT_VERSION, streamId, sequence, occurredAt, entry, acknowledged));
+            }
+        }
+
+        void appendAt(String streamId, long firstSequence, int count, boolean acknowledged, Instant occurredAt) {
+            TreeMap<Long, JournalEvent<AuditEntry>> stream = streams.computeIfAbsent(streamId, id -> new TreeMap<>());
+            for (long sequence = firstSequence; sequence < firstSequence + count; sequence++) {
+                AuditEntry entry = AuditEntryTestFactory.createTestAuditEntry(
+                        "change-" + sequence, AuditEntry.Status.APPLIED, AuditTxType.NON_TX);
+                stream.put(sequence, new JournalEvent<>(streamId + "-" + sequence, JournalEventType.CHANGE_STATE,
+                        JournalEvent.DEFAULT_VERSION, streamId, sequence, occurredAt, entry, acknowledged));
+            }
+        }
+
+        List<Long> sequences(String streamId) {
+            return new ArrayList<>(streams.getOrDefault(streamId, new TreeMap<>()).keySet());
+        }
+
+        @Override
+        public Set<String> getStreamIds() {
+            return Collections.unmodifiableSet(streams.keySet());
+        }
+
+        @Override
+        public List<JournalEvent<AuditEntry>> getEvents(String streamId, long fromSequence, int limit) {
+            pageReads++;
+            return streams.getOrDefault(streamId, new TreeMap<>()).tailMap(fromSequence, true).values().stream()
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public long deleteAcknowledgedEvents(String streamId, long fromSequence, long toSequence) {
+            deleteCalls++;
+            TreeMap<Long, JournalEvent<AuditEntry>> stream = streams.get(streamId);
+            List<Long> toDelete = stream.subMap(fromSequence, true, toSequence, true).values().stream()
+                    .filter(JournalEvent::isAcknowledged)
+                    .map(JournalEvent::getStreamSequence)
+                    .collect(Collectors.toList());
+            toDelete.forEach(stream::remove);
+            return toDelete.size();
+        }
+
+        @Override
+        public Optional<JournalEvent<AuditEntry>> getLastEventByStream(String streamId) {
+            TreeMap<Long, JournalEvent<AuditEntry>> stream = streams.get(streamId);
+            return stream == null || stream.isEmpty() ? Optional.empty() : Optional.of(stream.lastEntry().getValue());
+        }
+
+        @Override
+        public List<JournalEvent<AuditEntry>> getUnacknowledgedEvents(int limit) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public long acknowledgeEvents(Collection<String> eventIds) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.journal.JournalEvent;
+import io.flamingock.internal.common.core.journal.JournalEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalEventSequencerTest {
+
+    private static final int WRITERS = 32;
+    private static final int EVENTS_PER_WRITER = 1_000;
+    private static final String STREAM = "stage-1";
+
+    private final AuditEntry entry = AuditEntryTestFactory.createTestAuditEntry(
+            "change-1", AuditEntry.Status.APPLIED, AuditTxType.NON_TX);
+
+    @Test
+    @DisplayName("contiguous sequencer only spends a position once it is confirmed")
+    void contiguousSequencerReusesUnconfirmedPosition() {
+        JournalEventSequencer sequencer = new JournalEventSequencerFactory(readerWithLast(4L)).forStream(STREAM);
+
+        assertEquals(5L, sequencer.newEvent(entry).getStreamSequence());
+        assertEquals(5L, sequencer.newEvent(entry).getStreamSequence());
+        sequencer.confirm();
+        assertEquals(6L, sequencer.newEvent(entry).getStreamSequence());
+    }
+
+    @Test
+    @DisplayName("block sequencer starts past the journal's last position and spends positions on hand-out")
+    void blockSequencerSeedsPastLastEvent() {
+        InMemoryJournalSequenceAllocator allocator = new InMemoryJournalSequenceAllocator();
+        JournalEventSequencer sequencer = new JournalEventSequencerFactory(readerWithLast(41L), allocator, 10)
+                .forStream(STREAM);
+
+        assertInstanceOf(BlockReservingJournalEventSequencer.class, sequencer);
+        assertEquals(42L, sequencer.newEvent(entry).getStreamSequence());
+        // a failed write leaves a gap: confirm() is not needed to move on
+        assertEquals(43L, sequencer.newEvent(entry).getStreamSequence());
+        sequencer.confirm();
+        assertEquals(44L, sequencer.newEvent(entry).getStreamSequence());
+    }
+
+    @Test
+    @DisplayName("block sequencer reserves a new block once the current one is exhausted")
+    void blockSequencerReservesOnExhaustion() {
+        CountingAllocator allocator = new CountingAllocator();
+        BlockReservingJournalEventSequencer sequencer = new BlockReservingJournalEventSequencer(STREAM, allocator, 4);
+
+        List<Long> sequences = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            sequences.add(sequencer.newEvent(entry).getStreamSequence());
+        }
+
+        assertEquals(3, allocator.reservations.get());
+        assertEquals(asList(1, 2, 3, 4, 5, 6, 7, 8, 9), sequences);
+    }
+
+    @Test
+    @DisplayName("a sequencer shared by 32 threads never hands out the same position twice")
+    void sharedSequencerIsThreadSafe() throws Exception {
+        CountingAllocator allocator = new CountingAllocator();
+        BlockReservingJournalEventSequencer sequencer = new BlockReservingJournalEventSequencer(STREAM, allocator, 64);
+
+        List<List<Long>> perThread = runWriters(writer -> sequencer);
+
+        Set<Long> all = assertUniqueAndMonotonicPerWriter(perThread);
+        // a single sequencer wastes nothing: the positions are exactly 1..N
+        assertEquals(WRITERS * EVENTS_PER_WRITER, all.size());
+        assertEquals(1L, Collections.min(all));
+        assertEquals((long) WRITERS * EVENTS_PER_WRITER, (long) Collections.max(all));
+        assertEquals(WRITERS * EVENTS_PER_WRITER / 64, allocator.reservations.get());
+    }
+
+    @Test
+    @DisplayName("32 writers with their own sequencers get disjoint positions from the shared counter")
+    void independentWritersGetDisjointPositions() throws Exception {
+        InMemoryJournalSequenceAllocator allocator = new InMemoryJournalSequenceAllocator();
+        JournalEventSequencerFactory factory = new JournalEventSequencerFactory(readerWithLast(100L), allocator, 50);
+
+        List<List<Long>> perThread = runWriters(writer -> factory.forStream(STREAM));
+
+        Set<Long> all = assertUniqueAndMonotonicPerWriter(perThread);
+        assertEquals(WRITERS * EVENTS_PER_WRITER, all.size());
+        assertTrue(Collections.min(all) > 100L);
+    }
+
+    @Test
+    @DisplayName("block size must be positive")
+    void rejectsInvalidBlockSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JournalEventSequencerFactory(readerWithLast(0L), new InMemoryJournalSequenceAllocator(), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new InMemoryJournalSequenceAllocator().reserve(STREAM, 0));
+    }
+
+    private interface WriterSetup {
+        JournalEventSequencer sequencerFor(int writer);
+    }
+
+    private List<List<Long>> runWriters(WriterSetup setup) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                Callable<List<Long>> task = () -> {
+                    JournalEventSequencer sequencer = setup.sequencerFor(writer);
+                    start.await();
+                    List<Long> sequences = new ArrayList<>(EVENTS_PER_WRITER);
+                    for (int i = 0; i < EVENTS_PER_WRITER; i++) {
+                        JournalEvent<AuditEntry> event = sequencer.newEvent(entry);
+                        sequences.add(event.getStreamSequence());
+                        sequencer.confirm();
+                    }
+                    return sequences;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            List<List<Long>> results = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Set<Long> assertUniqueAndMonotonicPerWriter(List<List<Long>> perThread) {
+        Set<Long> all = new HashSet<>();
+        for (List<Long> sequences : perThread) {
+            for (int i = 0; i < sequences.size(); i++) {
+                assertTrue(all.add(sequences.get(i)), "position handed out twice: " + sequences.get(i));
+                if (i > 0) {
+                    assertTrue(sequences.get(i) > sequences.get(i - 1), "positions must increase per writer");
+                }
+            }
+        }
+        return all;
+    }
+
+    private static List<Long> asList(long... values) {
+        List<Long> list = new ArrayList<>();
+        for (long value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private JournalEventReader readerWithLast(long lastSequence) {
+        return new JournalEventReader() {
+            @Override
+            public Optional<JournalEvent<AuditEntry>> getLastEventByStream(String streamId) {
+                if (lastSequence == 0L) {
+                    return Optional.empty();
+                }
+                return Optional.of(new JournalEvent<>("last", JournalEventType.CHANGE_STATE, streamId,
+                        lastSequence, Instant.now(), entry));
+            }
+
+            @Override
+            public List<JournalEvent<AuditEntry>> getUnacknowledgedEvents(int limit) {
+                return Collections.emptyList();
+            }
+        };
+    }
+
+    private static final class CountingAllocator extends InMemoryJournalSequenceAllocator {
+        private final AtomicInteger reservations = new AtomicInteger();
+
+        @Override
+        public long reserve(String streamId, int blockSize) {
+            reservations.incrementAndGet();
+            return super.reserve(streamId, blockSize);
+        }
+    }
+}
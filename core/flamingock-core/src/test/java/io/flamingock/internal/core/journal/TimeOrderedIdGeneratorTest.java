@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("ids are RFC 9562 version-7 UUIDs carrying the current time")
+    void idsAreVersion7() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedIdGenerator.nextUuid();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        // a burst of ids may borrow from the following milliseconds, so only the lower bound is exact
+        assertTrue(TimeOrderedIdGenerator.timestampOf(uuid) >= before);
+        assertTrue(TimeOrderedIdGenerator.timestampOf(uuid) <= after + 1_000);
+    }
+
+    @Test
+    @DisplayName("ids of one thread increase strictly, also within the same millisecond")
+    void idsIncreaseWithinThread() {
+        UUID previous = TimeOrderedIdGenerator.nextUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = TimeOrderedIdGenerator.nextUuid();
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+                    "ids must be strictly increasing");
+            assertTrue(current.toString().compareTo(previous.toString()) > 0,
+                    "the string form must sort like the id");
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("32 threads generating concurrently never collide")
+    void idsAreUniqueAcrossThreads() throws Exception {
+        int threads = 32;
+        int idsPerThread = 10_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(TimeOrderedIdGenerator.nextId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.operation.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.core.external.store.audit.community.CompactableAuditHistory;
+import io.flamingock.internal.core.external.store.lock.Lock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class AuditCompactOperationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Mock
+    private CompactableAuditHistory auditHistory;
+
+    @Mock
+    private Lock lock;
+
+    @TempDir
+    Path tempDir;
+
+    private AuditCompactOperation operation;
+
+    private AuditEntry started;
+    private AuditEntry applied;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Clock clock = Clock.fixed(Instant.parse("2026-03-04T05:06:07Z"), ZoneOffset.UTC);
+        operation = new AuditCompactOperation(auditHistory, () -> lock, clock);
+
+        started = entry("exec-1", "change-1", AuditEntry.Status.STARTED, 1);
+        applied = entry("exec-1", "change-1", AuditEntry.Status.APPLIED, 2);
+        when(auditHistory.getAuditHistory()).thenReturn(Arrays.asList(started, applied));
+        when(auditHistory.deleteAuditEntries(anyCollection()))
+                .thenAnswer(invocation -> (long) invocation.<Collection<?>>getArgument(0).size());
+    }
+
+    @Test
+    @DisplayName("Should delete the superseded entries while holding the lock")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteSupersededEntriesUnderLock() {
+        AuditCompactResult result = operation.execute(new AuditCompactArgs());
+
+        InOrder inOrder = inOrder(auditHistory, lock);
+        inOrder.verify(auditHistory).getAuditHistory();
+        ArgumentCaptor<Collection<AuditEntry>> captor = ArgumentCaptor.forClass(Collection.class);
+        inOrder.verify(auditHistory).deleteAuditEntries(captor.capture());
+        inOrder.verify(lock).release();
+        assertEquals(1, captor.getValue().size());
+        assertSame(started, captor.getValue().iterator().next());
+
+        assertEquals(2, result.getEntriesBefore());
+        assertEquals(1, result.getEntriesRemoved());
+        assertEquals(1, result.getCompactedChanges());
+        assertNull(result.getArchiveFile());
+        assertFalse(result.isDryRun());
+    }
+
+    @Test
+    @DisplayName("Should report without deleting on dry run")
+    void shouldNotDeleteOnDryRun() {
+        AuditCompactResult result = operation.execute(new AuditCompactArgs(0, tempDir, true));
+
+        verify(auditHistory, never()).deleteAuditEntries(any());
+        verify(lock).release();
+        assertEquals(1, result.getEntriesRemoved());
+        assertTrue(result.isDryRun());
+        assertNull(result.getArchiveFile());
+    }
+
+    @Test
+    @DisplayName("Should archive the removed entries as gzipped NDJSON before deleting them")
+    void shouldArchiveRemovedEntries() throws IOException {
+        AuditCompactResult result = operation.execute(new AuditCompactArgs(0, tempDir, false));
+
+        Path archiveFile = result.getArchiveFile();
+        assertEquals(tempDir.resolve("audit-compaction-20260304T050607000.ndjson.gz"), archiveFile);
+        List<String> lines = readArchive(archiveFile);
+        assertEquals(1, lines.size());
+        JsonNode node = new ObjectMapper().readTree(lines.get(0));
+        assertEquals("change-1", node.get("changeId").asText());
+        assertEquals("STARTED", node.get("state").asText());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count(), "no temporary file should be left behind");
+        }
+        verify(auditHistory).deleteAuditEntries(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should keep every archive when compactions run within the same millisecond")
+    void shouldNotOverwriteArchiveOfSameInstant() throws IOException {
+        Path first = operation.execute(new AuditCompactArgs(0, tempDir, false)).getArchiveFile();
+        Path second = operation.execute(new AuditCompactArgs(0, tempDir, false)).getArchiveFile();
+
+        assertNotEquals(first, second);
+        assertEquals(tempDir.resolve("audit-compaction-20260304T050607000-1.ndjson.gz"), second);
+        assertEquals(1, readArchive(first).size());
+        assertEquals(1, readArchive(second).size());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not delete anything when the archive cannot be written")
+    void shouldNotDeleteWhenArchiveFails() throws IOException {
+        Path notADirectory = Files.createFile(tempDir.resolve("file"));
+
+        assertThrows(FlamingockException.class,
+                () -> operation.execute(new AuditCompactArgs(0, notADirectory, false)));
+
+        verify(auditHistory, never()).deleteAuditEntries(any());
+        verify(lock).release();
+    }
+
+    @Test
+    @DisplayName("Should not touch the store when there is nothing to compact")
+    void shouldDoNothingWhenAlreadyCompact() {
+        when(auditHistory.getAuditHistory()).thenReturn(new ArrayList<>(Arrays.asList(applied)));
+
+        AuditCompactResult result = operation.execute(new AuditCompactArgs(0, tempDir, false));
+
+        verify(auditHistory, never()).deleteAuditEntries(any());
+        verify(lock).release();
+        assertEquals(0, result.getEntriesRemoved());
+        assertNull(result.getArchiveFile());
+    }
+
+    private static List<String> readArchive(Path archiveFile) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(archiveFile)), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+
+    private static AuditEntry entry(String executionId, String changeId, AuditEntry.Status state, int minute) {
+        return new AuditEntry(
+                executionId,
+                "stage-1",
+                changeId,
+                "test-author",
+                BASE.plusMinutes(minute),
+                state,
+                AuditEntry.ChangeType.STANDARD_CODE,
+                "TestClass",
+                "apply",
+                null,
+                100L,
+                "localhost",
+                null,
+                false,
+                null
+        );
+    }
+}
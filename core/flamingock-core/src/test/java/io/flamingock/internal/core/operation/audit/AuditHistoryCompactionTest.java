@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.operation.audit;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditHistoryCompactionTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static final AuditEntry.Status[] STATES = AuditEntry.Status.values();
+
+    @Test
+    @DisplayName("Should keep only the winning entry of each change when there are no failures")
+    void shouldKeepOnlyWinningEntryOfEachChange() {
+        AuditEntry started = entry("exec-1", "change-1", AuditEntry.Status.STARTED, 1);
+        AuditEntry applied = entry("exec-1", "change-1", AuditEntry.Status.APPLIED, 2);
+        AuditEntry other = entry("exec-1", "change-2", AuditEntry.Status.APPLIED, 3);
+        List<AuditEntry> history = Arrays.asList(started, applied, other);
+
+        AuditHistoryCompaction compaction = AuditHistoryCompaction.plan(history, 3);
+
+        assertEquals(Arrays.asList(applied, other), compaction.getKept());
+        assertEquals(Arrays.asList(started), compaction.getRemoved());
+        assertEquals(1, compaction.getCompactedChanges());
+    }
+
+    @Test
+    @DisplayName("Should keep the last failures of each change, up to the given number")
+    void shouldKeepLastFailures() {
+        List<AuditEntry> history = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            history.add(entry("exec-" + i, "change-1", AuditEntry.Status.STARTED, i * 2));
+            history.add(entry("exec-" + i, "change-1", AuditEntry.Status.FAILED, i * 2 + 1));
+        }
+        AuditEntry applied = entry("exec-5", "change-1", AuditEntry.Status.APPLIED, 20);
+        history.add(applied);
+
+        AuditHistoryCompaction compaction = AuditHistoryCompaction.plan(history, 2);
+
+        assertEquals(Arrays.asList(history.get(7), history.get(9), applied), compaction.getKept());
+        assertEquals(8, compaction.getRemoved().size());
+        assertEquals(1, compaction.getCompactedChanges());
+    }
+
+    @Test
+    @DisplayName("Should remove nothing when every entry is already the winner of its change")
+    void shouldRemoveNothingWhenAlreadyCompact() {
+        List<AuditEntry> history = Arrays.asList(
+                entry("exec-1", "change-1", AuditEntry.Status.APPLIED, 1),
+                entry("exec-1", "change-2", AuditEntry.Status.APPLIED, 2));
+
+        AuditHistoryCompaction compaction = AuditHistoryCompaction.plan(history, 0);
+
+        assertEquals(history, compaction.getKept());
+        assertTrue(compaction.getRemoved().isEmpty());
+        assertEquals(0, compaction.getCompactedChanges());
+    }
+
+    @Test
+    @DisplayName("Should keep rows indistinguishable from a kept row")
+    void shouldKeepRowsIndistinguishableFromKeptRow() {
+        AuditEntry first = entry("exec-1", "change-1", AuditEntry.Status.APPLIED, 1);
+        AuditEntry duplicate = entry("exec-1", "change-1", AuditEntry.Status.APPLIED, 1);
+
+        AuditHistoryCompaction compaction = AuditHistoryCompaction.plan(Arrays.asList(first, duplicate), 0);
+
+        assertEquals(2, compaction.getKept().size());
+        assertTrue(compaction.getRemoved().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject a negative number of failures to keep")
+    void shouldRejectNegativeFailuresToKeep() {
+        assertThrows(IllegalArgumentException.class, () -> AuditHistoryCompaction.plan(new ArrayList<>(), -1));
+    }
+
+    @Test
+    @DisplayName("Should build the same snapshot from the compacted history as from the whole one")
+    void shouldPreserveSnapshotOnRandomHistories() {
+        Random random = new Random(20260101L);
+        for (int round = 0; round < 500; round++) {
+            List<AuditEntry> history = randomHistory(random);
+            int failuresToKeep = random.nextInt(4);
+
+            AuditHistoryCompaction compaction = AuditHistoryCompaction.plan(history, failuresToKeep);
+
+            assertEquals(history.size(), compaction.getKept().size() + compaction.getRemoved().size());
+            List<AuditEntry> before = AuditHistoryCompaction.snapshotOf(history);
+            List<AuditEntry> after = AuditHistoryCompaction.snapshotOf(compaction.getKept());
+            assertEquals(before.size(), after.size(), "round " + round);
+            for (int i = 0; i < before.size(); i++) {
+                assertSame(before.get(i), after.get(i), "round " + round);
+            }
+        }
+    }
+
+    private static List<AuditEntry> randomHistory(Random random) {
+        int changes = 1 + random.nextInt(6);
+        int size = random.nextInt(60);
+        List<AuditEntry> history = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // narrow ranges on purpose, so timestamps, executions and states collide often
+            history.add(entry(
+                    "exec-" + random.nextInt(4),
+                    "change-" + random.nextInt(changes),
+                    STATES[random.nextInt(STATES.length)],
+                    random.nextInt(20)));
+        }
+        return history;
+    }
+
+    private static AuditEntry entry(String executionId, String changeId, AuditEntry.Status state, int minute) {
+        return new AuditEntry(
+                executionId,
+                "stage-1",
+                changeId,
+                "test-author",
+                BASE.plusMinutes(minute),
+                state,
+                AuditEntry.ChangeType.STANDARD_CODE,
+                "TestClass",
+                "apply",
+                null,
+                100L,
+                "localhost",
+                null,
+                false,
+                null
+        );
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.core.runtime.proxy;
+
+import io.flamingock.api.annotations.NonLockGuarded;
+import io.flamingock.internal.core.external.store.lock.Lock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LockGuardProxyFactoryTest {
+
+    private Lock lock;
+    private List<Invocation> invocations;
+    private LockGuardProxyFactory proxyFactory;
+
+    @BeforeEach
+    void setUp() {
+        lock = mock(Lock.class);
+        invocations = new ArrayList<>();
+        proxyFactory = LockGuardProxyFactory.withLock(lock)
+                .withInvocationListener((method, elapsedNanos, failed) -> invocations.add(new Invocation(method, elapsedNanos, failed)));
+    }
+
+    @Test
+    @DisplayName("Should report the duration of guarded invocations to the listener")
+    void shouldReportGuardedInvocations() {
+        Repository repository = proxyFactory.getProxy(new SlowRepository(), Repository.class);
+
+        repository.save("doc-1");
+
+        verify(lock, times(1)).ensure();
+        assertEquals(1, invocations.size());
+        assertEquals("save", invocations.get(0).method.getName());
+        assertTrue(invocations.get(0).elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(5));
+        assertFalse(invocations.get(0).failed);
+    }
+
+    @Test
+    @DisplayName("Should report failed invocations and keep propagating the original exception")
+    void shouldReportFailedInvocations() {
+        Repository repository = proxyFactory.getProxy(new SlowRepository(), Repository.class);
+
+        assertThrows(IllegalStateException.class, () -> repository.save(null));
+
+        assertEquals(1, invocations.size());
+        assertTrue(invocations.get(0).failed);
+    }
+
+    @Test
+    @DisplayName("Should not report invocations that are not lock guarded")
+    void shouldNotReportNonGuardedInvocations() {
+        Repository repository = proxyFactory.getProxy(new SlowRepository(), Repository.class);
+
+        repository.name();
+
+        verify(lock, times(0)).ensure();
+        assertTrue(invocations.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report invocations on the proxies of returned values")
+    void shouldReportInvocationsOnReturnedProxies() {
+        Repository repository = proxyFactory.getProxy(new SlowRepository(), Repository.class);
+
+        repository.child().save("doc-2");
+
+        assertEquals(2, invocations.size());
+        assertEquals("child", invocations.get(0).method.getName());
+        assertEquals("save", invocations.get(1).method.getName());
+    }
+
+    public interface Repository {
+
+        void save(String id);
+
+        @NonLockGuarded
+        String name();
+
+        Repository child();
+    }
+
+    public static class SlowRepository implements Repository {
+
+        @Override
+        public void save(String id) {
+            if (id == null) {
+                throw new IllegalStateException("id required");
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String name() {
+            return "slow";
+        }
+
+        @Override
+        public Repository child() {
+            return new SlowRepository();
+        }
+    }
+
+    private static final class Invocation {
+        private final Method method;
+        private final long elapsedNanos;
+        private final boolean failed;
+
+        private Invocation(Method method, long elapsedNanos, boolean failed) {
+            this.method = method;
+            this.elapsedNanos = elapsedNanos;
+            this.failed = failed;
+        }
+    }
+}
@@ -5,6 +5,11 @@ dependencies {
     // GraalVM SDK for native image support — compileOnly because it's only needed at
     // native-image build time, never at JVM runtime.
     compileOnly("org.graalvm.sdk:graal-sdk:22.3.0")
+
+    // Tests run the build-time precompute path on a plain JVM: the feature class still has to
+    // link, and the precomputed registry lives in core-commons.
+    testImplementation("org.graalvm.sdk:graal-sdk:22.3.0")
+    testImplementation(project(":core:flamingock-core-commons"))
 }
 
 description = "GraalVM native image support and configuration for Flamingock applications"
@@ -52,7 +52,11 @@ public class Logger {
     }
 
     public void startClassInitialization(Class<?> clazz) {
-        System.out.printf("\tInitializing class at build time: %s \n", clazz.getName());
+        startClassInitialization(clazz.getName());
+    }
+
+    public void startClassInitialization(String name) {
+        System.out.printf("\tInitializing at build time: %s \n", name);
     }
 
 }
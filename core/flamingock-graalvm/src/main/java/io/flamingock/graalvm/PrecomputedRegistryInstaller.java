@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.graalvm;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Build-time bridge to {@code PrecomputedRegistry} in {@code flamingock-core-commons}. Asks it
+ * to resolve the template definitions and the aggregated pipeline metadata inside the
+ * native-image builder JVM, so the {@link RegistrationFeature} can then mark the resulting
+ * structures as build-time initialized and let them land in the image heap.
+ *
+ * <p>Same constraints as {@link MetadataModuleInfoLoader}: no compile-time dependency on
+ * Flamingock runtime classes and no GraalVM API, which keeps it usable from plain JVM tests.
+ */
+final class PrecomputedRegistryInstaller {
+
+    static final String PRECOMPUTED_REGISTRY_FQN =
+            "io.flamingock.internal.common.core.nativeimage.PrecomputedRegistry";
+
+    /**
+     * Classes whose instances end up reachable from the precomputed snapshot. All of them are
+     * plain data holders with no logger in their {@code <clinit>}, so it is safe to initialize
+     * them at build time. Packages are listed where the whole model is involved.
+     */
+    static final List<String> BUILD_TIME_INITIALIZED = List.of(
+            PRECOMPUTED_REGISTRY_FQN,
+            "io.flamingock.internal.common.core.template.ChangeTemplateDefinition",
+            "io.flamingock.internal.common.core.metadata.FlamingockMetadata",
+            "io.flamingock.internal.common.core.metadata.BuilderProviderInfo",
+            "io.flamingock.internal.common.core.preview",
+            "io.flamingock.internal.common.core.change",
+            "io.flamingock.api.StageType",
+            "io.flamingock.api.RecoveryStrategy"
+    );
+
+    /**
+     * Compute the snapshot and install it into {@code PrecomputedRegistry}. Template classes
+     * must come from {@code ServiceLoader.Provider::type} so none of them is instantiated.
+     * Fails the build if the metadata is inconsistent, exactly as the runtime loader would.
+     */
+    static void install(Collection<Class<?>> templateClasses) {
+        try {
+            Class<?> registryClass = Class.forName(PRECOMPUTED_REGISTRY_FQN, true,
+                    RegistrationFeature.class.getClassLoader());
+            Method precompute = registryClass.getMethod("precompute", Collection.class);
+            precompute.invoke(null, templateClasses);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException("Flamingock precomputed registry not found on the classpath: "
+                    + PRECOMPUTED_REGISTRY_FQN, e);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException("Failed precomputing Flamingock templates and metadata at build time",
+                    e.getCause());
+        }
+    }
+
+    private PrecomputedRegistryInstaller() {
+    }
+}
@@ -18,6 +18,7 @@ package io.flamingock.graalvm;
 import io.flamingock.graalvm.MetadataModuleInfoLoader.MetadataModuleInfo;
 import io.flamingock.internal.util.ReflectionUtil;
 import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeClassInitialization;
 import org.graalvm.nativeimage.hosted.RuntimeReflection;
 import org.graalvm.nativeimage.hosted.RuntimeResourceAccess;
 import org.jetbrains.annotations.NotNull;
@@ -26,6 +27,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.stream.Collectors;
 
 
 /**
@@ -64,8 +66,9 @@ public class RegistrationFeature implements Feature {
         logger.startProcess("GraalVM classes registration and initialization");
         registerInternalClasses();
         registerCloudApiClasses();
-        registerTemplates();
+        List<Class<?>> templateClasses = registerTemplates();
         registerProviderInfo();
+        precomputeRegistries(templateClasses);
         logger.finishedProcess("GraalVM classes registration and initialization");
     }
 
@@ -198,7 +201,7 @@ public class RegistrationFeature implements Feature {
         RuntimeReflection.register(clazz.getDeclaredMethods());
     }
 
-    private void registerTemplates() {
+    private List<Class<?>> registerTemplates() {
         logger.startRegistrationProcess("templates");
         // Static infrastructure registrations — Flamingock-internal classes with clean
         // <clinit>; safe to register at build time. Class.forName(name, false, loader) inside
@@ -230,11 +233,31 @@ public class RegistrationFeature implements Feature {
         @SuppressWarnings({"unchecked", "rawtypes"})
         ServiceLoader<?> templateProviders = ServiceLoader.load((Class) changeTemplateInterface,
                 RegistrationFeature.class.getClassLoader());
-        templateProviders.stream()
+        List<Class<?>> templateClasses = templateProviders.stream()
                 .map(provider -> (Class<?>) provider.type())
-                .forEach(this::registerTemplateClass);
+                .collect(Collectors.toList());
+        templateClasses.forEach(this::registerTemplateClass);
 
         logger.completedRegistrationProcess("templates");
+        return templateClasses;
+    }
+
+    /**
+     * Resolve the template registry and the aggregated pipeline metadata inside the builder
+     * JVM and keep the result in the image heap, so native startup does neither the
+     * {@code ServiceLoader} scan nor the metadata JSON parsing. Runs after the reflection
+     * passes, reusing the template classes obtained through {@code ServiceLoader.Provider::type}
+     * — templates are still never instantiated. Only the holder and the plain data classes
+     * reachable from it are initialized at build time.
+     */
+    private static void precomputeRegistries(List<Class<?>> templateClasses) {
+        logger.startInitializationProcess("template registry and pipeline metadata");
+        PrecomputedRegistryInstaller.install(templateClasses);
+        for (String name : PrecomputedRegistryInstaller.BUILD_TIME_INITIALIZED) {
+            logger.startClassInitialization(name);
+            RuntimeClassInitialization.initializeAtBuildTime(name);
+        }
+        logger.completeInitializationProcess("template registry and pipeline metadata");
     }
 
     /**
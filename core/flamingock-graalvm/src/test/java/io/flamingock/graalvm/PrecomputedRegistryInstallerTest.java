@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.graalvm;
+
+import io.flamingock.graalvm.test.PrecomputedTestTemplate;
+import io.flamingock.internal.common.core.metadata.FlamingockMetadata;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.common.core.nativeimage.PrecomputedRegistry;
+import io.flamingock.internal.common.core.template.ChangeTemplateDefinition;
+import io.flamingock.internal.common.core.template.ChangeTemplateManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises the build-time half of {@link RegistrationFeature} on a plain JVM. The installer
+ * does not touch any GraalVM API, so no substitution or image builder is needed.
+ */
+class PrecomputedRegistryInstallerTest {
+
+    @BeforeEach
+    void setUp() {
+        PrecomputedRegistry.clear();
+        PrecomputedTestTemplate.INSTANCES = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrecomputedRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("install should precompute templates without instantiating them")
+    void installShouldPrecomputeTemplatesWithoutInstantiating() {
+        PrecomputedRegistryInstaller.install(Collections.singletonList(PrecomputedTestTemplate.class));
+
+        assertTrue(PrecomputedRegistry.isInstalled());
+        Map<String, ChangeTemplateDefinition> templates = PrecomputedRegistry.getTemplates().orElseThrow(AssertionError::new);
+        assertEquals(PrecomputedTestTemplate.class, templates.get("precomputed-test-template").getTemplateClass());
+        assertEquals(0, PrecomputedTestTemplate.INSTANCES);
+        assertThrows(UnsupportedOperationException.class, () -> templates.remove("precomputed-test-template"));
+    }
+
+    @Test
+    @DisplayName("install should aggregate metadata from the providers on the classpath")
+    void installShouldAggregateMetadata() {
+        PrecomputedRegistryInstaller.install(Collections.emptyList());
+
+        FlamingockMetadata metadata = PrecomputedRegistry.getAggregatedMetadata().orElseThrow(AssertionError::new);
+        assertEquals("test-stage", metadata.getPipeline().getStages().iterator().next().getName());
+    }
+
+    @Test
+    @DisplayName("runtime loaders should serve the precomputed snapshot")
+    void runtimeLoadersShouldServePrecomputedSnapshot() {
+        PrecomputedRegistryInstaller.install(Collections.singletonList(PrecomputedTestTemplate.class));
+
+        FlamingockMetadata precomputed = PrecomputedRegistry.getAggregatedMetadata().orElseThrow(AssertionError::new);
+        assertSame(precomputed, MetadataLoader.loadAggregated());
+
+        ChangeTemplateManager.loadTemplates();
+        assertTrue(ChangeTemplateManager.getTemplate("precomputed-test-template").isPresent());
+        assertEquals(0, PrecomputedTestTemplate.INSTANCES);
+    }
+
+    @Test
+    @DisplayName("install twice should fail")
+    void installTwiceShouldFail() {
+        PrecomputedRegistryInstaller.install(Collections.emptyList());
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> PrecomputedRegistryInstaller.install(Collections.emptyList()));
+        assertTrue(ex.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    @DisplayName("every build-time initialized class name should resolve")
+    void buildTimeInitializedClassesShouldResolve() {
+        for (String name : PrecomputedRegistryInstaller.BUILD_TIME_INITIALIZED) {
+            if (Character.isUpperCase(name.charAt(name.lastIndexOf('.') + 1))) {
+                assertDoesNotThrow(() -> Class.forName(name, false, getClass().getClassLoader()), name);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.graalvm.test;
+
+import io.flamingock.api.annotations.ApplyTemplate;
+import io.flamingock.api.annotations.ChangeTemplate;
+import io.flamingock.api.annotations.RollbackTemplate;
+import io.flamingock.api.template.AbstractChangeTemplate;
+import io.flamingock.api.template.wrappers.TemplateString;
+import io.flamingock.api.template.wrappers.TemplateVoid;
+
+/**
+ * Template handed to the precompute path the same way the feature does it: as a class
+ * reference, never instantiated. Any instantiation would bump {@link #INSTANCES}.
+ */
+@ChangeTemplate(name = "precomputed-test-template")
+public class PrecomputedTestTemplate extends AbstractChangeTemplate<TemplateVoid, TemplateString, TemplateString> {
+
+    public static int INSTANCES = 0;
+
+    public PrecomputedTestTemplate() {
+        super();
+        INSTANCES++;
+    }
+
+    @ApplyTemplate
+    public void apply() {
+    }
+
+    @RollbackTemplate
+    public void rollback() {
+    }
+}
@@ -20,6 +20,7 @@ import com.couchbase.client.core.io.CollectionIdentifier;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.json.JsonArray;
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
@@ -30,15 +31,16 @@ import io.flamingock.internal.common.couchbase.CouchbaseCollectionHelper;
 import io.flamingock.internal.common.couchbase.CouchbaseCollectionInitializator;
 import io.flamingock.internal.util.constants.CommunityPersistenceConstants;
 import io.flamingock.internal.core.transaction.TransactionManager;
+import io.flamingock.internal.core.external.targets.mark.AbstractTargetSystemAuditMarker;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
-import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-public class CouchbaseTargetSystemAuditMarker implements TargetSystemAuditMarker {
+public class CouchbaseTargetSystemAuditMarker extends AbstractTargetSystemAuditMarker {
     private static final String OPERATION = "operation";
     private static final String CHANGE_ID = "changeId";
     private final Cluster cluster;
@@ -58,7 +60,7 @@ public class CouchbaseTargetSystemAuditMarker implements TargetSystemAuditMarker
     }
 
     @Override
-    public Set<TargetSystemAuditMark> listAll() {
+    protected Set<TargetSystemAuditMark> loadAll() {
         List<JsonObject> results = CouchbaseCollectionHelper.selectAllDocuments(cluster,
                                                                                 onGoingChangeStatusCollection.bucketName(),
                                                                                 onGoingChangeStatusCollection.scopeName(),
@@ -70,21 +72,21 @@ public class CouchbaseTargetSystemAuditMarker implements TargetSystemAuditMarker
     }
 
     @Override
-    public void clearMark(String changeId) {
+    protected void deleteMarks(java.util.Collection<String> changeIds) {
         cluster.query(
                 String.format(
-                        "DELETE FROM `%s`.`%s`.`%s` WHERE `%s`= $p1",
+                        "DELETE FROM `%s`.`%s`.`%s` WHERE `%s` IN $p1",
                         onGoingChangeStatusCollection.bucketName(),
                         onGoingChangeStatusCollection.scopeName(),
                         onGoingChangeStatusCollection.name(),
                         CHANGE_ID),
                 QueryOptions.queryOptions()
                         .scanConsistency(QueryScanConsistency.REQUEST_PLUS)
-                        .parameters(JsonObject.create().put("p1", changeId)));
+                        .parameters(JsonObject.create().put("p1", JsonArray.from(new ArrayList<>(changeIds)))));
     }
 
     @Override
-    public void mark(TargetSystemAuditMark auditMark) {
+    protected void writeMark(TargetSystemAuditMark auditMark) {
 
         String key = auditMark.getChangeId();
 
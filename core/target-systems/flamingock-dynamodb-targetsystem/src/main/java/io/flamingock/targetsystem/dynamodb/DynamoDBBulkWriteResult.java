@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.targetsystem.dynamodb;
+
+/**
+ * Outcome of a {@link DynamoDBBulkWriter} operation.
+ */
+public final class DynamoDBBulkWriteResult {
+
+    private final int writtenItems;
+    private final int requests;
+    private final int retries;
+    private final int skippedChunks;
+    private final double consumedCapacityUnits;
+
+    DynamoDBBulkWriteResult(int writtenItems, int requests, int retries, int skippedChunks, double consumedCapacityUnits) {
+        this.writtenItems = writtenItems;
+        this.requests = requests;
+        this.retries = retries;
+        this.skippedChunks = skippedChunks;
+        this.consumedCapacityUnits = consumedCapacityUnits;
+    }
+
+    static DynamoDBBulkWriteResult empty() {
+        return new DynamoDBBulkWriteResult(0, 0, 0, 0, 0d);
+    }
+
+    DynamoDBBulkWriteResult plus(DynamoDBBulkWriteResult other) {
+        return new DynamoDBBulkWriteResult(
+                writtenItems + other.writtenItems,
+                requests + other.requests,
+                retries + other.retries,
+                skippedChunks + other.skippedChunks,
+                consumedCapacityUnits + other.consumedCapacityUnits);
+    }
+
+    /**
+     * @return number of items written by this operation, excluding chunks skipped on resume
+     */
+    public int getWrittenItems() {
+        return writtenItems;
+    }
+
+    /**
+     * @return number of {@code BatchWriteItem} or {@code TransactWriteItems} calls issued, retries included
+     */
+    public int getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return number of calls issued only to retry unprocessed items
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * @return chunks already committed by a previous attempt, in multi-transaction mode
+     */
+    public int getSkippedChunks() {
+        return skippedChunks;
+    }
+
+    /**
+     * @return write capacity units consumed, as reported by DynamoDB
+     */
+    public double getConsumedCapacityUnits() {
+        return consumedCapacityUnits;
+    }
+
+    @Override
+    public String toString() {
+        return "DynamoDBBulkWriteResult{" +
+                "writtenItems=" + writtenItems +
+                ", requests=" + requests +
+                ", retries=" + retries +
+                ", skippedChunks=" + skippedChunks +
+                ", consumedCapacityUnits=" + consumedCapacityUnits +
+                '}';
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.targetsystem.dynamodb;
+
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Writes large data sets from DynamoDB changes, which don't fit in the single
+ * {@code TransactWriteItems} call (capped at 100 items) the transactional target system commits.
+ * <p>
+ * It's registered as a dependency of the {@link DynamoDBTargetSystem}, so it can be injected
+ * into changes. Two modes are offered:
+ * <ul>
+ *   <li><strong>Bulk</strong> ({@link #write(String, List)} and friends): 25-item
+ *       {@code BatchWriteItem} calls, run concurrently on a bounded executor, retrying
+ *       {@code UnprocessedItems} with exponential backoff. Not atomic: a failure leaves the batches
+ *       already written in place, so the writes should be idempotent (plain puts and deletes are).</li>
+ *   <li><strong>Multi-transaction</strong> ({@link #writeInTransactions(String, List)}): sequential
+ *       {@code TransactWriteItems} chunks. Each chunk is atomic and, when the audit marker is
+ *       available (Cloud edition), records its progress in the marker table within the same
+ *       transaction, so a re-execution of the change resumes after the last committed chunk.
+ *       The items must be the same, in the same order, on re-execution.</li>
+ * </ul>
+ * Both modes report the consumed capacity in the returned {@link DynamoDBBulkWriteResult}.
+ * <p>
+ * Bulk batches run on one executor held for the writer's lifetime and shared by concurrent
+ * calls. Its threads are daemons and stop after a minute idle; {@link #close()} shuts it down.
+ */
+public class DynamoDBBulkWriter implements AutoCloseable {
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("DynamoBulkWriter");
+
+    public static final int BATCH_WRITE_LIMIT = 25;
+    public static final int TRANSACT_WRITE_LIMIT = 100;
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60L;
+
+    private final DynamoDbClient client;
+    private final DynamoDBTargetSystemAuditMarker progressMarker;
+    private final int concurrency;
+    private final int maxRetries;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final ExecutorService executor;
+    private volatile boolean closed = false;
+
+    public static Builder builder(DynamoDbClient client) {
+        return new Builder(client);
+    }
+
+    private DynamoDBBulkWriter(DynamoDbClient client,
+                               DynamoDBTargetSystemAuditMarker progressMarker,
+                               int concurrency,
+                               int maxRetries,
+                               long baseBackoffMillis,
+                               long maxBackoffMillis) {
+        this.client = client;
+        this.progressMarker = progressMarker;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.executor = concurrency > 1 ? newExecutor(concurrency) : null;
+    }
+
+    public DynamoDBBulkWriteResult putItems(String tableName, List<Map<String, AttributeValue>> items) {
+        return write(tableName, items.stream()
+                .map(item -> WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build())
+                .collect(Collectors.toList()));
+    }
+
+    public <T> DynamoDBBulkWriteResult putItems(DynamoDbTable<T> table, List<T> items) {
+        return putItems(table.tableName(), items.stream()
+                .map(item -> table.tableSchema().itemToMap(item, true))
+                .collect(Collectors.toList()));
+    }
+
+    public DynamoDBBulkWriteResult deleteItems(String tableName, List<Map<String, AttributeValue>> keys) {
+        return write(tableName, keys.stream()
+                .map(key -> WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Writes the requests in {@value #BATCH_WRITE_LIMIT}-item {@code BatchWriteItem} calls, running
+     * up to the configured concurrency in parallel.
+     *
+     * @throws FlamingockException if a batch still has unprocessed items after the configured
+     *                             retries, or DynamoDB rejects it. Batches already written are kept.
+     */
+    public DynamoDBBulkWriteResult write(String tableName, List<WriteRequest> requests) {
+        if (closed) {
+            throw closedException(tableName);
+        }
+        List<List<WriteRequest>> batches = partition(requests, BATCH_WRITE_LIMIT);
+        if (batches.isEmpty()) {
+            return DynamoDBBulkWriteResult.empty();
+        }
+        if (batches.size() == 1 || concurrency == 1) {
+            DynamoDBBulkWriteResult result = DynamoDBBulkWriteResult.empty();
+            for (List<WriteRequest> batch : batches) {
+                result = result.plus(writeBatch(tableName, batch));
+            }
+            return logged(tableName, result);
+        }
+
+        List<Future<DynamoDBBulkWriteResult>> futures = new ArrayList<>(batches.size());
+        try {
+            for (List<WriteRequest> batch : batches) {
+                futures.add(executor.submit(() -> writeBatch(tableName, batch)));
+            }
+            DynamoDBBulkWriteResult result = DynamoDBBulkWriteResult.empty();
+            for (Future<DynamoDBBulkWriteResult> future : futures) {
+                result = result.plus(future.get());
+            }
+            return logged(tableName, result);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof FlamingockException
+                    ? (FlamingockException) cause
+                    : new FlamingockException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new FlamingockException("Interrupted while bulk writing to '" + tableName + "'");
+        } catch (RejectedExecutionException ex) {
+            throw closedException(tableName);
+        } finally {
+            // on failure, the batches not started yet are dropped; it's a no-op for completed ones
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Shuts down the executor running the bulk batches. Writes in progress complete; later bulk
+     * writes fail.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    public DynamoDBBulkWriteResult writeInTransactions(String changeId, List<TransactWriteItem> items) {
+        return writeInTransactions(changeId, items, progressMarker != null ? TRANSACT_WRITE_LIMIT - 1 : TRANSACT_WRITE_LIMIT);
+    }
+
+    /**
+     * Writes the items in sequential {@code TransactWriteItems} chunks of {@code chunkSize} items.
+     * When the audit marker is available, each chunk also records its progress for
+     * {@code changeId}, so one slot of the transaction is reserved for it.
+     *
+     * @param changeId  the change performing the writes, the progress is recorded under it
+     * @param items     the items, in the same order on every execution of the change
+     * @param chunkSize items per transaction
+     * @throws FlamingockException if a chunk is cancelled or fails. Previous chunks stay committed
+     */
+    public DynamoDBBulkWriteResult writeInTransactions(String changeId, List<TransactWriteItem> items, int chunkSize) {
+        int limit = progressMarker != null ? TRANSACT_WRITE_LIMIT - 1 : TRANSACT_WRITE_LIMIT;
+        if (chunkSize < 1 || chunkSize > limit) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and " + limit + ", but was " + chunkSize);
+        }
+        List<List<TransactWriteItem>> chunks = partition(items, chunkSize);
+        int committed = progressMarker != null ? progressMarker.getCommittedChunks(changeId) : 0;
+        if (committed > 0) {
+            logger.info("Resuming multi-transaction write for change[{}] after {}/{} committed chunks",
+                    changeId, committed, chunks.size());
+        } else if (progressMarker == null) {
+            logger.debug("No audit marker available: multi-transaction write for change[{}] won't be resumable", changeId);
+        }
+
+        DynamoDBBulkWriteResult result = new DynamoDBBulkWriteResult(0, 0, 0, Math.min(committed, chunks.size()), 0d);
+        for (int chunkIndex = committed; chunkIndex < chunks.size(); chunkIndex++) {
+            List<TransactWriteItem> transactItems = new ArrayList<>(chunks.get(chunkIndex));
+            if (progressMarker != null) {
+                transactItems.add(progressMarker.chunkProgressItem(changeId, chunkIndex));
+            }
+            try {
+                TransactWriteItemsResponse response = client.transactWriteItems(TransactWriteItemsRequest.builder()
+                        .transactItems(transactItems)
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                        .build());
+                result = result.plus(new DynamoDBBulkWriteResult(
+                        chunks.get(chunkIndex).size(), 1, 0, 0, capacityUnits(response.consumedCapacity())));
+            } catch (TransactionCanceledException ex) {
+                String reasons = ex.cancellationReasons().stream()
+                        .map(reason -> String.format("%s: %s", reason.code(), reason.message()))
+                        .collect(Collectors.joining(", "));
+                throw new FlamingockException(String.format(
+                        "Chunk %d/%d of change[%s] was cancelled, %d chunks committed so far [reasons=%s]",
+                        chunkIndex + 1, chunks.size(), changeId, chunkIndex, reasons));
+            }
+        }
+        if (progressMarker != null) {
+            progressMarker.clearChunkProgress(changeId);
+        }
+        logger.debug("Multi-transaction write for change[{}] completed: {}", changeId, result);
+        return result;
+    }
+
+    private DynamoDBBulkWriteResult writeBatch(String tableName, List<WriteRequest> batch) {
+        Map<String, List<WriteRequest>> pending = Collections.singletonMap(tableName, batch);
+        double capacityUnits = 0d;
+        for (int attempt = 0; ; attempt++) {
+            BatchWriteItemResponse response = client.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(pending)
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                    .build());
+            capacityUnits += capacityUnits(response.consumedCapacity());
+            if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                return new DynamoDBBulkWriteResult(batch.size(), attempt + 1, attempt, 0, capacityUnits);
+            }
+            pending = response.unprocessedItems();
+            if (attempt >= maxRetries) {
+                int unprocessed = pending.values().stream().mapToInt(List::size).sum();
+                throw new FlamingockException(String.format(
+                        "Bulk write to '%s' left %d unprocessed items after %d retries", tableName, unprocessed, maxRetries));
+            }
+            sleepBeforeRetry(attempt, tableName);
+        }
+    }
+
+    /**
+     * Full-jitter exponential backoff, so throttled batches don't retry in lockstep
+     */
+    private void sleepBeforeRetry(int attempt, String tableName) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlamingockException("Interrupted while retrying unprocessed items on '" + tableName + "'");
+        }
+    }
+
+    private static double capacityUnits(List<ConsumedCapacity> consumedCapacity) {
+        if (consumedCapacity == null) {
+            return 0d;
+        }
+        return consumedCapacity.stream()
+                .map(ConsumedCapacity::capacityUnits)
+                .filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue)
+                .sum();
+    }
+
+    private static DynamoDBBulkWriteResult logged(String tableName, DynamoDBBulkWriteResult result) {
+        logger.debug("Bulk write to '{}' completed: {}", tableName, result);
+        return result;
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> partitions = new ArrayList<>((items.size() + size - 1) / size);
+        for (int from = 0; from < items.size(); from += size) {
+            partitions.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return partitions;
+    }
+
+    private static FlamingockException closedException(String tableName) {
+        return new FlamingockException("Bulk writer is closed, can't write to '" + tableName + "'");
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrency, concurrency,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), daemonThreads());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "flamingock-dynamodb-bulk-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static class Builder {
+        private final DynamoDbClient client;
+        private DynamoDBTargetSystemAuditMarker progressMarker;
+        private int concurrency = 4;
+        private int maxRetries = 8;
+        private long baseBackoffMillis = 50L;
+        private long maxBackoffMillis = 5_000L;
+
+        public Builder(DynamoDbClient client) {
+            this.client = client;
+        }
+
+        /**
+         * Marker whose table records the chunk progress in multi-transaction mode. Without it,
+         * multi-transaction writes are not resumable.
+         */
+        public Builder withProgressMarker(DynamoDBTargetSystemAuditMarker progressMarker) {
+            this.progressMarker = progressMarker;
+            return this;
+        }
+
+        public Builder withConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder withMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder withBackoff(long baseBackoffMillis, long maxBackoffMillis) {
+            this.baseBackoffMillis = baseBackoffMillis;
+            this.maxBackoffMillis = maxBackoffMillis;
+            return this;
+        }
+
+        public DynamoDBBulkWriter build() {
+            if (client == null) {
+                throw new FlamingockException("The 'DynamoDbClient' instance is required.");
+            }
+            if (concurrency < 1) {
+                throw new FlamingockException("Bulk write concurrency must be at least 1, but was " + concurrency);
+            }
+            return new DynamoDBBulkWriter(client, progressMarker, concurrency, Math.max(0, maxRetries),
+                    Math.max(1L, baseBackoffMillis), Math.max(baseBackoffMillis, maxBackoffMillis));
+        }
+    }
+}
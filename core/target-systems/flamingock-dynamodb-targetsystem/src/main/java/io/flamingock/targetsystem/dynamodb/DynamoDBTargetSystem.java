@@ -39,6 +39,8 @@ import static io.flamingock.internal.core.builder.FlamingockEdition.COMMUNITY;
 
 public class DynamoDBTargetSystem extends TransactionalTargetSystem<DynamoDBTargetSystem> implements DynamoDBExternalSystem {
 
+    public static final String BULK_WRITE_CONCURRENCY_PROPERTY_KEY = "dynamodb.bulk-write.concurrency";
+
     private final DynamoDbClient client;
 
     private ContextResolver baseContext;
@@ -71,6 +73,34 @@ public class DynamoDBTargetSystem extends TransactionalTargetSystem<DynamoDBTarg
         auditMarker = edition == COMMUNITY
                 ? new NoOpTargetSystemAuditMarker(this.getId())
                 : DynamoDBTargetSystemAuditMarker.builder(client, txManager).build();
+
+        // a bulk writer registered by the user wins
+        if (!targetSystemContext.getDependencyValue(DynamoDBBulkWriter.class).isPresent()) {
+            targetSystemContext.addDependency(buildBulkWriter());
+        }
+    }
+
+    private DynamoDBBulkWriter buildBulkWriter() {
+        DynamoDBBulkWriter.Builder builder = DynamoDBBulkWriter.builder(client);
+        if (auditMarker instanceof DynamoDBTargetSystemAuditMarker) {
+            builder.withProgressMarker((DynamoDBTargetSystemAuditMarker) auditMarker);
+        }
+        getProperty(BULK_WRITE_CONCURRENCY_PROPERTY_KEY)
+                .ifPresent(concurrency -> builder.withConcurrency(parseConcurrency(concurrency)));
+        return builder.build();
+    }
+
+    private static int parseConcurrency(String value) {
+        try {
+            int concurrency = Integer.parseInt(value.trim());
+            if (concurrency >= 1) {
+                return concurrency;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new FlamingockException(String.format(
+                "Property '%s' must be a positive integer, but was '%s'", BULK_WRITE_CONCURRENCY_PROPERTY_KEY, value));
     }
 
     private void validate() {
@@ -100,8 +130,11 @@ public class DynamoDBTargetSystem extends TransactionalTargetSystem<DynamoDBTarg
     }
 
     private String getMongockOrigin() {
-        return targetSystemContext.getProperty(MONGOCK_IMPORT_ORIGIN_PROPERTY_KEY)
-                .orElse(baseContext.getProperty(MONGOCK_IMPORT_ORIGIN_PROPERTY_KEY)
-                        .orElse(DEFAULT_MONGOCK_ORIGIN));
+        return getProperty(MONGOCK_IMPORT_ORIGIN_PROPERTY_KEY).orElse(DEFAULT_MONGOCK_ORIGIN);
+    }
+
+    private Optional<String> getProperty(String key) {
+        Optional<String> value = targetSystemContext.getProperty(key);
+        return value.isPresent() ? value : baseContext.getProperty(key);
     }
 }
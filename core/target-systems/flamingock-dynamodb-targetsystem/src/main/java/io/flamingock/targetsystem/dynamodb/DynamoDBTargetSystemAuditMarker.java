@@ -15,9 +15,10 @@
  */
 package io.flamingock.targetsystem.dynamodb;
 
+import io.flamingock.internal.common.core.error.FlamingockException;
 import io.flamingock.internal.core.transaction.TransactionManager;
+import io.flamingock.internal.core.external.targets.mark.AbstractTargetSystemAuditMarker;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
-import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
 import io.flamingock.internal.util.constants.CommunityPersistenceConstants;
 import io.flamingock.internal.util.dynamodb.DynamoDBUtil;
 import io.flamingock.internal.util.log.FlamingockLoggerFactory;
@@ -26,22 +27,49 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 
 
-public class DynamoDBTargetSystemAuditMarker implements TargetSystemAuditMarker {
+public class DynamoDBTargetSystemAuditMarker extends AbstractTargetSystemAuditMarker {
     protected static final Logger logger = FlamingockLoggerFactory.getLogger("DynamoAuditMarker");
 
     public static final String OPERATION = "operation";
     private static final String CHANGE_ID = "changeId";
+    /**
+     * BatchWriteItem hard limit per request
+     */
+    static final int BATCH_WRITE_LIMIT = 25;
+    private static final int MAX_UNPROCESSED_RETRIES = 5;
+    /**
+     * Chunk-progress records share the marker table, keyed by {@code <changeId>#chunk-progress}
+     */
+    static final String CHUNK_PROGRESS_SUFFIX = "#chunk-progress";
+    static final String CHUNK_PROGRESS_OPERATION = "CHUNK_PROGRESS";
+    private static final String COMMITTED_CHUNKS = "committedChunks";
+
     private final TransactionManager<TransactWriteItemsEnhancedRequest.Builder> txManager;
+    private final DynamoDbClient dynamoDBClient;
     protected DynamoDbTable<OngoingChangeEntity> onGoingChangeStatusTable;
 
     public static Builder builder(DynamoDbClient dynamoDBClient,
@@ -51,12 +79,23 @@ public class DynamoDBTargetSystemAuditMarker implements TargetSystemAuditMarker
 
     public DynamoDBTargetSystemAuditMarker(DynamoDbTable<OngoingChangeEntity> onGoingChangeStatusTable,
                                            TransactionManager<TransactWriteItemsEnhancedRequest.Builder> txManager) {
+        this(null, onGoingChangeStatusTable, txManager);
+    }
+
+    /**
+     * @param dynamoDBClient used to clear marks with {@code BatchWriteItem}. When null, marks are
+     *                       deleted one by one
+     */
+    public DynamoDBTargetSystemAuditMarker(DynamoDbClient dynamoDBClient,
+                                           DynamoDbTable<OngoingChangeEntity> onGoingChangeStatusTable,
+                                           TransactionManager<TransactWriteItemsEnhancedRequest.Builder> txManager) {
+        this.dynamoDBClient = dynamoDBClient;
         this.onGoingChangeStatusTable = onGoingChangeStatusTable;
         this.txManager = txManager;
     }
 
     @Override
-    public Set<TargetSystemAuditMark> listAll() {
+    protected Set<TargetSystemAuditMark> loadAll() {
 
         return onGoingChangeStatusTable
                 .scan(ScanEnhancedRequest.builder()
@@ -65,12 +104,31 @@ public class DynamoDBTargetSystemAuditMarker implements TargetSystemAuditMarker
                 )
                 .items()
                 .stream()
+                .filter(entity -> !CHUNK_PROGRESS_OPERATION.equals(entity.getOperation()))
                 .map(OngoingChangeEntity::toOngoingStatus)
                 .collect(Collectors.toSet());
     }
 
     @Override
-    public void clearMark(String changeId) {
+    protected void deleteMarks(Collection<String> changeIds) {
+        if (dynamoDBClient == null) {
+            changeIds.forEach(this::deleteMark);
+            return;
+        }
+        List<WriteRequest> deletes = changeIds.stream()
+                .map(changeId -> WriteRequest.builder()
+                        .deleteRequest(DeleteRequest.builder()
+                                .key(Collections.singletonMap(CHANGE_ID, AttributeValue.builder().s(changeId).build()))
+                                .build())
+                        .build())
+                .collect(Collectors.toList());
+        for (int from = 0; from < deletes.size(); from += BATCH_WRITE_LIMIT) {
+            batchDelete(deletes.subList(from, Math.min(from + BATCH_WRITE_LIMIT, deletes.size())));
+        }
+        logger.trace("removed {} ongoing changes", deletes.size());
+    }
+
+    private void deleteMark(String changeId) {
         onGoingChangeStatusTable.deleteItem(
                 DeleteItemEnhancedRequest.builder()
                         .key(Key.builder().partitionValue(changeId).build())
@@ -79,8 +137,34 @@ public class DynamoDBTargetSystemAuditMarker implements TargetSystemAuditMarker
         logger.trace("removed ongoing change[{}]", changeId);
     }
 
+    private void batchDelete(List<WriteRequest> deletes) {
+        String tableName = onGoingChangeStatusTable.tableName();
+        Map<String, List<WriteRequest>> requestItems = Collections.singletonMap(tableName, new ArrayList<>(deletes));
+        for (int attempt = 0; !requestItems.isEmpty(); attempt++) {
+            if (attempt > MAX_UNPROCESSED_RETRIES) {
+                throw new FlamingockException("Could not clear " + requestItems.get(tableName).size()
+                        + " audit marks from '" + tableName + "'");
+            }
+            BatchWriteItemResponse response = dynamoDBClient.batchWriteItem(
+                    BatchWriteItemRequest.builder().requestItems(requestItems).build());
+            requestItems = response.hasUnprocessedItems() ? response.unprocessedItems() : Collections.emptyMap();
+            if (!requestItems.isEmpty()) {
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private static void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(50L << attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlamingockException("Interrupted while retrying unprocessed audit mark deletes");
+        }
+    }
+
     @Override
-    public void mark(TargetSystemAuditMark auditMark) {
+    protected void writeMark(TargetSystemAuditMark auditMark) {
         TransactWriteItemsEnhancedRequest.Builder tx =
                 txManager.getSessionOrThrow(auditMark.getChangeId());
 
@@ -93,7 +177,58 @@ public class DynamoDBTargetSystemAuditMarker implements TargetSystemAuditMarker
     }
 
 
+    /**
+     * Returns how many chunks of the given change have been committed in multi-transaction mode,
+     * or 0 if none.
+     */
+    public int getCommittedChunks(String changeId) {
+        OngoingChangeEntity progress = onGoingChangeStatusTable.getItem(
+                GetItemEnhancedRequest.builder()
+                        .key(Key.builder().partitionValue(chunkProgressKey(changeId)).build())
+                        .consistentRead(true)
+                        .build());
+        return progress != null && progress.getCommittedChunks() != null ? progress.getCommittedChunks() : 0;
+    }
+
+    /**
+     * Builds the write that records chunk {@code chunkIndex} as committed. It's meant to be part of
+     * the same {@code TransactWriteItems} as the chunk itself and is conditioned on the previous
+     * progress, so a chunk can never be committed twice.
+     */
+    public TransactWriteItem chunkProgressItem(String changeId, int chunkIndex) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(CHANGE_ID, AttributeValue.builder().s(chunkProgressKey(changeId)).build());
+        item.put(OPERATION, AttributeValue.builder().s(CHUNK_PROGRESS_OPERATION).build());
+        item.put(COMMITTED_CHUNKS, AttributeValue.builder().n(String.valueOf(chunkIndex + 1)).build());
+
+        Put.Builder put = Put.builder()
+                .tableName(onGoingChangeStatusTable.tableName())
+                .item(item);
+        if (chunkIndex == 0) {
+            put.conditionExpression("attribute_not_exists(#id)")
+                    .expressionAttributeNames(Collections.singletonMap("#id", CHANGE_ID));
+        } else {
+            put.conditionExpression("#chunks = :expected")
+                    .expressionAttributeNames(Collections.singletonMap("#chunks", COMMITTED_CHUNKS))
+                    .expressionAttributeValues(Collections.singletonMap(":expected",
+                            AttributeValue.builder().n(String.valueOf(chunkIndex)).build()));
+        }
+        return TransactWriteItem.builder().put(put.build()).build();
+    }
+
+    /**
+     * Removes the chunk progress of the given change, once all its chunks have been committed.
+     */
+    public void clearChunkProgress(String changeId) {
+        deleteMark(chunkProgressKey(changeId));
+    }
+
+    private static String chunkProgressKey(String changeId) {
+        return changeId + CHUNK_PROGRESS_SUFFIX;
+    }
+
     public static class Builder {
+        private final DynamoDbClient dynamoDBClient;
         private final DynamoDBUtil dynamoDBUtil;
         private final TransactionManager<TransactWriteItemsEnhancedRequest.Builder> txManager;
         private String tableName = CommunityPersistenceConstants.DEFAULT_MARKER_STORE_NAME;
@@ -101,6 +236,7 @@ public class DynamoDBTargetSystemAuditMarker implements TargetSystemAuditMarker
         protected DynamoDbTable<OngoingChangeEntity> onGoingChangeStatusTable;
 
         public Builder(DynamoDbClient dynamoDBClient, TransactionManager<TransactWriteItemsEnhancedRequest.Builder> txManager) {
+            this.dynamoDBClient = dynamoDBClient;
             dynamoDBUtil = new DynamoDBUtil(dynamoDBClient);
             this.txManager = txManager;
         }
@@ -131,7 +267,7 @@ public class DynamoDBTargetSystemAuditMarker implements TargetSystemAuditMarker
                 this.onGoingChangeStatusTable = dynamoDBUtil.getEnhancedClient().table(this.tableName, TableSchema.fromBean(OngoingChangeEntity.class));
             }
 
-            return new DynamoDBTargetSystemAuditMarker(this.onGoingChangeStatusTable, txManager);
+            return new DynamoDBTargetSystemAuditMarker(dynamoDBClient, this.onGoingChangeStatusTable, txManager);
         }
     }
 }
@@ -27,6 +27,7 @@ public class OngoingChangeEntity {
 
     private String changeId;
     private String operation;
+    private Integer committedChunks;
 
     public OngoingChangeEntity(String changeId, String operation) {
         this.changeId = changeId;
@@ -55,6 +56,19 @@ public class OngoingChangeEntity {
         this.operation = operation;
     }
 
+    /**
+     * Only set on the chunk-progress records written by {@link DynamoDBBulkWriter} in
+     * multi-transaction mode
+     */
+    @DynamoDbAttribute("committedChunks")
+    public Integer getCommittedChunks() {
+        return committedChunks;
+    }
+
+    public void setCommittedChunks(Integer committedChunks) {
+        this.committedChunks = committedChunks;
+    }
+
     public TargetSystemAuditMark toOngoingStatus() {
         return new TargetSystemAuditMark(this.changeId, TargetSystemAuditMarkType.valueOf(this.operation));
     }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.targetsystem.dynamodb;
+
+import io.flamingock.dynamodb.kit.DynamoDBTestContainer;
+import io.flamingock.internal.common.core.error.FlamingockException;
+import io.flamingock.internal.core.context.SimpleContext;
+import io.flamingock.internal.core.transaction.TransactionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+class DynamoDBBulkWriterTest {
+
+    private static final String ITEMS_TABLE = "bulkWriterItems";
+    private static final String MARKER_TABLE = "bulkWriterMarks";
+    private static final String CHANGE_ID = "bulk-change";
+
+    @Container
+    static GenericContainer<?> dynamoContainer = DynamoDBTestContainer.createContainer();
+
+    private DynamoDbClient client;
+    private DynamoDBTargetSystemAuditMarker marker;
+
+    @BeforeEach
+    void beforeEach() {
+        client = DynamoDBTestContainer.createClient(dynamoContainer);
+        client.createTable(b -> b.tableName(ITEMS_TABLE)
+                .attributeDefinitions(AttributeDefinition.builder().attributeName("id").attributeType(ScalarAttributeType.S).build())
+                .keySchema(KeySchemaElement.builder().attributeName("id").keyType(KeyType.HASH).build())
+                .billingMode(BillingMode.PAY_PER_REQUEST));
+        marker = DynamoDBTargetSystemAuditMarker.builder(client, new TransactionManager<>(TransactWriteItemsEnhancedRequest::builder))
+                .setTableName(MARKER_TABLE)
+                .build();
+    }
+
+    @AfterEach
+    void afterEach() {
+        client.deleteTable(b -> b.tableName(ITEMS_TABLE));
+        client.deleteTable(b -> b.tableName(MARKER_TABLE));
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Should bulk write 100k items in concurrent 25-item batches")
+    void shouldBulkWrite100kItems() {
+        DynamoDBBulkWriter writer = DynamoDBBulkWriter.builder(client)
+                .withConcurrency(8)
+                .build();
+        List<Map<String, AttributeValue>> items = IntStream.range(0, 100_000)
+                .mapToObj(DynamoDBBulkWriterTest::item)
+                .collect(Collectors.toList());
+
+        DynamoDBBulkWriteResult result = writer.putItems(ITEMS_TABLE, items);
+
+        assertEquals(100_000, result.getWrittenItems());
+        assertEquals(100_000 / DynamoDBBulkWriter.BATCH_WRITE_LIMIT + result.getRetries(), result.getRequests());
+        assertTrue(result.getConsumedCapacityUnits() > 0);
+        assertEquals(100_000, countItems());
+    }
+
+    @Test
+    @DisplayName("Should resume a multi-transaction write after the last committed chunk")
+    void shouldResumeMultiTransactionWrite() {
+        DynamoDBBulkWriter writer = DynamoDBBulkWriter.builder(client)
+                .withProgressMarker(marker)
+                .build();
+        // conditional puts: replaying an already committed chunk would cancel its transaction
+        List<TransactWriteItem> items = IntStream.range(0, 1_000)
+                .mapToObj(DynamoDBBulkWriterTest::conditionalPut)
+                .collect(Collectors.toList());
+        // blocks the fifth chunk (99 items per chunk, one slot is for the progress record)
+        client.putItem(b -> b.tableName(ITEMS_TABLE).item(item(450)));
+
+        assertThrows(FlamingockException.class, () -> writer.writeInTransactions(CHANGE_ID, items));
+        assertEquals(4, marker.getCommittedChunks(CHANGE_ID));
+        assertEquals(4 * 99 + 1, countItems());
+
+        client.deleteItem(b -> b.tableName(ITEMS_TABLE).key(Collections.singletonMap("id", AttributeValue.builder().s(id(450)).build())));
+        DynamoDBBulkWriteResult result = writer.writeInTransactions(CHANGE_ID, items);
+
+        assertEquals(4, result.getSkippedChunks());
+        assertEquals(1_000 - 4 * 99, result.getWrittenItems());
+        assertEquals(1_000, countItems());
+        assertEquals(0, marker.getCommittedChunks(CHANGE_ID));
+        assertTrue(marker.listAll().isEmpty(), "chunk progress must not be reported as an audit mark");
+    }
+
+    @Test
+    @DisplayName("Should reserve one transaction slot for the progress record")
+    void shouldRejectChunksLeavingNoRoomForProgress() {
+        DynamoDBBulkWriter writer = DynamoDBBulkWriter.builder(client)
+                .withProgressMarker(marker)
+                .build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.writeInTransactions(CHANGE_ID, Collections.singletonList(conditionalPut(0)), 100));
+    }
+
+    @Test
+    @DisplayName("Should reuse one executor across bulk writes until closed")
+    void shouldReuseExecutorUntilClosed() {
+        DynamoDBBulkWriter writer = DynamoDBBulkWriter.builder(client)
+                .withConcurrency(4)
+                .build();
+        List<Map<String, AttributeValue>> firstItems = IntStream.range(0, 500)
+                .mapToObj(DynamoDBBulkWriterTest::item)
+                .collect(Collectors.toList());
+        List<Map<String, AttributeValue>> secondItems = IntStream.range(500, 1_000)
+                .mapToObj(DynamoDBBulkWriterTest::item)
+                .collect(Collectors.toList());
+
+        writer.putItems(ITEMS_TABLE, firstItems);
+        Set<Thread> threadsAfterFirstWrite = bulkThreads();
+        writer.putItems(ITEMS_TABLE, secondItems);
+
+        assertEquals(1_000L, countItems());
+        assertTrue(threadsAfterFirstWrite.containsAll(bulkThreads()), "the second write must run on the threads of the first");
+
+        writer.close();
+        FlamingockException ex = assertThrows(FlamingockException.class, () -> writer.putItems(ITEMS_TABLE, firstItems));
+        assertTrue(ex.getMessage().contains("closed"));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive bulk write concurrency property")
+    void shouldRejectInvalidConcurrencyProperty() {
+        for (String value : new String[]{"0", "-2", "four"}) {
+            DynamoDBTargetSystem targetSystem = new DynamoDBTargetSystem("dynamodb", client)
+                    .setProperty(DynamoDBTargetSystem.BULK_WRITE_CONCURRENCY_PROPERTY_KEY, value);
+
+            FlamingockException ex = assertThrows(FlamingockException.class, () -> targetSystem.initialize(new SimpleContext()));
+            assertTrue(ex.getMessage().contains(DynamoDBTargetSystem.BULK_WRITE_CONCURRENCY_PROPERTY_KEY), ex.getMessage());
+        }
+    }
+
+    private static Set<Thread> bulkThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("flamingock-dynamodb-bulk-"))
+                .collect(Collectors.toSet());
+    }
+
+    private long countItems() {
+        long count = 0;
+        for (ScanResponse page : client.scanPaginator(b -> b.tableName(ITEMS_TABLE).select(Select.COUNT).consistentRead(true))) {
+            count += page.count();
+        }
+        return count;
+    }
+
+    private static TransactWriteItem conditionalPut(int index) {
+        return TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(ITEMS_TABLE)
+                        .item(item(index))
+                        .conditionExpression("attribute_not_exists(id)")
+                        .build())
+                .build();
+    }
+
+    private static Map<String, AttributeValue> item(int index) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", AttributeValue.builder().s(id(index)).build());
+        item.put("payload", AttributeValue.builder().s("value-" + index).build());
+        return item;
+    }
+
+    private static String id(int index) {
+        return String.format("item-%06d", index);
+    }
+}
@@ -27,19 +27,20 @@ import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
 import io.flamingock.internal.common.mongodb.CollectionInitializator;
 import io.flamingock.internal.common.mongodb.MongoDBReactiveCollectionHelper;
 import io.flamingock.internal.common.mongodb.MongoDBDocumentHelper;
+import io.flamingock.internal.core.external.targets.mark.AbstractTargetSystemAuditMarker;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
-import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
 import io.flamingock.internal.core.transaction.TransactionManager;
 import io.flamingock.internal.util.constants.CommunityPersistenceConstants;
 import io.flamingock.reactive.util.PublisherSync;
 import org.bson.Document;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 
-public class MongoDBReactiveAuditMarker implements TargetSystemAuditMarker {
+public class MongoDBReactiveAuditMarker extends AbstractTargetSystemAuditMarker {
     public static final String OPERATION = "operation";
     private static final String CHANGE_ID = "changeId";
     private final MongoCollection<Document> auditMarkerCollection;
@@ -61,7 +62,7 @@ public class MongoDBReactiveAuditMarker implements TargetSystemAuditMarker {
     }
 
     @Override
-    public Set<TargetSystemAuditMark> listAll() {
+    protected Set<TargetSystemAuditMark> loadAll() {
         return PublisherSync.collect(auditMarkerCollection.find())
                 .stream()
                 .map(MongoDBReactiveAuditMarker::mapToOnGoingStatus)
@@ -69,12 +70,12 @@ public class MongoDBReactiveAuditMarker implements TargetSystemAuditMarker {
     }
 
     @Override
-    public void clearMark(String changeId) {
-        PublisherSync.first(auditMarkerCollection.deleteMany(Filters.eq(CHANGE_ID, changeId)));
+    protected void deleteMarks(Collection<String> changeIds) {
+        PublisherSync.first(auditMarkerCollection.deleteMany(Filters.in(CHANGE_ID, changeIds)));
     }
 
     @Override
-    public void mark(TargetSystemAuditMark auditMark) {
+    protected void writeMark(TargetSystemAuditMark auditMark) {
 
         Document filter = new Document(CHANGE_ID, auditMark.getChangeId());
 
@@ -16,8 +16,8 @@
 package io.flamingock.targetsystem.mongodb.springdata.reactive;
 
 import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
+import io.flamingock.internal.core.external.targets.mark.AbstractTargetSystemAuditMarker;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
-import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
 import io.flamingock.internal.util.constants.CommunityPersistenceConstants;
 import org.bson.Document;
 import org.springframework.data.domain.Sort;
@@ -27,6 +27,7 @@ import org.springframework.data.mongodb.core.index.IndexInfo;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -41,7 +42,7 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
  * avoids exposing the underlying reactive {@code ClientSession} through the Flamingock
  * {@code TransactionManager}.
  */
-public class MongoDBSpringDataReactiveAuditMarker implements TargetSystemAuditMarker {
+public class MongoDBSpringDataReactiveAuditMarker extends AbstractTargetSystemAuditMarker {
 
     public static final String OPERATION = "operation";
     private static final String CHANGE_ID = "changeId";
@@ -64,7 +65,7 @@ public class MongoDBSpringDataReactiveAuditMarker implements TargetSystemAuditMa
     }
 
     @Override
-    public Set<TargetSystemAuditMark> listAll() {
+    protected Set<TargetSystemAuditMark> loadAll() {
         return mongoTemplate.findAll(Document.class, collectionName)
                 .map(MongoDBSpringDataReactiveAuditMarker::mapToOnGoingStatus)
                 .collectList()
@@ -74,12 +75,12 @@ public class MongoDBSpringDataReactiveAuditMarker implements TargetSystemAuditMa
     }
 
     @Override
-    public void clearMark(String changeId) {
-        mongoTemplate.remove(Query.query(where(CHANGE_ID).is(changeId)), collectionName).block();
+    protected void deleteMarks(Collection<String> changeIds) {
+        mongoTemplate.remove(Query.query(where(CHANGE_ID).in(changeIds)), collectionName).block();
     }
 
     @Override
-    public void mark(TargetSystemAuditMark auditMark) {
+    protected void writeMark(TargetSystemAuditMark auditMark) {
         Query query = Query.query(where(CHANGE_ID).is(auditMark.getChangeId()));
         Update update = new Update()
                 .set(CHANGE_ID, auditMark.getChangeId())
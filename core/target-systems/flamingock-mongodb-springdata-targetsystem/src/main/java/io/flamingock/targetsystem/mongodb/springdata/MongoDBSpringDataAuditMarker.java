@@ -23,12 +23,13 @@ import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
 import io.flamingock.internal.common.mongodb.CollectionInitializator;
 import io.flamingock.internal.common.mongodb.MongoDBSyncCollectionHelper;
 import io.flamingock.internal.common.mongodb.MongoDBDocumentHelper;
+import io.flamingock.internal.core.external.targets.mark.AbstractTargetSystemAuditMarker;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
-import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
 import io.flamingock.internal.util.constants.CommunityPersistenceConstants;
 import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -41,7 +42,7 @@ import java.util.Set;
  * the underlying {@code ClientSession} through the Flamingock {@code TransactionManager},
  * keeping the Spring abstraction intact.
  */
-public class MongoDBSpringDataAuditMarker implements TargetSystemAuditMarker {
+public class MongoDBSpringDataAuditMarker extends AbstractTargetSystemAuditMarker {
 
     public static final String OPERATION = "operation";
     private static final String CHANGE_ID = "changeId";
@@ -64,19 +65,19 @@ public class MongoDBSpringDataAuditMarker implements TargetSystemAuditMarker {
     }
 
     @Override
-    public Set<TargetSystemAuditMark> listAll() {
+    protected Set<TargetSystemAuditMark> loadAll() {
         return collection().find()
                 .map(MongoDBSpringDataAuditMarker::mapToOnGoingStatus)
                 .into(new HashSet<>());
     }
 
     @Override
-    public void clearMark(String changeId) {
-        collection().deleteMany(Filters.eq(CHANGE_ID, changeId));
+    protected void deleteMarks(Collection<String> changeIds) {
+        collection().deleteMany(Filters.in(CHANGE_ID, changeIds));
     }
 
     @Override
-    public void mark(TargetSystemAuditMark auditMark) {
+    protected void writeMark(TargetSystemAuditMark auditMark) {
         Document filter = new Document(CHANGE_ID, auditMark.getChangeId());
         Document newDocument = new Document(CHANGE_ID, auditMark.getChangeId())
                 .append(OPERATION, auditMark.getOperation().name());
@@ -26,17 +26,18 @@ import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
 import io.flamingock.internal.common.mongodb.CollectionInitializator;
 import io.flamingock.internal.common.mongodb.MongoDBSyncCollectionHelper;
 import io.flamingock.internal.common.mongodb.MongoDBDocumentHelper;
+import io.flamingock.internal.core.external.targets.mark.AbstractTargetSystemAuditMarker;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
-import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
 import io.flamingock.internal.core.transaction.TransactionManager;
 import io.flamingock.internal.util.constants.CommunityPersistenceConstants;
 import org.bson.Document;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 
-public class MongoDBSyncAuditMarker implements TargetSystemAuditMarker {
+public class MongoDBSyncAuditMarker extends AbstractTargetSystemAuditMarker {
     public static final String OPERATION = "operation";
     private static final String CHANGE_ID = "changeId";
     private final MongoCollection<Document> auditMarkerCollection;
@@ -58,19 +59,19 @@ public class MongoDBSyncAuditMarker implements TargetSystemAuditMarker {
     }
 
     @Override
-    public Set<TargetSystemAuditMark> listAll() {
+    protected Set<TargetSystemAuditMark> loadAll() {
         return auditMarkerCollection.find()
                 .map(MongoDBSyncAuditMarker::mapToOnGoingStatus)
                 .into(new HashSet<>());
     }
 
     @Override
-    public void clearMark(String changeId) {
-        auditMarkerCollection.deleteMany(Filters.eq(CHANGE_ID, changeId));
+    protected void deleteMarks(Collection<String> changeIds) {
+        auditMarkerCollection.deleteMany(Filters.in(CHANGE_ID, changeIds));
     }
 
     @Override
-    public void mark(TargetSystemAuditMark auditMark) {
+    protected void writeMark(TargetSystemAuditMark auditMark) {
 
         Document filter = new Document(CHANGE_ID, auditMark.getChangeId());
 
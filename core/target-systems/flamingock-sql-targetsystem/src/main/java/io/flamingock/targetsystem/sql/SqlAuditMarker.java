@@ -19,8 +19,8 @@ import io.flamingock.internal.common.core.error.FlamingockException;
 import io.flamingock.internal.common.sql.SqlDialect;
 import io.flamingock.internal.core.transaction.TransactionManager;
 import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
+import io.flamingock.internal.core.external.targets.mark.AbstractTargetSystemAuditMarker;
 import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMark;
-import io.flamingock.internal.core.external.targets.mark.TargetSystemAuditMarker;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -29,11 +29,20 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 
-public class SqlAuditMarker implements TargetSystemAuditMarker {
+public class SqlAuditMarker extends AbstractTargetSystemAuditMarker {
+
+    /**
+     * Keeps the IN list below the bind-parameter and list-size limits of every supported dialect
+     * (e.g. 1000 elements in Oracle, 2100 parameters in SQL Server)
+     */
+    static final int CLEAR_MARKS_CHUNK_SIZE = 500;
 
     private final String tableName;
     private final DataSource dataSource;
@@ -55,7 +64,7 @@ public class SqlAuditMarker implements TargetSystemAuditMarker {
     }
 
     @Override
-    public Set<TargetSystemAuditMark> listAll() {
+    protected Set<TargetSystemAuditMark> loadAll() {
         String sql = dialectHelper.getListAllSqlString(tableName);
 
         try (Connection connection = dataSource.getConnection();
@@ -76,19 +85,29 @@ public class SqlAuditMarker implements TargetSystemAuditMarker {
     }
 
     @Override
-    public void clearMark(String changeId) {
-        String sql = dialectHelper.getClearMarkSqlString(tableName);
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            preparedStatement.setString(1, changeId);
-            preparedStatement.executeUpdate();
+    protected void deleteMarks(Collection<String> changeIds) {
+        List<String> ids = new ArrayList<>(changeIds);
+        try (Connection connection = dataSource.getConnection()) {
+            for (int from = 0; from < ids.size(); from += CLEAR_MARKS_CHUNK_SIZE) {
+                List<String> chunk = ids.subList(from, Math.min(from + CLEAR_MARKS_CHUNK_SIZE, ids.size()));
+                String sql = dialectHelper.getClearMarksSqlString(tableName, chunk.size());
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        preparedStatement.setString(i + 1, chunk.get(i));
+                    }
+                    preparedStatement.executeUpdate();
+                }
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
         } catch (SQLException ex) {
             throw new FlamingockException(ex);
         }
     }
 
     @Override
-    public void mark(TargetSystemAuditMark auditMark) {
+    protected void writeMark(TargetSystemAuditMark auditMark) {
         String sql = dialectHelper.getMarkSqlString(tableName);
         Connection connection = txManager.getSessionOrThrow(auditMark.getChangeId());
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
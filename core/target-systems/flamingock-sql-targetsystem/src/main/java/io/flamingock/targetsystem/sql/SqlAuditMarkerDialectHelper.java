@@ -37,8 +37,12 @@ public final class SqlAuditMarkerDialectHelper {
         return String.format("SELECT change_id, operation FROM %s", tableName);
     }
 
-    public String getClearMarkSqlString(String tableName) {
-        return String.format("DELETE FROM %s WHERE change_id = ?", tableName);
+    public String getClearMarksSqlString(String tableName, int count) {
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            placeholders.append(i == 0 ? "?" : ", ?");
+        }
+        return String.format("DELETE FROM %s WHERE change_id IN (%s)", tableName, placeholders);
     }
 
     public String getMarkSqlString(String tableName) {
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.targetsystem.sql;
+
+import io.flamingock.internal.common.core.targets.TargetSystemAuditMarkType;
+import io.flamingock.internal.core.transaction.TransactionManager;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlAuditMarkerBatchTest {
+
+    private static final String MARKS_TABLE = "FLAMINGOCK_AUDIT_MARKS_BATCH";
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger statements = new AtomicInteger();
+
+    private JdbcDataSource h2DataSource;
+    private Connection keepAlive;
+    private SqlAuditMarker marker;
+
+    @BeforeEach
+    void beforeEach() throws SQLException {
+        h2DataSource = new JdbcDataSource();
+        h2DataSource.setURL("jdbc:h2:mem:marksbatch;DB_CLOSE_DELAY=-1");
+        keepAlive = h2DataSource.getConnection();
+
+        DataSource countingDataSource = countingDataSource(h2DataSource);
+        TransactionManager<Connection> txManager = new TransactionManager<>(() -> {
+            try {
+                return countingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        marker = SqlAuditMarker.builder(countingDataSource, txManager)
+                .withTableName(MARKS_TABLE)
+                .build();
+    }
+
+    @AfterEach
+    void afterEach() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + MARKS_TABLE);
+        }
+        keepAlive.close();
+    }
+
+    @Test
+    @DisplayName("Should clear marks in chunked DELETE ... IN statements over a single connection")
+    void shouldClearMarksInChunksOverSingleConnection() throws SQLException {
+        List<String> changeIds = insertMarks(1200);
+        resetCounters();
+
+        marker.clearMarks(changeIds);
+
+        assertEquals(1, connections.get());
+        assertEquals(3, statements.get(), "1200 ids in chunks of " + SqlAuditMarker.CLEAR_MARKS_CHUNK_SIZE);
+        assertTrue(marker.listAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should serve listAll from the snapshot until a local clear invalidates it")
+    void shouldServeListAllFromSnapshot() throws SQLException {
+        insertMarks(3);
+        resetCounters();
+
+        assertEquals(3, marker.listAll().size());
+        assertSame(marker.listAll(), marker.listAll());
+        assertEquals(1, connections.get());
+
+        marker.clearMark("change-0");
+        assertEquals(2, marker.listAll().size());
+        assertEquals(3, connections.get());
+    }
+
+    private List<String> insertMarks(int count) throws SQLException {
+        List<String> changeIds = IntStream.range(0, count)
+                .mapToObj(i -> "change-" + i)
+                .collect(Collectors.toList());
+        try (PreparedStatement insert = keepAlive.prepareStatement(
+                "INSERT INTO " + MARKS_TABLE + " (change_id, operation) VALUES (?, ?)")) {
+            for (String changeId : changeIds) {
+                insert.setString(1, changeId);
+                insert.setString(2, TargetSystemAuditMarkType.APPLIED.name());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return changeIds;
+    }
+
+    private void resetCounters() {
+        connections.set(0);
+        statements.set(0);
+    }
+
+    private DataSource countingDataSource(DataSource delegate) {
+        return (DataSource) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(delegate, method, args);
+                    if ("getConnection".equals(method.getName())) {
+                        connections.incrementAndGet();
+                        return countingConnection((Connection) result);
+                    }
+                    return result;
+                });
+    }
+
+    private Connection countingConnection(Connection delegate) {
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("prepareStatement".equals(method.getName())) {
+                        statements.incrementAndGet();
+                    }
+                    return invoke(delegate, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.e2e;
+
+import io.flamingock.common.test.pipeline.CodeChangeTestDefinition;
+import io.flamingock.common.test.pipeline.PipelineTestHelper;
+import io.flamingock.core.e2e.changes._001__SimpleNonTransactionalChange;
+import io.flamingock.core.e2e.changes._011__LockGuardedCounterChange;
+import io.flamingock.core.e2e.helpers.Counter;
+import io.flamingock.core.kit.inmemory.InternalInMemoryTestKit;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.core.builder.CommunityChangeRunnerBuilder;
+import io.flamingock.internal.core.configuration.core.AsyncEventsConfiguration;
+import io.flamingock.internal.core.event.model.Event;
+import io.flamingock.internal.core.event.model.IChangeCompletedEvent;
+import io.flamingock.internal.core.event.model.IChangeStartedEvent;
+import io.flamingock.internal.core.event.model.IStageCompletedEvent;
+import io.flamingock.internal.core.event.model.IStageStartedEvent;
+import io.flamingock.targetsystem.nontransactional.NonTransactionalTargetSystem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncEventsE2ETest {
+
+    private static final String STAGE_NAME = "async-events-stage";
+    private static final long LISTENER_DELAY_MILLIS = 300;
+
+    @Test
+    @DisplayName("Should include slow change listeners in the stage latency when events are synchronous")
+    void shouldWaitForSlowListenersWhenSynchronous() {
+        List<Event> events = Collections.synchronizedList(new ArrayList<>());
+
+        runWithSlowChangeListeners(testKit -> { }, events);
+
+        // two changes, each with a slow started and completed listener
+        assertEquals(6, events.size(), events.toString());
+        long stageMillis = stageDurationMillis(events);
+        assertTrue(stageMillis >= 4 * LISTENER_DELAY_MILLIS, "stage took " + stageMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("Should keep slow change listeners out of the stage latency and drain them before run returns")
+    void shouldNotWaitForSlowListenersWhenAsync() {
+        List<Event> events = Collections.synchronizedList(new ArrayList<>());
+        AsyncEventsConfiguration asyncEvents = new AsyncEventsConfiguration();
+        asyncEvents.setEnabled(true);
+
+        runWithSlowChangeListeners(builder -> builder.setAsyncEvents(asyncEvents), events);
+
+        // every event has been received by the time run returns
+        assertEquals(6, events.size(), events.toString());
+        long stageMillis = stageDurationMillis(events);
+        assertTrue(stageMillis < LISTENER_DELAY_MILLIS, "stage took " + stageMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("Should deliver events to each listener in publishing order when async")
+    void shouldPreserveOrderWhenAsync() {
+        List<Event> events = Collections.synchronizedList(new ArrayList<>());
+        AsyncEventsConfiguration asyncEvents = new AsyncEventsConfiguration();
+        asyncEvents.setEnabled(true);
+        asyncEvents.setQueueCapacity(1);
+
+        runWithSlowChangeListeners(builder -> builder.setAsyncEvents(asyncEvents), events);
+
+        List<Event> changeEvents = new ArrayList<>();
+        for (Event event : events) {
+            if (event instanceof IChangeStartedEvent || event instanceof IChangeCompletedEvent) {
+                changeEvents.add(event);
+            }
+        }
+        assertEquals(4, changeEvents.size(), events.toString());
+        assertEquals("test1-non-tx-change", assertInstanceOf(IChangeStartedEvent.class, changeEvents.get(0)).getChangeId());
+        assertEquals("test1-non-tx-change", assertInstanceOf(IChangeCompletedEvent.class, changeEvents.get(1)).getChangeId());
+        assertEquals("test11-lock-guarded-change", assertInstanceOf(IChangeStartedEvent.class, changeEvents.get(2)).getChangeId());
+        assertEquals("test11-lock-guarded-change", assertInstanceOf(IChangeCompletedEvent.class, changeEvents.get(3)).getChangeId());
+    }
+
+    private static void runWithSlowChangeListeners(Consumer<CommunityChangeRunnerBuilder> configurer, List<Event> events) {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(STAGE_NAME,
+                    new CodeChangeTestDefinition(_001__SimpleNonTransactionalChange.class, Collections.emptyList()),
+                    new CodeChangeTestDefinition(_011__LockGuardedCounterChange.class, Collections.singletonList(Counter.class))));
+
+            CommunityChangeRunnerBuilder builder = testKit.createBuilder()
+                    .setStageStartedListener(events::add)
+                    .setStageCompletedListener(events::add)
+                    .setChangeStartedListener(event -> slowly(events, event))
+                    .setChangeCompletedListener(event -> slowly(events, event))
+                    .addTargetSystem(new NonTransactionalTargetSystem("kafka").addDependency(new Counter()));
+            configurer.accept(builder);
+            builder.build().run();
+        }
+    }
+
+    private static void slowly(List<Event> events, Event event) {
+        try {
+            Thread.sleep(LISTENER_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        events.add(event);
+    }
+
+    private static long stageDurationMillis(List<Event> events) {
+        assertInstanceOf(IStageStartedEvent.class, events.get(0));
+        for (Event event : events) {
+            if (event instanceof IStageCompletedEvent) {
+                return ((IStageCompletedEvent) event).getResult().getDurationMs();
+            }
+        }
+        throw new AssertionError("No stage completed event: " + events);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.e2e;
+
+import io.flamingock.api.RecoveryStrategy;
+import io.flamingock.common.test.pipeline.CodeChangeTestDefinition;
+import io.flamingock.common.test.pipeline.PipelineTestHelper;
+import io.flamingock.core.e2e.changes._010__BatchCopyRecordsChange;
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.core.kit.audit.AuditTestHelper;
+import io.flamingock.core.kit.inmemory.InternalInMemoryAuditStorage;
+import io.flamingock.core.kit.inmemory.InternalInMemoryLockStorage;
+import io.flamingock.core.kit.inmemory.InternalInMemoryTestKit;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.audit.BatchCursor;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.core.external.store.lock.LockAcquisition;
+import io.flamingock.internal.core.external.store.lock.LockKey;
+import io.flamingock.internal.core.operation.StagedExecuteOperationException;
+import io.flamingock.targetsystem.nontransactional.NonTransactionalTargetSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.APPLIED;
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.FAILED;
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.STARTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end tests for batch changes applied chunk by chunk.
+ *
+ * <p>Follows the {@link StepCheckpointE2ETest} pattern: optionally pre-insert the audit entry an
+ * earlier execution would have left, run Flamingock on the in-memory stores, then validate the
+ * audit log and which records reached the in-memory target.</p>
+ */
+class BatchChangeE2ETest {
+
+    private static final String CHANGE_ID = "batch-copy-records-change";
+    private static final String TARGET_SYSTEM = "kafka";
+
+    private CountingLockStorage lockStorage;
+    private InternalInMemoryTestKit testKit;
+    private AuditTestHelper auditHelper;
+
+    @BeforeEach
+    void setUp() {
+        lockStorage = new CountingLockStorage();
+        testKit = InternalInMemoryTestKit.create(new InternalInMemoryAuditStorage(), lockStorage);
+        auditHelper = testKit.getAuditHelper();
+    }
+
+    @Test
+    @DisplayName("Should migrate a large data set chunk by chunk")
+    void shouldMigrateLargeDataSet() {
+        int recordCount = 100_000;
+        _010__BatchCopyRecordsChange.reset(recordCount);
+
+        assertTimeout(Duration.ofSeconds(30), this::run);
+
+        assertEquals(recordCount, _010__BatchCopyRecordsChange.getWrittenItems());
+        assertEquals(recordCount, _010__BatchCopyRecordsChange.countWritten());
+        List<AuditEntry> entries = auditHelper.getAuditEntriesSorted();
+        // initial STARTED, one checkpoint per chunk but the last one, APPLIED
+        int chunks = recordCount / _010__BatchCopyRecordsChange.CHUNK_SIZE;
+        assertEquals(chunks + 1, entries.size());
+        assertEquals(AuditEntry.Status.APPLIED, entries.get(entries.size() - 1).getState());
+    }
+
+    @Test
+    @DisplayName("Should checkpoint the cursor after each committed chunk")
+    void shouldCheckpointEachCommittedChunk() {
+        _010__BatchCopyRecordsChange.reset(4500);
+
+        run();
+
+        assertEquals(4500, _010__BatchCopyRecordsChange.countWritten());
+        auditHelper.verifyAuditSequenceStrict(
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                APPLIED(CHANGE_ID)
+        );
+        assertEquals(Arrays.asList(null, cursor("1000", 1), cursor("2000", 2), cursor("3000", 3), cursor("4000", 4), null),
+                persistedCursors());
+    }
+
+    @Test
+    @DisplayName("Should resume after the last checkpointed chunk when retrying an interrupted change")
+    void shouldResumeInterruptedChangeAfterLastCheckpoint() {
+        // Given - a previous execution was interrupted after committing 3 chunks
+        _010__BatchCopyRecordsChange.reset(5000);
+        testKit.getAuditStorage().addAuditEntry(AuditEntryTestFactory.createBatchCheckpointAuditEntry(
+                CHANGE_ID, AuditEntry.Status.STARTED, AuditTxType.NON_TX, RecoveryStrategy.ALWAYS_RETRY, "3000", 3));
+
+        // When
+        run();
+
+        // Then - only the remaining chunks are read and written
+        assertEquals(2000, _010__BatchCopyRecordsChange.getWrittenItems());
+        assertFalse(_010__BatchCopyRecordsChange.isWritten(2999));
+        assertTrue(_010__BatchCopyRecordsChange.isWritten(3000));
+        assertTrue(_010__BatchCopyRecordsChange.isWritten(4999));
+        auditHelper.verifyAuditSequenceStrict(
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                APPLIED(CHANGE_ID)
+        );
+        // the new STARTED entry keeps the cursor, so an interruption before chunk 4 loses nothing
+        assertEquals(Arrays.asList(cursor("3000", 3), cursor("3000", 3), cursor("4000", 4), null), persistedCursors());
+    }
+
+    @Test
+    @DisplayName("Should keep committed chunks and resume after them when a chunk fails")
+    void shouldResumeAfterFailedChunk() {
+        // Given - first execution fails writing the third chunk
+        _010__BatchCopyRecordsChange.reset(5000);
+        _010__BatchCopyRecordsChange.failOnChunk = 3;
+        assertThrows(StagedExecuteOperationException.class, this::run);
+
+        assertEquals(2000, _010__BatchCopyRecordsChange.countWritten());
+        auditHelper.verifyAuditSequenceStrict(
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                FAILED(CHANGE_ID)
+        );
+        assertEquals(cursor("2000", 2), BatchCursor.read(lastEntry()).orElse(null));
+
+        // When
+        run();
+
+        // Then - the committed chunks are neither rolled back nor written again
+        assertEquals(5000, _010__BatchCopyRecordsChange.getWrittenItems());
+        assertEquals(5000, _010__BatchCopyRecordsChange.countWritten());
+        assertEquals(AuditEntry.Status.APPLIED, lastEntry().getState());
+    }
+
+    @Test
+    @DisplayName("Should extend the lock between chunks")
+    void shouldExtendLockBetweenChunks() {
+        _010__BatchCopyRecordsChange.reset(5000);
+
+        run();
+
+        // lock acquisition plus one extension after each chunk but the last one
+        assertTrue(lockStorage.getStoreCount() >= 5,
+                "Expected the lock to be extended between chunks, but it was stored " + lockStorage.getStoreCount() + " times");
+    }
+
+    private void run() {
+        CodeChangeTestDefinition change = new CodeChangeTestDefinition(_010__BatchCopyRecordsChange.class, Collections.emptyList());
+
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(change));
+
+            testKit.createBuilder()
+                    .addTargetSystem(new NonTransactionalTargetSystem(TARGET_SYSTEM))
+                    .build()
+                    .run();
+        }
+    }
+
+    private List<BatchCursor> persistedCursors() {
+        return auditHelper.getAuditEntriesSorted().stream()
+                .map(entry -> BatchCursor.read(entry).orElse(null))
+                .collect(Collectors.toList());
+    }
+
+    private AuditEntry lastEntry() {
+        List<AuditEntry> entries = auditHelper.getAuditEntriesSorted();
+        return entries.get(entries.size() - 1);
+    }
+
+    private static BatchCursor cursor(String position, long committedChunks) {
+        return new BatchCursor(position, committedChunks);
+    }
+
+    private static final class CountingLockStorage extends InternalInMemoryLockStorage {
+
+        private final AtomicInteger storeCount = new AtomicInteger();
+
+        @Override
+        public synchronized void storeLock(LockKey key, LockAcquisition acquisition) {
+            storeCount.incrementAndGet();
+            super.storeLock(key, acquisition);
+        }
+
+        int getStoreCount() {
+            return storeCount.get();
+        }
+    }
+}
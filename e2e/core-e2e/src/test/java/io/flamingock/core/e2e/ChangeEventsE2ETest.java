@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.e2e;
+
+import io.flamingock.common.test.pipeline.CodeChangeTestDefinition;
+import io.flamingock.common.test.pipeline.PipelineTestHelper;
+import io.flamingock.core.e2e.changes._001__SimpleNonTransactionalChange;
+import io.flamingock.core.e2e.changes._007__SimpleNonTransactionalChangeWithError;
+import io.flamingock.core.e2e.changes._011__LockGuardedCounterChange;
+import io.flamingock.core.e2e.changes._012__FailingNonTransactionalChangeWithoutRollback;
+import io.flamingock.core.e2e.helpers.Counter;
+import io.flamingock.core.kit.inmemory.InternalInMemoryTestKit;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.core.builder.CommunityChangeRunnerBuilder;
+import io.flamingock.internal.core.event.model.Event;
+import io.flamingock.internal.core.event.model.IChangeCompletedEvent;
+import io.flamingock.internal.core.event.model.IChangeFailedEvent;
+import io.flamingock.internal.core.event.model.IChangeFinishedEvent;
+import io.flamingock.internal.core.event.model.IChangeRolledBackEvent;
+import io.flamingock.internal.core.event.model.IChangeStartedEvent;
+import io.flamingock.internal.core.event.model.IStageCompletedEvent;
+import io.flamingock.internal.core.event.model.IStageFailedEvent;
+import io.flamingock.internal.core.event.model.IStageStartedEvent;
+import io.flamingock.internal.core.operation.OperationException;
+import io.flamingock.targetsystem.nontransactional.NonTransactionalTargetSystem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeEventsE2ETest {
+
+    private static final String STAGE_NAME = "events-stage";
+
+    @Test
+    @DisplayName("Should publish started and completed events inside the stage events, with timings and guarded calls")
+    void shouldPublishCompletedChangeEvents() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        List<Event> events = new ArrayList<>();
+        Counter counter = new Counter();
+
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(STAGE_NAME,
+                    new CodeChangeTestDefinition(_011__LockGuardedCounterChange.class, Collections.singletonList(Counter.class))));
+
+            recordingEvents(testKit.createBuilder(), events)
+                    .addTargetSystem(new NonTransactionalTargetSystem("kafka").addDependency(counter))
+                    .build()
+                    .run();
+        }
+
+        assertTrue(counter.isExecuted());
+        assertEquals(4, events.size(), events.toString());
+        assertInstanceOf(IStageStartedEvent.class, events.get(0));
+        IChangeStartedEvent started = assertInstanceOf(IChangeStartedEvent.class, events.get(1));
+        IChangeCompletedEvent completed = assertInstanceOf(IChangeCompletedEvent.class, events.get(2));
+        assertInstanceOf(IStageCompletedEvent.class, events.get(3));
+
+        assertEquals("test11-lock-guarded-change", started.getChangeId());
+        assertEquals(STAGE_NAME, started.getStageName());
+        assertEquals("kafka", started.getTargetSystemId());
+
+        assertEquals("test11-lock-guarded-change", completed.getChangeId());
+        assertEquals(STAGE_NAME, completed.getStageName());
+        assertEquals("kafka", completed.getTargetSystemId());
+        assertEquals(ChangeStatus.APPLIED, completed.getResult().getStatus());
+        assertEquals(2, completed.getLockGuardedCallCount());
+        assertTrue(completed.getAuditWriteNanos() > 0, "STARTED and APPLIED writes should be timed");
+        assertTrue(completed.getDurationNanos() >= completed.getAuditWriteNanos());
+    }
+
+    @Test
+    @DisplayName("Should publish a rolled back event when a failed change is rolled back")
+    void shouldPublishRolledBackEvent() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        List<Event> events = new ArrayList<>();
+        Counter counter = new Counter();
+
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(STAGE_NAME,
+                    new CodeChangeTestDefinition(_007__SimpleNonTransactionalChangeWithError.class,
+                            Collections.singletonList(Counter.class), Collections.singletonList(Counter.class))));
+
+            assertThrows(OperationException.class, () -> recordingEvents(testKit.createBuilder(), events)
+                    .addTargetSystem(new NonTransactionalTargetSystem("kafka").addDependency(counter))
+                    .build()
+                    .run());
+        }
+
+        assertTrue(counter.isRollbacked());
+        assertEquals(4, events.size(), events.toString());
+        assertInstanceOf(IStageStartedEvent.class, events.get(0));
+        assertInstanceOf(IChangeStartedEvent.class, events.get(1));
+        IChangeRolledBackEvent rolledBack = assertInstanceOf(IChangeRolledBackEvent.class, events.get(2));
+        assertInstanceOf(IStageFailedEvent.class, events.get(3));
+
+        assertEquals("test1-non-tx-change", rolledBack.getChangeId());
+        assertEquals(ChangeStatus.FAILED, rolledBack.getResult().getStatus());
+        assertEquals("Intentional failure", rolledBack.getException().getMessage());
+        assertEquals(0, rolledBack.getLockGuardedCallCount(), "Counter is @NonLockGuarded in this change");
+        assertTrue(rolledBack.getAuditWriteNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Should publish a failed event when a failed change has no rollback")
+    void shouldPublishFailedEvent() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        List<Event> events = new ArrayList<>();
+
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(STAGE_NAME,
+                    new CodeChangeTestDefinition(_012__FailingNonTransactionalChangeWithoutRollback.class, Collections.emptyList())));
+
+            assertThrows(OperationException.class, () -> recordingEvents(testKit.createBuilder(), events)
+                    .addTargetSystem(new NonTransactionalTargetSystem("kafka"))
+                    .build()
+                    .run());
+        }
+
+        List<IChangeFinishedEvent> finished = finishedEvents(events);
+        assertEquals(1, finished.size(), events.toString());
+        IChangeFailedEvent failed = assertInstanceOf(IChangeFailedEvent.class, finished.get(0));
+        assertEquals("test12-failing-no-rollback-change", failed.getChangeId());
+        assertEquals(ChangeStatus.FAILED, failed.getResult().getStatus());
+        assertEquals("Intentional failure", failed.getException().getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not publish change events for already applied changes")
+    void shouldSkipAlreadyAppliedChanges() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        List<Event> events = new ArrayList<>();
+
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(STAGE_NAME,
+                    new CodeChangeTestDefinition(_001__SimpleNonTransactionalChange.class, Collections.emptyList())));
+            testKit.createBuilder()
+                    .addTargetSystem(new NonTransactionalTargetSystem("kafka"))
+                    .build()
+                    .run();
+
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(STAGE_NAME,
+                    new CodeChangeTestDefinition(_001__SimpleNonTransactionalChange.class, Collections.emptyList()),
+                    new CodeChangeTestDefinition(_011__LockGuardedCounterChange.class, Collections.singletonList(Counter.class))));
+            InternalInMemoryTestKit secondRunKit = InternalInMemoryTestKit.create(testKit.getAuditStorage(), testKit.getLockStorage());
+            recordingEvents(secondRunKit.createBuilder(), events)
+                    .addTargetSystem(new NonTransactionalTargetSystem("kafka").addDependency(new Counter()))
+                    .build()
+                    .run();
+        }
+
+        List<IChangeFinishedEvent> finished = finishedEvents(events);
+        assertEquals(1, finished.size(), events.toString());
+        assertEquals("test11-lock-guarded-change", finished.get(0).getChangeId());
+        assertEquals(1, events.stream().filter(IChangeStartedEvent.class::isInstance).count());
+    }
+
+    private static CommunityChangeRunnerBuilder recordingEvents(CommunityChangeRunnerBuilder builder, List<Event> events) {
+        return builder
+                .setStageStartedListener(events::add)
+                .setStageCompletedListener(events::add)
+                .setStageFailedListener(events::add)
+                .setChangeStartedListener(events::add)
+                .setChangeCompletedListener(events::add)
+                .setChangeFailedListener(events::add)
+                .setChangeRolledBackListener(events::add);
+    }
+
+    private static List<IChangeFinishedEvent> finishedEvents(List<Event> events) {
+        List<IChangeFinishedEvent> finished = new ArrayList<>();
+        for (Event event : events) {
+            if (event instanceof IChangeFinishedEvent) {
+                finished.add((IChangeFinishedEvent) event);
+            }
+        }
+        return finished;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.e2e;
+
+import io.flamingock.api.RecoveryStrategy;
+import io.flamingock.common.test.pipeline.PipelineTestHelper;
+import io.flamingock.common.test.pipeline.TemplateChangeTestDefinition;
+import io.flamingock.core.e2e.templates.StepRecordingTemplate;
+import io.flamingock.core.kit.audit.AuditEntryTestFactory;
+import io.flamingock.core.kit.audit.AuditTestHelper;
+import io.flamingock.core.kit.inmemory.InternalInMemoryTestKit;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.audit.StepCursor;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.common.core.response.data.StageResult;
+import io.flamingock.internal.common.core.template.TemplateRegistry;
+import io.flamingock.internal.core.operation.StagedExecuteOperationException;
+import io.flamingock.targetsystem.nontransactional.NonTransactionalTargetSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.APPLIED;
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.FAILED;
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.ROLLBACK_FAILED;
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.ROLLED_BACK;
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.STARTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end tests for step checkpoints of multi-step template changes.
+ *
+ * <p>Follows the {@link RecoveryE2ETest} pattern: optionally pre-insert the audit entry an
+ * earlier execution would have left, run Flamingock on the in-memory stores, then validate the
+ * audit log and which steps were applied or rolled back.</p>
+ */
+class StepCheckpointE2ETest {
+
+    private static final String CHANGE_ID = "multi-step-non-tx-change";
+    private static final String TARGET_SYSTEM = "kafka";
+
+    private InternalInMemoryTestKit testKit;
+    private AuditTestHelper auditHelper;
+    private TemplateRegistry templateRegistry;
+
+    @BeforeEach
+    void setUp() {
+        testKit = InternalInMemoryTestKit.create();
+        auditHelper = testKit.getAuditHelper();
+        templateRegistry = new TemplateRegistry();
+        templateRegistry.register(StepRecordingTemplate.class);
+        StepRecordingTemplate.reset();
+    }
+
+    @Test
+    @DisplayName("Should checkpoint each committed step of a non-transactional multi-step change")
+    void shouldCheckpointEachCommittedStep() {
+        run(RecoveryStrategy.MANUAL_INTERVENTION, 3);
+
+        assertEquals(Arrays.asList("apply-0", "apply-1", "apply-2"), StepRecordingTemplate.getApplied());
+        auditHelper.verifyAuditSequenceStrict(
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                APPLIED(CHANGE_ID)
+        );
+        assertEquals(Arrays.asList(null, 0, 1, 2, null), persistedCursors());
+    }
+
+    @Test
+    @DisplayName("Should resume after the last committed step when retrying an interrupted change")
+    void shouldResumeInterruptedChangeAfterLastCommittedStep() {
+        // Given - a previous execution was interrupted after committing steps 0 and 1
+        testKit.getAuditStorage().addAuditEntry(AuditEntryTestFactory.createStepCheckpointAuditEntry(
+                CHANGE_ID, AuditEntry.Status.STARTED, AuditTxType.NON_TX, RecoveryStrategy.ALWAYS_RETRY, 1));
+
+        // When
+        run(RecoveryStrategy.ALWAYS_RETRY, 4);
+
+        // Then - only the remaining steps are applied
+        assertEquals(Arrays.asList("apply-2", "apply-3"), StepRecordingTemplate.getApplied());
+        auditHelper.verifyAuditSequenceStrict(
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                APPLIED(CHANGE_ID)
+        );
+        // the new STARTED entry keeps the cursor, so an interruption before step 2 loses nothing
+        assertEquals(Arrays.asList(1, 1, 2, 3, null), persistedCursors());
+    }
+
+    @Test
+    @DisplayName("Should require manual intervention for an interrupted change even with a step cursor")
+    void shouldRequireManualInterventionForInterruptedChangeWithCursor() {
+        testKit.getAuditStorage().addAuditEntry(AuditEntryTestFactory.createStepCheckpointAuditEntry(
+                CHANGE_ID, AuditEntry.Status.STARTED, AuditTxType.NON_TX, RecoveryStrategy.MANUAL_INTERVENTION, 1));
+
+        StagedExecuteOperationException exception = assertThrows(StagedExecuteOperationException.class,
+                () -> run(RecoveryStrategy.MANUAL_INTERVENTION, 4));
+
+        assertTrue(exception.getResult().getStages().stream()
+                .map(StageResult::getState)
+                .anyMatch(state -> state.isBlockedForManualIntervention()));
+        assertTrue(StepRecordingTemplate.getApplied().isEmpty());
+        auditHelper.verifyAuditSequenceStrict(STARTED(CHANGE_ID));
+    }
+
+    @Test
+    @DisplayName("Should roll back only the committed steps when a step fails")
+    void shouldRollbackOnlyCommittedSteps() {
+        // Given
+        StepRecordingTemplate.failOnApply = "apply-2";
+
+        // When
+        assertThrows(StagedExecuteOperationException.class, () -> run(RecoveryStrategy.ALWAYS_RETRY, 4));
+
+        // Then - step 2 failed, so its rollback is not invoked
+        assertEquals(Arrays.asList("apply-0", "apply-1"), StepRecordingTemplate.getApplied());
+        assertEquals(Arrays.asList("rollback-1", "rollback-0"), StepRecordingTemplate.getRolledBack());
+        auditHelper.verifyAuditSequenceStrict(
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                STARTED(CHANGE_ID),
+                FAILED(CHANGE_ID),
+                ROLLED_BACK(CHANGE_ID)
+        );
+        assertEquals(Arrays.asList(null, 0, 1, 1, null), persistedCursors());
+    }
+
+    @Test
+    @DisplayName("Should start over after a clean rollback")
+    void shouldStartOverAfterCleanRollback() {
+        // Given - first execution fails at step 2 and rolls back steps 1 and 0
+        StepRecordingTemplate.failOnApply = "apply-2";
+        assertThrows(StagedExecuteOperationException.class, () -> run(RecoveryStrategy.ALWAYS_RETRY, 3));
+        StepRecordingTemplate.reset();
+
+        // When
+        run(RecoveryStrategy.ALWAYS_RETRY, 3);
+
+        // Then - nothing was left committed, every step runs again
+        assertEquals(Arrays.asList("apply-0", "apply-1", "apply-2"), StepRecordingTemplate.getApplied());
+        assertEquals(AuditEntry.Status.APPLIED, lastEntry().getState());
+    }
+
+    @Test
+    @DisplayName("Should resume after the steps a failed rollback left applied")
+    void shouldResumeAfterFailedRollback() {
+        // Given - step 3 fails, then rolling back step 1 fails, leaving steps 0 and 1 applied
+        StepRecordingTemplate.failOnApply = "apply-3";
+        StepRecordingTemplate.failOnRollback = "rollback-1";
+        assertThrows(StagedExecuteOperationException.class, () -> run(RecoveryStrategy.ALWAYS_RETRY, 4));
+        assertEquals(Arrays.asList("apply-0", "apply-1", "apply-2"), StepRecordingTemplate.getApplied());
+        assertEquals(Collections.singletonList("rollback-2"), StepRecordingTemplate.getRolledBack());
+        assertEquals(AuditEntry.Status.ROLLBACK_FAILED, lastEntry().getState());
+        assertEquals(Optional.of(1), StepCursor.read(lastEntry()));
+        StepRecordingTemplate.reset();
+
+        // When
+        run(RecoveryStrategy.ALWAYS_RETRY, 4);
+
+        // Then - steps 2 and 3 are applied again, steps 0 and 1 are not
+        assertEquals(Arrays.asList("apply-2", "apply-3"), StepRecordingTemplate.getApplied());
+        assertEquals(AuditEntry.Status.APPLIED, lastEntry().getState());
+    }
+
+    private void run(RecoveryStrategy recoveryStrategy, int stepCount) {
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (int i = 0; i < stepCount; i++) {
+            Map<String, Object> step = new HashMap<>();
+            step.put("apply", "apply-" + i);
+            step.put("rollback", "rollback-" + i);
+            steps.add(step);
+        }
+        TemplateChangeTestDefinition change = new TemplateChangeTestDefinition(
+                "multi-step-change.yaml", CHANGE_ID, "001", "step-recording-template",
+                false, null, null, null, TARGET_SYSTEM)
+                .withSteps(steps)
+                .withRecovery(recoveryStrategy);
+
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(change));
+
+            testKit.createBuilder()
+                    .setTemplateRegistry(templateRegistry)
+                    .addTargetSystem(new NonTransactionalTargetSystem(TARGET_SYSTEM))
+                    .build()
+                    .run();
+        }
+    }
+
+    private List<Integer> persistedCursors() {
+        return auditHelper.getAuditEntriesSorted().stream()
+                .map(entry -> StepCursor.read(entry).orElse(null))
+                .collect(Collectors.toList());
+    }
+
+    private AuditEntry lastEntry() {
+        List<AuditEntry> entries = auditHelper.getAuditEntriesSorted();
+        return entries.get(entries.size() - 1);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.e2e.changes;
+
+import io.flamingock.api.RecoveryStrategy;
+import io.flamingock.api.annotations.Change;
+import io.flamingock.api.annotations.Recovery;
+import io.flamingock.api.annotations.TargetSystem;
+import io.flamingock.core.batch.BatchChange;
+import io.flamingock.core.batch.BatchProcessor;
+import io.flamingock.core.batch.BatchReader;
+import io.flamingock.core.batch.BatchWriter;
+import io.flamingock.core.batch.Chunk;
+import io.flamingock.core.batch.ChunkRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Batch change copying a range of in-memory records into an in-memory target, using the
+ * record offset as cursor. Used for testing chunked execution, checkpoints and resume.
+ */
+@Change(id = "batch-copy-records-change", transactional = false, author = "aperezdieppa")
+@BatchChange(chunkSize = 1000)
+@Recovery(strategy = RecoveryStrategy.ALWAYS_RETRY)
+@TargetSystem(id = "kafka")
+public class _010__BatchCopyRecordsChange {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private static volatile boolean[] target = new boolean[0];
+
+    private static final AtomicLong writtenItems = new AtomicLong();
+
+    private static final AtomicInteger writtenChunks = new AtomicInteger();
+
+    /**
+     * 1-based index of the chunk write that fails once, or 0 to never fail.
+     */
+    public static volatile int failOnChunk = 0;
+
+    public static void reset(int recordCount) {
+        target = new boolean[recordCount];
+        writtenItems.set(0);
+        writtenChunks.set(0);
+        failOnChunk = 0;
+    }
+
+    @BatchReader
+    public Chunk<Integer> read(ChunkRequest request) {
+        int from = request.getCursor().map(Integer::parseInt).orElse(0);
+        int to = Math.min(from + request.getChunkSize(), target.length);
+        List<Integer> records = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            records.add(i);
+        }
+        return to < target.length ? Chunk.of(records, String.valueOf(to)) : Chunk.last(records);
+    }
+
+    @BatchProcessor
+    public Integer process(Integer record) {
+        return record;
+    }
+
+    @BatchWriter
+    public void write(List<Integer> records) {
+        if (writtenChunks.incrementAndGet() == failOnChunk) {
+            failOnChunk = 0;
+            throw new IllegalStateException("Intentional failure writing chunk starting at record " + records.get(0));
+        }
+        boolean[] current = target;
+        for (Integer record : records) {
+            current[record] = true;
+        }
+        writtenItems.addAndGet(records.size());
+    }
+
+    public static long getWrittenItems() {
+        return writtenItems.get();
+    }
+
+    public static boolean isWritten(int record) {
+        return target[record];
+    }
+
+    public static int countWritten() {
+        int count = 0;
+        for (boolean written : target) {
+            if (written) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.core.e2e.templates;
+
+import io.flamingock.api.annotations.ApplyTemplate;
+import io.flamingock.api.annotations.ChangeTemplate;
+import io.flamingock.api.annotations.RollbackTemplate;
+import io.flamingock.api.template.AbstractChangeTemplate;
+import io.flamingock.api.template.wrappers.TemplateString;
+import io.flamingock.api.template.wrappers.TemplateVoid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Multi-step template recording the payload of every applied and rolled back step. Setting
+ * {@link #failOnApply} or {@link #failOnRollback} to a payload makes that step fail.
+ */
+@ChangeTemplate(name = "step-recording-template", multiStep = true)
+public class StepRecordingTemplate extends AbstractChangeTemplate<TemplateVoid, TemplateString, TemplateString> {
+
+    private static final List<String> applied = Collections.synchronizedList(new ArrayList<>());
+    private static final List<String> rolledBack = Collections.synchronizedList(new ArrayList<>());
+
+    public static volatile String failOnApply;
+    public static volatile String failOnRollback;
+
+    public StepRecordingTemplate() {
+        super();
+    }
+
+    public static List<String> getApplied() {
+        return new ArrayList<>(applied);
+    }
+
+    public static List<String> getRolledBack() {
+        return new ArrayList<>(rolledBack);
+    }
+
+    public static void reset() {
+        applied.clear();
+        rolledBack.clear();
+        failOnApply = null;
+        failOnRollback = null;
+    }
+
+    @ApplyTemplate
+    public void apply() {
+        if (applyPayload.getValue().equals(failOnApply)) {
+            throw new RuntimeException("Simulated failure applying " + failOnApply);
+        }
+        applied.add(applyPayload.getValue());
+    }
+
+    @RollbackTemplate
+    public void rollback() {
+        if (rollbackPayload.getValue().equals(failOnRollback)) {
+            throw new RuntimeException("Simulated failure rolling back " + failOnRollback);
+        }
+        rolledBack.add(rollbackPayload.getValue());
+    }
+}
@@ -0,0 +1,21 @@
+val micrometerVersion = "1.9.17"
+
+dependencies {
+    api(project(":core:flamingock-core"))
+    compileOnly("io.micrometer:micrometer-core:${micrometerVersion}")
+
+    testImplementation(project(":utils:test-util"))
+    testImplementation(project(":core:target-systems:flamingock-nontransactional-targetsystem"))
+}
+
+description = "Micrometer metrics for Flamingock pipeline, stage, change, audit and lock operations"
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(8))
+    }
+}
+
+configurations.testImplementation {
+    extendsFrom(configurations.compileOnly.get())
+}
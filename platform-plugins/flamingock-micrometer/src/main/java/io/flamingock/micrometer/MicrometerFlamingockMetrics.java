@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.micrometer;
+
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.core.metrics.FlamingockMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link FlamingockMetrics} backed by a Micrometer {@link MeterRegistry}:
+ * <ul>
+ *   <li>{@value #PLANNER_SCAN} - timer per planner round, tagged with {@code outcome}</li>
+ *   <li>{@value #AUDIT_WRITE} - timer per audit write, tagged with the audit {@code status} and {@code outcome}</li>
+ *   <li>{@value #LOCK_OPERATION} - timer per lock {@code operation} (acquire, extend) and {@code outcome}</li>
+ *   <li>{@value #STAGE_EXECUTION} - timer per {@code stage} and {@code outcome}</li>
+ *   <li>{@value #CHANGE_EXECUTION} - histogram of the changes run, tagged with {@code stage},
+ *       {@code target.system} and {@code outcome} (applied, failed, rolled_back)</li>
+ *   <li>{@value #PENDING_CHANGES} - gauge of the changes still to apply</li>
+ * </ul>
+ *
+ * <p>Usage: {@code builder.setMetrics(new MicrometerFlamingockMetrics(meterRegistry))}. In Spring
+ * Boot, exposing an instance as a bean is enough.</p>
+ */
+public class MicrometerFlamingockMetrics implements FlamingockMetrics {
+
+    public static final String PLANNER_SCAN = "flamingock.planner.scan";
+    public static final String AUDIT_WRITE = "flamingock.audit.write";
+    public static final String LOCK_OPERATION = "flamingock.lock.operation";
+    public static final String STAGE_EXECUTION = "flamingock.stage.execution";
+    public static final String CHANGE_EXECUTION = "flamingock.change.execution";
+    public static final String PENDING_CHANGES = "flamingock.changes.pending";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final AtomicLong pendingChanges = new AtomicLong();
+
+    public MicrometerFlamingockMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder(PENDING_CHANGES, pendingChanges, AtomicLong::get)
+                .description("Changes still to apply, as seen by the last planner round")
+                .register(registry);
+    }
+
+    @Override
+    public void recordPlannerScan(long durationNanos, boolean success) {
+        Timer.builder(PLANNER_SCAN)
+                .description("Execution planner rounds")
+                .tag("outcome", outcome(success))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordAuditWrite(AuditEntry.Status status, long durationNanos, boolean success) {
+        Timer.builder(AUDIT_WRITE)
+                .description("Audit entry writes")
+                .tag("status", status != null ? tagValue(status.name()) : NONE)
+                .tag("outcome", outcome(success))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordLockOperation(LockOperation operation, long durationNanos, boolean success) {
+        Timer.builder(LOCK_OPERATION)
+                .description("Lock acquisition and extension attempts")
+                .tag("operation", tagValue(operation.name()))
+                .tag("outcome", outcome(success))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordStageExecution(String stageName, long durationNanos, boolean success) {
+        Timer.builder(STAGE_EXECUTION)
+                .description("Stage executions")
+                .tag("stage", stageName)
+                .tag("outcome", outcome(success))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordChangeExecution(String stageName, ChangeResult result) {
+        ChangeStatus status = result.getStatus();
+        // changes skipped as already applied, or never reached, did not run
+        if (status != ChangeStatus.APPLIED && status != ChangeStatus.FAILED && status != ChangeStatus.ROLLED_BACK) {
+            return;
+        }
+        Timer.builder(CHANGE_EXECUTION)
+                .description("Change executions")
+                .tag("stage", stageName)
+                .tag("target.system", result.getTargetSystemId() != null ? result.getTargetSystemId() : NONE)
+                .tag("outcome", tagValue(status.name()))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(result.getDurationMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordPendingChanges(long pendingChanges) {
+        this.pendingChanges.set(pendingChanges);
+    }
+
+    private static String outcome(boolean success) {
+        return success ? "success" : "failure";
+    }
+
+    private static String tagValue(String enumName) {
+        return enumName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.micrometer;
+
+import io.flamingock.common.test.pipeline.CodeChangeTestDefinition;
+import io.flamingock.common.test.pipeline.PipelineTestHelper;
+import io.flamingock.core.kit.inmemory.InternalInMemoryTestKit;
+import io.flamingock.internal.common.core.audit.AuditEntry;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.core.metrics.FlamingockMetrics;
+import io.flamingock.internal.core.operation.OperationException;
+import io.flamingock.micrometer.changes._001__MeteredChange;
+import io.flamingock.micrometer.changes._002__FailingMeteredChange;
+import io.flamingock.targetsystem.nontransactional.NonTransactionalTargetSystem;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MicrometerFlamingockMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerFlamingockMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerFlamingockMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Should tag change executions with stage, target system and outcome")
+    void shouldTagChangeExecutions() {
+        metrics.recordChangeExecution("stage-1", changeResult(ChangeStatus.APPLIED, "mongodb", 120));
+        metrics.recordChangeExecution("stage-1", changeResult(ChangeStatus.FAILED, null, 30));
+
+        Timer applied = registry.find(MicrometerFlamingockMetrics.CHANGE_EXECUTION)
+                .tags("stage", "stage-1", "target.system", "mongodb", "outcome", "applied")
+                .timer();
+        assertNotNull(applied);
+        assertEquals(1, applied.count());
+        assertEquals(120, applied.totalTime(TimeUnit.MILLISECONDS), 0.001);
+
+        Timer failed = registry.find(MicrometerFlamingockMetrics.CHANGE_EXECUTION)
+                .tags("target.system", "none", "outcome", "failed")
+                .timer();
+        assertNotNull(failed);
+        assertEquals(1, failed.count());
+    }
+
+    @Test
+    @DisplayName("Should not record changes that did not run")
+    void shouldSkipChangesThatDidNotRun() {
+        metrics.recordChangeExecution("stage-1", changeResult(ChangeStatus.ALREADY_APPLIED, "mongodb", 0));
+        metrics.recordChangeExecution("stage-1", changeResult(ChangeStatus.NOT_REACHED, "mongodb", 0));
+
+        assertNull(registry.find(MicrometerFlamingockMetrics.CHANGE_EXECUTION).timer());
+    }
+
+    @Test
+    @DisplayName("Should record audit writes, lock operations and planner scans with their outcome")
+    void shouldRecordOperationTimers() {
+        metrics.recordAuditWrite(AuditEntry.Status.APPLIED, TimeUnit.MILLISECONDS.toNanos(5), true);
+        metrics.recordLockOperation(FlamingockMetrics.LockOperation.EXTEND, TimeUnit.MILLISECONDS.toNanos(2), false);
+        metrics.recordPlannerScan(TimeUnit.MILLISECONDS.toNanos(8), true);
+
+        Timer audit = registry.find(MicrometerFlamingockMetrics.AUDIT_WRITE)
+                .tags("status", "applied", "outcome", "success")
+                .timer();
+        assertNotNull(audit);
+        assertEquals(5, audit.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.LOCK_OPERATION)
+                .tags("operation", "extend", "outcome", "failure")
+                .timer());
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.PLANNER_SCAN)
+                .tags("outcome", "success")
+                .timer());
+    }
+
+    @Test
+    @DisplayName("Should expose the pending changes gauge")
+    void shouldExposePendingChangesGauge() {
+        assertEquals(0, registry.get(MicrometerFlamingockMetrics.PENDING_CHANGES).gauge().value());
+
+        metrics.recordPendingChanges(3);
+
+        assertEquals(3, registry.get(MicrometerFlamingockMetrics.PENDING_CHANGES).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should record the whole execution when set on the builder")
+    void shouldRecordExecutionThroughBuilder() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(
+                    new CodeChangeTestDefinition(_001__MeteredChange.class, Collections.emptyList())));
+
+            testKit.createBuilder()
+                    .addTargetSystem(new NonTransactionalTargetSystem("metered-system"))
+                    .setMetrics(metrics)
+                    .build()
+                    .run();
+        }
+
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.CHANGE_EXECUTION)
+                .tags("target.system", "metered-system", "outcome", "applied")
+                .timer());
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.STAGE_EXECUTION)
+                .tags("outcome", "success")
+                .timer());
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.AUDIT_WRITE)
+                .tags("status", "started")
+                .timer());
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.AUDIT_WRITE)
+                .tags("status", "applied")
+                .timer());
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.LOCK_OPERATION)
+                .tags("operation", "acquire", "outcome", "success")
+                .timer());
+        assertTrue(registry.get(MicrometerFlamingockMetrics.PLANNER_SCAN).timer().count() >= 2);
+        assertEquals(0, registry.get(MicrometerFlamingockMetrics.PENDING_CHANGES).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should record a failed change and stage")
+    void shouldRecordFailedChange() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(
+                    new CodeChangeTestDefinition(_002__FailingMeteredChange.class, Collections.emptyList())));
+
+            assertThrows(OperationException.class, () -> testKit.createBuilder()
+                    .addTargetSystem(new NonTransactionalTargetSystem("metered-system"))
+                    .setMetrics(metrics)
+                    .build()
+                    .run());
+        }
+
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.CHANGE_EXECUTION)
+                .tags("outcome", "failed")
+                .timer());
+        assertNotNull(registry.find(MicrometerFlamingockMetrics.STAGE_EXECUTION)
+                .tags("outcome", "failure")
+                .timer());
+    }
+
+    private static ChangeResult changeResult(ChangeStatus status, String targetSystemId, long durationMs) {
+        return ChangeResult.builder()
+                .changeId("change")
+                .status(status)
+                .targetSystemId(targetSystemId)
+                .durationMs(durationMs)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+val openTelemetryVersion = "1.32.0"
+
+dependencies {
+    api(project(":core:flamingock-core"))
+    compileOnly("io.opentelemetry:opentelemetry-api:${openTelemetryVersion}")
+
+    testImplementation("io.opentelemetry:opentelemetry-sdk:${openTelemetryVersion}")
+    testImplementation("io.opentelemetry:opentelemetry-sdk-testing:${openTelemetryVersion}")
+    testImplementation(project(":utils:test-util"))
+    testImplementation(project(":core:target-systems:flamingock-nontransactional-targetsystem"))
+}
+
+description = "OpenTelemetry tracing for Flamingock pipeline, stage, change, audit, lock and cloud operations"
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(8))
+    }
+}
+
+configurations.testImplementation {
+    extendsFrom(configurations.compileOnly.get())
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.opentelemetry;
+
+import io.flamingock.internal.core.tracing.FlamingockTracer;
+import io.flamingock.internal.core.tracing.TraceSpan;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+
+import java.util.function.BiConsumer;
+
+/**
+ * {@link FlamingockTracer} backed by OpenTelemetry. Spans are children of the span current when
+ * the runner starts, if any, and carry the {@code flamingock.*} attributes listed in
+ * {@link io.flamingock.internal.core.tracing.Tracing}.
+ *
+ * <p>The trace context is propagated into cloud requests with the propagator configured in the
+ * {@link OpenTelemetry} instance, or as W3C {@code traceparent} when none is configured.</p>
+ */
+public class OpenTelemetryFlamingockTracer implements FlamingockTracer {
+
+    public static final String INSTRUMENTATION_NAME = "io.flamingock";
+
+    private final Tracer tracer;
+    private final TextMapPropagator propagator;
+
+    public OpenTelemetryFlamingockTracer(OpenTelemetry openTelemetry) {
+        this(openTelemetry.getTracer(INSTRUMENTATION_NAME), getPropagator(openTelemetry));
+    }
+
+    public OpenTelemetryFlamingockTracer(Tracer tracer, TextMapPropagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    @Override
+    public TraceSpan startSpan(String name, SpanKind kind) {
+        Span span = tracer.spanBuilder(name)
+                .setSpanKind(kind == SpanKind.CLIENT ? io.opentelemetry.api.trace.SpanKind.CLIENT : io.opentelemetry.api.trace.SpanKind.INTERNAL)
+                .startSpan();
+        return new OpenTelemetryTraceSpan(span, span.makeCurrent());
+    }
+
+    @Override
+    public void injectContext(BiConsumer<String, String> headerSetter) {
+        propagator.inject(Context.current(), headerSetter, (carrier, key, value) -> {
+            if (carrier != null) {
+                carrier.accept(key, value);
+            }
+        });
+    }
+
+    private static TextMapPropagator getPropagator(OpenTelemetry openTelemetry) {
+        TextMapPropagator configured = openTelemetry.getPropagators().getTextMapPropagator();
+        return configured != TextMapPropagator.noop() ? configured : W3CTraceContextPropagator.getInstance();
+    }
+
+    private static final class OpenTelemetryTraceSpan implements TraceSpan {
+
+        private final Span span;
+        private final Scope scope;
+
+        private OpenTelemetryTraceSpan(Span span, Scope scope) {
+            this.span = span;
+            this.scope = scope;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, String value) {
+            if (value != null) {
+                span.setAttribute(key, value);
+            }
+            return this;
+        }
+
+        @Override
+        public TraceSpan setAttribute(String key, long value) {
+            span.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public void recordFailure(Throwable error) {
+            if (error == null) {
+                span.setStatus(StatusCode.ERROR);
+                return;
+            }
+            span.recordException(error);
+            span.setStatus(StatusCode.ERROR, error.getMessage() != null ? error.getMessage() : error.getClass().getName());
+        }
+
+        @Override
+        public void close() {
+            scope.close();
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.opentelemetry;
+
+import io.flamingock.common.test.pipeline.CodeChangeTestDefinition;
+import io.flamingock.common.test.pipeline.PipelineTestHelper;
+import io.flamingock.core.kit.inmemory.InternalInMemoryTestKit;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.core.operation.OperationException;
+import io.flamingock.internal.core.tracing.FlamingockTracer;
+import io.flamingock.internal.core.tracing.TraceSpan;
+import io.flamingock.internal.core.tracing.Tracing;
+import io.flamingock.internal.util.Constants;
+import io.flamingock.opentelemetry.changes._001__TracedChange;
+import io.flamingock.opentelemetry.changes._002__FailingTracedChange;
+import io.flamingock.targetsystem.nontransactional.NonTransactionalTargetSystem;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenTelemetryFlamingockTracerTest {
+
+    private InMemorySpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private OpenTelemetryFlamingockTracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        exporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        tracer = new OpenTelemetryFlamingockTracer(OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("Should nest change, audit and lock spans under the stage and pipeline spans")
+    void shouldTraceExecution() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline("traced-stage",
+                    new CodeChangeTestDefinition(_001__TracedChange.class, Collections.emptyList())));
+
+            testKit.createBuilder()
+                    .addTargetSystem(new NonTransactionalTargetSystem("traced-system"))
+                    .setTracer(tracer)
+                    .build()
+                    .run();
+        }
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData pipeline = single(spans, Tracing.PIPELINE);
+        assertFalse(pipeline.getParentSpanContext().isValid(), "the pipeline span is the root");
+
+        SpanData stage = single(spans, Tracing.STAGE);
+        assertParent(pipeline, stage);
+        assertEquals("traced-stage", attribute(stage, Tracing.STAGE_NAME_ATTRIBUTE));
+
+        SpanData change = single(spans, Tracing.CHANGE_APPLY);
+        assertParent(stage, change);
+        assertEquals("traced-change", attribute(change, Tracing.CHANGE_ID_ATTRIBUTE));
+        assertEquals("traced-system", attribute(change, Tracing.TARGET_SYSTEM_ATTRIBUTE));
+        assertEquals("APPLIED", attribute(change, Tracing.CHANGE_STATUS_ATTRIBUTE));
+        assertEquals(Constants.DEFAULT_IN_MEMORY_AUDIT_STORE, attribute(change, Tracing.AUDIT_STORE_TYPE_ATTRIBUTE));
+        assertEquals(StatusCode.UNSET, change.getStatus().getStatusCode());
+
+        List<SpanData> auditWrites = all(spans, Tracing.AUDIT_WRITE);
+        auditWrites.forEach(auditWrite -> assertParent(change, auditWrite));
+        assertEquals(Arrays.asList("STARTED", "APPLIED"), auditWrites.stream()
+                .map(auditWrite -> attribute(auditWrite, Tracing.AUDIT_STATUS_ATTRIBUTE))
+                .collect(Collectors.toList()));
+
+        Map<String, SpanData> byId = new HashMap<>();
+        spans.forEach(span -> byId.put(span.getSpanId(), span));
+        List<SpanData> plannerScans = all(spans, Tracing.PLANNER_SCAN);
+        assertTrue(plannerScans.size() >= 2, "one round to plan the stage, one to find nothing left");
+        plannerScans.forEach(scan -> assertParent(pipeline, scan));
+        SpanData lockAcquire = all(spans, Tracing.LOCK_ACQUIRE).get(0);
+        assertEquals(Tracing.PLANNER_SCAN, byId.get(lockAcquire.getParentSpanId()).getName());
+    }
+
+    @Test
+    @DisplayName("Should fail the change, stage and pipeline spans and trace the rollback")
+    void shouldTraceFailedChange() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline("traced-stage",
+                    new CodeChangeTestDefinition(_002__FailingTracedChange.class, Collections.emptyList(), Collections.emptyList())));
+
+            assertThrows(OperationException.class, () -> testKit.createBuilder()
+                    .addTargetSystem(new NonTransactionalTargetSystem("traced-system"))
+                    .setTracer(tracer)
+                    .build()
+                    .run());
+        }
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData change = single(spans, Tracing.CHANGE_APPLY);
+        assertEquals(StatusCode.ERROR, change.getStatus().getStatusCode());
+        assertEquals("Intentional failure", change.getStatus().getDescription());
+        assertEquals("FAILED", attribute(change, Tracing.CHANGE_STATUS_ATTRIBUTE));
+
+        SpanData rollback = single(spans, Tracing.CHANGE_ROLLBACK);
+        assertParent(change, rollback);
+        assertEquals("failing-traced-change", attribute(rollback, Tracing.CHANGE_ID_ATTRIBUTE));
+        assertEquals(StatusCode.UNSET, rollback.getStatus().getStatusCode());
+
+        assertEquals(StatusCode.ERROR, single(spans, Tracing.STAGE).getStatus().getStatusCode());
+        assertEquals(StatusCode.ERROR, single(spans, Tracing.PIPELINE).getStatus().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should inject the current span as W3C trace context")
+    void shouldInjectTraceContext() {
+        Map<String, String> headers = new HashMap<>();
+        try (TraceSpan ignored = tracer.startSpan(Tracing.CLOUD_REQUEST, FlamingockTracer.SpanKind.CLIENT)) {
+            tracer.injectContext(headers::put);
+        }
+
+        SpanData request = single(exporter.getFinishedSpanItems(), Tracing.CLOUD_REQUEST);
+        assertEquals(SpanKind.CLIENT, request.getKind());
+        assertEquals("00-" + request.getTraceId() + "-" + request.getSpanId() + "-01", headers.get("traceparent"));
+    }
+
+    private static SpanData single(List<SpanData> spans, String name) {
+        List<SpanData> matching = all(spans, name);
+        assertEquals(1, matching.size(), "spans named " + name);
+        return matching.get(0);
+    }
+
+    private static List<SpanData> all(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertParent(SpanData parent, SpanData child) {
+        assertEquals(parent.getSpanId(), child.getParentSpanId(), child.getName() + " should be a child of " + parent.getName());
+        assertEquals(parent.getTraceId(), child.getTraceId());
+    }
+
+    private static String attribute(SpanData span, String key) {
+        return span.getAttributes().get(AttributeKey.stringKey(key));
+    }
+}
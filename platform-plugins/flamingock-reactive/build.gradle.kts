@@ -0,0 +1,19 @@
+val reactorVersion = "3.4.34"
+
+dependencies {
+    api(project(":core:flamingock-core"))
+    api("io.projectreactor:reactor-core:${reactorVersion}")
+    implementation(project(":utils:flamingock-reactive-util"))
+
+    testImplementation(project(":utils:test-util"))
+    testImplementation(project(":core:target-systems:flamingock-nontransactional-targetsystem"))
+    testImplementation("io.projectreactor:reactor-test:${reactorVersion}")
+}
+
+description = "Reactor API for Flamingock: runs the pipeline as a Mono and streams its progress as a Flux"
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(8))
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.reactive;
+
+import io.flamingock.internal.core.change.executable.ChangeResultAwaiter;
+import io.flamingock.reactive.util.PublisherSync;
+import org.reactivestreams.Publisher;
+
+/**
+ * Completes reactive-native changes: subscribes to the returned publisher on the pipeline thread
+ * and waits for its terminal signal.
+ */
+final class PublisherResultAwaiter implements ChangeResultAwaiter {
+
+    @Override
+    public boolean supports(Object result) {
+        return result instanceof Publisher;
+    }
+
+    @Override
+    public void await(Object result) {
+        PublisherSync.complete((Publisher<?>) result);
+    }
+}
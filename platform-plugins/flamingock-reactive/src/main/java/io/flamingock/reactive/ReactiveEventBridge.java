@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.reactive;
+
+import io.flamingock.internal.core.event.EventPublisher;
+import io.flamingock.internal.core.event.model.Event;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Forwards the core events of one {@link ReactiveRunner} execution to its sink. Events are published
+ * sequentially by the pipeline thread.
+ */
+final class ReactiveEventBridge implements EventPublisher {
+
+    private final Sinks.Many<Event> sink;
+
+    ReactiveEventBridge(Sinks.Many<Event> sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void publish(Event event) {
+        sink.tryEmitNext(event);
+    }
+}
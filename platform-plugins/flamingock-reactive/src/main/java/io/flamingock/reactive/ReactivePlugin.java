@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.reactive;
+
+import io.flamingock.internal.common.core.context.ContextResolver;
+import io.flamingock.internal.core.event.EventPublisher;
+import io.flamingock.internal.core.plugin.Plugin;
+
+import java.util.Optional;
+
+/**
+ * Hooks the {@link ReactiveRunner} event stream into the core. Does nothing for runners not
+ * created through {@link ReactiveRunner}.
+ */
+public class ReactivePlugin implements Plugin {
+
+    private EventPublisher eventBridge;
+
+    @Override
+    public void initialize(ContextResolver baseContext) {
+        eventBridge = baseContext.getDependencyValue(ReactiveEventBridge.class).orElse(null);
+    }
+
+    @Override
+    public Optional<EventPublisher> getEventPublisher() {
+        return Optional.ofNullable(eventBridge);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.reactive;
+
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.core.builder.AbstractChangeRunnerBuilder;
+import io.flamingock.internal.core.builder.runner.Runner;
+import io.flamingock.internal.core.change.executable.ChangeResultAwaiter;
+import io.flamingock.internal.core.event.model.Event;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactor facade over a Flamingock {@link Runner}, so reactive applications don't have to wrap it
+ * in blocking calls.
+ *
+ * <p>The runner is built when this instance is created, on the caller thread, so configuration
+ * errors surface right away. The pipeline itself runs on the given scheduler, boundedElastic by
+ * default: audit writes, locking and blocking change bodies occupy a worker thread, never an event
+ * loop. That includes the reactive MongoDB audit store and lock service, which wait for the driver's
+ * publishers on the calling thread.</p>
+ *
+ * <p>Code changes whose {@code @Apply} or {@code @Rollback} method returns a {@code Publisher}
+ * (typically {@code Mono<Void>}) are reactive-native: the publisher is subscribed to on the pipeline
+ * thread, without any further scheduling, and the change is complete when it completes.</p>
+ *
+ * <p>Each instance represents one execution. {@link #run()} applies the pipeline once, on first
+ * subscription; later subscribers get the same outcome.</p>
+ */
+public final class ReactiveRunner {
+
+    private final Sinks.Many<Event> events = Sinks.many().replay().all();
+
+    private final Mono<ExecuteResponseData> execution;
+
+    public static ReactiveRunner from(AbstractChangeRunnerBuilder<?, ?> builder) {
+        return from(builder, Schedulers.boundedElastic());
+    }
+
+    public static ReactiveRunner from(AbstractChangeRunnerBuilder<?, ?> builder, Scheduler scheduler) {
+        return new ReactiveRunner(builder, scheduler);
+    }
+
+    private ReactiveRunner(AbstractChangeRunnerBuilder<?, ?> builder, Scheduler scheduler) {
+        Runner runner = builder
+                .addDependency(ReactiveEventBridge.class, new ReactiveEventBridge(events))
+                .addDependency(ChangeResultAwaiter.class, new PublisherResultAwaiter())
+                .build();
+        this.execution = Mono.defer(() -> Mono.fromFuture(runner.runAsync(scheduler::schedule)))
+                .doFinally(signal -> events.tryEmitComplete())
+                .cache();
+    }
+
+    /**
+     * @return the execution result, empty when the runner doesn't execute the pipeline (e.g. when
+     * Flamingock is disabled). Errors with the exception the blocking runner would have thrown
+     */
+    public Mono<ExecuteResponseData> run() {
+        return execution;
+    }
+
+    /**
+     * Pipeline, stage and change progress. Events are replayed to late subscribers and the flux completes
+     * when the execution finishes, whatever its outcome; failures are reported by {@link #run()}.
+     */
+    public Flux<Event> events() {
+        return events.asFlux();
+    }
+}
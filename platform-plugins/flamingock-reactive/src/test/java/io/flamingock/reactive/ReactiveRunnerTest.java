@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.reactive;
+
+import io.flamingock.common.test.pipeline.CodeChangeTestDefinition;
+import io.flamingock.common.test.pipeline.PipelineTestHelper;
+import io.flamingock.core.kit.inmemory.InternalInMemoryTestKit;
+import io.flamingock.internal.common.core.metadata.MetadataLoader;
+import io.flamingock.internal.core.event.model.IChangeCompletedEvent;
+import io.flamingock.internal.core.event.model.IChangeStartedEvent;
+import io.flamingock.internal.core.event.model.IPipelineCompletedEvent;
+import io.flamingock.internal.core.event.model.IPipelineFailedEvent;
+import io.flamingock.internal.core.event.model.IPipelineStartedEvent;
+import io.flamingock.internal.core.event.model.IStageCompletedEvent;
+import io.flamingock.internal.core.event.model.IStageStartedEvent;
+import io.flamingock.internal.core.operation.OperationException;
+import io.flamingock.reactive.changes.ExecutionLog;
+import io.flamingock.reactive.changes._001__BlockingChange;
+import io.flamingock.reactive.changes._002__ReactiveChange;
+import io.flamingock.reactive.changes._003__FailingReactiveChange;
+import io.flamingock.targetsystem.nontransactional.NonTransactionalTargetSystem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.APPLIED;
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.FAILED;
+import static io.flamingock.core.kit.audit.AuditEntryExpectation.STARTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReactiveRunnerTest {
+
+    private static final List<Class<?>> LOG_PARAMETER = Collections.singletonList(ExecutionLog.class);
+
+    private ReactiveRunner createRunner(InternalInMemoryTestKit testKit, ExecutionLog log, CodeChangeTestDefinition... changes) {
+        try (MockedStatic<MetadataLoader> mocked = Mockito.mockStatic(MetadataLoader.class)) {
+            mocked.when(MetadataLoader::loadAggregated).thenReturn(PipelineTestHelper.getPreviewPipeline(changes));
+            return ReactiveRunner.from(testKit.createBuilder()
+                    .addTargetSystem(new NonTransactionalTargetSystem("reactive-system").addDependency(log)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should run blocking changes on boundedElastic and emit the execution result")
+    void shouldRunBlockingChangesOnBoundedElastic() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        ExecutionLog log = new ExecutionLog();
+        ReactiveRunner runner = createRunner(testKit, log,
+                new CodeChangeTestDefinition(_001__BlockingChange.class, LOG_PARAMETER));
+
+        StepVerifier.create(runner.run())
+                .assertNext(result -> assertEquals(1, result.getAppliedChanges()))
+                .verifyComplete();
+
+        assertEquals(1, log.getEntries().size());
+        assertTrue(log.getEntries().get(0).startsWith("blocking@boundedElastic-"), log.getEntries().toString());
+        testKit.getAuditHelper().verifyAuditSequenceStrict(
+                STARTED("blocking-change"),
+                APPLIED("blocking-change")
+        );
+    }
+
+    @Test
+    @DisplayName("Should wait for reactive changes, subscribing on the pipeline thread")
+    void shouldAwaitReactiveChangesWithoutThreadHop() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        ExecutionLog log = new ExecutionLog();
+        ReactiveRunner runner = createRunner(testKit, log,
+                new CodeChangeTestDefinition(_002__ReactiveChange.class, LOG_PARAMETER),
+                new CodeChangeTestDefinition(_001__BlockingChange.class, LOG_PARAMETER));
+
+        StepVerifier.create(runner.run())
+                .assertNext(result -> assertEquals(2, result.getAppliedChanges()))
+                .verifyComplete();
+
+        List<String> entries = log.getEntries();
+        assertEquals(4, entries.size(), entries.toString());
+        String pipelineThread = entries.get(0).substring("apply-called@".length());
+        assertEquals("subscribed@" + pipelineThread, entries.get(1));
+        assertTrue(entries.get(2).startsWith("completed@"), entries.toString());
+        assertEquals("blocking@" + pipelineThread, entries.get(3));
+        testKit.getAuditHelper().verifyAuditSequenceStrict(
+                STARTED("reactive-change"),
+                APPLIED("reactive-change"),
+                STARTED("blocking-change"),
+                APPLIED("blocking-change")
+        );
+    }
+
+    @Test
+    @DisplayName("Should stream pipeline, stage and change progress, completing with the execution")
+    void shouldStreamProgressEvents() {
+        ReactiveRunner runner = createRunner(InternalInMemoryTestKit.create(), new ExecutionLog(),
+                new CodeChangeTestDefinition(_001__BlockingChange.class, LOG_PARAMETER));
+
+        StepVerifier.create(runner.run())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(runner.events())
+                .expectNextMatches(IPipelineStartedEvent.class::isInstance)
+                .expectNextMatches(IStageStartedEvent.class::isInstance)
+                .expectNextMatches(IChangeStartedEvent.class::isInstance)
+                .expectNextMatches(IChangeCompletedEvent.class::isInstance)
+                .expectNextMatches(IStageCompletedEvent.class::isInstance)
+                .expectNextMatches(IPipelineCompletedEvent.class::isInstance)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fail the run when a reactive change errors")
+    void shouldFailWhenReactiveChangeErrors() {
+        InternalInMemoryTestKit testKit = InternalInMemoryTestKit.create();
+        ReactiveRunner runner = createRunner(testKit, new ExecutionLog(),
+                new CodeChangeTestDefinition(_003__FailingReactiveChange.class, Collections.emptyList()));
+
+        StepVerifier.create(runner.run())
+                .expectError(OperationException.class)
+                .verify();
+
+        StepVerifier.create(runner.events().filter(IPipelineFailedEvent.class::isInstance))
+                .expectNextCount(1)
+                .verifyComplete();
+        testKit.getAuditHelper().verifyAuditSequenceStrict(
+                STARTED("failing-reactive-change"),
+                FAILED("failing-reactive-change")
+        );
+    }
+
+    @Test
+    @DisplayName("Should apply the pipeline once however many times run() is subscribed to")
+    void shouldApplyPipelineOnce() {
+        ExecutionLog log = new ExecutionLog();
+        ReactiveRunner runner = createRunner(InternalInMemoryTestKit.create(), log,
+                new CodeChangeTestDefinition(_001__BlockingChange.class, LOG_PARAMETER));
+
+        StepVerifier.create(runner.run()).expectNextCount(1).verifyComplete();
+        StepVerifier.create(runner.run()).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, log.getEntries().size());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.reactive.changes;
+
+import io.flamingock.api.annotations.Apply;
+import io.flamingock.api.annotations.Change;
+import io.flamingock.api.annotations.NonLockGuarded;
+import io.flamingock.api.annotations.TargetSystem;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Change(id = "reactive-change", transactional = false, author = "flamingock-team")
+@TargetSystem(id = "reactive-system")
+public class _002__ReactiveChange {
+
+    @Apply
+    public Mono<Void> apply(@NonLockGuarded ExecutionLog log) {
+        log.add("apply-called");
+        return Mono.fromRunnable(() -> log.add("subscribed"))
+                .then(Mono.delay(Duration.ofMillis(50)))
+                .then(Mono.fromRunnable(() -> log.add("completed")));
+    }
+}
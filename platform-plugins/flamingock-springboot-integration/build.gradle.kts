@@ -1,6 +1,8 @@
 
-val springBootVersion = "2.0.0.RELEASE"
-val springFrameworkVersion = "5.0.4.RELEASE"
+// Spring Boot 2.0 remains the runtime baseline; 2.3 is only needed to compile the readiness
+// support, which is guarded by @ConditionalOnClass
+val springBootVersion = "2.3.12.RELEASE"
+val springFrameworkVersion = "5.2.15.RELEASE"
 dependencies {
     api(project(":core:flamingock-core"))
     compileOnly("org.springframework:spring-context:${springFrameworkVersion}")
@@ -12,6 +14,10 @@ dependencies {
     testImplementation(platform("org.springframework.boot:spring-boot-dependencies:${springBootVersion}"))
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+
+    // In-memory audit store and target system for the Spring context tests
+    testImplementation(project(":utils:test-util"))
+    testImplementation(project(":core:target-systems:flamingock-nontransactional-targetsystem"))
 }
 
 description = "Spring Boot integration module for Flamingock, providing seamless configuration and autoconfiguration capabilities for Spring-based applications. Compatible with JDK 17 and above."
@@ -18,9 +18,15 @@ package io.flamingock.springboot;
 import io.flamingock.api.external.TargetSystem;
 import io.flamingock.internal.core.builder.FlamingockFactory;
 import io.flamingock.internal.core.builder.AbstractChangeRunnerBuilder;
+import io.flamingock.internal.core.builder.runner.Runner;
 import io.flamingock.internal.core.external.store.CommunityAuditStore;
+import io.flamingock.internal.core.metrics.FlamingockMetrics;
+import io.flamingock.internal.core.tracing.FlamingockTracer;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -33,6 +39,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Spring Boot auto-configuration for Flamingock.
@@ -45,6 +52,10 @@ import java.util.List;
  *   <li>{@code UNMANAGED} - No beans are created; the application manages everything</li>
  * </ul>
  *
+ * <p>With {@code flamingock.run-async=true} in APPLICATION_RUNNER mode, the changes are applied on the
+ * {@code flamingockExecutor} bean (or a dedicated thread) and startup does not wait for them. See
+ * {@link FlamingockReadinessIndicator} for how readiness is held back meanwhile.</p>
+ *
  * <p>When {@code flamingock.cli.mode=true}, the runner executes and then calls System.exit()
  * with the appropriate exit code (0 for success, 1 for failure).</p>
  *
@@ -57,9 +68,21 @@ import java.util.List;
 @EnableConfigurationProperties(SpringbootProperties.class)
 public class FlamingockAutoConfiguration {
 
+    private static final AsyncRunListener NO_OP_LISTENER = new AsyncRunListener() {
+        @Override
+        public void onCompleted(ExecuteResponseData result) {
+        }
+
+        @Override
+        public void onFailed(Throwable error) {
+        }
+    };
+
     /**
      * Creates the Flamingock builder bean.
      * Always created unless management-mode is UNMANAGED or user provides their own builder.
+     * A {@link FlamingockMetrics} bean, if any, receives the execution metrics, and a
+     * {@link FlamingockTracer} bean, if any, the execution spans.
      */
     @Bean("flamingock-builder")
     @ConditionalOnMissingBean(AbstractChangeRunnerBuilder.class)
@@ -67,7 +90,9 @@ public class FlamingockAutoConfiguration {
                                                                ApplicationContext springContext,
                                                                ApplicationEventPublisher applicationEventPublisher,
                                                                @Autowired(required = false) CommunityAuditStore auditStore,
-                                                               List<TargetSystem> targetSystems) {
+                                                               List<TargetSystem> targetSystems,
+                                                               ObjectProvider<FlamingockMetrics> metrics,
+                                                               ObjectProvider<FlamingockTracer> tracer) {
         AbstractChangeRunnerBuilder<?, ?> builder = FlamingockFactory.getEditionAwareBuilder(
                         configurationProperties.getCoreConfiguration(),
                         configurationProperties.getCloudProperties(),
@@ -81,6 +106,8 @@ public class FlamingockAutoConfiguration {
         for (TargetSystem targetSystem : targetSystems) {
             builder.addTargetSystem(targetSystem);
         }
+        metrics.ifAvailable(builder::setMetrics);
+        tracer.ifAvailable(builder::setTracer);
 
         return builder;
     }
@@ -99,12 +126,22 @@ public class FlamingockAutoConfiguration {
     /**
      * Creates an ApplicationRunner that builds and executes Flamingock at application startup.
      * Only created when management-mode is APPLICATION_RUNNER (the default) and CLI mode is not active.
+     * With run-async enabled, the execution is handed to the {@code flamingockExecutor} bean, if any.
      */
     @Bean("flamingock-runner")
     @ConditionalOnProperty(name = "flamingock.cli.mode", havingValue = "false", matchIfMissing = true)
     @ConditionalOnExpression("'${flamingock.management-mode:APPLICATION_RUNNER}'.toUpperCase().equals('APPLICATION_RUNNER')")
-    public ApplicationRunner applicationRunner(AbstractChangeRunnerBuilder<?, ?> builder) {
-        return SpringbootUtil.toApplicationRunner(builder);
+    public ApplicationRunner applicationRunner(AbstractChangeRunnerBuilder<?, ?> builder,
+                                               SpringbootProperties configurationProperties,
+                                               @Qualifier("flamingockExecutor") ObjectProvider<Executor> executor,
+                                               ObjectProvider<AsyncRunListener> asyncRunListener) {
+        if (!configurationProperties.isRunAsync()) {
+            return SpringbootUtil.toApplicationRunner(builder);
+        }
+        return SpringbootUtil.toAsyncApplicationRunner(
+                builder,
+                executor.getIfAvailable(() -> Runner.DEFAULT_ASYNC_EXECUTOR),
+                asyncRunListener.getIfAvailable(() -> NO_OP_LISTENER));
     }
 
     /**
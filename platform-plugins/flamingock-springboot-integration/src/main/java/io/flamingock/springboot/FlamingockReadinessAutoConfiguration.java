@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.springboot;
+
+import io.flamingock.internal.common.core.metadata.FlamingockMetadata;
+import io.flamingock.internal.common.core.preview.PreviewPipeline;
+import io.flamingock.internal.common.core.preview.PreviewStage;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Registers the {@link FlamingockReadinessIndicator} when {@code flamingock.run-async=true}.
+ *
+ * <p>Requires Spring Boot 2.3+, where the application availability support was introduced. It
+ * replaces Boot's default {@code ApplicationAvailability} bean, so it must be processed before
+ * Boot's availability auto-configuration.</p>
+ */
+@Configuration
+@ConditionalOnClass(name = "org.springframework.boot.availability.ApplicationAvailabilityBean")
+@ConditionalOnProperty(name = "flamingock.run-async", havingValue = "true")
+@ConditionalOnExpression("'${flamingock.management-mode:APPLICATION_RUNNER}'.toUpperCase().equals('APPLICATION_RUNNER') && !'${flamingock.cli.mode:false}'.equals('true')")
+@AutoConfigureBefore(name = "org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration")
+@EnableConfigurationProperties(SpringbootProperties.class)
+public class FlamingockReadinessAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(type = "org.springframework.boot.availability.ApplicationAvailability")
+    public FlamingockReadinessIndicator flamingockReadinessIndicator(SpringbootProperties configurationProperties) {
+        List<String> backgroundStages = configurationProperties.getBackgroundStages();
+        List<String> pipelineStageNames = backgroundStages == null || backgroundStages.isEmpty()
+                ? Collections.emptyList()
+                : pipelineStageNames(configurationProperties.getFlamingockMetadata());
+        return new FlamingockReadinessIndicator(backgroundStages, pipelineStageNames);
+    }
+
+    private static List<String> pipelineStageNames(FlamingockMetadata metadata) {
+        PreviewPipeline pipeline = metadata != null ? metadata.getPipeline() : null;
+        if (pipeline == null || pipeline.getStages() == null) {
+            return Collections.emptyList();
+        }
+        return pipeline.getStages()
+                .stream()
+                .map(PreviewStage::getName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.springboot;
+
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import io.flamingock.springboot.event.SpringStageFailedEvent;
+import io.flamingock.springboot.event.SpringStageStartedEvent;
+import org.slf4j.Logger;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link org.springframework.boot.availability.ApplicationAvailability} that keeps the readiness
+ * state at {@link ReadinessState#REFUSING_TRAFFIC} while Flamingock runs asynchronously.
+ *
+ * <p>Spring Boot's {@code ACCEPTING_TRAFFIC} change is held back until the required stages are
+ * applied and replayed afterwards. If one of the configured background stages starts, and no stage
+ * failed before it, the application is marked ready at that point and the remaining stages keep
+ * applying while it serves traffic. Background stages must be the last ones of the pipeline; others
+ * are ignored. A failed run keeps the application refusing traffic.</p>
+ */
+public class FlamingockReadinessIndicator extends ApplicationAvailabilityBean
+        implements AsyncRunListener, ApplicationEventPublisherAware {
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("ReadinessIndicator");
+
+    private final Set<String> backgroundStages;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private boolean requiredStagesApplied = false;
+
+    private boolean readinessDeferred = false;
+
+    private boolean failed = false;
+
+    /**
+     * @param backgroundStages   stages that may apply while the application serves traffic
+     * @param pipelineStageNames the pipeline's stages in execution order, which the background
+     *                           stages are checked against
+     */
+    public FlamingockReadinessIndicator(Collection<String> backgroundStages, List<String> pipelineStageNames) {
+        this.backgroundStages = Collections.unmodifiableSet(trailingStages(backgroundStages, pipelineStageNames));
+    }
+
+    /**
+     * Keeps the configured background stages that come last in the pipeline. Becoming ready when a
+     * stage starts is only safe if every stage after it may run in the background too, so any other
+     * configured stage is ignored with a warning.
+     */
+    static Set<String> trailingStages(Collection<String> backgroundStages, List<String> pipelineStageNames) {
+        if (backgroundStages == null || backgroundStages.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> configured = new LinkedHashSet<>(backgroundStages);
+        Set<String> trailing = new HashSet<>();
+        for (int i = pipelineStageNames.size() - 1; i >= 0 && configured.contains(pipelineStageNames.get(i)); i--) {
+            trailing.add(pipelineStageNames.get(i));
+        }
+        for (String stage : configured) {
+            if (!pipelineStageNames.contains(stage)) {
+                logger.warn("Background stage[{}] ignored: not a stage of the pipeline", stage);
+            } else if (!trailing.contains(stage)) {
+                logger.warn("Background stage[{}] ignored: it's followed by stages that must apply before the application serves traffic", stage);
+            }
+        }
+        return trailing;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void onApplicationEvent(AvailabilityChangeEvent<?> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && !isRequiredStagesApplied()) {
+            synchronized (this) {
+                if (!requiredStagesApplied) {
+                    readinessDeferred = true;
+                    logger.info("Readiness deferred until Flamingock applies the required stages");
+                    super.onApplicationEvent(new AvailabilityChangeEvent<>(event.getSource(), ReadinessState.REFUSING_TRAFFIC));
+                    return;
+                }
+            }
+        }
+        super.onApplicationEvent(event);
+    }
+
+    @EventListener
+    public void onStageStarted(SpringStageStartedEvent event) {
+        if (backgroundStages.contains(event.getStageName())) {
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
+            }
+            logger.info("Background stage[{}] started: application can serve traffic", event.getStageName());
+            markReady();
+        }
+    }
+
+    @EventListener
+    public void onStageFailed(SpringStageFailedEvent event) {
+        synchronized (this) {
+            failed = true;
+        }
+    }
+
+    @Override
+    public void onCompleted(ExecuteResponseData result) {
+        markReady();
+    }
+
+    @Override
+    public void onFailed(Throwable error) {
+        synchronized (this) {
+            failed = true;
+        }
+        if (!isRequiredStagesApplied()) {
+            logger.error("Flamingock failed before the required stages were applied: application keeps refusing traffic");
+        }
+    }
+
+    public synchronized boolean isRequiredStagesApplied() {
+        return requiredStagesApplied;
+    }
+
+    private void markReady() {
+        boolean publish;
+        synchronized (this) {
+            if (requiredStagesApplied) {
+                return;
+            }
+            requiredStagesApplied = true;
+            publish = readinessDeferred;
+        }
+        if (publish) {
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+}
@@ -18,6 +18,10 @@ package io.flamingock.springboot;
 import io.flamingock.internal.core.plugin.Plugin;
 import io.flamingock.internal.core.event.EventPublisher;
 import io.flamingock.internal.core.event.SimpleEventPublisher;
+import io.flamingock.internal.core.event.model.IChangeCompletedEvent;
+import io.flamingock.internal.core.event.model.IChangeFailedEvent;
+import io.flamingock.internal.core.event.model.IChangeRolledBackEvent;
+import io.flamingock.internal.core.event.model.IChangeStartedEvent;
 import io.flamingock.internal.core.event.model.IPipelineCompletedEvent;
 import io.flamingock.internal.core.event.model.IPipelineFailedEvent;
 import io.flamingock.internal.core.event.model.IPipelineIgnoredEvent;
@@ -28,6 +32,10 @@ import io.flamingock.internal.core.event.model.IStageIgnoredEvent;
 import io.flamingock.internal.core.event.model.IStageStartedEvent;
 import io.flamingock.internal.common.core.context.ContextResolver;
 import io.flamingock.internal.core.change.filter.ChangeFilter;
+import io.flamingock.springboot.event.SpringChangeCompletedEvent;
+import io.flamingock.springboot.event.SpringChangeFailedEvent;
+import io.flamingock.springboot.event.SpringChangeRolledBackEvent;
+import io.flamingock.springboot.event.SpringChangeStartedEvent;
 import io.flamingock.springboot.event.SpringPipelineCompletedEvent;
 import io.flamingock.springboot.event.SpringPipelineFailedEvent;
 import io.flamingock.springboot.event.SpringPipelineIgnoredEvent;
@@ -79,6 +87,11 @@ public class SpringbootPlugin implements Plugin {
                             .addListener(IStageCompletedEvent.class, e -> eventPublisher.publishEvent(new SpringStageCompletedEvent(this, e)))
                             .addListener(IStageIgnoredEvent.class, e -> eventPublisher.publishEvent(new SpringStageIgnoredEvent(this, e)))
                             .addListener(IStageFailedEvent.class, e -> eventPublisher.publishEvent(new SpringStageFailedEvent(this, e)))
+                            //change
+                            .addListener(IChangeStartedEvent.class, e -> eventPublisher.publishEvent(new SpringChangeStartedEvent(this, e)))
+                            .addListener(IChangeCompletedEvent.class, e -> eventPublisher.publishEvent(new SpringChangeCompletedEvent(this, e)))
+                            .addListener(IChangeFailedEvent.class, e -> eventPublisher.publishEvent(new SpringChangeFailedEvent(this, e)))
+                            .addListener(IChangeRolledBackEvent.class, e -> eventPublisher.publishEvent(new SpringChangeRolledBackEvent(this, e)))
             );
         } else {
             return Optional.empty();
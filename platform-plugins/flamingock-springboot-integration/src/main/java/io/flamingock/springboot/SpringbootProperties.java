@@ -20,11 +20,14 @@ import io.flamingock.internal.common.core.metadata.MetadataLoader;
 import io.flamingock.internal.core.configuration.cloud.CloudConfigurable;
 import io.flamingock.internal.core.configuration.cloud.CloudConfiguration;
 import io.flamingock.internal.core.configuration.core.CoreConfigurable;
+import io.flamingock.internal.core.configuration.core.AsyncEventsConfiguration;
 import io.flamingock.internal.core.configuration.core.CoreConfiguration;
 import io.flamingock.internal.core.configuration.community.CommunityConfigurable;
 import io.flamingock.internal.core.configuration.community.CommunityConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @ConfigurationProperties("flamingock")
@@ -35,6 +38,18 @@ public class SpringbootProperties
         CloudConfigurable {
     private SpringbootManagementMode managementMode = SpringbootManagementMode.APPLICATION_RUNNER;
 
+    /**
+     * Runs Flamingock off the startup thread (APPLICATION_RUNNER mode only), keeping the readiness
+     * state refusing traffic until it completes.
+     */
+    private boolean runAsync = false;
+
+    /**
+     * Stages that may keep applying while the application already serves traffic. Only honoured
+     * when {@code run-async} is enabled and these stages come last in the pipeline.
+     */
+    private List<String> backgroundStages = new ArrayList<>();
+
     private final CoreConfiguration coreConfiguration = new CoreConfiguration();
 
     private final CloudConfiguration cloudConfiguration = new CloudConfiguration();
@@ -110,6 +125,16 @@ public class SpringbootProperties
         return coreConfiguration.isEnableDefaultExecutionReport();
     }
 
+    @Override
+    public void setAsyncEvents(AsyncEventsConfiguration asyncEvents) {
+        coreConfiguration.setAsyncEvents(asyncEvents);
+    }
+
+    @Override
+    public AsyncEventsConfiguration getAsyncEvents() {
+        return coreConfiguration.getAsyncEvents();
+    }
+
     @Override
     public void setServiceIdentifier(String serviceIdentifier) {
         coreConfiguration.setServiceIdentifier(serviceIdentifier);
@@ -169,6 +194,22 @@ public class SpringbootProperties
         this.managementMode = managementMode;
     }
 
+    public boolean isRunAsync() {
+        return runAsync;
+    }
+
+    public void setRunAsync(boolean runAsync) {
+        this.runAsync = runAsync;
+    }
+
+    public List<String> getBackgroundStages() {
+        return backgroundStages;
+    }
+
+    public void setBackgroundStages(List<String> backgroundStages) {
+        this.backgroundStages = backgroundStages;
+    }
+
 
     @Override
     public void setHost(String host) {
@@ -18,11 +18,16 @@ package io.flamingock.springboot;
 import io.flamingock.internal.core.builder.AbstractChangeRunnerBuilder;
 import io.flamingock.internal.core.builder.runner.Runner;
 import io.flamingock.internal.core.builder.runner.RunnerBuilder;
+import io.flamingock.internal.util.log.FlamingockLoggerFactory;
+import org.slf4j.Logger;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.ApplicationContext;
 
+import java.util.concurrent.Executor;
+
 public final class SpringbootUtil {
+    private static final Logger logger = FlamingockLoggerFactory.getLogger("Springboot");
 
     private SpringbootUtil() {
     }
@@ -41,6 +46,33 @@ public final class SpringbootUtil {
         };
     }
 
+    /**
+     * Creates an ApplicationRunner that builds Flamingock on the startup thread, so configuration
+     * errors still fail the application, and applies the changes on the given executor. Startup
+     * continues right away; the listener is told how the run ended.
+     *
+     * @param runnerBuilder the runner builder
+     * @param executor      the executor the changes are applied on
+     * @param listener      notified when the run completes or fails
+     * @return an ApplicationRunner for asynchronous execution
+     */
+    public static ApplicationRunner toAsyncApplicationRunner(RunnerBuilder runnerBuilder,
+                                                             Executor executor,
+                                                             AsyncRunListener listener) {
+        return args -> {
+            Runner runner = runnerBuilder.build();
+            runner.runAsync(executor).whenComplete((result, error) -> {
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    logger.error("Flamingock asynchronous execution failed", cause);
+                    listener.onFailed(cause);
+                } else {
+                    listener.onCompleted(result);
+                }
+            });
+        };
+    }
+
     /**
      * Creates an ApplicationRunner for CLI mode that executes Flamingock.
      * If a CliRunner is built (when output file is specified), it handles
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.springboot.event;
+
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.core.event.model.IChangeRolledBackEvent;
+import org.springframework.context.ApplicationEvent;
+
+public class SpringChangeRolledBackEvent extends ApplicationEvent implements IChangeRolledBackEvent {
+    private final IChangeRolledBackEvent event;
+
+    /**
+     * Create a new {@code ApplicationEvent}.
+     *
+     * @param source the object on which the event initially occurred or with
+     *               which the event is associated (never {@code null})
+     */
+    public SpringChangeRolledBackEvent(Object source, IChangeRolledBackEvent event) {
+        super(source);
+        this.event = event;
+    }
+
+    @Override
+    public String getChangeId() {
+        return event.getChangeId();
+    }
+
+    @Override
+    public String getStageName() {
+        return event.getStageName();
+    }
+
+    @Override
+    public String getTargetSystemId() {
+        return event.getTargetSystemId();
+    }
+
+    @Override
+    public long getDurationNanos() {
+        return event.getDurationNanos();
+    }
+
+    @Override
+    public long getAuditWriteNanos() {
+        return event.getAuditWriteNanos();
+    }
+
+    @Override
+    public long getLockGuardedCallCount() {
+        return event.getLockGuardedCallCount();
+    }
+
+    @Override
+    public ChangeResult getResult() {
+        return event.getResult();
+    }
+
+    @Override
+    public Throwable getException() {
+        return event.getException();
+    }
+
+    @Override
+    public String toString() {
+        return "SpringChangeRolledBackEvent{" +
+                "event=" + event +
+                ", source=" + source +
+                '}';
+    }
+}
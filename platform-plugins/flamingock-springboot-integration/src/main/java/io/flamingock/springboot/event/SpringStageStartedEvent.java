@@ -34,6 +34,11 @@ public class SpringStageStartedEvent extends ApplicationEvent implements IStageS
     this.event = event;
   }
 
+  @Override
+  public String getStageName() {
+    return event.getStageName();
+  }
+
   @Override
   public String toString() {
     return "SpringStageStartedEvent{" +
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.springboot;
+
+import io.flamingock.api.external.TargetSystem;
+import io.flamingock.core.kit.inmemory.InternalInMemoryAuditStorage;
+import io.flamingock.core.kit.inmemory.InternalInMemoryLockStorage;
+import io.flamingock.core.kit.inmemory.InternalInMemoryTestAuditStore;
+import io.flamingock.internal.core.external.store.CommunityAuditStore;
+import io.flamingock.springboot.event.SpringPipelineCompletedEvent;
+import io.flamingock.targetsystem.nontransactional.NonTransactionalTargetSystem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots a real {@code SpringApplication} against the in-memory audit store. The asynchronous run is
+ * parked in {@link ManualExecutor} so the readiness state can be checked before and after it.
+ */
+class FlamingockReadinessIndicatorTest {
+
+    private static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(ReadinessTestConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+    }
+
+    @Test
+    @DisplayName("Should refuse traffic until the asynchronous run applies the pipeline")
+    void shouldRefuseTrafficUntilRunCompletes() {
+        try (ConfigurableApplicationContext ctx = start("flamingock.run-async=true")) {
+            ApplicationAvailability availability = ctx.getBean(ApplicationAvailability.class);
+            ManualExecutor executor = ctx.getBean(ManualExecutor.class);
+            ReadinessRecorder recorder = ctx.getBean(ReadinessRecorder.class);
+
+            assertInstanceOf(FlamingockReadinessIndicator.class, availability);
+            assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+            assertEquals(1, executor.pending());
+
+            executor.runNext();
+
+            assertEquals(ReadinessState.REFUSING_TRAFFIC, recorder.readinessAtPipelineCompletion);
+            assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept traffic once a background stage starts")
+    void shouldAcceptTrafficWhenBackgroundStageStarts() {
+        try (ConfigurableApplicationContext ctx = start(
+                "flamingock.run-async=true",
+                "flamingock.background-stages=test-stage")) {
+            ApplicationAvailability availability = ctx.getBean(ApplicationAvailability.class);
+            ManualExecutor executor = ctx.getBean(ManualExecutor.class);
+            ReadinessRecorder recorder = ctx.getBean(ReadinessRecorder.class);
+
+            assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+
+            executor.runNext();
+
+            assertEquals(ReadinessState.ACCEPTING_TRAFFIC, recorder.readinessAtPipelineCompletion);
+            assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+        }
+    }
+
+    @Test
+    @DisplayName("Should only honour background stages that come last in the pipeline")
+    void shouldOnlyHonourTrailingBackgroundStages() {
+        List<String> pipeline = Arrays.asList("schema", "data", "backfill", "reindex");
+
+        assertEquals(new HashSet<>(Arrays.asList("backfill", "reindex")),
+                FlamingockReadinessIndicator.trailingStages(Arrays.asList("reindex", "backfill"), pipeline));
+        assertEquals(Collections.singleton("reindex"),
+                FlamingockReadinessIndicator.trailingStages(Arrays.asList("data", "reindex", "unknown"), pipeline));
+        assertEquals(Collections.emptySet(),
+                FlamingockReadinessIndicator.trailingStages(Collections.singletonList("backfill"), pipeline));
+    }
+
+    @Test
+    @DisplayName("Should keep running synchronously with Spring's availability bean when run-async is off")
+    void shouldRunSynchronouslyWhenAsyncDisabled() {
+        try (ConfigurableApplicationContext ctx = start()) {
+            ApplicationAvailability availability = ctx.getBean(ApplicationAvailability.class);
+            ReadinessRecorder recorder = ctx.getBean(ReadinessRecorder.class);
+
+            assertFalse(availability instanceof FlamingockReadinessIndicator);
+            assertTrue(availability instanceof ApplicationAvailabilityBean);
+            assertEquals(0, ctx.getBean(ManualExecutor.class).pending());
+            assertNotNull(recorder.readinessAtPipelineCompletion);
+            assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            ApplicationAvailabilityAutoConfiguration.class,
+            FlamingockAutoConfiguration.class,
+            FlamingockReadinessAutoConfiguration.class})
+    static class ReadinessTestConfiguration {
+
+        @Bean
+        public CommunityAuditStore auditStore() {
+            return new InternalInMemoryTestAuditStore(new InternalInMemoryAuditStorage(), new InternalInMemoryLockStorage());
+        }
+
+        @Bean
+        public TargetSystem testTargetSystem() {
+            return new NonTransactionalTargetSystem("test-system");
+        }
+
+        @Bean("flamingockExecutor")
+        public ManualExecutor flamingockExecutor() {
+            return new ManualExecutor();
+        }
+
+        @Bean
+        public ReadinessRecorder readinessRecorder(ApplicationAvailability availability) {
+            return new ReadinessRecorder(availability);
+        }
+    }
+
+    static class ManualExecutor implements Executor {
+        private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runNext() {
+            Runnable task = tasks.poll();
+            assertNotNull(task, "No Flamingock run was submitted to the executor");
+            task.run();
+        }
+    }
+
+    static class ReadinessRecorder implements ApplicationListener<SpringPipelineCompletedEvent> {
+        private final ApplicationAvailability availability;
+
+        private volatile ReadinessState readinessAtPipelineCompletion;
+
+        ReadinessRecorder(ApplicationAvailability availability) {
+            this.availability = availability;
+        }
+
+        @Override
+        public void onApplicationEvent(SpringPipelineCompletedEvent event) {
+            readinessAtPipelineCompletion = availability.getReadinessState();
+        }
+    }
+}
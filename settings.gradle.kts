@@ -44,6 +44,10 @@ include("cloud:flamingock-cloud-api")
 project(":cloud:flamingock-cloud-api").name = "flamingock-cloud-api"
 project(":cloud:flamingock-cloud-api").projectDir = file("cloud/flamingock-cloud-api")
 
+include("cloud:flamingock-cloud-transport-jdk")
+project(":cloud:flamingock-cloud-transport-jdk").name = "flamingock-cloud-transport-jdk"
+project(":cloud:flamingock-cloud-transport-jdk").projectDir = file("cloud/flamingock-cloud-transport-jdk")
+
 //////////////////////////////////////
 // COMMUNITY
 //////////////////////////////////////
@@ -90,6 +94,18 @@ include("platform-plugins:flamingock-springboot-test-support")
 project(":platform-plugins:flamingock-springboot-test-support").name = "flamingock-springboot-test-support"
 project(":platform-plugins:flamingock-springboot-test-support").projectDir =
     file("platform-plugins/flamingock-springboot-test-support")
+
+include("platform-plugins:flamingock-reactive")
+project(":platform-plugins:flamingock-reactive").name = "flamingock-reactive"
+project(":platform-plugins:flamingock-reactive").projectDir = file("platform-plugins/flamingock-reactive")
+
+include("platform-plugins:flamingock-micrometer")
+project(":platform-plugins:flamingock-micrometer").name = "flamingock-micrometer"
+project(":platform-plugins:flamingock-micrometer").projectDir = file("platform-plugins/flamingock-micrometer")
+
+include("platform-plugins:flamingock-opentelemetry")
+project(":platform-plugins:flamingock-opentelemetry").name = "flamingock-opentelemetry"
+project(":platform-plugins:flamingock-opentelemetry").projectDir = file("platform-plugins/flamingock-opentelemetry")
 //////////////////////////////////////
 // TARGET SYSTEMS
 //////////////////////////////////////
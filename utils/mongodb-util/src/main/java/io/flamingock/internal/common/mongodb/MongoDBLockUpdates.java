@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.internal.common.mongodb;
+
+import io.flamingock.internal.core.external.store.lock.LockAcquisition;
+import io.flamingock.internal.core.external.store.lock.LockServiceException;
+import io.flamingock.internal.util.id.RunnerId;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static io.flamingock.internal.core.external.store.lock.LockStatus.LOCK_HELD;
+import static io.flamingock.internal.core.external.store.lock.community.CommunityLockEntryConstants.EXPIRES_AT_FIELD;
+import static io.flamingock.internal.core.external.store.lock.community.CommunityLockEntryConstants.KEY_FIELD;
+import static io.flamingock.internal.core.external.store.lock.community.CommunityLockEntryConstants.OWNER_FIELD;
+import static io.flamingock.internal.core.external.store.lock.community.CommunityLockEntryConstants.STATUS_FIELD;
+
+/**
+ * Builds the single findOneAndUpdate used by the MongoDB lock services to acquire and extend the lock.
+ * <p>
+ * The update is a pipeline evaluated by the server: it only takes the lock over when it's free, expired or
+ * already ours, otherwise it leaves it untouched. Either way the document is returned, so the caller learns
+ * the current owner and expiry from the same round trip. Expiry is computed from the server clock
+ * ({@code $$NOW}), so runners with skewed clocks agree on it. Requires MongoDB 4.2 or later.
+ */
+public final class MongoDBLockUpdates {
+
+    /**
+     * Server time of the last acquire/extend attempt, so the remaining lease can be computed without the local clock
+     */
+    public static final String OBSERVED_AT_FIELD = "observedAt";
+
+    private static final String ACQUIRABLE_FIELD = "_acquirable";
+
+    private MongoDBLockUpdates() {
+    }
+
+    public static Document filter(String lockKey, boolean onlyIfSameOwner) {
+        Document filter = new Document(KEY_FIELD, lockKey);
+        if (onlyIfSameOwner) {
+            filter.append(STATUS_FIELD, LOCK_HELD.name());
+        }
+        return filter;
+    }
+
+    public static List<Bson> update(String owner, long leaseMillis, boolean onlyIfSameOwner) {
+        Document isOwner = new Document("$eq", Arrays.asList("$" + OWNER_FIELD, literal(owner)));
+        // a missing expiresAt sorts before any date, so a freshly upserted document is acquirable
+        Object acquirable = onlyIfSameOwner
+                ? isOwner
+                : new Document("$or", Arrays.asList(
+                        isOwner,
+                        new Document("$lt", Arrays.asList("$" + EXPIRES_AT_FIELD, "$$NOW"))));
+
+        Document newValues = new Document()
+                .append(OWNER_FIELD, ifAcquirable(literal(owner), "$" + OWNER_FIELD))
+                .append(STATUS_FIELD, ifAcquirable(literal(LOCK_HELD.name()), "$" + STATUS_FIELD))
+                .append(EXPIRES_AT_FIELD, ifAcquirable(
+                        new Document("$add", Arrays.asList("$$NOW", leaseMillis)),
+                        "$" + EXPIRES_AT_FIELD))
+                .append(OBSERVED_AT_FIELD, "$$NOW");
+
+        return Arrays.asList(
+                new Document("$set", new Document(ACQUIRABLE_FIELD, acquirable)),
+                new Document("$set", newValues),
+                new Document("$unset", ACQUIRABLE_FIELD));
+    }
+
+    /**
+     * Turns the document returned by the update into the acquisition, or throws a {@link LockServiceException}
+     * carrying the current lock when it's held by someone else.
+     *
+     * @param result the document after the update, or null if nothing matched the filter
+     */
+    public static LockAcquisition toAcquisition(Document result,
+                                                RunnerId owner,
+                                                Document filter,
+                                                List<Bson> update) {
+        if (result == null) {
+            throw new LockServiceException(filter.toJson(), update.toString(), "lock not found");
+        }
+        LockAcquisition currentLock = new LockAcquisition(
+                RunnerId.fromString(result.getString(OWNER_FIELD)),
+                remainingMillis(result));
+        if (!currentLock.doesBelongTo(owner)) {
+            throw new LockServiceException(filter.toJson(), update.toString(), "not db error", currentLock);
+        }
+        return currentLock;
+    }
+
+    private static long remainingMillis(Document result) {
+        Date expiresAt = result.getDate(EXPIRES_AT_FIELD);
+        Date observedAt = result.getDate(OBSERVED_AT_FIELD);
+        if (expiresAt == null || observedAt == null) {
+            return 0L;
+        }
+        return Math.max(0L, expiresAt.getTime() - observedAt.getTime());
+    }
+
+    private static Document ifAcquirable(Object then, Object otherwise) {
+        return new Document("$cond", Arrays.asList("$" + ACQUIRABLE_FIELD, then, otherwise));
+    }
+
+    private static Document literal(Object value) {
+        return new Document("$literal", value);
+    }
+}
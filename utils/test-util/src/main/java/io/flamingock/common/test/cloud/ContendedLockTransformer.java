@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.common.test.cloud;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import io.flamingock.cloud.api.response.ExecutionPlanResponse;
+import io.flamingock.cloud.api.response.LockInfoResponse;
+import io.flamingock.cloud.api.response.PipelineResultResponse;
+import io.flamingock.cloud.api.vo.CloudExecutionAction;
+
+import java.util.Collections;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static io.flamingock.common.test.cloud.utils.JsonMapper.toJson;
+
+/**
+ * Server side of the execution-plan endpoint while the lock is held by a runner outside the test.
+ * Until the release time every request is answered AWAIT, and CONTINUE afterwards, as if that
+ * runner had applied the whole pipeline. When long polling is enabled, a request carrying
+ * {@code waitMillis} is held until the release or until the wait elapses, whichever comes first,
+ * and the answer reports {@code heldMillis}.
+ */
+class ContendedLockTransformer extends ResponseDefinitionTransformer {
+
+    static final String NAME = "contended-lock";
+
+    static final String HOLDER = "external-runner";
+    static final String HOLDER_ACQUISITION_ID = "external-acquisition";
+
+    private final String lockKey;
+    private final long releaseAfterMillis;
+    private final boolean longPoll;
+    private volatile long releaseAtMillis = Long.MAX_VALUE;
+
+    ContendedLockTransformer(String lockKey, long releaseAfterMillis, boolean longPoll) {
+        this.lockKey = lockKey;
+        this.releaseAfterMillis = releaseAfterMillis;
+        this.longPoll = longPoll;
+    }
+
+    void start() {
+        releaseAtMillis = System.currentTimeMillis() + releaseAfterMillis;
+    }
+
+    long getReleaseAtMillis() {
+        return releaseAtMillis;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    @Override
+    public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition, FileSource files, Parameters parameters) {
+        Long heldMillis = null;
+        QueryParameter waitMillis = request.queryParameter("waitMillis");
+        if (longPoll && waitMillis.isPresent()) {
+            long hold = Math.min(Long.parseLong(waitMillis.firstValue()), Math.max(0L, releaseAtMillis - System.currentTimeMillis()));
+            long started = System.currentTimeMillis();
+            if (hold > 0) {
+                try {
+                    Thread.sleep(hold);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            heldMillis = System.currentTimeMillis() - started;
+        }
+
+        ExecutionPlanResponse response;
+        if (System.currentTimeMillis() < releaseAtMillis) {
+            LockInfoResponse lock = new LockInfoResponse();
+            lock.setKey(lockKey);
+            lock.setOwner(HOLDER);
+            lock.setAcquisitionId(HOLDER_ACQUISITION_ID);
+            lock.setAcquiredForMillis(60_000L);
+            response = new ExecutionPlanResponse(CloudExecutionAction.AWAIT, null, lock);
+        } else {
+            response = new ExecutionPlanResponse(CloudExecutionAction.CONTINUE, null, null,
+                    Collections.emptyList(), new PipelineResultResponse(Collections.emptyList()), false);
+        }
+        response.setHeldMillis(heldMillis);
+        return aResponse()
+                .withStatus(201)
+                .withHeader("Content-Type", "application/json")
+                .withBody(toJson(response))
+                .build();
+    }
+}
@@ -31,6 +31,8 @@ import io.flamingock.cloud.api.request.StageRequest;
 import io.flamingock.cloud.api.response.ExecutionPlanResponse;
 import io.flamingock.cloud.api.response.StageResponse;
 import io.flamingock.cloud.api.response.ChangeResponse;
+import io.flamingock.cloud.api.vo.CloudExecutionAction;
+import io.flamingock.cloud.api.vo.CloudTargetSystemAuditMarkType;
 import io.flamingock.internal.common.core.audit.AuditEntry;
 
 import java.util.*;
@@ -67,6 +69,9 @@ public final class MockRunnerServer {
     private String apiToken = "default-api-token";
     private long credentialId = 5L;
     private boolean importerCall = false;
+    private int simulatedRttMillis = 0;
+    private ContendedLockTransformer contendedLock;
+    private ScriptedPlannerTransformer scriptedPlanner;
 
     private static StageResponse toStageResponse(StageRequest stageRequest) {
         StageResponse stage = new StageResponse();
@@ -142,6 +147,61 @@ public final class MockRunnerServer {
         return this;
     }
 
+    /**
+     * Delays every response by the given time, to measure clients against a realistic
+     * round-trip instead of loopback.
+     */
+    public MockRunnerServer setSimulatedRttMillis(int simulatedRttMillis) {
+        this.simulatedRttMillis = simulatedRttMillis;
+        return this;
+    }
+
+    /**
+     * Answers every execution-plan request as if another runner held the lock for
+     * {@code releaseAfterMillis} after {@link #start()} and applied the whole pipeline: AWAIT
+     * until then, CONTINUE afterwards. With {@code longPoll}, requests asking for it are held
+     * until the release instead of being answered straight away; without it the server behaves
+     * like one that predates long polling. Replaces the execution-plan expectations.
+     */
+    public MockRunnerServer withContendedLock(long releaseAfterMillis, boolean longPoll) {
+        this.contendedLock = new ContendedLockTransformer(String.valueOf(serviceId), releaseAfterMillis, longPoll);
+        return this;
+    }
+
+    /**
+     * @return when the simulated lock holder releases the lock, in epoch millis
+     */
+    public long getContendedLockReleaseAtMillis() {
+        return contendedLock.getReleaseAtMillis();
+    }
+
+    /**
+     * Answers execution-plan requests with the given AWAIT/CONTINUE actions in order, repeating
+     * the last one. With {@code conditionalRequests} the server acknowledges pipeline hashes and
+     * accepts conditional requests with audit-mark deltas; without it the server behaves like
+     * one that predates them. Replaces the execution-plan expectations.
+     */
+    public MockRunnerServer withScriptedExecutionPlans(boolean conditionalRequests, CloudExecutionAction... actions) {
+        this.scriptedPlanner = new ScriptedPlannerTransformer(String.valueOf(serviceId), conditionalRequests, actions);
+        return this;
+    }
+
+    /**
+     * Makes the scripted planner forget every pipeline descriptor and mark base, as a restarted
+     * server would.
+     */
+    public void forgetPipelineDescriptors() {
+        scriptedPlanner.forgetState();
+    }
+
+    /**
+     * @return the audit marks each scripted execution-plan request resolved to, full or delta, in
+     * arrival order
+     */
+    public List<Map<String, CloudTargetSystemAuditMarkType>> getResolvedAuditMarks() {
+        return scriptedPlanner.getResolvedMarks();
+    }
+
     public MockRunnerServer withClientSubmissionBase(PrototypeClientSubmission clientSubmission) {
         this.clientSubmission = clientSubmission;
         return this;
@@ -179,11 +239,28 @@ public final class MockRunnerServer {
 
 
     public void start() {
-        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(serverPort));
+        WireMockConfiguration configuration = WireMockConfiguration.wireMockConfig().port(serverPort);
+        if (contendedLock != null) {
+            // held long-poll requests each keep a container thread busy
+            configuration.extensions(contendedLock).containerThreads(100);
+        } else if (scriptedPlanner != null) {
+            configuration.extensions(scriptedPlanner);
+        }
+        wireMockServer = new WireMockServer(configuration);
         wireMockServer.start();
+        if (simulatedRttMillis > 0) {
+            wireMockServer.setGlobalFixedDelay(simulatedRttMillis);
+        }
 
         mockAuthEndpoint();
-        mockExecutionEndpoint();
+        if (contendedLock != null) {
+            mockContendedExecutionEndpoint();
+        } else if (scriptedPlanner != null) {
+            wireMockServer.stubFor(post(urlPathEqualTo(executionUrl()))
+                    .willReturn(aResponse().withTransformers(ScriptedPlannerTransformer.NAME)));
+        } else {
+            mockExecutionEndpoint();
+        }
         mockAuditWriteEndpoint();
         mockReleaseLockEndpoint();
 
@@ -192,6 +269,37 @@ public final class MockRunnerServer {
         }
     }
 
+    /**
+     * @return how many token exchanges the server has answered since it started
+     */
+    public int countAuthRequests() {
+        return wireMockServer.countRequestsMatching(postRequestedFor(urlPathEqualTo("/api/v1/auth/exchange-token")).build()).getCount();
+    }
+
+    /**
+     * @return how many execution-plan requests the server has answered since it started
+     */
+    public int countExecutionRequests() {
+        return wireMockServer.countRequestsMatching(postRequestedFor(urlPathEqualTo(executionUrl())).build()).getCount();
+    }
+
+    /**
+     * @return the body bytes of every execution-plan request received since the server started
+     */
+    public long countExecutionRequestBytes() {
+        return wireMockServer.findAll(postRequestedFor(urlPathEqualTo(executionUrl()))).stream()
+                .mapToLong(request -> request.getBody().length)
+                .sum();
+    }
+
+    /**
+     * @return how many execution-plan requests asked the server to hold them
+     */
+    public int countLongPollRequests() {
+        return wireMockServer.countRequestsMatching(postRequestedFor(urlPathEqualTo(executionUrl()))
+                .withQueryParam("waitMillis", matching("\\d+")).build()).getCount();
+    }
+
     public void stop() {
         if (wireMockServer != null && wireMockServer.isRunning()) {
             wireMockServer.stop();
@@ -219,6 +327,18 @@ public final class MockRunnerServer {
 
     }
 
+    private String executionUrl() {
+        return "/api/v1/environment/{environmentId}/service/{serviceId}/execution"
+                .replace("{environmentId}", String.valueOf(environmentId))
+                .replace("{serviceId}", String.valueOf(serviceId));
+    }
+
+    private void mockContendedExecutionEndpoint() {
+        wireMockServer.stubFor(post(urlPathEqualTo(executionUrl()))
+                .willReturn(aResponse().withTransformers(ContendedLockTransformer.NAME)));
+        contendedLock.start();
+    }
+
     private void mockExecutionEndpoint() {
         String executionUrl = "/api/v1/environment/{environmentId}/service/{serviceId}/execution"//?elapsedMillis={elapsedMillis}"
                 .replace("{environmentId}", String.valueOf(environmentId)).replace("{serviceId}", String.valueOf(serviceId))
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.common.test.cloud;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import io.flamingock.cloud.api.request.AuditMarkDeltaRequest;
+import io.flamingock.cloud.api.request.ChangeRequest;
+import io.flamingock.cloud.api.request.ClientSubmissionRequest;
+import io.flamingock.cloud.api.request.ExecutionPlanRequest;
+import io.flamingock.cloud.api.request.StageBlockRequest;
+import io.flamingock.cloud.api.request.StageRequest;
+import io.flamingock.cloud.api.response.ExecutionPlanResponse;
+import io.flamingock.cloud.api.response.LockInfoResponse;
+import io.flamingock.cloud.api.response.PipelineResultResponse;
+import io.flamingock.cloud.api.vo.CloudExecutionAction;
+import io.flamingock.cloud.api.vo.CloudTargetSystemAuditMarkType;
+import io.flamingock.common.test.cloud.utils.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static io.flamingock.common.test.cloud.utils.JsonMapper.toJson;
+
+/**
+ * Server side of the execution-plan endpoint answering a fixed sequence of AWAIT and CONTINUE
+ * actions, with optional support for conditional requests (see {@link ExecutionPlanRequest}).
+ * Descriptors are kept by pipeline hash, and marks per runner with the sequence they were
+ * acknowledged at. A conditional request against an unknown hash or a stale delta base is
+ * answered {@code 412}, as a real server does after losing its state. The audit marks each
+ * request resolves to are recorded so tests can check the deltas add up.
+ */
+class ScriptedPlannerTransformer extends ResponseDefinitionTransformer {
+
+    static final String NAME = "scripted-planner";
+
+    private static final String RUNNER_ID_HEADER = "flamingock-runner-id";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+
+    private final String lockKey;
+    private final boolean conditionalRequests;
+    private final List<CloudExecutionAction> actions;
+    private int nextAction;
+
+    private final Map<String, ClientSubmissionRequest> descriptors = new ConcurrentHashMap<>();
+    private final Map<String, RunnerMarks> marksByRunner = new ConcurrentHashMap<>();
+    private final List<Map<String, CloudTargetSystemAuditMarkType>> resolvedMarks = Collections.synchronizedList(new ArrayList<>());
+
+    ScriptedPlannerTransformer(String lockKey, boolean conditionalRequests, CloudExecutionAction... actions) {
+        if (actions.length == 0) {
+            throw new IllegalArgumentException("At least one action is required");
+        }
+        this.lockKey = lockKey;
+        this.conditionalRequests = conditionalRequests;
+        this.actions = Arrays.asList(actions);
+    }
+
+    /**
+     * Drops every descriptor and mark base, as if the server had restarted.
+     */
+    void forgetState() {
+        descriptors.clear();
+        marksByRunner.clear();
+    }
+
+    List<Map<String, CloudTargetSystemAuditMarkType>> getResolvedMarks() {
+        synchronized (resolvedMarks) {
+            return new ArrayList<>(resolvedMarks);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    @Override
+    public synchronized ResponseDefinition transform(Request request, ResponseDefinition responseDefinition, FileSource files, Parameters parameters) {
+        ExecutionPlanRequest planRequest;
+        try {
+            planRequest = JsonMapper.INSTANCE.readValue(request.getBody(), ExecutionPlanRequest.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String runnerId = request.getHeader(RUNNER_ID_HEADER);
+
+        Map<String, CloudTargetSystemAuditMarkType> marks;
+        if (planRequest.getClientSubmission() != null) {
+            marks = inlineMarks(planRequest.getClientSubmission());
+            if (planRequest.getPipelineHash() != null) {
+                descriptors.put(planRequest.getPipelineHash(), planRequest.getClientSubmission());
+            }
+        } else {
+            RunnerMarks base = marksByRunner.get(runnerId);
+            AuditMarkDeltaRequest delta = planRequest.getAuditMarkDelta();
+            boolean known = conditionalRequests
+                    && descriptors.containsKey(planRequest.getPipelineHash())
+                    && ("\"" + planRequest.getPipelineHash() + "\"").equals(request.getHeader(IF_NONE_MATCH));
+            if (!known || base == null || delta == null || delta.getBaseSequence() != base.sequence) {
+                return aResponse()
+                        .withStatus(412)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"code\":\"" + ExecutionPlanRequest.DESCRIPTOR_REQUIRED
+                                + "\",\"recoverable\":true,\"message\":\"Pipeline descriptor required\"}")
+                        .build();
+            }
+            marks = new HashMap<>(base.marks);
+            if (delta.getChanges() != null) {
+                delta.getChanges().forEach((changeId, mark) -> {
+                    if (mark == CloudTargetSystemAuditMarkType.NONE) {
+                        marks.remove(changeId);
+                    } else {
+                        marks.put(changeId, mark);
+                    }
+                });
+            }
+        }
+        resolvedMarks.add(Collections.unmodifiableMap(new HashMap<>(marks)));
+        if (planRequest.getMarksSequence() != null) {
+            marksByRunner.put(runnerId, new RunnerMarks(planRequest.getMarksSequence(), marks));
+        }
+
+        CloudExecutionAction action = actions.get(Math.min(nextAction++, actions.size() - 1));
+        ExecutionPlanResponse response;
+        if (action == CloudExecutionAction.AWAIT) {
+            LockInfoResponse lock = new LockInfoResponse();
+            lock.setKey(lockKey);
+            lock.setOwner(ContendedLockTransformer.HOLDER);
+            lock.setAcquisitionId(ContendedLockTransformer.HOLDER_ACQUISITION_ID);
+            lock.setAcquiredForMillis(60_000L);
+            response = new ExecutionPlanResponse(CloudExecutionAction.AWAIT, null, lock);
+        } else if (action == CloudExecutionAction.CONTINUE) {
+            response = new ExecutionPlanResponse(CloudExecutionAction.CONTINUE, null, null,
+                    Collections.emptyList(), new PipelineResultResponse(Collections.emptyList()), false);
+        } else {
+            throw new IllegalStateException("Only AWAIT and CONTINUE can be scripted, found " + action);
+        }
+        if (conditionalRequests) {
+            response.setPipelineHash(planRequest.getPipelineHash());
+        }
+        return aResponse()
+                .withStatus(201)
+                .withHeader("Content-Type", "application/json")
+                .withBody(toJson(response))
+                .build();
+    }
+
+    private static Map<String, CloudTargetSystemAuditMarkType> inlineMarks(ClientSubmissionRequest submission) {
+        Map<String, CloudTargetSystemAuditMarkType> marks = new HashMap<>();
+        for (StageBlockRequest block : submission.getBlocks()) {
+            for (StageRequest stage : block.getStages()) {
+                for (ChangeRequest change : stage.getChanges()) {
+                    if (change.getOngoingStatus() != null && change.getOngoingStatus() != CloudTargetSystemAuditMarkType.NONE) {
+                        marks.put(change.getId(), change.getOngoingStatus());
+                    }
+                }
+            }
+        }
+        return marks;
+    }
+
+    private static final class RunnerMarks {
+        private final long sequence;
+        private final Map<String, CloudTargetSystemAuditMarkType> marks;
+
+        private RunnerMarks(long sequence, Map<String, CloudTargetSystemAuditMarkType> marks) {
+            this.sequence = sequence;
+            this.marks = marks;
+        }
+    }
+}
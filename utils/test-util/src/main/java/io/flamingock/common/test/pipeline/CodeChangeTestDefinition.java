@@ -17,6 +17,7 @@ package io.flamingock.common.test.pipeline;
 
 import io.flamingock.api.annotations.Recovery;
 import io.flamingock.api.annotations.TargetSystem;
+import io.flamingock.core.batch.BatchChange;
 import io.flamingock.internal.common.core.preview.PreviewConstructor;
 import io.flamingock.internal.core.change.loaded.ChangeOrderUtil;
 import io.flamingock.internal.util.CollectionUtil;
@@ -39,6 +40,7 @@ public class CodeChangeTestDefinition extends ChangeTestDefinition {
     private final List<Class<?>> executionParameters;
     private final List<Class<?>> rollbackParameters;
     private final String author;
+    private final boolean batch;
 
     public CodeChangeTestDefinition(Class<?> changeClass,
                                     List<Class<?>> executionParameters,
@@ -48,6 +50,7 @@ public class CodeChangeTestDefinition extends ChangeTestDefinition {
                 changeClass.getAnnotation(TargetSystem.class),
                 changeClass.getAnnotation(Recovery.class),
                 changeClass.getName(),
+                changeClass.isAnnotationPresent(BatchChange.class),
                 executionParameters,
                 rollbackParameters
         );
@@ -60,6 +63,7 @@ public class CodeChangeTestDefinition extends ChangeTestDefinition {
                 changeClass.getAnnotation(TargetSystem.class),
                 changeClass.getAnnotation(Recovery.class),
                 changeClass.getName(),
+                changeClass.isAnnotationPresent(BatchChange.class),
                 executionParameters,
                 null
         );
@@ -69,6 +73,7 @@ public class CodeChangeTestDefinition extends ChangeTestDefinition {
                                      TargetSystem targetSystemAnn,
                                      Recovery recoveryAnn,
                                      String className,
+                                     boolean batch,
                                      List<Class<?>> executionParameters,
                                      List<Class<?>> rollbackParameters) {
         this(changeAnn.id(),
@@ -78,6 +83,7 @@ public class CodeChangeTestDefinition extends ChangeTestDefinition {
                 targetSystemAnn != null ? targetSystemAnn.id() : null,
                 changeAnn.transactional(),
                 RecoveryDescriptor.fromStrategy(recoveryAnn != null ? recoveryAnn.strategy() : null),
+                batch,
                 executionParameters,
                 rollbackParameters);
     }
@@ -91,7 +97,25 @@ public class CodeChangeTestDefinition extends ChangeTestDefinition {
                                     RecoveryDescriptor recovery,
                                     List<Class<?>> executionParameters,
                                     List<Class<?>> rollbackParameters) {
+        this(id, order, author, className, targetSystem, transactional, recovery, false, executionParameters, rollbackParameters);
+    }
+
+    /**
+     * @param batch whether the change is a {@code @BatchChange}. Batch changes have no apply
+     *              method, so the preview carries none and the executionParameters are ignored.
+     */
+    public CodeChangeTestDefinition(String id,
+                                    String order,
+                                    String author,
+                                    String className,
+                                    String targetSystem,
+                                    boolean transactional,
+                                    RecoveryDescriptor recovery,
+                                    boolean batch,
+                                    List<Class<?>> executionParameters,
+                                    List<Class<?>> rollbackParameters) {
         super(id, order, transactional);
+        this.batch = batch;
         this.targetSystem = targetSystem;
         this.recovery = recovery;
         this.className = className;
@@ -109,7 +133,11 @@ public class CodeChangeTestDefinition extends ChangeTestDefinition {
             rollback = new PreviewMethod("rollback", rollbackParameterNames);
         }
 
-        List<String> executionParameterNames = CollectionUtil.getClassNames(executionParameters);
+        PreviewMethod apply = null;
+        if (!batch) {
+            List<String> executionParameterNames = CollectionUtil.getClassNames(executionParameters);
+            apply = new PreviewMethod("apply", executionParameterNames);
+        }
         return new CodePreviewChange(
                 getId(),
                 getOrder(),
@@ -117,7 +145,7 @@ public class CodeChangeTestDefinition extends ChangeTestDefinition {
                 className,
                 null,
                 PreviewConstructor.getDefault(),
-                new PreviewMethod("apply", executionParameterNames),
+                apply,
                 rollback,
                 false,
                 isTransactional(),
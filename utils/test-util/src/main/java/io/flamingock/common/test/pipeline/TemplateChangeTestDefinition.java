@@ -15,6 +15,7 @@
  */
 package io.flamingock.common.test.pipeline;
 
+import io.flamingock.api.RecoveryStrategy;
 import io.flamingock.internal.common.core.preview.AbstractPreviewChange;
 import io.flamingock.internal.common.core.preview.TemplatePreviewChange;
 import io.flamingock.internal.common.core.change.RecoveryDescriptor;
@@ -31,6 +32,8 @@ public class TemplateChangeTestDefinition extends ChangeTestDefinition {
     private final Object apply;
     private final Object rollback;
     private final String targetSystem;
+    private Object steps;
+    private RecoveryDescriptor recovery = RecoveryDescriptor.getDefault();
 
 
     public TemplateChangeTestDefinition(String fileName,
@@ -62,6 +65,19 @@ public class TemplateChangeTestDefinition extends ChangeTestDefinition {
         this.targetSystem = targetSystem;
     }
 
+    /**
+     * Declares the steps of a multi-step template change, as a list of maps with
+     * {@code apply} and optional {@code rollback} entries.
+     */
+    public TemplateChangeTestDefinition withSteps(Object steps) {
+        this.steps = steps;
+        return this;
+    }
+
+    public TemplateChangeTestDefinition withRecovery(RecoveryStrategy strategy) {
+        this.recovery = RecoveryDescriptor.fromStrategy(strategy);
+        return this;
+    }
 
     @Override
     public AbstractPreviewChange toPreview() {
@@ -78,9 +94,9 @@ public class TemplateChangeTestDefinition extends ChangeTestDefinition {
                 configuration,
                 apply,
                 rollback,
-                null, // steps - null for backward compatibility
+                steps, // null unless declared, for backward compatibility
                 TargetSystemDescriptor.fromId(targetSystem),
-                RecoveryDescriptor.getDefault()
+                recovery
         );
     }
 
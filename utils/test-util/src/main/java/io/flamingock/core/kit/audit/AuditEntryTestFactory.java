@@ -19,6 +19,8 @@ import io.flamingock.api.annotations.Recovery;
 import io.flamingock.api.RecoveryStrategy;
 import io.flamingock.internal.common.core.audit.AuditEntry;
 import io.flamingock.internal.common.core.audit.AuditTxType;
+import io.flamingock.internal.common.core.audit.BatchCursor;
+import io.flamingock.internal.common.core.audit.StepCursor;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -99,6 +101,88 @@ public class AuditEntryTestFactory {
         );
     }
 
+    /**
+     * Creates a test audit entry for a multi-step template change, carrying the given step cursor
+     * in its metadata as a step checkpoint would.
+     *
+     * @param changeId         the change ID for the audit entry
+     * @param status           the audit status, typically STARTED or FAILED
+     * @param txStrategy       the transaction type
+     * @param recoveryStrategy the recovery strategy declared by the change
+     * @param stepCursor       index of the last committed step
+     * @return a properly configured AuditEntry for testing
+     */
+    public static AuditEntry createStepCheckpointAuditEntry(String changeId,
+                                                           AuditEntry.Status status,
+                                                           AuditTxType txStrategy,
+                                                           RecoveryStrategy recoveryStrategy,
+                                                           int stepCursor) {
+        return new AuditEntry(
+                UUID.randomUUID().toString(),  // executionId
+                "test-stage",                  // stageId
+                changeId,                      // changeId
+                "test-author",                 // author
+                LocalDateTime.now(),           // timestamp
+                status,                        // state
+                AuditEntry.ChangeType.STANDARD_TEMPLATE,  // type
+                "TestTemplateClass",           // className
+                "apply",                       // methodName
+                "TestSourceFile",              // sourceFile
+                0L,                           // executionMillis
+                "localhost",                  // executionHostname
+                StepCursor.write(null, stepCursor), // metadata
+                false,                        // systemChange
+                null,                         // errorTrace
+                txStrategy,                       // txStrategy
+                "test-target-system",         // targetSystemId
+                "001",                        // order
+                recoveryStrategy,              // recoveryStrategy
+                false                         // transactionFlag
+        );
+    }
+
+    /**
+     * Creates a test audit entry for a batch change, carrying the given batch cursor in its
+     * metadata as a chunk checkpoint would.
+     *
+     * @param changeId         the change ID for the audit entry
+     * @param status           the audit status, typically STARTED or FAILED
+     * @param txStrategy       the transaction type
+     * @param recoveryStrategy the recovery strategy declared by the change
+     * @param position         the reader cursor after the last committed chunk
+     * @param committedChunks  the number of chunks committed so far
+     * @return a properly configured AuditEntry for testing
+     */
+    public static AuditEntry createBatchCheckpointAuditEntry(String changeId,
+                                                            AuditEntry.Status status,
+                                                            AuditTxType txStrategy,
+                                                            RecoveryStrategy recoveryStrategy,
+                                                            String position,
+                                                            long committedChunks) {
+        return new AuditEntry(
+                UUID.randomUUID().toString(),  // executionId
+                "test-stage",                  // stageId
+                changeId,                      // changeId
+                "test-author",                 // author
+                LocalDateTime.now(),           // timestamp
+                status,                        // state
+                AuditEntry.ChangeType.STANDARD_CODE,  // type
+                "TestBatchClass",              // className
+                "apply",                       // methodName
+                "TestSourceFile",              // sourceFile
+                0L,                           // executionMillis
+                "localhost",                  // executionHostname
+                new BatchCursor(position, committedChunks).writeTo(null), // metadata
+                false,                        // systemChange
+                null,                         // errorTrace
+                txStrategy,                       // txStrategy
+                "test-target-system",         // targetSystemId
+                "001",                        // order
+                recoveryStrategy,              // recoveryStrategy
+                false                         // transactionFlag
+        );
+    }
+
     /**
      * @deprecated Use {@link #createTestAuditEntry(String, AuditEntry.Status, AuditTxType, Class)} instead.
      * Creates a test audit entry with MANUAL_INTERVENTION recovery strategy.